@@ -0,0 +1,5 @@
+-- Changes the monthly results from TEXT to JSONB, so the DB validates and stores each result in binary form
+-- Only required for a DB created before this change, and can safely be run again, since converting a JSONB column to JSONB makes no change
+ALTER TABLE monthly_results
+    ALTER COLUMN json_result TYPE JSONB
+    USING json_result::JSONB;
@@ -0,0 +1,33 @@
+-- Adds the tables recording each scheduled run of the stats parsing, and each user whose stats could not be parsed during a run
+-- Only required for a DB created before this change, and can safely be run again, since any existing table or index is left unchanged
+CREATE TABLE IF NOT EXISTS ingestion_runs (
+    ingestion_run_id SERIAL PRIMARY KEY,
+    run_type TEXT NOT NULL,
+    utc_timestamp TIMESTAMP NOT NULL,
+    duration_ms BIGINT NOT NULL,
+    users_parsed INT NOT NULL,
+    users_skipped INT NOT NULL,
+    users_failed INT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS index_ingestion_runs
+    ON ingestion_runs(utc_timestamp);
+
+CREATE TABLE IF NOT EXISTS ingestion_run_failures (
+    ingestion_run_id INT NOT NULL,
+    user_id INT NOT NULL,
+    error_class TEXT NOT NULL,
+    error_message TEXT NOT NULL,
+    PRIMARY KEY(ingestion_run_id, user_id),
+    CONSTRAINT fk_ingestion_run_id
+        FOREIGN KEY(ingestion_run_id)
+        REFERENCES ingestion_runs(ingestion_run_id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_user_id
+        FOREIGN KEY(user_id)
+        REFERENCES users(user_id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS index_ingestion_run_failures
+    ON ingestion_run_failures(ingestion_run_id, user_id);
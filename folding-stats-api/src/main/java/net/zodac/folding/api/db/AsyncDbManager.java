@@ -0,0 +1,107 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.api.db;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.result.MonthlyResult;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+
+/**
+ * Non-blocking companion to {@link DbManager}, for the read-heavy queries that may be requested by many concurrent readers.
+ *
+ * <p>
+ * Each query returns a {@link CompletionStage} instead of blocking the calling thread, so an implementation backed by a non-blocking driver does not
+ * need to hold a pooled connection per waiting reader. All writes continue to be performed through the {@link DbManager}.
+ *
+ * @see DbManager
+ */
+public interface AsyncDbManager {
+
+    /**
+     * Retrieves the {@link HistoricStats} for a given {@link User} ID for a specific {@code day}/{@link Month}/{@link Year}.
+     *
+     * @param userId the ID of the {@link User} whose {@link HistoricStats} are to be retrieved
+     * @param year   the {@link Year} of the {@link HistoricStats}
+     * @param month  the {@link Month} of the {@link HistoricStats}
+     * @param day    the day of the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletionStage} of the hourly {@link HistoricStats} for the {@link User} for the given {@code day}
+     * @see DbManager#getHistoricStatsHourly(int, Year, Month, int)
+     */
+    CompletionStage<Collection<HistoricStats>> getHistoricStatsHourly(int userId, Year year, Month month, int day);
+
+    /**
+     * Retrieves the {@link HistoricStats} for multiple {@link User} IDs for a specific {@code day}/{@link Month}/{@link Year}.
+     *
+     * @param userIds the IDs of the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year    the {@link Year} of the {@link HistoricStats}
+     * @param month   the {@link Month} of the {@link HistoricStats}
+     * @param day     the day of the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletionStage} of the hourly {@link HistoricStats} for the given {@code day}, keyed by each requested {@link User} ID
+     * @see #getHistoricStatsHourly(int, Year, Month, int)
+     */
+    CompletionStage<Map<Integer, Collection<HistoricStats>>> getHistoricStatsHourlyForUsers(Collection<Integer> userIds, Year year, Month month,
+                                                                                           int day);
+
+    /**
+     * Retrieves the {@link HistoricStats} for a given {@link User} ID for a specific {@link Month}/{@link Year}.
+     *
+     * @param userId the ID of the {@link User} whose {@link HistoricStats} are to be retrieved
+     * @param year   the {@link Year} of the {@link HistoricStats}
+     * @param month  the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletionStage} of the daily {@link HistoricStats} for the {@link User} for the given {@link Month}
+     * @see DbManager#getHistoricStatsDaily(int, Year, Month)
+     */
+    CompletionStage<Collection<HistoricStats>> getHistoricStatsDaily(int userId, Year year, Month month);
+
+    /**
+     * Retrieves the {@link HistoricStats} for multiple {@link User} IDs for a specific {@link Month}/{@link Year}.
+     *
+     * @param userIds the IDs of the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year    the {@link Year} of the {@link HistoricStats}
+     * @param month   the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletionStage} of the daily {@link HistoricStats} for the given {@link Month}, keyed by each requested {@link User} ID
+     * @see #getHistoricStatsDaily(int, Year, Month)
+     */
+    CompletionStage<Map<Integer, Collection<HistoricStats>>> getHistoricStatsDailyForUsers(Collection<Integer> userIds, Year year, Month month);
+
+    /**
+     * Retrieves the {@link HistoricStats} for a given {@link User} ID for a specific {@link Year}.
+     *
+     * @param userId the ID of the {@link User} whose {@link HistoricStats} are to be retrieved
+     * @param year   the {@link Year} of the {@link HistoricStats}
+     * @return a {@link CompletionStage} of the monthly {@link HistoricStats} for the {@link User} for the given {@link Year}
+     * @see DbManager#getHistoricStatsMonthly(int, Year)
+     */
+    CompletionStage<Collection<HistoricStats>> getHistoricStatsMonthly(int userId, Year year);
+
+    /**
+     * Retrieves the {@link MonthlyResult} of the {@code Team Competition} for the given {@link Month} and {@link Year}.
+     *
+     * @param month the {@link Month} of the {@link MonthlyResult} to be retrieved
+     * @param year  the {@link Year} of the {@link MonthlyResult} to be retrieved
+     * @return a {@link CompletionStage} of an {@link Optional} of the {@code Team Competition} {@link MonthlyResult}
+     * @see DbManager#getMonthlyResult(Month, Year)
+     */
+    CompletionStage<Optional<MonthlyResult>> getMonthlyResult(Month month, Year year);
+}
@@ -17,16 +17,21 @@
 
 package net.zodac.folding.api.db;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Function;
 import net.zodac.folding.api.UserAuthenticationResult;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.tc.change.UserChange;
 import net.zodac.folding.api.tc.change.UserChangeState;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.tc.ingestion.IngestionRunFailure;
 import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.tc.stats.RetiredUserTcStats;
@@ -195,6 +200,17 @@ public interface DbManager {
      */
     UserTcStats createHourlyTcStats(UserTcStats userTcStats);
 
+    /**
+     * Creates multiple {@link UserTcStats} in a single bulk write, intended for high-volume writes such as backfills or imports.
+     *
+     * <p>
+     * Either all {@link UserTcStats} are persisted, or none are.
+     *
+     * @param userTcStats the {@link UserTcStats} to be created
+     * @return the created {@link UserTcStats}
+     */
+    Collection<UserTcStats> createBulkHourlyTcStats(Collection<UserTcStats> userTcStats);
+
     /**
      * Retrieves the latest {@link UserTcStats} for the provided {@link User}.
      *
@@ -233,6 +249,21 @@ public interface DbManager {
      */
     Collection<HistoricStats> getHistoricStatsMonthly(int userId, Year year);
 
+    /**
+     * Downsamples the hourly {@link UserTcStats} and total {@link UserStats} persisted before the provided {@link Timestamp} to a single row per
+     * {@link User} per day. The retained row for each day is the last one, and for {@link UserTcStats} it holds the maximum values for that day,
+     * so the daily and monthly {@link HistoricStats} are unchanged. Hourly {@link HistoricStats} for those days will only contain a single entry.
+     *
+     * <p>
+     * At most {@code batchSize} {@link User} days of each table are downsampled per call, so the call should be repeated until it returns
+     * {@code 0}.
+     *
+     * @param before    only stats before this {@link Timestamp} are downsampled
+     * @param batchSize the maximum number of {@link User} days to downsample
+     * @return the number of rows removed
+     */
+    long downsampleStatsToDaily(Timestamp before, int batchSize);
+
     /**
      * Creates a {@link UserStats} for the initial stats for the provided {@link User} at the start of the monitoring period.
      *
@@ -257,6 +288,17 @@ public interface DbManager {
      */
     UserStats createTotalStats(UserStats userStats);
 
+    /**
+     * Creates multiple total {@link UserStats} in a single bulk write, intended for high-volume writes such as backfills or imports.
+     *
+     * <p>
+     * Either all {@link UserStats} are persisted, or none are.
+     *
+     * @param userStats the total {@link UserStats} to be created
+     * @return the created total {@link UserStats}
+     */
+    Collection<UserStats> createBulkTotalStats(Collection<UserStats> userStats);
+
     /**
      * Retrieves the {@link UserStats} for a {@link User} with the provided ID.
      *
@@ -318,6 +360,20 @@ public interface DbManager {
      */
     void deleteAllRetiredUserStats();
 
+    /**
+     * Resets the {@code Team Competition} stats for all {@link User}s as a single unit of work. Performs the following actions:
+     * <ul>
+     *     <li>Sets each {@link User}'s initial {@link UserStats} to their latest total {@link UserStats}</li>
+     *     <li>Creates an empty {@link UserTcStats} for each {@link User}</li>
+     *     <li>Deletes all {@link OffsetTcStats}</li>
+     *     <li>Deletes all {@link RetiredUserTcStats}</li>
+     * </ul>
+     *
+     * @param timestamp the {@link Timestamp} of the reset, used for the new initial {@link UserStats} and empty {@link UserTcStats}
+     * @return the new initial {@link UserStats} for each {@link User}
+     */
+    Collection<UserStats> resetAllTeamCompetitionStats(Timestamp timestamp);
+
     /**
      * Creates a {@link MonthlyResult} for the {@code Team Competition} in the DB.
      *
@@ -335,6 +391,34 @@ public interface DbManager {
      */
     Optional<MonthlyResult> getMonthlyResult(Month month, Year year);
 
+    /**
+     * Creates an {@link IngestionRun} in the DB, along with all of its {@link IngestionRunFailure}s.
+     *
+     * <p>
+     * Either the {@link IngestionRun} and all of its {@link IngestionRunFailure}s are persisted, or none are.
+     *
+     * @param ingestionRun the {@link IngestionRun} to persist
+     * @return the {@link IngestionRun} updated with an ID
+     */
+    IngestionRun createIngestionRun(IngestionRun ingestionRun);
+
+    /**
+     * Retrieves all {@link IngestionRun}s (with their {@link IngestionRunFailure}s) started at or after the provided {@link LocalDateTime} from the
+     * DB, ordered from the most recent.
+     *
+     * @param since the UTC {@link LocalDateTime} from which to retrieve {@link IngestionRun}s
+     * @return the retrieved {@link IngestionRun}s
+     */
+    Collection<IngestionRun> getIngestionRunsSince(LocalDateTime since);
+
+    /**
+     * Deletes all {@link IngestionRun}s (and their {@link IngestionRunFailure}s) started before the provided {@link LocalDateTime}.
+     *
+     * @param before only {@link IngestionRun}s before this UTC {@link LocalDateTime} are deleted
+     * @return the number of {@link IngestionRun}s deleted
+     */
+    long deleteIngestionRunsBefore(LocalDateTime before);
+
     /**
      * Authenticates a system user against the DB.
      *
@@ -345,4 +429,18 @@ public interface DbManager {
      * @return the {@link UserAuthenticationResult}
      */
     UserAuthenticationResult authenticateSystemUser(DecodedLoginCredentials decodedLoginCredentials);
+
+    /**
+     * Executes the provided operations as a single unit of work. All operations performed on the {@link DbManager} within the
+     * {@code operations} are executed against the same DB connection, and are committed once all operations complete successfully.
+     *
+     * <p>
+     * If any operation fails, all operations are rolled back and the exception is propagated to the caller. If this is called while a unit of work
+     * is already in progress, the {@code operations} join the existing unit of work.
+     *
+     * @param operations the operations to execute within a single unit of work
+     * @param <T>        the type of the result of the {@code operations}
+     * @return the result of the {@code operations}
+     */
+    <T> T inTransaction(Function<? super DbManager, T> operations);
 }
@@ -0,0 +1,112 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.api.db;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.result.MonthlyResult;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+
+/**
+ * Implementation of {@link AsyncDbManager} which delegates each query to a blocking {@link DbManager}, executed on the provided {@link Executor}.
+ *
+ * <p>
+ * Used for any {@link DbManager} without a non-blocking driver, so callers can use the {@link AsyncDbManager} regardless of the storage backend.
+ * Queries for multiple {@link User}s are executed one after another, as a single task on the {@link Executor}.
+ *
+ * <p>
+ * If the {@link Executor} is an {@link ExecutorService}, it is owned by this instance and is closed by {@link #close()}.
+ *
+ * @param dbManager the {@link DbManager} to delegate to
+ * @param executor  the {@link Executor} on which each blocking query is executed
+ */
+public record ExecutorAsyncDbManager(DbManager dbManager, Executor executor) implements AsyncDbManager, AutoCloseable {
+
+    /**
+     * Creates an instance of {@link ExecutorAsyncDbManager}.
+     *
+     * @param dbManager the {@link DbManager} to delegate to
+     * @param executor  the {@link Executor} on which each blocking query is executed
+     * @return the created {@link ExecutorAsyncDbManager}
+     */
+    public static ExecutorAsyncDbManager create(final DbManager dbManager, final Executor executor) {
+        return new ExecutorAsyncDbManager(dbManager, executor);
+    }
+
+    @Override
+    public CompletionStage<Collection<HistoricStats>> getHistoricStatsHourly(final int userId, final Year year, final Month month, final int day) {
+        return CompletableFuture.supplyAsync(() -> dbManager.getHistoricStatsHourly(userId, year, month, day), executor);
+    }
+
+    @Override
+    public CompletionStage<Map<Integer, Collection<HistoricStats>>> getHistoricStatsHourlyForUsers(final Collection<Integer> userIds, final Year year,
+                                                                                                  final Month month, final int day) {
+        return CompletableFuture.supplyAsync(() -> forEachUser(userIds, userId -> dbManager.getHistoricStatsHourly(userId, year, month, day)),
+            executor);
+    }
+
+    @Override
+    public CompletionStage<Collection<HistoricStats>> getHistoricStatsDaily(final int userId, final Year year, final Month month) {
+        return CompletableFuture.supplyAsync(() -> dbManager.getHistoricStatsDaily(userId, year, month), executor);
+    }
+
+    @Override
+    public CompletionStage<Map<Integer, Collection<HistoricStats>>> getHistoricStatsDailyForUsers(final Collection<Integer> userIds, final Year year,
+                                                                                                 final Month month) {
+        return CompletableFuture.supplyAsync(() -> forEachUser(userIds, userId -> dbManager.getHistoricStatsDaily(userId, year, month)), executor);
+    }
+
+    @Override
+    public CompletionStage<Collection<HistoricStats>> getHistoricStatsMonthly(final int userId, final Year year) {
+        return CompletableFuture.supplyAsync(() -> dbManager.getHistoricStatsMonthly(userId, year), executor);
+    }
+
+    @Override
+    public CompletionStage<Optional<MonthlyResult>> getMonthlyResult(final Month month, final Year year) {
+        return CompletableFuture.supplyAsync(() -> dbManager.getMonthlyResult(month, year), executor);
+    }
+
+    /**
+     * Closes the {@link Executor} if it is an {@link ExecutorService}, waiting for any submitted queries to complete.
+     */
+    @Override
+    public void close() {
+        if (executor instanceof final ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+
+    private static Map<Integer, Collection<HistoricStats>> forEachUser(final Collection<Integer> userIds,
+                                                                       final IntFunction<Collection<HistoricStats>> historicStatsForUser) {
+        final Map<Integer, Collection<HistoricStats>> historicStatsByUserId = new LinkedHashMap<>();
+        for (final int userId : userIds) {
+            historicStatsByUserId.put(userId, historicStatsForUser.apply(userId));
+        }
+        return historicStatsByUserId;
+    }
+}
@@ -27,6 +27,11 @@ public enum OperationType {
      */
     READ,
 
+    /**
+     * The system can perform <b>READ</b> operations that are served from the last published stats snapshot, rather than the current caches.
+     */
+    SNAPSHOT_READ,
+
     /**
      * The system can perform <b>WRITE</b> operations.
      */
@@ -18,6 +18,7 @@
 package net.zodac.folding.api.state;
 
 import static net.zodac.folding.api.state.OperationType.READ;
+import static net.zodac.folding.api.state.OperationType.SNAPSHOT_READ;
 import static net.zodac.folding.api.state.OperationType.WRITE;
 
 import java.util.EnumSet;
@@ -33,13 +34,14 @@ public enum SystemState {
     /**
      * System is online and available for {@link OperationType#READ} and {@link OperationType#WRITE} operations.
      */
-    AVAILABLE(READ, WRITE),
+    AVAILABLE(READ, SNAPSHOT_READ, WRITE),
 
     /**
      * System is currently resetting stats. Since not all caches may have been wiped yet, system is not ready for {@link OperationType#READ}
-     * or {@link OperationType#WRITE} operations.
+     * or {@link OperationType#WRITE} operations. {@link OperationType#SNAPSHOT_READ} operations are permitted, since they are served from the last
+     * published stats until the reset is complete.
      */
-    RESETTING_STATS,
+    RESETTING_STATS(SNAPSHOT_READ),
 
     /**
      * System is coming online, not yet ready for {@link OperationType#READ} or {@link OperationType#WRITE} operations.
@@ -50,12 +52,12 @@ public enum SystemState {
      * System is currently updating stats (for a single {@link User}, or all {@link User}s),
      * system is ready for {@link OperationType#READ} operations, but not {@link OperationType#WRITE} operations.
      */
-    UPDATING_STATS(READ),
+    UPDATING_STATS(READ, SNAPSHOT_READ),
 
     /**
      * System is in state similar to {@link #AVAILABLE}, but a {@link OperationType#WRITE} operation has been executed, possibly invalidating caches.
      */
-    WRITE_EXECUTED(READ, WRITE);
+    WRITE_EXECUTED(READ, SNAPSHOT_READ, WRITE);
 
     private final Set<OperationType> permittedOperationTypes;
 
@@ -77,6 +79,15 @@ public enum SystemState {
         return !permittedOperationTypes.contains(READ);
     }
 
+    /**
+     * Checks if a {@link OperationType#SNAPSHOT_READ} operation is blocked by the {@link SystemState}.
+     *
+     * @return {@code true} if {@link OperationType#SNAPSHOT_READ} operations are blocked
+     */
+    public boolean isSnapshotReadBlocked() {
+        return !permittedOperationTypes.contains(SNAPSHOT_READ);
+    }
+
     /**
      * Checks if a {@link OperationType#WRITE} operation is blocked by the {@link SystemState}.
      *
@@ -85,4 +96,14 @@ public enum SystemState {
     public boolean isWriteBlocked() {
         return !permittedOperationTypes.contains(WRITE);
     }
+
+    /**
+     * Checks if the {@link SystemState} is one where stats are in the process of being changed, meaning any stats calculated from the
+     * current caches may only be partially updated.
+     *
+     * @return {@code true} if the {@link SystemState} is {@link #RESETTING_STATS} or {@link #UPDATING_STATS}
+     */
+    public boolean isStatsWriteInProgress() {
+        return this == RESETTING_STATS || this == UPDATING_STATS;
+    }
 }
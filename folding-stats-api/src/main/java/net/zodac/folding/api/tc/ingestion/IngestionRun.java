@@ -0,0 +1,129 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.api.tc.ingestion;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import net.zodac.folding.api.ResponsePojo;
+import net.zodac.folding.api.tc.User;
+
+/**
+ * POJO defining a single run of the stats parsing for one or more {@link User}s, recording its duration, the number of {@link User}s in each
+ * outcome, and an {@link IngestionRunFailure} for each {@link User} whose stats could not be parsed.
+ *
+ * @param id             the ID
+ * @param runType        the {@link IngestionRunType}
+ * @param utcTimestamp   the UTC {@link LocalDateTime} for when the {@link IngestionRun} started
+ * @param durationMillis the duration of the {@link IngestionRun} in milliseconds
+ * @param usersParsed    the number of {@link User}s whose stats were parsed
+ * @param usersSkipped   the number of {@link User}s who were skipped, such as those with no initial stats or no stats from the Folding@Home API
+ * @param usersFailed    the number of {@link User}s whose stats could not be parsed due to an error
+ * @param failures       the {@link IngestionRunFailure}s for the {@link User}s whose stats could not be parsed
+ */
+public record IngestionRun(int id,
+                           IngestionRunType runType,
+                           LocalDateTime utcTimestamp,
+                           long durationMillis,
+                           int usersParsed,
+                           int usersSkipped,
+                           int usersFailed,
+                           Collection<IngestionRunFailure> failures
+) implements ResponsePojo {
+
+    private static final int EMPTY_INGESTION_RUN_ID = 0;
+
+    /**
+     * Creates an {@link IngestionRun}.
+     *
+     * <p>
+     * Since the DB auto-generates the ID, this function should be used when creating an {@link IngestionRun} from the DB response.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link LocalDateTime} provided will have its nanoseconds stripped, due to precision errors that can occur after retrieving
+     * a persisted value from the DB.
+     *
+     * @param id             the ID
+     * @param runType        the {@link IngestionRunType}
+     * @param utcTimestamp   the UTC {@link LocalDateTime} for when the {@link IngestionRun} started
+     * @param durationMillis the duration of the {@link IngestionRun} in milliseconds
+     * @param usersParsed    the number of {@link User}s whose stats were parsed
+     * @param usersSkipped   the number of {@link User}s who were skipped
+     * @param usersFailed    the number of {@link User}s whose stats could not be parsed due to an error
+     * @param failures       the {@link IngestionRunFailure}s for the {@link User}s whose stats could not be parsed
+     * @return the created {@link IngestionRun}
+     */
+    public static IngestionRun create(final int id,
+                                      final IngestionRunType runType,
+                                      final LocalDateTime utcTimestamp,
+                                      final long durationMillis,
+                                      final int usersParsed,
+                                      final int usersSkipped,
+                                      final int usersFailed,
+                                      final Collection<IngestionRunFailure> failures) {
+        return new IngestionRun(id, runType, utcTimestamp.withNano(0), durationMillis, usersParsed, usersSkipped, usersFailed, List.copyOf(failures));
+    }
+
+    /**
+     * Creates an {@link IngestionRun} for a completed run of the stats parsing.
+     *
+     * <p>
+     * Since we do not know the ID until the DB has persisted the {@link IngestionRun}, the default ID will be used instead. The number of failed
+     * {@link User}s is the number of {@code failures}.
+     *
+     * @param runType      the {@link IngestionRunType}
+     * @param utcTimestamp the UTC {@link LocalDateTime} for when the {@link IngestionRun} started
+     * @param duration     the {@link Duration} of the {@link IngestionRun}
+     * @param usersParsed  the number of {@link User}s whose stats were parsed
+     * @param usersSkipped the number of {@link User}s who were skipped
+     * @param failures     the {@link IngestionRunFailure}s for the {@link User}s whose stats could not be parsed
+     * @return the created {@link IngestionRun}
+     */
+    public static IngestionRun createWithoutId(final IngestionRunType runType,
+                                               final LocalDateTime utcTimestamp,
+                                               final Duration duration,
+                                               final int usersParsed,
+                                               final int usersSkipped,
+                                               final Collection<IngestionRunFailure> failures) {
+        return create(EMPTY_INGESTION_RUN_ID, runType, utcTimestamp, duration.toMillis(), usersParsed, usersSkipped, failures.size(), failures);
+    }
+
+    /**
+     * Updates an {@link IngestionRun} with the given ID.
+     *
+     * <p>
+     * Once the {@link IngestionRun} has been persisted in the DB, we will know its ID. We create a new {@link IngestionRun} instance with this ID,
+     * which can be used to retrieval/referencing later.
+     *
+     * @param ingestionRunId the DB-generated ID
+     * @param ingestionRun   the {@link IngestionRun} to be updated with the ID
+     * @return the updated {@link IngestionRun}
+     */
+    public static IngestionRun updateWithId(final int ingestionRunId, final IngestionRun ingestionRun) {
+        return create(
+            ingestionRunId,
+            ingestionRun.runType,
+            ingestionRun.utcTimestamp,
+            ingestionRun.durationMillis,
+            ingestionRun.usersParsed,
+            ingestionRun.usersSkipped,
+            ingestionRun.usersFailed,
+            ingestionRun.failures
+        );
+    }
+}
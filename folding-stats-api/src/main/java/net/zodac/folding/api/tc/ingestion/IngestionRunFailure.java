@@ -0,0 +1,54 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.api.tc.ingestion;
+
+import java.util.Objects;
+import net.zodac.folding.api.ResponsePojo;
+import net.zodac.folding.api.tc.User;
+
+/**
+ * POJO defining a {@link User} whose stats could not be parsed during an {@link IngestionRun}.
+ *
+ * @param userId       the ID of the {@link User}
+ * @param errorClass   the fully-qualified class name of the error which caused the failure
+ * @param errorMessage the message of the error which caused the failure, or an empty {@link String} if it had no message
+ */
+public record IngestionRunFailure(int userId, String errorClass, String errorMessage) implements ResponsePojo {
+
+    /**
+     * Creates an {@link IngestionRunFailure}.
+     *
+     * @param userId       the ID of the {@link User}
+     * @param errorClass   the fully-qualified class name of the error which caused the failure
+     * @param errorMessage the message of the error which caused the failure
+     * @return the created {@link IngestionRunFailure}
+     */
+    public static IngestionRunFailure create(final int userId, final String errorClass, final String errorMessage) {
+        return new IngestionRunFailure(userId, errorClass, errorMessage);
+    }
+
+    /**
+     * Creates an {@link IngestionRunFailure} from the {@link Exception} which caused the failure.
+     *
+     * @param userId the ID of the {@link User}
+     * @param error  the {@link Exception} which caused the failure
+     * @return the created {@link IngestionRunFailure}
+     */
+    public static IngestionRunFailure create(final int userId, final Exception error) {
+        return create(userId, error.getClass().getName(), Objects.requireNonNullElse(error.getMessage(), ""));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.api.tc.ingestion;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Specifies the reason an {@link IngestionRun} was executed.
+ */
+public enum IngestionRunType {
+
+    /**
+     * The scheduled parsing of the stats for all (or a shard of all) users.
+     */
+    SCHEDULED,
+
+    /**
+     * The re-parsing of the stats for users who failed in a previous {@link #SCHEDULED} {@link IngestionRun}.
+     */
+    RETRY,
+
+    /**
+     * The manual parsing of the stats for all users, requested through the REST endpoint.
+     */
+    MANUAL,
+
+    /**
+     * Any other parsing of stats, such as when a user is created or updated. These are not recorded as an {@link IngestionRun}.
+     */
+    ON_DEMAND,
+
+    /**
+     * Not a valid {@link IngestionRunType}.
+     */
+    INVALID;
+
+    private static final Collection<IngestionRunType> ALL_VALUES = List.of(values());
+
+    /**
+     * Retrieve a {@link IngestionRunType} based on the input {@link String}. The search is case-insensitive.
+     *
+     * @param input the {@link IngestionRunType} as a {@link String}
+     * @return the matching {@link IngestionRunType}, or {@link IngestionRunType#INVALID} if none is found
+     */
+    public static IngestionRunType get(final String input) {
+        return ALL_VALUES
+            .stream()
+            .filter(ingestionRunType -> ingestionRunType.toString().equalsIgnoreCase(input))
+            .findAny()
+            .orElse(INVALID);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The result of a single item in a batch request to create, update or delete multiple resources.
+ *
+ * <p>
+ * A batch is processed as a single unit of work, so either every item succeeds, or nothing is changed. If any item fails, it is returned with
+ * the error and the same status code as the equivalent single-item request, and the remaining items are returned with a status code of
+ * <b>424</b> (failed dependency) and no error.
+ *
+ * @param index      the index of the item in the batch request
+ * @param statusCode the HTTP status code for the item
+ * @param entity     the created, updated or deleted resource, or {@code null} if the item was not processed
+ * @param error      the error body for the item, or {@code null} if the item did not fail itself
+ * @param <T>        the type of the resource
+ */
+public record BatchItemResult<T>(int index, int statusCode, @Nullable T entity, @Nullable Object error) {
+
+    /**
+     * Status code for an item that was valid, but was not processed since another item in the batch failed.
+     */
+    public static final int FAILED_DEPENDENCY = 424;
+
+    private static final int MINIMUM_ERROR_STATUS_CODE = 400;
+
+    /**
+     * Creates a {@link BatchItemResult} for an item that has been processed successfully.
+     *
+     * @param index      the index of the item in the batch request
+     * @param statusCode the HTTP status code for the item
+     * @param entity     the created, updated or deleted resource
+     * @param <T>        the type of the resource
+     * @return the created {@link BatchItemResult}
+     */
+    public static <T> BatchItemResult<T> success(final int index, final int statusCode, final T entity) {
+        return new BatchItemResult<>(index, statusCode, entity, null);
+    }
+
+    /**
+     * Creates a {@link BatchItemResult} for an item that has failed.
+     *
+     * @param index      the index of the item in the batch request
+     * @param statusCode the HTTP status code for the item
+     * @param error      the error body for the item
+     * @param <T>        the type of the resource
+     * @return the created {@link BatchItemResult}
+     */
+    public static <T> BatchItemResult<T> failure(final int index, final int statusCode, final Object error) {
+        return new BatchItemResult<>(index, statusCode, null, error);
+    }
+
+    /**
+     * Creates a {@link BatchItemResult} for a valid item that was not processed, since another item in the batch failed.
+     *
+     * @param index the index of the item in the batch request
+     * @param <T>   the type of the resource
+     * @return the created {@link BatchItemResult}
+     */
+    public static <T> BatchItemResult<T> notProcessed(final int index) {
+        return new BatchItemResult<>(index, FAILED_DEPENDENCY, null, null);
+    }
+
+    /**
+     * Checks whether the item was processed successfully.
+     *
+     * @return {@code true} if the {@link #statusCode()} is not an error
+     */
+    public boolean isSuccess() {
+        return statusCode < MINIMUM_ERROR_STATUS_CODE;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.rest.api;
+
+/**
+ * A single item in a batch request to update multiple resources, containing the ID of the resource to update and the request to update it
+ * with.
+ *
+ * @param id      the ID of the resource to update
+ * @param request the request to update the resource with
+ * @param <T>     the type of the request
+ */
+public record BatchUpdateRequest<T>(int id, T request) {
+
+    /**
+     * Creates a {@link BatchUpdateRequest}.
+     *
+     * @param id      the ID of the resource to update
+     * @param request the request to update the resource with
+     * @param <T>     the type of the request
+     * @return the created {@link BatchUpdateRequest}
+     */
+    public static <T> BatchUpdateRequest<T> create(final int id, final T request) {
+        return new BatchUpdateRequest<>(id, request);
+    }
+}
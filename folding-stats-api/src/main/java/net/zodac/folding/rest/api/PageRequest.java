@@ -0,0 +1,127 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Cursor-based pagination and field projection for a request to retrieve a {@link Collection} of resources.
+ *
+ * <p>
+ * Resources are ordered by ID. Only resources with an ID greater than the {@code cursor} are returned, up to the {@code limit}. The ID of the
+ * last resource in a page is returned as the cursor for the next page. If any {@code fields} are requested, only those top-level fields (and the
+ * ID) of each resource are returned.
+ *
+ * @param cursor the ID after which resources are returned, or <b>0</b> to start from the first resource
+ * @param limit  the maximum number of resources to return, or <b>0</b> for no limit
+ * @param fields the names of the fields to return for each resource, or empty to return all fields
+ */
+public record PageRequest(int cursor, int limit, Set<String> fields) {
+
+    /**
+     * The name of the query parameter for the {@code cursor}.
+     */
+    public static final String CURSOR_PARAMETER = "cursor";
+
+    /**
+     * The name of the query parameter for the {@code limit}.
+     */
+    public static final String LIMIT_PARAMETER = "limit";
+
+    /**
+     * The name of the query parameter for the comma-separated {@code fields}.
+     */
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private static final PageRequest ALL = new PageRequest(0, 0, Set.of());
+    private static final Pattern SINGLE_COMMA_PATTERN = Pattern.compile(",");
+
+    /**
+     * Returns a {@link PageRequest} for all resources with all fields.
+     *
+     * @return the {@link PageRequest}
+     */
+    public static PageRequest all() {
+        return ALL;
+    }
+
+    /**
+     * Creates a {@link PageRequest}. Negative values for the {@code cursor} or {@code limit} are treated as <b>0</b>.
+     *
+     * @param cursor the ID after which resources are returned
+     * @param limit  the maximum number of resources to return
+     * @param fields the names of the fields to return for each resource
+     * @return the created {@link PageRequest}
+     */
+    public static PageRequest create(final int cursor, final int limit, final Collection<String> fields) {
+        return new PageRequest(Math.max(0, cursor), Math.max(0, limit), Set.copyOf(fields));
+    }
+
+    /**
+     * Creates a {@link PageRequest} from the REST query parameters.
+     *
+     * @param cursor the ID after which resources are returned
+     * @param limit  the maximum number of resources to return
+     * @param fields a comma-separated {@link String} of the names of the fields to return for each resource
+     * @return the created {@link PageRequest}
+     */
+    public static PageRequest fromQueryParameters(final int cursor, final int limit, final String fields) {
+        final Set<String> fieldNames = Arrays.stream(SINGLE_COMMA_PATTERN.split(fields))
+            .map(String::strip)
+            .filter(fieldName -> !fieldName.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        return create(cursor, limit, fieldNames);
+    }
+
+    /**
+     * Checks if the {@link PageRequest} has no pagination.
+     *
+     * @return <b>true</b> if there is no {@code cursor} or {@code limit}
+     */
+    public boolean isUnpaginated() {
+        return cursor == 0 && limit == 0;
+    }
+
+    /**
+     * Converts the {@link PageRequest} into REST query parameters. Only parameters which differ from the defaults are included.
+     *
+     * @return a {@link Map} of query parameter names to values
+     */
+    public Map<String, Object> toQueryParameters() {
+        final Map<String, Object> queryParameters = new LinkedHashMap<>();
+        if (cursor != 0) {
+            queryParameters.put(CURSOR_PARAMETER, cursor);
+        }
+
+        if (limit != 0) {
+            queryParameters.put(LIMIT_PARAMETER, limit);
+        }
+
+        if (!fields.isEmpty()) {
+            queryParameters.put(FIELDS_PARAMETER, fields.stream().sorted().collect(Collectors.joining(",")));
+        }
+
+        return queryParameters;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api.exception;
+
+import java.io.Serial;
+import lombok.Getter;
+
+/**
+ * {@link FoldingRestException} used when a REST request is sent successfully, but the response does not have a successful status code.
+ */
+@Getter
+public class UnexpectedResponseException extends FoldingRestException {
+
+    @Serial
+    private static final long serialVersionUID = 6177231464735958741L;
+
+    /**
+     * The status code of the response.
+     */
+    private final int statusCode;
+
+    /**
+     * The body of the response.
+     */
+    private final String responseBody;
+
+    /**
+     * Constructor taking in the status code and body of the unexpected response.
+     *
+     * @param statusCode   the status code of the response
+     * @param responseBody the body of the response
+     */
+    public UnexpectedResponseException(final int statusCode, final String responseBody) {
+        super(String.format("Unexpected response with status code %s: %s", statusCode, responseBody));
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+}
@@ -47,6 +47,16 @@ public enum RestHeader {
      */
     IF_NONE_MATCH("If-None-Match"),
 
+    /**
+     * The {@code X-Next-Cursor} header.
+     */
+    NEXT_CURSOR("X-Next-Cursor"),
+
+    /**
+     * The {@code Retry-After} header.
+     */
+    RETRY_AFTER("Retry-After"),
+
     /**
      * The {@code X-Total-Count} header.
      */
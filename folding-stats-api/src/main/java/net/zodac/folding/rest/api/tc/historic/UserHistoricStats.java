@@ -0,0 +1,42 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api.tc.historic;
+
+import java.util.Collection;
+import net.zodac.folding.api.tc.User;
+
+/**
+ * POJO defining the {@link HistoricStats} for a single {@link User}, used when the {@link HistoricStats} for multiple {@link User}s are
+ * retrieved in a single request.
+ *
+ * @param userId        the ID of the {@link User}
+ * @param historicStats the {@link HistoricStats} for the {@link User}
+ */
+public record UserHistoricStats(int userId, Collection<HistoricStats> historicStats) {
+
+    /**
+     * Creates an instance of {@link UserHistoricStats}.
+     *
+     * @param userId        the ID of the {@link User}
+     * @param historicStats the {@link HistoricStats} for the {@link User}
+     * @return the {@link UserHistoricStats} instance
+     */
+    public static UserHistoricStats create(final int userId, final Collection<HistoricStats> historicStats) {
+        return new UserHistoricStats(userId, historicStats);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api.tc.stream;
+
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.rest.api.tc.TeamSummary;
+import net.zodac.folding.rest.api.tc.UserSummary;
+
+/**
+ * Compact rank and points of a single {@link Team} or {@link User}, as pushed to subscribers of the {@code Team Competition} stats stream.
+ *
+ * @param id               the ID of the {@link Team} or {@link User}
+ * @param rank             the rank of the {@link Team} in the competition, or of the {@link User} in their category
+ * @param points           the unmultiplied points
+ * @param multipliedPoints the multiplied points
+ * @param units            the units
+ */
+public record RankedStats(int id, int rank, long points, long multipliedPoints, int units) {
+
+    /**
+     * Creates a {@link RankedStats} for a {@link Team}.
+     *
+     * @param teamSummary the ranked {@link TeamSummary}
+     * @return the created {@link RankedStats}
+     */
+    public static RankedStats forTeam(final TeamSummary teamSummary) {
+        return new RankedStats(teamSummary.team().id(), teamSummary.rank(), teamSummary.teamPoints(), teamSummary.teamMultipliedPoints(),
+            teamSummary.teamUnits());
+    }
+
+    /**
+     * Creates a {@link RankedStats} for a {@link User}.
+     *
+     * @param userSummary  the {@link UserSummary}
+     * @param categoryRank the rank of the {@link User} in their category
+     * @return the created {@link RankedStats}
+     */
+    public static RankedStats forUser(final UserSummary userSummary, final int categoryRank) {
+        return new RankedStats(userSummary.user().id(), categoryRank, userSummary.points(), userSummary.multipliedPoints(), userSummary.units());
+    }
+}
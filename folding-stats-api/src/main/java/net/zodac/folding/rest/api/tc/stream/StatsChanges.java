@@ -0,0 +1,53 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api.tc.stream;
+
+/**
+ * Response for a request for the {@code Team Competition} stats changes since a given version.
+ *
+ * <p>
+ * If the requested version is no longer (or was never) available, {@code fullResyncRequired} is set, and the client should retrieve the full
+ * stats again, and then request any further changes using the returned {@code version}.
+ *
+ * @param version            the current stats version
+ * @param fullResyncRequired whether the changes cannot be calculated, and the client must retrieve the full stats
+ * @param changes            the {@link StatsUpdate} since the requested version, empty if there are no changes or a resync is required
+ */
+public record StatsChanges(long version, boolean fullResyncRequired, StatsUpdate changes) {
+
+    /**
+     * Creates a {@link StatsChanges} with the changed stats.
+     *
+     * @param version the current stats version
+     * @param changes the {@link StatsUpdate} since the requested version
+     * @return the created {@link StatsChanges}
+     */
+    public static StatsChanges create(final long version, final StatsUpdate changes) {
+        return new StatsChanges(version, false, changes);
+    }
+
+    /**
+     * Creates a {@link StatsChanges} which requires the client to retrieve the full stats.
+     *
+     * @param version the current stats version
+     * @return the created {@link StatsChanges}
+     */
+    public static StatsChanges resyncRequired(final long version) {
+        return new StatsChanges(version, true, StatsUpdate.empty());
+    }
+}
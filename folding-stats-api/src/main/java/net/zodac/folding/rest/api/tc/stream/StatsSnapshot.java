@@ -0,0 +1,86 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api.tc.stream;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import net.zodac.folding.api.tc.Category;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.rest.api.tc.AllTeamsSummary;
+import net.zodac.folding.rest.api.tc.RankableSummary;
+import net.zodac.folding.rest.api.tc.TeamSummary;
+import net.zodac.folding.rest.api.tc.UserSummary;
+
+/**
+ * Point-in-time view of the {@link RankedStats} for every {@link Team} and active {@link User} in the {@code Team Competition}, used as the
+ * baseline to calculate a {@link StatsUpdate}.
+ *
+ * @param teams the {@link RankedStats} of each {@link Team}, keyed by {@link Team} ID
+ * @param users the {@link RankedStats} of each active {@link User}, keyed by {@link User} ID
+ */
+public record StatsSnapshot(Map<Integer, RankedStats> teams, Map<Integer, RankedStats> users) {
+
+    private static final StatsSnapshot EMPTY = new StatsSnapshot(Map.of(), Map.of());
+
+    /**
+     * Returns a {@link StatsSnapshot} with no {@link Team}s or {@link User}s.
+     *
+     * @return the empty {@link StatsSnapshot}
+     */
+    public static StatsSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a {@link StatsSnapshot} from an {@link AllTeamsSummary}.
+     *
+     * <p>
+     * {@link Team}s use their existing rank in the competition. {@link User}s are ranked within their {@link Category} by multiplied points, to
+     * match the {@link User} {@link Category} leaderboard.
+     *
+     * @param allTeamsSummary the {@link AllTeamsSummary} to convert
+     * @return the created {@link StatsSnapshot}
+     */
+    public static StatsSnapshot create(final AllTeamsSummary allTeamsSummary) {
+        final Map<Integer, RankedStats> teams = allTeamsSummary.teams()
+            .stream()
+            .map(RankedStats::forTeam)
+            .collect(Collectors.toUnmodifiableMap(RankedStats::id, rankedStats -> rankedStats));
+
+        final Map<Category, List<UserSummary>> usersByCategory = allTeamsSummary.teams()
+            .stream()
+            .map(TeamSummary::activeUsers)
+            .flatMap(Collection::stream)
+            .collect(Collectors.groupingBy(userSummary -> userSummary.user().category()));
+
+        final Map<Integer, RankedStats> users = new HashMap<>();
+        for (final List<UserSummary> userSummariesInCategory : usersByCategory.values()) {
+            // Ranked summaries reuse the 'rankInTeam' field to hold the rank within the category
+            for (final RankableSummary rankedSummary : RankableSummary.rank(userSummariesInCategory)) {
+                final UserSummary userSummary = (UserSummary) rankedSummary;
+                users.put(userSummary.user().id(), RankedStats.forUser(userSummary, userSummary.rankInTeam()));
+            }
+        }
+
+        return new StatsSnapshot(teams, Map.copyOf(users));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api.tc.stream;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+
+/**
+ * Update pushed to subscribers of the {@code Team Competition} stats stream, containing only the {@link Team}s and {@link User}s whose rank or
+ * points have changed since the previous {@link StatsSnapshot}.
+ *
+ * @param teams the changed {@link RankedStats} of {@link Team}s
+ * @param users the changed {@link RankedStats} of {@link User}s
+ */
+public record StatsUpdate(Collection<RankedStats> teams, Collection<RankedStats> users) {
+
+    private static final StatsUpdate EMPTY = new StatsUpdate(List.of(), List.of());
+
+    /**
+     * Returns a {@link StatsUpdate} with no changed {@link Team}s or {@link User}s.
+     *
+     * @return the empty {@link StatsUpdate}
+     */
+    public static StatsUpdate empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a {@link StatsUpdate} containing every {@link Team} and {@link User} in the {@link StatsSnapshot}. Used as the first event for a
+     * new subscriber.
+     *
+     * @param snapshot the current {@link StatsSnapshot}
+     * @return the created {@link StatsUpdate}
+     */
+    public static StatsUpdate full(final StatsSnapshot snapshot) {
+        return between(StatsSnapshot.empty(), snapshot);
+    }
+
+    /**
+     * Creates a {@link StatsUpdate} containing each {@link Team} and {@link User} in the {@code current} {@link StatsSnapshot} which is new, or
+     * whose {@link RankedStats} differ from the {@code previous} {@link StatsSnapshot}.
+     *
+     * @param previous the previous {@link StatsSnapshot}
+     * @param current  the current {@link StatsSnapshot}
+     * @return the created {@link StatsUpdate}
+     */
+    public static StatsUpdate between(final StatsSnapshot previous, final StatsSnapshot current) {
+        return new StatsUpdate(changed(previous.teams(), current.teams()), changed(previous.users(), current.users()));
+    }
+
+    /**
+     * Checks if the {@link StatsUpdate} has no changed {@link Team}s or {@link User}s.
+     *
+     * @return <b>true</b> if nothing has changed
+     */
+    public boolean isEmpty() {
+        return teams.isEmpty() && users.isEmpty();
+    }
+
+    private static Collection<RankedStats> changed(final Map<Integer, RankedStats> previous, final Map<Integer, RankedStats> current) {
+        return current.values()
+            .stream()
+            .filter(rankedStats -> !Objects.equals(previous.get(rankedStats.id()), rankedStats))
+            .sorted(Comparator.comparingInt(RankedStats::rank).thenComparingInt(RankedStats::id))
+            .toList();
+    }
+}
@@ -17,23 +17,23 @@
 
 package net.zodac.folding.rest.api.util;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.LocalDateTime;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Due to issues with the {@link LocalDateTime} class not exposing the internal {@code date} or {@code time} implementation, we need to
- * implement a custom type adapter to use with {@link com.google.gson.GsonBuilder#registerTypeAdapter(Type, Object)}. We will need to implement both
- * a {@link JsonDeserializer} and a {@link JsonSerializer}.
+ * implement a custom type adapter to use with {@link com.google.gson.GsonBuilder#registerTypeAdapter(Type, Object)}.
  *
  * <p>
- * For the {@link JsonDeserializer}, we need to construct a {@link LocalDateTime} by extracting the {@code year}, {@code month}, and {@code day} from
- * the {@code date}, and extracting the {@code hour}, {@code minute}, {@code second}, and {@code nano} from the {@code time}. We do this by manually
+ * When reading, we need to construct a {@link LocalDateTime} by extracting the {@code year}, {@code month}, and {@code day} from the
+ * {@code date}, and extracting the {@code hour}, {@code minute}, {@code second}, and {@code nano} from the {@code time}. We do this by manually
  * parsing a JSON representation of the {@link LocalDateTime} in the following format:
  * <pre>
  * {
@@ -52,13 +52,14 @@ import java.time.LocalDateTime;
  * </pre>
  *
  * <p>
- * For the {@link JsonSerializer}, we do the reverse and build up the same JSON output.
+ * When writing, we do the reverse and build up the same JSON output. Both directions stream the values directly, rather than building an
+ * intermediate {@link com.google.gson.JsonObject}, since this is used for every {@link LocalDateTime} in every response.
  *
  * <p>
  * <b>NOTE:</b> I'm not a huge fan of this existing in the API module, since it forces a dependency on {@code Gson}.
  * However, it made less sense to implement this in the two places that need it (client library and REST endpoints), so this was the compromise.
  */
-public final class LocalDateTimeGsonTypeAdapter implements JsonDeserializer<LocalDateTime>, JsonSerializer<LocalDateTime> {
+public final class LocalDateTimeGsonTypeAdapter extends TypeAdapter<LocalDateTime> {
 
     private static final LocalDateTimeGsonTypeAdapter INSTANCE = new LocalDateTimeGsonTypeAdapter();
 
@@ -76,39 +77,70 @@ public final class LocalDateTimeGsonTypeAdapter implements JsonDeserializer<Loca
     }
 
     @Override
-    public LocalDateTime deserialize(final JsonElement jsonElement, final Type type, final JsonDeserializationContext jsonDeserializationContext) {
-        final JsonObject date = jsonElement.getAsJsonObject().get("date").getAsJsonObject();
-        final JsonObject time = jsonElement.getAsJsonObject().get("time").getAsJsonObject();
+    public @Nullable LocalDateTime read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
 
-        final int year = date.get("year").getAsInt();
-        final int month = date.get("month").getAsInt();
-        final int dayOfMonth = date.get("day").getAsInt();
+        int year = -1;
+        int month = -1;
+        int dayOfMonth = -1;
+        int hour = -1;
+        int minute = -1;
+        int second = -1;
+        int nano = -1;
 
-        final int hour = time.get("hour").getAsInt();
-        final int minute = time.get("minute").getAsInt();
-        final int second = time.get("second").getAsInt();
-        final int nano = time.get("nano").getAsInt();
+        in.beginObject();
+        while (in.hasNext()) {
+            final String name = in.nextName();
+            in.beginObject();
+            while (in.hasNext()) {
+                final String field = name + '.' + in.nextName();
+                switch (field) {
+                    case "date.year" -> year = in.nextInt();
+                    case "date.month" -> month = in.nextInt();
+                    case "date.day" -> dayOfMonth = in.nextInt();
+                    case "time.hour" -> hour = in.nextInt();
+                    case "time.minute" -> minute = in.nextInt();
+                    case "time.second" -> second = in.nextInt();
+                    case "time.nano" -> nano = in.nextInt();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+        in.endObject();
+
+        if (year < 0 || month < 0 || dayOfMonth < 0 || hour < 0 || minute < 0 || second < 0 || nano < 0) {
+            throw new JsonParseException("Missing 'date' or 'time' value for LocalDateTime at " + in.getPath());
+        }
 
         return LocalDateTime.of(year, month, dayOfMonth, hour, minute, second, nano);
     }
 
     @Override
-    public JsonElement serialize(final LocalDateTime t, final Type type, final JsonSerializationContext jsonSerializationContext) {
-        final JsonObject output = new JsonObject();
-
-        final JsonObject date = new JsonObject();
-        date.addProperty("year", t.getYear());
-        date.addProperty("month", t.getMonthValue());
-        date.addProperty("day", t.getDayOfMonth());
-
-        final JsonObject time = new JsonObject();
-        time.addProperty("hour", t.getHour());
-        time.addProperty("minute", t.getMinute());
-        time.addProperty("second", t.getSecond());
-        time.addProperty("nano", t.getNano());
-
-        output.add("date", date);
-        output.add("time", time);
-        return output;
+    public void write(final JsonWriter out, final @Nullable LocalDateTime localDateTime) throws IOException {
+        if (localDateTime == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+
+        out.name("date").beginObject();
+        out.name("year").value(localDateTime.getYear());
+        out.name("month").value(localDateTime.getMonthValue());
+        out.name("day").value(localDateTime.getDayOfMonth());
+        out.endObject();
+
+        out.name("time").beginObject();
+        out.name("hour").value(localDateTime.getHour());
+        out.name("minute").value(localDateTime.getMinute());
+        out.name("second").value(localDateTime.getSecond());
+        out.name("nano").value(localDateTime.getNano());
+        out.endObject();
+
+        out.endObject();
     }
 }
@@ -34,10 +34,12 @@ public final class RestUtilConstants {
      *     <li>Pretty-printing enabled</li>
      *     <li>HTML escaping disabled</li>
      *     <li>Custom {@link LocalDateTimeGsonTypeAdapter} for {@link LocalDateTime}</li>
+     *     <li>Custom {@link StreamingGsonTypeAdapterFactory} for the stats response objects</li>
      * </ul>
      */
     public static final Gson GSON = new GsonBuilder()
         .registerTypeAdapter(LocalDateTime.class, LocalDateTimeGsonTypeAdapter.getInstance())
+        .registerTypeAdapterFactory(StreamingGsonTypeAdapterFactory.getInstance())
         .setPrettyPrinting()
         .disableHtmlEscaping()
         .create();
@@ -0,0 +1,459 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.rest.api.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import net.zodac.folding.api.tc.Category;
+import net.zodac.folding.api.tc.Hardware;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.result.MonthlyResult;
+import net.zodac.folding.rest.api.tc.AllTeamsSummary;
+import net.zodac.folding.rest.api.tc.CompetitionSummary;
+import net.zodac.folding.rest.api.tc.RetiredUserSummary;
+import net.zodac.folding.rest.api.tc.TeamSummary;
+import net.zodac.folding.rest.api.tc.UserSummary;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.leaderboard.TeamLeaderboardEntry;
+import net.zodac.folding.rest.api.tc.leaderboard.UserCategoryLeaderboardEntry;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link TypeAdapterFactory} providing hand-written streaming {@link TypeAdapter}s for the most frequently serialized response objects, such as
+ * {@link AllTeamsSummary}, {@link HistoricStats} and {@link MonthlyResult}. To be used with
+ * {@link com.google.gson.GsonBuilder#registerTypeAdapterFactory(TypeAdapterFactory)}.
+ *
+ * <p>
+ * The reflection-based serialization provided by {@link Gson} by default looks up and sets each field reflectively, which is a noticeable cost
+ * when serializing the full stats on every request. These {@link TypeAdapter}s write each field directly to the {@link JsonWriter}, producing the
+ * same JSON output (including omitting {@code null} values unless {@link com.google.gson.GsonBuilder#serializeNulls()} is set).
+ *
+ * <p>
+ * {@link HistoricStats} and {@link MonthlyResult} (which is read from the DB for every monthly result request) are also read directly from the
+ * {@link JsonReader}. All other types are read using the default {@link Gson} implementation.
+ */
+public final class StreamingGsonTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final StreamingGsonTypeAdapterFactory INSTANCE = new StreamingGsonTypeAdapterFactory();
+
+    private static final Map<Class<?>, FieldWriter<?>> FIELD_WRITERS = Map.ofEntries(
+        Map.entry(AllTeamsSummary.class, (FieldWriter<AllTeamsSummary>) StreamingGsonTypeAdapterFactory::writeAllTeamsSummary),
+        Map.entry(CompetitionSummary.class, (FieldWriter<CompetitionSummary>) StreamingGsonTypeAdapterFactory::writeCompetitionSummary),
+        Map.entry(TeamSummary.class, (FieldWriter<TeamSummary>) StreamingGsonTypeAdapterFactory::writeTeamSummary),
+        Map.entry(UserSummary.class, (FieldWriter<UserSummary>) StreamingGsonTypeAdapterFactory::writeUserSummary),
+        Map.entry(RetiredUserSummary.class, (FieldWriter<RetiredUserSummary>) StreamingGsonTypeAdapterFactory::writeRetiredUserSummary),
+        Map.entry(Team.class, (FieldWriter<Team>) StreamingGsonTypeAdapterFactory::writeTeam),
+        Map.entry(User.class, (FieldWriter<User>) StreamingGsonTypeAdapterFactory::writeUser),
+        Map.entry(Hardware.class, (FieldWriter<Hardware>) StreamingGsonTypeAdapterFactory::writeHardware),
+        Map.entry(HistoricStats.class, (FieldWriter<HistoricStats>) StreamingGsonTypeAdapterFactory::writeHistoricStats),
+        Map.entry(MonthlyResult.class, (FieldWriter<MonthlyResult>) StreamingGsonTypeAdapterFactory::writeMonthlyResult),
+        Map.entry(TeamLeaderboardEntry.class, (FieldWriter<TeamLeaderboardEntry>) StreamingGsonTypeAdapterFactory::writeTeamLeaderboardEntry),
+        Map.entry(UserCategoryLeaderboardEntry.class,
+            (FieldWriter<UserCategoryLeaderboardEntry>) StreamingGsonTypeAdapterFactory::writeUserCategoryLeaderboardEntry)
+    );
+
+    private static final Map<Class<?>, ValueReader<?>> VALUE_READERS = Map.of(
+        HistoricStats.class, (ValueReader<HistoricStats>) (_, in) -> readHistoricStats(in),
+        MonthlyResult.class, (ValueReader<MonthlyResult>) StreamingGsonTypeAdapterFactory::readMonthlyResult
+    );
+
+    private StreamingGsonTypeAdapterFactory() {
+
+    }
+
+    /**
+     * Return a singleton implementation of {@link StreamingGsonTypeAdapterFactory}.
+     *
+     * @return the {@link StreamingGsonTypeAdapterFactory} singleton instance
+     */
+    public static StreamingGsonTypeAdapterFactory getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable TypeAdapter<T> create(final Gson gson, final TypeToken<T> typeToken) {
+        final Class<? super T> rawType = typeToken.getRawType();
+        final FieldWriter<T> fieldWriter = (FieldWriter<T>) FIELD_WRITERS.get(rawType);
+        if (fieldWriter == null) {
+            return null;
+        }
+
+        final ValueReader<T> valueReader = (ValueReader<T>) VALUE_READERS.get(rawType);
+        if (valueReader != null) {
+            return new StreamingTypeAdapter<>(fieldWriter, in -> valueReader.read(gson, in));
+        }
+
+        final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, typeToken);
+        return new StreamingTypeAdapter<>(fieldWriter, delegate::read);
+    }
+
+    private static void writeAllTeamsSummary(final JsonWriter out, final AllTeamsSummary allTeamsSummary) throws IOException {
+        out.name("competitionSummary");
+        writeObject(out, allTeamsSummary.competitionSummary(), StreamingGsonTypeAdapterFactory::writeCompetitionSummary);
+        out.name("teams");
+        writeArray(out, allTeamsSummary.teams(), StreamingGsonTypeAdapterFactory::writeTeamSummary);
+    }
+
+    private static void writeCompetitionSummary(final JsonWriter out, final CompetitionSummary competitionSummary) throws IOException {
+        out.name("totalPoints").value(competitionSummary.totalPoints());
+        out.name("totalMultipliedPoints").value(competitionSummary.totalMultipliedPoints());
+        out.name("totalUnits").value(competitionSummary.totalUnits());
+    }
+
+    private static void writeTeamSummary(final JsonWriter out, final TeamSummary teamSummary) throws IOException {
+        out.name("team");
+        writeObject(out, teamSummary.team(), StreamingGsonTypeAdapterFactory::writeTeam);
+        out.name("captainName").value(teamSummary.captainName());
+        out.name("teamPoints").value(teamSummary.teamPoints());
+        out.name("teamMultipliedPoints").value(teamSummary.teamMultipliedPoints());
+        out.name("teamUnits").value(teamSummary.teamUnits());
+        out.name("rank").value(teamSummary.rank());
+        out.name("activeUsers");
+        writeArray(out, teamSummary.activeUsers(), StreamingGsonTypeAdapterFactory::writeUserSummary);
+        out.name("retiredUsers");
+        writeArray(out, teamSummary.retiredUsers(), StreamingGsonTypeAdapterFactory::writeRetiredUserSummary);
+    }
+
+    private static void writeUserSummary(final JsonWriter out, final UserSummary userSummary) throws IOException {
+        out.name("user");
+        writeObject(out, userSummary.user(), StreamingGsonTypeAdapterFactory::writeUser);
+        out.name("points").value(userSummary.points());
+        out.name("multipliedPoints").value(userSummary.multipliedPoints());
+        out.name("units").value(userSummary.units());
+        out.name("rankInTeam").value(userSummary.rankInTeam());
+    }
+
+    private static void writeRetiredUserSummary(final JsonWriter out, final RetiredUserSummary retiredUserSummary) throws IOException {
+        out.name("id").value(retiredUserSummary.id());
+        out.name("displayName").value(retiredUserSummary.displayName());
+        out.name("points").value(retiredUserSummary.points());
+        out.name("multipliedPoints").value(retiredUserSummary.multipliedPoints());
+        out.name("units").value(retiredUserSummary.units());
+        out.name("rankInTeam").value(retiredUserSummary.rankInTeam());
+    }
+
+    private static void writeTeam(final JsonWriter out, final Team team) throws IOException {
+        out.name("id").value(team.id());
+        out.name("teamName").value(team.teamName());
+        out.name("teamDescription").value(team.teamDescription());
+        out.name("forumLink").value(team.forumLink());
+    }
+
+    private static void writeUser(final JsonWriter out, final User user) throws IOException {
+        out.name("id").value(user.id());
+        out.name("foldingUserName").value(user.foldingUserName());
+        out.name("displayName").value(user.displayName());
+        out.name("passkey").value(user.passkey());
+        out.name("category").value(user.category().name());
+        out.name("profileLink").value(user.profileLink());
+        out.name("liveStatsLink").value(user.liveStatsLink());
+        out.name("hardware");
+        writeObject(out, user.hardware(), StreamingGsonTypeAdapterFactory::writeHardware);
+        out.name("team");
+        writeObject(out, user.team(), StreamingGsonTypeAdapterFactory::writeTeam);
+        out.name("role").value(user.role().name());
+    }
+
+    private static void writeHardware(final JsonWriter out, final Hardware hardware) throws IOException {
+        out.name("id").value(hardware.id());
+        out.name("hardwareName").value(hardware.hardwareName());
+        out.name("displayName").value(hardware.displayName());
+        out.name("hardwareMake").value(hardware.hardwareMake().name());
+        out.name("hardwareType").value(hardware.hardwareType().name());
+        out.name("multiplier").value(hardware.multiplier());
+        out.name("averagePpd").value(hardware.averagePpd());
+    }
+
+    private static void writeHistoricStats(final JsonWriter out, final HistoricStats historicStats) throws IOException {
+        out.name("dateTime");
+        LocalDateTimeGsonTypeAdapter.getInstance().write(out, historicStats.dateTime());
+        out.name("points").value(historicStats.points());
+        out.name("multipliedPoints").value(historicStats.multipliedPoints());
+        out.name("units").value(historicStats.units());
+    }
+
+    private static void writeMonthlyResult(final JsonWriter out, final MonthlyResult monthlyResult) throws IOException {
+        out.name("teamLeaderboard");
+        writeArray(out, monthlyResult.teamLeaderboard(), StreamingGsonTypeAdapterFactory::writeTeamLeaderboardEntry);
+
+        out.name("userCategoryLeaderboard").beginObject();
+        for (final var categoryLeaderboard : monthlyResult.userCategoryLeaderboard().entrySet()) {
+            out.name(categoryLeaderboard.getKey().name());
+            writeArray(out, categoryLeaderboard.getValue(), StreamingGsonTypeAdapterFactory::writeUserCategoryLeaderboardEntry);
+        }
+        out.endObject();
+
+        out.name("utcTimestamp");
+        LocalDateTimeGsonTypeAdapter.getInstance().write(out, monthlyResult.utcTimestamp());
+    }
+
+    private static void writeTeamLeaderboardEntry(final JsonWriter out, final TeamLeaderboardEntry teamLeaderboardEntry) throws IOException {
+        out.name("team");
+        writeObject(out, teamLeaderboardEntry.team(), StreamingGsonTypeAdapterFactory::writeTeam);
+        out.name("teamPoints").value(teamLeaderboardEntry.teamPoints());
+        out.name("teamMultipliedPoints").value(teamLeaderboardEntry.teamMultipliedPoints());
+        out.name("teamUnits").value(teamLeaderboardEntry.teamUnits());
+        out.name("rank").value(teamLeaderboardEntry.rank());
+        out.name("diffToLeader").value(teamLeaderboardEntry.diffToLeader());
+        out.name("diffToNext").value(teamLeaderboardEntry.diffToNext());
+    }
+
+    private static void writeUserCategoryLeaderboardEntry(final JsonWriter out, final UserCategoryLeaderboardEntry userCategoryLeaderboardEntry)
+        throws IOException {
+        out.name("user");
+        writeObject(out, userCategoryLeaderboardEntry.user(), StreamingGsonTypeAdapterFactory::writeUser);
+        out.name("points").value(userCategoryLeaderboardEntry.points());
+        out.name("multipliedPoints").value(userCategoryLeaderboardEntry.multipliedPoints());
+        out.name("units").value(userCategoryLeaderboardEntry.units());
+        out.name("rank").value(userCategoryLeaderboardEntry.rank());
+        out.name("diffToLeader").value(userCategoryLeaderboardEntry.diffToLeader());
+        out.name("diffToNext").value(userCategoryLeaderboardEntry.diffToNext());
+    }
+
+    private static HistoricStats readHistoricStats(final JsonReader in) throws IOException {
+        LocalDateTime dateTime = null;
+        long points = 0L;
+        long multipliedPoints = 0L;
+        int units = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "dateTime" -> dateTime = LocalDateTimeGsonTypeAdapter.getInstance().read(in);
+                case "points" -> points = in.nextLong();
+                case "multipliedPoints" -> multipliedPoints = in.nextLong();
+                case "units" -> units = in.nextInt();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (dateTime == null) {
+            throw new JsonParseException("Missing 'dateTime' for HistoricStats at " + in.getPath());
+        }
+        return new HistoricStats(dateTime, points, multipliedPoints, units);
+    }
+
+    private static MonthlyResult readMonthlyResult(final Gson gson, final JsonReader in) throws IOException {
+        List<TeamLeaderboardEntry> teamLeaderboard = List.of();
+        final Map<Category, List<UserCategoryLeaderboardEntry>> userCategoryLeaderboard = new EnumMap<>(Category.class);
+        LocalDateTime utcTimestamp = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "teamLeaderboard" -> teamLeaderboard = readArray(gson, in, StreamingGsonTypeAdapterFactory::readTeamLeaderboardEntry);
+                case "userCategoryLeaderboard" -> {
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        final Category category = Category.get(in.nextName());
+                        userCategoryLeaderboard.put(category, readArray(gson, in, StreamingGsonTypeAdapterFactory::readUserCategoryLeaderboardEntry));
+                    }
+                    in.endObject();
+                }
+                case "utcTimestamp" -> utcTimestamp = LocalDateTimeGsonTypeAdapter.getInstance().read(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (utcTimestamp == null) {
+            throw new JsonParseException("Missing 'utcTimestamp' for MonthlyResult at " + in.getPath());
+        }
+        return new MonthlyResult(teamLeaderboard, userCategoryLeaderboard, utcTimestamp);
+    }
+
+    private static TeamLeaderboardEntry readTeamLeaderboardEntry(final Gson gson, final JsonReader in) throws IOException {
+        Team team = null;
+        long teamPoints = 0L;
+        long teamMultipliedPoints = 0L;
+        int teamUnits = 0;
+        int rank = 0;
+        long diffToLeader = 0L;
+        long diffToNext = 0L;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "team" -> team = gson.getAdapter(Team.class).read(in);
+                case "teamPoints" -> teamPoints = in.nextLong();
+                case "teamMultipliedPoints" -> teamMultipliedPoints = in.nextLong();
+                case "teamUnits" -> teamUnits = in.nextInt();
+                case "rank" -> rank = in.nextInt();
+                case "diffToLeader" -> diffToLeader = in.nextLong();
+                case "diffToNext" -> diffToNext = in.nextLong();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (team == null) {
+            throw new JsonParseException("Missing 'team' for TeamLeaderboardEntry at " + in.getPath());
+        }
+        return new TeamLeaderboardEntry(team, teamPoints, teamMultipliedPoints, teamUnits, rank, diffToLeader, diffToNext);
+    }
+
+    private static UserCategoryLeaderboardEntry readUserCategoryLeaderboardEntry(final Gson gson, final JsonReader in) throws IOException {
+        User user = null;
+        long points = 0L;
+        long multipliedPoints = 0L;
+        int units = 0;
+        int rank = 0;
+        long diffToLeader = 0L;
+        long diffToNext = 0L;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "user" -> user = gson.getAdapter(User.class).read(in);
+                case "points" -> points = in.nextLong();
+                case "multipliedPoints" -> multipliedPoints = in.nextLong();
+                case "units" -> units = in.nextInt();
+                case "rank" -> rank = in.nextInt();
+                case "diffToLeader" -> diffToLeader = in.nextLong();
+                case "diffToNext" -> diffToNext = in.nextLong();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (user == null) {
+            throw new JsonParseException("Missing 'user' for UserCategoryLeaderboardEntry at " + in.getPath());
+        }
+        return new UserCategoryLeaderboardEntry(user, points, multipliedPoints, units, rank, diffToLeader, diffToNext);
+    }
+
+    private static <T> void writeObject(final JsonWriter out, final @Nullable T value, final FieldWriter<T> fieldWriter) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        fieldWriter.write(out, value);
+        out.endObject();
+    }
+
+    private static <T> void writeArray(final JsonWriter out, final @Nullable Collection<T> values, final FieldWriter<T> fieldWriter)
+        throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginArray();
+        for (final T value : values) {
+            writeObject(out, value, fieldWriter);
+        }
+        out.endArray();
+    }
+
+    private static <T> List<T> readArray(final Gson gson, final JsonReader in, final ValueReader<T> valueReader) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return List.of();
+        }
+
+        final List<T> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(valueReader.read(gson, in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    /**
+     * Writes the fields of a non-null value, between the opening and closing of its JSON object.
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    private interface FieldWriter<T> {
+
+        void write(JsonWriter out, T value) throws IOException;
+    }
+
+    /**
+     * Reads a non-null value from its JSON representation.
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    private interface ValueReader<T> {
+
+        T read(Gson gson, JsonReader in) throws IOException;
+    }
+
+    /**
+     * Reads a value from its JSON representation, once any JSON {@code null} has already been handled.
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    private interface DelegateReader<T> {
+
+        @Nullable
+        T read(JsonReader in) throws IOException;
+    }
+
+    /**
+     * {@link TypeAdapter} writing a value using a {@link FieldWriter} and reading a value using a {@link DelegateReader}, with {@code null}
+     * values handled the same way as the default {@link Gson} implementation.
+     *
+     * @param <T> the type of the value
+     */
+    private static final class StreamingTypeAdapter<T> extends TypeAdapter<T> {
+
+        private final FieldWriter<T> fieldWriter;
+        private final DelegateReader<T> delegateReader;
+
+        StreamingTypeAdapter(final FieldWriter<T> fieldWriter, final DelegateReader<T> delegateReader) {
+            this.fieldWriter = fieldWriter;
+            this.delegateReader = delegateReader;
+        }
+
+        @Override
+        public void write(final JsonWriter out, final @Nullable T value) throws IOException {
+            writeObject(out, value, fieldWriter);
+        }
+
+        @Override
+        public @Nullable T read(final JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return delegateReader.read(in);
+        }
+    }
+}
@@ -29,16 +29,21 @@ class SystemStateTest {
 
     @ParameterizedTest
     @CsvSource({
-        "AVAILABLE,false,false",
-        "WRITE_EXECUTED,false,false",
-        "RESETTING_STATS,true,true",
-        "STARTING,true,true",
-        "UPDATING_STATS,false,true",
+        "AVAILABLE,false,false,false,false",
+        "WRITE_EXECUTED,false,false,false,false",
+        "RESETTING_STATS,true,false,true,true",
+        "STARTING,true,true,true,false",
+        "UPDATING_STATS,false,false,true,true",
     })
-    void testSystemStates(final SystemState input, final boolean isReadBlocked, final boolean isWriteBlocked) {
+    void testSystemStates(final SystemState input, final boolean isReadBlocked, final boolean isSnapshotReadBlocked, final boolean isWriteBlocked,
+                          final boolean isStatsWriteInProgress) {
         assertThat(input.isReadBlocked())
             .isEqualTo(isReadBlocked);
+        assertThat(input.isSnapshotReadBlocked())
+            .isEqualTo(isSnapshotReadBlocked);
         assertThat(input.isWriteBlocked())
             .isEqualTo(isWriteBlocked);
+        assertThat(input.isStatsWriteInProgress())
+            .isEqualTo(isStatsWriteInProgress);
     }
 }
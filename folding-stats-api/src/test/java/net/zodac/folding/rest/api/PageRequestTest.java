@@ -0,0 +1,78 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.rest.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PageRequest}.
+ */
+class PageRequestTest {
+
+    @Test
+    void testFromQueryParameters() {
+        final PageRequest pageRequest = PageRequest.fromQueryParameters(5, 10, "hardwareName, multiplier,,");
+
+        assertThat(pageRequest.cursor())
+            .isEqualTo(5);
+        assertThat(pageRequest.limit())
+            .isEqualTo(10);
+        assertThat(pageRequest.fields())
+            .containsExactlyInAnyOrder("hardwareName", "multiplier");
+        assertThat(pageRequest.isUnpaginated())
+            .isFalse();
+    }
+
+    @Test
+    void testFromQueryParameters_defaultValues() {
+        final PageRequest pageRequest = PageRequest.fromQueryParameters(0, 0, "");
+
+        assertThat(pageRequest)
+            .isEqualTo(PageRequest.all());
+        assertThat(pageRequest.isUnpaginated())
+            .isTrue();
+        assertThat(pageRequest.toQueryParameters())
+            .isEmpty();
+    }
+
+    @Test
+    void testCreate_negativeValues() {
+        final PageRequest pageRequest = PageRequest.create(-1, -5, Set.of());
+
+        assertThat(pageRequest.cursor())
+            .isZero();
+        assertThat(pageRequest.limit())
+            .isZero();
+    }
+
+    @Test
+    void testToQueryParameters() {
+        final PageRequest pageRequest = PageRequest.create(3, 2, List.of("teamName", "forumLink"));
+
+        assertThat(pageRequest.toQueryParameters())
+            .containsExactly(
+                entry(PageRequest.CURSOR_PARAMETER, 3),
+                entry(PageRequest.LIMIT_PARAMETER, 2),
+                entry(PageRequest.FIELDS_PARAMETER, "forumLink,teamName")
+            );
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.api.tc.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import net.zodac.folding.api.tc.Category;
+import net.zodac.folding.api.tc.Hardware;
+import net.zodac.folding.api.tc.HardwareMake;
+import net.zodac.folding.api.tc.HardwareType;
+import net.zodac.folding.api.tc.Role;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.rest.api.tc.AllTeamsSummary;
+import net.zodac.folding.rest.api.tc.TeamSummary;
+import net.zodac.folding.rest.api.tc.UserSummary;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StatsUpdate}.
+ */
+class StatsUpdateTest {
+
+    private static final Hardware HARDWARE = Hardware.create(1, "hardware", "hardware", HardwareMake.AMD, HardwareType.GPU, 1.0D, 1L);
+
+    @Test
+    void testFull() {
+        final Team team = createTeam(1);
+        final StatsSnapshot snapshot = StatsSnapshot.create(AllTeamsSummary.create(List.of(
+            createTeamSummary(team, createUserSummary(1, team, Category.AMD_GPU, 10), createUserSummary(2, team, Category.NVIDIA_GPU, 20))
+        )));
+
+        final StatsUpdate statsUpdate = StatsUpdate.full(snapshot);
+
+        assertThat(statsUpdate.teams())
+            .containsExactly(new RankedStats(1, 1, 150L, 15_000L, 30));
+        assertThat(statsUpdate.users())
+            .containsExactly(
+                new RankedStats(1, 1, 50L, 5_000L, 10),
+                new RankedStats(2, 1, 100L, 10_000L, 20)
+            );
+    }
+
+    @Test
+    void testBetween_onlyChangedTeamsAndUsers() {
+        final Team team1 = createTeam(1);
+        final Team team2 = createTeam(2);
+
+        final StatsSnapshot previous = StatsSnapshot.create(AllTeamsSummary.create(List.of(
+            createTeamSummary(team1, createUserSummary(1, team1, Category.AMD_GPU, 20), createUserSummary(2, team1, Category.NVIDIA_GPU, 5)),
+            createTeamSummary(team2, createUserSummary(3, team2, Category.AMD_GPU, 10), createUserSummary(4, team2, Category.NVIDIA_GPU, 1))
+        )));
+
+        // User 3 overtakes user 1 in their category, which moves team 2 ahead of team 1
+        final StatsSnapshot current = StatsSnapshot.create(AllTeamsSummary.create(List.of(
+            createTeamSummary(team1, createUserSummary(1, team1, Category.AMD_GPU, 20), createUserSummary(2, team1, Category.NVIDIA_GPU, 5)),
+            createTeamSummary(team2, createUserSummary(3, team2, Category.AMD_GPU, 30), createUserSummary(4, team2, Category.NVIDIA_GPU, 1))
+        )));
+
+        final StatsUpdate statsUpdate = StatsUpdate.between(previous, current);
+
+        assertThat(statsUpdate.teams())
+            .containsExactly(
+                new RankedStats(2, 1, 155L, 15_500L, 31),
+                new RankedStats(1, 2, 125L, 12_500L, 25)
+            );
+        assertThat(statsUpdate.users())
+            .containsExactly(
+                new RankedStats(3, 1, 150L, 15_000L, 30),
+                new RankedStats(1, 2, 100L, 10_000L, 20)
+            );
+    }
+
+    @Test
+    void testBetween_noChanges() {
+        final Team team = createTeam(1);
+        final AllTeamsSummary allTeamsSummary = AllTeamsSummary.create(List.of(
+            createTeamSummary(team, createUserSummary(1, team, Category.AMD_GPU, 10))
+        ));
+
+        final StatsUpdate statsUpdate = StatsUpdate.between(StatsSnapshot.create(allTeamsSummary), StatsSnapshot.create(allTeamsSummary));
+
+        assertThat(statsUpdate.isEmpty())
+            .isTrue();
+    }
+
+    private static Team createTeam(final int teamId) {
+        return Team.create(teamId, "team" + teamId, "teamDescription", "https://google.com");
+    }
+
+    private static TeamSummary createTeamSummary(final Team team, final UserSummary... userSummaries) {
+        return TeamSummary.createWithDefaultRank(team, "captain", List.of(userSummaries), List.of());
+    }
+
+    private static UserSummary createUserSummary(final int userId, final Team team, final Category category, final int units) {
+        final User user = User.create(userId, "user" + userId, "user" + userId, "passkey", category, "", "", HARDWARE, team, Role.MEMBER);
+        return UserSummary.create(user, units * 5L, units * 500L, units, 1);
+    }
+}
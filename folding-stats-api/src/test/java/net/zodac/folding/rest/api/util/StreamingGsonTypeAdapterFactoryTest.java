@@ -0,0 +1,143 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.rest.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import net.zodac.folding.api.tc.Category;
+import net.zodac.folding.api.tc.Hardware;
+import net.zodac.folding.api.tc.HardwareMake;
+import net.zodac.folding.api.tc.HardwareType;
+import net.zodac.folding.api.tc.Role;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.result.MonthlyResult;
+import net.zodac.folding.rest.api.tc.AllTeamsSummary;
+import net.zodac.folding.rest.api.tc.RetiredUserSummary;
+import net.zodac.folding.rest.api.tc.TeamSummary;
+import net.zodac.folding.rest.api.tc.UserSummary;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.leaderboard.TeamLeaderboardEntry;
+import net.zodac.folding.rest.api.tc.leaderboard.UserCategoryLeaderboardEntry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StreamingGsonTypeAdapterFactory}.
+ */
+class StreamingGsonTypeAdapterFactoryTest {
+
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2021, 5, 12, 13, 0, 0, 0);
+
+    private static final Gson REFLECTIVE_GSON = new GsonBuilder()
+        .registerTypeAdapter(LocalDateTime.class, LocalDateTimeGsonTypeAdapter.getInstance())
+        .disableHtmlEscaping()
+        .create();
+
+    private static final Gson STREAMING_GSON = new GsonBuilder()
+        .registerTypeAdapter(LocalDateTime.class, LocalDateTimeGsonTypeAdapter.getInstance())
+        .registerTypeAdapterFactory(StreamingGsonTypeAdapterFactory.getInstance())
+        .disableHtmlEscaping()
+        .create();
+
+    @Test
+    void testWrite_allTeamsSummary() {
+        final AllTeamsSummary allTeamsSummary = AllTeamsSummary.create(List.of(createTeamSummary(null), createTeamSummary("captain")));
+
+        assertThat(STREAMING_GSON.toJson(allTeamsSummary))
+            .isEqualTo(REFLECTIVE_GSON.toJson(allTeamsSummary));
+    }
+
+    @Test
+    void testWrite_historicStats() {
+        final List<HistoricStats> historicStats = List.of(HistoricStats.create(DATE_TIME, 100L, 200L, 3), HistoricStats.create(DATE_TIME, 0L, 0L, 0));
+
+        assertThat(STREAMING_GSON.toJson(historicStats))
+            .isEqualTo(REFLECTIVE_GSON.toJson(historicStats));
+    }
+
+    @Test
+    void testWrite_monthlyResult() {
+        final MonthlyResult monthlyResult = createMonthlyResult();
+
+        assertThat(STREAMING_GSON.toJson(monthlyResult))
+            .isEqualTo(REFLECTIVE_GSON.toJson(monthlyResult));
+    }
+
+    @Test
+    void testWrite_nullValue() {
+        assertThat(STREAMING_GSON.toJson(null, AllTeamsSummary.class))
+            .isEqualTo("null");
+    }
+
+    @Test
+    void testRead_historicStats() {
+        final HistoricStats historicStats = HistoricStats.create(DATE_TIME, 100L, 200L, 3);
+        final String json = REFLECTIVE_GSON.toJson(historicStats);
+
+        assertThat(STREAMING_GSON.fromJson(json, HistoricStats.class))
+            .isEqualTo(historicStats);
+    }
+
+    @Test
+    void testRead_monthlyResult() {
+        final MonthlyResult monthlyResult = createMonthlyResult();
+        final String json = REFLECTIVE_GSON.toJson(monthlyResult);
+
+        assertThat(STREAMING_GSON.fromJson(json, MonthlyResult.class))
+            .isEqualTo(REFLECTIVE_GSON.fromJson(json, MonthlyResult.class));
+    }
+
+    @Test
+    void testRead_allTeamsSummary() {
+        final AllTeamsSummary allTeamsSummary = AllTeamsSummary.create(List.of(createTeamSummary("captain")));
+        final String json = STREAMING_GSON.toJson(allTeamsSummary);
+
+        assertThat(STREAMING_GSON.fromJson(json, AllTeamsSummary.class))
+            .isEqualTo(REFLECTIVE_GSON.fromJson(json, AllTeamsSummary.class));
+    }
+
+    private static MonthlyResult createMonthlyResult() {
+        final TeamSummary teamSummary = createTeamSummary("captain");
+        final UserSummary userSummary = teamSummary.activeUsers().iterator().next();
+
+        final Map<Category, List<UserCategoryLeaderboardEntry>> userCategoryLeaderboard = new EnumMap<>(Category.class);
+        userCategoryLeaderboard.put(Category.NVIDIA_GPU, List.of(UserCategoryLeaderboardEntry.createLeader(userSummary)));
+        userCategoryLeaderboard.put(Category.AMD_GPU, List.of());
+
+        return MonthlyResult.create(List.of(TeamLeaderboardEntry.createLeader(teamSummary)), userCategoryLeaderboard, DATE_TIME);
+    }
+
+    private static TeamSummary createTeamSummary(final @Nullable String captainName) {
+        final Hardware hardware = Hardware.create(1, "hardware", "Hardware", HardwareMake.NVIDIA, HardwareType.GPU, 1.25D, 1_000L);
+        final Team team = Team.create(1, "team", null, "https://forum.com");
+        final User user = User.create(1, "user", "User", "passkey", Category.NVIDIA_GPU, null, "https://stats.com", hardware, team, Role.CAPTAIN);
+
+        return TeamSummary.createWithDefaultRank(
+            team,
+            captainName,
+            List.of(UserSummary.createWithDefaultRank(user, 100L, 125L, 10)),
+            List.of(RetiredUserSummary.create(2, "Retired \"User\" <b>", 50L, 60L, 5, 2))
+        );
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.client.java.request;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import net.zodac.folding.rest.api.exception.UnexpectedResponseException;
+import net.zodac.folding.rest.api.util.RestUtilConstants;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sends HTTP requests asynchronously, limiting the number of requests in-flight at any one time.
+ *
+ * <p>
+ * All requests are sent through a single {@link HttpClient} using {@link HttpClient.Version#HTTP_2}, so concurrent requests to the same server are
+ * multiplexed as separate streams over a shared connection rather than each opening their own. Requests above the concurrency limit are queued and
+ * sent in submission order as earlier requests complete, so callers can submit any number of requests without overwhelming the server.
+ *
+ * <p>
+ * Used by the {@code *Async} methods of the request senders, for example
+ * {@link TeamCompetitionStatsRequestSender#getStatsAsync(AsyncRequestDispatcher)}.
+ */
+public final class AsyncRequestDispatcher {
+
+    /**
+     * The default maximum number of requests in-flight at any one time.
+     */
+    public static final int DEFAULT_MAXIMUM_CONCURRENT_REQUESTS = 32;
+
+    private static final int SUCCESSFUL_STATUS_CODE_MINIMUM = 200;
+    private static final int SUCCESSFUL_STATUS_CODE_MAXIMUM = 299;
+    private static final AsyncRequestDispatcher INSTANCE = new AsyncRequestDispatcher(RestUtilConstants.HTTP_CLIENT,
+        DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, null);
+
+    private final HttpClient httpClient;
+    private final int maximumConcurrentRequests;
+    private final @Nullable ClientResponseCache responseCache;
+    private final Queue<Runnable> queuedRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    private AsyncRequestDispatcher(final HttpClient httpClient, final int maximumConcurrentRequests,
+                                   final @Nullable ClientResponseCache responseCache) {
+        this.httpClient = httpClient;
+        this.maximumConcurrentRequests = maximumConcurrentRequests;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Retrieve the shared instance of {@link AsyncRequestDispatcher}, which uses {@link RestUtilConstants#HTTP_CLIENT} (and therefore shares its
+     * connections with the synchronous requests), with up to {@value #DEFAULT_MAXIMUM_CONCURRENT_REQUESTS} requests in-flight at once.
+     *
+     * @return the shared {@link AsyncRequestDispatcher}
+     */
+    public static AsyncRequestDispatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates an {@link AsyncRequestDispatcher} with its own {@link HttpClient}.
+     *
+     * <p>
+     * The {@code executor} is used by the {@link HttpClient} to send requests and complete the returned {@link CompletableFuture}s, so any response
+     * parsing and dependent stages also run on it.
+     *
+     * @param maximumConcurrentRequests the maximum number of requests in-flight at once, must be positive
+     * @param executor                  the {@link Executor} used to send requests and process responses
+     * @return the created {@link AsyncRequestDispatcher}
+     * @throws IllegalArgumentException thrown if {@code maximumConcurrentRequests} is not positive
+     */
+    public static AsyncRequestDispatcher create(final int maximumConcurrentRequests, final Executor executor) {
+        return createWithResponseCache(maximumConcurrentRequests, executor, null);
+    }
+
+    /**
+     * Creates an {@link AsyncRequestDispatcher} with its own {@link HttpClient}, where <b>GET</b> responses are cached in the
+     * {@link ClientResponseCache}.
+     *
+     * <p>
+     * Callers do not need to track {@code ETag}s themselves: fresh responses are returned directly from the {@link ClientResponseCache}, and stale
+     * responses are revalidated with the server. Only requests that reach the server count towards {@code maximumConcurrentRequests}.
+     *
+     * @param maximumConcurrentRequests the maximum number of requests in-flight at once, must be positive
+     * @param executor                  the {@link Executor} used to send requests and process responses
+     * @param responseCache             the {@link ClientResponseCache} for <b>GET</b> responses
+     * @return the created {@link AsyncRequestDispatcher}
+     * @throws IllegalArgumentException thrown if {@code maximumConcurrentRequests} is not positive
+     */
+    public static AsyncRequestDispatcher create(final int maximumConcurrentRequests, final Executor executor,
+                                                final ClientResponseCache responseCache) {
+        return createWithResponseCache(maximumConcurrentRequests, executor, responseCache);
+    }
+
+    private static AsyncRequestDispatcher createWithResponseCache(final int maximumConcurrentRequests, final Executor executor,
+                                                                  final @Nullable ClientResponseCache responseCache) {
+        if (maximumConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("Maximum concurrent requests must be positive, found: " + maximumConcurrentRequests);
+        }
+
+        final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(10L))
+            .executor(executor)
+            .build();
+        return new AsyncRequestDispatcher(httpClient, maximumConcurrentRequests, responseCache);
+    }
+
+    /**
+     * Sends the {@link HttpRequest} asynchronously, returning the {@link HttpResponse} regardless of its status code.
+     *
+     * @param request the {@link HttpRequest} to send
+     * @return a {@link CompletableFuture} completed with the {@link HttpResponse}, or completed exceptionally if the request could not be sent
+     */
+    public CompletableFuture<HttpResponse<String>> send(final HttpRequest request) {
+        if (responseCache == null) {
+            return sendToServer(request);
+        }
+        return responseCache.send(request, this::sendToServer);
+    }
+
+    /**
+     * Sends the {@link HttpRequest} asynchronously, parsing a successful {@link HttpResponse} with the {@code responseParser}. Generally this will
+     * be one of the methods of the {@code *ResponseParser} classes.
+     *
+     * @param request        the {@link HttpRequest} to send
+     * @param responseParser the {@link Function} to parse a successful {@link HttpResponse}
+     * @param <T>            the type of the parsed response
+     * @return a {@link CompletableFuture} completed with the parsed response, or completed exceptionally with an
+     *     {@link UnexpectedResponseException} if the {@link HttpResponse} does not have a successful status code
+     */
+    public <T> CompletableFuture<T> send(final HttpRequest request, final Function<? super HttpResponse<String>, ? extends T> responseParser) {
+        return send(request)
+            .thenApply(response -> {
+                if (response.statusCode() < SUCCESSFUL_STATUS_CODE_MINIMUM || response.statusCode() > SUCCESSFUL_STATUS_CODE_MAXIMUM) {
+                    throw new CompletionException(new UnexpectedResponseException(response.statusCode(), response.body()));
+                }
+                return responseParser.apply(response);
+            });
+    }
+
+    /**
+     * The number of requests that have been sent, but have not yet completed.
+     *
+     * @return the number of in-flight requests
+     */
+    public int inFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * The number of requests waiting to be sent, because the maximum number of requests are already in-flight.
+     *
+     * @return the number of queued requests
+     */
+    public int queuedRequests() {
+        return queuedRequests.size();
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendToServer(final HttpRequest request) {
+        final CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+        queuedRequests.add(() -> sendInFlightRequest(request, result));
+        sendQueuedRequests();
+        return result;
+    }
+
+    private void sendInFlightRequest(final HttpRequest request, final CompletableFuture<HttpResponse<String>> result) {
+        try {
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, throwable) -> {
+                    completeInFlightRequest();
+
+                    if (throwable == null) {
+                        result.complete(response);
+                    } else {
+                        result.completeExceptionally(throwable);
+                    }
+                });
+        } catch (final RuntimeException e) {
+            completeInFlightRequest();
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void completeInFlightRequest() {
+        inFlightRequests.decrementAndGet();
+        sendQueuedRequests();
+    }
+
+    private void sendQueuedRequests() {
+        while (!queuedRequests.isEmpty()) {
+            final int currentInFlightRequests = inFlightRequests.get();
+            if (currentInFlightRequests >= maximumConcurrentRequests) {
+                return;
+            }
+
+            if (!inFlightRequests.compareAndSet(currentInFlightRequests, currentInFlightRequests + 1)) {
+                continue;
+            }
+
+            final Runnable queuedRequest = queuedRequests.poll();
+            if (queuedRequest == null) {
+                // Another thread took the last queued request, so release the slot and check the queue again
+                inFlightRequests.decrementAndGet();
+                continue;
+            }
+
+            queuedRequest.run();
+        }
+    }
+}
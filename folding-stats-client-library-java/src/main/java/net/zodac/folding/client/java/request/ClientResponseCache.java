@@ -0,0 +1,470 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.client.java.request;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.net.ssl.SSLSession;
+import net.zodac.folding.rest.api.header.RestHeader;
+import net.zodac.folding.rest.api.util.RestUtilConstants;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Client-side cache of successful <b>GET</b> responses, used to avoid retrieving unchanged responses from the server.
+ *
+ * <p>
+ * The body and {@code ETag} of each response are stored per URL. When the same URL is requested again:
+ * <ul>
+ *     <li>If the response is still within the {@code max-age} of its {@code Cache-Control} header, it is returned without contacting the
+ *     server</li>
+ *     <li>Otherwise, the request is sent with an {@code If-None-Match} header, and if the server responds with <b>304 Not Modified</b>, the cached
+ *     response is returned (with its {@code max-age} refreshed)</li>
+ * </ul>
+ *
+ * <p>
+ * Concurrent requests for the same URL that cannot be served from the cache are coalesced, so only a single request is sent to the server and
+ * its response is shared by all callers.
+ *
+ * <p>
+ * Requests with an {@code Authorization} header, or where the caller has already set an {@code If-None-Match} header, are never cached. The
+ * cache is bounded by the (approximate) size of the cached bodies, with the least-recently used responses evicted first.
+ *
+ * <p>
+ * Enabled by creating an {@link AsyncRequestDispatcher} with {@link AsyncRequestDispatcher#create(int, java.util.concurrent.Executor,
+ * ClientResponseCache)}, or a request sender with its {@code createWithUrl(String, ClientResponseCache)} method, for example
+ * {@link TeamCompetitionStatsRequestSender#createWithUrl(String, ClientResponseCache)}.
+ */
+public final class ClientResponseCache {
+
+    private static final String GET_METHOD = "GET";
+    private static final int OK_STATUS_CODE = 200;
+    private static final int NOT_MODIFIED_STATUS_CODE = 304;
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+    private static final String NO_CACHE_DIRECTIVE = "no-cache";
+    private static final String NO_STORE_DIRECTIVE = "no-store";
+    private static final long MAXIMUM_AGE_SECONDS = TimeUnit.NANOSECONDS.toSeconds(Long.MAX_VALUE / 2);
+
+    private final long maximumSizeBytes;
+    private final Lock lock = new ReentrantLock();
+    private final Map<URI, CachedResponse> cachedResponses = new LinkedHashMap<>(16, 0.75F, true);
+    private final Map<URI, CompletableFuture<HttpResponse<String>>> inFlightResponses = new HashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private long currentSizeBytes;
+
+    private ClientResponseCache(final long maximumSizeBytes) {
+        this.maximumSizeBytes = maximumSizeBytes;
+    }
+
+    /**
+     * Creates an empty {@link ClientResponseCache}.
+     *
+     * @param maximumSizeBytes the maximum total size of the cached response bodies, in bytes, must be positive
+     * @return the created {@link ClientResponseCache}
+     * @throws IllegalArgumentException thrown if {@code maximumSizeBytes} is not positive
+     */
+    public static ClientResponseCache create(final long maximumSizeBytes) {
+        if (maximumSizeBytes <= 0L) {
+            throw new IllegalArgumentException("Maximum cache size must be positive, found: " + maximumSizeBytes);
+        }
+        return new ClientResponseCache(maximumSizeBytes);
+    }
+
+    /**
+     * Returns the cached {@link HttpResponse} for the {@link HttpRequest} if it is still fresh, otherwise sends the {@link HttpRequest} (as a
+     * conditional request if a cached {@code ETag} exists) using the {@code requestSender}.
+     *
+     * <p>
+     * If a request for the same URL is already in-flight, no new request is sent, and the {@link HttpResponse} of the in-flight request is
+     * returned once it completes. A <b>304 Not Modified</b> response is never returned to the caller, the cached {@link HttpResponse} is returned
+     * in its place.
+     *
+     * @param request       the {@link HttpRequest} to send
+     * @param requestSender the {@link Function} used to send an {@link HttpRequest} to the server
+     * @return a {@link CompletableFuture} completed with the cached or retrieved {@link HttpResponse}
+     */
+    public CompletableFuture<HttpResponse<String>> send(final HttpRequest request,
+                                                        final Function<? super HttpRequest, CompletableFuture<HttpResponse<String>>> requestSender) {
+        if (!isCacheable(request)) {
+            return requestSender.apply(request);
+        }
+
+        final URI uri = request.uri();
+        final CompletableFuture<HttpResponse<String>> serverResponse = new CompletableFuture<>();
+        final @Nullable CachedResponse cachedResponse;
+
+        lock.lock();
+        try {
+            cachedResponse = cachedResponses.get(uri);
+            if (cachedResponse != null && cachedResponse.isFresh(System.nanoTime())) {
+                hitCount.incrementAndGet();
+                return CompletableFuture.completedFuture(cachedResponse.toHttpResponse(request));
+            }
+
+            final CompletableFuture<HttpResponse<String>> inFlightResponse = inFlightResponses.get(uri);
+            if (inFlightResponse != null) {
+                coalescedCount.incrementAndGet();
+                return inFlightResponse.copy();
+            }
+
+            inFlightResponses.put(uri, serverResponse);
+        } finally {
+            lock.unlock();
+        }
+
+        sendToServer(request, cachedResponse, requestSender)
+            .whenComplete((response, throwable) -> {
+                lock.lock();
+                try {
+                    inFlightResponses.remove(uri, serverResponse);
+                } finally {
+                    lock.unlock();
+                }
+
+                if (throwable == null) {
+                    serverResponse.complete(response);
+                } else {
+                    serverResponse.completeExceptionally(throwable);
+                }
+            });
+        return serverResponse.copy();
+    }
+
+    /**
+     * Synchronous equivalent of {@link #send(HttpRequest, Function)}, sending any request to the server with the {@link HttpClient}.
+     *
+     * @param request    the {@link HttpRequest} to send
+     * @param httpClient the {@link HttpClient} used to send an {@link HttpRequest} to the server
+     * @return the cached or retrieved {@link HttpResponse}
+     * @throws IOException          thrown if an error occurs sending the {@link HttpRequest}
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for the {@link HttpResponse}
+     */
+    public HttpResponse<String> send(final HttpRequest request, final HttpClient httpClient) throws IOException, InterruptedException {
+        try {
+            return send(request, requestToSend -> httpClient.sendAsync(requestToSend, HttpResponse.BodyHandlers.ofString())).get();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof final IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof final RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            cachedResponses.clear();
+            currentSizeBytes = 0L;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of requests served from the cache, either without contacting the server or after a <b>304 Not Modified</b> response.
+     *
+     * @return the number of cache hits
+     */
+    public long hitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * The number of cacheable requests where the full response had to be retrieved from the server.
+     *
+     * @return the number of cache misses
+     */
+    public long missCount() {
+        return missCount.get();
+    }
+
+    /**
+     * The number of requests that were not sent to the server, since a request for the same URL was already in-flight.
+     *
+     * @return the number of coalesced requests
+     */
+    public long coalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * The number of cached responses removed to keep the cache within its maximum size.
+     *
+     * @return the number of evictions
+     */
+    public long evictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * The number of responses currently cached.
+     *
+     * @return the number of cached responses
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return cachedResponses.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sends the {@link HttpRequest} with the {@link RestUtilConstants#HTTP_CLIENT}, through the {@code responseCache} if one is provided.
+     *
+     * @param responseCache the {@link ClientResponseCache}, or {@code null} if responses should not be cached
+     * @param request       the {@link HttpRequest} to send
+     * @return the cached or retrieved {@link HttpResponse}
+     * @throws IOException          thrown if an error occurs sending the {@link HttpRequest}
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for the {@link HttpResponse}
+     */
+    static HttpResponse<String> send(final @Nullable ClientResponseCache responseCache, final HttpRequest request)
+        throws IOException, InterruptedException {
+        if (responseCache == null) {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+        return responseCache.send(request, RestUtilConstants.HTTP_CLIENT);
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendToServer(
+        final HttpRequest request,
+        final @Nullable CachedResponse cachedResponse,
+        final Function<? super HttpRequest, CompletableFuture<HttpResponse<String>>> requestSender
+    ) {
+        final URI uri = request.uri();
+        final String entityTag = cachedResponse == null ? null : cachedResponse.entityTag();
+        if (cachedResponse == null || entityTag == null) {
+            return apply(requestSender, request)
+                .thenApply(response -> {
+                    missCount.incrementAndGet();
+                    store(uri, response);
+                    return response;
+                });
+        }
+
+        final HttpRequest conditionalRequest = HttpRequest.newBuilder(request, (_, _) -> true)
+            .header(RestHeader.IF_NONE_MATCH.headerName(), entityTag)
+            .build();
+
+        return apply(requestSender, conditionalRequest)
+            .thenApply(response -> {
+                if (response.statusCode() != NOT_MODIFIED_STATUS_CODE) {
+                    missCount.incrementAndGet();
+                    store(uri, response);
+                    return response;
+                }
+
+                hitCount.incrementAndGet();
+                final CacheDirectives cacheDirectives = CacheDirectives.parse(response.headers());
+                if (!cacheDirectives.noStore()) {
+                    put(uri, cachedResponse.withExpiry(cacheDirectives.expiresAtNanos(System.nanoTime())));
+                }
+                return cachedResponse.toHttpResponse(request);
+            });
+    }
+
+    private static CompletableFuture<HttpResponse<String>> apply(
+        final Function<? super HttpRequest, CompletableFuture<HttpResponse<String>>> requestSender, final HttpRequest request) {
+        try {
+            return requestSender.apply(request);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean isCacheable(final HttpRequest request) {
+        return GET_METHOD.equals(request.method())
+            && request.headers().firstValue(RestHeader.AUTHORIZATION.headerName()).isEmpty()
+            && request.headers().firstValue(RestHeader.IF_NONE_MATCH.headerName()).isEmpty();
+    }
+
+    private void store(final URI uri, final HttpResponse<String> response) {
+        final CacheDirectives cacheDirectives = CacheDirectives.parse(response.headers());
+        final String entityTag = response.headers().firstValue(RestHeader.ETAG.headerName()).orElse(null);
+        final boolean cacheable = response.statusCode() == OK_STATUS_CODE
+            && !cacheDirectives.noStore()
+            && (entityTag != null || cacheDirectives.maxAgeSeconds() > 0L);
+
+        if (!cacheable) {
+            remove(uri);
+            return;
+        }
+
+        final CachedResponse cachedResponse = new CachedResponse(response.headers(), response.version(), entityTag, response.body(),
+            cacheDirectives.expiresAtNanos(System.nanoTime()));
+        if (cachedResponse.sizeBytes() > maximumSizeBytes) {
+            remove(uri);
+            return;
+        }
+
+        put(uri, cachedResponse);
+    }
+
+    private void put(final URI uri, final CachedResponse cachedResponse) {
+        lock.lock();
+        try {
+            final CachedResponse previousResponse = cachedResponses.put(uri, cachedResponse);
+            if (previousResponse != null) {
+                currentSizeBytes -= previousResponse.sizeBytes();
+            }
+            currentSizeBytes += cachedResponse.sizeBytes();
+
+            final Iterator<CachedResponse> leastRecentlyUsed = cachedResponses.values().iterator();
+            while (currentSizeBytes > maximumSizeBytes && leastRecentlyUsed.hasNext()) {
+                currentSizeBytes -= leastRecentlyUsed.next().sizeBytes();
+                leastRecentlyUsed.remove();
+                evictionCount.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(final URI uri) {
+        lock.lock();
+        try {
+            final CachedResponse removedResponse = cachedResponses.remove(uri);
+            if (removedResponse != null) {
+                currentSizeBytes -= removedResponse.sizeBytes();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The caching directives of a {@code Cache-Control} header.
+     *
+     * @param maxAgeSeconds the {@code max-age} in seconds, or <b>0</b> if not set (or {@code no-cache} is set)
+     * @param noStore       whether the response must not be stored
+     */
+    private record CacheDirectives(long maxAgeSeconds, boolean noStore) {
+
+        static CacheDirectives parse(final HttpHeaders headers) {
+            final String cacheControl = String.join(",", headers.allValues(RestHeader.CACHE_CONTROL.headerName())).toLowerCase(Locale.UK);
+            final boolean noStore = cacheControl.contains(NO_STORE_DIRECTIVE);
+            if (cacheControl.contains(NO_CACHE_DIRECTIVE)) {
+                return new CacheDirectives(0L, noStore);
+            }
+
+            final Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+            if (!matcher.find()) {
+                return new CacheDirectives(0L, noStore);
+            }
+
+            try {
+                return new CacheDirectives(Math.min(Long.parseLong(matcher.group(1)), MAXIMUM_AGE_SECONDS), noStore);
+            } catch (final NumberFormatException _) {
+                return new CacheDirectives(MAXIMUM_AGE_SECONDS, noStore);
+            }
+        }
+
+        long expiresAtNanos(final long nowNanos) {
+            return nowNanos + TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+        }
+    }
+
+    /**
+     * A cached successful response.
+     *
+     * @param headers        the {@link HttpHeaders} of the response
+     * @param version        the {@link HttpClient.Version} of the response
+     * @param entityTag      the {@code ETag} of the response, if any
+     * @param body           the body of the response
+     * @param expiresAtNanos the {@link System#nanoTime()} after which the response must be revalidated
+     */
+    private record CachedResponse(HttpHeaders headers, HttpClient.Version version, @Nullable String entityTag, String body, long expiresAtNanos) {
+
+        boolean isFresh(final long nowNanos) {
+            return nowNanos - expiresAtNanos < 0L;
+        }
+
+        long sizeBytes() {
+            return (long) body.length() * Character.BYTES;
+        }
+
+        CachedResponse withExpiry(final long newExpiresAtNanos) {
+            return new CachedResponse(headers, version, entityTag, body, newExpiresAtNanos);
+        }
+
+        HttpResponse<String> toHttpResponse(final HttpRequest request) {
+            return new CachedHttpResponse(request, headers, version, body);
+        }
+    }
+
+    /**
+     * A <b>200 OK</b> {@link HttpResponse} served from the cache.
+     *
+     * @param request the {@link HttpRequest} being responded to
+     * @param headers the cached {@link HttpHeaders}
+     * @param version the cached {@link HttpClient.Version}
+     * @param body    the cached body
+     */
+    private record CachedHttpResponse(HttpRequest request, HttpHeaders headers, HttpClient.Version version, String body)
+        implements HttpResponse<String> {
+
+        @Override
+        public int statusCode() {
+            return OK_STATUS_CODE;
+        }
+
+        @Override
+        public Optional<HttpResponse<String>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+    }
+}
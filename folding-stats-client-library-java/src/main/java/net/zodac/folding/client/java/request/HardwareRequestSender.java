@@ -22,8 +22,14 @@ import static net.zodac.folding.api.util.EncodingUtils.encodeBasicAuthentication
 import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.api.util.StringUtils;
+import net.zodac.folding.client.java.response.HardwareResponseParser;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
@@ -34,9 +40,12 @@ import org.jspecify.annotations.Nullable;
 /**
  * Convenience class to send HTTP requests to the {@link Hardware} REST endpoint.
  *
- * @param hardwareUrl the URL to the {@link Hardware} REST endpoint
+ * @param hardwareUrl   the URL to the {@link Hardware} REST endpoint
+ * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests, or {@code null} if responses are not cached
  */
-public record HardwareRequestSender(String hardwareUrl) {
+public record HardwareRequestSender(String hardwareUrl, @Nullable ClientResponseCache responseCache) {
+
+    private static final String BATCH_PATH = "batch";
 
     /**
      * Create an instance of {@link HardwareRequestSender}.
@@ -46,7 +55,19 @@ public record HardwareRequestSender(String hardwareUrl) {
      */
     public static HardwareRequestSender createWithUrl(final String foldingUrl) {
         final String hardwareUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "hardware";
-        return new HardwareRequestSender(hardwareUrl);
+        return new HardwareRequestSender(hardwareUrl, null);
+    }
+
+    /**
+     * Create an instance of {@link HardwareRequestSender}, where <b>GET</b> requests are served from the {@link ClientResponseCache} where possible.
+     *
+     * @param foldingUrl    the root URL of the {@code /folding} endpoint, i.e: <pre>http://127.0.0.1:8080/folding</pre>
+     * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests
+     * @return the created {@link HardwareRequestSender}
+     */
+    public static HardwareRequestSender createWithUrl(final String foldingUrl, final ClientResponseCache responseCache) {
+        final String hardwareUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "hardware";
+        return new HardwareRequestSender(hardwareUrl, responseCache);
     }
 
     /**
@@ -73,19 +94,26 @@ public record HardwareRequestSender(String hardwareUrl) {
      * @see #getAll()
      */
     public HttpResponse<String> getAll(final @Nullable String entityTag) throws FoldingRestException {
-        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-            .GET()
-            .uri(RestUri.create(hardwareUrl))
-            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
-
-        if (StringUtils.isNotBlank(entityTag)) {
-            requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
-        }
+        return getAll(PageRequest.all(), entityTag);
+    }
 
-        final HttpRequest request = requestBuilder.build();
+    /**
+     * Send a <b>GET</b> request to retrieve a page of {@link Hardware}s in the system, with only the requested fields.
+     *
+     * <p>
+     * The total number of {@link Hardware}s is returned in the {@link RestHeader#TOTAL_COUNT} header, and the cursor for the next page (if any) is
+     * returned in the {@link RestHeader#NEXT_CURSOR} header.
+     *
+     * @param pageRequest the {@link PageRequest} defining the page and fields to retrieve
+     * @param entityTag   the {@code ETag} from a previous {@link HttpResponse}, to retrieve cached {@link Hardware}s
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> getAll(final PageRequest pageRequest, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getAllRequest(pageRequest, entityTag);
 
         try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            return ClientResponseCache.send(responseCache, request);
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new FoldingRestException("Error sending HTTP request to get all hardware", e);
@@ -94,6 +122,30 @@ public record HardwareRequestSender(String hardwareUrl) {
         }
     }
 
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve all {@link Hardware}s in the system.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link Hardware}s
+     * @see #getAll()
+     */
+    public CompletableFuture<Collection<Hardware>> getAllAsync(final AsyncRequestDispatcher asyncRequestDispatcher) {
+        return asyncRequestDispatcher.send(getAllRequest(PageRequest.all(), null), HardwareResponseParser::getAll);
+    }
+
+    private HttpRequest getAllRequest(final PageRequest pageRequest, final @Nullable String entityTag) {
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            .GET()
+            .uri(RestUri.createWithFilters(hardwareUrl, pageRequest.toQueryParameters()))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
+
+        if (StringUtils.isNotBlank(entityTag)) {
+            requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
+        }
+
+        return requestBuilder.build();
+    }
+
     /**
      * Send a <b>GET</b> request to retrieve a single {@link Hardware} with the given {@code hardwareId}.
      *
@@ -120,6 +172,31 @@ public record HardwareRequestSender(String hardwareUrl) {
      * @see #get(int)
      */
     public HttpResponse<String> get(final int hardwareId, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getRequest(hardwareId, entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get hardware", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get hardware", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve a single {@link Hardware} with the given {@code hardwareId}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param hardwareId             the ID of the {@link Hardware} to be retrieved
+     * @return a {@link CompletableFuture} completed with the retrieved {@link Hardware}
+     * @see #get(int)
+     */
+    public CompletableFuture<Hardware> getAsync(final AsyncRequestDispatcher asyncRequestDispatcher, final int hardwareId) {
+        return asyncRequestDispatcher.send(getRequest(hardwareId, null), HardwareResponseParser::get);
+    }
+
+    private HttpRequest getRequest(final int hardwareId, final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(hardwareUrl, hardwareId))
@@ -129,16 +206,7 @@ public record HardwareRequestSender(String hardwareUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get hardware", e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get hardware", e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -179,7 +247,7 @@ public record HardwareRequestSender(String hardwareUrl) {
         final HttpRequest request = requestBuilder.build();
 
         try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            return ClientResponseCache.send(responseCache, request);
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new FoldingRestException("Error sending HTTP request to get hardware", e);
@@ -199,12 +267,7 @@ public record HardwareRequestSender(String hardwareUrl) {
      * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
      */
     public HttpResponse<String> create(final HardwareRequest hardware, final String userName, final String password) throws FoldingRestException {
-        final HttpRequest request = HttpRequest.newBuilder()
-            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(hardware)))
-            .uri(RestUri.create(hardwareUrl))
-            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
-            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
-            .build();
+        final HttpRequest request = createRequest(hardware, userName, password);
 
         try {
             return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
@@ -216,6 +279,31 @@ public record HardwareRequestSender(String hardwareUrl) {
         }
     }
 
+    /**
+     * Send a <b>POST</b> request asynchronously to create the given {@link HardwareRequest} in the system, using the supplied {@code userName}
+     * and {@code password} for authentication.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param hardware               the {@link HardwareRequest} to create
+     * @param userName               the username
+     * @param password               the password
+     * @return a {@link CompletableFuture} completed with the created {@link Hardware}
+     * @see #create(HardwareRequest, String, String)
+     */
+    public CompletableFuture<Hardware> createAsync(final AsyncRequestDispatcher asyncRequestDispatcher, final HardwareRequest hardware,
+                                                   final String userName, final String password) {
+        return asyncRequestDispatcher.send(createRequest(hardware, userName, password), HardwareResponseParser::create);
+    }
+
+    private HttpRequest createRequest(final HardwareRequest hardware, final String userName, final String password) {
+        return HttpRequest.newBuilder()
+            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(hardware)))
+            .uri(RestUri.create(hardwareUrl))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+    }
+
     /**
      * Send a <b>PUT</b> request to update the given {@link HardwareRequest} in the system.
      *
@@ -271,4 +359,106 @@ public record HardwareRequestSender(String hardwareUrl) {
             throw new FoldingRestException("Error sending HTTP request to delete hardware", e);
         }
     }
+
+    /**
+     * Send a <b>POST</b> request to create all of the given {@link HardwareRequest}s in the system in a single transaction, using the supplied
+     * {@code userName} and {@code password} for authentication.
+     *
+     * <p>
+     * If any {@link HardwareRequest} fails validation, none are created. The result for each {@link HardwareRequest} is returned in the same order
+     * as the input.
+     *
+     * @param hardware the {@link HardwareRequest}s to create
+     * @param userName the username
+     * @param password the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> createBatch(final Collection<HardwareRequest> hardware, final String userName, final String password)
+        throws FoldingRestException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(hardware)))
+            .uri(RestUri.create(hardwareUrl, BATCH_PATH))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to create hardware batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to create hardware batch", e);
+        }
+    }
+
+    /**
+     * Send a <b>PUT</b> request to update all of the given {@link BatchUpdateRequest}s in the system in a single transaction, using the
+     * supplied {@code userName} and {@code password} for authentication.
+     *
+     * <p>
+     * If any {@link BatchUpdateRequest} fails validation, no {@link Hardware}s are updated. The result for each {@link BatchUpdateRequest} is
+     * returned in the same order as the input.
+     *
+     * @param hardware the {@link BatchUpdateRequest}s with the ID of each {@link Hardware} to update and its {@link HardwareRequest}
+     * @param userName the username
+     * @param password the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> updateBatch(final Collection<BatchUpdateRequest<HardwareRequest>> hardware, final String userName,
+                                            final String password) throws FoldingRestException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .PUT(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(hardware)))
+            .uri(RestUri.create(hardwareUrl, BATCH_PATH))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to update hardware batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to update hardware batch", e);
+        }
+    }
+
+    /**
+     * Send a <b>DELETE</b> request to remove all {@link Hardware}s with the given {@code hardwareIds} in a single transaction.
+     *
+     * <p>
+     * If any {@link Hardware} cannot be deleted, none are deleted. The result for each ID is returned in the same order as the input.
+     *
+     * @param hardwareIds the IDs of the {@link Hardware}s to remove
+     * @param userName    the username
+     * @param password    the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> deleteBatch(final Collection<Integer> hardwareIds, final String userName, final String password)
+        throws FoldingRestException {
+        final String ids = hardwareIds
+            .stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        final HttpRequest request = HttpRequest.newBuilder()
+            .DELETE()
+            .uri(RestUri.createWithFilter(hardwareUrl + RestUri.REST_URI_PATH_SEPARATOR + BATCH_PATH, "ids", ids))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to delete hardware batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to delete hardware batch", e);
+        }
+    }
 }
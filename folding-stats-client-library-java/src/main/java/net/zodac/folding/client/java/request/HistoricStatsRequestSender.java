@@ -22,13 +22,20 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Month;
 import java.time.Year;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.util.StringUtils;
+import net.zodac.folding.client.java.response.HistoricStatsResponseParser;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.historic.UserHistoricStats;
 import net.zodac.folding.rest.api.util.RestUtilConstants;
 import org.jspecify.annotations.Nullable;
 
@@ -36,8 +43,9 @@ import org.jspecify.annotations.Nullable;
  * Convenience class to send HTTP requests to the {@link HistoricStats} REST endpoint.
  *
  * @param historicStatsUrl the URL to the {@link HistoricStats} REST endpoint
+ * @param responseCache    the {@link ClientResponseCache} used for <b>GET</b> requests, or {@code null} if responses are not cached
  */
-public record HistoricStatsRequestSender(String historicStatsUrl) {
+public record HistoricStatsRequestSender(String historicStatsUrl, @Nullable ClientResponseCache responseCache) {
 
     /**
      * Create an instance of {@link HistoricStatsRequestSender}.
@@ -48,7 +56,21 @@ public record HistoricStatsRequestSender(String historicStatsUrl) {
      */
     public static HistoricStatsRequestSender createWithUrl(final String foldingUrl) {
         final String historicStatsUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "historic";
-        return new HistoricStatsRequestSender(historicStatsUrl);
+        return new HistoricStatsRequestSender(historicStatsUrl, null);
+    }
+
+    /**
+     * Create an instance of {@link HistoricStatsRequestSender}, where <b>GET</b> requests are served from the
+     * {@link ClientResponseCache} where possible.
+     *
+     * @param foldingUrl    the root URL of the {@code /folding} endpoint, i.e:
+     *                      <pre>http://127.0.0.1:8080/folding</pre>
+     * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests
+     * @return the created {@link HistoricStatsRequestSender}
+     */
+    public static HistoricStatsRequestSender createWithUrl(final String foldingUrl, final ClientResponseCache responseCache) {
+        final String historicStatsUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "historic";
+        return new HistoricStatsRequestSender(historicStatsUrl, responseCache);
     }
 
     /**
@@ -147,6 +169,60 @@ public record HistoricStatsRequestSender(String historicStatsUrl) {
 
     private HttpResponse<String> getHourlyStats(final HistoricStatsType historicStatsType, final int id, final Year year, final Month month,
                                                 final int day, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getHourlyStatsRequest(historicStatsType, id, year, month, day, entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get hourly stats for " + historicStatsType.endpointUrl(), e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get hourly stats for " + historicStatsType.endpointUrl(), e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve hourly {@link HistoricStats} for a {@link User}.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param userId                 the ID of the {@link User} whose {@link HistoricStats} are to be retrieved
+     * @param year                   the {@link Year} of the {@link HistoricStats}
+     * @param month                  the {@link Month} of the {@link HistoricStats}
+     * @param day                    the day of the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link HistoricStats}
+     * @see #getHourlyUserStats(int, Year, Month, int)
+     */
+    public CompletableFuture<Collection<HistoricStats>> getHourlyUserStatsAsync(final AsyncRequestDispatcher asyncRequestDispatcher,
+                                                                                final int userId, final Year year, final Month month, final int day) {
+        final HttpRequest request = getHourlyStatsRequest(HistoricStatsType.USER, userId, year, month, day, null);
+        return asyncRequestDispatcher.send(request, HistoricStatsResponseParser::getHourlyUserStats);
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve hourly {@link HistoricStats} for a {@link Team}.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param teamId                 the ID of the {@link Team} whose {@link HistoricStats} are to be retrieved
+     * @param year                   the {@link Year} of the {@link HistoricStats}
+     * @param month                  the {@link Month} of the {@link HistoricStats}
+     * @param day                    the day of the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link HistoricStats}
+     * @see #getHourlyTeamStats(int, Year, Month, int)
+     */
+    public CompletableFuture<Collection<HistoricStats>> getHourlyTeamStatsAsync(final AsyncRequestDispatcher asyncRequestDispatcher,
+                                                                                final int teamId, final Year year, final Month month, final int day) {
+        final HttpRequest request = getHourlyStatsRequest(HistoricStatsType.TEAM, teamId, year, month, day, null);
+        return asyncRequestDispatcher.send(request, HistoricStatsResponseParser::getHourlyTeamStats);
+    }
+
+    private HttpRequest getHourlyStatsRequest(final HistoricStatsType historicStatsType, final int id, final Year year, final Month month,
+                                              final int day, final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(historicStatsUrl, historicStatsType.endpointUrl(), id, year.getValue(), month.getValue(), day))
@@ -156,16 +232,7 @@ public record HistoricStatsRequestSender(String historicStatsUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get hourly stats for " + historicStatsType.endpointUrl(), e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get hourly stats for " + historicStatsType.endpointUrl(), e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -268,19 +335,10 @@ public record HistoricStatsRequestSender(String historicStatsUrl) {
 
     private HttpResponse<String> getDailyStats(final HistoricStatsType historicStatsType, final int id, final Year year, final Month month,
                                                final @Nullable String entityTag) throws FoldingRestException {
-        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-            .GET()
-            .uri(RestUri.create(historicStatsUrl, historicStatsType.endpointUrl(), id, year.getValue(), month.getValue()))
-            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
-
-        if (StringUtils.isNotBlank(entityTag)) {
-            requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
-        }
-
-        final HttpRequest request = requestBuilder.build();
+        final HttpRequest request = getDailyStatsRequest(historicStatsType, id, year, month, entityTag);
 
         try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            return ClientResponseCache.send(responseCache, request);
 
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -290,6 +348,58 @@ public record HistoricStatsRequestSender(String historicStatsUrl) {
         }
     }
 
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve daily {@link HistoricStats} for a {@link User}.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param userId                 the ID of the {@link User} whose {@link HistoricStats} are to be retrieved
+     * @param year                   the {@link Year} of the {@link HistoricStats}
+     * @param month                  the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link HistoricStats}
+     * @see #getDailyUserStats(int, Year, Month)
+     */
+    public CompletableFuture<Collection<HistoricStats>> getDailyUserStatsAsync(final AsyncRequestDispatcher asyncRequestDispatcher,
+                                                                               final int userId, final Year year, final Month month) {
+        final HttpRequest request = getDailyStatsRequest(HistoricStatsType.USER, userId, year, month, null);
+        return asyncRequestDispatcher.send(request, HistoricStatsResponseParser::getDailyUserStats);
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve daily {@link HistoricStats} for a {@link Team}.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param teamId                 the ID of the {@link Team} whose {@link HistoricStats} are to be retrieved
+     * @param year                   the {@link Year} of the {@link HistoricStats}
+     * @param month                  the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link HistoricStats}
+     * @see #getDailyTeamStats(int, Year, Month)
+     */
+    public CompletableFuture<Collection<HistoricStats>> getDailyTeamStatsAsync(final AsyncRequestDispatcher asyncRequestDispatcher,
+                                                                               final int teamId, final Year year, final Month month) {
+        final HttpRequest request = getDailyStatsRequest(HistoricStatsType.TEAM, teamId, year, month, null);
+        return asyncRequestDispatcher.send(request, HistoricStatsResponseParser::getDailyTeamStats);
+    }
+
+    private HttpRequest getDailyStatsRequest(final HistoricStatsType historicStatsType, final int id, final Year year, final Month month,
+                                             final @Nullable String entityTag) {
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            .GET()
+            .uri(RestUri.create(historicStatsUrl, historicStatsType.endpointUrl(), id, year.getValue(), month.getValue()))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
+
+        if (StringUtils.isNotBlank(entityTag)) {
+            requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
+        }
+
+        return requestBuilder.build();
+    }
+
     /**
      * Send a <b>GET</b> request to retrieve monthly {@link HistoricStats} for a
      * {@link User} for the given {@code year}.
@@ -384,6 +494,56 @@ public record HistoricStatsRequestSender(String historicStatsUrl) {
 
     private HttpResponse<String> getMonthlyStats(final HistoricStatsType historicStatsType, final int id, final Year year,
                                                  final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getMonthlyStatsRequest(historicStatsType, id, year, entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get monthly stats for " + historicStatsType.endpointUrl(), e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get monthly stats for " + historicStatsType.endpointUrl(), e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve monthly {@link HistoricStats} for a {@link User}.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param userId                 the ID of the {@link User} whose {@link HistoricStats} are to be retrieved
+     * @param year                   the {@link Year} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link HistoricStats}
+     * @see #getMonthlyUserStats(int, Year)
+     */
+    public CompletableFuture<Collection<HistoricStats>> getMonthlyUserStatsAsync(final AsyncRequestDispatcher asyncRequestDispatcher,
+                                                                                 final int userId, final Year year) {
+        final HttpRequest request = getMonthlyStatsRequest(HistoricStatsType.USER, userId, year, null);
+        return asyncRequestDispatcher.send(request, HistoricStatsResponseParser::getMonthlyUserStats);
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve monthly {@link HistoricStats} for a {@link Team}.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param teamId                 the ID of the {@link Team} whose {@link HistoricStats} are to be retrieved
+     * @param year                   the {@link Year} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link HistoricStats}
+     * @see #getMonthlyTeamStats(int, Year)
+     */
+    public CompletableFuture<Collection<HistoricStats>> getMonthlyTeamStatsAsync(final AsyncRequestDispatcher asyncRequestDispatcher,
+                                                                                 final int teamId, final Year year) {
+        final HttpRequest request = getMonthlyStatsRequest(HistoricStatsType.TEAM, teamId, year, null);
+        return asyncRequestDispatcher.send(request, HistoricStatsResponseParser::getMonthlyTeamStats);
+    }
+
+    private HttpRequest getMonthlyStatsRequest(final HistoricStatsType historicStatsType, final int id, final Year year,
+                                               final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(historicStatsUrl, historicStatsType.endpointUrl(), id, year.getValue()))
@@ -393,15 +553,118 @@ public record HistoricStatsRequestSender(String historicStatsUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
+        return requestBuilder.build();
+    }
 
+    /**
+     * Send a <b>GET</b> request to retrieve the daily {@link HistoricStats} for multiple {@link User}s for the given {@code year}/{@code month}
+     * in a single request.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param userIds the IDs of the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year    the {@link Year} of the {@link HistoricStats}
+     * @param month   the {@link Month} of the {@link HistoricStats}
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     * @see #getDailyUserStats(int, Year, Month)
+     */
+    public HttpResponse<String> getDailyStatsForUsers(final Collection<Integer> userIds, final Year year, final Month month)
+        throws FoldingRestException {
+        return getStatsForUsers(getStatsForUsersRequest(userIds, year, month, null));
+    }
+
+    /**
+     * Send a <b>GET</b> request to retrieve the hourly {@link HistoricStats} for multiple {@link User}s for the given
+     * {@code year}/{@code month}/{@code day} in a single request.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param userIds the IDs of the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year    the {@link Year} of the {@link HistoricStats}
+     * @param month   the {@link Month} of the {@link HistoricStats}
+     * @param day     the day of the {@link Month} of the {@link HistoricStats}
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     * @see #getHourlyUserStats(int, Year, Month, int)
+     */
+    public HttpResponse<String> getHourlyStatsForUsers(final Collection<Integer> userIds, final Year year, final Month month, final int day)
+        throws FoldingRestException {
+        return getStatsForUsers(getStatsForUsersRequest(userIds, year, month, day));
+    }
+
+    private static HttpResponse<String> getStatsForUsers(final HttpRequest request) throws FoldingRestException {
         try {
             return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get monthly stats for " + historicStatsType.endpointUrl(), e);
+            throw new FoldingRestException("Error sending HTTP request to get stats for multiple users", e);
         } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get monthly stats for " + historicStatsType.endpointUrl(), e);
+            throw new FoldingRestException("Error sending HTTP request to get stats for multiple users", e);
         }
     }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve the daily {@link HistoricStats} for multiple {@link User}s in a single request.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param userIds                the IDs of the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year                   the {@link Year} of the {@link HistoricStats}
+     * @param month                  the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link UserHistoricStats}
+     * @see #getDailyStatsForUsers(Collection, Year, Month)
+     */
+    public CompletableFuture<Collection<UserHistoricStats>> getDailyStatsForUsersAsync(final AsyncRequestDispatcher asyncRequestDispatcher,
+                                                                                       final Collection<Integer> userIds, final Year year,
+                                                                                       final Month month) {
+        final HttpRequest request = getStatsForUsersRequest(userIds, year, month, null);
+        return asyncRequestDispatcher.send(request, HistoricStatsResponseParser::getDailyStatsForUsers);
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve the hourly {@link HistoricStats} for multiple {@link User}s in a single request.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link HistoricStats} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param userIds                the IDs of the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year                   the {@link Year} of the {@link HistoricStats}
+     * @param month                  the {@link Month} of the {@link HistoricStats}
+     * @param day                    the day of the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link UserHistoricStats}
+     * @see #getHourlyStatsForUsers(Collection, Year, Month, int)
+     */
+    public CompletableFuture<Collection<UserHistoricStats>> getHourlyStatsForUsersAsync(final AsyncRequestDispatcher asyncRequestDispatcher,
+                                                                                        final Collection<Integer> userIds, final Year year,
+                                                                                        final Month month, final int day) {
+        final HttpRequest request = getStatsForUsersRequest(userIds, year, month, day);
+        return asyncRequestDispatcher.send(request, HistoricStatsResponseParser::getHourlyStatsForUsers);
+    }
+
+    private HttpRequest getStatsForUsersRequest(final Collection<Integer> userIds, final Year year, final Month month,
+                                                final @Nullable Integer day) {
+        final Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("ids", userIds
+            .stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(",")));
+        filters.put("year", year.getValue());
+        filters.put("month", month.getValue());
+        if (day != null) {
+            filters.put("day", day);
+        }
+
+        final String usersUrl = historicStatsUrl + RestUri.REST_URI_PATH_SEPARATOR + HistoricStatsType.USER.endpointUrl();
+        return HttpRequest.newBuilder()
+            .GET()
+            .uri(RestUri.createWithFilters(usersUrl, filters))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .build();
+    }
 }
@@ -24,9 +24,11 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Month;
 import java.time.Year;
+import java.util.concurrent.CompletableFuture;
 import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.util.DateTimeUtils;
 import net.zodac.folding.api.util.StringUtils;
+import net.zodac.folding.client.java.response.MonthlyResultResponseParser;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
@@ -37,8 +39,9 @@ import org.jspecify.annotations.Nullable;
  * Convenience class to send HTTP requests to the {@link MonthlyResult} REST endpoint.
  *
  * @param monthlyResultUrl the URL to the {@link MonthlyResult} REST endpoint
+ * @param responseCache    the {@link ClientResponseCache} used for <b>GET</b> requests, or {@code null} if responses are not cached
  */
-public record MonthlyResultRequestSender(String monthlyResultUrl) {
+public record MonthlyResultRequestSender(String monthlyResultUrl, @Nullable ClientResponseCache responseCache) {
 
     private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
 
@@ -51,7 +54,21 @@ public record MonthlyResultRequestSender(String monthlyResultUrl) {
      */
     public static MonthlyResultRequestSender createWithUrl(final String foldingUrl) {
         final String monthlyResultUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "results";
-        return new MonthlyResultRequestSender(monthlyResultUrl);
+        return new MonthlyResultRequestSender(monthlyResultUrl, null);
+    }
+
+    /**
+     * Create an instance of {@link MonthlyResultRequestSender}, where <b>GET</b> requests are served from the
+     * {@link ClientResponseCache} where possible.
+     *
+     * @param foldingUrl    the root URL of the {@code /folding} endpoint, i.e:
+     *                      <pre>http://127.0.0.1:8080/folding</pre>
+     * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests
+     * @return the created {@link MonthlyResultRequestSender}
+     */
+    public static MonthlyResultRequestSender createWithUrl(final String foldingUrl, final ClientResponseCache responseCache) {
+        final String monthlyResultUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "results";
+        return new MonthlyResultRequestSender(monthlyResultUrl, responseCache);
     }
 
     /**
@@ -123,6 +140,51 @@ public record MonthlyResultRequestSender(String monthlyResultUrl) {
      * @see #getMonthlyResult(Year, Month)
      */
     public HttpResponse<String> getMonthlyResult(final Year year, final Month month, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getMonthlyResultRequest(year, month, entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get monthly result", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get monthly result", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve {@link MonthlyResult} for the current year/month.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link MonthlyResult} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link MonthlyResult}
+     * @see #getCurrentMonthlyResult()
+     */
+    public CompletableFuture<MonthlyResult> getCurrentMonthlyResultAsync(final AsyncRequestDispatcher asyncRequestDispatcher) {
+        final HttpRequest request = getMonthlyResultRequest(DATE_TIME_UTILS.currentUtcYear(), DATE_TIME_UTILS.currentUtcMonth(), null);
+        return asyncRequestDispatcher.send(request, MonthlyResultResponseParser::getMonthlyResult);
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve {@link MonthlyResult} for the given {@code year}/{@code month}.
+     *
+     * <p>
+     * <b>NOTE:</b> The {@link MonthlyResult} are based on {@link java.time.ZoneOffset#UTC}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param year                   the {@link Year} of the {@link MonthlyResult}
+     * @param month                  the {@link Month} of the {@link MonthlyResult}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link MonthlyResult}
+     * @see #getMonthlyResult(Year, Month)
+     */
+    public CompletableFuture<MonthlyResult> getMonthlyResultAsync(final AsyncRequestDispatcher asyncRequestDispatcher, final Year year,
+                                                                  final Month month) {
+        return asyncRequestDispatcher.send(getMonthlyResultRequest(year, month, null), MonthlyResultResponseParser::getMonthlyResult);
+    }
+
+    private HttpRequest getMonthlyResultRequest(final Year year, final Month month, final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(monthlyResultUrl, "result", year.getValue(), month.getValue()))
@@ -132,16 +194,7 @@ public record MonthlyResultRequestSender(String monthlyResultUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get monthly result", e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get monthly result", e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -18,6 +18,8 @@
 package net.zodac.folding.client.java.request;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Utility class used to create {@link URI}s for REST requests.
@@ -31,6 +33,7 @@ public final class RestUri {
 
     private static final char REST_URI_NAME_VALUE_SEPARATOR = '=';
     private static final char REST_URI_FIELD_DELIMITER = '?';
+    private static final String REST_URI_FILTER_SEPARATOR = "&";
     private static final String FIELDS_ATTRIBUTE = "fields" + REST_URI_FIELD_DELIMITER;
 
     private RestUri() {
@@ -105,4 +108,28 @@ public final class RestUri {
     public static URI createWithFilter(final String baseUrl, final String filterName, final Object filterValue) {
         return URI.create(baseUrl + REST_URI_FIELD_DELIMITER + filterName + REST_URI_NAME_VALUE_SEPARATOR + filterValue);
     }
+
+    /**
+     * Creates a {@link URI} starting with the base URL for the REST request, and then appending multiple filter names and values to filter the
+     * objects returned by the request. If no filters are provided, only the base URL is used.
+     *
+     * <pre>
+     *     example.com/baseUrl/resourceType?firstFilterName=firstFilterValue&amp;secondFilterName=secondFilterValue
+     * </pre>
+     *
+     * @param baseUrl the base URL
+     * @param filters the filter names and values, in the order they should be appended
+     * @return the {@link URI}
+     */
+    public static URI createWithFilters(final String baseUrl, final Map<String, ?> filters) {
+        if (filters.isEmpty()) {
+            return create(baseUrl);
+        }
+
+        final String queryString = filters.entrySet()
+            .stream()
+            .map(filter -> filter.getKey() + REST_URI_NAME_VALUE_SEPARATOR + filter.getValue())
+            .collect(Collectors.joining(REST_URI_FILTER_SEPARATOR));
+        return URI.create(baseUrl + REST_URI_FIELD_DELIMITER + queryString);
+    }
 }
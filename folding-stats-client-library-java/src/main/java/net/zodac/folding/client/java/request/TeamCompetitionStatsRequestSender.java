@@ -22,24 +22,34 @@ import static net.zodac.folding.api.util.EncodingUtils.encodeBasicAuthentication
 import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.util.StringUtils;
+import net.zodac.folding.client.java.response.TeamCompetitionStatsResponseParser;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
 import net.zodac.folding.rest.api.tc.AllTeamsSummary;
+import net.zodac.folding.rest.api.tc.CompetitionSummary;
 import net.zodac.folding.rest.api.tc.UserSummary;
+import net.zodac.folding.rest.api.tc.leaderboard.TeamLeaderboardEntry;
+import net.zodac.folding.rest.api.tc.leaderboard.UserCategoryLeaderboardEntry;
 import net.zodac.folding.rest.api.tc.request.OffsetTcStatsRequest;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
 import net.zodac.folding.rest.api.util.RestUtilConstants;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Convenience class to send HTTP requests to the {@code Team Competition} stats REST endpoint.
  *
- * @param statsUrl the URL to the {@code Team Competition} stats REST endpoint
+ * @param statsUrl      the URL to the {@code Team Competition} stats REST endpoint
+ * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests, or {@code null} if responses are not cached
  */
-public record TeamCompetitionStatsRequestSender(String statsUrl) {
+public record TeamCompetitionStatsRequestSender(String statsUrl, @Nullable ClientResponseCache responseCache) {
 
     /**
      * Create an instance of {@link TeamCompetitionStatsRequestSender}.
@@ -50,7 +60,21 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
      */
     public static TeamCompetitionStatsRequestSender createWithUrl(final String foldingUrl) {
         final String statsUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "stats";
-        return new TeamCompetitionStatsRequestSender(statsUrl);
+        return new TeamCompetitionStatsRequestSender(statsUrl, null);
+    }
+
+    /**
+     * Create an instance of {@link TeamCompetitionStatsRequestSender}, where <b>GET</b> requests are served from the
+     * {@link ClientResponseCache} where possible.
+     *
+     * @param foldingUrl    the root URL of the {@code /folding} endpoint, i.e:
+     *                      <pre>http://127.0.0.1:8080/folding</pre>
+     * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests
+     * @return the created {@link TeamCompetitionStatsRequestSender}
+     */
+    public static TeamCompetitionStatsRequestSender createWithUrl(final String foldingUrl, final ClientResponseCache responseCache) {
+        final String statsUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "stats";
+        return new TeamCompetitionStatsRequestSender(statsUrl, responseCache);
     }
 
     /**
@@ -78,6 +102,30 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
      * @see #getStats()
      */
     public HttpResponse<String> getStats(final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getStatsRequest(entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get TC stats", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get TC stats", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve the {@code Team Competition} stats.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link AllTeamsSummary}
+     * @see #getStats()
+     */
+    public CompletableFuture<AllTeamsSummary> getStatsAsync(final AsyncRequestDispatcher asyncRequestDispatcher) {
+        return asyncRequestDispatcher.send(getStatsRequest(null), TeamCompetitionStatsResponseParser::getStats);
+    }
+
+    private HttpRequest getStatsRequest(final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(statsUrl))
@@ -87,16 +135,7 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get TC stats", e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get TC stats", e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -124,6 +163,30 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
      * @see #getSummaryStats()
      */
     public HttpResponse<String> getSummaryStats(final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getSummaryStatsRequest(entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get summary TC stats", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get summary TC stats", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve the summary of the {@code Team Competition} stats.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link CompetitionSummary}
+     * @see #getSummaryStats()
+     */
+    public CompletableFuture<CompetitionSummary> getSummaryStatsAsync(final AsyncRequestDispatcher asyncRequestDispatcher) {
+        return asyncRequestDispatcher.send(getSummaryStatsRequest(null), TeamCompetitionStatsResponseParser::getSummaryStats);
+    }
+
+    private HttpRequest getSummaryStatsRequest(final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(statsUrl, "summary"))
@@ -133,16 +196,7 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get summary TC stats", e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get summary TC stats", e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -174,6 +228,31 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
      * @see #getStats()
      */
     public HttpResponse<String> getStatsForUser(final int userId, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getStatsForUserRequest(userId, entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get TC stats", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get TC stats", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve the {@code Team Competition} stats for a single {@link User}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param userId                 the ID of the {@link User} whose stats are to be retrieved
+     * @return a {@link CompletableFuture} completed with the retrieved {@link UserSummary}
+     * @see #getStatsForUser(int)
+     */
+    public CompletableFuture<UserSummary> getStatsForUserAsync(final AsyncRequestDispatcher asyncRequestDispatcher, final int userId) {
+        return asyncRequestDispatcher.send(getStatsForUserRequest(userId, null), TeamCompetitionStatsResponseParser::getStatsForUser);
+    }
+
+    private HttpRequest getStatsForUserRequest(final int userId, final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(statsUrl, "users", userId))
@@ -183,15 +262,34 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
+        return requestBuilder.build();
+    }
+
+    /**
+     * Send a <b>GET</b> request to retrieve the {@code Team Competition} {@link StatsChanges} since a previously retrieved stats version.
+     *
+     * <p>
+     * If {@link StatsChanges#fullResyncRequired()} is set in the response, the full stats should be retrieved with {@link #getStats()}, and the
+     * returned {@link StatsChanges#version()} used for the next request.
+     *
+     * @param sinceVersion the stats version previously retrieved
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> getChanges(final long sinceVersion) throws FoldingRestException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .GET()
+            .uri(RestUri.createWithFilter(statsUrl + RestUri.REST_URI_PATH_SEPARATOR + "changes", "since", sinceVersion))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .build();
 
         try {
             return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get TC stats", e);
+            throw new FoldingRestException("Error sending HTTP request to get TC stats changes", e);
         } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get TC stats", e);
+            throw new FoldingRestException("Error sending HTTP request to get TC stats changes", e);
         }
     }
 
@@ -218,6 +316,30 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
      * @see #getTeamLeaderboard()
      */
     public HttpResponse<String> getTeamLeaderboard(final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getTeamLeaderboardRequest(entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get TC team leaderboard", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get TC team leaderboard", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve the {@code Team Competition} {@link Team} leaderboard.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link TeamLeaderboardEntry}s
+     * @see #getTeamLeaderboard()
+     */
+    public CompletableFuture<Collection<TeamLeaderboardEntry>> getTeamLeaderboardAsync(final AsyncRequestDispatcher asyncRequestDispatcher) {
+        return asyncRequestDispatcher.send(getTeamLeaderboardRequest(null), TeamCompetitionStatsResponseParser::getTeamLeaderboard);
+    }
+
+    private HttpRequest getTeamLeaderboardRequest(final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(statsUrl, "leaderboard"))
@@ -227,16 +349,7 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get TC team leaderboard", e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get TC team leaderboard", e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -262,6 +375,31 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
      * @see #getCategoryLeaderboard()
      */
     public HttpResponse<String> getCategoryLeaderboard(final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getCategoryLeaderboardRequest(entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get TC category leaderboard", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get TC category leaderboard", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve the {@code Team Competition} category leaderboard.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link UserCategoryLeaderboardEntry}s, keyed by category
+     * @see #getCategoryLeaderboard()
+     */
+    public CompletableFuture<Map<String, List<UserCategoryLeaderboardEntry>>> getCategoryLeaderboardAsync(
+        final AsyncRequestDispatcher asyncRequestDispatcher) {
+        return asyncRequestDispatcher.send(getCategoryLeaderboardRequest(null), TeamCompetitionStatsResponseParser::getCategoryLeaderboard);
+    }
+
+    private HttpRequest getCategoryLeaderboardRequest(final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(statsUrl, "category"))
@@ -271,16 +409,7 @@ public record TeamCompetitionStatsRequestSender(String statsUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get TC category leaderboard", e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get TC category leaderboard", e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -22,8 +22,14 @@ import static net.zodac.folding.api.util.EncodingUtils.encodeBasicAuthentication
 import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.util.StringUtils;
+import net.zodac.folding.client.java.response.TeamResponseParser;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
@@ -34,9 +40,12 @@ import org.jspecify.annotations.Nullable;
 /**
  * Convenience class to send HTTP requests to the {@link Team} REST endpoint.
  *
- * @param teamsUrl the URL to the {@link Team} REST endpoint
+ * @param teamsUrl      the URL to the {@link Team} REST endpoint
+ * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests, or {@code null} if responses are not cached
  */
-public record TeamRequestSender(String teamsUrl) {
+public record TeamRequestSender(String teamsUrl, @Nullable ClientResponseCache responseCache) {
+
+    private static final String BATCH_PATH = "batch";
 
     /**
      * Create an instance of {@link TeamRequestSender}.
@@ -47,7 +56,20 @@ public record TeamRequestSender(String teamsUrl) {
      */
     public static TeamRequestSender createWithUrl(final String foldingUrl) {
         final String teamsUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "teams";
-        return new TeamRequestSender(teamsUrl);
+        return new TeamRequestSender(teamsUrl, null);
+    }
+
+    /**
+     * Create an instance of {@link TeamRequestSender}, where <b>GET</b> requests are served from the {@link ClientResponseCache} where possible.
+     *
+     * @param foldingUrl    the root URL of the {@code /folding} endpoint, i.e:
+     *                      <pre>http://127.0.0.1:8080/folding</pre>
+     * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests
+     * @return the created {@link TeamRequestSender}
+     */
+    public static TeamRequestSender createWithUrl(final String foldingUrl, final ClientResponseCache responseCache) {
+        final String teamsUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "teams";
+        return new TeamRequestSender(teamsUrl, responseCache);
     }
 
     /**
@@ -74,19 +96,26 @@ public record TeamRequestSender(String teamsUrl) {
      * @see #getAll()
      */
     public HttpResponse<String> getAll(final @Nullable String entityTag) throws FoldingRestException {
-        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-            .GET()
-            .uri(RestUri.create(teamsUrl))
-            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
-
-        if (StringUtils.isNotBlank(entityTag)) {
-            requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
-        }
+        return getAll(PageRequest.all(), entityTag);
+    }
 
-        final HttpRequest request = requestBuilder.build();
+    /**
+     * Send a <b>GET</b> request to retrieve a page of {@link Team}s in the system, with only the requested fields.
+     *
+     * <p>
+     * The total number of {@link Team}s is returned in the {@link RestHeader#TOTAL_COUNT} header, and the cursor for the next page (if any) is
+     * returned in the {@link RestHeader#NEXT_CURSOR} header.
+     *
+     * @param pageRequest the {@link PageRequest} defining the page and fields to retrieve
+     * @param entityTag   the {@code ETag} from a previous {@link HttpResponse}, to retrieve cached {@link Team}s
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> getAll(final PageRequest pageRequest, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getAllRequest(pageRequest, entityTag);
 
         try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            return ClientResponseCache.send(responseCache, request);
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new FoldingRestException("Error sending HTTP request to get all teams", e);
@@ -95,6 +124,30 @@ public record TeamRequestSender(String teamsUrl) {
         }
     }
 
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve all {@link Team}s in the system.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link Team}s
+     * @see #getAll()
+     */
+    public CompletableFuture<Collection<Team>> getAllAsync(final AsyncRequestDispatcher asyncRequestDispatcher) {
+        return asyncRequestDispatcher.send(getAllRequest(PageRequest.all(), null), TeamResponseParser::getAll);
+    }
+
+    private HttpRequest getAllRequest(final PageRequest pageRequest, final @Nullable String entityTag) {
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            .GET()
+            .uri(RestUri.createWithFilters(teamsUrl, pageRequest.toQueryParameters()))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
+
+        if (StringUtils.isNotBlank(entityTag)) {
+            requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
+        }
+
+        return requestBuilder.build();
+    }
+
     /**
      * Send a <b>GET</b> request to retrieve a single {@link Team} with the given {@code teamId}.
      *
@@ -121,6 +174,31 @@ public record TeamRequestSender(String teamsUrl) {
      * @see #get(int)
      */
     public HttpResponse<String> get(final int teamId, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getRequest(teamId, entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get team", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get team", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve a single {@link Team} with the given {@code teamId}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param teamId                 the ID of the {@link Team} to be retrieved
+     * @return a {@link CompletableFuture} completed with the retrieved {@link Team}
+     * @see #get(int)
+     */
+    public CompletableFuture<Team> getAsync(final AsyncRequestDispatcher asyncRequestDispatcher, final int teamId) {
+        return asyncRequestDispatcher.send(getRequest(teamId, null), TeamResponseParser::get);
+    }
+
+    private HttpRequest getRequest(final int teamId, final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(teamsUrl, teamId))
@@ -130,16 +208,7 @@ public record TeamRequestSender(String teamsUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get team", e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get team", e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -180,7 +249,7 @@ public record TeamRequestSender(String teamsUrl) {
         final HttpRequest request = requestBuilder.build();
 
         try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            return ClientResponseCache.send(responseCache, request);
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new FoldingRestException("Error sending HTTP request to get team", e);
@@ -199,16 +268,7 @@ public record TeamRequestSender(String teamsUrl) {
      * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
      */
     public HttpResponse<String> create(final TeamRequest team, final String userName, final String password) throws FoldingRestException {
-        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(team)))
-            .uri(RestUri.create(teamsUrl))
-            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
-
-        if (StringUtils.isNeitherBlank(userName, password)) {
-            requestBuilder.header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password));
-        }
-
-        final HttpRequest request = requestBuilder.build();
+        final HttpRequest request = createRequest(team, userName, password);
 
         try {
             return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
@@ -220,6 +280,35 @@ public record TeamRequestSender(String teamsUrl) {
         }
     }
 
+    /**
+     * Send a <b>POST</b> request asynchronously to create the given {@link TeamRequest} in the system, using the supplied {@code userName}
+     * and {@code password} for authentication.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param team                   the {@link TeamRequest} to create
+     * @param userName               the username
+     * @param password               the password
+     * @return a {@link CompletableFuture} completed with the created {@link Team}
+     * @see #create(TeamRequest, String, String)
+     */
+    public CompletableFuture<Team> createAsync(final AsyncRequestDispatcher asyncRequestDispatcher, final TeamRequest team, final String userName,
+                                               final String password) {
+        return asyncRequestDispatcher.send(createRequest(team, userName, password), TeamResponseParser::create);
+    }
+
+    private HttpRequest createRequest(final TeamRequest team, final String userName, final String password) {
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(team)))
+            .uri(RestUri.create(teamsUrl))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
+
+        if (StringUtils.isNeitherBlank(userName, password)) {
+            requestBuilder.header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password));
+        }
+
+        return requestBuilder.build();
+    }
+
     /**
      * Send a <b>PUT</b> request to update the given {@link TeamRequest} in the system.
      *
@@ -279,4 +368,106 @@ public record TeamRequestSender(String teamsUrl) {
             throw new FoldingRestException("Error sending HTTP request to delete team", e);
         }
     }
+
+    /**
+     * Send a <b>POST</b> request to create all of the given {@link TeamRequest}s in the system in a single transaction, using the supplied
+     * {@code userName} and {@code password} for authentication.
+     *
+     * <p>
+     * If any {@link TeamRequest} fails validation, none are created. The result for each {@link TeamRequest} is returned in the same order
+     * as the input.
+     *
+     * @param teams    the {@link TeamRequest}s to create
+     * @param userName the username
+     * @param password the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> createBatch(final Collection<TeamRequest> teams, final String userName, final String password)
+        throws FoldingRestException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(teams)))
+            .uri(RestUri.create(teamsUrl, BATCH_PATH))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to create teams batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to create teams batch", e);
+        }
+    }
+
+    /**
+     * Send a <b>PUT</b> request to update all of the given {@link BatchUpdateRequest}s in the system in a single transaction, using the
+     * supplied {@code userName} and {@code password} for authentication.
+     *
+     * <p>
+     * If any {@link BatchUpdateRequest} fails validation, no {@link Team}s are updated. The result for each {@link BatchUpdateRequest} is
+     * returned in the same order as the input.
+     *
+     * @param teams    the {@link BatchUpdateRequest}s with the ID of each {@link Team} to update and its {@link TeamRequest}
+     * @param userName the username
+     * @param password the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> updateBatch(final Collection<BatchUpdateRequest<TeamRequest>> teams, final String userName,
+                                            final String password) throws FoldingRestException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .PUT(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(teams)))
+            .uri(RestUri.create(teamsUrl, BATCH_PATH))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to update team batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to update team batch", e);
+        }
+    }
+
+    /**
+     * Send a <b>DELETE</b> request to remove all {@link Team}s with the given {@code teamIds} in a single transaction.
+     *
+     * <p>
+     * If any {@link Team} cannot be deleted, none are deleted. The result for each ID is returned in the same order as the input.
+     *
+     * @param teamIds  the IDs of the {@link Team}s to remove
+     * @param userName the username
+     * @param password the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> deleteBatch(final Collection<Integer> teamIds, final String userName, final String password)
+        throws FoldingRestException {
+        final String ids = teamIds
+            .stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        final HttpRequest request = HttpRequest.newBuilder()
+            .DELETE()
+            .uri(RestUri.createWithFilter(teamsUrl + RestUri.REST_URI_PATH_SEPARATOR + BATCH_PATH, "ids", ids))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to delete teams batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to delete teams batch", e);
+        }
+    }
 }
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.stream.Collectors;
 import net.zodac.folding.api.tc.change.UserChange;
 import net.zodac.folding.api.tc.change.UserChangeState;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
@@ -122,9 +123,24 @@ public record UserChangeRequestSender(String requestUrl) {
      * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
      */
     public HttpResponse<String> getAllWithoutPasskeys() throws FoldingRestException {
+        return getAllWithoutPasskeys(PageRequest.all());
+    }
+
+    /**
+     * Send a <b>GET</b> request to retrieve a page of {@link UserChange}s in the system, with passkeys hidden and only the requested fields.
+     *
+     * <p>
+     * The total number of {@link UserChange}s is returned in the {@link RestHeader#TOTAL_COUNT} header, and the cursor for the next page (if any)
+     * is returned in the {@link RestHeader#NEXT_CURSOR} header.
+     *
+     * @param pageRequest the {@link PageRequest} defining the page and fields to retrieve
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> getAllWithoutPasskeys(final PageRequest pageRequest) throws FoldingRestException {
         final HttpRequest request = HttpRequest.newBuilder()
             .GET()
-            .uri(RestUri.create(requestUrl))
+            .uri(RestUri.createWithFilters(requestUrl, pageRequest.toQueryParameters()))
             .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
             .build();
 
@@ -22,8 +22,14 @@ import static net.zodac.folding.api.util.EncodingUtils.encodeBasicAuthentication
 import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.util.StringUtils;
+import net.zodac.folding.client.java.response.UserResponseParser;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
@@ -34,9 +40,12 @@ import org.jspecify.annotations.Nullable;
 /**
  * Convenience class to send HTTP requests to the {@link User} REST endpoint.
  *
- * @param usersUrl the URL to the {@link User} REST endpoint
+ * @param usersUrl      the URL to the {@link User} REST endpoint
+ * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests, or {@code null} if responses are not cached
  */
-public record UserRequestSender(String usersUrl) {
+public record UserRequestSender(String usersUrl, @Nullable ClientResponseCache responseCache) {
+
+    private static final String BATCH_PATH = "batch";
 
     /**
      * Create an instance of {@link UserRequestSender}.
@@ -47,7 +56,20 @@ public record UserRequestSender(String usersUrl) {
      */
     public static UserRequestSender createWithUrl(final String foldingUrl) {
         final String usersUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "users";
-        return new UserRequestSender(usersUrl);
+        return new UserRequestSender(usersUrl, null);
+    }
+
+    /**
+     * Create an instance of {@link UserRequestSender}, where <b>GET</b> requests are served from the {@link ClientResponseCache} where possible.
+     *
+     * @param foldingUrl    the root URL of the {@code /folding} endpoint, i.e:
+     *                      <pre>http://127.0.0.1:8080/folding</pre>
+     * @param responseCache the {@link ClientResponseCache} used for <b>GET</b> requests
+     * @return the created {@link UserRequestSender}
+     */
+    public static UserRequestSender createWithUrl(final String foldingUrl, final ClientResponseCache responseCache) {
+        final String usersUrl = foldingUrl + RestUri.REST_URI_PATH_SEPARATOR + "users";
+        return new UserRequestSender(usersUrl, responseCache);
     }
 
     /**
@@ -72,16 +94,23 @@ public record UserRequestSender(String usersUrl) {
      * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
      */
     public HttpResponse<String> getAllWithoutPasskeys(final @Nullable String entityTag) throws FoldingRestException {
-        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-            .GET()
-            .uri(RestUri.create(usersUrl))
-            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
-
-        if (StringUtils.isNotBlank(entityTag)) {
-            requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
-        }
+        return getAllWithoutPasskeys(PageRequest.all(), entityTag);
+    }
 
-        final HttpRequest request = requestBuilder.build();
+    /**
+     * Send a <b>GET</b> request to retrieve a page of {@link User}s in the system, with only the requested fields.
+     *
+     * <p>
+     * The total number of {@link User}s is returned in the {@link RestHeader#TOTAL_COUNT} header, and the cursor for the next page (if any) is
+     * returned in the {@link RestHeader#NEXT_CURSOR} header.
+     *
+     * @param pageRequest the {@link PageRequest} defining the page and fields to retrieve
+     * @param entityTag   the {@code ETag} from a previous {@link HttpResponse}, to retrieve cached {@link User}s
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> getAllWithoutPasskeys(final PageRequest pageRequest, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getAllWithoutPasskeysRequest(pageRequest, entityTag);
 
         try {
             return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
@@ -93,6 +122,30 @@ public record UserRequestSender(String usersUrl) {
         }
     }
 
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve all {@link User}s in the system.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @return a {@link CompletableFuture} completed with the retrieved {@link User}s
+     * @see #getAllWithoutPasskeys()
+     */
+    public CompletableFuture<Collection<User>> getAllWithoutPasskeysAsync(final AsyncRequestDispatcher asyncRequestDispatcher) {
+        return asyncRequestDispatcher.send(getAllWithoutPasskeysRequest(PageRequest.all(), null), UserResponseParser::getAll);
+    }
+
+    private HttpRequest getAllWithoutPasskeysRequest(final PageRequest pageRequest, final @Nullable String entityTag) {
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            .GET()
+            .uri(RestUri.createWithFilters(usersUrl, pageRequest.toQueryParameters()))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue());
+
+        if (StringUtils.isNotBlank(entityTag)) {
+            requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
+        }
+
+        return requestBuilder.build();
+    }
+
     /**
      * Send a <b>GET</b> request to retrieve all {@link User}s in the system, with passkeys shown.
      *
@@ -168,6 +221,31 @@ public record UserRequestSender(String usersUrl) {
      * @see #get(int)
      */
     public HttpResponse<String> get(final int userId, final @Nullable String entityTag) throws FoldingRestException {
+        final HttpRequest request = getRequest(userId, entityTag);
+
+        try {
+            return ClientResponseCache.send(responseCache, request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to get user with passkey", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to get user with passkey", e);
+        }
+    }
+
+    /**
+     * Send a <b>GET</b> request asynchronously to retrieve a single {@link User} with the given {@code userId}.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param userId                 the ID of the {@link User} to be retrieved
+     * @return a {@link CompletableFuture} completed with the retrieved {@link User}
+     * @see #get(int)
+     */
+    public CompletableFuture<User> getAsync(final AsyncRequestDispatcher asyncRequestDispatcher, final int userId) {
+        return asyncRequestDispatcher.send(getRequest(userId, null), UserResponseParser::get);
+    }
+
+    private HttpRequest getRequest(final int userId, final @Nullable String entityTag) {
         final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
             .GET()
             .uri(RestUri.create(usersUrl, userId))
@@ -177,16 +255,7 @@ public record UserRequestSender(String usersUrl) {
             requestBuilder.header(RestHeader.IF_NONE_MATCH.headerName(), entityTag);
         }
 
-        final HttpRequest request = requestBuilder.build();
-
-        try {
-            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FoldingRestException("Error sending HTTP request to get user with passkey", e);
-        } catch (final IOException e) {
-            throw new FoldingRestException("Error sending HTTP request to get user with passkey", e);
-        }
+        return requestBuilder.build();
     }
 
     /**
@@ -255,11 +324,7 @@ public record UserRequestSender(String usersUrl) {
      * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
      */
     public HttpResponse<String> create(final UserRequest user, final String userName, final String password) throws FoldingRestException {
-        final HttpRequest request = HttpRequest.newBuilder()
-            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(user)))
-            .uri(RestUri.create(usersUrl))
-            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
-            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password)).build();
+        final HttpRequest request = createRequest(user, userName, password);
 
         try {
             return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
@@ -271,6 +336,30 @@ public record UserRequestSender(String usersUrl) {
         }
     }
 
+    /**
+     * Send a <b>POST</b> request asynchronously to create the given {@link UserRequest} in the system, using the supplied {@code userName}
+     * and {@code password} for authentication.
+     *
+     * @param asyncRequestDispatcher the {@link AsyncRequestDispatcher} used to send the {@link HttpRequest}
+     * @param user                   the {@link UserRequest} to create
+     * @param userName               the username
+     * @param password               the password
+     * @return a {@link CompletableFuture} completed with the created {@link User}
+     * @see #create(UserRequest, String, String)
+     */
+    public CompletableFuture<User> createAsync(final AsyncRequestDispatcher asyncRequestDispatcher, final UserRequest user, final String userName,
+                                               final String password) {
+        return asyncRequestDispatcher.send(createRequest(user, userName, password), UserResponseParser::create);
+    }
+
+    private HttpRequest createRequest(final UserRequest user, final String userName, final String password) {
+        return HttpRequest.newBuilder()
+            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(user)))
+            .uri(RestUri.create(usersUrl))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password)).build();
+    }
+
     /**
      * Send a <b>PUT</b> request to update the given {@link UserRequest} in the system.
      *
@@ -326,4 +415,106 @@ public record UserRequestSender(String usersUrl) {
             throw new FoldingRestException("Error sending HTTP request to delete user", e);
         }
     }
+
+    /**
+     * Send a <b>POST</b> request to create all of the given {@link UserRequest}s in the system in a single transaction, using the supplied
+     * {@code userName} and {@code password} for authentication.
+     *
+     * <p>
+     * If any {@link UserRequest} fails validation, none are created. The result for each {@link UserRequest} is returned in the same order
+     * as the input.
+     *
+     * @param users    the {@link UserRequest}s to create
+     * @param userName the username
+     * @param password the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> createBatch(final Collection<UserRequest> users, final String userName, final String password)
+        throws FoldingRestException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .POST(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(users)))
+            .uri(RestUri.create(usersUrl, BATCH_PATH))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to create users batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to create users batch", e);
+        }
+    }
+
+    /**
+     * Send a <b>PUT</b> request to update all of the given {@link BatchUpdateRequest}s in the system in a single transaction, using the
+     * supplied {@code userName} and {@code password} for authentication.
+     *
+     * <p>
+     * If any {@link BatchUpdateRequest} fails validation, no {@link User}s are updated. The result for each {@link BatchUpdateRequest} is
+     * returned in the same order as the input.
+     *
+     * @param users    the {@link BatchUpdateRequest}s with the ID of each {@link User} to update and its {@link UserRequest}
+     * @param userName the username
+     * @param password the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> updateBatch(final Collection<BatchUpdateRequest<UserRequest>> users, final String userName,
+                                            final String password) throws FoldingRestException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .PUT(HttpRequest.BodyPublishers.ofString(RestUtilConstants.GSON.toJson(users)))
+            .uri(RestUri.create(usersUrl, BATCH_PATH))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to update user batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to update user batch", e);
+        }
+    }
+
+    /**
+     * Send a <b>DELETE</b> request to remove all {@link User}s with the given {@code userIds} in a single transaction.
+     *
+     * <p>
+     * If any {@link User} cannot be deleted, none are deleted. The result for each ID is returned in the same order as the input.
+     *
+     * @param userIds  the IDs of the {@link User}s to remove
+     * @param userName the username
+     * @param password the password
+     * @return the {@link HttpResponse} from the {@link HttpRequest}
+     * @throws FoldingRestException thrown if an error occurs sending the {@link HttpRequest}
+     */
+    public HttpResponse<String> deleteBatch(final Collection<Integer> userIds, final String userName, final String password)
+        throws FoldingRestException {
+        final String ids = userIds
+            .stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        final HttpRequest request = HttpRequest.newBuilder()
+            .DELETE()
+            .uri(RestUri.createWithFilter(usersUrl + RestUri.REST_URI_PATH_SEPARATOR + BATCH_PATH, "ids", ids))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(userName, password))
+            .build();
+
+        try {
+            return RestUtilConstants.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FoldingRestException("Error sending HTTP request to delete users batch", e);
+        } catch (final IOException e) {
+            throw new FoldingRestException("Error sending HTTP request to delete users batch", e);
+        }
+    }
 }
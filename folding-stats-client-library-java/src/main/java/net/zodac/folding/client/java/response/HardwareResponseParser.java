@@ -23,6 +23,8 @@ import java.net.http.HttpResponse;
 import java.util.Collection;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.client.java.request.HardwareRequestSender;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
 import net.zodac.folding.rest.api.tc.request.HardwareRequest;
 import net.zodac.folding.rest.api.util.RestUtilConstants;
 
@@ -79,6 +81,42 @@ public final class HardwareResponseParser {
         return RestUtilConstants.GSON.fromJson(response.body(), Hardware.class);
     }
 
+    /**
+     * Returns the results for each {@link HardwareRequest} sent by
+     * {@link HardwareRequestSender#createBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each {@link HardwareRequest}, in the order they were sent
+     */
+    public static Collection<BatchItemResult<Hardware>> createBatch(final HttpResponse<String> response) {
+        final Type collectionType = HardwareBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
+    /**
+     * Returns the results for each {@link BatchUpdateRequest} sent by
+     * {@link HardwareRequestSender#updateBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each {@link BatchUpdateRequest}, in the order they were sent
+     */
+    public static Collection<BatchItemResult<Hardware>> updateBatch(final HttpResponse<String> response) {
+        final Type collectionType = HardwareBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
+    /**
+     * Returns the results for each ID sent by
+     * {@link HardwareRequestSender#deleteBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each ID, in the order they were sent
+     */
+    public static Collection<BatchItemResult<Hardware>> deleteBatch(final HttpResponse<String> response) {
+        final Type collectionType = HardwareBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
     /**
      * Private class defining the {@link Collection} for {@link Hardware}s.
      */
@@ -95,4 +133,21 @@ public final class HardwareResponseParser {
             return INSTANCE;
         }
     }
+
+    /**
+     * Private class defining the {@link Collection} for {@link BatchItemResult}s of {@link Hardware}s.
+     */
+    private static final class HardwareBatchResultCollectionType extends TypeToken<Collection<BatchItemResult<Hardware>>> {
+
+        private static final HardwareBatchResultCollectionType INSTANCE = new HardwareBatchResultCollectionType();
+
+        /**
+         * Retrieve a singleton instance of {@link HardwareBatchResultCollectionType}.
+         *
+         * @return {@link HardwareBatchResultCollectionType} instance.
+         */
+        static HardwareBatchResultCollectionType getInstance() {
+            return INSTANCE;
+        }
+    }
 }
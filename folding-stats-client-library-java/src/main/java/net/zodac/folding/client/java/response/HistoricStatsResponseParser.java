@@ -25,6 +25,7 @@ import java.time.Year;
 import java.util.Collection;
 import net.zodac.folding.client.java.request.HistoricStatsRequestSender;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.historic.UserHistoricStats;
 import net.zodac.folding.rest.api.util.RestUtilConstants;
 
 /**
@@ -102,11 +103,38 @@ public final class HistoricStatsResponseParser {
         return convertHistoricStats(response.body());
     }
 
+    /**
+     * Returns the {@link UserHistoricStats} retrieved by
+     * {@link HistoricStatsRequestSender#getDailyStatsForUsers(Collection, Year, Month)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the retrieved {@link UserHistoricStats} for each requested user
+     */
+    public static Collection<UserHistoricStats> getDailyStatsForUsers(final HttpResponse<String> response) {
+        return convertUserHistoricStats(response.body());
+    }
+
+    /**
+     * Returns the {@link UserHistoricStats} retrieved by
+     * {@link HistoricStatsRequestSender#getHourlyStatsForUsers(Collection, Year, Month, int)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the retrieved {@link UserHistoricStats} for each requested user
+     */
+    public static Collection<UserHistoricStats> getHourlyStatsForUsers(final HttpResponse<String> response) {
+        return convertUserHistoricStats(response.body());
+    }
+
     private static Collection<HistoricStats> convertHistoricStats(final String responseBody) {
         final Type collectionType = HistoricStatsCollectionType.getInstance().getType();
         return RestUtilConstants.GSON.fromJson(responseBody, collectionType);
     }
 
+    private static Collection<UserHistoricStats> convertUserHistoricStats(final String responseBody) {
+        final Type collectionType = UserHistoricStatsCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(responseBody, collectionType);
+    }
+
     /**
      * Private class defining the {@link Collection} for {@link HistoricStats}.
      */
@@ -123,4 +151,21 @@ public final class HistoricStatsResponseParser {
             return INSTANCE;
         }
     }
+
+    /**
+     * Private class defining the {@link Collection} for {@link UserHistoricStats}.
+     */
+    private static final class UserHistoricStatsCollectionType extends TypeToken<Collection<UserHistoricStats>> {
+
+        private static final UserHistoricStatsCollectionType INSTANCE = new UserHistoricStatsCollectionType();
+
+        /**
+         * Retrieve a singleton instance of {@link UserHistoricStatsCollectionType}.
+         *
+         * @return {@link UserHistoricStatsCollectionType} instance.
+         */
+        static UserHistoricStatsCollectionType getInstance() {
+            return INSTANCE;
+        }
+    }
 }
@@ -29,6 +29,7 @@ import net.zodac.folding.rest.api.tc.CompetitionSummary;
 import net.zodac.folding.rest.api.tc.UserSummary;
 import net.zodac.folding.rest.api.tc.leaderboard.TeamLeaderboardEntry;
 import net.zodac.folding.rest.api.tc.leaderboard.UserCategoryLeaderboardEntry;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
 import net.zodac.folding.rest.api.util.RestUtilConstants;
 
 /**
@@ -70,6 +71,16 @@ public final class TeamCompetitionStatsResponseParser {
         return RestUtilConstants.GSON.fromJson(response.body(), UserSummary.class);
     }
 
+    /**
+     * Returns the {@link StatsChanges} retrieved by {@link TeamCompetitionStatsRequestSender#getChanges(long)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the retrieved {@link StatsChanges}
+     */
+    public static StatsChanges getChanges(final HttpResponse<String> response) {
+        return RestUtilConstants.GSON.fromJson(response.body(), StatsChanges.class);
+    }
+
     /**
      * Returns the {@link TeamLeaderboardEntry}s retrieved by {@link TeamCompetitionStatsRequestSender#getTeamLeaderboard()}.
      *
@@ -23,6 +23,8 @@ import java.net.http.HttpResponse;
 import java.util.Collection;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.client.java.request.TeamRequestSender;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
 import net.zodac.folding.rest.api.tc.request.TeamRequest;
 import net.zodac.folding.rest.api.util.RestUtilConstants;
 
@@ -79,6 +81,42 @@ public final class TeamResponseParser {
         return RestUtilConstants.GSON.fromJson(response.body(), Team.class);
     }
 
+    /**
+     * Returns the results for each {@link TeamRequest} sent by
+     * {@link TeamRequestSender#createBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each {@link TeamRequest}, in the order they were sent
+     */
+    public static Collection<BatchItemResult<Team>> createBatch(final HttpResponse<String> response) {
+        final Type collectionType = TeamBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
+    /**
+     * Returns the results for each {@link BatchUpdateRequest} sent by
+     * {@link TeamRequestSender#updateBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each {@link BatchUpdateRequest}, in the order they were sent
+     */
+    public static Collection<BatchItemResult<Team>> updateBatch(final HttpResponse<String> response) {
+        final Type collectionType = TeamBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
+    /**
+     * Returns the results for each ID sent by
+     * {@link TeamRequestSender#deleteBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each ID, in the order they were sent
+     */
+    public static Collection<BatchItemResult<Team>> deleteBatch(final HttpResponse<String> response) {
+        final Type collectionType = TeamBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
     /**
      * Private class defining the {@link Collection} for {@link Team}s.
      */
@@ -95,4 +133,21 @@ public final class TeamResponseParser {
             return INSTANCE;
         }
     }
+
+    /**
+     * Private class defining the {@link Collection} for {@link BatchItemResult}s of {@link Team}s.
+     */
+    private static final class TeamBatchResultCollectionType extends TypeToken<Collection<BatchItemResult<Team>>> {
+
+        private static final TeamBatchResultCollectionType INSTANCE = new TeamBatchResultCollectionType();
+
+        /**
+         * Retrieve a singleton instance of {@link TeamBatchResultCollectionType}.
+         *
+         * @return {@link TeamBatchResultCollectionType} instance.
+         */
+        static TeamBatchResultCollectionType getInstance() {
+            return INSTANCE;
+        }
+    }
 }
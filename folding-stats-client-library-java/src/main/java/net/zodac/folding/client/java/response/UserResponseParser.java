@@ -23,6 +23,8 @@ import java.net.http.HttpResponse;
 import java.util.Collection;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.client.java.request.UserRequestSender;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
 import net.zodac.folding.rest.api.tc.request.UserRequest;
 import net.zodac.folding.rest.api.util.RestUtilConstants;
 
@@ -82,6 +84,42 @@ public final class UserResponseParser {
         return RestUtilConstants.GSON.fromJson(response.body(), User.class);
     }
 
+    /**
+     * Returns the results for each {@link UserRequest} sent by
+     * {@link UserRequestSender#createBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each {@link UserRequest}, in the order they were sent
+     */
+    public static Collection<BatchItemResult<User>> createBatch(final HttpResponse<String> response) {
+        final Type collectionType = UserBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
+    /**
+     * Returns the results for each {@link BatchUpdateRequest} sent by
+     * {@link UserRequestSender#updateBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each {@link BatchUpdateRequest}, in the order they were sent
+     */
+    public static Collection<BatchItemResult<User>> updateBatch(final HttpResponse<String> response) {
+        final Type collectionType = UserBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
+    /**
+     * Returns the results for each ID sent by
+     * {@link UserRequestSender#deleteBatch(Collection, String, String)}.
+     *
+     * @param response the {@link HttpResponse} to parse
+     * @return the {@link BatchItemResult} for each ID, in the order they were sent
+     */
+    public static Collection<BatchItemResult<User>> deleteBatch(final HttpResponse<String> response) {
+        final Type collectionType = UserBatchResultCollectionType.getInstance().getType();
+        return RestUtilConstants.GSON.fromJson(response.body(), collectionType);
+    }
+
     /**
      * Private class defining the {@link Collection} for {@link User}s.
      */
@@ -98,4 +136,21 @@ public final class UserResponseParser {
             return INSTANCE;
         }
     }
+
+    /**
+     * Private class defining the {@link Collection} for {@link BatchItemResult}s of {@link User}s.
+     */
+    private static final class UserBatchResultCollectionType extends TypeToken<Collection<BatchItemResult<User>>> {
+
+        private static final UserBatchResultCollectionType INSTANCE = new UserBatchResultCollectionType();
+
+        /**
+         * Retrieve a singleton instance of {@link UserBatchResultCollectionType}.
+         *
+         * @return {@link UserBatchResultCollectionType} instance.
+         */
+        static UserBatchResultCollectionType getInstance() {
+            return INSTANCE;
+        }
+    }
 }
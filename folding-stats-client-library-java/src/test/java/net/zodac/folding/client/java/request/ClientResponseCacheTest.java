@@ -0,0 +1,226 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.client.java.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import javax.net.ssl.SSLSession;
+import net.zodac.folding.rest.api.header.RestHeader;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClientResponseCache}.
+ */
+class ClientResponseCacheTest {
+
+    private static final URI FIRST_URI = URI.create("http://127.0.0.1:8080/folding/stats");
+    private static final URI SECOND_URI = URI.create("http://127.0.0.1:8080/folding/stats/summary");
+    private static final long DEFAULT_MAXIMUM_SIZE_BYTES = 1_024L;
+    private static final int OK = 200;
+    private static final int NOT_MODIFIED = 304;
+
+    @Test
+    void whenSending_givenResponseWithMaxAge_thenSecondRequestIsServedFromCache() {
+        final ClientResponseCache cache = ClientResponseCache.create(DEFAULT_MAXIMUM_SIZE_BYTES);
+        final RecordingSender sender = new RecordingSender(request -> response(request, OK, "body", "max-age=60", null));
+
+        final HttpResponse<String> first = cache.send(get(FIRST_URI), sender).join();
+        final HttpResponse<String> second = cache.send(get(FIRST_URI), sender).join();
+
+        assertThat(sender.sentRequests())
+            .as("Expected only the first request to be sent to the server")
+            .hasSize(1);
+        assertThat(second.body())
+            .as("Expected the cached body to be returned")
+            .isEqualTo(first.body());
+        assertThat(cache.hitCount())
+            .as("Expected the second request to be a cache hit")
+            .isOne();
+        assertThat(cache.missCount())
+            .as("Expected the first request to be a cache miss")
+            .isOne();
+    }
+
+    @Test
+    void whenSending_givenResponseWithNoStore_thenResponseIsNotCached() {
+        final ClientResponseCache cache = ClientResponseCache.create(DEFAULT_MAXIMUM_SIZE_BYTES);
+        final RecordingSender sender = new RecordingSender(request -> response(request, OK, "body", "no-store, max-age=60", "\"tag\""));
+
+        cache.send(get(FIRST_URI), sender).join();
+        cache.send(get(FIRST_URI), sender).join();
+
+        assertThat(sender.sentRequests())
+            .as("Expected both requests to be sent to the server")
+            .hasSize(2);
+        assertThat(cache.size())
+            .as("Expected no responses to be cached")
+            .isZero();
+        assertThat(cache.hitCount())
+            .as("Expected no cache hits")
+            .isZero();
+    }
+
+    @Test
+    void whenSending_givenStaleResponseWithEntityTagAndServerRespondsNotModified_thenCachedBodyIsReturned() {
+        final ClientResponseCache cache = ClientResponseCache.create(DEFAULT_MAXIMUM_SIZE_BYTES);
+        final RecordingSender sender = new RecordingSender(request -> request.headers().firstValue(RestHeader.IF_NONE_MATCH.headerName()).isPresent()
+            ? response(request, NOT_MODIFIED, "", "no-cache", "\"tag\"")
+            : response(request, OK, "body", "no-cache", "\"tag\""));
+
+        cache.send(get(FIRST_URI), sender).join();
+        final HttpResponse<String> revalidated = cache.send(get(FIRST_URI), sender).join();
+
+        assertThat(sender.sentRequests())
+            .as("Expected the stale response to be revalidated with the server")
+            .hasSize(2);
+        assertThat(sender.sentRequests().getLast().headers().firstValue(RestHeader.IF_NONE_MATCH.headerName()))
+            .as("Expected the revalidation request to be conditional on the cached ETag")
+            .contains("\"tag\"");
+        assertThat(revalidated.statusCode())
+            .as("Expected the 304 response to be replaced by the cached response")
+            .isEqualTo(OK);
+        assertThat(revalidated.body())
+            .as("Expected the cached body to be returned")
+            .isEqualTo("body");
+        assertThat(cache.hitCount())
+            .as("Expected the revalidated request to be a cache hit")
+            .isOne();
+    }
+
+    @Test
+    void whenSending_givenCacheExceedsMaximumSize_thenLeastRecentlyUsedResponseIsEvicted() {
+        final ClientResponseCache cache = ClientResponseCache.create(20L);
+        final RecordingSender sender = new RecordingSender(request -> response(request, OK, "12345678", "max-age=60", null));
+
+        cache.send(get(FIRST_URI), sender).join();
+        cache.send(get(SECOND_URI), sender).join();
+        cache.send(get(FIRST_URI), sender).join();
+
+        assertThat(cache.evictionCount())
+            .as("Expected a response to be evicted each time a new response was cached")
+            .isEqualTo(2L);
+        assertThat(cache.size())
+            .as("Expected only one response to fit in the cache")
+            .isOne();
+        assertThat(sender.sentRequests())
+            .as("Expected the evicted response to be retrieved from the server again")
+            .hasSize(3);
+    }
+
+    @Test
+    void whenSending_givenConcurrentRequestsForSameUrl_thenOnlyOneRequestIsSentToServer() {
+        final ClientResponseCache cache = ClientResponseCache.create(DEFAULT_MAXIMUM_SIZE_BYTES);
+        final CompletableFuture<HttpResponse<String>> serverResponse = new CompletableFuture<>();
+        final RecordingSender sender = new RecordingSender(_ -> serverResponse);
+
+        final CompletableFuture<HttpResponse<String>> first = cache.send(get(FIRST_URI), sender);
+        final CompletableFuture<HttpResponse<String>> second = cache.send(get(FIRST_URI), sender);
+        serverResponse.complete(response(get(FIRST_URI), OK, "body", "no-cache", null).join());
+
+        assertThat(sender.sentRequests())
+            .as("Expected the concurrent requests to be coalesced into a single request")
+            .hasSize(1);
+        assertThat(first.join().body())
+            .as("Expected the first request to receive the server response")
+            .isEqualTo("body");
+        assertThat(second.join().body())
+            .as("Expected the coalesced request to receive the server response")
+            .isEqualTo("body");
+        assertThat(cache.coalescedCount())
+            .as("Expected the second request to be coalesced")
+            .isOne();
+    }
+
+    private static HttpRequest get(final URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    private static CompletableFuture<HttpResponse<String>> response(final HttpRequest request, final int statusCode, final String body,
+                                                                    final String cacheControl, final @Nullable String entityTag) {
+        final Map<String, List<String>> headers = entityTag == null
+            ? Map.of(RestHeader.CACHE_CONTROL.headerName(), List.of(cacheControl))
+            : Map.of(RestHeader.CACHE_CONTROL.headerName(), List.of(cacheControl), RestHeader.ETAG.headerName(), List.of(entityTag));
+        return CompletableFuture.completedFuture(new StubHttpResponse(request, statusCode, HttpHeaders.of(headers, (_, _) -> true), body));
+    }
+
+    /**
+     * Request sender that records each {@link HttpRequest} before delegating to the stubbed server.
+     */
+    private static final class RecordingSender implements Function<HttpRequest, CompletableFuture<HttpResponse<String>>> {
+
+        private final List<HttpRequest> sentRequests = new ArrayList<>();
+        private final Function<HttpRequest, CompletableFuture<HttpResponse<String>>> server;
+
+        RecordingSender(final Function<HttpRequest, CompletableFuture<HttpResponse<String>>> server) {
+            this.server = server;
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<String>> apply(final HttpRequest request) {
+            sentRequests.add(request);
+            return server.apply(request);
+        }
+
+        List<HttpRequest> sentRequests() {
+            return sentRequests;
+        }
+    }
+
+    /**
+     * Stubbed {@link HttpResponse} returned by the server.
+     *
+     * @param request    the {@link HttpRequest} being responded to
+     * @param statusCode the status code
+     * @param headers    the {@link HttpHeaders}
+     * @param body       the body
+     */
+    private record StubHttpResponse(HttpRequest request, int statusCode, HttpHeaders headers, String body) implements HttpResponse<String> {
+
+        @Override
+        public Optional<HttpResponse<String>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
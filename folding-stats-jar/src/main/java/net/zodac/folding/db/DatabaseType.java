@@ -30,6 +30,11 @@ public enum DatabaseType {
      */
     POSTGRESQL,
 
+    /**
+     * The system is holding all data in memory, with nothing persisted. Intended for benchmarking and local development.
+     */
+    IN_MEMORY,
+
     /**
      * Not a valid {@link DatabaseType}.
      */
@@ -0,0 +1,1269 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.memory;
+
+import static net.zodac.folding.api.util.DateTimeConverterUtils.formatMonth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import net.zodac.folding.api.UserAuthenticationResult;
+import net.zodac.folding.api.db.DbManager;
+import net.zodac.folding.api.tc.Category;
+import net.zodac.folding.api.tc.Hardware;
+import net.zodac.folding.api.tc.Role;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.change.UserChange;
+import net.zodac.folding.api.tc.change.UserChangeState;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.tc.ingestion.IngestionRunFailure;
+import net.zodac.folding.api.tc.result.MonthlyResult;
+import net.zodac.folding.api.tc.stats.OffsetTcStats;
+import net.zodac.folding.api.tc.stats.RetiredUserTcStats;
+import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.DateTimeConverterUtils;
+import net.zodac.folding.api.util.DateTimeUtils;
+import net.zodac.folding.api.util.DecodedLoginCredentials;
+import net.zodac.folding.api.util.LoggerName;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of {@link DbManager} which holds all data in memory, with nothing persisted once the application is stopped.
+ *
+ * <p>
+ * Intended for benchmarking the REST and stats ingestion layers without any DB I/O, and for running the system locally without a DB. Each table is
+ * held in a concurrent map keyed by its ID, and the stats for each {@link User} are held in a {@link StatsTimeSeries} of primitive arrays. All
+ * methods have the same semantics as the <b>PostgreSQL</b> implementation, including the historic stats aggregations, the primary/unique/foreign key
+ * constraints of the DB schema (violations throw an {@link IllegalStateException}) and the cascading deletes.
+ *
+ * <p>
+ * Single writes can be executed concurrently, and are applied directly to the maps. Writes that check a unique constraint are only serialized
+ * against each other, using an index of the unique values so the check does not scan the table. Deletes (which may cascade) and a unit of work
+ * started by {@link #inTransaction(Function)} are executed exclusively of all other writes. A unit of work records the previous value of each entry
+ * it changes, and restores them if it fails. Reads are never blocked, so may see the uncommitted changes of a unit of work in progress.
+ */
+public final class InMemoryDbManager implements DbManager {
+
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+    private static final Logger SQL_LOGGER = LogManager.getLogger(LoggerName.SQL.get());
+    private static final ScopedValue<Transaction> CURRENT_TRANSACTION = ScopedValue.newInstance();
+
+    private static final long MILLIS_PER_HOUR = 60L * 60L * 1_000L;
+    private static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+    private static final int SALT_LENGTH = 16;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final Map<Integer, Hardware> hardware = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Team> teams = new ConcurrentSkipListMap<>();
+    private final Map<Integer, UserRow> users = new ConcurrentSkipListMap<>();
+    private final Map<Integer, UserChange> userChanges = new ConcurrentSkipListMap<>();
+    private final Map<Integer, RetiredUserTcStats> retiredUserStats = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<LocalDateTime, MonthlyResult> monthlyResults = new ConcurrentSkipListMap<>();
+    private final Map<Integer, IngestionRun> ingestionRuns = new ConcurrentSkipListMap<>();
+    private final Map<Integer, OffsetTcStats> offsetStats = new ConcurrentHashMap<>();
+    private final Map<Integer, StatsTimeSeries> initialStats = new ConcurrentHashMap<>();
+    private final Map<Integer, StatsTimeSeries> totalStats = new ConcurrentHashMap<>();
+    private final Map<Integer, StatsTimeSeries> hourlyTcStats = new ConcurrentHashMap<>();
+
+    // Indexes of the unique constraints, mapping each unique value to the ID of the entry holding it
+    private final Map<String, Integer> hardwareIdsByName = new ConcurrentHashMap<>();
+    private final Map<String, Integer> teamIdsByName = new ConcurrentHashMap<>();
+    private final Map<UserCredentials, Integer> userIdsByCredentials = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hardwareIds = new AtomicInteger();
+    private final AtomicInteger teamIds = new AtomicInteger();
+    private final AtomicInteger userIds = new AtomicInteger();
+    private final AtomicInteger userChangeIds = new AtomicInteger();
+    private final AtomicInteger retiredUserIds = new AtomicInteger();
+    private final AtomicInteger ingestionRunIds = new AtomicInteger();
+
+    private final Map<String, StoredSystemUser> systemUsers;
+
+    // Single writes take the shared lock, deletes and units of work take the exclusive lock
+    private final Lock sharedWriteLock;
+    private final Lock exclusiveWriteLock;
+    private final Lock uniqueConstraintLock = new ReentrantLock();
+
+    private InMemoryDbManager(final Map<String, StoredSystemUser> systemUsers) {
+        this.systemUsers = systemUsers;
+
+        final ReentrantReadWriteLock writeLock = new ReentrantReadWriteLock();
+        sharedWriteLock = writeLock.readLock();
+        exclusiveWriteLock = writeLock.writeLock();
+    }
+
+    /**
+     * Creates an empty instance of {@link InMemoryDbManager}.
+     *
+     * @param systemUsers the {@link SystemUser}s that can be authenticated by {@link #authenticateSystemUser(DecodedLoginCredentials)}
+     * @return the created {@link InMemoryDbManager}
+     */
+    public static InMemoryDbManager create(final Collection<SystemUser> systemUsers) {
+        final Map<String, StoredSystemUser> storedSystemUsers = systemUsers
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(SystemUser::userName, StoredSystemUser::create));
+        return new InMemoryDbManager(storedSystemUsers);
+    }
+
+    @Override
+    public Hardware createHardware(final Hardware hardware) {
+        return writeWithUniqueConstraint(() -> {
+            requireUniqueHardwareName(hardware);
+            final int hardwareId = hardwareIds.incrementAndGet();
+            final Hardware createdHardware = Hardware.updateWithId(hardwareId, hardware);
+
+            captureEntry(this.hardware, hardwareId);
+            this.hardware.put(hardwareId, createdHardware);
+            reindex(hardwareIdsByName, null, createdHardware.hardwareName(), hardwareId);
+            return createdHardware;
+        });
+    }
+
+    @Override
+    public Collection<Hardware> getAllHardware() {
+        return List.copyOf(hardware.values());
+    }
+
+    @Override
+    public Optional<Hardware> getHardware(final int hardwareId) {
+        return Optional.ofNullable(hardware.get(hardwareId));
+    }
+
+    @Override
+    public Hardware updateHardware(final Hardware hardwareToUpdate) {
+        writeWithUniqueConstraint(() -> {
+            final Hardware existingHardware = hardware.get(hardwareToUpdate.id());
+            if (existingHardware == null) {
+                return false;
+            }
+
+            requireUniqueHardwareName(hardwareToUpdate);
+            captureEntry(hardware, hardwareToUpdate.id());
+            hardware.put(hardwareToUpdate.id(), hardwareToUpdate);
+            reindex(hardwareIdsByName, existingHardware.hardwareName(), hardwareToUpdate.hardwareName(), hardwareToUpdate.id());
+            return true;
+        });
+
+        return hardwareToUpdate;
+    }
+
+    @Override
+    public void deleteHardware(final int hardwareId) {
+        inTransaction(_ -> {
+            if (users.values().stream().anyMatch(user -> user.hardwareId() == hardwareId)) {
+                throw new IllegalStateException(String.format("Hardware %d is still referenced by a user", hardwareId));
+            }
+
+            captureEntry(hardware, hardwareId);
+            final Hardware deletedHardware = hardware.remove(hardwareId);
+            if (deletedHardware != null) {
+                reindex(hardwareIdsByName, deletedHardware.hardwareName(), null, hardwareId);
+            }
+            return deletedHardware != null;
+        });
+    }
+
+    @Override
+    public Team createTeam(final Team team) {
+        return writeWithUniqueConstraint(() -> {
+            requireUniqueTeamName(team);
+            final int teamId = teamIds.incrementAndGet();
+            final Team createdTeam = Team.updateWithId(teamId, team);
+
+            captureEntry(teams, teamId);
+            teams.put(teamId, createdTeam);
+            reindex(teamIdsByName, null, createdTeam.teamName(), teamId);
+            return createdTeam;
+        });
+    }
+
+    @Override
+    public Collection<Team> getAllTeams() {
+        return List.copyOf(teams.values());
+    }
+
+    @Override
+    public Optional<Team> getTeam(final int teamId) {
+        return Optional.ofNullable(teams.get(teamId));
+    }
+
+    @Override
+    public Team updateTeam(final Team teamToUpdate) {
+        writeWithUniqueConstraint(() -> {
+            final Team existingTeam = teams.get(teamToUpdate.id());
+            if (existingTeam == null) {
+                return false;
+            }
+
+            requireUniqueTeamName(teamToUpdate);
+            captureEntry(teams, teamToUpdate.id());
+            teams.put(teamToUpdate.id(), teamToUpdate);
+            reindex(teamIdsByName, existingTeam.teamName(), teamToUpdate.teamName(), teamToUpdate.id());
+            return true;
+        });
+
+        return teamToUpdate;
+    }
+
+    @Override
+    public void deleteTeam(final int teamId) {
+        SQL_LOGGER.info("Deleting team {} from memory", teamId);
+        inTransaction(_ -> {
+            if (users.values().stream().anyMatch(user -> user.teamId() == teamId)) {
+                throw new IllegalStateException(String.format("Team %d is still referenced by a user", teamId));
+            }
+
+            final List<Integer> retiredUserIdsToDelete = retiredUserStats.values()
+                .stream()
+                .filter(retiredUser -> retiredUser.teamId() == teamId)
+                .map(RetiredUserTcStats::retiredUserId)
+                .toList();
+            for (final int retiredUserId : retiredUserIdsToDelete) {
+                captureEntry(retiredUserStats, retiredUserId);
+                retiredUserStats.remove(retiredUserId);
+            }
+
+            captureEntry(teams, teamId);
+            final Team deletedTeam = teams.remove(teamId);
+            if (deletedTeam != null) {
+                reindex(teamIdsByName, deletedTeam.teamName(), null, teamId);
+            }
+            return deletedTeam != null;
+        });
+    }
+
+    @Override
+    public User createUser(final User user) {
+        return writeWithUniqueConstraint(() -> {
+            final int userId = userIds.incrementAndGet();
+            final UserRow userRow = UserRow.create(userId, user);
+            requireValidUser(userRow);
+
+            captureEntry(users, userId);
+            users.put(userId, userRow);
+            reindex(userIdsByCredentials, null, UserCredentials.create(userRow), userId);
+            return User.updateWithId(userId, user);
+        });
+    }
+
+    @Override
+    public Collection<User> getAllUsers() {
+        return users.values()
+            .stream()
+            .map(this::toUser)
+            .toList();
+    }
+
+    @Override
+    public Optional<User> getUser(final int userId) {
+        return Optional.ofNullable(users.get(userId))
+            .map(this::toUser);
+    }
+
+    @Override
+    public User updateUser(final User userToUpdate) {
+        writeWithUniqueConstraint(() -> {
+            final UserRow existingUserRow = users.get(userToUpdate.id());
+            if (existingUserRow == null) {
+                return false;
+            }
+
+            final UserRow userRow = UserRow.create(userToUpdate.id(), userToUpdate);
+            requireValidUser(userRow);
+
+            captureEntry(users, userRow.id());
+            users.put(userRow.id(), userRow);
+            reindex(userIdsByCredentials, UserCredentials.create(existingUserRow), UserCredentials.create(userRow), userRow.id());
+            return true;
+        });
+
+        return userToUpdate;
+    }
+
+    @Override
+    public void deleteUser(final int userId) {
+        inTransaction(_ -> {
+            captureMap(userChanges);
+            captureMap(ingestionRuns);
+            userChanges.values().removeIf(userChange -> userChange.previousUser().id() == userId);
+            ingestionRuns.replaceAll((_, ingestionRun) -> withoutFailuresForUser(ingestionRun, userId));
+
+            for (final Map<Integer, ?> userTable : List.of(offsetStats, initialStats, totalStats, hourlyTcStats)) {
+                captureEntry(userTable, userId);
+                userTable.remove(userId);
+            }
+
+            captureEntry(users, userId);
+            final UserRow deletedUserRow = users.remove(userId);
+            if (deletedUserRow != null) {
+                reindex(userIdsByCredentials, UserCredentials.create(deletedUserRow), null, userId);
+            }
+            return deletedUserRow != null;
+        });
+    }
+
+    @Override
+    public UserChange createUserChange(final UserChange userChange) {
+        return write(() -> {
+            requireUser(userChange.previousUser().id());
+            final int userChangeId = userChangeIds.incrementAndGet();
+            final UserChange createdUserChange = UserChange.updateWithId(userChangeId, userChange);
+
+            // Stored with the same precision as it would be when retrieved from a DB
+            captureEntry(userChanges, userChangeId);
+            userChanges.put(userChangeId, UserChange.create(
+                userChangeId,
+                userChange.createdUtcTimestamp(),
+                userChange.updatedUtcTimestamp(),
+                userChange.previousUser(),
+                userChange.newUser(),
+                userChange.state()
+            ));
+            return createdUserChange;
+        });
+    }
+
+    @Override
+    public Collection<UserChange> getAllUserChanges(final Collection<UserChangeState> states, final long numberOfMonths) {
+        if (numberOfMonths == 0L) {
+            return userChanges.values()
+                .stream()
+                .filter(userChange -> states.contains(userChange.state()))
+                .toList();
+        }
+
+        final LocalDateTime toTime = DATE_TIME_UTILS.currentUtcLocalDateTime();
+        final LocalDateTime fromTime = toTime.minusMonths(numberOfMonths);
+        return userChanges.values()
+            .stream()
+            .filter(userChange -> states.contains(userChange.state()))
+            .filter(userChange -> !userChange.updatedUtcTimestamp().isBefore(fromTime) && !userChange.updatedUtcTimestamp().isAfter(toTime))
+            .toList();
+    }
+
+    @Override
+    public Optional<UserChange> getUserChange(final int userChangeId) {
+        return Optional.ofNullable(userChanges.get(userChangeId));
+    }
+
+    @Override
+    public UserChange updateUserChange(final UserChange userChangeToUpdate) {
+        write(() -> {
+            captureEntry(userChanges, userChangeToUpdate.id());
+            return userChanges.computeIfPresent(userChangeToUpdate.id(), (_, existingUserChange) -> UserChange.create(
+                existingUserChange.id(),
+                userChangeToUpdate.createdUtcTimestamp(),
+                userChangeToUpdate.updatedUtcTimestamp(),
+                userChangeToUpdate.previousUser(),
+                userChangeToUpdate.newUser(),
+                userChangeToUpdate.state()
+            )) != null;
+        });
+
+        return userChangeToUpdate;
+    }
+
+    @Override
+    public UserTcStats createHourlyTcStats(final UserTcStats userTcStats) {
+        SQL_LOGGER.debug("Inserting TC stats for user ID: {}", userTcStats.userId());
+
+        write(() -> {
+            addTcStats(userTcStats);
+            return userTcStats;
+        });
+        return userTcStats;
+    }
+
+    @Override
+    public Collection<UserTcStats> createBulkHourlyTcStats(final Collection<UserTcStats> userTcStats) {
+        SQL_LOGGER.debug("Inserting {} TC stats", userTcStats.size());
+
+        if (userTcStats.isEmpty()) {
+            return userTcStats;
+        }
+
+        // Either all stats are written, or none are
+        return inTransaction(_ -> {
+            userTcStats.forEach(this::addTcStats);
+            return userTcStats;
+        });
+    }
+
+    @Override
+    public Optional<UserTcStats> getHourlyTcStats(final int userId) {
+        return latest(hourlyTcStats, userId)
+            .map(entry -> toUserTcStats(userId, entry));
+    }
+
+    @Override
+    public Collection<HistoricStats> getHistoricStatsHourly(final int userId, final Year year, final Month month, final int day) {
+        SQL_LOGGER.info("Getting historic hourly user TC stats for {}/{}/{} for user {}", () -> year, () -> formatMonth(month),
+            () -> day, () -> userId);
+
+        final List<StatsTimeSeries.Entry> hourlyMaximums = maximumsPerPeriod(
+            entriesBetween(hourlyTcStats, userId, DateTimeConverterUtils.getFirstTimestampOf(year, month, day).getTime(),
+                DateTimeConverterUtils.getLastTimestampOf(year, month, day).getTime()),
+            timestamp -> Math.floorDiv(timestamp, MILLIS_PER_HOUR)
+        );
+
+        final Collection<HistoricStats> userStats = new ArrayList<>();
+        if (hourlyMaximums.isEmpty()) {
+            return userStats;
+        }
+
+        // First entry will be zeroed, so we need to manually get the first hour's stats for the user
+        final UserTcStats firstHourTcStats = getTcStatsForFirstHourOfDay(userId, year, month, day);
+        userStats.add(HistoricStats.create(
+            toLocalDateTime(hourlyMaximums.getFirst().timestamp()),
+            firstHourTcStats.points(),
+            firstHourTcStats.multipliedPoints(),
+            firstHourTcStats.units()
+        ));
+
+        // All remaining entries will be diff-ed from the previous entry
+        for (int i = 1; i < hourlyMaximums.size(); i++) {
+            final StatsTimeSeries.Entry current = hourlyMaximums.get(i);
+            userStats.add(toHistoricStatsDiff(toLocalDateTime(current.timestamp()), current, hourlyMaximums.get(i - 1)));
+        }
+
+        return userStats;
+    }
+
+    private UserTcStats getTcStatsForFirstHourOfDay(final int userId, final Year year, final Month month, final int day) {
+        final UserTcStats firstHourTcStatsCurrentDay = getMaximumTcStatsBetween(userId,
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 0, 0),
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 59, 59));
+
+        final boolean isFirstDay = day == 1;
+        final int previousDay = day - 1;
+        final UserTcStats lastHourTcStatsPreviousDay = isFirstDay
+            ? UserTcStats.empty(userId)
+            : getMaximumTcStatsBetween(userId,
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, previousDay, 23, 0, 0),
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, previousDay, 23, 59, 59));
+
+        if (lastHourTcStatsPreviousDay.isEmpty()) {
+
+            if (firstHourTcStatsCurrentDay.isEmpty()) {
+                return UserTcStats.empty(userId);
+            }
+
+            // If no stats in previous day (meaning we are getting historic stats for the first day available),
+            // we need to remove the initial points from the current day's points
+            final UserStats initialUserStats = getInitialStats(userId).orElse(UserStats.empty());
+
+            // Since we didn't get any previous day's stats, we don't need to worry about the hardware multiplier having been changed
+            // As a result, we will get the user's current hardware and use that multiplier
+            final Optional<User> optionalUser = getUser(userId);
+
+            if (optionalUser.isEmpty()) {
+                SQL_LOGGER.warn("Could not find user with ID {}, returning empty stats for first hour of day", userId);
+                return UserTcStats.empty(userId);
+            }
+
+            final double hardwareMultiplier = optionalUser.get().hardware().multiplier();
+            return UserTcStats.create(
+                firstHourTcStatsCurrentDay.userId(),
+                firstHourTcStatsCurrentDay.timestamp(),
+                Math.max(0L, firstHourTcStatsCurrentDay.points() - initialUserStats.points()),
+                Math.max(0L, firstHourTcStatsCurrentDay.multipliedPoints() - Math.round(hardwareMultiplier * initialUserStats.points())),
+                Math.max(0, firstHourTcStatsCurrentDay.units() - initialUserStats.units())
+            );
+        }
+
+        return UserTcStats.create(
+            firstHourTcStatsCurrentDay.userId(),
+            firstHourTcStatsCurrentDay.timestamp(),
+            Math.max(0L, firstHourTcStatsCurrentDay.points() - lastHourTcStatsPreviousDay.points()),
+            Math.max(0L, firstHourTcStatsCurrentDay.multipliedPoints() - lastHourTcStatsPreviousDay.multipliedPoints()),
+            Math.max(0, firstHourTcStatsCurrentDay.units() - lastHourTcStatsPreviousDay.units())
+        );
+    }
+
+    private UserTcStats getMaximumTcStatsBetween(final int userId, final LocalDateTime start, final LocalDateTime end) {
+        final List<StatsTimeSeries.Entry> entries = entriesBetween(hourlyTcStats, userId, toEpochMillis(start), toEpochMillis(end));
+        return maximumsPerPeriod(entries, _ -> 0L)
+            .stream()
+            .findAny()
+            .map(entry -> toUserTcStats(userId, entry))
+            .orElse(UserTcStats.empty(userId));
+    }
+
+    @Override
+    public Collection<HistoricStats> getHistoricStatsDaily(final int userId, final Year year, final Month month) {
+        SQL_LOGGER.info("Getting historic daily user TC stats for {}/{} for user {}", () -> formatMonth(month), () -> year, () -> userId);
+
+        final LocalDateTime startOfMonth = DateTimeConverterUtils.getLocalDateTimeOf(year, month);
+        final List<StatsTimeSeries.Entry> dailyMaximums = maximumsPerPeriod(
+            entriesBetween(hourlyTcStats, userId, toEpochMillis(startOfMonth), toEpochMillis(startOfMonth.plusMonths(1L)) - 1L),
+            InMemoryDbManager::toEpochDay
+        );
+
+        final Collection<HistoricStats> userStats = new ArrayList<>();
+        if (dailyMaximums.isEmpty()) {
+            return userStats;
+        }
+
+        // First entry will be zeroed, so we need to manually get the first day's stats for the user
+        final long firstDay = toEpochDay(dailyMaximums.getFirst().timestamp());
+        final List<StatsTimeSeries.Entry> firstDayEntries =
+            entriesBetween(hourlyTcStats, userId, startOfEpochDay(firstDay), startOfEpochDay(firstDay + 1L) - 1L);
+        final UserTcStats firstDayTcStats = latest(firstDayEntries)
+            .map(entry -> toUserTcStats(userId, entry))
+            .orElse(UserTcStats.empty(userId));
+
+        if (firstDayTcStats.isEmpty()) {
+            SQL_LOGGER.warn("Error getting historic stats for first day of {} for user with ID {}", formatMonth(month), userId);
+        } else {
+            userStats.add(HistoricStats.create(
+                toLocalDateTime(startOfEpochDay(firstDay)),
+                firstDayTcStats.points(),
+                firstDayTcStats.multipliedPoints(),
+                firstDayTcStats.units()
+            ));
+        }
+
+        // All remaining entries will be diff-ed from the previous entry
+        for (int i = 1; i < dailyMaximums.size(); i++) {
+            final StatsTimeSeries.Entry current = dailyMaximums.get(i);
+            final LocalDateTime startOfDay = toLocalDateTime(startOfEpochDay(toEpochDay(current.timestamp())));
+            userStats.add(toHistoricStatsDiff(startOfDay, current, dailyMaximums.get(i - 1)));
+        }
+
+        return userStats;
+    }
+
+    @Override
+    public Collection<HistoricStats> getHistoricStatsMonthly(final int userId, final Year year) {
+        SQL_LOGGER.debug("Getting historic monthly user TC stats for {} for user {}", year, userId);
+
+        final LocalDateTime startOfYear = DateTimeConverterUtils.getLocalDateTimeOf(year, Month.JANUARY);
+        final List<StatsTimeSeries.Entry> monthlyMaximums = maximumsPerPeriod(
+            entriesBetween(hourlyTcStats, userId, toEpochMillis(startOfYear), toEpochMillis(startOfYear.plusYears(1L)) - 1L),
+            timestamp -> toLocalDateTime(timestamp).getMonthValue()
+        );
+
+        return monthlyMaximums
+            .stream()
+            .map(entry -> HistoricStats.create(toLocalDateTime(entry.timestamp()), entry.points(), entry.multipliedPoints(), entry.units()))
+            .toList();
+    }
+
+    @Override
+    public long downsampleStatsToDaily(final Timestamp before, final int batchSize) {
+        SQL_LOGGER.debug("Downsampling up to {} user days of stats before {}", batchSize, before);
+        final long cutoff = before.getTime();
+
+        // The last entry of each day is updated with the maximum values of that day, so the historic stats aggregations are unchanged
+        // Total stats only increase, so the last entry of each day is already the maximum
+        return inTransaction(_ ->
+            downsampleToDaily(hourlyTcStats, cutoff, batchSize, true) + downsampleToDaily(totalStats, cutoff, batchSize, false)
+        );
+    }
+
+    private long downsampleToDaily(final Map<Integer, StatsTimeSeries> statsByUser, final long cutoff, final int batchSize,
+                                   final boolean retainMaximums) {
+        final List<UserDay> userDays = new ArrayList<>();
+        statsByUser.forEach((userId, stats) -> {
+            for (final long epochDay : stats.daysWithMultipleEntries(cutoff)) {
+                userDays.add(new UserDay(userId, epochDay));
+            }
+        });
+
+        return userDays
+            .stream()
+            .sorted(Comparator.comparingLong(UserDay::epochDay).thenComparingInt(UserDay::userId))
+            .limit(batchSize)
+            .mapToLong(userDay -> {
+                final StatsTimeSeries stats = statsForWrite(statsByUser, userDay.userId());
+                return stats.downsampleDay(userDay.epochDay(), cutoff, retainMaximums);
+            })
+            .sum();
+    }
+
+    @Override
+    public UserStats createInitialStats(final UserStats userStats) {
+        SQL_LOGGER.debug("Inserting initial stats for user {} to memory", userStats.userId());
+
+        write(() -> {
+            addStats(initialStats, userStats);
+            return userStats;
+        });
+        return userStats;
+    }
+
+    @Override
+    public Optional<UserStats> getInitialStats(final int userId) {
+        SQL_LOGGER.debug("Getting initial stats for user ID: {}", userId);
+        return latest(initialStats, userId)
+            .map(entry -> toUserStats(userId, entry));
+    }
+
+    @Override
+    public UserStats createTotalStats(final UserStats userStats) {
+        SQL_LOGGER.debug("Inserting total stats for user ID {} to memory", userStats.userId());
+
+        write(() -> {
+            addStats(totalStats, userStats);
+            return userStats;
+        });
+        return userStats;
+    }
+
+    @Override
+    public Collection<UserStats> createBulkTotalStats(final Collection<UserStats> userStats) {
+        SQL_LOGGER.debug("Inserting {} total stats", userStats.size());
+
+        if (userStats.isEmpty()) {
+            return userStats;
+        }
+
+        // Either all stats are written, or none are
+        return inTransaction(_ -> {
+            userStats.forEach(stats -> addStats(totalStats, stats));
+            return userStats;
+        });
+    }
+
+    @Override
+    public Optional<UserStats> getTotalStats(final int userId) {
+        SQL_LOGGER.debug("Getting total stats for user ID: {}", userId);
+        return latest(totalStats, userId)
+            .map(entry -> toUserStats(userId, entry));
+    }
+
+    @Override
+    public OffsetTcStats createOrUpdateOffsetStats(final int userId, final OffsetTcStats offsetTcStats) {
+        SQL_LOGGER.debug("Adding/updating offset stats for user {}", userId);
+
+        return write(() -> {
+            requireUser(userId);
+            captureEntry(offsetStats, userId);
+            return offsetStats.merge(userId, offsetTcStats, (existing, additional) -> OffsetTcStats.create(
+                existing.pointsOffset() + additional.pointsOffset(),
+                existing.multipliedPointsOffset() + additional.multipliedPointsOffset(),
+                existing.unitsOffset() + additional.unitsOffset()
+            ));
+        });
+    }
+
+    @Override
+    public Optional<OffsetTcStats> getOffsetStats(final int userId) {
+        return Optional.ofNullable(offsetStats.get(userId));
+    }
+
+    @Override
+    public void deleteOffsetStats(final int userId) {
+        write(() -> {
+            captureEntry(offsetStats, userId);
+            return offsetStats.remove(userId) != null;
+        });
+    }
+
+    @Override
+    public void deleteAllOffsetStats() {
+        write(() -> {
+            captureMap(offsetStats);
+            offsetStats.clear();
+            return true;
+        });
+    }
+
+    @Override
+    public RetiredUserTcStats createRetiredUserStats(final RetiredUserTcStats retiredUserTcStats) {
+        return writeWithUniqueConstraint(() -> {
+            if (!teams.containsKey(retiredUserTcStats.teamId())) {
+                throw new IllegalStateException(String.format("Team %d does not exist", retiredUserTcStats.teamId()));
+            }
+
+            // Only a single entry is kept for each user, so an existing entry is updated rather than a new one created
+            final int retiredUserId = retiredUserStats.values()
+                .stream()
+                .filter(existing -> existing.userId() == retiredUserTcStats.userId())
+                .mapToInt(RetiredUserTcStats::retiredUserId)
+                .findAny()
+                .orElseGet(retiredUserIds::incrementAndGet);
+
+            final RetiredUserTcStats storedRetiredUserTcStats = RetiredUserTcStats.create(
+                retiredUserId,
+                retiredUserTcStats.teamId(),
+                retiredUserTcStats.displayName(),
+                UserTcStats.create(
+                    retiredUserTcStats.userId(),
+                    DATE_TIME_UTILS.currentUtcTimestamp(),
+                    retiredUserTcStats.points(),
+                    retiredUserTcStats.multipliedPoints(),
+                    retiredUserTcStats.units()
+                )
+            );
+
+            captureEntry(retiredUserStats, retiredUserId);
+            retiredUserStats.put(retiredUserId, storedRetiredUserTcStats);
+            return RetiredUserTcStats.updateWithId(retiredUserId, retiredUserTcStats);
+        });
+    }
+
+    @Override
+    public Collection<RetiredUserTcStats> getAllRetiredUserStats() {
+        return List.copyOf(retiredUserStats.values());
+    }
+
+    @Override
+    public void deleteAllRetiredUserStats() {
+        write(() -> {
+            captureMap(retiredUserStats);
+            retiredUserStats.clear();
+            return true;
+        });
+    }
+
+    @Override
+    public Collection<UserStats> resetAllTeamCompetitionStats(final Timestamp timestamp) {
+        SQL_LOGGER.info("Resetting TC stats for all users at {}", timestamp);
+        final Timestamp resetTime = new Timestamp(timestamp.getTime());
+
+        return inTransaction(_ -> {
+            // Latest total stats for each user become their new initial stats, users with no total stats are reset to 0
+            final List<UserStats> resetInitialStats = users.keySet()
+                .stream()
+                .map(userId -> getTotalStats(userId)
+                    .map(latestTotalStats -> UserStats.create(userId, resetTime, latestTotalStats.points(), latestTotalStats.units()))
+                    .orElseGet(() -> UserStats.create(userId, resetTime, UserStats.DEFAULT_POINTS, UserStats.DEFAULT_UNITS)))
+                .toList();
+
+            resetInitialStats.forEach(resetStats -> addStats(initialStats, resetStats));
+            resetInitialStats.forEach(resetStats -> addTcStats(UserTcStats.create(resetStats.userId(), resetTime, 0L, 0L, 0)));
+            deleteAllOffsetStats();
+            deleteAllRetiredUserStats();
+
+            return resetInitialStats;
+        });
+    }
+
+    @Override
+    public MonthlyResult createMonthlyResult(final MonthlyResult monthlyResult) {
+        SQL_LOGGER.debug("Persisting monthly result for {}/{}",
+            () -> monthlyResult.utcTimestamp().getYear(),
+            () -> formatMonth(monthlyResult.utcTimestamp().getMonth())
+        );
+
+        write(() -> {
+            captureEntry(monthlyResults, monthlyResult.utcTimestamp());
+            if (monthlyResults.putIfAbsent(monthlyResult.utcTimestamp(), monthlyResult) != null) {
+                throw new IllegalStateException(String.format("Monthly result already exists for: %s", monthlyResult.utcTimestamp()));
+            }
+            return monthlyResult;
+        });
+
+        return monthlyResult;
+    }
+
+    @Override
+    public Optional<MonthlyResult> getMonthlyResult(final Month month, final Year year) {
+        SQL_LOGGER.debug("Retrieving monthly result for {}/{}", () -> year, () -> formatMonth(month));
+
+        final LocalDateTime startOfMonth = DateTimeConverterUtils.getLocalDateTimeOf(year, month);
+        return Optional.ofNullable(monthlyResults.lowerEntry(startOfMonth.plusMonths(1L)))
+            .filter(entry -> !entry.getKey().isBefore(startOfMonth))
+            .map(Map.Entry::getValue)
+            .map(MonthlyResult::updateWithEmptyCategories);
+    }
+
+    @Override
+    public IngestionRun createIngestionRun(final IngestionRun ingestionRun) {
+        SQL_LOGGER.debug("Persisting {} ingestion run with {} failures", ingestionRun.runType(), ingestionRun.failures().size());
+
+        return write(() -> {
+            for (final IngestionRunFailure failure : ingestionRun.failures()) {
+                requireUser(failure.userId());
+            }
+
+            final int ingestionRunId = ingestionRunIds.incrementAndGet();
+            final IngestionRun createdIngestionRun = IngestionRun.updateWithId(ingestionRunId, ingestionRun);
+
+            captureEntry(ingestionRuns, ingestionRunId);
+            ingestionRuns.put(ingestionRunId, createdIngestionRun);
+            return createdIngestionRun;
+        });
+    }
+
+    @Override
+    public Collection<IngestionRun> getIngestionRunsSince(final LocalDateTime since) {
+        SQL_LOGGER.debug("Retrieving ingestion runs since {}", since);
+
+        return ingestionRuns.values()
+            .stream()
+            .filter(ingestionRun -> !ingestionRun.utcTimestamp().isBefore(since))
+            .sorted(Comparator.comparing(IngestionRun::utcTimestamp).thenComparingInt(IngestionRun::id).reversed())
+            .toList();
+    }
+
+    @Override
+    public long deleteIngestionRunsBefore(final LocalDateTime before) {
+        SQL_LOGGER.debug("Deleting ingestion runs before {}", before);
+
+        return write(() -> {
+            final List<Integer> ingestionRunIdsToDelete = ingestionRuns.values()
+                .stream()
+                .filter(ingestionRun -> ingestionRun.utcTimestamp().isBefore(before))
+                .map(IngestionRun::id)
+                .toList();
+
+            for (final int ingestionRunId : ingestionRunIdsToDelete) {
+                captureEntry(ingestionRuns, ingestionRunId);
+                ingestionRuns.remove(ingestionRunId);
+            }
+            return (long) ingestionRunIdsToDelete.size();
+        });
+    }
+
+    @Override
+    public UserAuthenticationResult authenticateSystemUser(final DecodedLoginCredentials decodedLoginCredentials) {
+        SQL_LOGGER.debug("Checking if supplied username '{}' and password is valid user, then returning roles", decodedLoginCredentials.username());
+
+        final StoredSystemUser systemUser = systemUsers.get(decodedLoginCredentials.username());
+        if (systemUser == null) {
+            return UserAuthenticationResult.userDoesNotExist();
+        }
+
+        return systemUser.isMatchingPassword(decodedLoginCredentials.password())
+            ? UserAuthenticationResult.success(systemUser.roles())
+            : UserAuthenticationResult.invalidPassword();
+    }
+
+    @Override
+    public <T> T inTransaction(final Function<? super DbManager, T> operations) {
+        if (isInTransaction()) {
+            SQL_LOGGER.debug("Joining existing transaction");
+            return operations.apply(this);
+        }
+
+        exclusiveWriteLock.lock();
+        try {
+            SQL_LOGGER.debug("Starting transaction");
+            final Transaction transaction = new Transaction(this, new ArrayDeque<>(), Collections.newSetFromMap(new IdentityHashMap<>()),
+                new IdentityHashMap<>());
+
+            try {
+                final T result = ScopedValue.where(CURRENT_TRANSACTION, transaction)
+                    .call(() -> operations.apply(this));
+                SQL_LOGGER.debug("Committed transaction");
+                return result;
+            } catch (final RuntimeException e) {
+                SQL_LOGGER.warn("Rolling back transaction", e);
+                transaction.rollback();
+                throw e;
+            }
+        } finally {
+            exclusiveWriteLock.unlock();
+        }
+    }
+
+    private boolean isInTransaction() {
+        return CURRENT_TRANSACTION.isBound() && CURRENT_TRANSACTION.get().dbManager() == this;
+    }
+
+    private <T> T write(final Supplier<T> operation) {
+        sharedWriteLock.lock();
+        try {
+            return operation.get();
+        } finally {
+            sharedWriteLock.unlock();
+        }
+    }
+
+    // Used for writes that check a unique constraint, so no other write can invalidate the check before the write completes
+    private <T> T writeWithUniqueConstraint(final Supplier<T> operation) {
+        return write(() -> {
+            uniqueConstraintLock.lock();
+            try {
+                return operation.get();
+            } finally {
+                uniqueConstraintLock.unlock();
+            }
+        });
+    }
+
+    private <K> void reindex(final Map<K, Integer> index, final @Nullable K previousValue, final @Nullable K newValue, final int id) {
+        if (previousValue != null) {
+            captureEntry(index, previousValue);
+            index.remove(previousValue);
+        }
+
+        if (newValue != null) {
+            captureEntry(index, newValue);
+            index.put(newValue, id);
+        }
+    }
+
+    // Used for changes to a single entry, so only the previous value of that entry is restored, rather than the whole map
+    private <K, V> void captureEntry(final Map<K, V> map, final K key) {
+        if (isInTransaction() && CURRENT_TRANSACTION.get().capturedKeys(map).add(key)) {
+            final V previousValue = map.get(key);
+            CURRENT_TRANSACTION.get().restoreActions().push(() -> {
+                if (previousValue == null) {
+                    map.remove(key);
+                } else {
+                    map.put(key, previousValue);
+                }
+            });
+        }
+    }
+
+    // Used for changes to any number of entries, so the whole map is restored
+    private <K, V> void captureMap(final Map<K, V> map) {
+        capture(map, () -> {
+            final Map<K, V> copy = new HashMap<>(map);
+            return () -> {
+                map.clear();
+                map.putAll(copy);
+            };
+        });
+    }
+
+    private void capture(final Object target, final Supplier<Runnable> restoreActionSupplier) {
+        // Only the first change to a target in a unit of work is captured, which is its state before the unit of work started
+        if (isInTransaction()) {
+            final Transaction transaction = CURRENT_TRANSACTION.get();
+            if (transaction.capturedTargets().add(target)) {
+                transaction.restoreActions().push(restoreActionSupplier.get());
+            }
+        }
+    }
+
+    private StatsTimeSeries statsForWrite(final Map<Integer, StatsTimeSeries> statsByUser, final int userId) {
+        requireUser(userId);
+        if (!statsByUser.containsKey(userId)) {
+            captureEntry(statsByUser, userId);
+        }
+
+        final StatsTimeSeries stats = statsByUser.computeIfAbsent(userId, _ -> new StatsTimeSeries());
+        capture(stats, () -> {
+            final StatsTimeSeries copy = stats.copy();
+            return () -> stats.restore(copy);
+        });
+        return stats;
+    }
+
+    private void addTcStats(final UserTcStats userTcStats) {
+        statsForWrite(hourlyTcStats, userTcStats.userId())
+            .add(userTcStats.timestamp().getTime(), userTcStats.points(), userTcStats.multipliedPoints(), userTcStats.units());
+    }
+
+    private void addStats(final Map<Integer, StatsTimeSeries> statsByUser, final UserStats userStats) {
+        statsForWrite(statsByUser, userStats.userId())
+            .add(userStats.timestamp().getTime(), userStats.points(), UserTcStats.DEFAULT_MULTIPLIED_POINTS, userStats.units());
+    }
+
+    private static Optional<StatsTimeSeries.Entry> latest(final Map<Integer, StatsTimeSeries> statsByUser, final int userId) {
+        final StatsTimeSeries stats = statsByUser.get(userId);
+        return stats == null ? Optional.empty() : stats.latest();
+    }
+
+    private static Optional<StatsTimeSeries.Entry> latest(final List<StatsTimeSeries.Entry> entries) {
+        return entries.isEmpty() ? Optional.empty() : Optional.of(entries.getLast());
+    }
+
+    private static List<StatsTimeSeries.Entry> entriesBetween(final Map<Integer, StatsTimeSeries> statsByUser, final int userId,
+                                                              final long fromInclusive, final long toInclusive) {
+        final StatsTimeSeries stats = statsByUser.get(userId);
+        return stats == null ? List.of() : stats.between(fromInclusive, toInclusive);
+    }
+
+    /**
+     * Groups the ordered {@link StatsTimeSeries.Entry}s by period, and returns the maximum of each value (including the timestamp) for each period,
+     * in the same order. Equivalent to a {@code GROUP BY} of the period with {@code MAX()} of each column.
+     */
+    private static List<StatsTimeSeries.Entry> maximumsPerPeriod(final List<StatsTimeSeries.Entry> entries, final LongUnaryOperator periodFunction) {
+        final List<StatsTimeSeries.Entry> maximums = new ArrayList<>();
+
+        int i = 0;
+        while (i < entries.size()) {
+            final long period = periodFunction.applyAsLong(entries.get(i).timestamp());
+            long maxTimestamp = Long.MIN_VALUE;
+            long maxPoints = Long.MIN_VALUE;
+            long maxMultipliedPoints = Long.MIN_VALUE;
+            int maxUnits = Integer.MIN_VALUE;
+
+            while (i < entries.size() && periodFunction.applyAsLong(entries.get(i).timestamp()) == period) {
+                final StatsTimeSeries.Entry entry = entries.get(i);
+                maxTimestamp = Math.max(maxTimestamp, entry.timestamp());
+                maxPoints = Math.max(maxPoints, entry.points());
+                maxMultipliedPoints = Math.max(maxMultipliedPoints, entry.multipliedPoints());
+                maxUnits = Math.max(maxUnits, entry.units());
+                i++;
+            }
+
+            maximums.add(new StatsTimeSeries.Entry(maxTimestamp, maxPoints, maxMultipliedPoints, maxUnits));
+        }
+
+        return maximums;
+    }
+
+    private static HistoricStats toHistoricStatsDiff(final LocalDateTime dateTime, final StatsTimeSeries.Entry current,
+                                                     final StatsTimeSeries.Entry previous) {
+        return HistoricStats.create(
+            dateTime,
+            current.points() - previous.points(),
+            current.multipliedPoints() - previous.multipliedPoints(),
+            current.units() - previous.units()
+        );
+    }
+
+    private static UserTcStats toUserTcStats(final int userId, final StatsTimeSeries.Entry entry) {
+        return UserTcStats.create(userId, new Timestamp(entry.timestamp()), entry.points(), entry.multipliedPoints(), entry.units());
+    }
+
+    private static UserStats toUserStats(final int userId, final StatsTimeSeries.Entry entry) {
+        return UserStats.create(userId, new Timestamp(entry.timestamp()), entry.points(), entry.units());
+    }
+
+    private static IngestionRun withoutFailuresForUser(final IngestionRun ingestionRun, final int userId) {
+        return IngestionRun.create(
+            ingestionRun.id(),
+            ingestionRun.runType(),
+            ingestionRun.utcTimestamp(),
+            ingestionRun.durationMillis(),
+            ingestionRun.usersParsed(),
+            ingestionRun.usersSkipped(),
+            ingestionRun.usersFailed(),
+            ingestionRun.failures().stream().filter(failure -> failure.userId() != userId).toList()
+        );
+    }
+
+    private User toUser(final UserRow userRow) {
+        final Hardware userHardware = hardware.get(userRow.hardwareId());
+        final Team userTeam = teams.get(userRow.teamId());
+        if (userHardware == null || userTeam == null) {
+            throw new IllegalStateException(String.format("Hardware or team for user %d does not exist", userRow.id()));
+        }
+
+        return User.create(
+            userRow.id(),
+            userRow.foldingUserName(),
+            userRow.displayName(),
+            userRow.passkey(),
+            userRow.category(),
+            userRow.profileLink(),
+            userRow.liveStatsLink(),
+            userHardware,
+            userTeam,
+            userRow.isCaptain() ? Role.CAPTAIN : Role.MEMBER
+        );
+    }
+
+    private void requireUser(final int userId) {
+        if (!users.containsKey(userId)) {
+            throw new IllegalStateException(String.format("User %d does not exist", userId));
+        }
+    }
+
+    private void requireValidUser(final UserRow userRow) {
+        if (!hardware.containsKey(userRow.hardwareId())) {
+            throw new IllegalStateException(String.format("Hardware %d does not exist", userRow.hardwareId()));
+        }
+
+        if (!teams.containsKey(userRow.teamId())) {
+            throw new IllegalStateException(String.format("Team %d does not exist", userRow.teamId()));
+        }
+
+        final Integer existingUserId = userIdsByCredentials.get(UserCredentials.create(userRow));
+        if (existingUserId != null && existingUserId != userRow.id()) {
+            throw new IllegalStateException(String.format("User already exists with username '%s' and passkey", userRow.foldingUserName()));
+        }
+    }
+
+    private void requireUniqueHardwareName(final Hardware hardwareToCheck) {
+        final Integer existingHardwareId = hardwareIdsByName.get(hardwareToCheck.hardwareName());
+        if (existingHardwareId != null && existingHardwareId != hardwareToCheck.id()) {
+            throw new IllegalStateException(String.format("Hardware already exists with name '%s'", hardwareToCheck.hardwareName()));
+        }
+    }
+
+    private void requireUniqueTeamName(final Team teamToCheck) {
+        final Integer existingTeamId = teamIdsByName.get(teamToCheck.teamName());
+        if (existingTeamId != null && existingTeamId != teamToCheck.id()) {
+            throw new IllegalStateException(String.format("Team already exists with name '%s'", teamToCheck.teamName()));
+        }
+    }
+
+    /**
+     * Converts a UTC epoch millisecond timestamp into the UTC epoch day it falls on.
+     *
+     * @param timestamp the timestamp in UTC epoch milliseconds
+     * @return the UTC epoch day
+     */
+    static long toEpochDay(final long timestamp) {
+        return Math.floorDiv(timestamp, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Converts a UTC epoch day into the UTC epoch millisecond timestamp for the start of that day.
+     *
+     * @param epochDay the UTC epoch day
+     * @return the timestamp in UTC epoch milliseconds
+     */
+    static long startOfEpochDay(final long epochDay) {
+        return epochDay * MILLIS_PER_DAY;
+    }
+
+    private static long toEpochMillis(final LocalDateTime localDateTime) {
+        return localDateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(final long timestamp) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneOffset.UTC);
+    }
+
+    /**
+     * A system user that can be authenticated by the {@link InMemoryDbManager}.
+     *
+     * @param userName the name of the system user
+     * @param password the password of the system user
+     * @param roles    the roles of the system user
+     */
+    public record SystemUser(String userName, String password, Set<String> roles) {
+
+        /**
+         * Creates a {@link SystemUser}.
+         *
+         * @param userName the name of the system user
+         * @param password the password of the system user
+         * @param roles    the roles of the system user
+         * @return the created {@link SystemUser}
+         */
+        public static SystemUser create(final String userName, final String password, final Set<String> roles) {
+            return new SystemUser(userName, password, Set.copyOf(roles));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SystemUser[userName=%s, roles=%s]", userName, roles);
+        }
+    }
+
+    /**
+     * A {@link SystemUser} with its password stored as a salted hash, rather than in plaintext.
+     */
+    private record StoredSystemUser(byte[] salt, byte[] passwordHash, Set<String> roles) {
+
+        static StoredSystemUser create(final SystemUser systemUser) {
+            final byte[] salt = new byte[SALT_LENGTH];
+            SECURE_RANDOM.nextBytes(salt);
+            return new StoredSystemUser(salt, hash(salt, systemUser.password()), systemUser.roles());
+        }
+
+        boolean isMatchingPassword(final String password) {
+            return MessageDigest.isEqual(passwordHash, hash(salt, password));
+        }
+
+        private static byte[] hash(final byte[] salt, final String password) {
+            try {
+                final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+                messageDigest.update(salt);
+                return messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Unable to hash password", e);
+            }
+        }
+    }
+
+    /**
+     * A {@link User} as it is stored, referencing its {@link Hardware} and {@link Team} by ID so any updates to them are reflected in the
+     * {@link User}.
+     */
+    private record UserRow(int id, String foldingUserName, String displayName, String passkey, Category category, @Nullable String profileLink,
+                           @Nullable String liveStatsLink, int hardwareId, int teamId, boolean isCaptain) {
+
+        static UserRow create(final int userId, final User user) {
+            return new UserRow(userId, user.foldingUserName(), user.displayName(), user.passkey(), user.category(), user.profileLink(),
+                user.liveStatsLink(), user.hardware().id(), user.team().id(), user.role().isCaptain());
+        }
+    }
+
+    /**
+     * The unique constraint of a {@link User}, being their {@code foldingUserName} and {@code passkey}.
+     */
+    private record UserCredentials(String foldingUserName, String passkey) {
+
+        static UserCredentials create(final UserRow userRow) {
+            return new UserCredentials(userRow.foldingUserName(), userRow.passkey());
+        }
+    }
+
+    /**
+     * A single day of stats for a {@link User}.
+     */
+    private record UserDay(int userId, long epochDay) {
+
+    }
+
+    /**
+     * A unit of work in progress, holding the actions to restore each changed map, map entry or {@link StatsTimeSeries} to its state before the
+     * unit of work.
+     */
+    private record Transaction(InMemoryDbManager dbManager, Deque<Runnable> restoreActions, Set<Object> capturedTargets,
+                               Map<Map<?, ?>, Set<Object>> capturedKeysByMap) {
+
+        Set<Object> capturedKeys(final Map<?, ?> map) {
+            return capturedKeysByMap.computeIfAbsent(map, _ -> new HashSet<>());
+        }
+
+        void rollback() {
+            while (!restoreActions.isEmpty()) {
+                restoreActions.pop().run();
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only time-series of stats for a single {@code User}, used by {@link InMemoryDbManager}.
+ *
+ * <p>
+ * Each column is held in its own primitive array, ordered by timestamp (in UTC epoch milliseconds). Stats are expected to be written in order, so a
+ * new entry is normally appended to the end of the arrays. Out-of-order entries (from a backfill, for example) are inserted in place. Only a
+ * duplicate timestamp is rejected, matching the primary key of the stats tables.
+ *
+ * <p>
+ * All access is guarded by a lock for the instance, with reads returning copies of the requested entries.
+ */
+final class StatsTimeSeries {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Lock lock = new ReentrantLock();
+
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private long[] points = new long[INITIAL_CAPACITY];
+    private long[] multipliedPoints = new long[INITIAL_CAPACITY];
+    private int[] units = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds an entry to the time-series.
+     *
+     * @param timestamp       the timestamp of the entry, in UTC epoch milliseconds
+     * @param entryPoints     the points
+     * @param entryMultiplied the multiplied points
+     * @param entryUnits      the units
+     * @throws IllegalStateException thrown if an entry already exists for the {@code timestamp}
+     */
+    void add(final long timestamp, final long entryPoints, final long entryMultiplied, final int entryUnits) {
+        lock.lock();
+        try {
+            if (size == timestamps.length) {
+                grow();
+            }
+
+            if (size == 0 || timestamp > timestamps[size - 1]) {
+                set(size, timestamp, entryPoints, entryMultiplied, entryUnits);
+                size++;
+                return;
+            }
+
+            final int searchResult = Arrays.binarySearch(timestamps, 0, size, timestamp);
+            if (searchResult >= 0) {
+                throw new IllegalStateException(String.format("Stats already exist for timestamp: %d", timestamp));
+            }
+
+            final int insertionPoint = -(searchResult + 1);
+            shift(insertionPoint, insertionPoint + 1, size - insertionPoint);
+            set(insertionPoint, timestamp, entryPoints, entryMultiplied, entryUnits);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the latest entry in the time-series.
+     *
+     * @return an {@link Optional} of the latest {@link Entry}
+     */
+    Optional<Entry> latest() {
+        lock.lock();
+        try {
+            return size == 0 ? Optional.empty() : Optional.of(entryAt(size - 1));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves all entries between the provided timestamps, ordered by timestamp.
+     *
+     * @param fromInclusive the earliest timestamp, in UTC epoch milliseconds
+     * @param toInclusive   the latest timestamp, in UTC epoch milliseconds
+     * @return the {@link Entry}s in the range
+     */
+    List<Entry> between(final long fromInclusive, final long toInclusive) {
+        lock.lock();
+        try {
+            final int from = lowerBound(fromInclusive);
+            final int to = lowerBound(toInclusive == Long.MAX_VALUE ? toInclusive : toInclusive + 1L);
+
+            final List<Entry> entries = new ArrayList<>(Math.max(0, to - from));
+            for (int i = from; i < to; i++) {
+                entries.add(entryAt(i));
+            }
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the days (in UTC epoch days) that contain more than one entry before the provided cutoff.
+     *
+     * @param cutoff only entries before this timestamp (in UTC epoch milliseconds) are considered
+     * @return the epoch days with multiple entries, in ascending order
+     */
+    long[] daysWithMultipleEntries(final long cutoff) {
+        lock.lock();
+        try {
+            final int end = lowerBound(cutoff);
+            final long[] days = new long[end];
+            int numberOfDays = 0;
+
+            int i = 0;
+            while (i < end) {
+                final long day = InMemoryDbManager.toEpochDay(timestamps[i]);
+                final int dayStart = i;
+                while (i < end && InMemoryDbManager.toEpochDay(timestamps[i]) == day) {
+                    i++;
+                }
+
+                if (i - dayStart > 1) {
+                    days[numberOfDays++] = day;
+                }
+            }
+
+            return Arrays.copyOf(days, numberOfDays);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reduces the entries for the provided day before the cutoff to a single entry, retaining the last one.
+     *
+     * @param epochDay       the day to downsample, in UTC epoch days
+     * @param cutoff         only entries before this timestamp (in UTC epoch milliseconds) are downsampled
+     * @param retainMaximums whether the retained entry should be updated to hold the maximum values of the day
+     * @return the number of entries removed
+     */
+    int downsampleDay(final long epochDay, final long cutoff, final boolean retainMaximums) {
+        lock.lock();
+        try {
+            final int from = lowerBound(InMemoryDbManager.startOfEpochDay(epochDay));
+            final int to = lowerBound(Math.min(cutoff, InMemoryDbManager.startOfEpochDay(epochDay + 1L)));
+            final int last = to - 1;
+            final int numberToRemove = last - from;
+
+            if (numberToRemove <= 0) {
+                return 0;
+            }
+
+            if (retainMaximums) {
+                for (int i = from; i < last; i++) {
+                    points[last] = Math.max(points[last], points[i]);
+                    multipliedPoints[last] = Math.max(multipliedPoints[last], multipliedPoints[i]);
+                    units[last] = Math.max(units[last], units[i]);
+                }
+            }
+
+            shift(last, from, size - last);
+            size -= numberToRemove;
+            return numberToRemove;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates a copy of the time-series, which can later be restored with {@link #restore(StatsTimeSeries)}.
+     *
+     * @return the copied {@link StatsTimeSeries}
+     */
+    StatsTimeSeries copy() {
+        lock.lock();
+        try {
+            final StatsTimeSeries copy = new StatsTimeSeries();
+            copy.timestamps = Arrays.copyOf(timestamps, timestamps.length);
+            copy.points = Arrays.copyOf(points, points.length);
+            copy.multipliedPoints = Arrays.copyOf(multipliedPoints, multipliedPoints.length);
+            copy.units = Arrays.copyOf(units, units.length);
+            copy.size = size;
+            return copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces all entries with those of the provided copy.
+     *
+     * @param copy the {@link StatsTimeSeries} previously created by {@link #copy()}
+     */
+    void restore(final StatsTimeSeries copy) {
+        lock.lock();
+        try {
+            timestamps = copy.timestamps;
+            points = copy.points;
+            multipliedPoints = copy.multipliedPoints;
+            units = copy.units;
+            size = copy.size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int lowerBound(final long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (timestamps[mid] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Entry entryAt(final int index) {
+        return new Entry(timestamps[index], points[index], multipliedPoints[index], units[index]);
+    }
+
+    private void set(final int index, final long timestamp, final long entryPoints, final long entryMultiplied, final int entryUnits) {
+        timestamps[index] = timestamp;
+        points[index] = entryPoints;
+        multipliedPoints[index] = entryMultiplied;
+        units[index] = entryUnits;
+    }
+
+    private void shift(final int sourceIndex, final int destinationIndex, final int length) {
+        System.arraycopy(timestamps, sourceIndex, timestamps, destinationIndex, length);
+        System.arraycopy(points, sourceIndex, points, destinationIndex, length);
+        System.arraycopy(multipliedPoints, sourceIndex, multipliedPoints, destinationIndex, length);
+        System.arraycopy(units, sourceIndex, units, destinationIndex, length);
+    }
+
+    private void grow() {
+        final int newCapacity = timestamps.length + (timestamps.length >> 1);
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        points = Arrays.copyOf(points, newCapacity);
+        multipliedPoints = Arrays.copyOf(multipliedPoints, newCapacity);
+        units = Arrays.copyOf(units, newCapacity);
+    }
+
+    /**
+     * A single entry of a {@link StatsTimeSeries}.
+     *
+     * @param timestamp        the timestamp of the entry, in UTC epoch milliseconds
+     * @param points           the points
+     * @param multipliedPoints the multiplied points
+     * @param units            the units
+     */
+    record Entry(long timestamp, long points, long multipliedPoints, int units) {
+
+    }
+}
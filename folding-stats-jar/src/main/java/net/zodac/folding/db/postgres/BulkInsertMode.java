@@ -0,0 +1,60 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * Lists the supported strategies used by {@link PostgresDbManager} when writing a bulk collection of stats to the DB.
+ */
+public enum BulkInsertMode {
+
+    /**
+     * Rows are streamed to the DB using the <b>PostgreSQL</b> {@code COPY ... FROM STDIN} command.
+     */
+    COPY,
+
+    /**
+     * Rows are written to the DB using a batched <b>jOOQ</b> {@code INSERT} statement.
+     */
+    BATCH,
+
+    /**
+     * Not a valid {@link BulkInsertMode}.
+     */
+    INVALID;
+
+    private static final Collection<BulkInsertMode> ALL_VALUES = Stream.of(values())
+        .filter(value -> value != INVALID)
+        .toList();
+
+    /**
+     * Retrieve a {@link BulkInsertMode} based on the input {@link String}. The search is case-insensitive.
+     *
+     * @param input the {@link BulkInsertMode} as a {@link String}
+     * @return the matching {@link BulkInsertMode}, or {@link BulkInsertMode#INVALID} if none is found
+     */
+    public static BulkInsertMode get(final String input) {
+        return ALL_VALUES
+            .stream()
+            .filter(bulkInsertMode -> bulkInsertMode.toString().equalsIgnoreCase(input))
+            .findAny()
+            .orElse(INVALID);
+    }
+}
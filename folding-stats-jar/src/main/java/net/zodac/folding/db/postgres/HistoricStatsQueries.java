@@ -0,0 +1,432 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import static net.zodac.folding.db.postgres.gen.tables.Hardware.HARDWARE;
+import static net.zodac.folding.db.postgres.gen.tables.UserInitialStats.USER_INITIAL_STATS;
+import static net.zodac.folding.db.postgres.gen.tables.UserTcStatsHourly.USER_TC_STATS_HOURLY;
+import static net.zodac.folding.db.postgres.gen.tables.Users.USERS;
+import static org.jooq.impl.DSL.day;
+import static org.jooq.impl.DSL.hour;
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.month;
+import static org.jooq.impl.DSL.year;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.db.postgres.gen.tables.records.UserInitialStatsRecord;
+import net.zodac.folding.db.postgres.gen.tables.records.UserTcStatsHourlyRecord;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Record4;
+import org.jooq.Record5;
+import org.jooq.ResultQuery;
+
+/**
+ * Utility class with the queries and calculations for historic stats, shared by the {@link PostgresDbManager} and the
+ * {@link PostgresAsyncDbManager}.
+ *
+ * <p>
+ * The queries are only built here, so each {@link net.zodac.folding.api.db.DbManager} can execute them with its own blocking or non-blocking
+ * driver, while both return the same historic stats.
+ *
+ * <p>
+ * The historic stats for a period that has ended are cached permanently, so they must be retrieved from the primary DB, since a lagging
+ * read-replica could return stale stats. The historic stats for a period that has not yet ended are retrieved again after each stats update, so
+ * they can be retrieved from the read-replica.
+ */
+final class HistoricStatsQueries {
+
+    static final String USER_ID = "user_id";
+    static final String HOURLY_TIMESTAMP = "hourly_timestamp";
+    static final String DAILY_TIMESTAMP = "daily_timestamp";
+    static final String DIFF_POINTS = "diff_points";
+    static final String DIFF_POINTS_MULTIPLIED = "diff_points_multiplied";
+    static final String DIFF_UNITS = "diff_units";
+
+    // The first entry is always zeroed, since it has no previous entry, and must be replaced using firstHourOfDay() or firstHourOfFirstDay()
+    static final String HOURLY_STATS_SQL = """
+        SELECT
+            MAX(utc_timestamp) AS hourly_timestamp,
+            COALESCE(MAX(tc_points) - LAG(MAX(tc_points)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_points,
+            COALESCE(MAX(tc_points_multiplied) - LAG(MAX(tc_points_multiplied)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_points_multiplied,
+            COALESCE(MAX(tc_units) - LAG(MAX(tc_units)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_units
+         FROM user_tc_stats_hourly
+         WHERE
+            utc_timestamp BETWEEN ? AND ?
+         AND
+            user_id = ?
+         GROUP BY EXTRACT(HOUR FROM utc_timestamp)
+         ORDER BY EXTRACT(HOUR FROM utc_timestamp) ASC
+        """;
+
+    // The first entry is always zeroed, since it has no previous entry, and must be replaced using lastHourOfDay()
+    static final String DAILY_STATS_SQL = """
+        SELECT utc_timestamp::DATE AS daily_timestamp,
+            COALESCE(MAX(tc_points) - LAG(MAX(tc_points)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_points,
+            COALESCE(MAX(tc_points_multiplied) - LAG(MAX(tc_points_multiplied)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_points_multiplied,
+            COALESCE(MAX(tc_units) - LAG(MAX(tc_units)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_units
+         FROM user_tc_stats_hourly
+         WHERE
+            EXTRACT(MONTH FROM utc_timestamp) = ?
+         AND
+            EXTRACT(YEAR FROM utc_timestamp) = ?
+         AND
+            user_id = ?
+         GROUP BY utc_timestamp::DATE
+         ORDER BY utc_timestamp::DATE ASC
+        """;
+
+    // Same as HOURLY_STATS_SQL, but for multiple users in a single query, with each user's stats calculated in its own window partition
+    // The first entry of each user is calculated from the first hour of the day and the last hour of the previous day, as in firstHourOfDay(),
+    // with the previous day only used if it is in the same month
+    // If there are no stats for the previous day, the user's initial stats are removed instead, using the user's current hardware multiplier and
+    // rounded the same way as Math.round(), as in firstHourOfFirstDay(), with no stats returned if the user does not exist
+    static final String HOURLY_STATS_FOR_USERS_SQL = """
+        WITH hourly_stats AS (
+            SELECT
+                user_id,
+                MAX(utc_timestamp) AS hourly_timestamp,
+                COALESCE(MAX(tc_points) - LAG(MAX(tc_points)) OVER (PARTITION BY user_id ORDER BY MIN(utc_timestamp)), 0) AS diff_points,
+                COALESCE(MAX(tc_points_multiplied) - LAG(MAX(tc_points_multiplied)) OVER (PARTITION BY user_id ORDER BY MIN(utc_timestamp)), 0)
+                    AS diff_points_multiplied,
+                COALESCE(MAX(tc_units) - LAG(MAX(tc_units)) OVER (PARTITION BY user_id ORDER BY MIN(utc_timestamp)), 0) AS diff_units,
+                ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY MIN(utc_timestamp)) AS user_row
+             FROM user_tc_stats_hourly
+             WHERE
+                utc_timestamp BETWEEN ? AND ?
+             AND
+                user_id = ANY(?)
+             GROUP BY user_id, EXTRACT(HOUR FROM utc_timestamp)
+        ),
+        first_hour AS (
+            SELECT user_id, MAX(tc_points) AS tc_points, MAX(tc_points_multiplied) AS tc_points_multiplied, MAX(tc_units) AS tc_units
+             FROM user_tc_stats_hourly
+             WHERE
+                utc_timestamp BETWEEN ? AND ?
+             AND
+                user_id = ANY(?)
+             GROUP BY user_id
+        ),
+        previous_hour AS (
+            SELECT user_id, MAX(tc_points) AS tc_points, MAX(tc_points_multiplied) AS tc_points_multiplied, MAX(tc_units) AS tc_units
+             FROM user_tc_stats_hourly
+             WHERE
+                utc_timestamp BETWEEN ? AND ?
+             AND
+                utc_timestamp >= ?
+             AND
+                user_id = ANY(?)
+             GROUP BY user_id
+        ),
+        initial_stats AS (
+            SELECT DISTINCT ON (user_id) user_id, initial_points, initial_units
+             FROM user_initial_stats
+             WHERE
+                user_id = ANY(?)
+             ORDER BY user_id ASC, utc_timestamp DESC
+        ),
+        hardware_multiplier AS (
+            SELECT users.user_id, hardware.multiplier
+             FROM users
+             JOIN hardware ON hardware.hardware_id = users.hardware_id
+             WHERE
+                users.user_id = ANY(?)
+        )
+        SELECT
+            hourly_stats.user_id,
+            hourly_stats.hourly_timestamp,
+            CASE
+                WHEN hourly_stats.user_row > 1 THEN hourly_stats.diff_points
+                WHEN previous_hour.user_id IS NOT NULL THEN GREATEST(COALESCE(first_hour.tc_points, 0) - previous_hour.tc_points, 0)
+                WHEN first_hour.user_id IS NULL OR hardware_multiplier.user_id IS NULL THEN 0
+                ELSE GREATEST(first_hour.tc_points - COALESCE(initial_stats.initial_points, 0), 0)
+            END AS diff_points,
+            CASE
+                WHEN hourly_stats.user_row > 1 THEN hourly_stats.diff_points_multiplied
+                WHEN previous_hour.user_id IS NOT NULL
+                    THEN GREATEST(COALESCE(first_hour.tc_points_multiplied, 0) - previous_hour.tc_points_multiplied, 0)
+                WHEN first_hour.user_id IS NULL OR hardware_multiplier.user_id IS NULL THEN 0
+                ELSE GREATEST(first_hour.tc_points_multiplied
+                    - FLOOR(hardware_multiplier.multiplier::DOUBLE PRECISION * COALESCE(initial_stats.initial_points, 0) + 0.5)::BIGINT, 0)
+            END AS diff_points_multiplied,
+            CASE
+                WHEN hourly_stats.user_row > 1 THEN hourly_stats.diff_units
+                WHEN previous_hour.user_id IS NOT NULL THEN GREATEST(COALESCE(first_hour.tc_units, 0) - previous_hour.tc_units, 0)
+                WHEN first_hour.user_id IS NULL OR hardware_multiplier.user_id IS NULL THEN 0
+                ELSE GREATEST(first_hour.tc_units - COALESCE(initial_stats.initial_units, 0), 0)
+            END AS diff_units
+         FROM hourly_stats
+         LEFT JOIN first_hour ON first_hour.user_id = hourly_stats.user_id
+         LEFT JOIN previous_hour ON previous_hour.user_id = hourly_stats.user_id
+         LEFT JOIN initial_stats ON initial_stats.user_id = hourly_stats.user_id
+         LEFT JOIN hardware_multiplier ON hardware_multiplier.user_id = hourly_stats.user_id
+         ORDER BY hourly_stats.user_id ASC, hourly_stats.hourly_timestamp ASC
+        """;
+
+    // Same as DAILY_STATS_SQL, but for multiple users in a single query, with each user's stats calculated in its own window partition
+    // The first entry of each user is the stats of the last hour of their first day in the month, as in lastHourOfDay()
+    static final String DAILY_STATS_FOR_USERS_SQL = """
+        WITH daily_stats AS (
+            SELECT
+                user_id,
+                utc_timestamp::DATE AS daily_timestamp,
+                COALESCE(MAX(tc_points) - LAG(MAX(tc_points)) OVER (PARTITION BY user_id ORDER BY MIN(utc_timestamp)), 0) AS diff_points,
+                COALESCE(MAX(tc_points_multiplied) - LAG(MAX(tc_points_multiplied)) OVER (PARTITION BY user_id ORDER BY MIN(utc_timestamp)), 0)
+                    AS diff_points_multiplied,
+                COALESCE(MAX(tc_units) - LAG(MAX(tc_units)) OVER (PARTITION BY user_id ORDER BY MIN(utc_timestamp)), 0) AS diff_units,
+                ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY MIN(utc_timestamp)) AS user_row
+             FROM user_tc_stats_hourly
+             WHERE
+                EXTRACT(MONTH FROM utc_timestamp) = ?
+             AND
+                EXTRACT(YEAR FROM utc_timestamp) = ?
+             AND
+                user_id = ANY(?)
+             GROUP BY user_id, utc_timestamp::DATE
+        ),
+        first_day AS (
+            SELECT DISTINCT ON (user_id) user_id, tc_points, tc_points_multiplied, tc_units
+             FROM user_tc_stats_hourly
+             WHERE
+                EXTRACT(MONTH FROM utc_timestamp) = ?
+             AND
+                EXTRACT(YEAR FROM utc_timestamp) = ?
+             AND
+                user_id = ANY(?)
+             ORDER BY user_id ASC, utc_timestamp::DATE ASC, EXTRACT(HOUR FROM utc_timestamp) DESC
+        )
+        SELECT
+            daily_stats.user_id,
+            daily_stats.daily_timestamp,
+            CASE WHEN daily_stats.user_row = 1 THEN first_day.tc_points ELSE daily_stats.diff_points END AS diff_points,
+            CASE WHEN daily_stats.user_row = 1 THEN first_day.tc_points_multiplied ELSE daily_stats.diff_points_multiplied END
+                AS diff_points_multiplied,
+            CASE WHEN daily_stats.user_row = 1 THEN first_day.tc_units ELSE daily_stats.diff_units END AS diff_units
+         FROM daily_stats
+         JOIN first_day ON first_day.user_id = daily_stats.user_id
+         ORDER BY daily_stats.user_id ASC, daily_stats.daily_timestamp ASC
+        """;
+
+    private static final int SINGLE_RESULT = 1;
+
+    private HistoricStatsQueries() {
+
+    }
+
+    /**
+     * Checks if a single day has not yet ended at the provided UTC {@link LocalDateTime}.
+     *
+     * @param year        the {@link Year} of the day
+     * @param month       the {@link Month} of the day
+     * @param day         the day of the {@link Month}
+     * @param utcDateTime the UTC {@link LocalDateTime} to check against
+     * @return {@code true} if the day has not yet ended
+     */
+    static boolean isNotEnded(final Year year, final Month month, final int day, final LocalDateTime utcDateTime) {
+        return utcDateTime.isBefore(LocalDate.of(year.getValue(), month, day).plusDays(1L).atStartOfDay());
+    }
+
+    /**
+     * Checks if a {@link Month} has not yet ended at the provided UTC {@link LocalDateTime}.
+     *
+     * @param year        the {@link Year} of the {@link Month}
+     * @param month       the {@link Month}
+     * @param utcDateTime the UTC {@link LocalDateTime} to check against
+     * @return {@code true} if the {@link Month} has not yet ended
+     */
+    static boolean isNotEnded(final Year year, final Month month, final LocalDateTime utcDateTime) {
+        return utcDateTime.isBefore(year.atMonth(month).plusMonths(1L).atDay(1).atStartOfDay());
+    }
+
+    /**
+     * Checks if a {@link Year} has not yet ended at the provided UTC {@link LocalDateTime}.
+     *
+     * @param year        the {@link Year}
+     * @param utcDateTime the UTC {@link LocalDateTime} to check against
+     * @return {@code true} if the {@link Year} has not yet ended
+     */
+    static boolean isNotEnded(final Year year, final LocalDateTime utcDateTime) {
+        return utcDateTime.isBefore(year.plusYears(1L).atDay(1).atStartOfDay());
+    }
+
+    /**
+     * Builds the query for the maximum TC stats of a user between two times, grouped by hour. The result can be converted into a
+     * {@link UserTcStats} with {@link RecordConverter#toUserTcStats(UserTcStatsHourlyRecord)}.
+     *
+     * @param queryContext the {@link DSLContext} to build the query
+     * @param userId       the ID of the user
+     * @param start        the start {@link LocalDateTime} (inclusive)
+     * @param end          the end {@link LocalDateTime} (inclusive)
+     * @return the query for the maximum TC stats within the first hour between the two times
+     */
+    static ResultQuery<Record5<Integer, LocalDateTime, Long, Long, Integer>> maximumTcStatsBetween(final DSLContext queryContext, final int userId,
+                                                                                                   final LocalDateTime start,
+                                                                                                   final LocalDateTime end) {
+        return queryContext
+            .select(
+                max(USER_TC_STATS_HOURLY.USER_ID).as(USER_TC_STATS_HOURLY.USER_ID),
+                max(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).as(USER_TC_STATS_HOURLY.UTC_TIMESTAMP),
+                max(USER_TC_STATS_HOURLY.TC_POINTS).as(USER_TC_STATS_HOURLY.TC_POINTS),
+                max(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED).as(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED),
+                max(USER_TC_STATS_HOURLY.TC_UNITS).as(USER_TC_STATS_HOURLY.TC_UNITS)
+            )
+            .from(USER_TC_STATS_HOURLY)
+            .where(USER_TC_STATS_HOURLY.UTC_TIMESTAMP.between(start, end))
+            .and(USER_TC_STATS_HOURLY.USER_ID.equal(userId))
+            .groupBy(hour(USER_TC_STATS_HOURLY.UTC_TIMESTAMP))
+            .orderBy(hour(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).asc())
+            .limit(SINGLE_RESULT);
+    }
+
+    /**
+     * Builds the query for the latest initial stats of a user.
+     *
+     * @param queryContext the {@link DSLContext} to build the query
+     * @param userId       the ID of the user
+     * @return the query for the latest {@link UserInitialStatsRecord}
+     */
+    static ResultQuery<UserInitialStatsRecord> initialStats(final DSLContext queryContext, final int userId) {
+        return queryContext
+            .selectFrom(USER_INITIAL_STATS)
+            .where(USER_INITIAL_STATS.USER_ID.equal(userId))
+            .orderBy(USER_INITIAL_STATS.UTC_TIMESTAMP.desc())
+            .limit(SINGLE_RESULT);
+    }
+
+    /**
+     * Builds the query for the multiplier of the current hardware of a user.
+     *
+     * @param queryContext the {@link DSLContext} to build the query
+     * @param userId       the ID of the user
+     * @return the query for the hardware multiplier, with no result if the user does not exist
+     */
+    static ResultQuery<Record1<BigDecimal>> hardwareMultiplier(final DSLContext queryContext, final int userId) {
+        return queryContext
+            .select(HARDWARE.MULTIPLIER)
+            .from(USERS)
+            .join(HARDWARE)
+            .on(USERS.HARDWARE_ID.equal(HARDWARE.HARDWARE_ID))
+            .where(USERS.USER_ID.equal(userId));
+    }
+
+    /**
+     * Builds the query for the TC stats of the last available hour of a user on the day of the provided {@link LocalDateTime}.
+     *
+     * @param queryContext  the {@link DSLContext} to build the query
+     * @param localDateTime the {@link LocalDateTime} of the day
+     * @param userId        the ID of the user
+     * @return the query for the {@link UserTcStatsHourlyRecord} of the last hour of the day
+     */
+    static ResultQuery<UserTcStatsHourlyRecord> lastHourOfDay(final DSLContext queryContext, final LocalDateTime localDateTime, final int userId) {
+        return queryContext
+            .selectFrom(USER_TC_STATS_HOURLY)
+            .where(day(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).equal(localDateTime.getDayOfMonth()))
+            .and(month(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).equal(localDateTime.getMonth().getValue()))
+            .and(year(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).equal(localDateTime.getYear()))
+            .and(USER_TC_STATS_HOURLY.USER_ID.equal(userId))
+            .orderBy(hour(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).desc())
+            .limit(SINGLE_RESULT);
+    }
+
+    /**
+     * Builds the query for the maximum TC stats of a user for each month of a {@link Year}.
+     *
+     * @param queryContext the {@link DSLContext} to build the query
+     * @param userId       the ID of the user
+     * @param year         the {@link Year}
+     * @return the query for the monthly TC stats, ordered by month
+     */
+    static ResultQuery<Record4<LocalDateTime, Long, Long, Integer>> monthlyStats(final DSLContext queryContext, final int userId, final Year year) {
+        return queryContext
+            .select(
+                max(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).as(USER_TC_STATS_HOURLY.UTC_TIMESTAMP.getName()),
+                max(USER_TC_STATS_HOURLY.TC_POINTS).as(USER_TC_STATS_HOURLY.TC_POINTS.getName()),
+                max(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED).as(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED.getName()),
+                max(USER_TC_STATS_HOURLY.TC_UNITS).as(USER_TC_STATS_HOURLY.TC_UNITS.getName())
+            )
+            .from(USER_TC_STATS_HOURLY)
+            .where(year(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).equal(year.getValue()))
+            .and(USER_TC_STATS_HOURLY.USER_ID.equal(userId))
+            .groupBy(month(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).cast(int.class))
+            .orderBy(month(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).cast(int.class).asc());
+    }
+
+    /**
+     * Converts a row of the {@link #HOURLY_STATS_SQL}, {@link #DAILY_STATS_SQL}, {@link #HOURLY_STATS_FOR_USERS_SQL} or
+     * {@link #DAILY_STATS_FOR_USERS_SQL} queries into {@link HistoricStats}.
+     *
+     * @param queryRecord the {@link Record} of the row
+     * @param dateTime    the {@link LocalDateTime} of the row
+     * @return the {@link HistoricStats}
+     */
+    static HistoricStats toHistoricStats(final Record queryRecord, final LocalDateTime dateTime) {
+        return HistoricStats.create(
+            dateTime,
+            queryRecord.get(DIFF_POINTS, long.class),
+            queryRecord.get(DIFF_POINTS_MULTIPLIED, long.class),
+            queryRecord.get(DIFF_UNITS, int.class)
+        );
+    }
+
+    /**
+     * Calculates the TC stats for the first hour of a day, by removing the stats of the last hour of the previous day.
+     *
+     * @param currentDayFirstHour  the {@link UserTcStats} of the first hour of the day
+     * @param previousDayLastHour the {@link UserTcStats} of the last hour of the previous day
+     * @return the {@link UserTcStats} earned in the first hour of the day, with no negative values
+     */
+    static UserTcStats firstHourOfDay(final UserTcStats currentDayFirstHour, final UserTcStats previousDayLastHour) {
+        return UserTcStats.create(
+            currentDayFirstHour.userId(),
+            currentDayFirstHour.timestamp(),
+            Math.max(0L, currentDayFirstHour.points() - previousDayLastHour.points()),
+            Math.max(0L, currentDayFirstHour.multipliedPoints() - previousDayLastHour.multipliedPoints()),
+            Math.max(0, currentDayFirstHour.units() - previousDayLastHour.units())
+        );
+    }
+
+    /**
+     * Calculates the TC stats for the first hour of the first day with stats for a user, by removing the user's initial stats.
+     *
+     * <p>
+     * Since there are no stats for the previous day, the hardware multiplier cannot have been changed since then, so the user's current hardware
+     * multiplier is used to remove the multiplied initial points.
+     *
+     * @param currentDayFirstHour the {@link UserTcStats} of the first hour of the day
+     * @param initialStats        the initial {@link UserStats} of the user
+     * @param hardwareMultiplier  the multiplier of the user's current hardware
+     * @return the {@link UserTcStats} earned in the first hour of the day, with no negative values
+     */
+    static UserTcStats firstHourOfFirstDay(final UserTcStats currentDayFirstHour, final UserStats initialStats, final double hardwareMultiplier) {
+        return UserTcStats.create(
+            currentDayFirstHour.userId(),
+            currentDayFirstHour.timestamp(),
+            Math.max(0L, currentDayFirstHour.points() - initialStats.points()),
+            Math.max(0L, currentDayFirstHour.multipliedPoints() - Math.round(hardwareMultiplier * initialStats.points())),
+            Math.max(0, currentDayFirstHour.units() - initialStats.units())
+        );
+    }
+}
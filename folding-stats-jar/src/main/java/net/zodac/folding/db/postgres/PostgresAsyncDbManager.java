@@ -0,0 +1,456 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import static net.zodac.folding.api.util.DateTimeConverterUtils.formatMonth;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.DAILY_STATS_FOR_USERS_SQL;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.DAILY_STATS_SQL;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.DAILY_TIMESTAMP;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.HOURLY_STATS_FOR_USERS_SQL;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.HOURLY_STATS_SQL;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.HOURLY_TIMESTAMP;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.USER_ID;
+import static net.zodac.folding.db.postgres.gen.tables.MonthlyResults.MONTHLY_RESULTS;
+import static net.zodac.folding.db.postgres.gen.tables.UserTcStatsHourly.USER_TC_STATS_HOURLY;
+import static org.jooq.impl.DSL.month;
+import static org.jooq.impl.DSL.year;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import net.zodac.folding.api.db.AsyncDbManager;
+import net.zodac.folding.api.tc.result.MonthlyResult;
+import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.DateTimeConverterUtils;
+import net.zodac.folding.api.util.DateTimeUtils;
+import net.zodac.folding.api.util.LoggerName;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link AsyncDbManager} for <b>PostgreSQL</b> databases, using <b>jOOQ</b> with a non-blocking <b>R2DBC</b> driver.
+ *
+ * <p>
+ * Each query is executed when its {@link Publisher} is subscribed to, and a connection is only borrowed from the {@link ConnectionPool} while the
+ * rows are being streamed, rather than for the whole time a caller is waiting. This allows many concurrent readers of historic stats without each of
+ * them holding a connection from the JDBC pool used by the {@link PostgresDbManager} for stats ingestion.
+ *
+ * <p>
+ * The queries and the calculation of the {@link HistoricStats} are shared with the {@link PostgresDbManager} through {@link HistoricStatsQueries}.
+ *
+ * <p>
+ * As with the {@link PostgresDbManager}, only the {@link HistoricStats} for a period that has not yet ended are retrieved from the read
+ * {@link ConnectionPool}. Any results that are cached permanently ({@link HistoricStats} for a period that has ended and {@link MonthlyResult}s) are
+ * retrieved from the primary {@link ConnectionPool}, so a lagging read-replica cannot leave stale entries in those caches.
+ *
+ * @param connectionPool     the R2DBC {@link ConnectionPool} for the primary DB
+ * @param readConnectionPool the R2DBC {@link ConnectionPool} for read-only queries, which can be the same as the {@code connectionPool}
+ * @param queryConfiguration the {@link PostgresQueryConfiguration} used to execute all queries
+ */
+public record PostgresAsyncDbManager(ConnectionPool connectionPool, ConnectionPool readConnectionPool, PostgresQueryConfiguration queryConfiguration)
+    implements AsyncDbManager, AutoCloseable {
+
+    private static final Logger SQL_LOGGER = LogManager.getLogger(LoggerName.SQL.get());
+    private static final int SINGLE_RESULT = 1;
+    private static final int INITIAL_POOL_SIZE = 1;
+    private static final String JDBC_URL_PREFIX = "jdbc:";
+    private static final String R2DBC_URL_PREFIX = "r2dbc:";
+    private static final String READ_POOL_NAME_SUFFIX = "-read";
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+
+    /**
+     * Creates an instance of {@link PostgresAsyncDbManager}.
+     *
+     * <p>
+     * The JDBC URLs used for the {@link PostgresDbManager} can be provided, and will be converted to the equivalent R2DBC URLs. If the read URL is
+     * the same as the primary URL, a single {@link ConnectionPool} is used for all queries.
+     *
+     * @param dataSourceUrl      the JDBC (or R2DBC) URL for the primary data source
+     * @param readDataSourceUrl  the JDBC (or R2DBC) URL for the read-only data source
+     * @param dataSourceUsername the username for the data sources
+     * @param dataSourcePassword the password for the data sources
+     * @param poolName           the name of the connection pool, used to identify it in logs
+     * @param maximumPoolSize    the maximum number of connections in each pool
+     * @param queryConfiguration the {@link PostgresQueryConfiguration} used to execute all queries
+     * @return the created {@link PostgresAsyncDbManager}
+     */
+    public static PostgresAsyncDbManager create(final String dataSourceUrl,
+                                                final String readDataSourceUrl,
+                                                final String dataSourceUsername,
+                                                final String dataSourcePassword,
+                                                final String poolName,
+                                                final int maximumPoolSize,
+                                                final PostgresQueryConfiguration queryConfiguration) {
+        final ConnectionPool connectionPool = createConnectionPool(dataSourceUrl, dataSourceUsername, dataSourcePassword, poolName, maximumPoolSize);
+        if (readDataSourceUrl.equals(dataSourceUrl)) {
+            return new PostgresAsyncDbManager(connectionPool, connectionPool, queryConfiguration);
+        }
+
+        final ConnectionPool readConnectionPool = createConnectionPool(readDataSourceUrl, dataSourceUsername, dataSourcePassword,
+            poolName + READ_POOL_NAME_SUFFIX, maximumPoolSize);
+        return new PostgresAsyncDbManager(connectionPool, readConnectionPool, queryConfiguration);
+    }
+
+    private static ConnectionPool createConnectionPool(final String dataSourceUrl,
+                                                       final String dataSourceUsername,
+                                                       final String dataSourcePassword,
+                                                       final String poolName,
+                                                       final int maximumPoolSize) {
+        final ConnectionFactoryOptions connectionFactoryOptions = ConnectionFactoryOptions.parse(toR2dbcUrl(dataSourceUrl))
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, dataSourceUsername)
+            .option(ConnectionFactoryOptions.PASSWORD, dataSourcePassword)
+            .build();
+
+        final ConnectionPoolConfiguration connectionPoolConfiguration = ConnectionPoolConfiguration
+            .builder(ConnectionFactories.get(connectionFactoryOptions))
+            .name(poolName)
+            .initialSize(Math.min(INITIAL_POOL_SIZE, maximumPoolSize))
+            .maxSize(maximumPoolSize)
+            .build();
+
+        SQL_LOGGER.debug("Connecting to DB with R2DBC pool '{}'...", poolName);
+        return new ConnectionPool(connectionPoolConfiguration);
+    }
+
+    /**
+     * Converts a JDBC URL into the equivalent R2DBC URL. If the URL is already an R2DBC URL, it is returned unchanged.
+     *
+     * @param dataSourceUrl the JDBC or R2DBC URL
+     * @return the R2DBC URL
+     * @throws IllegalArgumentException thrown if the URL is neither a JDBC nor an R2DBC URL
+     */
+    static String toR2dbcUrl(final String dataSourceUrl) {
+        if (dataSourceUrl.startsWith(R2DBC_URL_PREFIX)) {
+            return dataSourceUrl;
+        }
+
+        if (!dataSourceUrl.startsWith(JDBC_URL_PREFIX)) {
+            throw new IllegalArgumentException(String.format("Data source URL must start with '%s' or '%s'", JDBC_URL_PREFIX, R2DBC_URL_PREFIX));
+        }
+
+        return R2DBC_URL_PREFIX + dataSourceUrl.substring(JDBC_URL_PREFIX.length());
+    }
+
+    @Override
+    public CompletionStage<Collection<HistoricStats>> getHistoricStatsHourly(final int userId, final Year year, final Month month, final int day) {
+        SQL_LOGGER.info("Getting historic hourly user TC stats for {}/{}/{} for user {}", () -> year, () -> formatMonth(month),
+            () -> day, () -> userId);
+
+        final DSLContext queryContext = queryContext(HistoricStatsQueries.isNotEnded(year, month, day, DATE_TIME_UTILS.currentUtcLocalDateTime()));
+        final var query = queryContext.resultQuery(HOURLY_STATS_SQL,
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 0, 0),
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 23, 59, 59),
+            userId
+        );
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        final Mono<List<HistoricStats>> hourlyStats = Flux.from(query)
+            .map(queryRecord -> HistoricStatsQueries.toHistoricStats(queryRecord, queryRecord.get(HOURLY_TIMESTAMP, LocalDateTime.class)))
+            .collectList()
+            .flatMap(userStats -> withFirstHourOfDay(queryContext, userId, year, month, day, userStats));
+
+        return toCompletionStage(hourlyStats);
+    }
+
+    @Override
+    public CompletionStage<Map<Integer, Collection<HistoricStats>>> getHistoricStatsHourlyForUsers(final Collection<Integer> userIds, final Year year,
+                                                                                                  final Month month, final int day) {
+        SQL_LOGGER.info("Getting historic hourly user TC stats for {}/{}/{} for users {}", () -> year, () -> formatMonth(month),
+            () -> day, () -> userIds);
+
+        final Integer[] userIdsArray = userIds.toArray(Integer[]::new);
+        final LocalDateTime startOfDay = DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 0, 0);
+        final DSLContext queryContext = queryContext(HistoricStatsQueries.isNotEnded(year, month, day, DATE_TIME_UTILS.currentUtcLocalDateTime()));
+        final var query = queryContext.resultQuery(HOURLY_STATS_FOR_USERS_SQL,
+            startOfDay,
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 23, 59, 59),
+            userIdsArray,
+            startOfDay,
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 59, 59),
+            userIdsArray,
+            startOfDay.minusHours(1L),
+            startOfDay.minusSeconds(1L),
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month),
+            userIdsArray,
+            userIdsArray,
+            userIdsArray
+        );
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        final Mono<Map<Integer, Collection<HistoricStats>>> hourlyStats = groupByUserId(query, userIds,
+            queryRecord -> HistoricStatsQueries.toHistoricStats(queryRecord, queryRecord.get(HOURLY_TIMESTAMP, LocalDateTime.class)));
+
+        return hourlyStats.toFuture();
+    }
+
+    private Mono<List<HistoricStats>> withFirstHourOfDay(final DSLContext queryContext, final int userId, final Year year, final Month month,
+                                                         final int day, final List<HistoricStats> userStats) {
+        if (userStats.isEmpty()) {
+            return Mono.just(userStats);
+        }
+
+        // First entry will be zeroed, so we need to manually get the first hour's stats for the user
+        return getTcStatsForFirstHourOfDay(queryContext, userId, year, month, day)
+            .map(userTcStats -> {
+                userStats.set(0, HistoricStats.create(userStats.getFirst().dateTime(), userTcStats.points(), userTcStats.multipliedPoints(),
+                    userTcStats.units()));
+                return userStats;
+            });
+    }
+
+    private Mono<UserTcStats> getTcStatsForFirstHourOfDay(final DSLContext queryContext, final int userId, final Year year, final Month month,
+                                                          final int day) {
+        final Mono<UserTcStats> firstHourTcStatsCurrentDay = getMaximumTcStatsBetween(queryContext, userId,
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 0, 0),
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 59, 59));
+
+        final boolean isFirstDay = day == 1;
+        final int previousDay = day - 1;
+        final Mono<UserTcStats> lastHourTcStatsPreviousDay = isFirstDay
+            ? Mono.just(UserTcStats.empty(userId))
+            : getMaximumTcStatsBetween(queryContext, userId,
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, previousDay, 23, 0, 0),
+            DateTimeConverterUtils.getLocalDateTimeOf(year, month, previousDay, 23, 59, 59));
+
+        return Mono.zip(firstHourTcStatsCurrentDay, lastHourTcStatsPreviousDay)
+            .flatMap(tcStats -> {
+                final UserTcStats currentDay = tcStats.getT1();
+                final UserTcStats previousDayStats = tcStats.getT2();
+
+                if (!previousDayStats.isEmpty()) {
+                    return Mono.just(HistoricStatsQueries.firstHourOfDay(currentDay, previousDayStats));
+                }
+
+                if (currentDay.isEmpty()) {
+                    return Mono.just(UserTcStats.empty(userId));
+                }
+
+                // If no stats in previous day (meaning we are getting historic stats for the first day available),
+                // we need to remove the initial points from the current day's points, using the user's current hardware multiplier
+                return getInitialStats(queryContext, userId)
+                    .zipWith(getHardwareMultiplier(queryContext, userId),
+                        (initialStats, hardwareMultiplier) -> HistoricStatsQueries.firstHourOfFirstDay(currentDay, initialStats, hardwareMultiplier))
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        SQL_LOGGER.warn("Could not find user with ID {}, returning empty stats for first hour of day", userId);
+                        return UserTcStats.empty(userId);
+                    }));
+            });
+    }
+
+    private Mono<UserTcStats> getMaximumTcStatsBetween(final DSLContext queryContext, final int userId, final LocalDateTime start,
+                                                       final LocalDateTime end) {
+        final var query = HistoricStatsQueries.maximumTcStatsBetween(queryContext, userId, start, end);
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        return single(query)
+            .map(queryRecord -> RecordConverter.toUserTcStats(queryRecord.into(USER_TC_STATS_HOURLY)))
+            .defaultIfEmpty(UserTcStats.empty(userId));
+    }
+
+    private Mono<UserStats> getInitialStats(final DSLContext queryContext, final int userId) {
+        final var query = HistoricStatsQueries.initialStats(queryContext, userId);
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        return single(query)
+            .map(RecordConverter::toUserStats)
+            .defaultIfEmpty(UserStats.empty());
+    }
+
+    private Mono<Double> getHardwareMultiplier(final DSLContext queryContext, final int userId) {
+        final var query = HistoricStatsQueries.hardwareMultiplier(queryContext, userId);
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        return single(query)
+            .map(queryRecord -> queryRecord.value1().doubleValue());
+    }
+
+    @Override
+    public CompletionStage<Collection<HistoricStats>> getHistoricStatsDaily(final int userId, final Year year, final Month month) {
+        SQL_LOGGER.info("Getting historic daily user TC stats for {}/{} for user {}", () -> formatMonth(month), () -> year, () -> userId);
+
+        final DSLContext queryContext = queryContext(HistoricStatsQueries.isNotEnded(year, month, DATE_TIME_UTILS.currentUtcLocalDateTime()));
+        final var query = queryContext.resultQuery(DAILY_STATS_SQL,
+            month.getValue(),
+            year.getValue(),
+            userId
+        );
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        final Mono<List<HistoricStats>> dailyStats = Flux.from(query)
+            .map(queryRecord -> HistoricStatsQueries.toHistoricStats(queryRecord, queryRecord.get(DAILY_TIMESTAMP, LocalDate.class).atStartOfDay()))
+            .collectList()
+            .flatMap(userStats -> withFirstDayOfMonth(queryContext, userId, month, userStats));
+
+        return toCompletionStage(dailyStats);
+    }
+
+    @Override
+    public CompletionStage<Map<Integer, Collection<HistoricStats>>> getHistoricStatsDailyForUsers(final Collection<Integer> userIds, final Year year,
+                                                                                                 final Month month) {
+        SQL_LOGGER.info("Getting historic daily user TC stats for {}/{} for users {}", () -> formatMonth(month), () -> year, () -> userIds);
+
+        final Integer[] userIdsArray = userIds.toArray(Integer[]::new);
+        final DSLContext queryContext = queryContext(HistoricStatsQueries.isNotEnded(year, month, DATE_TIME_UTILS.currentUtcLocalDateTime()));
+        final var query = queryContext.resultQuery(DAILY_STATS_FOR_USERS_SQL,
+            month.getValue(),
+            year.getValue(),
+            userIdsArray,
+            month.getValue(),
+            year.getValue(),
+            userIdsArray
+        );
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        final Mono<Map<Integer, Collection<HistoricStats>>> dailyStats = groupByUserId(query, userIds,
+            queryRecord -> HistoricStatsQueries.toHistoricStats(queryRecord, queryRecord.get(DAILY_TIMESTAMP, LocalDate.class).atStartOfDay()));
+
+        return dailyStats.toFuture();
+    }
+
+    private Mono<List<HistoricStats>> withFirstDayOfMonth(final DSLContext queryContext, final int userId, final Month month,
+                                                          final List<HistoricStats> userStats) {
+        if (userStats.isEmpty()) {
+            return Mono.just(userStats);
+        }
+
+        // First entry will be zeroed, so we need to manually get the first day's stats for the user
+        final LocalDateTime firstDay = userStats.getFirst().dateTime();
+        return getTcStatsForFirstDayOfMonth(queryContext, firstDay, userId)
+            .map(userTcStats -> {
+                if (userTcStats.isEmpty()) {
+                    SQL_LOGGER.warn("Error getting historic stats for first day of {} for user with ID {}", formatMonth(month), userId);
+                    userStats.removeFirst();
+                } else {
+                    userStats.set(0, HistoricStats.create(firstDay, userTcStats.points(), userTcStats.multipliedPoints(),
+                        userTcStats.units()));
+                }
+                return userStats;
+            });
+    }
+
+    private Mono<UserTcStats> getTcStatsForFirstDayOfMonth(final DSLContext queryContext, final LocalDateTime localDateTime, final int userId) {
+        SQL_LOGGER.debug("Getting TC stats for user {} on {}", userId, localDateTime);
+
+        final var query = HistoricStatsQueries.lastHourOfDay(queryContext, localDateTime, userId);
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        return single(query)
+            .map(RecordConverter::toUserTcStats)
+            .defaultIfEmpty(UserTcStats.empty(userId));
+    }
+
+    @Override
+    public CompletionStage<Collection<HistoricStats>> getHistoricStatsMonthly(final int userId, final Year year) {
+        SQL_LOGGER.debug("Getting historic monthly user TC stats for {} for user {}", year, userId);
+
+        final DSLContext queryContext = queryContext(HistoricStatsQueries.isNotEnded(year, DATE_TIME_UTILS.currentUtcLocalDateTime()));
+        final var query = HistoricStatsQueries.monthlyStats(queryContext, userId, year);
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        final Mono<List<HistoricStats>> monthlyStats = Flux.from(query)
+            .map(queryRecord -> RecordConverter.toHistoricStats(queryRecord.into(USER_TC_STATS_HOURLY)))
+            .collectList();
+        return toCompletionStage(monthlyStats);
+    }
+
+    @Override
+    public CompletionStage<Optional<MonthlyResult>> getMonthlyResult(final Month month, final Year year) {
+        SQL_LOGGER.debug("Retrieving monthly result for {}/{}", () -> year, () -> formatMonth(month));
+
+        final var query = queryContext(false)
+            .selectFrom(MONTHLY_RESULTS)
+            .where(year(MONTHLY_RESULTS.UTC_TIMESTAMP).equal(year.getValue()))
+            .and(month(MONTHLY_RESULTS.UTC_TIMESTAMP).equal(month.getValue()))
+            .orderBy(MONTHLY_RESULTS.UTC_TIMESTAMP.desc())
+            .limit(SINGLE_RESULT);
+        SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+        return single(query)
+            .map(monthlyResultsRecord -> Optional.of(RecordConverter.toMonthlyResult(monthlyResultsRecord)))
+            .defaultIfEmpty(Optional.empty())
+            .toFuture();
+    }
+
+    /**
+     * Closes the R2DBC {@link ConnectionPool}s, waiting for any borrowed connections to be released.
+     */
+    @Override
+    public void close() {
+        SQL_LOGGER.debug("Closing R2DBC connection pools");
+        connectionPool.dispose();
+
+        if (readConnectionPool != connectionPool) {
+            readConnectionPool.dispose();
+        }
+    }
+
+    private DSLContext queryContext(final boolean readOnly) {
+        return queryConfiguration.using(readOnly ? readConnectionPool : connectionPool);
+    }
+
+    private static <R> Mono<R> single(final Publisher<R> query) {
+        return Mono.from(query);
+    }
+
+    // Every requested user is included in the result, even if they have no stats, in the same order they were requested
+    private static Mono<Map<Integer, Collection<HistoricStats>>> groupByUserId(final Publisher<? extends Record> query,
+                                                                               final Collection<Integer> userIds,
+                                                                               final Function<? super Record, HistoricStats> toHistoricStats) {
+        return Flux.from(query)
+            .collect(() -> {
+                final Map<Integer, List<HistoricStats>> statsByUserId = new LinkedHashMap<>();
+                for (final int userId : userIds) {
+                    statsByUserId.put(userId, new ArrayList<>());
+                }
+                return statsByUserId;
+            }, (statsByUserId, queryRecord) -> statsByUserId.get(queryRecord.get(USER_ID, int.class)).add(toHistoricStats.apply(queryRecord)))
+            .map(statsByUserId -> {
+                final Map<Integer, Collection<HistoricStats>> unmodifiableStatsByUserId = new LinkedHashMap<>();
+                statsByUserId.forEach((userId, userStats) -> unmodifiableStatsByUserId.put(userId, Collections.unmodifiableCollection(userStats)));
+                return unmodifiableStatsByUserId;
+            });
+    }
+
+    private static CompletionStage<Collection<HistoricStats>> toCompletionStage(final Mono<List<HistoricStats>> historicStats) {
+        return historicStats
+            .map(Collections::<HistoricStats>unmodifiableCollection)
+            .toFuture();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.function.Function;
+import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.DateTimeConverterUtils;
+import net.zodac.folding.api.util.LoggerName;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Utility class that streams bulk stats into the DB for {@link PostgresDbManager} using the <b>PostgreSQL</b> {@code COPY ... FROM STDIN} command.
+ *
+ * <p>
+ * Rows are written in CSV format and flushed to the DB every {@value #ROWS_PER_FLUSH} rows, so the full payload is never held in memory at once.
+ * All rows are written in a single {@code COPY} command, so either all rows are persisted, or none are.
+ */
+final class PostgresCopyWriter {
+
+    private static final Logger SQL_LOGGER = LogManager.getLogger(LoggerName.SQL.get());
+    private static final int ROWS_PER_FLUSH = 5_000;
+
+    private static final String COPY_HOURLY_TC_STATS = """
+        COPY user_tc_stats_hourly (user_id, utc_timestamp, tc_points, tc_points_multiplied, tc_units)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+    private static final String COPY_TOTAL_STATS = """
+        COPY user_total_stats (user_id, utc_timestamp, total_points, total_units)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private PostgresCopyWriter() {
+
+    }
+
+    /**
+     * Streams the provided {@link UserTcStats} into the {@code user_tc_stats_hourly} table.
+     *
+     * @param connection  the {@link Connection} to the DB
+     * @param userTcStats the {@link UserTcStats} to be written
+     * @return the number of rows written
+     * @throws SQLException thrown if there is an error writing to the DB
+     */
+    static long copyHourlyTcStats(final Connection connection, final Collection<UserTcStats> userTcStats) throws SQLException {
+        return copy(connection, COPY_HOURLY_TC_STATS, userTcStats, stats -> String.join(",",
+            String.valueOf(stats.userId()),
+            String.valueOf(DateTimeConverterUtils.toUtcLocalDateTime(stats.timestamp())),
+            String.valueOf(stats.points()),
+            String.valueOf(stats.multipliedPoints()),
+            String.valueOf(stats.units())
+        ));
+    }
+
+    /**
+     * Streams the provided {@link UserStats} into the {@code user_total_stats} table.
+     *
+     * @param connection the {@link Connection} to the DB
+     * @param userStats  the total {@link UserStats} to be written
+     * @return the number of rows written
+     * @throws SQLException thrown if there is an error writing to the DB
+     */
+    static long copyTotalStats(final Connection connection, final Collection<UserStats> userStats) throws SQLException {
+        return copy(connection, COPY_TOTAL_STATS, userStats, stats -> String.join(",",
+            String.valueOf(stats.userId()),
+            String.valueOf(DateTimeConverterUtils.toUtcLocalDateTime(stats.timestamp())),
+            String.valueOf(stats.points()),
+            String.valueOf(stats.units())
+        ));
+    }
+
+    private static <T> long copy(final Connection connection,
+                                 final String copyStatement,
+                                 final Collection<T> rows,
+                                 final Function<? super T, String> toCsvRow) throws SQLException {
+        final CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        SQL_LOGGER.debug("Executing COPY for {} rows: '{}'", rows.size(), copyStatement);
+
+        final CopyIn copyIn = copyManager.copyIn(copyStatement);
+        try {
+            final StringBuilder buffer = new StringBuilder();
+            int rowsInBuffer = 0;
+
+            for (final T row : rows) {
+                buffer.append(toCsvRow.apply(row)).append('\n');
+                rowsInBuffer++;
+
+                if (rowsInBuffer == ROWS_PER_FLUSH) {
+                    flush(copyIn, buffer);
+                    rowsInBuffer = 0;
+                }
+            }
+
+            flush(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                SQL_LOGGER.warn("Cancelling incomplete COPY: '{}'", copyStatement);
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void flush(final CopyIn copyIn, final StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        final byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -34,28 +34,69 @@ public final class PostgresDataSource extends HikariDataSource {
     }
 
     /**
-     * Creates an instance of {@link PostgresDataSource}.
+     * Creates an instance of {@link PostgresDataSource} to be used for both reads and writes.
      *
      * @param dataSourceUrl      the JDBC URL for the data source
      * @param dataSourceDriver   the driver for the data source
      * @param dataSourceUsername the username for the data source
      * @param dataSourcePassword the password URL for the data source
+     * @param poolName           the name of the connection pool, used to identify it in logs and JMX
+     * @param maximumPoolSize    the maximum number of connections in the pool
      * @return the created {@link PostgresDataSource}
      */
     public static PostgresDataSource create(final String dataSourceUrl,
                                             final String dataSourceDriver,
                                             final String dataSourceUsername,
-                                            final String dataSourcePassword) {
+                                            final String dataSourcePassword,
+                                            final String poolName,
+                                            final int maximumPoolSize) {
+        final HikariConfig hikariConfig = createConfig(dataSourceUrl, dataSourceDriver, dataSourceUsername, dataSourcePassword);
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setMaximumPoolSize(maximumPoolSize);
+
+        LOGGER.debug("Connecting to DB with pool '{}'...", poolName);
+        return new PostgresDataSource(hikariConfig);
+    }
+
+    /**
+     * Creates an instance of {@link PostgresDataSource} to be used for reads only, such as a connection to a read-replica.
+     *
+     * @param dataSourceUrl      the JDBC URL for the data source
+     * @param dataSourceDriver   the driver for the data source
+     * @param dataSourceUsername the username for the data source
+     * @param dataSourcePassword the password URL for the data source
+     * @param poolName           the name of the connection pool, used to identify it in logs and JMX
+     * @param maximumPoolSize    the maximum number of connections in the pool
+     * @return the created read-only {@link PostgresDataSource}
+     */
+    public static PostgresDataSource createReadOnly(final String dataSourceUrl,
+                                                    final String dataSourceDriver,
+                                                    final String dataSourceUsername,
+                                                    final String dataSourcePassword,
+                                                    final String poolName,
+                                                    final int maximumPoolSize) {
+        final HikariConfig hikariConfig = createConfig(dataSourceUrl, dataSourceDriver, dataSourceUsername, dataSourcePassword);
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setMaximumPoolSize(maximumPoolSize);
+        hikariConfig.setReadOnly(true);
+
+        LOGGER.debug("Connecting to read-only DB with pool '{}'...", poolName);
+        return new PostgresDataSource(hikariConfig);
+    }
+
+    private static HikariConfig createConfig(final String dataSourceUrl,
+                                             final String dataSourceDriver,
+                                             final String dataSourceUsername,
+                                             final String dataSourcePassword) {
         final HikariConfig hikariConfig = new HikariConfig();
         hikariConfig.setJdbcUrl(dataSourceUrl);
         hikariConfig.setDriverClassName(dataSourceDriver);
         hikariConfig.setUsername(dataSourceUsername);
         hikariConfig.setPassword(dataSourcePassword);
+        hikariConfig.setRegisterMbeans(true);
         hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
         hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
         hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-
-        LOGGER.debug("Connecting to DB...");
-        return new PostgresDataSource(hikariConfig);
+        return hikariConfig;
     }
 }
@@ -18,9 +18,13 @@
 package net.zodac.folding.db.postgres;
 
 import static net.zodac.folding.api.util.DateTimeConverterUtils.formatMonth;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.DAILY_TIMESTAMP;
+import static net.zodac.folding.db.postgres.HistoricStatsQueries.HOURLY_TIMESTAMP;
 import static net.zodac.folding.db.postgres.RecordConverter.GSON;
 import static net.zodac.folding.db.postgres.gen.Routines.crypt;
 import static net.zodac.folding.db.postgres.gen.tables.Hardware.HARDWARE;
+import static net.zodac.folding.db.postgres.gen.tables.IngestionRunFailures.INGESTION_RUN_FAILURES;
+import static net.zodac.folding.db.postgres.gen.tables.IngestionRuns.INGESTION_RUNS;
 import static net.zodac.folding.db.postgres.gen.tables.MonthlyResults.MONTHLY_RESULTS;
 import static net.zodac.folding.db.postgres.gen.tables.RetiredUserStats.RETIRED_USER_STATS;
 import static net.zodac.folding.db.postgres.gen.tables.SystemUsers.SYSTEM_USERS;
@@ -31,26 +35,25 @@ import static net.zodac.folding.db.postgres.gen.tables.UserOffsetTcStats.USER_OF
 import static net.zodac.folding.db.postgres.gen.tables.UserTcStatsHourly.USER_TC_STATS_HOURLY;
 import static net.zodac.folding.db.postgres.gen.tables.UserTotalStats.USER_TOTAL_STATS;
 import static net.zodac.folding.db.postgres.gen.tables.Users.USERS;
-import static org.jooq.impl.DSL.day;
 import static org.jooq.impl.DSL.field;
-import static org.jooq.impl.DSL.hour;
-import static org.jooq.impl.DSL.max;
 import static org.jooq.impl.DSL.month;
 import static org.jooq.impl.DSL.year;
 
 import java.math.BigDecimal;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import net.zodac.folding.api.UserAuthenticationResult;
 import net.zodac.folding.api.db.DbManager;
@@ -59,6 +62,8 @@ import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.tc.change.UserChange;
 import net.zodac.folding.api.tc.change.UserChangeState;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.tc.ingestion.IngestionRunFailure;
 import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.tc.stats.RetiredUserTcStats;
@@ -68,12 +73,13 @@ import net.zodac.folding.api.util.DateTimeConverterUtils;
 import net.zodac.folding.api.util.DateTimeUtils;
 import net.zodac.folding.api.util.DecodedLoginCredentials;
 import net.zodac.folding.api.util.LoggerName;
+import net.zodac.folding.db.postgres.gen.tables.records.IngestionRunFailuresRecord;
+import net.zodac.folding.db.postgres.gen.tables.records.IngestionRunsRecord;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jooq.DSLContext;
-import org.jooq.SQLDialect;
-import org.jooq.impl.DSL;
+import org.jooq.JSONB;
 
 /**
  * Implementation of {@link DbManager} for <b>PostgreSQL</b> databases.
@@ -81,22 +87,79 @@ import org.jooq.impl.DSL;
  * <p>
  * Uses <b>jOOQ</b> for code generation for the DB tables/schemas, rather than direct SQL queries. See existing methods for examples.
  *
- * @param dataSource the {@link DataSource} for this instance
+ * <p>
+ * Writes, and any reads that must see the result of a previous write, are executed against the primary {@link DataSource}. This includes retrieving
+ * all hardware, teams, users, retired user stats and user changes, since these are used to populate long-lived caches or are applied immediately
+ * after a write, and any replication lag would leave stale entries in those caches. Monthly results and {@link HistoricStats} for a period that has
+ * already ended are also cached permanently, so they are retrieved from the primary {@link DataSource} too. Only the heavier {@link HistoricStats}
+ * reads for a period that has not yet ended, which are retrieved again after each stats update, are executed against a separate read
+ * {@link DataSource}, such as a read-replica, so they do not compete with stats ingestion for connections. If no read-replica is available, both
+ * {@link DataSource}s can be the same instance.
+ *
+ * <p>
+ * All queries are executed with a shared <b>jOOQ</b> configuration from the {@link PostgresQueryConfiguration}, which records query latency, rows
+ * fetched and connection acquisition time as metrics, and logs any slow queries.
+ *
+ * @param dataSource         the primary {@link DataSource} for this instance
+ * @param readDataSource     the {@link DataSource} used for read-only queries
+ * @param bulkInsertMode     the {@link BulkInsertMode} used when writing a bulk collection of stats
+ * @param queryConfiguration the {@link PostgresQueryConfiguration} used to execute all queries
  */
-public record PostgresDbManager(DataSource dataSource) implements DbManager {
+public record PostgresDbManager(DataSource dataSource, DataSource readDataSource, BulkInsertMode bulkInsertMode,
+                                PostgresQueryConfiguration queryConfiguration) implements DbManager {
 
     private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
     private static final Logger SQL_LOGGER = LogManager.getLogger(LoggerName.SQL.get());
     private static final int SINGLE_RESULT = 1;
+    private static final ScopedValue<Transaction> CURRENT_TRANSACTION = ScopedValue.newInstance();
 
     /**
-     * Creates an instance of {@link PostgresDbManager}.
+     * Creates an instance of {@link PostgresDbManager}, using {@link BulkInsertMode#COPY} for bulk writes.
      *
-     * @param dataSource the {@link DataSource} for this instance
+     * @param dataSource the {@link DataSource} for this instance, used for both reads and writes
      * @return the created {@link PostgresDbManager}
      */
     public static PostgresDbManager create(final DataSource dataSource) {
-        return new PostgresDbManager(dataSource);
+        return create(dataSource, BulkInsertMode.COPY);
+    }
+
+    /**
+     * Creates an instance of {@link PostgresDbManager}.
+     *
+     * @param dataSource     the {@link DataSource} for this instance, used for both reads and writes
+     * @param bulkInsertMode the {@link BulkInsertMode} used when writing a bulk collection of stats
+     * @return the created {@link PostgresDbManager}
+     */
+    public static PostgresDbManager create(final DataSource dataSource, final BulkInsertMode bulkInsertMode) {
+        return create(dataSource, dataSource, bulkInsertMode);
+    }
+
+    /**
+     * Creates an instance of {@link PostgresDbManager}.
+     *
+     * @param dataSource     the primary {@link DataSource} for this instance
+     * @param readDataSource the {@link DataSource} used for read-only queries
+     * @param bulkInsertMode the {@link BulkInsertMode} used when writing a bulk collection of stats
+     * @return the created {@link PostgresDbManager}
+     */
+    public static PostgresDbManager create(final DataSource dataSource, final DataSource readDataSource, final BulkInsertMode bulkInsertMode) {
+        return create(dataSource, readDataSource, bulkInsertMode, PostgresQueryConfiguration.create());
+    }
+
+    /**
+     * Creates an instance of {@link PostgresDbManager}.
+     *
+     * @param dataSource         the primary {@link DataSource} for this instance
+     * @param readDataSource     the {@link DataSource} used for read-only queries
+     * @param bulkInsertMode     the {@link BulkInsertMode} used when writing a bulk collection of stats
+     * @param queryConfiguration the {@link PostgresQueryConfiguration} used to execute all queries
+     * @return the created {@link PostgresDbManager}
+     */
+    public static PostgresDbManager create(final DataSource dataSource,
+                                           final DataSource readDataSource,
+                                           final BulkInsertMode bulkInsertMode,
+                                           final PostgresQueryConfiguration queryConfiguration) {
+        return new PostgresDbManager(dataSource, readDataSource, bulkInsertMode, queryConfiguration);
     }
 
     @Override
@@ -548,6 +611,50 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         return userTcStats;
     }
 
+    @Override
+    public Collection<UserTcStats> createBulkHourlyTcStats(final Collection<UserTcStats> userTcStats) {
+        SQL_LOGGER.debug("Inserting {} TC stats using {}", userTcStats.size(), bulkInsertMode);
+
+        if (userTcStats.isEmpty()) {
+            return userTcStats;
+        }
+
+        if (bulkInsertMode == BulkInsertMode.COPY) {
+            executeQuery(queryContext -> queryContext.connectionResult(connection -> PostgresCopyWriter.copyHourlyTcStats(connection, userTcStats)));
+            return userTcStats;
+        }
+
+        executeQuery(queryContext -> {
+            final var batch = queryContext.batch(queryContext
+                .insertInto(USER_TC_STATS_HOURLY)
+                .columns(
+                    USER_TC_STATS_HOURLY.USER_ID,
+                    USER_TC_STATS_HOURLY.UTC_TIMESTAMP,
+                    USER_TC_STATS_HOURLY.TC_POINTS,
+                    USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED,
+                    USER_TC_STATS_HOURLY.TC_UNITS
+                )
+                .values((Integer) null, (LocalDateTime) null, (Long) null, (Long) null, (Integer) null)
+            );
+
+            for (final UserTcStats stats : userTcStats) {
+                batch.bind(
+                    stats.userId(),
+                    DateTimeConverterUtils.toUtcLocalDateTime(stats.timestamp()),
+                    stats.points(),
+                    stats.multipliedPoints(),
+                    stats.units()
+                );
+            }
+            SQL_LOGGER.debug("Executing batch SQL for {} rows", batch.size());
+
+            return batch.execute();
+        });
+
+        // The DB makes no change to these objects, so we simply return the provided ones
+        return userTcStats;
+    }
+
     @Override
     public Optional<UserTcStats> getHourlyTcStats(final int userId) {
         return executeQuery(queryContext -> {
@@ -579,90 +686,42 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         SQL_LOGGER.info("Getting historic hourly user TC stats for {}/{}/{} for user {}", () -> year, () -> formatMonth(month),
             () -> day, () -> userId);
 
-        final String selectSqlStatement = """
-            SELECT
-                MAX(utc_timestamp) AS hourly_timestamp,
-                COALESCE(MAX(tc_points) - LAG(MAX(tc_points)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_points,
-                COALESCE(MAX(tc_points_multiplied) - LAG(MAX(tc_points_multiplied)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_points_multiplied,
-                COALESCE(MAX(tc_units) - LAG(MAX(tc_units)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_units
-             FROM user_tc_stats_hourly
-             WHERE
-                utc_timestamp BETWEEN ? AND ?
-             AND
-                user_id = ?
-             GROUP BY EXTRACT(HOUR FROM utc_timestamp)
-             ORDER BY EXTRACT(HOUR FROM utc_timestamp) ASC;
-            """;
-
-        try (final Connection connection = dataSource.getConnection();
-             final PreparedStatement preparedStatement = connection.prepareStatement(selectSqlStatement)) {
-
-            preparedStatement.setTimestamp(1, DateTimeConverterUtils.getFirstTimestampOf(year, month, day));
-            preparedStatement.setTimestamp(2, DateTimeConverterUtils.getLastTimestampOf(year, month, day));
-            preparedStatement.setInt(3, userId);
-
-            SQL_LOGGER.debug("Executing prepared statement: '{}'", preparedStatement);
-            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
-
-                final Collection<HistoricStats> userStats = new ArrayList<>();
-
-                // First entry will be zeroed, so we need to manually get the first hour's stats for the user
-                if (resultSet.next()) {
-                    final UserTcStats userTcStats = getTcStatsForFirstHourOfDay(userId, year, month, day);
-
-                    userStats.add(
-                        HistoricStats.create(
-                            resultSet.getTimestamp("hourly_timestamp").toLocalDateTime(),
-                            userTcStats.points(),
-                            userTcStats.multipliedPoints(),
-                            userTcStats.units()
-                        )
-                    );
-                }
+        final boolean periodNotEnded = HistoricStatsQueries.isNotEnded(year, month, day, DATE_TIME_UTILS.currentUtcLocalDateTime());
+        final List<HistoricStats> userStats = executeQuery(periodNotEnded, queryContext -> {
+            final var query = queryContext.resultQuery(HistoricStatsQueries.HOURLY_STATS_SQL,
+                DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 0, 0),
+                DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 23, 59, 59),
+                userId
+            );
+            SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
-                // All remaining entries will be diff-ed from the previous entry
-                while (resultSet.next()) {
-                    userStats.add(
-                        HistoricStats.create(
-                            resultSet.getTimestamp("hourly_timestamp").toLocalDateTime(),
-                            resultSet.getLong("diff_points"),
-                            resultSet.getLong("diff_points_multiplied"),
-                            resultSet.getInt("diff_units")
-                        )
-                    );
-                }
+            return query
+                .fetch()
+                .stream()
+                .map(queryRecord -> HistoricStatsQueries.toHistoricStats(queryRecord, queryRecord.get(HOURLY_TIMESTAMP, LocalDateTime.class)))
+                .collect(Collectors.toCollection(ArrayList::new));
+        });
 
-                return userStats;
-            }
-        } catch (final DatabaseConnectionException e) {
-            SQL_LOGGER.warn("Unable to get the stats for the first hour of {}/{}/{} for user {}", year, formatMonth(month), day, userId);
-            throw e;
-        } catch (final SQLException e) {
-            throw new DatabaseConnectionException("Error opening connection to the DB", e);
+        if (userStats.isEmpty()) {
+            return userStats;
         }
+
+        // First entry will be zeroed, so we need to manually get the first hour's stats for the user
+        final UserTcStats userTcStats = getTcStatsForFirstHourOfDay(userId, year, month, day, periodNotEnded);
+        userStats.set(0, HistoricStats.create(userStats.getFirst().dateTime(), userTcStats.points(), userTcStats.multipliedPoints(),
+            userTcStats.units()));
+        return userStats;
     }
 
-    private UserTcStats getCurrentDayFirstHourTcStats(final int userId, final int day, final Month month, final Year year) {
+    private UserTcStats getCurrentDayFirstHourTcStats(final int userId, final int day, final Month month, final Year year,
+                                                      final boolean periodNotEnded) {
         SQL_LOGGER.debug("Getting current day's first hour TC stats for user {} on {}/{}/{}", userId, year.getValue(), month.getValue(), day);
 
-        return executeQuery(queryContext -> {
+        return executeQuery(periodNotEnded, queryContext -> {
             final LocalDateTime start = DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 0, 0);
             final LocalDateTime end = DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 0, 59, 59);
 
-            final var query = queryContext
-                .select(
-                    max(USER_TC_STATS_HOURLY.USER_ID).as(USER_TC_STATS_HOURLY.USER_ID),
-                    max(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).as(USER_TC_STATS_HOURLY.UTC_TIMESTAMP),
-                    max(USER_TC_STATS_HOURLY.TC_POINTS).as(USER_TC_STATS_HOURLY.TC_POINTS),
-                    max(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED).as(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED),
-                    max(USER_TC_STATS_HOURLY.TC_UNITS).as(USER_TC_STATS_HOURLY.TC_UNITS)
-                )
-                .from(USER_TC_STATS_HOURLY)
-                .where(USER_TC_STATS_HOURLY.UTC_TIMESTAMP.between(start, end))
-                .and(USER_TC_STATS_HOURLY.USER_ID.equal(userId))
-                .groupBy(hour(USER_TC_STATS_HOURLY.UTC_TIMESTAMP))
-                .orderBy(hour(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).asc())
-                .limit(SINGLE_RESULT);
+            final var query = HistoricStatsQueries.maximumTcStatsBetween(queryContext, userId, start, end);
             SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
             return query
@@ -675,27 +734,15 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         });
     }
 
-    private UserTcStats getPreviousDayLastHourTcStats(final int userId, final int day, final Month month, final Year year) {
+    private UserTcStats getPreviousDayLastHourTcStats(final int userId, final int day, final Month month, final Year year,
+                                                      final boolean periodNotEnded) {
         SQL_LOGGER.debug("Getting previous day's last hour TC stats for user {} on {}/{}/{}", userId, year.getValue(), month.getValue(), day);
 
-        return executeQuery(queryContext -> {
+        return executeQuery(periodNotEnded, queryContext -> {
             final LocalDateTime start = DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 23, 0, 0);
             final LocalDateTime end = DateTimeConverterUtils.getLocalDateTimeOf(year, month, day, 23, 59, 59);
 
-            final var query = queryContext
-                .select(
-                    max(USER_TC_STATS_HOURLY.USER_ID).as(USER_TC_STATS_HOURLY.USER_ID),
-                    max(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).as(USER_TC_STATS_HOURLY.UTC_TIMESTAMP),
-                    max(USER_TC_STATS_HOURLY.TC_POINTS).as(USER_TC_STATS_HOURLY.TC_POINTS),
-                    max(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED).as(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED),
-                    max(USER_TC_STATS_HOURLY.TC_UNITS).as(USER_TC_STATS_HOURLY.TC_UNITS)
-                )
-                .from(USER_TC_STATS_HOURLY)
-                .where(USER_TC_STATS_HOURLY.UTC_TIMESTAMP.between(start, end))
-                .and(USER_TC_STATS_HOURLY.USER_ID.equal(userId))
-                .groupBy(hour(USER_TC_STATS_HOURLY.UTC_TIMESTAMP))
-                .orderBy(hour(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).desc())
-                .limit(SINGLE_RESULT);
+            final var query = HistoricStatsQueries.maximumTcStatsBetween(queryContext, userId, start, end);
             SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
             return query
@@ -708,13 +755,14 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         });
     }
 
-    private UserTcStats getTcStatsForFirstHourOfDay(final int userId, final Year year, final Month month, final int day) {
-        final UserTcStats firstHourTcStatsCurrentDay = getCurrentDayFirstHourTcStats(userId, day, month, year);
+    private UserTcStats getTcStatsForFirstHourOfDay(final int userId, final Year year, final Month month, final int day,
+                                                    final boolean periodNotEnded) {
+        final UserTcStats firstHourTcStatsCurrentDay = getCurrentDayFirstHourTcStats(userId, day, month, year, periodNotEnded);
 
         final boolean isFirstDay = day == 1;
         final int previousDay = day - 1;
         final UserTcStats lastHourTcStatsPreviousDay =
-            isFirstDay ? UserTcStats.empty(userId) : getPreviousDayLastHourTcStats(userId, previousDay, month, year);
+            isFirstDay ? UserTcStats.empty(userId) : getPreviousDayLastHourTcStats(userId, previousDay, month, year, periodNotEnded);
 
         if (lastHourTcStatsPreviousDay.isEmpty()) {
 
@@ -729,130 +777,80 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
 
             // Since we didn't get any previous day's stats, we don't need to worry about the hardware multiplier having been changed
             // As a result, we will get the user's current hardware and use that multiplier
-            final Optional<User> optionalUser = getUser(userId);
+            final Optional<Double> hardwareMultiplier = getHardwareMultiplier(userId, periodNotEnded);
 
-            if (optionalUser.isEmpty()) {
+            if (hardwareMultiplier.isEmpty()) {
                 SQL_LOGGER.warn("Could not find user with ID {}, returning empty stats for first hour of day", userId);
                 return UserTcStats.empty(userId);
             }
 
-            final User user = optionalUser.get();
-            final Hardware hardware = user.hardware();
-            final double hardwareMultiplier = hardware.multiplier();
-
-            return UserTcStats.create(
-                firstHourTcStatsCurrentDay.userId(),
-                firstHourTcStatsCurrentDay.timestamp(),
-                Math.max(0L, firstHourTcStatsCurrentDay.points() - initialStats.points()),
-                Math.max(0L, firstHourTcStatsCurrentDay.multipliedPoints() - Math.round(hardwareMultiplier * initialStats.points())),
-                Math.max(0, firstHourTcStatsCurrentDay.units() - initialStats.units())
-            );
+            return HistoricStatsQueries.firstHourOfFirstDay(firstHourTcStatsCurrentDay, initialStats, hardwareMultiplier.get());
         }
 
         SQL_LOGGER.info("Removing previous day's last hour stats from current day's first hour stats: {} - {}", firstHourTcStatsCurrentDay,
             lastHourTcStatsPreviousDay);
-        return UserTcStats.create(
-            firstHourTcStatsCurrentDay.userId(),
-            firstHourTcStatsCurrentDay.timestamp(),
-            Math.max(0L, firstHourTcStatsCurrentDay.points() - lastHourTcStatsPreviousDay.points()),
-            Math.max(0L, firstHourTcStatsCurrentDay.multipliedPoints() - lastHourTcStatsPreviousDay.multipliedPoints()),
-            Math.max(0, firstHourTcStatsCurrentDay.units() - lastHourTcStatsPreviousDay.units())
-        );
+        return HistoricStatsQueries.firstHourOfDay(firstHourTcStatsCurrentDay, lastHourTcStatsPreviousDay);
     }
 
-    @Override
-    public Collection<HistoricStats> getHistoricStatsDaily(final int userId, final Year year, final Month month) {
-        SQL_LOGGER.info("Getting historic daily user TC stats for {}/{} for user {}", () -> formatMonth(month), () -> year, () -> userId);
-
-        final String selectSqlStatement = """
-            SELECT utc_timestamp::DATE AS daily_timestamp,
-                COALESCE(MAX(tc_points) - LAG(MAX(tc_points)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_points,
-                COALESCE(MAX(tc_points_multiplied) - LAG(MAX(tc_points_multiplied)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_points_multiplied,
-                COALESCE(MAX(tc_units) - LAG(MAX(tc_units)) OVER (ORDER BY MIN(utc_timestamp)), 0) AS diff_units
-             FROM user_tc_stats_hourly
-             WHERE
-                EXTRACT(MONTH FROM utc_timestamp) = ?
-             AND
-                EXTRACT(YEAR FROM utc_timestamp) = ?
-             AND
-                user_id = ?
-             GROUP BY utc_timestamp::DATE
-             ORDER BY utc_timestamp::DATE ASC;
-            """;
-
-        try (final Connection connection = dataSource.getConnection();
-             final PreparedStatement preparedStatement = connection.prepareStatement(selectSqlStatement)) {
+    private Optional<Double> getHardwareMultiplier(final int userId, final boolean periodNotEnded) {
+        SQL_LOGGER.debug("Getting hardware multiplier for user ID: {}", userId);
 
-            preparedStatement.setInt(1, month.getValue());
-            preparedStatement.setInt(2, year.getValue());
-            preparedStatement.setInt(3, userId);
+        return executeQuery(periodNotEnded, queryContext -> {
+            final var query = HistoricStatsQueries.hardwareMultiplier(queryContext, userId);
+            SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
-            SQL_LOGGER.debug("Executing prepared statement: '{}'", preparedStatement);
-            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+            return query
+                .fetch()
+                .stream()
+                .map(queryRecord -> queryRecord.value1().doubleValue())
+                .findAny();
+        });
+    }
 
-                final Collection<HistoricStats> userStats = new ArrayList<>();
+    @Override
+    public Collection<HistoricStats> getHistoricStatsDaily(final int userId, final Year year, final Month month) {
+        SQL_LOGGER.info("Getting historic daily user TC stats for {}/{} for user {}", () -> formatMonth(month), () -> year, () -> userId);
 
-                // First entry will be zeroed, so we need to manually get the first day's stats for the user
-                if (resultSet.next()) {
-                    retrieveFirstEntry(userId, month, resultSet, userStats);
-                }
+        final boolean periodNotEnded = HistoricStatsQueries.isNotEnded(year, month, DATE_TIME_UTILS.currentUtcLocalDateTime());
+        final List<HistoricStats> userStats = executeQuery(periodNotEnded, queryContext -> {
+            final var query = queryContext.resultQuery(HistoricStatsQueries.DAILY_STATS_SQL,
+                month.getValue(),
+                year.getValue(),
+                userId
+            );
+            SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
-                // All remaining entries will be diff-ed from the previous entry
-                while (resultSet.next()) {
-                    userStats.add(
-                        HistoricStats.create(
-                            resultSet.getTimestamp("daily_timestamp").toLocalDateTime(),
-                            resultSet.getLong("diff_points"),
-                            resultSet.getLong("diff_points_multiplied"),
-                            resultSet.getInt("diff_units")
-                        )
-                    );
-                }
+            return query
+                .fetch()
+                .stream()
+                .map(queryRecord -> HistoricStatsQueries.toHistoricStats(queryRecord,
+                    queryRecord.get(DAILY_TIMESTAMP, LocalDate.class).atStartOfDay()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        });
 
-                return userStats;
-            }
-        } catch (final SQLException e) {
-            throw new DatabaseConnectionException("Error opening connection to the DB", e);
+        if (userStats.isEmpty()) {
+            return userStats;
         }
-    }
-
-    private void retrieveFirstEntry(final int userId, final Month month, final ResultSet resultSet, final Collection<? super HistoricStats> userStats)
-        throws SQLException {
-        final LocalDateTime localDateTime = resultSet.getTimestamp("daily_timestamp").toLocalDateTime();
-        final UserTcStats userTcStats = getTcStatsForFirstDayOfMonth(localDateTime, userId);
 
+        // First entry will be zeroed, so we need to manually get the first day's stats for the user
+        final LocalDateTime firstDay = userStats.getFirst().dateTime();
+        final UserTcStats userTcStats = getTcStatsForFirstDayOfMonth(firstDay, userId, periodNotEnded);
         if (userTcStats.isEmpty()) {
-            SQL_LOGGER.warn("Error getting historic stats for first day of {} for user with ID {}", formatMonth(month),
-                userId);
+            SQL_LOGGER.warn("Error getting historic stats for first day of {} for user with ID {}", formatMonth(month), userId);
+            userStats.removeFirst();
         } else {
-            userStats.add(
-                HistoricStats.create(
-                    localDateTime,
-                    userTcStats.points(),
-                    userTcStats.multipliedPoints(),
-                    userTcStats.units()
-                )
-            );
+            userStats.set(0, HistoricStats.create(firstDay, userTcStats.points(), userTcStats.multipliedPoints(), userTcStats.units()));
         }
+        return userStats;
     }
 
     @Override
     public Collection<HistoricStats> getHistoricStatsMonthly(final int userId, final Year year) {
         SQL_LOGGER.debug("Getting historic monthly user TC stats for {} for user {}", year, userId);
 
-        return executeQuery(queryContext -> {
-            final var query = queryContext
-                .select(
-                    max(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).as(USER_TC_STATS_HOURLY.UTC_TIMESTAMP.getName()),
-                    max(USER_TC_STATS_HOURLY.TC_POINTS).as(USER_TC_STATS_HOURLY.TC_POINTS.getName()),
-                    max(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED).as(USER_TC_STATS_HOURLY.TC_POINTS_MULTIPLIED.getName()),
-                    max(USER_TC_STATS_HOURLY.TC_UNITS).as(USER_TC_STATS_HOURLY.TC_UNITS.getName())
-                )
-                .from(USER_TC_STATS_HOURLY)
-                .where(year(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).equal(year.getValue()))
-                .and(USER_TC_STATS_HOURLY.USER_ID.equal(userId))
-                .groupBy(month(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).cast(int.class))
-                .orderBy(month(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).cast(int.class).asc());
+        final boolean periodNotEnded = HistoricStatsQueries.isNotEnded(year, DATE_TIME_UTILS.currentUtcLocalDateTime());
+        return executeQuery(periodNotEnded, queryContext -> {
+            final var query = HistoricStatsQueries.monthlyStats(queryContext, userId, year);
             SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
             return query.fetch()
@@ -863,19 +861,81 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         });
     }
 
-    private UserTcStats getTcStatsForFirstDayOfMonth(final LocalDateTime localDateTime, final int userId) {
+    @Override
+    public long downsampleStatsToDaily(final Timestamp before, final int batchSize) {
+        SQL_LOGGER.debug("Downsampling up to {} user days of stats before {}", batchSize, before);
+        final LocalDateTime cutoff = DateTimeConverterUtils.toUtcLocalDateTime(before);
+
+        // The last row of each day is updated with the maximum values of that day, so the MAX() aggregations of the historic queries are unchanged
+        final String downsampleTcStatsStatement = """
+            WITH user_days AS (
+                SELECT
+                    user_id,
+                    utc_timestamp::DATE AS stats_day,
+                    MAX(utc_timestamp) AS last_timestamp,
+                    MAX(tc_points) AS max_points,
+                    MAX(tc_points_multiplied) AS max_points_multiplied,
+                    MAX(tc_units) AS max_units
+                FROM user_tc_stats_hourly
+                WHERE utc_timestamp < ?
+                GROUP BY user_id, utc_timestamp::DATE
+                HAVING COUNT(*) > 1
+                ORDER BY stats_day ASC, user_id ASC
+                LIMIT ?
+            ), updated AS (
+                UPDATE user_tc_stats_hourly
+                SET
+                    tc_points = user_days.max_points,
+                    tc_points_multiplied = user_days.max_points_multiplied,
+                    tc_units = user_days.max_units
+                FROM user_days
+                WHERE user_tc_stats_hourly.user_id = user_days.user_id
+                AND user_tc_stats_hourly.utc_timestamp = user_days.last_timestamp
+            )
+            DELETE FROM user_tc_stats_hourly
+            USING user_days
+            WHERE user_tc_stats_hourly.user_id = user_days.user_id
+            AND user_tc_stats_hourly.utc_timestamp::DATE = user_days.stats_day
+            AND user_tc_stats_hourly.utc_timestamp < user_days.last_timestamp;
+            """;
+
+        // Total stats only increase, so the last row of each day is already the maximum
+        final String downsampleTotalStatsStatement = """
+            WITH user_days AS (
+                SELECT
+                    user_id,
+                    utc_timestamp::DATE AS stats_day,
+                    MAX(utc_timestamp) AS last_timestamp
+                FROM user_total_stats
+                WHERE utc_timestamp < ?
+                GROUP BY user_id, utc_timestamp::DATE
+                HAVING COUNT(*) > 1
+                ORDER BY stats_day ASC, user_id ASC
+                LIMIT ?
+            )
+            DELETE FROM user_total_stats
+            USING user_days
+            WHERE user_total_stats.user_id = user_days.user_id
+            AND user_total_stats.utc_timestamp::DATE = user_days.stats_day
+            AND user_total_stats.utc_timestamp < user_days.last_timestamp;
+            """;
+
+        return inTransaction(_ -> executeQuery(queryContext -> {
+            SQL_LOGGER.debug("Executing SQL: '{}'", downsampleTcStatsStatement);
+            final long removedTcStats = queryContext.execute(downsampleTcStatsStatement, cutoff, batchSize);
+
+            SQL_LOGGER.debug("Executing SQL: '{}'", downsampleTotalStatsStatement);
+            final long removedTotalStats = queryContext.execute(downsampleTotalStatsStatement, cutoff, batchSize);
+
+            return removedTcStats + removedTotalStats;
+        }));
+    }
+
+    private UserTcStats getTcStatsForFirstDayOfMonth(final LocalDateTime localDateTime, final int userId, final boolean periodNotEnded) {
         SQL_LOGGER.debug("Getting TC stats for user {} on {}", userId, localDateTime);
 
-        return executeQuery(queryContext -> {
-            final var query = queryContext
-                .select()
-                .from(USER_TC_STATS_HOURLY)
-                .where(day(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).equal(localDateTime.getDayOfMonth()))
-                .and(month(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).equal(localDateTime.getMonth().getValue()))
-                .and(year(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).equal(localDateTime.getYear()))
-                .and(USER_TC_STATS_HOURLY.USER_ID.equal(userId))
-                .orderBy(hour(USER_TC_STATS_HOURLY.UTC_TIMESTAMP).desc())
-                .limit(SINGLE_RESULT);
+        return executeQuery(periodNotEnded, queryContext -> {
+            final var query = HistoricStatsQueries.lastHourOfDay(queryContext, localDateTime, userId);
             SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
             return query
@@ -919,12 +979,7 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         SQL_LOGGER.debug("Getting initial stats for user ID: {}", userId);
 
         return executeQuery(queryContext -> {
-            final var query = queryContext
-                .select()
-                .from(USER_INITIAL_STATS)
-                .where(USER_INITIAL_STATS.USER_ID.equal(userId))
-                .orderBy(USER_INITIAL_STATS.UTC_TIMESTAMP.desc())
-                .limit(SINGLE_RESULT);
+            final var query = HistoricStatsQueries.initialStats(queryContext, userId);
             SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
             return query
@@ -955,6 +1010,38 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         return userStats;
     }
 
+    @Override
+    public Collection<UserStats> createBulkTotalStats(final Collection<UserStats> userStats) {
+        SQL_LOGGER.debug("Inserting {} total stats using {}", userStats.size(), bulkInsertMode);
+
+        if (userStats.isEmpty()) {
+            return userStats;
+        }
+
+        if (bulkInsertMode == BulkInsertMode.COPY) {
+            executeQuery(queryContext -> queryContext.connectionResult(connection -> PostgresCopyWriter.copyTotalStats(connection, userStats)));
+            return userStats;
+        }
+
+        executeQuery(queryContext -> {
+            final var batch = queryContext.batch(queryContext
+                .insertInto(USER_TOTAL_STATS)
+                .columns(USER_TOTAL_STATS.USER_ID, USER_TOTAL_STATS.UTC_TIMESTAMP, USER_TOTAL_STATS.TOTAL_POINTS, USER_TOTAL_STATS.TOTAL_UNITS)
+                .values((Integer) null, (LocalDateTime) null, (Long) null, (Integer) null)
+            );
+
+            for (final UserStats stats : userStats) {
+                batch.bind(stats.userId(), DateTimeConverterUtils.toUtcLocalDateTime(stats.timestamp()), stats.points(), stats.units());
+            }
+            SQL_LOGGER.debug("Executing batch SQL for {} rows", batch.size());
+
+            return batch.execute();
+        });
+
+        // The DB makes no change to these objects, so we simply return the provided ones
+        return userStats;
+    }
+
     @Override
     public Optional<UserStats> getTotalStats(final int userId) {
         SQL_LOGGER.debug("Getting total stats for user ID: {}", userId);
@@ -1135,6 +1222,55 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         });
     }
 
+    @Override
+    public Collection<UserStats> resetAllTeamCompetitionStats(final Timestamp timestamp) {
+        SQL_LOGGER.info("Resetting TC stats for all users at {}", timestamp);
+        final LocalDateTime resetTime = DateTimeConverterUtils.toUtcLocalDateTime(timestamp);
+
+        // Latest total stats for each user become their new initial stats, users with no total stats are reset to 0
+        final String insertInitialStatsStatement = """
+            INSERT INTO user_initial_stats (user_id, utc_timestamp, initial_points, initial_units)
+            SELECT DISTINCT ON (users.user_id)
+                users.user_id,
+                ?,
+                COALESCE(user_total_stats.total_points, 0),
+                COALESCE(user_total_stats.total_units, 0)
+            FROM users
+            LEFT JOIN user_total_stats ON user_total_stats.user_id = users.user_id
+            ORDER BY users.user_id ASC, user_total_stats.utc_timestamp DESC NULLS LAST
+            RETURNING user_id, utc_timestamp, initial_points, initial_units;
+            """;
+
+        final String insertEmptyTcStatsStatement = """
+            INSERT INTO user_tc_stats_hourly (user_id, utc_timestamp, tc_points, tc_points_multiplied, tc_units)
+            SELECT user_id, ?, 0, 0, 0
+            FROM users;
+            """;
+
+        return inTransaction(_ -> executeQuery(queryContext -> {
+            SQL_LOGGER.debug("Executing SQL: '{}'", insertInitialStatsStatement);
+            final List<UserStats> initialStats = queryContext
+                .fetch(insertInitialStatsStatement, resetTime)
+                .into(USER_INITIAL_STATS)
+                .stream()
+                .map(RecordConverter::toUserStats)
+                .toList();
+
+            SQL_LOGGER.debug("Executing SQL: '{}'", insertEmptyTcStatsStatement);
+            queryContext.execute(insertEmptyTcStatsStatement, resetTime);
+
+            final var deleteOffsetStatsQuery = queryContext.deleteFrom(USER_OFFSET_TC_STATS);
+            SQL_LOGGER.debug("Executing SQL: '{}'", deleteOffsetStatsQuery);
+            deleteOffsetStatsQuery.execute();
+
+            final var deleteRetiredStatsQuery = queryContext.deleteFrom(RETIRED_USER_STATS);
+            SQL_LOGGER.debug("Executing SQL: '{}'", deleteRetiredStatsQuery);
+            deleteRetiredStatsQuery.execute();
+
+            return initialStats;
+        }));
+    }
+
     @Override
     public MonthlyResult createMonthlyResult(final MonthlyResult monthlyResult) {
         SQL_LOGGER.debug("Persisting monthly result for {}/{}",
@@ -1146,7 +1282,7 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
             final var query = queryContext
                 .insertInto(MONTHLY_RESULTS)
                 .columns(MONTHLY_RESULTS.UTC_TIMESTAMP, MONTHLY_RESULTS.JSON_RESULT)
-                .values(monthlyResult.utcTimestamp(), GSON.toJson(monthlyResult));
+                .values(monthlyResult.utcTimestamp(), JSONB.valueOf(GSON.toJson(monthlyResult)));
 
             SQL_LOGGER.debug("Executing SQL: '{}'", query);
 
@@ -1181,6 +1317,117 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         });
     }
 
+    @Override
+    public IngestionRun createIngestionRun(final IngestionRun ingestionRun) {
+        SQL_LOGGER.debug("Persisting {} ingestion run with {} failures", ingestionRun.runType(), ingestionRun.failures().size());
+
+        return inTransaction(_ -> executeQuery(queryContext -> {
+            final var query = queryContext
+                .insertInto(INGESTION_RUNS)
+                .columns(
+                    INGESTION_RUNS.RUN_TYPE,
+                    INGESTION_RUNS.UTC_TIMESTAMP,
+                    INGESTION_RUNS.DURATION_MS,
+                    INGESTION_RUNS.USERS_PARSED,
+                    INGESTION_RUNS.USERS_SKIPPED,
+                    INGESTION_RUNS.USERS_FAILED
+                )
+                .values(
+                    ingestionRun.runType().toString(),
+                    ingestionRun.utcTimestamp(),
+                    ingestionRun.durationMillis(),
+                    ingestionRun.usersParsed(),
+                    ingestionRun.usersSkipped(),
+                    ingestionRun.usersFailed()
+                )
+                .returning(INGESTION_RUNS.INGESTION_RUN_ID);
+            SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+            final int ingestionRunId = query
+                .fetch()
+                .getFirst()
+                .getIngestionRunId();
+
+            if (!ingestionRun.failures().isEmpty()) {
+                final var batch = queryContext.batch(queryContext
+                    .insertInto(INGESTION_RUN_FAILURES)
+                    .columns(
+                        INGESTION_RUN_FAILURES.INGESTION_RUN_ID,
+                        INGESTION_RUN_FAILURES.USER_ID,
+                        INGESTION_RUN_FAILURES.ERROR_CLASS,
+                        INGESTION_RUN_FAILURES.ERROR_MESSAGE
+                    )
+                    .values((Integer) null, (Integer) null, (String) null, (String) null)
+                );
+
+                for (final IngestionRunFailure failure : ingestionRun.failures()) {
+                    batch.bind(ingestionRunId, failure.userId(), failure.errorClass(), failure.errorMessage());
+                }
+                SQL_LOGGER.debug("Executing batch SQL for {} rows", batch.size());
+                batch.execute();
+            }
+
+            return IngestionRun.updateWithId(ingestionRunId, ingestionRun);
+        }));
+    }
+
+    @Override
+    public Collection<IngestionRun> getIngestionRunsSince(final LocalDateTime since) {
+        SQL_LOGGER.debug("Retrieving ingestion runs since {}", since);
+
+        // Executed against the primary DB, since the latest runs are checked for failures immediately after being written
+        return executeQuery(queryContext -> {
+            final var query = queryContext
+                .select()
+                .from(INGESTION_RUNS)
+                .where(INGESTION_RUNS.UTC_TIMESTAMP.greaterOrEqual(since))
+                .orderBy(INGESTION_RUNS.UTC_TIMESTAMP.desc(), INGESTION_RUNS.INGESTION_RUN_ID.desc());
+            SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+            final List<IngestionRunsRecord> ingestionRuns = query
+                .fetch()
+                .into(INGESTION_RUNS);
+
+            if (ingestionRuns.isEmpty()) {
+                return List.of();
+            }
+
+            final var failuresQuery = queryContext
+                .select()
+                .from(INGESTION_RUN_FAILURES)
+                .where(INGESTION_RUN_FAILURES.INGESTION_RUN_ID.in(ingestionRuns.stream().map(IngestionRunsRecord::getIngestionRunId).toList()))
+                .orderBy(INGESTION_RUN_FAILURES.USER_ID.asc());
+            SQL_LOGGER.debug("Executing SQL: '{}'", failuresQuery);
+
+            final Map<Integer, List<IngestionRunFailure>> failuresByIngestionRunId = failuresQuery
+                .fetch()
+                .into(INGESTION_RUN_FAILURES)
+                .stream()
+                .collect(Collectors.groupingBy(IngestionRunFailuresRecord::getIngestionRunId,
+                    Collectors.mapping(RecordConverter::toIngestionRunFailure, Collectors.toList())));
+
+            return ingestionRuns
+                .stream()
+                .map(ingestionRun -> RecordConverter.toIngestionRun(ingestionRun,
+                    failuresByIngestionRunId.getOrDefault(ingestionRun.getIngestionRunId(), List.of())))
+                .toList();
+        });
+    }
+
+    @Override
+    public long deleteIngestionRunsBefore(final LocalDateTime before) {
+        SQL_LOGGER.debug("Deleting ingestion runs before {}", before);
+
+        return executeQuery(queryContext -> {
+            final var query = queryContext
+                .deleteFrom(INGESTION_RUNS)
+                .where(INGESTION_RUNS.UTC_TIMESTAMP.lessThan(before));
+            SQL_LOGGER.debug("Executing SQL: '{}'", query);
+
+            return (long) query.execute();
+        });
+    }
+
     @Override
     public UserAuthenticationResult authenticateSystemUser(final DecodedLoginCredentials decodedLoginCredentials) {
         SQL_LOGGER.debug("Checking if supplied username '{}' and password is valid user, then returning roles", decodedLoginCredentials.username());
@@ -1216,12 +1463,77 @@ public record PostgresDbManager(DataSource dataSource) implements DbManager {
         });
     }
 
+    @Override
+    public <T> T inTransaction(final Function<? super DbManager, T> operations) {
+        if (isInTransaction()) {
+            SQL_LOGGER.debug("Joining existing transaction");
+            return operations.apply(this);
+        }
+
+        try (final Connection connection = queryConfiguration.getConnection(dataSource)) {
+            connection.setAutoCommit(false);
+            SQL_LOGGER.debug("Starting transaction");
+
+            try {
+                final T result = ScopedValue.where(CURRENT_TRANSACTION, new Transaction(dataSource, connection))
+                    .call(() -> operations.apply(this));
+                connection.commit();
+                SQL_LOGGER.debug("Committed transaction");
+                return result;
+            } catch (final RuntimeException e) {
+                SQL_LOGGER.warn("Rolling back transaction", e);
+                rollback(connection, e);
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (final SQLException e) {
+            throw new DatabaseConnectionException("Error executing transaction", e);
+        }
+    }
+
+    private static void rollback(final Connection connection, final RuntimeException cause) {
+        try {
+            connection.rollback();
+        } catch (final SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private boolean isInTransaction() {
+        return CURRENT_TRANSACTION.isBound() && CURRENT_TRANSACTION.get().dataSource() == dataSource;
+    }
+
     private <T> T executeQuery(final Function<? super DSLContext, T> sqlQuery) {
-        try (final Connection connection = dataSource.getConnection()) {
-            final DSLContext queryContext = DSL.using(connection, SQLDialect.POSTGRES);
+        return executeQuery(false, sqlQuery);
+    }
+
+    private <T> T executeQuery(final boolean readOnly, final Function<? super DSLContext, T> sqlQuery) {
+        // Any query within a transaction (including reads) uses the transaction's connection, so it can see any uncommitted writes
+        if (isInTransaction()) {
+            final DSLContext queryContext = queryConfiguration.using(CURRENT_TRANSACTION.get().connection());
+            return sqlQuery.apply(queryContext);
+        }
+
+        try (final Connection connection = getConnection(readOnly)) {
+            final DSLContext queryContext = queryConfiguration.using(connection);
             return sqlQuery.apply(queryContext);
         } catch (final SQLException e) {
             throw new DatabaseConnectionException("Error closing DB connection", e);
         }
     }
+
+    private Connection getConnection(final boolean readOnly) throws SQLException {
+        return readOnly ? queryConfiguration.getReadConnection(readDataSource) : queryConfiguration.getConnection(dataSource);
+    }
+
+    /**
+     * A transaction in progress, holding the {@link Connection} that all queries in the transaction are executed against.
+     *
+     * @param dataSource the primary {@link DataSource} of the {@link PostgresDbManager} that started the transaction
+     * @param connection the {@link Connection} for the transaction
+     */
+    private record Transaction(DataSource dataSource, Connection connection) {
+
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.ConnectionFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+
+/**
+ * Shared <b>jOOQ</b> {@link Configuration} for a {@link PostgresDbManager}, with a {@link PostgresQueryListener} to record query metrics.
+ *
+ * <p>
+ * The {@link Configuration} is created once, and each query only derives a {@link DSLContext} for its {@link Connection}. The time spent waiting
+ * to acquire a {@link Connection} from a {@link DataSource} is recorded as {@value #CONNECTION_ACQUIRE_METRIC}, tagged by the name of the pool.
+ */
+public final class PostgresQueryConfiguration {
+
+    static final String CONNECTION_ACQUIRE_METRIC = "folding.db.connection.acquire";
+
+    private static final Duration DEFAULT_SLOW_QUERY_THRESHOLD = Duration.ofSeconds(1L);
+    private static final String POOL_TAG = "pool";
+    private static final String PRIMARY_POOL = "primary";
+    private static final String READ_POOL = "read";
+
+    private final Configuration configuration;
+    private final Timer primaryAcquireTimer;
+    private final Timer readAcquireTimer;
+
+    private PostgresQueryConfiguration(final MeterRegistry meterRegistry, final Duration slowQueryThreshold) {
+        configuration = new DefaultConfiguration()
+            .set(SQLDialect.POSTGRES)
+            .set(new DefaultExecuteListenerProvider(new PostgresQueryListener(meterRegistry, slowQueryThreshold)));
+        primaryAcquireTimer = acquireTimer(meterRegistry, PRIMARY_POOL);
+        readAcquireTimer = acquireTimer(meterRegistry, READ_POOL);
+    }
+
+    /**
+     * Creates an instance of {@link PostgresQueryConfiguration} which records metrics to the global {@link Metrics#globalRegistry}, and logs any
+     * query taking longer than <b>1 second</b>.
+     *
+     * @return the created {@link PostgresQueryConfiguration}
+     */
+    public static PostgresQueryConfiguration create() {
+        return create(Metrics.globalRegistry, DEFAULT_SLOW_QUERY_THRESHOLD);
+    }
+
+    /**
+     * Creates an instance of {@link PostgresQueryConfiguration}.
+     *
+     * @param meterRegistry      the {@link MeterRegistry} to record metrics into
+     * @param slowQueryThreshold the minimum {@link Duration} of a query to be logged as slow, or {@link Duration#ZERO} to disable the log
+     * @return the created {@link PostgresQueryConfiguration}
+     */
+    public static PostgresQueryConfiguration create(final MeterRegistry meterRegistry, final Duration slowQueryThreshold) {
+        return new PostgresQueryConfiguration(meterRegistry, slowQueryThreshold);
+    }
+
+    /**
+     * Creates a {@link DSLContext} for the provided {@link Connection}, derived from the shared {@link Configuration}.
+     *
+     * @param connection the {@link Connection} to execute queries against
+     * @return the {@link DSLContext}
+     */
+    DSLContext using(final Connection connection) {
+        return configuration.derive(connection).dsl();
+    }
+
+    /**
+     * Creates a {@link DSLContext} for the provided R2DBC {@link ConnectionFactory}, derived from the shared {@link Configuration}.
+     *
+     * <p>
+     * Queries from this {@link DSLContext} are executed when subscribed to, and only hold a connection while their results are being streamed.
+     *
+     * @param connectionFactory the {@link ConnectionFactory} to execute queries against
+     * @return the {@link DSLContext}
+     */
+    DSLContext using(final ConnectionFactory connectionFactory) {
+        return configuration.derive(connectionFactory).dsl();
+    }
+
+    /**
+     * Retrieves a {@link Connection} from the primary {@link DataSource}, recording the time spent waiting for it.
+     *
+     * @param dataSource the primary {@link DataSource}
+     * @return the {@link Connection}
+     * @throws SQLException thrown if a {@link Connection} cannot be retrieved
+     */
+    Connection getConnection(final DataSource dataSource) throws SQLException {
+        return getConnection(dataSource, primaryAcquireTimer);
+    }
+
+    /**
+     * Retrieves a {@link Connection} from the read {@link DataSource}, recording the time spent waiting for it.
+     *
+     * @param readDataSource the read {@link DataSource}
+     * @return the {@link Connection}
+     * @throws SQLException thrown if a {@link Connection} cannot be retrieved
+     */
+    Connection getReadConnection(final DataSource readDataSource) throws SQLException {
+        return getConnection(readDataSource, readAcquireTimer);
+    }
+
+    private static Connection getConnection(final DataSource dataSource, final Timer acquireTimer) throws SQLException {
+        final long startTime = System.nanoTime();
+        try {
+            return dataSource.getConnection();
+        } finally {
+            acquireTimer.record(Duration.ofNanos(System.nanoTime() - startTime));
+        }
+    }
+
+    private static Timer acquireTimer(final MeterRegistry meterRegistry, final String poolName) {
+        return Timer.builder(CONNECTION_ACQUIRE_METRIC)
+            .description("Time spent waiting to acquire a DB connection")
+            .tag(POOL_TAG, poolName)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.Serial;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.zodac.folding.api.util.LoggerName;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+import org.jooq.Result;
+
+/**
+ * {@link ExecuteListener} which records metrics for each query executed through <b>jOOQ</b>:
+ * <ul>
+ *     <li>{@value #QUERY_DURATION_METRIC}, a {@link Timer} (with histogram) of the full execution time of the query, including fetching</li>
+ *     <li>{@value #QUERY_ROWS_METRIC}, a {@link DistributionSummary} of the number of rows fetched by the query</li>
+ * </ul>
+ *
+ * <p>
+ * Both metrics are tagged with the {@link ExecuteType} of the query. Any query that takes longer than the slow query threshold is logged with its
+ * SQL to the {@link LoggerName#SQL} log.
+ */
+final class PostgresQueryListener implements ExecuteListener {
+
+    static final String QUERY_DURATION_METRIC = "folding.db.query.duration";
+    static final String QUERY_ROWS_METRIC = "folding.db.query.rows";
+
+    @Serial
+    private static final long serialVersionUID = 3587036286493027374L;
+
+    private static final Logger SQL_LOGGER = LogManager.getLogger(LoggerName.SQL.get());
+    private static final String START_TIME_KEY = "folding.query.start.nanos";
+    private static final String TYPE_TAG = "type";
+
+    private final transient Map<ExecuteType, Timer> queryTimers = new EnumMap<>(ExecuteType.class);
+    private final transient Map<ExecuteType, DistributionSummary> rowSummaries = new EnumMap<>(ExecuteType.class);
+    private final long slowQueryThresholdNanos;
+
+    /**
+     * Creates an instance of {@link PostgresQueryListener}, registering the metrics for every {@link ExecuteType}.
+     *
+     * @param meterRegistry      the {@link MeterRegistry} to record metrics into
+     * @param slowQueryThreshold the minimum {@link Duration} of a query to be logged as slow, or {@link Duration#ZERO} to disable the log
+     */
+    PostgresQueryListener(final MeterRegistry meterRegistry, final Duration slowQueryThreshold) {
+        slowQueryThresholdNanos = slowQueryThreshold.isPositive() ? slowQueryThreshold.toNanos() : Long.MAX_VALUE;
+
+        for (final ExecuteType executeType : ExecuteType.values()) {
+            final String type = executeType.name().toLowerCase(Locale.UK);
+
+            queryTimers.put(executeType, Timer.builder(QUERY_DURATION_METRIC)
+                .description("Execution time of DB queries, including fetching results")
+                .tag(TYPE_TAG, type)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+            rowSummaries.put(executeType, DistributionSummary.builder(QUERY_ROWS_METRIC)
+                .description("Number of rows fetched by DB queries")
+                .tag(TYPE_TAG, type)
+                .baseUnit("rows")
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void start(final ExecuteContext ctx) {
+        ctx.data(START_TIME_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void resultEnd(final ExecuteContext ctx) {
+        final Result<?> result = ctx.result();
+        if (result != null) {
+            rowSummaries.get(ctx.type()).record(result.size());
+        }
+    }
+
+    @Override
+    public void end(final ExecuteContext ctx) {
+        if (!(ctx.data(START_TIME_KEY) instanceof final Long startTime)) {
+            return;
+        }
+
+        final long durationNanos = System.nanoTime() - startTime;
+        queryTimers.get(ctx.type()).record(durationNanos, TimeUnit.NANOSECONDS);
+
+        if (durationNanos >= slowQueryThresholdNanos) {
+            SQL_LOGGER.warn("Slow {} query took {}ms: '{}'", ctx.type(), TimeUnit.NANOSECONDS.toMillis(durationNanos), ctx.sql());
+        }
+    }
+}
@@ -25,6 +25,7 @@ import static net.zodac.folding.db.postgres.gen.tables.Users.USERS;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Set;
 import net.zodac.folding.api.UserAuthenticationResult;
 import net.zodac.folding.api.tc.Category;
@@ -36,6 +37,9 @@ import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.tc.change.UserChange;
 import net.zodac.folding.api.tc.change.UserChangeState;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.tc.ingestion.IngestionRunFailure;
+import net.zodac.folding.api.tc.ingestion.IngestionRunType;
 import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.tc.stats.RetiredUserTcStats;
@@ -43,6 +47,8 @@ import net.zodac.folding.api.tc.stats.UserStats;
 import net.zodac.folding.api.tc.stats.UserTcStats;
 import net.zodac.folding.api.util.DateTimeConverterUtils;
 import net.zodac.folding.db.postgres.gen.tables.records.HardwareRecord;
+import net.zodac.folding.db.postgres.gen.tables.records.IngestionRunFailuresRecord;
+import net.zodac.folding.db.postgres.gen.tables.records.IngestionRunsRecord;
 import net.zodac.folding.db.postgres.gen.tables.records.MonthlyResultsRecord;
 import net.zodac.folding.db.postgres.gen.tables.records.RetiredUserStatsRecord;
 import net.zodac.folding.db.postgres.gen.tables.records.TeamsRecord;
@@ -54,6 +60,7 @@ import net.zodac.folding.db.postgres.gen.tables.records.UserTotalStatsRecord;
 import net.zodac.folding.db.postgres.gen.tables.records.UsersRecord;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
 import net.zodac.folding.rest.api.util.LocalDateTimeGsonTypeAdapter;
+import net.zodac.folding.rest.api.util.StreamingGsonTypeAdapterFactory;
 import org.jooq.Record;
 
 /**
@@ -65,6 +72,7 @@ final class RecordConverter {
     // This is because we do not want pretty-print enabled since that would increase the size of the JSON string being persisted in the DB
     static final Gson GSON = new GsonBuilder()
         .registerTypeAdapter(LocalDateTime.class, LocalDateTimeGsonTypeAdapter.getInstance())
+        .registerTypeAdapterFactory(StreamingGsonTypeAdapterFactory.getInstance())
         .disableHtmlEscaping()
         .create();
 
@@ -235,7 +243,7 @@ final class RecordConverter {
      * @return the converted {@link MonthlyResult}
      */
     static MonthlyResult toMonthlyResult(final MonthlyResultsRecord monthlyResultsRecord) {
-        final MonthlyResult monthlyResult = GSON.fromJson(monthlyResultsRecord.getJsonResult(), MonthlyResult.class);
+        final MonthlyResult monthlyResult = GSON.fromJson(monthlyResultsRecord.getJsonResult().data(), MonthlyResult.class);
         return MonthlyResult.updateWithEmptyCategories(monthlyResult);
     }
 
@@ -277,6 +285,40 @@ final class RecordConverter {
         );
     }
 
+    /**
+     * Convert an {@link IngestionRunsRecord} into an {@link IngestionRun}.
+     *
+     * @param ingestionRunsRecord the {@link IngestionRunsRecord} to convert
+     * @param failures            the {@link IngestionRunFailure}s of the {@link IngestionRun}
+     * @return the converted {@link IngestionRun}
+     */
+    static IngestionRun toIngestionRun(final IngestionRunsRecord ingestionRunsRecord, final Collection<IngestionRunFailure> failures) {
+        return IngestionRun.create(
+            ingestionRunsRecord.getIngestionRunId(),
+            IngestionRunType.get(ingestionRunsRecord.getRunType()),
+            ingestionRunsRecord.getUtcTimestamp(),
+            ingestionRunsRecord.getDurationMs(),
+            ingestionRunsRecord.getUsersParsed(),
+            ingestionRunsRecord.getUsersSkipped(),
+            ingestionRunsRecord.getUsersFailed(),
+            failures
+        );
+    }
+
+    /**
+     * Convert an {@link IngestionRunFailuresRecord} into an {@link IngestionRunFailure}.
+     *
+     * @param ingestionRunFailuresRecord the {@link IngestionRunFailuresRecord} to convert
+     * @return the converted {@link IngestionRunFailure}
+     */
+    static IngestionRunFailure toIngestionRunFailure(final IngestionRunFailuresRecord ingestionRunFailuresRecord) {
+        return IngestionRunFailure.create(
+            ingestionRunFailuresRecord.getUserId(),
+            ingestionRunFailuresRecord.getErrorClass(),
+            ingestionRunFailuresRecord.getErrorMessage()
+        );
+    }
+
     private static boolean isMatchingPassword(final Record systemUsersRecord) {
         return systemUsersRecord.get(PASSWORD_MATCH_FIELD_NAME) != null && systemUsersRecord.get(PASSWORD_MATCH_FIELD_NAME, boolean.class);
     }
@@ -5,6 +5,8 @@ package net.zodac.folding.db.postgres.gen;
 
 
 import net.zodac.folding.db.postgres.gen.tables.Hardware;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRunFailures;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRuns;
 import net.zodac.folding.db.postgres.gen.tables.MonthlyResults;
 import net.zodac.folding.db.postgres.gen.tables.RetiredUserStats;
 import net.zodac.folding.db.postgres.gen.tables.Teams;
@@ -32,6 +34,8 @@ public class Indexes {
     // -------------------------------------------------------------------------
 
     public static final Index INDEX_HARDWARE_ID = Internal.createIndex(DSL.name("index_hardware_id"), Hardware.HARDWARE, new OrderField[] { Hardware.HARDWARE.HARDWARE_ID }, false);
+    public static final Index INDEX_INGESTION_RUN_FAILURES = Internal.createIndex(DSL.name("index_ingestion_run_failures"), IngestionRunFailures.INGESTION_RUN_FAILURES, new OrderField[] { IngestionRunFailures.INGESTION_RUN_FAILURES.INGESTION_RUN_ID, IngestionRunFailures.INGESTION_RUN_FAILURES.USER_ID }, false);
+    public static final Index INDEX_INGESTION_RUNS = Internal.createIndex(DSL.name("index_ingestion_runs"), IngestionRuns.INGESTION_RUNS, new OrderField[] { IngestionRuns.INGESTION_RUNS.UTC_TIMESTAMP }, false);
     public static final Index INDEX_MONTHLY_RESULTS = Internal.createIndex(DSL.name("index_monthly_results"), MonthlyResults.MONTHLY_RESULTS, new OrderField[] { MonthlyResults.MONTHLY_RESULTS.UTC_TIMESTAMP }, false);
     public static final Index INDEX_RETIRED_USER_STATS = Internal.createIndex(DSL.name("index_retired_user_stats"), RetiredUserStats.RETIRED_USER_STATS, new OrderField[] { RetiredUserStats.RETIRED_USER_STATS.RETIRED_USER_ID, RetiredUserStats.RETIRED_USER_STATS.UTC_TIMESTAMP }, false);
     public static final Index INDEX_TEAM_ID = Internal.createIndex(DSL.name("index_team_id"), Teams.TEAMS, new OrderField[] { Teams.TEAMS.TEAM_ID }, false);
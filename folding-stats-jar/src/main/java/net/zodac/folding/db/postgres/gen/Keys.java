@@ -5,6 +5,8 @@ package net.zodac.folding.db.postgres.gen;
 
 
 import net.zodac.folding.db.postgres.gen.tables.Hardware;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRunFailures;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRuns;
 import net.zodac.folding.db.postgres.gen.tables.MonthlyResults;
 import net.zodac.folding.db.postgres.gen.tables.RetiredUserStats;
 import net.zodac.folding.db.postgres.gen.tables.SystemUsers;
@@ -16,6 +18,8 @@ import net.zodac.folding.db.postgres.gen.tables.UserTcStatsHourly;
 import net.zodac.folding.db.postgres.gen.tables.UserTotalStats;
 import net.zodac.folding.db.postgres.gen.tables.Users;
 import net.zodac.folding.db.postgres.gen.tables.records.HardwareRecord;
+import net.zodac.folding.db.postgres.gen.tables.records.IngestionRunFailuresRecord;
+import net.zodac.folding.db.postgres.gen.tables.records.IngestionRunsRecord;
 import net.zodac.folding.db.postgres.gen.tables.records.MonthlyResultsRecord;
 import net.zodac.folding.db.postgres.gen.tables.records.RetiredUserStatsRecord;
 import net.zodac.folding.db.postgres.gen.tables.records.SystemUsersRecord;
@@ -48,6 +52,8 @@ public class Keys {
 
     public static final UniqueKey<HardwareRecord> HARDWARE_HARDWARE_NAME_KEY = Internal.createUniqueKey(Hardware.HARDWARE, DSL.name("hardware_hardware_name_key"), new TableField[] { Hardware.HARDWARE.HARDWARE_NAME }, true);
     public static final UniqueKey<HardwareRecord> HARDWARE_PKEY = Internal.createUniqueKey(Hardware.HARDWARE, DSL.name("hardware_pkey"), new TableField[] { Hardware.HARDWARE.HARDWARE_ID }, true);
+    public static final UniqueKey<IngestionRunFailuresRecord> INGESTION_RUN_FAILURES_PKEY = Internal.createUniqueKey(IngestionRunFailures.INGESTION_RUN_FAILURES, DSL.name("ingestion_run_failures_pkey"), new TableField[] { IngestionRunFailures.INGESTION_RUN_FAILURES.INGESTION_RUN_ID, IngestionRunFailures.INGESTION_RUN_FAILURES.USER_ID }, true);
+    public static final UniqueKey<IngestionRunsRecord> INGESTION_RUNS_PKEY = Internal.createUniqueKey(IngestionRuns.INGESTION_RUNS, DSL.name("ingestion_runs_pkey"), new TableField[] { IngestionRuns.INGESTION_RUNS.INGESTION_RUN_ID }, true);
     public static final UniqueKey<MonthlyResultsRecord> MONTHLY_RESULTS_PKEY = Internal.createUniqueKey(MonthlyResults.MONTHLY_RESULTS, DSL.name("monthly_results_pkey"), new TableField[] { MonthlyResults.MONTHLY_RESULTS.UTC_TIMESTAMP }, true);
     public static final UniqueKey<RetiredUserStatsRecord> RETIRED_USER_STATS_PKEY = Internal.createUniqueKey(RetiredUserStats.RETIRED_USER_STATS, DSL.name("retired_user_stats_pkey"), new TableField[] { RetiredUserStats.RETIRED_USER_STATS.RETIRED_USER_ID }, true);
     public static final UniqueKey<RetiredUserStatsRecord> RETIRED_USER_STATS_USER_ID_KEY = Internal.createUniqueKey(RetiredUserStats.RETIRED_USER_STATS, DSL.name("retired_user_stats_user_id_key"), new TableField[] { RetiredUserStats.RETIRED_USER_STATS.USER_ID }, true);
@@ -67,6 +73,8 @@ public class Keys {
     // FOREIGN KEY definitions
     // -------------------------------------------------------------------------
 
+    public static final ForeignKey<IngestionRunFailuresRecord, IngestionRunsRecord> INGESTION_RUN_FAILURES__FK_INGESTION_RUN_ID = Internal.createForeignKey(IngestionRunFailures.INGESTION_RUN_FAILURES, DSL.name("fk_ingestion_run_id"), new TableField[] { IngestionRunFailures.INGESTION_RUN_FAILURES.INGESTION_RUN_ID }, Keys.INGESTION_RUNS_PKEY, new TableField[] { IngestionRuns.INGESTION_RUNS.INGESTION_RUN_ID }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
+    public static final ForeignKey<IngestionRunFailuresRecord, UsersRecord> INGESTION_RUN_FAILURES__FK_USER_ID = Internal.createForeignKey(IngestionRunFailures.INGESTION_RUN_FAILURES, DSL.name("fk_user_id"), new TableField[] { IngestionRunFailures.INGESTION_RUN_FAILURES.USER_ID }, Keys.USERS_PKEY, new TableField[] { Users.USERS.USER_ID }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<RetiredUserStatsRecord, TeamsRecord> RETIRED_USER_STATS__FK_TEAM_ID = Internal.createForeignKey(RetiredUserStats.RETIRED_USER_STATS, DSL.name("fk_team_id"), new TableField[] { RetiredUserStats.RETIRED_USER_STATS.TEAM_ID }, Keys.TEAMS_PKEY, new TableField[] { Teams.TEAMS.TEAM_ID }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<UserChangesRecord, UsersRecord> USER_CHANGES__FK_USER_ID = Internal.createForeignKey(UserChanges.USER_CHANGES, DSL.name("fk_user_id"), new TableField[] { UserChanges.USER_CHANGES.USER_ID }, Keys.USERS_PKEY, new TableField[] { Users.USERS.USER_ID }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
     public static final ForeignKey<UserInitialStatsRecord, UsersRecord> USER_INITIAL_STATS__FK_USER_ID = Internal.createForeignKey(UserInitialStats.USER_INITIAL_STATS, DSL.name("fk_user_id"), new TableField[] { UserInitialStats.USER_INITIAL_STATS.USER_ID }, Keys.USERS_PKEY, new TableField[] { Users.USERS.USER_ID }, true, ForeignKeyRule.CASCADE, ForeignKeyRule.NO_ACTION);
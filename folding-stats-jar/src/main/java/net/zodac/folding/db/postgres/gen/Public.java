@@ -8,6 +8,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import net.zodac.folding.db.postgres.gen.tables.Hardware;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRunFailures;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRuns;
 import net.zodac.folding.db.postgres.gen.tables.MonthlyResults;
 import net.zodac.folding.db.postgres.gen.tables.PgpArmorHeaders;
 import net.zodac.folding.db.postgres.gen.tables.RetiredUserStats;
@@ -48,6 +50,16 @@ public class Public extends SchemaImpl {
      */
     public final Hardware HARDWARE = Hardware.HARDWARE;
 
+    /**
+     * The table <code>public.ingestion_run_failures</code>.
+     */
+    public final IngestionRunFailures INGESTION_RUN_FAILURES = IngestionRunFailures.INGESTION_RUN_FAILURES;
+
+    /**
+     * The table <code>public.ingestion_runs</code>.
+     */
+    public final IngestionRuns INGESTION_RUNS = IngestionRuns.INGESTION_RUNS;
+
     /**
      * The table <code>public.monthly_results</code>.
      */
@@ -154,6 +166,8 @@ public class Public extends SchemaImpl {
     public final List<Table<?>> getTables() {
         return Arrays.asList(
             Hardware.HARDWARE,
+            IngestionRunFailures.INGESTION_RUN_FAILURES,
+            IngestionRuns.INGESTION_RUNS,
             MonthlyResults.MONTHLY_RESULTS,
             PgpArmorHeaders.PGP_ARMOR_HEADERS,
             RetiredUserStats.RETIRED_USER_STATS,
@@ -5,6 +5,8 @@ package net.zodac.folding.db.postgres.gen;
 
 
 import net.zodac.folding.db.postgres.gen.tables.Hardware;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRunFailures;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRuns;
 import net.zodac.folding.db.postgres.gen.tables.MonthlyResults;
 import net.zodac.folding.db.postgres.gen.tables.PgpArmorHeaders;
 import net.zodac.folding.db.postgres.gen.tables.RetiredUserStats;
@@ -34,6 +36,16 @@ public class Tables {
      */
     public static final Hardware HARDWARE = Hardware.HARDWARE;
 
+    /**
+     * The table <code>public.ingestion_run_failures</code>.
+     */
+    public static final IngestionRunFailures INGESTION_RUN_FAILURES = IngestionRunFailures.INGESTION_RUN_FAILURES;
+
+    /**
+     * The table <code>public.ingestion_runs</code>.
+     */
+    public static final IngestionRuns INGESTION_RUNS = IngestionRuns.INGESTION_RUNS;
+
     /**
      * The table <code>public.monthly_results</code>.
      */
@@ -17,6 +17,7 @@ import net.zodac.folding.db.postgres.gen.tables.records.MonthlyResultsRecord;
 import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.Index;
+import org.jooq.JSONB;
 import org.jooq.Name;
 import org.jooq.PlainSQL;
 import org.jooq.QueryPart;
@@ -62,7 +63,7 @@ public class MonthlyResults extends TableImpl<MonthlyResultsRecord> {
     /**
      * The column <code>public.monthly_results.json_result</code>.
      */
-    public final TableField<MonthlyResultsRecord, String> JSON_RESULT = createField(DSL.name("json_result"), SQLDataType.CLOB.nullable(false), this, "");
+    public final TableField<MonthlyResultsRecord, JSONB> JSON_RESULT = createField(DSL.name("json_result"), SQLDataType.JSONB.nullable(false), this, "");
 
     private MonthlyResults(Name alias, Table<MonthlyResultsRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
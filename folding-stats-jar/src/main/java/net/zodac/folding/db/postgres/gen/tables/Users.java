@@ -12,6 +12,7 @@ import net.zodac.folding.db.postgres.gen.Indexes;
 import net.zodac.folding.db.postgres.gen.Keys;
 import net.zodac.folding.db.postgres.gen.Public;
 import net.zodac.folding.db.postgres.gen.tables.Hardware.HardwarePath;
+import net.zodac.folding.db.postgres.gen.tables.IngestionRunFailures.IngestionRunFailuresPath;
 import net.zodac.folding.db.postgres.gen.tables.Teams.TeamsPath;
 import net.zodac.folding.db.postgres.gen.tables.UserChanges.UserChangesPath;
 import net.zodac.folding.db.postgres.gen.tables.UserInitialStats.UserInitialStatsPath;
@@ -231,6 +232,19 @@ public class Users extends TableImpl<UsersRecord> {
         return _teams;
     }
 
+    private transient IngestionRunFailuresPath _ingestionRunFailures;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.ingestion_run_failures</code> table
+     */
+    public IngestionRunFailuresPath ingestionRunFailures() {
+        if (_ingestionRunFailures == null)
+            _ingestionRunFailures = new IngestionRunFailuresPath(this, null, Keys.INGESTION_RUN_FAILURES__FK_USER_ID.getInverseKey());
+
+        return _ingestionRunFailures;
+    }
+
     private transient UserChangesPath _userChanges;
 
     /**
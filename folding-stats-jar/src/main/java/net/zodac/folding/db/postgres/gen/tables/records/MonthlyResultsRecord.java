@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 
 import net.zodac.folding.db.postgres.gen.tables.MonthlyResults;
 
+import org.jooq.JSONB;
 import org.jooq.Record1;
 import org.jooq.impl.UpdatableRecordImpl;
 
@@ -37,15 +38,15 @@ public class MonthlyResultsRecord extends UpdatableRecordImpl<MonthlyResultsReco
     /**
      * Setter for <code>public.monthly_results.json_result</code>.
      */
-    public void setJsonResult(String value) {
+    public void setJsonResult(JSONB value) {
         set(1, value);
     }
 
     /**
      * Getter for <code>public.monthly_results.json_result</code>.
      */
-    public String getJsonResult() {
-        return (String) get(1);
+    public JSONB getJsonResult() {
+        return (JSONB) get(1);
     }
 
     // -------------------------------------------------------------------------
@@ -71,7 +72,7 @@ public class MonthlyResultsRecord extends UpdatableRecordImpl<MonthlyResultsReco
     /**
      * Create a detached, initialised MonthlyResultsRecord
      */
-    public MonthlyResultsRecord(LocalDateTime utcTimestamp, String jsonResult) {
+    public MonthlyResultsRecord(LocalDateTime utcTimestamp, JSONB jsonResult) {
         super(MonthlyResults.MONTHLY_RESULTS);
 
         setUtcTimestamp(utcTimestamp);
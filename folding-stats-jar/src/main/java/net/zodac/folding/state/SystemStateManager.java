@@ -17,18 +17,31 @@
 
 package net.zodac.folding.state;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import net.zodac.folding.api.state.SystemState;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Utility class to manage the {@link SystemState}.
+ *
+ * <p>
+ * Each transition to {@link SystemState#WRITE_EXECUTED} (even if the system is already in that state), or to a {@link SystemState} where a stats
+ * write is in progress ({@link SystemState#isStatsWriteInProgress()}), increments a write count. A stats write that returns the system to its
+ * previous {@link SystemState} without executing {@link SystemState#WRITE_EXECUTED} is therefore still counted. This allows
+ * a caller that has computed a result from the current data to only transition to the next {@link SystemState} if no further writes have
+ * occurred in the meantime, using {@link #nextIfNoWritesSince(long, SystemState)}, or to check that the result was not built from partially written
+ * data, using {@link #isUnchangedSince(long)}.
  */
 public final class SystemStateManager {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final Lock STATE_LOCK = new ReentrantLock();
+
     private static SystemState currentState = SystemState.STARTING;
+    private static long writeCount;
 
     private SystemStateManager() {
 
@@ -40,7 +53,28 @@ public final class SystemStateManager {
      * @return the current {@link SystemState}
      */
     public static SystemState current() {
-        return currentState;
+        STATE_LOCK.lock();
+        try {
+            return currentState;
+        } finally {
+            STATE_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Get the number of transitions to {@link SystemState#WRITE_EXECUTED}, or to a {@link SystemState} where a stats write is in progress, since
+     * startup.
+     *
+     * @return the current write count
+     * @see #nextIfNoWritesSince(long, SystemState)
+     */
+    public static long writeCount() {
+        STATE_LOCK.lock();
+        try {
+            return writeCount;
+        } finally {
+            STATE_LOCK.unlock();
+        }
     }
 
     /**
@@ -49,12 +83,72 @@ public final class SystemStateManager {
      * @param nextState the {@link SystemState} to transition to
      */
     public static void next(final SystemState nextState) {
-        if (nextState == currentState) {
-            LOGGER.trace("System state is already {}, no transition needed", nextState);
-            return;
+        STATE_LOCK.lock();
+        try {
+            if (nextState == SystemState.WRITE_EXECUTED || nextState.isStatsWriteInProgress()) {
+                writeCount++;
+            }
+
+            if (nextState == currentState) {
+                LOGGER.trace("System state is already {}, no transition needed", nextState);
+                return;
+            }
+
+            LOGGER.debug("Transitioning system state from {} to {}", currentState, nextState);
+            currentState = nextState;
+        } finally {
+            STATE_LOCK.unlock();
         }
+    }
 
-        LOGGER.debug("Transitioning system state from {} to {}", currentState, nextState);
-        currentState = nextState;
+    /**
+     * Checks that no write has been executed since the {@code expectedWriteCount} was retrieved, and that no stats write is currently in progress
+     * ({@link SystemState#isStatsWriteInProgress()}). If the system was also not in a stats write when the {@code expectedWriteCount} was
+     * retrieved, any data read in the meantime was not changed by a write.
+     *
+     * @param expectedWriteCount the {@link #writeCount()} retrieved before the caller read the data
+     * @return <b>true</b> if no write was executed since the {@code expectedWriteCount} was retrieved, and no stats write is in progress
+     */
+    public static boolean isUnchangedSince(final long expectedWriteCount) {
+        STATE_LOCK.lock();
+        try {
+            return writeCount == expectedWriteCount && !currentState.isStatsWriteInProgress();
+        } finally {
+            STATE_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Change from {@link SystemState#WRITE_EXECUTED} to the next {@link SystemState}, but only if there have been no transitions to
+     * {@link SystemState#WRITE_EXECUTED} since the {@code expectedWriteCount} was retrieved. If the system is in any other {@link SystemState}
+     * (for example, a stats update has started since), no transition is made.
+     *
+     * @param expectedWriteCount the {@link #writeCount()} retrieved before the caller read the data it is publishing
+     * @param nextState          the {@link SystemState} to transition to
+     * @return <b>true</b> if the transition was made (or the system was already in the {@code nextState})
+     */
+    public static boolean nextIfNoWritesSince(final long expectedWriteCount, final SystemState nextState) {
+        STATE_LOCK.lock();
+        try {
+            if (currentState == nextState) {
+                return true;
+            }
+
+            if (currentState != SystemState.WRITE_EXECUTED) {
+                LOGGER.debug("System state is {}, not transitioning to {}", currentState, nextState);
+                return false;
+            }
+
+            if (writeCount != expectedWriteCount) {
+                LOGGER.debug("{} write(s) executed since count {}, not transitioning to {}", writeCount - expectedWriteCount, expectedWriteCount,
+                    nextState);
+                return false;
+            }
+
+            next(nextState);
+            return true;
+        } finally {
+            STATE_LOCK.unlock();
+        }
     }
 }
@@ -0,0 +1,321 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import net.zodac.folding.api.UserAuthenticationResult;
+import net.zodac.folding.api.tc.Category;
+import net.zodac.folding.api.tc.Hardware;
+import net.zodac.folding.api.tc.HardwareMake;
+import net.zodac.folding.api.tc.HardwareType;
+import net.zodac.folding.api.tc.Role;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.tc.ingestion.IngestionRunFailure;
+import net.zodac.folding.api.tc.ingestion.IngestionRunType;
+import net.zodac.folding.api.tc.stats.OffsetTcStats;
+import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.DateTimeConverterUtils;
+import net.zodac.folding.api.util.DecodedLoginCredentials;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InMemoryDbManager}.
+ */
+class InMemoryDbManagerTest {
+
+    private final InMemoryDbManager dbManager = InMemoryDbManager.create(
+        List.of(InMemoryDbManager.SystemUser.create("ADMIN_USERNAME", "ADMIN_PASSWORD", Set.of("admin")))
+    );
+
+    private int nameCount = 1;
+
+    @Test
+    void testHardware() {
+        final Hardware hardware = generateHardware();
+        final Hardware createdHardware = dbManager.createHardware(hardware);
+        assertThat(createdHardware.id())
+            .isNotEqualTo(Hardware.EMPTY_HARDWARE_ID);
+
+        assertThatThrownBy(() -> dbManager.createHardware(hardware))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(dbManager.getAllHardware())
+            .containsExactly(createdHardware);
+        assertThat(dbManager.getHardware(createdHardware.id()))
+            .contains(createdHardware);
+
+        final Hardware hardwareToUpdate = Hardware.create(createdHardware.id(), createdHardware.hardwareName(), "updated",
+            createdHardware.hardwareMake(), createdHardware.hardwareType(), 2.00D, createdHardware.averagePpd());
+        dbManager.updateHardware(hardwareToUpdate);
+        assertThat(dbManager.getHardware(createdHardware.id()))
+            .contains(hardwareToUpdate);
+
+        dbManager.deleteHardware(createdHardware.id());
+        assertThat(dbManager.getAllHardware())
+            .isEmpty();
+    }
+
+    @Test
+    void testUser() {
+        final User user = generateUser();
+        final User createdUser = dbManager.createUser(user);
+        assertThat(createdUser.id())
+            .isNotEqualTo(User.EMPTY_USER_ID);
+
+        assertThatThrownBy(() -> dbManager.createUser(user))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> dbManager.deleteHardware(createdUser.hardware().id()))
+            .as("Expected hardware referenced by a user to not be deletable")
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(dbManager.getUser(createdUser.id()))
+            .contains(createdUser);
+
+        final Hardware updatedHardware = Hardware.create(createdUser.hardware().id(), createdUser.hardware().hardwareName(), "updated",
+            HardwareMake.AMD, HardwareType.GPU, 2.00D, 1L);
+        dbManager.updateHardware(updatedHardware);
+        assertThat(dbManager.getUser(createdUser.id()))
+            .hasValueSatisfying(retrievedUser -> assertThat(retrievedUser.hardware()).isEqualTo(updatedHardware));
+
+        dbManager.createHourlyTcStats(UserTcStats.create(createdUser.id(), DateTimeConverterUtils.getFirstTimestampOf(Year.of(2020), Month.MAY, 1),
+            100L, 1_000L, 5));
+        dbManager.deleteUser(createdUser.id());
+
+        assertThat(dbManager.getAllUsers())
+            .isEmpty();
+        assertThat(dbManager.getHourlyTcStats(createdUser.id()))
+            .isEmpty();
+    }
+
+    @Test
+    void testInTransaction() {
+        final int userId = createUser().id();
+        final Timestamp timestamp = DateTimeConverterUtils.getFirstTimestampOf(Year.of(2020), Month.MAY, 1);
+        dbManager.createHourlyTcStats(UserTcStats.create(userId, timestamp, 100L, 1_000L, 5));
+
+        assertThatThrownBy(() -> dbManager.inTransaction(transaction -> {
+            transaction.createOrUpdateOffsetStats(userId, OffsetTcStats.create(100L, 1_000L, 5));
+            return transaction.createBulkHourlyTcStats(List.of(UserTcStats.create(userId, timestamp, 200L, 2_000L, 10)));
+        }))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(dbManager.getOffsetStats(userId))
+            .as("Expected offset stats to be rolled back after failed transaction")
+            .isEmpty();
+        assertThat(dbManager.getHourlyTcStats(userId))
+            .contains(UserTcStats.create(userId, timestamp, 100L, 1_000L, 5));
+    }
+
+    @Test
+    void testInTransaction_restoresUniqueConstraints() {
+        final Hardware hardware = generateHardware();
+        final Hardware existingHardware = dbManager.createHardware(generateHardware());
+
+        assertThatThrownBy(() -> dbManager.inTransaction(transaction -> {
+            transaction.createHardware(hardware);
+            transaction.updateHardware(Hardware.create(existingHardware.id(), "renamed", existingHardware.displayName(),
+                existingHardware.hardwareMake(), existingHardware.hardwareType(), existingHardware.multiplier(), existingHardware.averagePpd()));
+            return transaction.createHardware(hardware);
+        }))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(dbManager.getAllHardware())
+            .as("Expected hardware changes to be rolled back after failed transaction")
+            .containsExactly(existingHardware);
+        assertThat(dbManager.createHardware(hardware).hardwareName())
+            .as("Expected name of hardware created in failed transaction to be available")
+            .isEqualTo(hardware.hardwareName());
+        assertThatThrownBy(() -> dbManager.createHardware(existingHardware))
+            .as("Expected name of hardware renamed in failed transaction to be restored")
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testResetAllTeamCompetitionStats() {
+        final int userId = createUser().id();
+        final int userWithoutStatsId = createUser().id();
+
+        dbManager.createTotalStats(UserStats.createNow(userId, 100L, 10));
+        dbManager.createOrUpdateOffsetStats(userId, OffsetTcStats.create(100L, 1_000L, 5));
+
+        final Timestamp resetTimestamp = DateTimeConverterUtils.getFirstTimestampOf(Year.of(2030), Month.JANUARY, 1);
+        assertThat(dbManager.resetAllTeamCompetitionStats(resetTimestamp))
+            .containsExactly(
+                UserStats.create(userId, resetTimestamp, 100L, 10),
+                UserStats.create(userWithoutStatsId, resetTimestamp, UserStats.DEFAULT_POINTS, UserStats.DEFAULT_UNITS)
+            );
+
+        assertThat(dbManager.getHourlyTcStats(userId))
+            .contains(UserTcStats.create(userId, resetTimestamp, 0L, 0L, 0));
+        assertThat(dbManager.getOffsetStats(userId))
+            .isEmpty();
+    }
+
+    @Test
+    void testHistoricStats() {
+        final int userId = createUser().id();
+        final Year year = Year.of(2020);
+        final Month month = Month.APRIL;
+
+        createHourlyTcStats(userId, LocalDateTime.of(2020, 4, 14, 0, 0, 0), 200L, 10);
+        createHourlyTcStats(userId, LocalDateTime.of(2020, 4, 14, 23, 59, 59), 300L, 15);
+        createHourlyTcStats(userId, LocalDateTime.of(2020, 4, 15, 0, 0, 0), 400L, 20);
+        createHourlyTcStats(userId, LocalDateTime.of(2020, 4, 15, 5, 0, 0), 450L, 22);
+
+        assertThat(dbManager.getHistoricStatsHourly(userId, year, month, 14))
+            .containsExactly(
+                HistoricStats.create(LocalDateTime.of(2020, 4, 14, 0, 0, 0), 200L, 2_000L, 10),
+                HistoricStats.create(LocalDateTime.of(2020, 4, 14, 23, 59, 59), 100L, 1_000L, 5)
+            );
+        assertThat(dbManager.getHistoricStatsHourly(userId, year, month, 15))
+            .containsExactly(
+                HistoricStats.create(LocalDateTime.of(2020, 4, 15, 0, 0, 0), 100L, 1_000L, 5),
+                HistoricStats.create(LocalDateTime.of(2020, 4, 15, 5, 0, 0), 50L, 500L, 2)
+            );
+        assertThat(dbManager.getHistoricStatsDaily(userId, year, month))
+            .containsExactly(
+                HistoricStats.create(LocalDateTime.of(2020, 4, 14, 0, 0, 0), 300L, 3_000L, 15),
+                HistoricStats.create(LocalDateTime.of(2020, 4, 15, 0, 0, 0), 150L, 1_500L, 7)
+            );
+        assertThat(dbManager.getHistoricStatsMonthly(userId, year))
+            .containsExactly(HistoricStats.create(LocalDateTime.of(2020, 4, 15, 5, 0, 0), 450L, 4_500L, 22));
+    }
+
+    @Test
+    void testDownsampleStatsToDaily() {
+        final int userId = createUser().id();
+        final Year year = Year.of(2009);
+        final Month month = Month.MARCH;
+
+        createHourlyTcStats(userId, LocalDateTime.of(2009, 3, 10, 1, 0, 0), 100L, 5);
+        createHourlyTcStats(userId, LocalDateTime.of(2009, 3, 10, 12, 0, 0), 300L, 15);
+        // Reset at the end of the day, so the last row of the day is not the maximum
+        createHourlyTcStats(userId, LocalDateTime.of(2009, 3, 10, 23, 57, 0), 0L, 0);
+        createHourlyTcStats(userId, LocalDateTime.of(2009, 3, 11, 5, 0, 0), 400L, 20);
+
+        final UserStats lastTotalStats = UserStats.create(userId, DateTimeConverterUtils.getLastTimestampOf(year, month, 10), 2_000L, 20);
+        dbManager.createTotalStats(UserStats.create(userId, DateTimeConverterUtils.getFirstTimestampOf(year, month, 10), 1_000L, 10));
+        dbManager.createTotalStats(lastTotalStats);
+
+        final Collection<HistoricStats> dailyStatsBefore = dbManager.getHistoricStatsDaily(userId, year, month);
+        final Collection<HistoricStats> monthlyStatsBefore = dbManager.getHistoricStatsMonthly(userId, year);
+
+        final Timestamp cutoff = DateTimeConverterUtils.getFirstTimestampOf(Year.of(2010), Month.JANUARY, 1);
+        long totalRemoved = 0L;
+        long removed;
+        do {
+            removed = dbManager.downsampleStatsToDaily(cutoff, 1);
+            totalRemoved += removed;
+        } while (removed > 0L);
+
+        assertThat(totalRemoved)
+            .isEqualTo(3L);
+        assertThat(dbManager.getHistoricStatsHourly(userId, year, month, 10))
+            .hasSize(1);
+        assertThat(dbManager.getHistoricStatsDaily(userId, year, month))
+            .isEqualTo(dailyStatsBefore);
+        assertThat(dbManager.getHistoricStatsMonthly(userId, year))
+            .isEqualTo(monthlyStatsBefore);
+        assertThat(dbManager.getTotalStats(userId))
+            .contains(lastTotalStats);
+    }
+
+    @Test
+    void testIngestionRuns() {
+        final int userId = createUser().id();
+        final LocalDateTime firstRunTimestamp = LocalDateTime.of(2020, Month.MAY, 3, 10, 55);
+        final IngestionRun firstRun = dbManager.createIngestionRun(IngestionRun.createWithoutId(IngestionRunType.SCHEDULED, firstRunTimestamp,
+            Duration.ofSeconds(5L), 2, 1, List.of(IngestionRunFailure.create(userId, "ExternalConnectionException", "Timed out"))));
+        final IngestionRun secondRun = dbManager.createIngestionRun(IngestionRun.createWithoutId(IngestionRunType.RETRY,
+            firstRunTimestamp.plusMinutes(1L), Duration.ofMillis(500L), 1, 0, List.of()));
+
+        assertThatThrownBy(() -> dbManager.createIngestionRun(IngestionRun.createWithoutId(IngestionRunType.RETRY, firstRunTimestamp,
+            Duration.ZERO, 0, 0, List.of(IngestionRunFailure.create(userId + 1, "Exception", "")))))
+            .as("Expected ingestion run failure for a non-existent user to not be creatable")
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(dbManager.getIngestionRunsSince(firstRunTimestamp))
+            .containsExactly(secondRun, firstRun);
+        assertThat(dbManager.getIngestionRunsSince(firstRunTimestamp.plusMinutes(1L)))
+            .containsExactly(secondRun);
+
+        dbManager.deleteUser(userId);
+        assertThat(dbManager.getIngestionRunsSince(firstRunTimestamp))
+            .as("Expected failures to be removed with the deleted user")
+            .allSatisfy(ingestionRun -> assertThat(ingestionRun.failures()).isEmpty());
+
+        assertThat(dbManager.deleteIngestionRunsBefore(firstRunTimestamp.plusMinutes(1L)))
+            .isEqualTo(1L);
+        assertThat(dbManager.getIngestionRunsSince(firstRunTimestamp))
+            .containsExactly(secondRun);
+    }
+
+    @Test
+    void testSystemUser() {
+        final UserAuthenticationResult invalidUserName =
+            dbManager.authenticateSystemUser(new DecodedLoginCredentials("invalidUserName", "ADMIN_PASSWORD"));
+        assertThat(invalidUserName.userExists())
+            .isFalse();
+
+        final UserAuthenticationResult invalidPassword =
+            dbManager.authenticateSystemUser(new DecodedLoginCredentials("ADMIN_USERNAME", "invalidPassword"));
+        assertThat(invalidPassword.userExists())
+            .isTrue();
+        assertThat(invalidPassword.passwordMatch())
+            .isFalse();
+
+        final UserAuthenticationResult admin =
+            dbManager.authenticateSystemUser(new DecodedLoginCredentials("ADMIN_USERNAME", "ADMIN_PASSWORD"));
+        assertThat(admin.passwordMatch())
+            .isTrue();
+        assertThat(admin.userRoles())
+            .contains("admin");
+    }
+
+    private void createHourlyTcStats(final int userId, final LocalDateTime dateTime, final long points, final int units) {
+        dbManager.createHourlyTcStats(UserTcStats.create(userId, DateTimeConverterUtils.toTimestamp(dateTime), points, points * 10L, units));
+    }
+
+    private Hardware generateHardware() {
+        return Hardware.create(Hardware.EMPTY_HARDWARE_ID, "hardware_" + nameCount++, "hardware", HardwareMake.NVIDIA, HardwareType.GPU, 1.00D, 1L);
+    }
+
+    private User generateUser() {
+        final Hardware hardware = dbManager.createHardware(generateHardware());
+        final Team team = dbManager.createTeam(Team.create(Team.EMPTY_TEAM_ID, "team_" + nameCount++, "team", ""));
+        return User.create(User.EMPTY_USER_ID, "user_" + nameCount++, "user", "passkey", Category.NVIDIA_GPU, "", "", hardware, team, Role.CAPTAIN);
+    }
+
+    private User createUser() {
+        return dbManager.createUser(generateUser());
+    }
+}
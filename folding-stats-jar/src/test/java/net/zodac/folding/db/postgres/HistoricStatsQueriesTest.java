@@ -0,0 +1,106 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HistoricStatsQueries}.
+ */
+class HistoricStatsQueriesTest {
+
+    private static final int USER_ID = 1;
+
+    @Test
+    void whenCalculatingFirstHourOfDay_givenPreviousDayStats_thenPreviousDayStatsAreRemoved() {
+        final UserTcStats currentDay = UserTcStats.createNow(USER_ID, 1_500L, 3_000L, 15);
+        final UserTcStats previousDay = UserTcStats.createNow(USER_ID, 1_000L, 2_000L, 10);
+
+        final UserTcStats result = HistoricStatsQueries.firstHourOfDay(currentDay, previousDay);
+
+        assertThat(result.points()).isEqualTo(500L);
+        assertThat(result.multipliedPoints()).isEqualTo(1_000L);
+        assertThat(result.units()).isEqualTo(5);
+    }
+
+    @Test
+    void whenCalculatingFirstHourOfDay_givenPreviousDayStatsAreHigher_thenZeroIsReturned() {
+        final UserTcStats currentDay = UserTcStats.createNow(USER_ID, 1_000L, 2_000L, 10);
+        final UserTcStats previousDay = UserTcStats.createNow(USER_ID, 1_500L, 3_000L, 15);
+
+        final UserTcStats result = HistoricStatsQueries.firstHourOfDay(currentDay, previousDay);
+
+        assertThat(result.points()).isZero();
+        assertThat(result.multipliedPoints()).isZero();
+        assertThat(result.units()).isZero();
+    }
+
+    @Test
+    void whenCalculatingFirstHourOfFirstDay_givenInitialStats_thenInitialStatsAreRemovedUsingHardwareMultiplier() {
+        final UserTcStats currentDay = UserTcStats.createNow(USER_ID, 1_500L, 3_500L, 15);
+        final UserStats initialStats = UserStats.createNow(USER_ID, 1_000L, 10);
+
+        final UserTcStats result = HistoricStatsQueries.firstHourOfFirstDay(currentDay, initialStats, 2.5D);
+
+        assertThat(result.points()).isEqualTo(500L);
+        assertThat(result.multipliedPoints()).isEqualTo(1_000L);
+        assertThat(result.units()).isEqualTo(5);
+    }
+
+    @Test
+    void whenCalculatingFirstHourOfFirstDay_givenNoInitialStats_thenCurrentDayStatsAreReturned() {
+        final UserTcStats currentDay = UserTcStats.createNow(USER_ID, 1_500L, 3_500L, 15);
+
+        final UserTcStats result = HistoricStatsQueries.firstHourOfFirstDay(currentDay, UserStats.empty(), 2.5D);
+
+        assertThat(result.points()).isEqualTo(1_500L);
+        assertThat(result.multipliedPoints()).isEqualTo(3_500L);
+        assertThat(result.units()).isEqualTo(15);
+    }
+
+    @Test
+    void whenCheckingIfDayIsNotEnded_givenTimeBeforeEndOfDay_thenTrueIsReturned() {
+        assertThat(HistoricStatsQueries.isNotEnded(Year.of(2020), Month.APRIL, 15, LocalDateTime.of(2020, Month.APRIL, 15, 23, 59, 59)))
+            .isTrue();
+        assertThat(HistoricStatsQueries.isNotEnded(Year.of(2020), Month.APRIL, 15, LocalDateTime.of(2020, Month.APRIL, 16, 0, 0, 0)))
+            .isFalse();
+    }
+
+    @Test
+    void whenCheckingIfMonthIsNotEnded_givenTimeBeforeEndOfMonth_thenTrueIsReturned() {
+        assertThat(HistoricStatsQueries.isNotEnded(Year.of(2020), Month.DECEMBER, LocalDateTime.of(2020, Month.DECEMBER, 31, 23, 59, 59)))
+            .isTrue();
+        assertThat(HistoricStatsQueries.isNotEnded(Year.of(2020), Month.DECEMBER, LocalDateTime.of(2021, Month.JANUARY, 1, 0, 0, 0)))
+            .isFalse();
+    }
+
+    @Test
+    void whenCheckingIfYearIsNotEnded_givenTimeBeforeEndOfYear_thenTrueIsReturned() {
+        assertThat(HistoricStatsQueries.isNotEnded(Year.of(2020), LocalDateTime.of(2020, Month.DECEMBER, 31, 23, 59, 59)))
+            .isTrue();
+        assertThat(HistoricStatsQueries.isNotEnded(Year.of(2020), LocalDateTime.of(2021, Month.JANUARY, 1, 0, 0, 0)))
+            .isFalse();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PostgresAsyncDbManager}.
+ */
+class PostgresAsyncDbManagerTest {
+
+    @Test
+    void whenConvertingUrl_givenJdbcUrl_thenR2dbcUrlIsReturned() {
+        assertThat(PostgresAsyncDbManager.toR2dbcUrl("jdbc:postgresql://database:5432/folding_db"))
+            .isEqualTo("r2dbc:postgresql://database:5432/folding_db");
+    }
+
+    @Test
+    void whenConvertingUrl_givenR2dbcUrl_thenUrlIsReturnedUnchanged() {
+        assertThat(PostgresAsyncDbManager.toR2dbcUrl("r2dbc:postgresql://database:5432/folding_db"))
+            .isEqualTo("r2dbc:postgresql://database:5432/folding_db");
+    }
+
+    @Test
+    void whenConvertingUrl_givenUnsupportedUrl_thenExceptionIsThrown() {
+        assertThatThrownBy(() -> PostgresAsyncDbManager.toR2dbcUrl("http://database:5432/folding_db"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.db.postgres;
+
+import static net.zodac.folding.db.postgres.DummyDataGenerator.nextHardwareName;
+import static net.zodac.folding.db.postgres.DummyDataGenerator.nextTeamName;
+import static net.zodac.folding.db.postgres.DummyDataGenerator.nextUserName;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import net.zodac.folding.api.tc.Category;
+import net.zodac.folding.api.tc.Hardware;
+import net.zodac.folding.api.tc.HardwareMake;
+import net.zodac.folding.api.tc.HardwareType;
+import net.zodac.folding.api.tc.Role;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Local benchmark comparing the rows/second written by each {@link BulkInsertMode} of {@link PostgresDbManager} against the single-row
+ * {@link PostgresDbManager#createHourlyTcStats(UserTcStats)} path.
+ *
+ * <p>
+ * Not executed as part of the normal build, run with:
+ * <pre>
+ *     mvn test -pl folding-stats-jar -Dtest=PostgresBulkInsertBenchmarkTest -Dbenchmark.enabled=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.enabled", matches = "true")
+class PostgresBulkInsertBenchmarkTest {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final PostgresDbManager POSTGRES_DB_MANAGER = PostgresDbManager.create(EmbeddedPostgresDataSource.create());
+    private static final List<Integer> ROW_COUNTS = List.of(1_000, 10_000, 100_000);
+    private static final int NUMBER_OF_USERS = 100;
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0D;
+
+    private static int benchmarkRun;
+
+    @Test
+    void benchmarkHourlyTcStatsInserts() {
+        final List<Integer> userIds = createUsers();
+
+        for (final int rowCount : ROW_COUNTS) {
+            benchmark("single-row INSERT", rowCount, rows -> rows.forEach(POSTGRES_DB_MANAGER::createHourlyTcStats), userIds);
+
+            for (final BulkInsertMode bulkInsertMode : List.of(BulkInsertMode.BATCH, BulkInsertMode.COPY)) {
+                final PostgresDbManager bulkDbManager = PostgresDbManager.create(POSTGRES_DB_MANAGER.dataSource(), bulkInsertMode);
+                benchmark(bulkInsertMode.toString(), rowCount, bulkDbManager::createBulkHourlyTcStats, userIds);
+            }
+        }
+    }
+
+    private static void benchmark(final String name,
+                                  final int rowCount,
+                                  final Consumer<Collection<UserTcStats>> writer,
+                                  final List<Integer> userIds) {
+        final Collection<UserTcStats> rows = generateRows(rowCount, userIds);
+
+        final long start = System.nanoTime();
+        writer.accept(rows);
+        final double elapsedSeconds = (System.nanoTime() - start) / NANOSECONDS_PER_SECOND;
+
+        LOGGER.info("{} rows using {}: {} seconds, {} rows/second", rowCount, name, String.format("%.3f", elapsedSeconds),
+            String.format("%.0f", rowCount / elapsedSeconds));
+    }
+
+    private static Collection<UserTcStats> generateRows(final int rowCount, final List<Integer> userIds) {
+        // Each run uses a different year, so the (user_id, utc_timestamp) primary key is never violated between runs
+        final LocalDateTime start = LocalDateTime.of(2000 + benchmarkRun++, 1, 1, 0, 0);
+        final Collection<UserTcStats> rows = new ArrayList<>(rowCount);
+
+        for (int i = 0; i < rowCount; i++) {
+            final int userId = userIds.get(i % userIds.size());
+            final LocalDateTime hour = start.plusHours(i / userIds.size());
+            rows.add(UserTcStats.create(userId, Timestamp.from(hour.toInstant(ZoneOffset.UTC)), i, i * 2L, i % 100));
+        }
+
+        return rows;
+    }
+
+    private static List<Integer> createUsers() {
+        final Hardware hardware = POSTGRES_DB_MANAGER.createHardware(
+            Hardware.create(Hardware.EMPTY_HARDWARE_ID, nextHardwareName(), "hardware", HardwareMake.NVIDIA, HardwareType.GPU, 1.00D, 1L));
+
+        return IntStream.range(0, NUMBER_OF_USERS)
+            .mapToObj(_ -> {
+                final Team team = POSTGRES_DB_MANAGER.createTeam(Team.create(Team.EMPTY_TEAM_ID, nextTeamName(), "team", ""));
+                final User user = User.create(User.EMPTY_USER_ID, nextUserName(), "user", "passkey", Category.NVIDIA_GPU, "", "", hardware, team,
+                    Role.CAPTAIN);
+                return POSTGRES_DB_MANAGER.createUser(user).id();
+            })
+            .toList();
+    }
+}
@@ -23,6 +23,11 @@ import static net.zodac.folding.db.postgres.DummyDataGenerator.nextUserName;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
 import java.util.Collection;
@@ -39,15 +44,20 @@ import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.tc.change.UserChange;
 import net.zodac.folding.api.tc.change.UserChangeState;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.tc.ingestion.IngestionRunFailure;
+import net.zodac.folding.api.tc.ingestion.IngestionRunType;
 import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.tc.stats.RetiredUserTcStats;
 import net.zodac.folding.api.tc.stats.UserStats;
 import net.zodac.folding.api.tc.stats.UserTcStats;
 import net.zodac.folding.api.util.DateTimeConverterUtils;
+import net.zodac.folding.api.util.DateTimeUtils;
 import net.zodac.folding.api.util.DecodedLoginCredentials;
 import net.zodac.folding.rest.api.tc.TeamSummary;
 import net.zodac.folding.rest.api.tc.UserSummary;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
 import net.zodac.folding.rest.api.tc.leaderboard.TeamLeaderboardEntry;
 import net.zodac.folding.rest.api.tc.leaderboard.UserCategoryLeaderboardEntry;
 import org.jooq.exception.DataAccessException;
@@ -216,6 +226,103 @@ class PostgresDbManagerTest {
             .isEmpty();
     }
 
+    @Test
+    void testReadQueriesUseReadDataSource() {
+        // Second DB instance acting as the read-replica, with no replication from the primary DB
+        final PostgresDbManager readWriteSplitDbManager =
+            PostgresDbManager.create(POSTGRES_DB_MANAGER.dataSource(), EmbeddedPostgresDataSource.create(), BulkInsertMode.COPY);
+
+        final Team createdTeam = readWriteSplitDbManager.createTeam(generateTeam());
+        assertThat(readWriteSplitDbManager.getTeam(createdTeam.id()))
+            .as("Expected read-after-write query to be executed against the primary DB")
+            .contains(createdTeam);
+
+        assertThat(readWriteSplitDbManager.getAllTeams())
+            .as("Expected query used to populate a cache to be executed against the primary DB")
+            .contains(createdTeam);
+
+        final UserChange createdUserChange = readWriteSplitDbManager.createUserChange(generateUserChange());
+        assertThat(readWriteSplitDbManager.getAllUserChanges(UserChangeState.getAllValues(), 0L))
+            .as("Expected query used to apply user changes after a write to be executed against the primary DB")
+            .contains(createdUserChange);
+
+        final int userId = createUser().id();
+        final Year endedYear = Year.of(2020);
+        final Month endedMonth = Month.APRIL;
+        final int endedDay = 15;
+        readWriteSplitDbManager.createHourlyTcStats(UserTcStats
+            .create(userId, DateTimeConverterUtils.getFirstTimestampOf(endedYear, endedMonth, endedDay), 100L, 1_000L, 5));
+        assertThat(readWriteSplitDbManager.getHistoricStatsHourly(userId, endedYear, endedMonth, endedDay))
+            .as("Expected historic stats query for a period that has ended to be executed against the primary DB")
+            .isNotEmpty();
+
+        final LocalDateTime now = DateTimeUtils.create().currentUtcLocalDateTime();
+        readWriteSplitDbManager.createHourlyTcStats(UserTcStats.createNow(userId, 200L, 2_000L, 10));
+        assertThat(readWriteSplitDbManager.getHistoricStatsHourly(userId, Year.of(now.getYear()), now.getMonth(), now.getDayOfMonth()))
+            .as("Expected historic stats query for a period that has not ended to be executed against the read-replica DB")
+            .isEmpty();
+        assertThat(POSTGRES_DB_MANAGER.getHistoricStatsHourly(userId, Year.of(now.getYear()), now.getMonth(), now.getDayOfMonth()))
+            .isNotEmpty();
+    }
+
+    @Test
+    void testQueryMetrics() {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final PostgresDbManager instrumentedDbManager = PostgresDbManager.create(POSTGRES_DB_MANAGER.dataSource(),
+            POSTGRES_DB_MANAGER.dataSource(), BulkInsertMode.COPY, PostgresQueryConfiguration.create(meterRegistry, Duration.ZERO));
+
+        final Team createdTeam = instrumentedDbManager.createTeam(generateTeam());
+        assertThat(instrumentedDbManager.getAllTeams())
+            .contains(createdTeam);
+
+        final LocalDateTime now = DateTimeUtils.create().currentUtcLocalDateTime();
+        assertThat(instrumentedDbManager.getHistoricStatsHourly(createUser().id(), Year.of(now.getYear()), now.getMonth(), now.getDayOfMonth()))
+            .isEmpty();
+
+        assertThat(meterRegistry.get(PostgresQueryListener.QUERY_DURATION_METRIC).tag("type", "read").timer().count())
+            .isPositive();
+        assertThat(meterRegistry.get(PostgresQueryListener.QUERY_DURATION_METRIC).tag("type", "write").timer().count())
+            .isPositive();
+        assertThat(meterRegistry.get(PostgresQueryListener.QUERY_ROWS_METRIC).tag("type", "read").summary().totalAmount())
+            .isPositive();
+        assertThat(meterRegistry.get(PostgresQueryConfiguration.CONNECTION_ACQUIRE_METRIC).tag("pool", "primary").timer().count())
+            .isPositive();
+        assertThat(meterRegistry.get(PostgresQueryConfiguration.CONNECTION_ACQUIRE_METRIC).tag("pool", "read").timer().count())
+            .isPositive();
+    }
+
+    @Test
+    void testInTransaction() {
+        final int userId = createUser().id();
+        final UserStats initialStats = UserStats.createNow(userId, 100L, 10);
+        final OffsetTcStats offsetStats = OffsetTcStats.create(100L, 1_000L, 5);
+
+        POSTGRES_DB_MANAGER.inTransaction(dbManager -> {
+            dbManager.createInitialStats(initialStats);
+            return dbManager.createOrUpdateOffsetStats(userId, offsetStats);
+        });
+
+        assertThat(POSTGRES_DB_MANAGER.getInitialStats(userId))
+            .isPresent();
+        assertThat(POSTGRES_DB_MANAGER.getOffsetStats(userId))
+            .contains(offsetStats);
+
+        final int secondUserId = createUser().id();
+        assertThatThrownBy(() -> POSTGRES_DB_MANAGER.inTransaction(dbManager -> {
+            dbManager.createInitialStats(UserStats.createNow(secondUserId, 100L, 10));
+
+            // Uncommitted writes are visible within the transaction
+            assertThat(dbManager.getInitialStats(secondUserId))
+                .isPresent();
+            throw new IllegalStateException("Failure during transaction");
+        }))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(POSTGRES_DB_MANAGER.getInitialStats(secondUserId))
+            .as("Expected initial stats to be rolled back after failed transaction")
+            .isEmpty();
+    }
+
     @Test
     void testInitialUserStats() {
         final int userId = createUser().id();
@@ -364,6 +471,79 @@ class PostgresDbManagerTest {
             .isEqualTo(userTcStats);
     }
 
+    @Test
+    void testBulkHourlyTcStats() {
+        for (final BulkInsertMode bulkInsertMode : List.of(BulkInsertMode.COPY, BulkInsertMode.BATCH)) {
+            final PostgresDbManager bulkDbManager = PostgresDbManager.create(POSTGRES_DB_MANAGER.dataSource(), bulkInsertMode);
+            final int userId = createUser().id();
+
+            final UserTcStats firstUserTcStats = UserTcStats
+                .create(userId, DateTimeConverterUtils.getFirstTimestampOf(Year.of(2020), Month.APRIL, 1), 100L, 1_000L, 5);
+            final UserTcStats secondUserTcStats = UserTcStats
+                .create(userId, DateTimeConverterUtils.getLastTimestampOf(Year.of(2020), Month.APRIL, 1), 200L, 2_000L, 10);
+            bulkDbManager.createBulkHourlyTcStats(List.of(firstUserTcStats, secondUserTcStats));
+
+            final Optional<UserTcStats> retrievedUserTcStats = POSTGRES_DB_MANAGER.getHourlyTcStats(userId);
+            assertThat(retrievedUserTcStats)
+                .as("Expected latest TC stats to be retrieved for %s", bulkInsertMode)
+                .contains(secondUserTcStats);
+
+            // Not explicitly handling this case, the caller should ensure no duplicate creates are attempted
+            assertThatThrownBy(() -> bulkDbManager.createBulkHourlyTcStats(List.of(firstUserTcStats)))
+                .isInstanceOf(DataAccessException.class);
+        }
+    }
+
+    @Test
+    void testBulkTotalStats() {
+        for (final BulkInsertMode bulkInsertMode : List.of(BulkInsertMode.COPY, BulkInsertMode.BATCH)) {
+            final PostgresDbManager bulkDbManager = PostgresDbManager.create(POSTGRES_DB_MANAGER.dataSource(), bulkInsertMode);
+            final int firstUserId = createUser().id();
+            final int secondUserId = createUser().id();
+
+            bulkDbManager.createBulkTotalStats(List.of(UserStats.createNow(firstUserId, 100L, 10), UserStats.createNow(secondUserId, 200L, 20)));
+
+            assertThat(POSTGRES_DB_MANAGER.getTotalStats(firstUserId))
+                .as("Expected total stats to be retrieved for %s", bulkInsertMode)
+                .isPresent()
+                .get()
+                .extracting(UserStats::points)
+                .isEqualTo(100L);
+            assertThat(POSTGRES_DB_MANAGER.getTotalStats(secondUserId))
+                .as("Expected total stats to be retrieved for %s", bulkInsertMode)
+                .isPresent()
+                .get()
+                .extracting(UserStats::points)
+                .isEqualTo(200L);
+        }
+    }
+
+    @Test
+    void testResetAllTeamCompetitionStats() {
+        final int userId = createUser().id();
+        final int userWithoutStatsId = createUser().id();
+
+        final long points = 100L;
+        final int units = 10;
+        POSTGRES_DB_MANAGER.createTotalStats(UserStats.createNow(userId, points, units));
+        POSTGRES_DB_MANAGER.createOrUpdateOffsetStats(userId, OffsetTcStats.create(100L, 1_000L, 5));
+
+        final Timestamp resetTimestamp = DateTimeConverterUtils.getFirstTimestampOf(Year.of(2030), Month.JANUARY, 1);
+        final Collection<UserStats> initialStats = POSTGRES_DB_MANAGER.resetAllTeamCompetitionStats(resetTimestamp);
+        assertThat(initialStats)
+            .contains(UserStats.create(userId, resetTimestamp, points, units))
+            .contains(UserStats.create(userWithoutStatsId, resetTimestamp, UserStats.DEFAULT_POINTS, UserStats.DEFAULT_UNITS));
+
+        assertThat(POSTGRES_DB_MANAGER.getInitialStats(userId))
+            .contains(UserStats.create(userId, resetTimestamp, points, units));
+        assertThat(POSTGRES_DB_MANAGER.getHourlyTcStats(userId))
+            .contains(UserTcStats.create(userId, resetTimestamp, 0L, 0L, 0));
+        assertThat(POSTGRES_DB_MANAGER.getOffsetStats(userId))
+            .isEmpty();
+        assertThat(POSTGRES_DB_MANAGER.getAllRetiredUserStats())
+            .isEmpty();
+    }
+
     @Test
     void testHistoricStats() {
         final int userId = createUser().id();
@@ -412,6 +592,59 @@ class PostgresDbManagerTest {
             .isNotEmpty();
     }
 
+    @Test
+    void testDownsampleStatsToDaily() {
+        final int userId = createUser().id();
+
+        // Using a year before all other tests, so no other stats are downsampled
+        final Year year = Year.of(2009);
+        final Month month = Month.MARCH;
+        final int firstDay = 10;
+        final int secondDay = 11;
+
+        POSTGRES_DB_MANAGER.createHourlyTcStats(UserTcStats
+            .create(userId, DateTimeConverterUtils.toTimestamp(DateTimeConverterUtils.getLocalDateTimeOf(year, month, firstDay, 1, 0, 0)),
+                100L, 1_000L, 5));
+        POSTGRES_DB_MANAGER.createHourlyTcStats(UserTcStats
+            .create(userId, DateTimeConverterUtils.toTimestamp(DateTimeConverterUtils.getLocalDateTimeOf(year, month, firstDay, 12, 0, 0)),
+                300L, 3_000L, 15));
+        // Reset at the end of the day, so the last row of the day is not the maximum
+        POSTGRES_DB_MANAGER.createHourlyTcStats(UserTcStats
+            .create(userId, DateTimeConverterUtils.toTimestamp(DateTimeConverterUtils.getLocalDateTimeOf(year, month, firstDay, 23, 57, 0)),
+                0L, 0L, 0));
+        POSTGRES_DB_MANAGER.createHourlyTcStats(UserTcStats
+            .create(userId, DateTimeConverterUtils.toTimestamp(DateTimeConverterUtils.getLocalDateTimeOf(year, month, secondDay, 5, 0, 0)),
+                400L, 4_000L, 20));
+
+        final UserStats lastTotalStats = UserStats.create(userId, DateTimeConverterUtils.getLastTimestampOf(year, month, firstDay), 2_000L, 20);
+        POSTGRES_DB_MANAGER.createTotalStats(UserStats.create(userId, DateTimeConverterUtils.getFirstTimestampOf(year, month, firstDay), 1_000L, 10));
+        POSTGRES_DB_MANAGER.createTotalStats(lastTotalStats);
+
+        final Collection<HistoricStats> dailyStatsBefore = POSTGRES_DB_MANAGER.getHistoricStatsDaily(userId, year, month);
+        final Collection<HistoricStats> monthlyStatsBefore = POSTGRES_DB_MANAGER.getHistoricStatsMonthly(userId, year);
+        assertThat(POSTGRES_DB_MANAGER.getHistoricStatsHourly(userId, year, month, firstDay))
+            .hasSize(3);
+
+        final Timestamp cutoff = DateTimeConverterUtils.getFirstTimestampOf(Year.of(2010), Month.JANUARY, 1);
+        long totalRemoved = 0L;
+        long removed;
+        do {
+            removed = POSTGRES_DB_MANAGER.downsampleStatsToDaily(cutoff, 1);
+            totalRemoved += removed;
+        } while (removed > 0L);
+
+        assertThat(totalRemoved)
+            .isEqualTo(3L);
+        assertThat(POSTGRES_DB_MANAGER.getHistoricStatsHourly(userId, year, month, firstDay))
+            .hasSize(1);
+        assertThat(POSTGRES_DB_MANAGER.getHistoricStatsDaily(userId, year, month))
+            .isEqualTo(dailyStatsBefore);
+        assertThat(POSTGRES_DB_MANAGER.getHistoricStatsMonthly(userId, year))
+            .isEqualTo(monthlyStatsBefore);
+        assertThat(POSTGRES_DB_MANAGER.getTotalStats(userId))
+            .contains(lastTotalStats);
+    }
+
     @Test
     void testMonthlyResult() {
         final Year firstResultYear = Year.of(2020);
@@ -493,6 +726,30 @@ class PostgresDbManagerTest {
             .isNotPresent();
     }
 
+    @Test
+    void testIngestionRuns() {
+        final int userId = createUser().id();
+        final LocalDateTime firstRunTimestamp = LocalDateTime.of(2020, Month.MAY, 3, 10, 55);
+        final IngestionRunFailure failure = IngestionRunFailure.create(userId, "ExternalConnectionException", "Timed out");
+        final IngestionRun firstRun = POSTGRES_DB_MANAGER.createIngestionRun(IngestionRun.createWithoutId(IngestionRunType.SCHEDULED,
+            firstRunTimestamp, Duration.ofSeconds(5L), 2, 1, List.of(failure)));
+        assertThat(firstRun.id())
+            .isPositive();
+
+        final IngestionRun secondRun = POSTGRES_DB_MANAGER.createIngestionRun(IngestionRun.createWithoutId(IngestionRunType.RETRY,
+            firstRunTimestamp.plusMinutes(1L), Duration.ofMillis(500L), 1, 0, List.of()));
+
+        assertThat(POSTGRES_DB_MANAGER.getIngestionRunsSince(firstRunTimestamp))
+            .containsExactly(secondRun, firstRun);
+        assertThat(POSTGRES_DB_MANAGER.getIngestionRunsSince(firstRunTimestamp.plusMinutes(1L)))
+            .containsExactly(secondRun);
+
+        assertThat(POSTGRES_DB_MANAGER.deleteIngestionRunsBefore(firstRunTimestamp.plusMinutes(1L)))
+            .isEqualTo(1L);
+        assertThat(POSTGRES_DB_MANAGER.getIngestionRunsSince(firstRunTimestamp))
+            .containsExactly(secondRun);
+    }
+
     @Test
     void testSystemUser() {
         final UserAuthenticationResult invalidUserName =
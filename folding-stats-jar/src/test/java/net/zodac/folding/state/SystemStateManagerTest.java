@@ -0,0 +1,104 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import net.zodac.folding.api.state.SystemState;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SystemStateManager}.
+ */
+class SystemStateManagerTest {
+
+    @Test
+    void testNextIfNoWritesSince_noWrites() {
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+        final long writeCount = SystemStateManager.writeCount();
+
+        assertThat(SystemStateManager.nextIfNoWritesSince(writeCount, SystemState.AVAILABLE))
+            .isTrue();
+        assertThat(SystemStateManager.current())
+            .isEqualTo(SystemState.AVAILABLE);
+    }
+
+    @Test
+    void testNextIfNoWritesSince_writeExecutedWhileAlreadyInWriteExecutedState() {
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+        final long writeCount = SystemStateManager.writeCount();
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        assertThat(SystemStateManager.nextIfNoWritesSince(writeCount, SystemState.AVAILABLE))
+            .isFalse();
+        assertThat(SystemStateManager.current())
+            .isEqualTo(SystemState.WRITE_EXECUTED);
+    }
+
+    @Test
+    void testNextIfNoWritesSince_statsUpdateStarted() {
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+        final long writeCount = SystemStateManager.writeCount();
+        SystemStateManager.next(SystemState.UPDATING_STATS);
+
+        assertThat(SystemStateManager.nextIfNoWritesSince(writeCount, SystemState.AVAILABLE))
+            .isFalse();
+        assertThat(SystemStateManager.current())
+            .isEqualTo(SystemState.UPDATING_STATS);
+    }
+
+    @Test
+    void testIsUnchangedSince_noWrites() {
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+        final long writeCount = SystemStateManager.writeCount();
+
+        assertThat(SystemStateManager.isUnchangedSince(writeCount))
+            .isTrue();
+    }
+
+    @Test
+    void testIsUnchangedSince_statsUpdateStarted() {
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+        final long writeCount = SystemStateManager.writeCount();
+        SystemStateManager.next(SystemState.UPDATING_STATS);
+
+        assertThat(SystemStateManager.isUnchangedSince(writeCount))
+            .isFalse();
+    }
+
+    @Test
+    void testIsUnchangedSince_statsUpdateCompleted() {
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+        final long writeCount = SystemStateManager.writeCount();
+        SystemStateManager.next(SystemState.UPDATING_STATS);
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        assertThat(SystemStateManager.isUnchangedSince(writeCount))
+            .isFalse();
+    }
+
+    @Test
+    void testIsUnchangedSince_statsUpdateReturnedToPreviousState() {
+        SystemStateManager.next(SystemState.AVAILABLE);
+        final long writeCount = SystemStateManager.writeCount();
+        SystemStateManager.next(SystemState.UPDATING_STATS);
+        SystemStateManager.next(SystemState.AVAILABLE);
+
+        assertThat(SystemStateManager.isUnchangedSince(writeCount))
+            .isFalse();
+    }
+}
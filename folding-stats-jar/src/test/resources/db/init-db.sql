@@ -142,7 +142,7 @@ CREATE INDEX index_user_tc_stats_hourly
 
 CREATE TABLE monthly_results (
     utc_timestamp TIMESTAMP PRIMARY KEY,
-    json_result TEXT NOT NULL
+    json_result JSONB NOT NULL
 );
 
 CREATE INDEX index_monthly_results
@@ -167,3 +167,39 @@ CREATE INDEX index_user_changes_id
 
 CREATE INDEX index_user_changes_state
     ON user_changes(state);
+
+
+-- Table which is populated after each run of the stats parsing, with the duration and the number of users in each outcome
+CREATE TABLE ingestion_runs (
+    ingestion_run_id SERIAL PRIMARY KEY,
+    run_type TEXT NOT NULL,
+    utc_timestamp TIMESTAMP NOT NULL,
+    duration_ms BIGINT NOT NULL,
+    users_parsed INT NOT NULL,
+    users_skipped INT NOT NULL,
+    users_failed INT NOT NULL
+);
+
+CREATE INDEX index_ingestion_runs
+    ON ingestion_runs(utc_timestamp);
+
+
+-- Table which is populated with each user whose stats could not be parsed during an ingestion run, and the error that caused it
+CREATE TABLE ingestion_run_failures (
+    ingestion_run_id INT NOT NULL,
+    user_id INT NOT NULL,
+    error_class TEXT NOT NULL,
+    error_message TEXT NOT NULL,
+    PRIMARY KEY(ingestion_run_id, user_id),
+    CONSTRAINT fk_ingestion_run_id
+        FOREIGN KEY(ingestion_run_id)
+        REFERENCES ingestion_runs(ingestion_run_id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_user_id
+        FOREIGN KEY(user_id)
+        REFERENCES users(user_id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX index_ingestion_run_failures
+    ON ingestion_run_failures(ingestion_run_id, user_id);
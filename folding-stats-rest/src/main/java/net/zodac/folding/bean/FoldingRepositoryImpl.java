@@ -18,9 +18,13 @@
 package net.zodac.folding.bean;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import net.zodac.folding.api.UserAuthenticationResult;
 import net.zodac.folding.api.exception.ExternalConnectionException;
 import net.zodac.folding.api.state.ParsingState;
@@ -42,6 +46,7 @@ import net.zodac.folding.rest.exception.NotFoundException;
 import net.zodac.folding.state.ParsingStateManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -93,6 +98,13 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         return storage.createHardware(hardware);
     }
 
+    @Override
+    public List<Hardware> createAllHardware(final Collection<Hardware> hardware) {
+        return storage.inTransaction(() -> hardware.stream()
+            .map(storage::createHardware)
+            .toList());
+    }
+
     @Override
     public Collection<Hardware> getAllHardware() {
         return storage.getAllHardware();
@@ -120,6 +132,26 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         return updatedHardware;
     }
 
+    @Override
+    public List<Hardware> updateAllHardware(final Collection<Hardware> hardwareToUpdate) {
+        // Retrieve the current stats for any state changes before starting the DB transaction, so it is not held open during the external requests
+        final List<StateChange> stateChanges = hardwareToUpdate.stream()
+            .filter(hardware -> isHardwareStateChange(hardware, getHardware(hardware.id())))
+            .map(this::getUsersWithHardware)
+            .flatMap(Collection::stream)
+            .map(this::getStateChange)
+            .flatMap(Optional::stream)
+            .toList();
+
+        return storage.inTransaction(() -> {
+            final List<Hardware> updatedHardware = hardwareToUpdate.stream()
+                .map(storage::updateHardware)
+                .toList();
+            stateChanges.forEach(this::applyStateChange);
+            return updatedHardware;
+        });
+    }
+
     private Collection<User> getUsersWithHardware(final Hardware hardware) {
         if (hardware.id() == Hardware.EMPTY_HARDWARE_ID) {
             return List.of();
@@ -136,6 +168,11 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         storage.deleteHardware(hardware.id());
     }
 
+    @Override
+    public void deleteAllHardware(final Collection<Hardware> hardware) {
+        storage.inTransaction(() -> hardware.forEach(this::deleteHardware));
+    }
+
     @Override
     public Team createTeam(final Team team) {
         final Team createdTeam = storage.createTeam(team);
@@ -148,6 +185,19 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         return createdTeam;
     }
 
+    @Override
+    public List<Team> createAllTeams(final Collection<Team> teams) {
+        final List<Team> createdTeams = storage.inTransaction(() -> teams.stream()
+            .map(storage::createTeam)
+            .toList());
+
+        // Single manual update to add all new (empty) teams to the stats
+        if (ParsingStateManager.current() != ParsingState.DISABLED) {
+            userStatsParser.parseTcStatsForUsers(getAllUsersWithPasskeys());
+        }
+        return createdTeams;
+    }
+
     @Override
     public Collection<Team> getAllTeams() {
         return storage.getAllTeams();
@@ -164,30 +214,87 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         return storage.updateTeam(teamToUpdate);
     }
 
+    @Override
+    public List<Team> updateAllTeams(final Collection<Team> teamsToUpdate) {
+        return storage.inTransaction(() -> teamsToUpdate.stream()
+            .map(storage::updateTeam)
+            .toList());
+    }
+
     @Override
     public void deleteTeam(final Team team) {
         storage.deleteTeam(team.id());
     }
 
+    @Override
+    public void deleteAllTeams(final Collection<Team> teams) {
+        storage.inTransaction(() -> teams.forEach(this::deleteTeam));
+    }
+
     @Override
     public User createUser(final User user) {
+        // Retrieve the current stats before starting the DB transaction, so it is not held open during the external request
+        final Optional<UserStats> currentUserStats = getCurrentTotalStats(user);
+
+        // When adding a new user, we configure the initial stats DB/cache in the same transaction as the user itself
+        final User createdUser = storage.inTransaction(() -> createUserWithInitialStats(user, currentUserStats.orElse(null)));
+
+        if (currentUserStats.isPresent()) {
+            userStatsParser.parseTcStatsForUser(createdUser);
+        }
+
+        return createdUser;
+    }
+
+    @Override
+    public List<User> createAllUsers(final Collection<User> users) {
+        // Retrieve the current stats before starting the DB transaction, so it is not held open during the external requests
+        final List<User> usersToCreate = List.copyOf(users);
+        final List<Optional<UserStats>> currentUserStats = usersToCreate.stream()
+            .map(this::getCurrentTotalStats)
+            .toList();
+
+        final List<User> createdUsers = storage.inTransaction(() -> {
+            final List<User> usersWithIds = new ArrayList<>(usersToCreate.size());
+            for (int i = 0; i < usersToCreate.size(); i++) {
+                usersWithIds.add(createUserWithInitialStats(usersToCreate.get(i), currentUserStats.get(i).orElse(null)));
+            }
+            return usersWithIds;
+        });
+
+        final List<User> createdUsersWithStats = IntStream.range(0, createdUsers.size())
+            .filter(i -> currentUserStats.get(i).isPresent())
+            .mapToObj(createdUsers::get)
+            .toList();
+        if (!createdUsersWithStats.isEmpty()) {
+            userStatsParser.parseTcStatsForUsers(createdUsersWithStats);
+        }
+
+        return createdUsers;
+    }
+
+    private User createUserWithInitialStats(final User user, final @Nullable UserStats currentUserStats) {
         if (isUserCaptainAndCaptainExistsOnTeam(user)) {
             removeCaptaincyFromExistingTeamCaptain(user.team());
         }
 
-        final User createdUser = storage.createUser(user);
+        final User userWithId = storage.createUser(user);
+        if (currentUserStats != null) {
+            final UserStats initialStats = statsRepository.createInitialStats(
+                UserStats.create(userWithId.id(), currentUserStats.timestamp(), currentUserStats.points(), currentUserStats.units())
+            );
+            LOGGER.info("User '{}' (ID: {}) created with initial stats: {}", userWithId.displayName(), userWithId.id(), initialStats);
+        }
+        return userWithId;
+    }
 
+    private Optional<UserStats> getCurrentTotalStats(final User user) {
         try {
-            // When adding a new user, we configure the initial stats DB/cache
-            final UserStats currentUserStats = foldingStatsRetriever.getTotalStats(createdUser);
-            final UserStats initialStats = statsRepository.createInitialStats(currentUserStats);
-            LOGGER.info("User '{}' (ID: {}) created with initial stats: {}", createdUser.displayName(), createdUser.id(), initialStats);
-            userStatsParser.parseTcStatsForUser(createdUser);
+            return Optional.of(foldingStatsRetriever.getTotalStats(user));
         } catch (final ExternalConnectionException e) {
-            LOGGER.error("Error retrieving initial stats for user '{}' (ID: {})", createdUser.displayName(), createdUser.id(), e);
+            LOGGER.error("Error retrieving initial stats for user '{}'", user.displayName(), e);
+            return Optional.empty();
         }
-
-        return createdUser;
     }
 
     @Override
@@ -217,14 +324,7 @@ public class FoldingRepositoryImpl implements FoldingRepository {
 
     @Override
     public User updateUser(final User userToUpdate, final User existingUser) {
-        if (isUserCaptainAndCaptainExistsOnTeam(userToUpdate)) {
-            final boolean isCaptainChange = userToUpdate.role().isCaptain() != existingUser.role().isCaptain();
-            final boolean isTeamChange = userToUpdate.team().id() != existingUser.team().id();
-
-            if (isCaptainChange || isTeamChange) {
-                removeCaptaincyFromExistingTeamCaptain(userToUpdate.team());
-            }
-        }
+        removeCaptaincyIfReplacingCaptain(userToUpdate, existingUser, Set.of());
 
         // Perform any stats handling before updating the user
         if (isUserTeamChange(userToUpdate, existingUser)) {
@@ -241,6 +341,58 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         return updatedUser;
     }
 
+    @Override
+    public List<User> updateAllUsers(final Collection<User> usersToUpdate) {
+        // Retrieve the current stats for any state changes before starting the DB transaction, so it is not held open during the external requests
+        final List<UserUpdate> userUpdates = usersToUpdate.stream()
+            .map(this::toUserUpdate)
+            .toList();
+        final Set<Integer> updatedUserIds = usersToUpdate.stream()
+            .map(User::id)
+            .collect(Collectors.toSet());
+
+        final List<User> updatedUsers = storage.inTransaction(() -> userUpdates.stream()
+            .map(userUpdate -> applyUserUpdate(userUpdate, updatedUserIds))
+            .toList());
+
+        // Single manual update for all users that changed teams
+        if (userUpdates.stream().anyMatch(UserUpdate::isTeamChange)) {
+            userStatsParser.parseTcStatsForUsers(getAllUsersWithPasskeys());
+        }
+
+        return updatedUsers;
+    }
+
+    private UserUpdate toUserUpdate(final User userToUpdate) {
+        final User existingUser = getUserWithPasskey(userToUpdate.id());
+        final boolean isTeamChange = ParsingStateManager.current() != ParsingState.DISABLED && isUserTeamChange(userToUpdate, existingUser);
+        final StateChange stateChange = isUserStateChange(userToUpdate, existingUser)
+            ? getStateChange(userToUpdate).orElse(null)
+            : null;
+        return new UserUpdate(userToUpdate, existingUser, isTeamChange, stateChange);
+    }
+
+    private User applyUserUpdate(final UserUpdate userUpdate, final Set<Integer> updatedUserIds) {
+        final User userToUpdate = userUpdate.userToUpdate();
+        final User existingUser = userUpdate.existingUser();
+
+        // Any existing captain that is also being updated has their captaincy set by their own update
+        removeCaptaincyIfReplacingCaptain(userToUpdate, existingUser, updatedUserIds);
+
+        if (userUpdate.isTeamChange()) {
+            retireStatsForTeamChange(userToUpdate, existingUser.team());
+        }
+
+        final User updatedUser = storage.updateUser(userToUpdate);
+
+        final StateChange stateChange = userUpdate.stateChange();
+        if (stateChange != null) {
+            applyStateChange(stateChange);
+        }
+
+        return updatedUser;
+    }
+
     private static boolean isUserStateChange(final User updatedUser, final User existingUser) {
         if (existingUser.hardware().id() != updatedUser.hardware().id()) {
             LOGGER.debug("User '{}' (ID: {}) had state change to hardware, {} -> {}", existingUser.displayName(),
@@ -279,28 +431,38 @@ public class FoldingRepositoryImpl implements FoldingRepository {
     }
 
     private void handleStateChange(final User userWithStateChange) {
+        getStateChange(userWithStateChange)
+            .ifPresent(stateChange -> storage.inTransaction(() -> applyStateChange(stateChange)));
+    }
+
+    private Optional<StateChange> getStateChange(final User userWithStateChange) {
         if (ParsingStateManager.current() == ParsingState.DISABLED) {
             LOGGER.info("Received a state change for user '{}' (ID: {}), but system is not currently parsing stats",
                 userWithStateChange.displayName(), userWithStateChange.id());
-            return;
+            return Optional.empty();
         }
 
         try {
-            final UserStats userTotalStats = foldingStatsRetriever.getTotalStats(userWithStateChange);
-            LOGGER.debug("Setting initial stats to: {}", userTotalStats);
-            statsRepository.createInitialStats(userTotalStats);
-
-            final UserTcStats currentUserTcStats = statsRepository.getHourlyTcStats(userWithStateChange);
-            final OffsetTcStats offsetTcStats = toOffsetTcStats(currentUserTcStats);
-            final OffsetTcStats createdOffsetStats = statsRepository.createOffsetStats(userWithStateChange, offsetTcStats);
-            LOGGER.debug("Added offset stats of: {}", createdOffsetStats);
-
-            LOGGER.info("Handled state change for user '{}' (ID: {})", userWithStateChange.displayName(), userWithStateChange.id());
+            return Optional.of(new StateChange(userWithStateChange, foldingStatsRetriever.getTotalStats(userWithStateChange)));
         } catch (final ExternalConnectionException e) {
             LOGGER.error("Unable to update the state of user '{}' (ID: {})", userWithStateChange.displayName(), userWithStateChange.id(), e);
+            return Optional.empty();
         }
     }
 
+    private void applyStateChange(final StateChange stateChange) {
+        final User userWithStateChange = stateChange.user();
+        LOGGER.debug("Setting initial stats to: {}", stateChange.totalStats());
+        statsRepository.createInitialStats(stateChange.totalStats());
+
+        final UserTcStats currentUserTcStats = statsRepository.getHourlyTcStats(userWithStateChange);
+        final OffsetTcStats offsetTcStats = toOffsetTcStats(currentUserTcStats);
+        final OffsetTcStats createdOffsetStats = statsRepository.createOffsetStats(userWithStateChange, offsetTcStats);
+        LOGGER.debug("Added offset stats of: {}", createdOffsetStats);
+
+        LOGGER.info("Handled state change for user '{}' (ID: {})", userWithStateChange.displayName(), userWithStateChange.id());
+    }
+
     private static OffsetTcStats toOffsetTcStats(final UserTcStats userTcStats) {
         return OffsetTcStats.create(userTcStats.points(), userTcStats.multipliedPoints(), userTcStats.units());
     }
@@ -322,6 +484,16 @@ public class FoldingRepositoryImpl implements FoldingRepository {
             return;
         }
 
+        retireStatsForTeamChange(userWithTeamChange, oldTeam);
+
+        // Pull stats to update teams
+        final Collection<User> users = getAllUsersWithPasskeys();
+        userStatsParser.parseTcStatsForUsers(users);
+
+        LOGGER.info("Handled team change for user '{}' (ID: {})", userWithTeamChange.displayName(), userWithTeamChange.id());
+    }
+
+    private void retireStatsForTeamChange(final User userWithTeamChange, final Team oldTeam) {
         // Add user's current stats as retired stats for old team
         final UserTcStats userStats = statsRepository.getHourlyTcStats(userWithTeamChange);
 
@@ -336,12 +508,6 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         // Reset user stats
         final UserStats userTotalStats = statsRepository.getTotalStats(userWithTeamChange);
         statsRepository.createInitialStats(userTotalStats);
-
-        // Pull stats to update teams
-        final Collection<User> users = getAllUsersWithPasskeys();
-        userStatsParser.parseTcStatsForUsers(users);
-
-        LOGGER.info("Handled team change for user '{}' (ID: {})", userWithTeamChange.displayName(), userWithTeamChange.id());
     }
 
     private boolean isUserCaptainAndCaptainExistsOnTeam(final User user) {
@@ -362,9 +528,26 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         return true;
     }
 
+    private void removeCaptaincyIfReplacingCaptain(final User userToUpdate, final User existingUser, final Set<Integer> excludedUserIds) {
+        if (!isUserCaptainAndCaptainExistsOnTeam(userToUpdate)) {
+            return;
+        }
+
+        final boolean isCaptainChange = userToUpdate.role().isCaptain() != existingUser.role().isCaptain();
+        final boolean isTeamChange = userToUpdate.team().id() != existingUser.team().id();
+
+        if (isCaptainChange || isTeamChange) {
+            removeCaptaincyFromExistingTeamCaptain(userToUpdate.team(), excludedUserIds);
+        }
+    }
+
     private void removeCaptaincyFromExistingTeamCaptain(final Team team) {
+        removeCaptaincyFromExistingTeamCaptain(team, Set.of());
+    }
+
+    private void removeCaptaincyFromExistingTeamCaptain(final Team team, final Set<Integer> excludedUserIds) {
         final Optional<User> existingCaptainOptional = getCaptainOfTeam(team);
-        if (existingCaptainOptional.isEmpty()) {
+        if (existingCaptainOptional.isEmpty() || excludedUserIds.contains(existingCaptainOptional.get().id())) {
             return;
         }
 
@@ -398,6 +581,11 @@ public class FoldingRepositoryImpl implements FoldingRepository {
         LOGGER.info("User '{}' (ID: {}) retired with retired stats ID: {}", user.displayName(), user.id(), createdRetiredUserTcStats.retiredUserId());
     }
 
+    @Override
+    public void deleteAllUsers(final Collection<User> users) {
+        storage.inTransaction(() -> users.forEach(this::deleteUser));
+    }
+
     @Override
     public Collection<User> getUsersOnTeam(final Team team) {
         if (team.id() == Team.EMPTY_TEAM_ID) {
@@ -467,4 +655,12 @@ public class FoldingRepositoryImpl implements FoldingRepository {
     public void printCacheContents() {
         storage.printCacheContents();
     }
+
+    private record StateChange(User user, UserStats totalStats) {
+
+    }
+
+    private record UserUpdate(User userToUpdate, User existingUser, boolean isTeamChange, @Nullable StateChange stateChange) {
+
+    }
 }
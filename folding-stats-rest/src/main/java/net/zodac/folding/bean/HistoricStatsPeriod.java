@@ -0,0 +1,131 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.bean;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import net.zodac.folding.api.util.DateTimeUtils;
+import net.zodac.folding.bean.tc.user.UserStatsCatchUp;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The period covered by a request for {@link HistoricStats}, being either a single day (hourly stats), a {@link Month} (daily stats) or a
+ * {@link Year} (monthly stats).
+ *
+ * <p>
+ * Once a period has ended it is considered closed, and its {@link HistoricStats} will no longer change. A grace period is applied after the end
+ * of the period, so any stats parsing that started before the period ended has finished before it is considered closed. A single day is only
+ * closed once {@link UserStatsCatchUp} can no longer fill any of its missing hours, which is limited to the most recent
+ * {@link UserStatsCatchUp#MAXIMUM_HOURS} and never extends past the end of the {@link Month}.
+ *
+ * @param year  the {@link Year} of the period
+ * @param month the {@link Month} of the period, or {@code null} for a full {@link Year}
+ * @param day   the day of the {@link Month} of the period, or <b>0</b> for a full {@link Month}
+ */
+public record HistoricStatsPeriod(Year year, @Nullable Month month, int day) {
+
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+    private static final Duration CLOSED_GRACE_PERIOD = Duration.ofHours(1L);
+    private static final Duration CATCH_UP_PERIOD = Duration.ofHours(UserStatsCatchUp.MAXIMUM_HOURS);
+
+    /**
+     * Creates a {@link HistoricStatsPeriod} for a single day.
+     *
+     * @param year  the {@link Year} of the day
+     * @param month the {@link Month} of the day
+     * @param day   the day of the {@link Month}
+     * @return the created {@link HistoricStatsPeriod}
+     */
+    public static HistoricStatsPeriod ofDay(final Year year, final Month month, final int day) {
+        return new HistoricStatsPeriod(year, month, day);
+    }
+
+    /**
+     * Creates a {@link HistoricStatsPeriod} for a full {@link Month}.
+     *
+     * @param year  the {@link Year} of the {@link Month}
+     * @param month the {@link Month}
+     * @return the created {@link HistoricStatsPeriod}
+     */
+    public static HistoricStatsPeriod ofMonth(final Year year, final Month month) {
+        return new HistoricStatsPeriod(year, month, 0);
+    }
+
+    /**
+     * Creates a {@link HistoricStatsPeriod} for a full {@link Year}.
+     *
+     * @param year the {@link Year}
+     * @return the created {@link HistoricStatsPeriod}
+     */
+    public static HistoricStatsPeriod ofYear(final Year year) {
+        return new HistoricStatsPeriod(year, null, 0);
+    }
+
+    /**
+     * The {@link LocalDateTime} at which the period ends, which is the start of the following day, {@link Month} or {@link Year}.
+     *
+     * @return the {@link LocalDateTime} of the end of the period
+     */
+    public LocalDateTime end() {
+        if (month == null) {
+            return year.plusYears(1L).atDay(1).atStartOfDay();
+        }
+
+        if (day == 0) {
+            return year.atMonth(month).plusMonths(1L).atDay(1).atStartOfDay();
+        }
+
+        return LocalDate.of(year.getValue(), month, day).plusDays(1L).atStartOfDay();
+    }
+
+    /**
+     * Checks if the period is closed at the current UTC time.
+     *
+     * @return {@code true} if the period has ended, and the grace period since it ended has passed
+     * @see #isClosedAt(LocalDateTime)
+     */
+    public boolean isClosed() {
+        return isClosedAt(DATE_TIME_UTILS.currentUtcLocalDateTime());
+    }
+
+    /**
+     * Checks if the period is closed at the provided UTC {@link LocalDateTime}.
+     *
+     * @param utcDateTime the UTC {@link LocalDateTime} to check against
+     * @return {@code true} if the period has ended, and the grace period (or catch-up period for a single day) since it ended has passed
+     */
+    public boolean isClosedAt(final LocalDateTime utcDateTime) {
+        return !utcDateTime.isBefore(closedAt());
+    }
+
+    private LocalDateTime closedAt() {
+        final LocalDateTime endOfGracePeriod = end().plus(CLOSED_GRACE_PERIOD);
+        if (month == null || day == 0) {
+            return endOfGracePeriod;
+        }
+
+        final LocalDateTime endOfCatchUpPeriod = end().plus(CATCH_UP_PERIOD);
+        final LocalDateTime monthClosedAt = ofMonth(year, month).end().plus(CLOSED_GRACE_PERIOD);
+        final LocalDateTime dayClosedAt = endOfCatchUpPeriod.isBefore(monthClosedAt) ? endOfCatchUpPeriod : monthClosedAt;
+        return dayClosedAt.isAfter(endOfGracePeriod) ? dayClosedAt : endOfGracePeriod;
+    }
+}
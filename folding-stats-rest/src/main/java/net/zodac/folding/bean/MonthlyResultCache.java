@@ -0,0 +1,149 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.bean;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.gson.Gson;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.HexFormat;
+import net.zodac.folding.api.tc.result.MonthlyResult;
+import net.zodac.folding.api.util.DateTimeUtils;
+import net.zodac.folding.configuration.JsonConverterConfiguration;
+import net.zodac.folding.rest.exception.NotFoundException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Component} holding pre-serialized {@link MonthlyResult}s for closed {@link Month}s.
+ *
+ * <p>
+ * Once a {@link Month} has ended, no further {@link MonthlyResult} can be stored for it, so the JSON response for that {@link Month} will never
+ * change. The first request for a closed {@link Month} loads the {@link MonthlyResult} from the {@link StatsRepository}, serializes it once and
+ * keeps the bytes (and their ETag) for the lifetime of the application. Results for the current {@link Month} are never cached, since a manual
+ * save can still replace them.
+ */
+@Component
+public class MonthlyResultCache {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+    private static final String ETAG_ALGORITHM = "SHA-256";
+
+    // No size limit or expiry, since there is only one entry per closed month and the content is immutable
+    private final Cache<YearMonth, SerializedMonthlyResult> closedMonthlyResultCache = Caffeine.newBuilder()
+        .build();
+
+    private final StatsRepository statsRepository;
+    private final Gson responseGson;
+
+    /**
+     * {@link Autowired} constructor.
+     *
+     * @param statsRepository the {@link StatsRepository}
+     * @param responseGson    the {@link Gson} used to serialize REST responses, so the cached bytes match a normal response
+     */
+    @Autowired
+    public MonthlyResultCache(final StatsRepository statsRepository, @Qualifier(JsonConverterConfiguration.RESPONSE_GSON) final Gson responseGson) {
+        this.statsRepository = statsRepository;
+        this.responseGson = responseGson;
+    }
+
+    /**
+     * Retrieves the serialized {@link MonthlyResult} for the provided {@link Month} and {@link Year}.
+     *
+     * <p>
+     * If the {@link Month} is closed, the result is served from the cache, loading it on the first request. Otherwise, the {@link MonthlyResult}
+     * is retrieved and serialized on each request.
+     *
+     * @param month the {@link Month} of the {@link MonthlyResult} to be retrieved
+     * @param year  the {@link Year} of the {@link MonthlyResult} to be retrieved
+     * @return the {@link SerializedMonthlyResult}
+     * @throws NotFoundException thrown if the {@link MonthlyResult} cannot be found
+     */
+    public SerializedMonthlyResult get(final Month month, final Year year) {
+        final YearMonth yearMonth = year.atMonth(month);
+        if (!isClosed(yearMonth)) {
+            return serialize(statsRepository.getMonthlyResult(month, year), false);
+        }
+
+        return closedMonthlyResultCache.get(yearMonth, _ -> {
+            LOGGER.debug("Cache miss! Get monthly result for {}", yearMonth);
+            return serialize(statsRepository.getMonthlyResult(month, year), true);
+        });
+    }
+
+    /**
+     * Loads the {@link MonthlyResult}s for the most recent closed {@link Month}s into the cache. Any {@link Month} with no
+     * {@link MonthlyResult} is skipped.
+     *
+     * @param numberOfMonths the number of closed {@link Month}s to load, counting back from the previous {@link Month}
+     */
+    public void preload(final int numberOfMonths) {
+        final YearMonth currentMonth = YearMonth.of(DATE_TIME_UTILS.currentUtcYear().getValue(), DATE_TIME_UTILS.currentUtcMonth());
+
+        for (int i = 1; i <= numberOfMonths; i++) {
+            final YearMonth closedMonth = currentMonth.minusMonths(i);
+
+            try {
+                get(closedMonth.getMonth(), Year.of(closedMonth.getYear()));
+            } catch (final NotFoundException e) {
+                LOGGER.debug("No monthly result to preload for {}", closedMonth, e);
+            }
+        }
+
+        LOGGER.info("Preloaded {} monthly result(s)", closedMonthlyResultCache.estimatedSize());
+    }
+
+    private static boolean isClosed(final YearMonth yearMonth) {
+        final YearMonth currentMonth = YearMonth.of(DATE_TIME_UTILS.currentUtcYear().getValue(), DATE_TIME_UTILS.currentUtcMonth());
+        return yearMonth.isBefore(currentMonth);
+    }
+
+    private SerializedMonthlyResult serialize(final MonthlyResult monthlyResult, final boolean immutable) {
+        final byte[] content = responseGson.toJson(monthlyResult).getBytes(StandardCharsets.UTF_8);
+        return new SerializedMonthlyResult(content, createETag(content), immutable);
+    }
+
+    private static String createETag(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(ETAG_ALGORITHM).digest(content));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(String.format("Unable to create ETag using '%s'", ETAG_ALGORITHM), e);
+        }
+    }
+
+    /**
+     * A {@link MonthlyResult} serialized as UTF-8 JSON.
+     *
+     * @param content   the serialized JSON bytes
+     * @param eTag      the ETag of the {@code content}
+     * @param immutable whether the {@link MonthlyResult} is for a closed {@link Month} and will never change
+     */
+    public record SerializedMonthlyResult(byte[] content, String eTag, boolean immutable) {
+
+    }
+}
@@ -17,26 +17,36 @@
 
 package net.zodac.folding.bean;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import net.zodac.folding.api.state.SystemState;
 import net.zodac.folding.api.tc.Role;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
 import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.tc.stats.RetiredUserTcStats;
 import net.zodac.folding.api.tc.stats.UserStats;
 import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.DateTimeUtils;
 import net.zodac.folding.rest.api.tc.AllTeamsSummary;
 import net.zodac.folding.rest.api.tc.RetiredUserSummary;
 import net.zodac.folding.rest.api.tc.TeamSummary;
 import net.zodac.folding.rest.api.tc.UserSummary;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.historic.UserHistoricStats;
 import net.zodac.folding.rest.exception.NotFoundException;
+import net.zodac.folding.rest.exception.ServiceUnavailableException;
 import net.zodac.folding.state.SystemStateManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -60,8 +70,15 @@ import org.springframework.stereotype.Component;
 public class StatsRepository {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
 
     private final Storage storage;
+    private final Lock allTeamsSummaryLock = new ReentrantLock();
+
+    // Guarded by allTeamsSummaryLock, non-null while an AllTeamsSummary is being calculated
+    private @Nullable CompletableFuture<AllTeamsSummary> allTeamsSummaryCalculation;
+    // Guarded by allTeamsSummaryLock, the last calculated AllTeamsSummary, kept even when the cache is evicted
+    private @Nullable AllTeamsSummary publishedAllTeamsSummary;
 
     /**
      * {@link Autowired} constructor.
@@ -97,6 +114,36 @@ public class StatsRepository {
             .orElseThrow(() -> new NotFoundException(MonthlyResult.class, String.format("%s/%s", year, month)));
     }
 
+    /**
+     * Creates an {@link IngestionRun}, recording the outcome of a stats parsing cycle.
+     *
+     * @param ingestionRun the {@link IngestionRun} to create
+     * @return the created {@link IngestionRun}
+     */
+    public IngestionRun createIngestionRun(final IngestionRun ingestionRun) {
+        return storage.createIngestionRun(ingestionRun);
+    }
+
+    /**
+     * Retrieves all {@link IngestionRun}s executed since the provided {@link LocalDateTime}.
+     *
+     * @param since the {@code UTC} {@link LocalDateTime} from which {@link IngestionRun}s are retrieved
+     * @return a {@link Collection} of the retrieved {@link IngestionRun}s, most recent first
+     */
+    public Collection<IngestionRun> getIngestionRunsSince(final LocalDateTime since) {
+        return storage.getIngestionRunsSince(since);
+    }
+
+    /**
+     * Deletes all {@link IngestionRun}s executed before the provided {@link LocalDateTime}.
+     *
+     * @param before the {@code UTC} {@link LocalDateTime} before which {@link IngestionRun}s are deleted
+     * @return the number of {@link IngestionRun}s deleted
+     */
+    public long deleteIngestionRunsBefore(final LocalDateTime before) {
+        return storage.deleteIngestionRunsBefore(before);
+    }
+
     /**
      * Retrieves the {@link HistoricStats} for the provided {@link User} for a specific {@code day}.
      *
@@ -104,15 +151,18 @@ public class StatsRepository {
      * @param year  the {@link Year} of the {@link HistoricStats}
      * @param month the {@link Month} of the {@link HistoricStats}
      * @param day   the day of the {@link Month} of the {@link HistoricStats}
-     * @return the hourly {@link HistoricStats} for the {@link User}
+     * @return a {@link CompletableFuture} of the hourly {@link HistoricStats} for the {@link User}
      */
-    public Collection<HistoricStats> getHistoricStats(final User user, final Year year, final Month month, final int day) {
-        final Collection<HistoricStats> historicStats = storage.getHistoricStats(user.id(), year, month, day);
-        if (historicStats.isEmpty()) {
-            LOGGER.warn("No stats retrieved for user with ID {} on {}/{}/{}, returning empty", user.id(), year.getValue(), month.getValue(), day);
-        }
-
-        return historicStats;
+    public CompletableFuture<Collection<HistoricStats>> getHistoricStats(final User user, final Year year, final Month month, final int day) {
+        return storage.getHistoricStats(user.id(), year, month, day)
+            .thenApply(historicStats -> {
+                if (historicStats.isEmpty()) {
+                    LOGGER.warn("No stats retrieved for user with ID {} on {}/{}/{}, returning empty", user.id(), year.getValue(), month.getValue(),
+                        day);
+                }
+
+                return historicStats;
+            });
     }
 
     /**
@@ -121,15 +171,17 @@ public class StatsRepository {
      * @param user  the {@link User} whose {@link HistoricStats} are to be retrieved
      * @param year  the {@link Year} of the {@link HistoricStats}
      * @param month the {@link Month} of the {@link HistoricStats}
-     * @return the daily {@link HistoricStats} for the {@link User}
+     * @return a {@link CompletableFuture} of the daily {@link HistoricStats} for the {@link User}
      */
-    public Collection<HistoricStats> getHistoricStats(final User user, final Year year, final Month month) {
-        final Collection<HistoricStats> historicStats = storage.getHistoricStats(user.id(), year, month, 0);
-        if (historicStats.isEmpty()) {
-            LOGGER.warn("No stats retrieved for user with ID {} on {}/{}, returning empty", user.id(), year.getValue(), month.getValue());
-        }
-
-        return historicStats;
+    public CompletableFuture<Collection<HistoricStats>> getHistoricStats(final User user, final Year year, final Month month) {
+        return storage.getHistoricStats(user.id(), year, month, 0)
+            .thenApply(historicStats -> {
+                if (historicStats.isEmpty()) {
+                    LOGGER.warn("No stats retrieved for user with ID {} on {}/{}, returning empty", user.id(), year.getValue(), month.getValue());
+                }
+
+                return historicStats;
+            });
     }
 
     /**
@@ -137,15 +189,78 @@ public class StatsRepository {
      *
      * @param user the {@link User} whose {@link HistoricStats} are to be retrieved
      * @param year the {@link Year} of the {@link HistoricStats}
-     * @return the monthly {@link HistoricStats} for the {@link User}
+     * @return a {@link CompletableFuture} of the monthly {@link HistoricStats} for the {@link User}
      */
-    public Collection<HistoricStats> getHistoricStats(final User user, final Year year) {
-        final Collection<HistoricStats> historicStats = storage.getHistoricStats(user.id(), year, null, 0);
-        if (historicStats.isEmpty()) {
-            LOGGER.warn("No stats retrieved for user with ID {} on {}, returning empty", user.id(), year.getValue());
-        }
+    public CompletableFuture<Collection<HistoricStats>> getHistoricStats(final User user, final Year year) {
+        return storage.getHistoricStats(user.id(), year, null, 0)
+            .thenApply(historicStats -> {
+                if (historicStats.isEmpty()) {
+                    LOGGER.warn("No stats retrieved for user with ID {} on {}, returning empty", user.id(), year.getValue());
+                }
+
+                return historicStats;
+            });
+    }
+
+    /**
+     * Retrieves the {@link HistoricStats} for each of the provided {@link User}s for a specific {@code day} or {@link Month}.
+     *
+     * <p>
+     * If the {@code day} is <b>0</b>, the daily {@link HistoricStats} are returned for the given {@link Month}, otherwise the hourly
+     * {@link HistoricStats} are returned for the given {@code day}.
+     *
+     * @param users the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year  the {@link Year} of the {@link HistoricStats}
+     * @param month the {@link Month} of the {@link HistoricStats}
+     * @param day   the day of the {@link Month} of the {@link HistoricStats}, or <b>0</b> for the whole {@link Month}
+     * @return a {@link CompletableFuture} of the {@link UserHistoricStats} for each {@link User}, in the order they were provided
+     */
+    public CompletableFuture<Collection<UserHistoricStats>> getHistoricStatsForUsers(final Collection<User> users, final Year year, final Month month,
+                                                                                     final int day) {
+        final List<Integer> userIds = users
+            .stream()
+            .map(User::id)
+            .toList();
+
+        return storage.getHistoricStatsForUsers(userIds, year, month, day)
+            .thenApply(historicStatsByUserId -> users
+                .stream()
+                .map(user -> {
+                    final Collection<HistoricStats> historicStats = historicStatsByUserId.getOrDefault(user.id(), List.of());
+                    if (historicStats.isEmpty()) {
+                        LOGGER.warn("No stats retrieved for user with ID {} on {}/{}/{}, returning empty", user.id(), year.getValue(),
+                            month.getValue(), day);
+                    }
+                    return UserHistoricStats.create(user.id(), historicStats);
+                })
+                .toList());
+    }
+
+    /**
+     * Evicts the cached {@link HistoricStats} for any {@link HistoricStatsPeriod} that is not yet closed, so they are retrieved again with the
+     * latest parsed stats.
+     */
+    public void evictCurrentHistoricStats() {
+        storage.evictCurrentHistoricStatsCache();
+    }
 
-        return historicStats;
+    /**
+     * Evicts all cached {@link HistoricStats}, for when stats have been written for a {@link HistoricStatsPeriod} that may already be closed.
+     */
+    public void evictHistoricStats() {
+        storage.evictHistoricStatsCache();
+    }
+
+    /**
+     * Downsamples the {@link UserTcStats} and total {@link UserStats} persisted before the provided {@link Timestamp} to a single row per
+     * {@link User} per day.
+     *
+     * @param before    only stats before this {@link Timestamp} are downsampled
+     * @param batchSize the maximum number of {@link User} days to downsample
+     * @return the number of rows removed
+     */
+    public long downsampleStatsToDaily(final Timestamp before, final int batchSize) {
+        return storage.downsampleStatsToDaily(before, batchSize);
     }
 
     /**
@@ -220,6 +335,16 @@ public class StatsRepository {
         return storage.createHourlyTcStats(userTcStats);
     }
 
+    /**
+     * Creates multiple {@link UserTcStats} in a single bulk write, either all are persisted or none are.
+     *
+     * @param userTcStats the {@link UserTcStats} to be created
+     * @return the created {@link UserTcStats}
+     */
+    public Collection<UserTcStats> createBulkHourlyTcStats(final Collection<UserTcStats> userTcStats) {
+        return storage.createBulkHourlyTcStats(userTcStats);
+    }
+
     /**
      * Retrieves the latest {@link UserTcStats} for the provided {@link User}.
      *
@@ -279,7 +404,10 @@ public class StatsRepository {
      *          Deletes any {@link RetiredUserTcStats}.
      *      </li>
      *      <li>
-     *          Resets the {@link UserStats}, {@link UserTcStats} and {@link AllTeamsSummary} caches (if any are used).
+     *          All above DB changes are executed as a single set-based unit of work, so either all {@link User}s are reset, or none are.
+     *      </li>
+     *      <li>
+     *          Reloads the {@link UserStats} and {@link UserTcStats} caches in bulk, and evicts the {@link AllTeamsSummary} cache.
      *      </li>
      *      <li>
      *          Sets the {@link SystemState} to {@link SystemState#WRITE_EXECUTED}.
@@ -287,23 +415,10 @@ public class StatsRepository {
      * </ul>
      */
     public void resetAllTeamCompetitionUserStats() {
-        for (final User user : storage.getAllUsers()) {
-            LOGGER.info("Resetting TC stats for {}", user.displayName());
-            final UserStats totalStats = getTotalStats(user);
-            final UserStats totalStatsWithNewTime = UserStats.createNow(totalStats.userId(), totalStats.points(), totalStats.units());
-            createInitialStats(totalStatsWithNewTime);
-            createHourlyTcStats(UserTcStats.empty(totalStats.userId()));
-        }
+        LOGGER.info("Resetting TC stats for all users");
+        storage.resetAllTeamCompetitionStats(DATE_TIME_UTILS.currentUtcTimestamp());
 
-        LOGGER.info("Deleting retired user TC stats");
-        storage.deleteAllRetiredUserTcStats();
-
-        LOGGER.info("Deleting offset TC stats");
-        storage.deleteAllOffsetTcStats();
-
-        LOGGER.info("Evicting TC and initial stats caches, and all teams summary cache");
-        storage.evictTcStatsCache();
-        storage.evictInitialStatsCache();
+        LOGGER.info("Evicting all teams summary cache");
         storage.evictAllTeamsSummaryCache();
         SystemStateManager.next(SystemState.WRITE_EXECUTED);
     }
@@ -313,12 +428,34 @@ public class StatsRepository {
      *
      * <p>
      * If the {@link  SystemState} is in {@link  SystemState#WRITE_EXECUTED}, a new
-     * {@link AllTeamsSummary} will be created.
+     * {@link AllTeamsSummary} will be created. Only one {@link AllTeamsSummary} is created at a time, any concurrent callers will wait for and
+     * return the same result rather than each creating their own.
+     *
+     * <p>
+     * Once created, the {@link AllTeamsSummary} is cached and the {@link SystemState} is set to {@link SystemState#AVAILABLE}, unless another
+     * write was executed while it was being created. In that case, the {@link SystemState} remains {@link SystemState#WRITE_EXECUTED} so the next
+     * caller will create it again.
+     *
+     * <p>
+     * While stats are being updated or reset ({@link SystemState#isStatsWriteInProgress()}), the last published {@link AllTeamsSummary} is
+     * returned, rather than creating one from partially updated stats. The new {@link AllTeamsSummary} is created and swapped in once the
+     * {@link SystemState} is {@link SystemState#WRITE_EXECUTED}. If stats were written while an {@link AllTeamsSummary} was being created, it is
+     * discarded rather than cached or returned, and the last published {@link AllTeamsSummary} is returned instead.
      *
      * @return the latest {@link AllTeamsSummary}
+     * @throws ServiceUnavailableException thrown if stats were written while creating the {@link AllTeamsSummary}, and none has been published yet
      */
     public AllTeamsSummary getAllTeamsSummary() {
-        if (SystemStateManager.current() != SystemState.WRITE_EXECUTED) {
+        final SystemState currentState = SystemStateManager.current();
+        if (currentState.isStatsWriteInProgress()) {
+            final AllTeamsSummary allTeamsSummary = getPublishedAllTeamsSummary();
+            if (allTeamsSummary != null) {
+                LOGGER.debug("System is in state {}, retrieving last published TC result", currentState);
+                return allTeamsSummary;
+            }
+        }
+
+        if (currentState != SystemState.WRITE_EXECUTED) {
             LOGGER.debug("System is not in state {}, retrieving cached TC result", SystemState.WRITE_EXECUTED);
 
             final Optional<AllTeamsSummary> cachedCompetitionResult = storage.getAllTeamsSummary();
@@ -327,12 +464,89 @@ public class StatsRepository {
             }
         }
 
-        LOGGER.debug("Calculating latest TC result, system state: {}", SystemStateManager.current());
-        final AllTeamsSummary allTeamsSummary = constructAllTeamsSummary();
-        final AllTeamsSummary createdAllTeamsSummary = storage.createAllTeamsSummary(allTeamsSummary);
-        SystemStateManager.next(SystemState.AVAILABLE);
+        final CompletableFuture<AllTeamsSummary> calculation;
+        final boolean isCalculatingThread;
+        allTeamsSummaryLock.lock();
+        try {
+            final CompletableFuture<AllTeamsSummary> existingCalculation = allTeamsSummaryCalculation;
+            if (existingCalculation == null && SystemStateManager.current() != SystemState.WRITE_EXECUTED) {
+                // Another caller published a new result while this caller was waiting for the lock
+                final Optional<AllTeamsSummary> cachedCompetitionResult = storage.getAllTeamsSummary();
+                if (cachedCompetitionResult.isPresent()) {
+                    return cachedCompetitionResult.get();
+                }
+            }
+
+            isCalculatingThread = existingCalculation == null;
+            calculation = existingCalculation == null ? new CompletableFuture<>() : existingCalculation;
+            allTeamsSummaryCalculation = calculation;
+        } finally {
+            allTeamsSummaryLock.unlock();
+        }
+
+        if (isCalculatingThread) {
+            calculateAllTeamsSummary(calculation);
+        } else {
+            LOGGER.debug("Waiting for TC result already being calculated");
+        }
 
-        return createdAllTeamsSummary;
+        try {
+            return calculation.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void calculateAllTeamsSummary(final CompletableFuture<AllTeamsSummary> calculation) {
+        try {
+            final long writeCount = SystemStateManager.writeCount();
+            final SystemState initialState = SystemStateManager.current();
+            LOGGER.debug("Calculating latest TC result, system state: {}", initialState);
+            final AllTeamsSummary allTeamsSummary = constructAllTeamsSummary();
+
+            allTeamsSummaryLock.lock();
+            try {
+                allTeamsSummaryCalculation = null;
+
+                // A result built from partially updated stats is never cached or served, it will be recalculated on the next request
+                if (initialState.isStatsWriteInProgress() || !SystemStateManager.isUnchangedSince(writeCount)) {
+                    LOGGER.debug("Stats were updated while calculating TC result, returning last published TC result");
+                    if (publishedAllTeamsSummary == null) {
+                        calculation.completeExceptionally(new ServiceUnavailableException());
+                    } else {
+                        calculation.complete(publishedAllTeamsSummary);
+                    }
+                    return;
+                }
+
+                final AllTeamsSummary createdAllTeamsSummary = storage.createAllTeamsSummary(allTeamsSummary);
+                publishedAllTeamsSummary = createdAllTeamsSummary;
+                SystemStateManager.nextIfNoWritesSince(writeCount, SystemState.AVAILABLE);
+                calculation.complete(createdAllTeamsSummary);
+            } finally {
+                allTeamsSummaryLock.unlock();
+            }
+        } catch (final RuntimeException e) {
+            allTeamsSummaryLock.lock();
+            try {
+                allTeamsSummaryCalculation = null;
+                calculation.completeExceptionally(e);
+            } finally {
+                allTeamsSummaryLock.unlock();
+            }
+        }
+    }
+
+    private @Nullable AllTeamsSummary getPublishedAllTeamsSummary() {
+        allTeamsSummaryLock.lock();
+        try {
+            return publishedAllTeamsSummary;
+        } finally {
+            allTeamsSummaryLock.unlock();
+        }
     }
 
     private AllTeamsSummary constructAllTeamsSummary() {
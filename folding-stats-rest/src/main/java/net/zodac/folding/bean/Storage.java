@@ -19,26 +19,41 @@ package net.zodac.folding.bean;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import net.zodac.folding.api.UserAuthenticationResult;
+import net.zodac.folding.api.db.AsyncDbManager;
 import net.zodac.folding.api.db.DbManager;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.tc.change.UserChange;
 import net.zodac.folding.api.tc.change.UserChangeState;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
 import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.tc.stats.RetiredUserTcStats;
+import net.zodac.folding.api.tc.stats.Stats;
 import net.zodac.folding.api.tc.stats.UserStats;
 import net.zodac.folding.api.tc.stats.UserTcStats;
 import net.zodac.folding.api.util.DecodedLoginCredentials;
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
 import net.zodac.folding.rest.api.tc.AllTeamsSummary;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
 import org.apache.logging.log4j.LogManager;
@@ -60,8 +75,11 @@ public class Storage {
     private static final Logger LOGGER = LogManager.getLogger();
     private static final int ALL_TEAMS_SUMMARY_ID = 1; // We only ever have one entry
 
+    private static final ScopedValue<List<Runnable>> PENDING_CACHE_UPDATES = ScopedValue.newInstance();
     private static final long STANDARD_CACHE_SIZE = 25L;
     private static final Duration STANDARD_CACHE_EXPIRATION_TIME = Duration.ofHours(1L);
+    // Maximum number of HistoricStats entries held across all cached periods
+    private static final long HISTORIC_STATS_CACHE_SIZE = EnvironmentVariableUtils.getIntOrDefault("HISTORIC_STATS_CACHE_SIZE", 200_000);
 
     // POJO caches
     private final Cache<Integer, Hardware> hardwareCache = Caffeine.newBuilder()
@@ -100,16 +118,29 @@ public class Storage {
         .expireAfterWrite(STANDARD_CACHE_EXPIRATION_TIME)
         .build();
 
+    // Historic stats cache, entries for closed periods are only removed when the cache is full or the stats are rewritten
+    private final Cache<HistoricStatsKey, CachedHistoricStats> historicStatsCache = Caffeine.newBuilder()
+        .maximumWeight(HISTORIC_STATS_CACHE_SIZE)
+        .weigher((final HistoricStatsKey _, final CachedHistoricStats cachedHistoricStats) -> cachedHistoricStats.historicStats().size() + 1)
+        .build();
+    // Incremented on each eviction, and stored with each cached entry, so the result of a DB query started before an eviction is never served
+    private final AtomicLong historicStatsCacheGeneration = new AtomicLong();
+    // The generation of the last eviction of all entries, entries for closed periods from an earlier generation are outdated
+    private final AtomicLong historicStatsCacheFullEvictionGeneration = new AtomicLong();
+
     private final DbManager dbManagerImpl;
+    private final AsyncDbManager asyncDbManagerImpl;
 
     /**
      * {@link Autowired} constructor.
      *
-     * @param dbManagerImpl the {@link DbManager}
+     * @param dbManagerImpl      the {@link DbManager}
+     * @param asyncDbManagerImpl the {@link AsyncDbManager}, used for read-heavy queries that are not cached
      */
     @Autowired
-    public Storage(final DbManager dbManagerImpl) {
+    public Storage(final DbManager dbManagerImpl, final AsyncDbManager asyncDbManagerImpl) {
         this.dbManagerImpl = dbManagerImpl;
+        this.asyncDbManagerImpl = asyncDbManagerImpl;
     }
 
     /**
@@ -126,7 +157,7 @@ public class Storage {
     public Hardware createHardware(final Hardware hardware) {
         return dbManagerFunction(dbManager -> {
             final Hardware hardwareWithId = dbManager.createHardware(hardware);
-            hardwareCache.put(hardwareWithId.id(), hardwareWithId);
+            updateCache(() -> hardwareCache.put(hardwareWithId.id(), hardwareWithId));
             return hardwareWithId;
         });
     }
@@ -153,7 +184,7 @@ public class Storage {
             final Collection<Hardware> fromDb = dbManager.getAllHardware();
 
             for (final Hardware hardware : fromDb) {
-                hardwareCache.put(hardware.id(), hardware);
+                updateCache(() -> hardwareCache.put(hardware.id(), hardware));
             }
 
             return fromDb;
@@ -181,7 +212,7 @@ public class Storage {
         LOGGER.trace("Cache miss! Get hardware");
         return dbManagerFunction(dbManager -> {
             final Optional<Hardware> fromDb = dbManager.getHardware(hardwareId);
-            fromDb.ifPresent(hardware -> hardwareCache.put(hardwareId, hardware));
+            fromDb.ifPresent(hardware -> updateCache(() -> hardwareCache.put(hardwareId, hardware)));
             return fromDb;
         });
     }
@@ -203,13 +234,13 @@ public class Storage {
     public Hardware updateHardware(final Hardware hardwareToUpdate) {
         return dbManagerFunction(dbManager -> {
             final Hardware updatedHardware = dbManager.updateHardware(hardwareToUpdate);
-            hardwareCache.put(updatedHardware.id(), updatedHardware);
+            updateCache(() -> hardwareCache.put(updatedHardware.id(), updatedHardware));
 
             getAllUsers()
                 .stream()
                 .filter(user -> user.hardware().id() == updatedHardware.id())
                 .map(user -> User.updateHardware(user, updatedHardware))
-                .forEach(updatedUser -> userCache.put(updatedUser.id(), updatedUser));
+                .forEach(updatedUser -> updateCache(() -> userCache.put(updatedUser.id(), updatedUser)));
 
             return updatedHardware;
         });
@@ -228,7 +259,7 @@ public class Storage {
     public void deleteHardware(final int hardwareId) {
         dbManagerConsumer(dbManager -> {
             dbManager.deleteHardware(hardwareId);
-            hardwareCache.invalidate(hardwareId);
+            updateCache(() -> hardwareCache.invalidate(hardwareId));
         });
     }
 
@@ -246,7 +277,7 @@ public class Storage {
     public Team createTeam(final Team team) {
         return dbManagerFunction(dbManager -> {
             final Team teamWithId = dbManager.createTeam(team);
-            teamCache.put(teamWithId.id(), teamWithId);
+            updateCache(() -> teamCache.put(teamWithId.id(), teamWithId));
             return teamWithId;
         });
     }
@@ -273,7 +304,7 @@ public class Storage {
             final Collection<Team> fromDb = dbManager.getAllTeams();
 
             for (final Team team : fromDb) {
-                teamCache.put(team.id(), team);
+                updateCache(() -> teamCache.put(team.id(), team));
             }
 
             return fromDb;
@@ -301,7 +332,7 @@ public class Storage {
         LOGGER.trace("Cache miss! Get team");
         return dbManagerFunction(dbManager -> {
             final Optional<Team> fromDb = dbManager.getTeam(teamId);
-            fromDb.ifPresent(team -> teamCache.put(teamId, team));
+            fromDb.ifPresent(team -> updateCache(() -> teamCache.put(teamId, team)));
             return fromDb;
         });
     }
@@ -323,13 +354,13 @@ public class Storage {
     public Team updateTeam(final Team teamToUpdate) {
         return dbManagerFunction(dbManager -> {
             final Team updatedTeam = dbManager.updateTeam(teamToUpdate);
-            teamCache.put(updatedTeam.id(), updatedTeam);
+            updateCache(() -> teamCache.put(updatedTeam.id(), updatedTeam));
 
             getAllUsers()
                 .stream()
                 .filter(user -> user.team().id() == updatedTeam.id())
                 .map(user -> User.updateTeam(user, updatedTeam))
-                .forEach(updatedUser -> userCache.put(updatedUser.id(), updatedUser));
+                .forEach(updatedUser -> updateCache(() -> userCache.put(updatedUser.id(), updatedUser)));
 
             return updatedTeam;
         });
@@ -348,7 +379,7 @@ public class Storage {
     public void deleteTeam(final int teamId) {
         dbManagerConsumer(dbManager -> {
             dbManager.deleteTeam(teamId);
-            teamCache.invalidate(teamId);
+            updateCache(() -> teamCache.invalidate(teamId));
         });
     }
 
@@ -366,7 +397,7 @@ public class Storage {
     public User createUser(final User user) {
         return dbManagerFunction(dbManager -> {
             final User userWithId = dbManager.createUser(user);
-            userCache.put(userWithId.id(), userWithId);
+            updateCache(() -> userCache.put(userWithId.id(), userWithId));
             return userWithId;
         });
     }
@@ -393,7 +424,7 @@ public class Storage {
             final Collection<User> fromDb = dbManager.getAllUsers();
 
             for (final User user : fromDb) {
-                userCache.put(user.id(), user);
+                updateCache(() -> userCache.put(user.id(), user));
             }
 
             return fromDb;
@@ -421,7 +452,7 @@ public class Storage {
         LOGGER.trace("Cache miss! Get user");
         return dbManagerFunction(dbManager -> {
             final Optional<User> fromDb = dbManager.getUser(userId);
-            fromDb.ifPresent(user -> userCache.put(userId, user));
+            fromDb.ifPresent(user -> updateCache(() -> userCache.put(userId, user)));
             return fromDb;
         });
     }
@@ -440,7 +471,7 @@ public class Storage {
     public User updateUser(final User userToUpdate) {
         return dbManagerFunction(dbManager -> {
             final User updatedUser = dbManager.updateUser(userToUpdate);
-            userCache.put(updatedUser.id(), updatedUser);
+            updateCache(() -> userCache.put(updatedUser.id(), updatedUser));
             return updatedUser;
         });
     }
@@ -467,13 +498,13 @@ public class Storage {
     public void deleteUser(final int userId) {
         dbManagerConsumer(dbManager -> {
             dbManager.deleteUser(userId);
-            userCache.invalidate(userId);
+            updateCache(() -> userCache.invalidate(userId));
 
             // Remove the user entry from all stats caches
-            offsetTcStatsCache.invalidate(userId);
-            totalStatsCache.invalidate(userId);
-            initialStatsCache.invalidate(userId);
-            tcStatsCache.invalidate(userId);
+            updateCache(() -> offsetTcStatsCache.invalidate(userId));
+            updateCache(() -> totalStatsCache.invalidate(userId));
+            updateCache(() -> initialStatsCache.invalidate(userId));
+            updateCache(() -> tcStatsCache.invalidate(userId));
         });
     }
 
@@ -506,6 +537,48 @@ public class Storage {
         return dbManagerFunction(dbManager -> dbManager.getMonthlyResult(month, year));
     }
 
+    /**
+     * Creates an {@link IngestionRun}, recording the outcome of a stats parsing cycle.
+     *
+     * <p>
+     * Persists it with the {@link DbManager}, but does not cache it.
+     *
+     * @param ingestionRun the {@link IngestionRun} to create
+     * @return the created {@link IngestionRun}, with ID
+     * @see DbManager#createIngestionRun(IngestionRun)
+     */
+    @NotCached
+    public IngestionRun createIngestionRun(final IngestionRun ingestionRun) {
+        return dbManagerFunction(dbManager -> dbManager.createIngestionRun(ingestionRun));
+    }
+
+    /**
+     * Retrieves all {@link IngestionRun}s executed since the provided {@link LocalDateTime}.
+     *
+     * <p>
+     * Since these values are not cached, we go directly to the {@link DbManager} to retrieve them.
+     *
+     * @param since the {@code UTC} {@link LocalDateTime} from which {@link IngestionRun}s are retrieved
+     * @return a {@link Collection} of the retrieved {@link IngestionRun}s, most recent first
+     * @see DbManager#getIngestionRunsSince(LocalDateTime)
+     */
+    @NotCached
+    public Collection<IngestionRun> getIngestionRunsSince(final LocalDateTime since) {
+        return dbManagerFunction(dbManager -> dbManager.getIngestionRunsSince(since));
+    }
+
+    /**
+     * Deletes all {@link IngestionRun}s executed before the provided {@link LocalDateTime}.
+     *
+     * @param before the {@code UTC} {@link LocalDateTime} before which {@link IngestionRun}s are deleted
+     * @return the number of {@link IngestionRun}s deleted
+     * @see DbManager#deleteIngestionRunsBefore(LocalDateTime)
+     */
+    @NotCached
+    public long deleteIngestionRunsBefore(final LocalDateTime before) {
+        return dbManagerFunction(dbManager -> dbManager.deleteIngestionRunsBefore(before));
+    }
+
     /**
      * Creates a {@link RetiredUserTcStats} for a {@link User} that has been deleted from a {@link Team}.
      *
@@ -519,7 +592,7 @@ public class Storage {
     public RetiredUserTcStats createRetiredUserStats(final RetiredUserTcStats retiredUserTcStats) {
         return dbManagerFunction(dbManager -> {
             final RetiredUserTcStats createdRetiredUserTcStats = dbManager.createRetiredUserStats(retiredUserTcStats);
-            retiredTcStatsCache.put(createdRetiredUserTcStats.retiredUserId(), createdRetiredUserTcStats);
+            updateCache(() -> retiredTcStatsCache.put(createdRetiredUserTcStats.retiredUserId(), createdRetiredUserTcStats));
             return createdRetiredUserTcStats;
         });
     }
@@ -546,7 +619,7 @@ public class Storage {
             final Collection<RetiredUserTcStats> fromDb = dbManager.getAllRetiredUserStats();
 
             for (final RetiredUserTcStats retiredUserTcStats : fromDb) {
-                retiredTcStatsCache.put(retiredUserTcStats.retiredUserId(), retiredUserTcStats);
+                updateCache(() -> retiredTcStatsCache.put(retiredUserTcStats.retiredUserId(), retiredUserTcStats));
             }
 
             return fromDb;
@@ -563,7 +636,7 @@ public class Storage {
     public void deleteAllRetiredUserTcStats() {
         dbManagerConsumer(dbManager -> {
             dbManager.deleteAllRetiredUserStats();
-            retiredTcStatsCache.invalidateAll();
+            updateCache(() -> retiredTcStatsCache.invalidateAll());
         });
     }
 
@@ -590,29 +663,164 @@ public class Storage {
      * </ul>
      *
      * <p>
-     * Since these values are not cached, we go directly to the {@link DbManager} to retrieve it.
+     * First attempts to retrieve from {@code historicStatsCache}, then if none exists, retrieves it from the {@link AsyncDbManager} without
+     * blocking the calling thread, and adds it to the {@code historicStatsCache}. Entries for a {@link HistoricStatsPeriod} that is not yet
+     * closed are removed with {@link #evictCurrentHistoricStatsCache()} once new stats have been parsed.
      *
      * @param userId the ID of the {@link User} whose {@link HistoricStats} are to be retrieved
      * @param year   the {@link Year} of the {@link HistoricStats}
      * @param month  the {@link Month} of the {@link HistoricStats}
      * @param day    the day of the {@link Month} of the {@link HistoricStats}
-     * @return the {@link HistoricStats} for the {@link User}
-     * @see DbManager#getHistoricStatsHourly(int, Year, Month, int)
-     * @see DbManager#getHistoricStatsDaily(int, Year, Month)
-     * @see DbManager#getHistoricStatsMonthly(int, Year)
+     * @return a {@link CompletableFuture} of the {@link HistoricStats} for the {@link User}
+     * @see AsyncDbManager#getHistoricStatsHourly(int, Year, Month, int)
+     * @see AsyncDbManager#getHistoricStatsDaily(int, Year, Month)
+     * @see AsyncDbManager#getHistoricStatsMonthly(int, Year)
      */
-    @NotCached
-    public Collection<HistoricStats> getHistoricStats(final int userId, final Year year, final @Nullable Month month, final int day) {
-        return dbManagerFunction(dbManager -> {
-            if (month == null) {
-                return dbManager.getHistoricStatsMonthly(userId, year);
-            }
+    @Cached
+    public CompletableFuture<Collection<HistoricStats>> getHistoricStats(final int userId, final Year year, final @Nullable Month month,
+                                                                         final int day) {
+        final HistoricStatsKey key = new HistoricStatsKey(userId, new HistoricStatsPeriod(year, month, day));
+        final Collection<HistoricStats> fromCache = getCachedHistoricStats(key);
+
+        if (fromCache != null) {
+            return CompletableFuture.completedFuture(fromCache);
+        }
+
+        LOGGER.trace("Cache miss! Historic stats");
+        final long generation = historicStatsCacheGeneration.get();
+        return getHistoricStatsFromDb(userId, year, month, day)
+            .thenApply(fromDb -> {
+                cacheHistoricStats(key, generation, fromDb);
+                return fromDb;
+            });
+    }
 
-            if (day == 0) {
-                return dbManager.getHistoricStatsDaily(userId, year, month);
+    /**
+     * Retrieves the {@link HistoricStats} for multiple {@link User} IDs for a specific {@code day} or {@link Month}.
+     *
+     * <p>
+     * If the {@code day} is <b>0</b>, the daily {@link HistoricStats} are returned for the given {@link Year}/{@link Month}, otherwise the hourly
+     * {@link HistoricStats} are returned for the given {@link Year}/{@link Month}/{@code day}.
+     *
+     * <p>
+     * Any {@link User}s with an entry in the {@code historicStatsCache} are retrieved from there, then all remaining {@link User}s are
+     * retrieved from the {@link AsyncDbManager} in a single query, and added to the {@code historicStatsCache}.
+     *
+     * @param userIds the IDs of the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year    the {@link Year} of the {@link HistoricStats}
+     * @param month   the {@link Month} of the {@link HistoricStats}
+     * @param day     the day of the {@link Month} of the {@link HistoricStats}
+     * @return a {@link CompletableFuture} of the {@link HistoricStats} keyed by {@link User} ID
+     * @see AsyncDbManager#getHistoricStatsHourlyForUsers(Collection, Year, Month, int)
+     * @see AsyncDbManager#getHistoricStatsDailyForUsers(Collection, Year, Month)
+     */
+    @Cached
+    public CompletableFuture<Map<Integer, Collection<HistoricStats>>> getHistoricStatsForUsers(final Collection<Integer> userIds, final Year year,
+                                                                                              final Month month, final int day) {
+        final HistoricStatsPeriod period = new HistoricStatsPeriod(year, month, day);
+        final Map<Integer, Collection<HistoricStats>> historicStatsByUserId = new HashMap<>();
+        final Collection<Integer> uncachedUserIds = new ArrayList<>();
+
+        for (final int userId : userIds) {
+            final Collection<HistoricStats> fromCache = getCachedHistoricStats(new HistoricStatsKey(userId, period));
+            if (fromCache == null) {
+                uncachedUserIds.add(userId);
+            } else {
+                historicStatsByUserId.put(userId, fromCache);
             }
+        }
+
+        if (uncachedUserIds.isEmpty()) {
+            return CompletableFuture.completedFuture(historicStatsByUserId);
+        }
+
+        LOGGER.trace("Cache miss! Historic stats for {} users", uncachedUserIds::size);
+        final long generation = historicStatsCacheGeneration.get();
+        final CompletionStage<Map<Integer, Collection<HistoricStats>>> fromDb = day == 0
+            ? asyncDbManagerImpl.getHistoricStatsDailyForUsers(uncachedUserIds, year, month)
+            : asyncDbManagerImpl.getHistoricStatsHourlyForUsers(uncachedUserIds, year, month, day);
+
+        return fromDb.toCompletableFuture()
+            .thenApply(uncachedHistoricStats -> {
+                for (final Map.Entry<Integer, Collection<HistoricStats>> userStats : uncachedHistoricStats.entrySet()) {
+                    historicStatsByUserId.put(userStats.getKey(), userStats.getValue());
+                    cacheHistoricStats(new HistoricStatsKey(userStats.getKey(), period), generation, userStats.getValue());
+                }
+                return historicStatsByUserId;
+            });
+    }
+
+    private @Nullable Collection<HistoricStats> getCachedHistoricStats(final HistoricStatsKey key) {
+        final CachedHistoricStats cachedHistoricStats = historicStatsCache.getIfPresent(key);
+        if (cachedHistoricStats == null
+            || !cachedHistoricStats.isValid(key.period(), historicStatsCacheGeneration.get(), historicStatsCacheFullEvictionGeneration.get())) {
+            return null;
+        }
+        return cachedHistoricStats.historicStats();
+    }
+
+    // The generation is stored with the entry and checked on read, so an eviction between the DB query and this call cannot be missed
+    private void cacheHistoricStats(final HistoricStatsKey key, final long generation, final Collection<HistoricStats> historicStats) {
+        historicStatsCache.asMap().merge(key, new CachedHistoricStats(generation, historicStats), CachedHistoricStats::latest);
+    }
 
-            return dbManager.getHistoricStatsHourly(userId, year, month, day);
+    private CompletableFuture<Collection<HistoricStats>> getHistoricStatsFromDb(final int userId, final Year year, final @Nullable Month month,
+                                                                               final int day) {
+        if (month == null) {
+            return asyncDbManagerImpl.getHistoricStatsMonthly(userId, year).toCompletableFuture();
+        }
+
+        if (day == 0) {
+            return asyncDbManagerImpl.getHistoricStatsDaily(userId, year, month).toCompletableFuture();
+        }
+
+        return asyncDbManagerImpl.getHistoricStatsHourly(userId, year, month, day).toCompletableFuture();
+    }
+
+    /**
+     * Evicts all {@link HistoricStats} for any {@link HistoricStatsPeriod} that is not yet closed from the {@code historicStatsCache}.
+     *
+     * @see HistoricStatsPeriod#isClosed()
+     */
+    @Cached
+    public void evictCurrentHistoricStatsCache() {
+        updateCache(() -> {
+            historicStatsCacheGeneration.incrementAndGet();
+            historicStatsCache.asMap().keySet().removeIf(key -> !key.period().isClosed());
+        });
+    }
+
+    /**
+     * Evicts all {@link HistoricStats} from the {@code historicStatsCache}.
+     */
+    @Cached
+    public void evictHistoricStatsCache() {
+        updateCache(() -> {
+            historicStatsCacheFullEvictionGeneration.set(historicStatsCacheGeneration.incrementAndGet());
+            historicStatsCache.invalidateAll();
+        });
+    }
+
+    /**
+     * Downsamples the stats persisted before the provided {@link Timestamp} to a single row per {@link User} per day.
+     *
+     * <p>
+     * Only stats for closed months are expected to be downsampled, so we go directly to the {@link DbManager}. Since the hourly
+     * {@link HistoricStats} of the downsampled days will have changed, the {@code historicStatsCache} is evicted if any rows are removed.
+     *
+     * @param before    only stats before this {@link Timestamp} are downsampled
+     * @param batchSize the maximum number of {@link User} days to downsample
+     * @return the number of rows removed
+     * @see DbManager#downsampleStatsToDaily(Timestamp, int)
+     */
+    @Cached
+    public long downsampleStatsToDaily(final Timestamp before, final int batchSize) {
+        return dbManagerFunction(dbManager -> {
+            final long removedRows = dbManager.downsampleStatsToDaily(before, batchSize);
+            if (removedRows != 0L) {
+                evictHistoricStatsCache();
+            }
+            return removedRows;
         });
     }
 
@@ -629,7 +837,7 @@ public class Storage {
     public UserStats createTotalStats(final UserStats userStats) {
         return dbManagerFunction(dbManager -> {
             final UserStats fromDb = dbManager.createTotalStats(userStats);
-            totalStatsCache.put(fromDb.userId(), fromDb);
+            updateCache(() -> totalStatsCache.put(fromDb.userId(), fromDb));
             return fromDb;
         });
     }
@@ -655,7 +863,7 @@ public class Storage {
         LOGGER.trace("Cache miss! Total stats");
         return dbManagerFunction(dbManager -> {
             final Optional<UserStats> fromDb = dbManager.getTotalStats(userId);
-            fromDb.ifPresent(userStats -> totalStatsCache.put(userId, userStats));
+            fromDb.ifPresent(userStats -> updateCache(() -> totalStatsCache.put(userId, userStats)));
             return fromDb;
         });
     }
@@ -678,7 +886,7 @@ public class Storage {
     public OffsetTcStats createOrUpdateOffsetStats(final int userId, final OffsetTcStats offsetTcStats) {
         return dbManagerFunction(dbManager -> {
             final OffsetTcStats fromDb = dbManager.createOrUpdateOffsetStats(userId, offsetTcStats);
-            offsetTcStatsCache.put(userId, fromDb);
+            updateCache(() -> offsetTcStatsCache.put(userId, fromDb));
             return fromDb;
         });
     }
@@ -704,7 +912,7 @@ public class Storage {
         LOGGER.trace("Cache miss! Offset stats");
         return dbManagerFunction(dbManager -> {
             final Optional<OffsetTcStats> fromDb = dbManager.getOffsetStats(userId);
-            fromDb.ifPresent(offsetTcStats -> offsetTcStatsCache.put(userId, offsetTcStats));
+            fromDb.ifPresent(offsetTcStats -> updateCache(() -> offsetTcStatsCache.put(userId, offsetTcStats)));
             return fromDb;
         });
     }
@@ -721,7 +929,7 @@ public class Storage {
     public void deleteOffsetStats(final int userId) {
         dbManagerConsumer(dbManager -> {
             dbManager.deleteOffsetStats(userId);
-            offsetTcStatsCache.invalidate(userId);
+            updateCache(() -> offsetTcStatsCache.invalidate(userId));
         });
     }
 
@@ -735,7 +943,7 @@ public class Storage {
     public void deleteAllOffsetTcStats() {
         dbManagerConsumer(dbManager -> {
             dbManager.deleteAllOffsetStats();
-            offsetTcStatsCache.invalidateAll();
+            updateCache(() -> offsetTcStatsCache.invalidateAll());
         });
     }
 
@@ -752,7 +960,27 @@ public class Storage {
     public UserTcStats createHourlyTcStats(final UserTcStats userTcStats) {
         return dbManagerFunction(dbManager -> {
             final UserTcStats fromDb = dbManager.createHourlyTcStats(userTcStats);
-            tcStatsCache.put(userTcStats.userId(), fromDb);
+            updateCache(() -> tcStatsCache.put(userTcStats.userId(), fromDb));
+            return fromDb;
+        });
+    }
+
+    /**
+     * Creates multiple {@link UserTcStats} in a single bulk write.
+     *
+     * <p>
+     * Persists them with the {@link DbManager}, then evicts each affected {@link User} from the {@code tcStatsCache}, so their latest
+     * {@link UserTcStats} is next retrieved from the {@link DbManager}.
+     *
+     * @param userTcStats the {@link UserTcStats} to be created
+     * @return the created {@link UserTcStats}
+     * @see DbManager#createBulkHourlyTcStats(Collection)
+     */
+    @Cached
+    public Collection<UserTcStats> createBulkHourlyTcStats(final Collection<UserTcStats> userTcStats) {
+        return dbManagerFunction(dbManager -> {
+            final Collection<UserTcStats> fromDb = dbManager.createBulkHourlyTcStats(userTcStats);
+            updateCache(() -> fromDb.forEach(createdUserTcStats -> tcStatsCache.invalidate(createdUserTcStats.userId())));
             return fromDb;
         });
     }
@@ -777,7 +1005,7 @@ public class Storage {
         LOGGER.trace("Cache miss! Hourly TC stats");
         return dbManagerFunction(dbManager -> {
             final Optional<UserTcStats> fromDb = dbManager.getHourlyTcStats(userId);
-            fromDb.ifPresent(userTcStats -> tcStatsCache.put(userId, userTcStats));
+            fromDb.ifPresent(userTcStats -> updateCache(() -> tcStatsCache.put(userId, userTcStats)));
             return fromDb;
         });
     }
@@ -795,7 +1023,7 @@ public class Storage {
     public UserStats createInitialStats(final UserStats userStats) {
         return dbManagerFunction(dbManager -> {
             final UserStats fromDb = dbManager.createInitialStats(userStats);
-            initialStatsCache.put(fromDb.userId(), fromDb);
+            updateCache(() -> initialStatsCache.put(fromDb.userId(), fromDb));
             return fromDb;
         });
     }
@@ -820,11 +1048,50 @@ public class Storage {
         LOGGER.trace("Cache miss! Initial stats");
         return dbManagerFunction(dbManager -> {
             final Optional<UserStats> fromDb = dbManager.getInitialStats(userId);
-            fromDb.ifPresent(userStats -> initialStatsCache.put(userId, userStats));
+            fromDb.ifPresent(userStats -> updateCache(() -> initialStatsCache.put(userId, userStats)));
             return fromDb;
         });
     }
 
+    /**
+     * Resets the {@code Team Competition} stats for all {@link User}s.
+     *
+     * <p>
+     * Resets the stats with the {@link DbManager}, then reloads the stats caches in bulk:
+     * <ul>
+     *     <li>{@code initialStatsCache} is loaded with the new initial {@link UserStats}</li>
+     *     <li>{@code tcStatsCache} is loaded with empty {@link UserTcStats}</li>
+     *     <li>{@code offsetTcStatsCache} and {@code retiredTcStatsCache} are evicted</li>
+     * </ul>
+     *
+     * @param timestamp the {@link Timestamp} of the reset
+     * @see DbManager#resetAllTeamCompetitionStats(Timestamp)
+     */
+    @Cached
+    public void resetAllTeamCompetitionStats(final Timestamp timestamp) {
+        dbManagerConsumer(dbManager -> {
+            final Collection<UserStats> initialStats = dbManager.resetAllTeamCompetitionStats(timestamp);
+
+            final Map<Integer, UserStats> initialStatsByUserId = initialStats
+                .stream()
+                .collect(Collectors.toMap(UserStats::userId, userStats -> userStats));
+            final Map<Integer, UserTcStats> emptyTcStatsByUserId = initialStats
+                .stream()
+                .map(userStats -> UserTcStats.create(userStats.userId(), timestamp, Stats.DEFAULT_POINTS, UserTcStats.DEFAULT_MULTIPLIED_POINTS,
+                    Stats.DEFAULT_UNITS))
+                .collect(Collectors.toMap(UserTcStats::userId, userTcStats -> userTcStats));
+
+            updateCache(() -> {
+                offsetTcStatsCache.invalidateAll();
+                retiredTcStatsCache.invalidateAll();
+                initialStatsCache.invalidateAll();
+                initialStatsCache.putAll(initialStatsByUserId);
+                tcStatsCache.invalidateAll();
+                tcStatsCache.putAll(emptyTcStatsByUserId);
+            });
+        });
+    }
+
     /**
      * Creates a {@link AllTeamsSummary}, then adds it to {@code allTeamsSummaryCache}.
      *
@@ -833,7 +1100,7 @@ public class Storage {
      */
     @Cached
     public AllTeamsSummary createAllTeamsSummary(final AllTeamsSummary allTeamsSummary) {
-        allTeamsSummaryCache.put(ALL_TEAMS_SUMMARY_ID, allTeamsSummary);
+        updateCache(() -> allTeamsSummaryCache.put(ALL_TEAMS_SUMMARY_ID, allTeamsSummary));
         return allTeamsSummary;
     }
 
@@ -852,7 +1119,7 @@ public class Storage {
      */
     @Cached
     public void evictAllTeamsSummaryCache() {
-        allTeamsSummaryCache.invalidateAll();
+        updateCache(() -> allTeamsSummaryCache.invalidateAll());
     }
 
     /**
@@ -860,7 +1127,7 @@ public class Storage {
      */
     @Cached
     public void evictTcStatsCache() {
-        tcStatsCache.invalidateAll();
+        updateCache(() -> tcStatsCache.invalidateAll());
     }
 
     /**
@@ -868,7 +1135,7 @@ public class Storage {
      */
     @Cached
     public void evictInitialStatsCache() {
-        initialStatsCache.invalidateAll();
+        updateCache(() -> initialStatsCache.invalidateAll());
     }
 
     /**
@@ -932,6 +1199,49 @@ public class Storage {
         return dbManagerFunction(dbManager -> dbManager.updateUserChange(userChangeToUpdate));
     }
 
+    /**
+     * Executes the provided operations as a single unit of work, using {@link DbManager#inTransaction(Function)}.
+     *
+     * <p>
+     * Any cache updates made by the {@code operations} are not applied immediately, and are only applied once the unit of work has been
+     * committed. If the unit of work is rolled back, the caches are left unchanged. If this is called while a unit of work is already in
+     * progress, the {@code operations} join the existing unit of work.
+     *
+     * @param operations the operations to execute within a single unit of work
+     * @param <T>        the type of the result of the {@code operations}
+     * @return the result of the {@code operations}
+     */
+    @Cached
+    public <T> T inTransaction(final Supplier<T> operations) {
+        if (PENDING_CACHE_UPDATES.isBound()) {
+            return operations.get();
+        }
+
+        final List<Runnable> pendingCacheUpdates = new ArrayList<>();
+        final T result = dbManagerFunction(dbManager ->
+            dbManager.inTransaction(_ -> ScopedValue.where(PENDING_CACHE_UPDATES, pendingCacheUpdates).call(operations::get))
+        );
+
+        LOGGER.trace("Applying {} cache updates after commit", pendingCacheUpdates.size());
+        pendingCacheUpdates.forEach(Runnable::run);
+        return result;
+    }
+
+    /**
+     * Executes the provided operations as a single unit of work, with no result.
+     *
+     * @param operations the operations to execute within a single unit of work
+     * @see #inTransaction(Supplier)
+     */
+    @Cached
+    public void inTransaction(final Runnable operations) {
+        final Supplier<@Nullable Void> operationsWithoutResult = () -> {
+            operations.run();
+            return null;
+        };
+        inTransaction(operationsWithoutResult);
+    }
+
     /**
      * Prints the contents of caches to the system log.
      */
@@ -953,6 +1263,31 @@ public class Storage {
         LOGGER.info("AllTeamsSummaryCache: {}", allTeamsSummaryCache.asMap());
     }
 
+    private static void updateCache(final Runnable cacheUpdate) {
+        if (PENDING_CACHE_UPDATES.isBound()) {
+            PENDING_CACHE_UPDATES.get().add(cacheUpdate);
+            return;
+        }
+
+        cacheUpdate.run();
+    }
+
+    private record HistoricStatsKey(int userId, HistoricStatsPeriod period) {
+
+    }
+
+    private record CachedHistoricStats(long generation, Collection<HistoricStats> historicStats) {
+
+        // Entries for a period that is not yet closed are outdated by any eviction, entries for a closed period only by a full eviction
+        boolean isValid(final HistoricStatsPeriod period, final long currentGeneration, final long fullEvictionGeneration) {
+            return generation >= fullEvictionGeneration && (period.isClosed() || generation == currentGeneration);
+        }
+
+        static CachedHistoricStats latest(final CachedHistoricStats first, final CachedHistoricStats second) {
+            return second.generation() >= first.generation() ? second : first;
+        }
+    }
+
     private <T> T dbManagerFunction(final Function<? super DbManager, T> function) {
         return function.apply(dbManagerImpl);
     }
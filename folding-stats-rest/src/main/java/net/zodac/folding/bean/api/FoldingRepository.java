@@ -18,6 +18,7 @@
 package net.zodac.folding.bean.api;
 
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.UserAuthenticationResult;
 import net.zodac.folding.api.state.ParsingState;
 import net.zodac.folding.api.tc.Hardware;
@@ -52,6 +53,14 @@ public interface FoldingRepository {
      */
     Hardware createHardware(Hardware hardware);
 
+    /**
+     * Creates multiple {@link Hardware}s in a single unit of work. If any {@link Hardware} cannot be created, none are created.
+     *
+     * @param hardware the {@link Hardware}s to create
+     * @return the created {@link Hardware}s, with IDs, in the same order as the input
+     */
+    List<Hardware> createAllHardware(Collection<Hardware> hardware);
+
     /**
      * Retrieves all {@link Hardware}s.
      *
@@ -80,6 +89,20 @@ public interface FoldingRepository {
      */
     Hardware updateHardware(Hardware hardwareToUpdate, Hardware existingHardware);
 
+    /**
+     * Updates multiple existing {@link Hardware}s in a single unit of work. If any {@link Hardware} cannot be updated, none are updated.
+     *
+     * <p>
+     * The current stats of any {@link User}s with a state change are retrieved before the unit of work is started, and the state changes
+     * are handled in the same unit of work as the {@link Hardware}s.
+     *
+     * @param hardwareToUpdate the {@link Hardware}s with updated values, with IDs
+     * @return the updated {@link Hardware}s, in the same order as the input
+     * @throws NotFoundException thrown if any {@link Hardware} cannot be found
+     * @see #updateHardware(Hardware, Hardware)
+     */
+    List<Hardware> updateAllHardware(Collection<Hardware> hardwareToUpdate);
+
     /**
      * Deletes a {@link Hardware}.
      *
@@ -87,6 +110,13 @@ public interface FoldingRepository {
      */
     void deleteHardware(Hardware hardware);
 
+    /**
+     * Deletes multiple {@link Hardware}s in a single unit of work. If any {@link Hardware} cannot be deleted, none are deleted.
+     *
+     * @param hardware the {@link Hardware}s to delete
+     */
+    void deleteAllHardware(Collection<Hardware> hardware);
+
     /**
      * Creates a {@link Team}.
      *
@@ -100,6 +130,18 @@ public interface FoldingRepository {
      */
     Team createTeam(Team team);
 
+    /**
+     * Creates multiple {@link Team}s in a single unit of work. If any {@link Team} cannot be created, none are created.
+     *
+     * <p>
+     * If the system is not in {@link ParsingState#DISABLED}, we will update stats for all {@link User}s once all {@link Team}s have been created.
+     *
+     * @param teams the {@link Team}s to create
+     * @return the created {@link Team}s, with IDs, in the same order as the input
+     * @see #createTeam(Team)
+     */
+    List<Team> createAllTeams(Collection<Team> teams);
+
     /**
      * Retrieves all {@link Team}.
      *
@@ -124,6 +166,15 @@ public interface FoldingRepository {
      */
     Team updateTeam(Team teamToUpdate);
 
+    /**
+     * Updates multiple existing {@link Team}s in a single unit of work. If any {@link Team} cannot be updated, none are updated.
+     *
+     * @param teamsToUpdate the {@link Team}s with updated values, with IDs
+     * @return the updated {@link Team}s, in the same order as the input
+     * @see #updateTeam(Team)
+     */
+    List<Team> updateAllTeams(Collection<Team> teamsToUpdate);
+
     /**
      * Deletes a {@link Team}.
      *
@@ -131,6 +182,13 @@ public interface FoldingRepository {
      */
     void deleteTeam(Team team);
 
+    /**
+     * Deletes multiple {@link Team}s in a single unit of work. If any {@link Team} cannot be deleted, none are deleted.
+     *
+     * @param teams the {@link Team}s to delete
+     */
+    void deleteAllTeams(Collection<Team> teams);
+
     /**
      * Creates a {@link User}.
      *
@@ -142,6 +200,19 @@ public interface FoldingRepository {
      */
     User createUser(User user);
 
+    /**
+     * Creates multiple {@link User}s in a single unit of work. If any {@link User} cannot be created, none are created.
+     *
+     * <p>
+     * The current stats of each {@link User} are retrieved before the unit of work is started, and are used to create their initial
+     * {@link UserStats}. A single {@code Team Competition} stats parse is triggered once all {@link User}s have been created.
+     *
+     * @param users the {@link User}s to create
+     * @return the created {@link User}s, with IDs, in the same order as the input
+     * @see #createUser(User)
+     */
+    List<User> createAllUsers(Collection<User> users);
+
     /**
      * Retrieves all {@link User}s, with passkeys unmodified.
      *
@@ -188,6 +259,21 @@ public interface FoldingRepository {
      */
     User updateUser(User userToUpdate, User existingUser);
 
+    /**
+     * Updates multiple existing {@link User}s in a single unit of work. If any {@link User} cannot be updated, none are updated.
+     *
+     * <p>
+     * The current stats of any {@link User}s with a state change are retrieved before the unit of work is started, and the state and
+     * {@link Team} changes are handled in the same unit of work as the {@link User}s. If any {@link User} changed {@link Team}, a single
+     * {@code Team Competition} stats parse is triggered once all {@link User}s have been updated.
+     *
+     * @param usersToUpdate the {@link User}s with updated values, with IDs
+     * @return the updated {@link User}s, in the same order as the input
+     * @throws NotFoundException thrown if any {@link User} cannot be found
+     * @see #updateUser(User, User)
+     */
+    List<User> updateAllUsers(Collection<User> usersToUpdate);
+
     /**
      * Deletes a {@link User}.
      *
@@ -199,6 +285,14 @@ public interface FoldingRepository {
      */
     void deleteUser(User user);
 
+    /**
+     * Deletes multiple {@link User}s in a single unit of work. If any {@link User} cannot be deleted, none are deleted.
+     *
+     * @param users the {@link User}s to delete
+     * @see #deleteUser(User)
+     */
+    void deleteAllUsers(Collection<User> users);
+
     /**
      * Retrieves all {@link User}s currently referencing the provided {@link Team}.
      *
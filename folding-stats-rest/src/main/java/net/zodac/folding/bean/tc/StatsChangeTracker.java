@@ -0,0 +1,97 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.bean.tc;
+
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
+import net.zodac.folding.bean.StatsRepository;
+import net.zodac.folding.rest.api.tc.AllTeamsSummary;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
+import net.zodac.folding.rest.api.tc.stream.StatsSnapshot;
+import net.zodac.folding.rest.api.tc.stream.StatsUpdate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Component} which assigns a monotonically increasing version to the {@code Team Competition} stats, bumped each time the stats are
+ * written, so clients can request only the changes since the version they last retrieved.
+ *
+ * <p>
+ * The number of versions kept can be configured using the environment variable:
+ * <ul>
+ *     <li>{@code STATS_CHANGES_HISTORY_SIZE}</li>
+ * </ul>
+ */
+@Component
+public class StatsChangeTracker {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int HISTORY_SIZE = EnvironmentVariableUtils.getIntOrDefault("STATS_CHANGES_HISTORY_SIZE", 24);
+
+    // Starting from the startup time means a version from before a restart is never found, and forces a resync
+    private final StatsVersionHistory versionHistory = StatsVersionHistory.create(System.currentTimeMillis(), HISTORY_SIZE);
+    private final StatsRepository statsRepository;
+
+    /**
+     * {@link Autowired} constructor.
+     *
+     * @param statsRepository the {@link StatsRepository}
+     */
+    @Autowired
+    public StatsChangeTracker(final StatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Records the latest {@link AllTeamsSummary} as the next stats version.
+     *
+     * @return the {@link StatsChanges} from the previous version
+     */
+    public StatsChanges recordNextVersion() {
+        final StatsChanges statsChanges = versionHistory.record(StatsSnapshot.create(statsRepository.getAllTeamsSummary()));
+        LOGGER.debug("Recorded TC stats version {}", statsChanges.version());
+        return statsChanges;
+    }
+
+    /**
+     * Retrieves the {@link StatsChanges} since the provided version.
+     *
+     * @param sinceVersion the version previously retrieved by the client
+     * @return the {@link StatsChanges}
+     */
+    public StatsChanges getChangesSince(final long sinceVersion) {
+        initialiseIfEmpty();
+        return versionHistory.changesSince(sinceVersion);
+    }
+
+    /**
+     * Retrieves the {@link StatsSnapshot} for the current version as a full {@link StatsUpdate}, along with the current version.
+     *
+     * @return the {@link StatsChanges} with the current version and the full {@link StatsUpdate}
+     */
+    public StatsChanges getLatestAsFullUpdate() {
+        initialiseIfEmpty();
+        return versionHistory.latestAsFullUpdate();
+    }
+
+    // Until the first stats update after startup, there is no version for a client to request changes from
+    private void initialiseIfEmpty() {
+        versionHistory.recordIfEmpty(() -> StatsSnapshot.create(statsRepository.getAllTeamsSummary()));
+    }
+}
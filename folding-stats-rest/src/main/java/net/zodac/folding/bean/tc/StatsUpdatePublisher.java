@@ -0,0 +1,269 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.bean.tc;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
+import net.zodac.folding.rest.api.tc.stream.StatsUpdate;
+import net.zodac.folding.rest.exception.ServiceUnavailableException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * {@link Component} which pushes {@link StatsUpdate}s to subscribers of the {@code Team Competition} stats stream.
+ *
+ * <p>
+ * Each new subscriber first receives a full {@link StatsUpdate}, then only the teams and users whose rank or points have changed each time
+ * {@link #publishUpdate()} is called, which is once a stats parsing, stats reset or stats catch-up completes. Other writes (such as creating or
+ * updating a user) are not published until the next of these, when the stats are next parsed. A comment is sent to all subscribers on a fixed
+ * interval as a heartbeat, which keeps idle connections open through proxies and removes subscribers which have disconnected.
+ *
+ * <p>
+ * Each subscriber has its own sending thread, so events are delivered to it in order, and a slow subscriber never delays any other subscriber
+ * or the stats being written. A subscriber which has not accepted an event within the send timeout is completed and removed.
+ *
+ * <p>
+ * Each event ID is the stats version from the {@link StatsChangeTracker}, so a client can switch to polling for changes from that version.
+ *
+ * <p>
+ * The stream can be configured using the environment variables:
+ * <ul>
+ *     <li>{@code STATS_STREAM_MAXIMUM_SUBSCRIBERS}, the maximum number of concurrent subscribers, after which new subscriptions are rejected</li>
+ *     <li>{@code STATS_STREAM_HEARTBEAT_SECONDS}, the number of seconds between each heartbeat</li>
+ *     <li>{@code STATS_STREAM_SEND_TIMEOUT_SECONDS}, the number of seconds a subscriber can take to accept an event before it is removed</li>
+ * </ul>
+ */
+@Component
+public class StatsUpdatePublisher implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MAXIMUM_SUBSCRIBERS = EnvironmentVariableUtils.getIntOrDefault("STATS_STREAM_MAXIMUM_SUBSCRIBERS", 100);
+    private static final Duration SEND_TIMEOUT =
+        Duration.ofSeconds(EnvironmentVariableUtils.getIntOrDefault("STATS_STREAM_SEND_TIMEOUT_SECONDS", 30));
+    private static final String UPDATE_EVENT_NAME = "stats-update";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    // Subscribers are expected to reconnect (which EventSource does automatically), so connections are not held open indefinitely
+    private static final Duration SUBSCRIPTION_TIMEOUT = Duration.ofHours(1L);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Semaphore availableSubscriptions = new Semaphore(MAXIMUM_SUBSCRIBERS);
+
+    private final StatsChangeTracker statsChangeTracker;
+
+    /**
+     * {@link Autowired} constructor.
+     *
+     * @param statsChangeTracker the {@link StatsChangeTracker}
+     */
+    @Autowired
+    public StatsUpdatePublisher(final StatsChangeTracker statsChangeTracker) {
+        this.statsChangeTracker = statsChangeTracker;
+    }
+
+    /**
+     * Creates a new subscription to the stats stream, and sends the current stats as a full {@link StatsUpdate}.
+     *
+     * @return the {@link SseEmitter} for the subscriber
+     * @throws ServiceUnavailableException thrown if the maximum number of subscribers has been reached
+     */
+    public SseEmitter subscribe() {
+        final StatsChanges latestStats = statsChangeTracker.getLatestAsFullUpdate();
+
+        if (!availableSubscriptions.tryAcquire()) {
+            LOGGER.warn("Rejecting stats stream subscription, maximum of {} subscribers reached", MAXIMUM_SUBSCRIBERS);
+            throw new ServiceUnavailableException();
+        }
+
+        final Subscriber subscriber = Subscriber.create(new SseEmitter(SUBSCRIPTION_TIMEOUT.toMillis()));
+        subscriber.emitter().onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter().onTimeout(() -> {
+            unsubscribe(subscriber);
+            subscriber.emitter().complete();
+        });
+        subscriber.emitter().onError(_ -> unsubscribe(subscriber));
+
+        // The full update is queued before the subscriber is added, so it is always sent before any other update
+        send(subscriber, () -> updateEvent(latestStats.version(), latestStats.changes()));
+        subscribers.add(subscriber);
+
+        // If the full update already failed, the subscriber was unsubscribed before it was added, so it must not be kept
+        if (subscriber.isRemoved()) {
+            subscribers.remove(subscriber);
+        }
+        LOGGER.debug("New stats stream subscriber, {} active", subscribers.size());
+
+        return subscriber.emitter();
+    }
+
+    /**
+     * Records the next stats version with the {@link StatsChangeTracker}, then publishes the teams and users whose rank or points have changed
+     * since the previous version to all subscribers. Should be called once the stats have been written.
+     *
+     * <p>
+     * The version is recorded on the calling thread. The {@link StatsUpdate} is then queued for each subscriber and sent asynchronously, so this
+     * method does not wait for any subscriber to receive it.
+     */
+    public void publishUpdate() {
+        final StatsChanges statsChanges = statsChangeTracker.recordNextVersion();
+
+        if (subscribers.isEmpty()) {
+            LOGGER.trace("No stats stream subscribers, not publishing update");
+            return;
+        }
+
+        final StatsUpdate statsUpdate = statsChanges.changes();
+        if (statsUpdate.isEmpty()) {
+            LOGGER.debug("No changes to TC stats, not publishing update");
+            return;
+        }
+
+        LOGGER.debug("Publishing TC stats update for {} teams and {} users to {} subscribers", statsUpdate.teams().size(),
+            statsUpdate.users().size(), subscribers.size());
+        sendToAll(() -> updateEvent(statsChanges.version(), statsUpdate));
+    }
+
+    /**
+     * Scheduled execution to remove any subscriber which has exceeded the send timeout, then send a heartbeat comment to all remaining
+     * subscribers.
+     */
+    @Scheduled(fixedRateString = "${STATS_STREAM_HEARTBEAT_SECONDS:15}", timeUnit = TimeUnit.SECONDS)
+    public void sendHeartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        final long currentTimeMillis = System.currentTimeMillis();
+        for (final Subscriber subscriber : subscribers) {
+            if (subscriber.isSendingSince(currentTimeMillis - SEND_TIMEOUT.toMillis())) {
+                LOGGER.debug("Stats stream subscriber has not accepted an event within {}, removing", SEND_TIMEOUT);
+                unsubscribe(subscriber);
+
+                // Completed on a separate thread, since the emitter may still be held by the blocked send until it is interrupted
+                Thread.startVirtualThread(() -> subscriber.emitter().completeWithError(new TimeoutException("Stats stream send timed out")));
+            }
+        }
+
+        sendToAll(() -> SseEmitter.event().comment(HEARTBEAT_COMMENT));
+    }
+
+    /**
+     * Completes all active subscriptions and stops sending events.
+     */
+    @Override
+    public void close() {
+        for (final Subscriber subscriber : subscribers) {
+            subscriber.sendExecutor().shutdownNow();
+            subscriber.emitter().complete();
+        }
+        subscribers.clear();
+    }
+
+    private void sendToAll(final Supplier<SseEmitter.SseEventBuilder> eventSupplier) {
+        for (final Subscriber subscriber : subscribers) {
+            send(subscriber, eventSupplier);
+        }
+    }
+
+    // A new event is built for each subscriber, since an SseEventBuilder cannot be safely reused once built
+    private void send(final Subscriber subscriber, final Supplier<SseEmitter.SseEventBuilder> eventSupplier) {
+        try {
+            subscriber.sendExecutor().execute(() -> {
+                subscriber.sendStartedMillis().set(System.currentTimeMillis());
+                try {
+                    subscriber.emitter().send(eventSupplier.get());
+                } catch (final IOException | IllegalStateException e) {
+                    LOGGER.debug("Unable to send to stats stream subscriber, removing", e);
+                    subscriber.emitter().completeWithError(e);
+                    unsubscribe(subscriber);
+                } finally {
+                    subscriber.sendStartedMillis().set(Subscriber.NOT_SENDING);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            LOGGER.trace("Stats stream subscriber already removed, not sending event", e);
+        }
+    }
+
+    private void unsubscribe(final Subscriber subscriber) {
+        // Only release the subscription once, since completion, timeout and error callbacks can all fire for the same subscriber
+        // This does not rely on the subscriber being in the set, since the first send can fail before the subscriber is added
+        if (subscriber.removed().compareAndSet(false, true)) {
+            subscribers.remove(subscriber);
+            subscriber.sendExecutor().shutdownNow();
+            availableSubscriptions.release();
+            LOGGER.debug("Stats stream subscriber removed, {} active", subscribers.size());
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder updateEvent(final long version, final StatsUpdate statsUpdate) {
+        return SseEmitter.event()
+            .id(String.valueOf(version))
+            .name(UPDATE_EVENT_NAME)
+            .data(statsUpdate, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * A subscriber to the stats stream.
+     *
+     * @param emitter           the {@link SseEmitter} for the subscriber
+     * @param sendExecutor      the single thread sending all events to the subscriber, in order
+     * @param sendStartedMillis the time the event currently being sent was started, or {@link #NOT_SENDING} if no event is being sent
+     * @param removed           whether the subscriber has been unsubscribed
+     */
+    private record Subscriber(SseEmitter emitter, ExecutorService sendExecutor, AtomicLong sendStartedMillis, AtomicBoolean removed) {
+
+        static final long NOT_SENDING = 0L;
+
+        static Subscriber create(final SseEmitter emitter) {
+            return new Subscriber(
+                emitter,
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("stats-stream").factory()),
+                new AtomicLong(NOT_SENDING),
+                new AtomicBoolean(false)
+            );
+        }
+
+        boolean isRemoved() {
+            return removed.get();
+        }
+
+        boolean isSendingSince(final long timeMillis) {
+            final long startedMillis = sendStartedMillis.get();
+            return startedMillis != NOT_SENDING && startedMillis < timeMillis;
+        }
+    }
+}
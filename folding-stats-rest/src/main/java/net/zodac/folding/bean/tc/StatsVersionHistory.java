@@ -0,0 +1,175 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.bean.tc;
+
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
+import net.zodac.folding.rest.api.tc.stream.StatsSnapshot;
+import net.zodac.folding.rest.api.tc.stream.StatsUpdate;
+
+/**
+ * Thread-safe history of the most recent versions of the {@code Team Competition} stats.
+ *
+ * <p>
+ * Each recorded {@link StatsSnapshot} is assigned the next version number. Only a limited number of versions are kept, so the changes since an
+ * older version cannot be calculated, and a client must resync with the full stats.
+ */
+final class StatsVersionHistory {
+
+    private final Lock lock = new ReentrantLock();
+    private final NavigableMap<Long, StatsSnapshot> snapshotsByVersion = new TreeMap<>();
+    private final int maximumVersions;
+    private long currentVersion;
+
+    private StatsVersionHistory(final long initialVersion, final int maximumVersions) {
+        currentVersion = initialVersion;
+        this.maximumVersions = maximumVersions;
+    }
+
+    /**
+     * Creates an empty {@link StatsVersionHistory}.
+     *
+     * <p>
+     * The {@code initialVersion} should differ between application restarts (for example, the startup time), so a version from a previous run is
+     * never mistaken for a version of the current run.
+     *
+     * @param initialVersion  the version before the first {@link StatsSnapshot} is recorded
+     * @param maximumVersions the maximum number of versions to keep
+     * @return the created {@link StatsVersionHistory}
+     * @throws IllegalArgumentException thrown if {@code maximumVersions} is less than <b>1</b>
+     */
+    static StatsVersionHistory create(final long initialVersion, final int maximumVersions) {
+        if (maximumVersions < 1) {
+            throw new IllegalArgumentException("Maximum versions must be at least 1, found: " + maximumVersions);
+        }
+        return new StatsVersionHistory(initialVersion, maximumVersions);
+    }
+
+    /**
+     * Records a new {@link StatsSnapshot} as the next version, removing the oldest version if the history is full.
+     *
+     * @param snapshot the {@link StatsSnapshot} to record
+     * @return the {@link StatsChanges} between the previous version and the new version
+     */
+    StatsChanges record(final StatsSnapshot snapshot) {
+        lock.lock();
+        try {
+            final StatsSnapshot previousSnapshot = snapshotsByVersion.isEmpty() ? StatsSnapshot.empty() : snapshotsByVersion.lastEntry().getValue();
+            currentVersion++;
+            snapshotsByVersion.put(currentVersion, snapshot);
+
+            while (snapshotsByVersion.size() > maximumVersions) {
+                snapshotsByVersion.pollFirstEntry();
+            }
+
+            return StatsChanges.create(currentVersion, StatsUpdate.between(previousSnapshot, snapshot));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a new {@link StatsSnapshot} as the first version, if nothing has been recorded yet. The check and the record are a single atomic
+     * operation, so concurrent callers record at most one version.
+     *
+     * @param snapshotSupplier the {@link Supplier} of the {@link StatsSnapshot} to record, only called if nothing has been recorded
+     */
+    void recordIfEmpty(final Supplier<StatsSnapshot> snapshotSupplier) {
+        lock.lock();
+        try {
+            if (snapshotsByVersion.isEmpty()) {
+                record(snapshotSupplier.get());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the changes from the requested version to the current version.
+     *
+     * @param sinceVersion the version previously retrieved by the client
+     * @return the {@link StatsChanges}, which requires a resync if the requested version is not in the history
+     */
+    StatsChanges changesSince(final long sinceVersion) {
+        lock.lock();
+        try {
+            final StatsSnapshot sinceSnapshot = snapshotsByVersion.get(sinceVersion);
+            if (sinceSnapshot == null) {
+                return StatsChanges.resyncRequired(currentVersion);
+            }
+
+            if (sinceVersion == currentVersion) {
+                return StatsChanges.create(currentVersion, StatsUpdate.empty());
+            }
+
+            return StatsChanges.create(currentVersion, StatsUpdate.between(sinceSnapshot, snapshotsByVersion.lastEntry().getValue()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the {@link StatsSnapshot} of the current version as a full {@link StatsUpdate}, along with the current version. Both are read
+     * in a single atomic operation, so the version always matches the {@link StatsSnapshot}.
+     *
+     * @return the {@link StatsChanges} with the current version and the full {@link StatsUpdate} of the latest {@link StatsSnapshot}
+     */
+    StatsChanges latestAsFullUpdate() {
+        lock.lock();
+        try {
+            final StatsSnapshot latestSnapshot = snapshotsByVersion.isEmpty() ? StatsSnapshot.empty() : snapshotsByVersion.lastEntry().getValue();
+            return StatsChanges.create(currentVersion, StatsUpdate.full(latestSnapshot));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the {@link StatsSnapshot} of the current version.
+     *
+     * @return the latest {@link StatsSnapshot}, or {@link Optional#empty()} if nothing has been recorded
+     */
+    Optional<StatsSnapshot> latest() {
+        lock.lock();
+        try {
+            return snapshotsByVersion.isEmpty() ? Optional.empty() : Optional.of(snapshotsByVersion.lastEntry().getValue());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the current version.
+     *
+     * @return the current version
+     */
+    long currentVersion() {
+        lock.lock();
+        try {
+            return currentVersion;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
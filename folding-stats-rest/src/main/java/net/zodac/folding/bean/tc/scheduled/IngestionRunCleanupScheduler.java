@@ -0,0 +1,72 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.bean.tc.scheduled;
+
+import java.time.LocalDateTime;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.util.DateTimeUtils;
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
+import net.zodac.folding.bean.StatsRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Scheduled} {@link Component} which deletes old {@link IngestionRun}s, so the record of stats parsing runs does not grow indefinitely.
+ *
+ * <p>
+ * Runs daily at <b>04:30</b> UTC, and can be configured using the environment variable {@code INGESTION_RUN_RETENTION_DAYS}, the number of days
+ * for which {@link IngestionRun}s are kept (minimum of <b>1</b>).
+ *
+ * @see StatsRepository#deleteIngestionRunsBefore(LocalDateTime)
+ */
+@Component
+public class IngestionRunCleanupScheduler {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+
+    private static final int RETENTION_DAYS = Math.max(1, EnvironmentVariableUtils.getIntOrDefault("INGESTION_RUN_RETENTION_DAYS", 30));
+
+    private final StatsRepository statsRepository;
+
+    /**
+     * {@link Autowired} constructor.
+     *
+     * @param statsRepository the {@link StatsRepository}
+     */
+    @Autowired
+    public IngestionRunCleanupScheduler(final StatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Scheduled execution to delete all {@link IngestionRun}s older than the configured retention.
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "UTC")
+    public void deleteExpiredIngestionRuns() {
+        try {
+            final LocalDateTime cutoff = DATE_TIME_UTILS.currentUtcLocalDateTime().minusDays(RETENTION_DAYS);
+            final long deleted = statsRepository.deleteIngestionRunsBefore(cutoff);
+            LOGGER.info("Deleted {} ingestion runs before {}", deleted, cutoff);
+        } catch (final Exception e) {
+            LOGGER.error("Error deleting expired ingestion runs", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.bean.tc.scheduled;
+
+import java.sql.Timestamp;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import net.zodac.folding.api.util.DateTimeConverterUtils;
+import net.zodac.folding.api.util.DateTimeUtils;
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
+import net.zodac.folding.bean.StatsRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Scheduled} {@link Component} which downsamples the stats of old, closed {@link Month}s to a single row per user per day.
+ *
+ * <p>
+ * Runs daily at <b>04:00</b> UTC, and can be configured using the environment variables:
+ * <ul>
+ *     <li>{@code ENABLE_STATS_DOWNSAMPLING}, disabled by default since the removed rows cannot be recovered</li>
+ *     <li>{@code STATS_DOWNSAMPLING_AGE_MONTHS}, the number of closed {@link Month}s to keep at full resolution (minimum of <b>1</b>)</li>
+ *     <li>{@code STATS_DOWNSAMPLING_BATCH_SIZE}, the maximum number of user days downsampled in a single transaction</li>
+ * </ul>
+ *
+ * @see StatsRepository#downsampleStatsToDaily(Timestamp, int)
+ */
+@Component
+public class StatsDownsamplingScheduler {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+
+    private static final boolean IS_DOWNSAMPLING_ENABLED = EnvironmentVariableUtils.isEnabled("ENABLE_STATS_DOWNSAMPLING");
+    private static final int DOWNSAMPLING_AGE_MONTHS = Math.max(1, EnvironmentVariableUtils.getIntOrDefault("STATS_DOWNSAMPLING_AGE_MONTHS", 3));
+    private static final int DOWNSAMPLING_BATCH_SIZE = EnvironmentVariableUtils.getIntOrDefault("STATS_DOWNSAMPLING_BATCH_SIZE", 500);
+
+    private final StatsRepository statsRepository;
+
+    /**
+     * {@link Autowired} constructor.
+     *
+     * @param statsRepository the {@link StatsRepository}
+     */
+    @Autowired
+    public StatsDownsamplingScheduler(final StatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Scheduled execution to downsample all stats older than the configured age.
+     *
+     * <p>
+     * Each batch is executed in its own transaction, so no lock is held for longer than a single batch.
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "UTC")
+    public void downsampleStats() {
+        if (!IS_DOWNSAMPLING_ENABLED) {
+            LOGGER.trace("Stats downsampling is not enabled");
+            return;
+        }
+
+        try {
+            final YearMonth currentMonth = YearMonth.of(DATE_TIME_UTILS.currentUtcYear().getValue(), DATE_TIME_UTILS.currentUtcMonth());
+            final YearMonth firstRetainedMonth = currentMonth.minusMonths(DOWNSAMPLING_AGE_MONTHS);
+            final Timestamp cutoff = DateTimeConverterUtils.toTimestamp(
+                DateTimeConverterUtils.getLocalDateTimeOf(Year.of(firstRetainedMonth.getYear()), firstRetainedMonth.getMonth())
+            );
+            LOGGER.info("Downsampling stats before {}", cutoff);
+
+            long totalRemoved = 0L;
+            long removed;
+            do {
+                removed = statsRepository.downsampleStatsToDaily(cutoff, DOWNSAMPLING_BATCH_SIZE);
+                totalRemoved += removed;
+            } while (removed > 0L);
+
+            LOGGER.info("Downsampled stats before {}, removed {} rows", cutoff, totalRemoved);
+        } catch (final Exception e) {
+            LOGGER.error("Error downsampling stats", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.bean.tc.scheduled;
+
+import java.util.OptionalInt;
+import net.zodac.folding.api.tc.User;
+
+/**
+ * Assigns {@link User}s to the shards used by {@link StatsScheduler}, and each shard to the minute of the hour in which it is parsed.
+ *
+ * <p>
+ * Shards are spread evenly between the <b>15th</b> and <b>55th</b> minute of the hour. Every shard is parsed within the same hour, so all
+ * stats from a single parsing cycle are stored in the same hourly slot. No shard is parsed before the {@code Team Competition} starts at
+ * <b>00:15</b> on the 3rd of the month, or after the end of month reset at <b>23:57</b>.
+ */
+final class StatsParsingShards {
+
+    /**
+     * The minute of the hour in which the first shard is parsed.
+     */
+    static final int FIRST_SLOT_MINUTE = 15;
+
+    /**
+     * The minute of the hour in which the last shard is parsed. When not sharded, all {@link User}s are parsed in this minute.
+     */
+    static final int LAST_SLOT_MINUTE = 55;
+
+    /**
+     * The maximum number of shards, one for each minute between {@link #FIRST_SLOT_MINUTE} and {@link #LAST_SLOT_MINUTE}.
+     */
+    static final int MAXIMUM_NUMBER_OF_SHARDS = LAST_SLOT_MINUTE - FIRST_SLOT_MINUTE + 1;
+
+    private final int numberOfShards;
+
+    private StatsParsingShards(final int numberOfShards) {
+        this.numberOfShards = numberOfShards;
+    }
+
+    /**
+     * Creates a {@link StatsParsingShards}.
+     *
+     * <p>
+     * The number of shards is limited to between <b>1</b> and {@link #MAXIMUM_NUMBER_OF_SHARDS}.
+     *
+     * @param numberOfShards the requested number of shards
+     * @return the created {@link StatsParsingShards}
+     */
+    static StatsParsingShards create(final int numberOfShards) {
+        return new StatsParsingShards(Math.clamp(numberOfShards, 1, MAXIMUM_NUMBER_OF_SHARDS));
+    }
+
+    /**
+     * The number of shards.
+     *
+     * @return the number of shards
+     */
+    int numberOfShards() {
+        return numberOfShards;
+    }
+
+    /**
+     * Whether the {@link User}s are split into more than one shard.
+     *
+     * @return <code>true</code> if there is more than one shard
+     */
+    boolean isSharded() {
+        return numberOfShards > 1;
+    }
+
+    /**
+     * Retrieves the shard of a {@link User}. Since the shard is based on the ID of the {@link User}, it does not change when other
+     * {@link User}s are added or removed.
+     *
+     * @param userId the ID of the {@link User}
+     * @return the shard of the {@link User}, from <b>0</b> to {@link #numberOfShards()} (exclusive)
+     */
+    int shardOf(final int userId) {
+        return Math.floorMod(userId, numberOfShards);
+    }
+
+    /**
+     * Whether the shard is the last to be parsed in the hour, in the {@link #LAST_SLOT_MINUTE}.
+     *
+     * @param shard the shard
+     * @return <code>true</code> if the shard is the last shard
+     */
+    boolean isLastShard(final int shard) {
+        return shard == numberOfShards - 1;
+    }
+
+    /**
+     * Retrieves the minute of the hour in which a shard is parsed.
+     *
+     * @param shard the shard
+     * @return the minute of the hour
+     */
+    int slotMinute(final int shard) {
+        if (!isSharded()) {
+            return LAST_SLOT_MINUTE;
+        }
+
+        return FIRST_SLOT_MINUTE + (shard * (LAST_SLOT_MINUTE - FIRST_SLOT_MINUTE) / (numberOfShards - 1));
+    }
+
+    /**
+     * Retrieves the shard to be parsed in the given minute of the hour.
+     *
+     * @param minute the minute of the hour
+     * @return the shard to be parsed, or {@link OptionalInt#empty()} if no shard is parsed in that minute
+     */
+    OptionalInt shardAt(final int minute) {
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            if (slotMinute(shard) == minute) {
+                return OptionalInt.of(shard);
+            }
+        }
+
+        return OptionalInt.empty();
+    }
+}
@@ -17,15 +17,23 @@
 
 package net.zodac.folding.bean.tc.scheduled;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.List;
+import java.util.OptionalInt;
 import net.zodac.folding.api.state.ParsingState;
 import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRunType;
+import net.zodac.folding.api.util.DateTimeUtils;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.bean.tc.user.UserStatsParser;
+import net.zodac.folding.bean.tc.user.UserStatsRetrier;
 import net.zodac.folding.state.ParsingStateManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -36,33 +44,63 @@ import org.springframework.stereotype.Component;
  *
  * <p>
  * By default, the stats will run on the 55th minute of every hours, from the 3rd of the month until the end of the month.
+ *
+ * <p>
+ * To spread the requests to the Folding@Home API (and the writes to the DB) across the hour, the {@link User}s can instead be split into
+ * shards using the <b>STATS_PARSING_SHARDS</b> environment variable. Each shard is parsed in its own minute, between the 15th and 55th minute
+ * of every hour (see {@link StatsParsingShards}), based on the supplied <b>STATS_SCHEDULED_SHARDED_PARSING_CRON</b> environment variable, and
+ * the <b>STATS_SCHEDULED_PARSING_CRON</b> environment variable is ignored. The stats write is only completed (so the
+ * summary is only recalculated once), the cached historic stats evicted and the changes published to the stats stream once per hour, after
+ * the last shard has been parsed.
+ *
+ * <p>
+ * Any {@link User}s whose stats could not be parsed are retried as soon as all {@link User}s (or the last shard) for the hour have been
+ * parsed, so their hourly stats are still recorded within the same hour, and the retry never starts while a run is still in progress.
  */
 @Component
 @ConditionalOnProperty(name = "stats.scheduled.parsing.enabled", havingValue = "true")
 public class StatsScheduler {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
 
     private final FoldingRepository foldingRepository;
     private final UserStatsParser userStatsParser;
+    private final UserStatsRetrier userStatsRetrier;
+    private final StatsParsingShards shards;
 
     /**
      * {@link Autowired} constructor.
      *
      * @param foldingRepository the {@link FoldingRepository}
      * @param userStatsParser   the {@link UserStatsParser}
+     * @param userStatsRetrier  the {@link UserStatsRetrier}
+     * @param numberOfShards    the number of shards the {@link User}s are split into for stats parsing
      */
     @Autowired
-    public StatsScheduler(final FoldingRepository foldingRepository, final UserStatsParser userStatsParser) {
+    public StatsScheduler(final FoldingRepository foldingRepository,
+                          final UserStatsParser userStatsParser,
+                          final UserStatsRetrier userStatsRetrier,
+                          @Value("${stats.parsing.shards:1}") final int numberOfShards) {
         this.foldingRepository = foldingRepository;
         this.userStatsParser = userStatsParser;
+        this.userStatsRetrier = userStatsRetrier;
+        this.shards = StatsParsingShards.create(numberOfShards);
     }
 
     /**
      * Scheduled execution to parse {@code Team Competition} stats.
+     *
+     * <p>
+     * Not executed if the {@link User}s are split into shards.
      */
     @Scheduled(cron = "${stats.scheduled.parsing.cron:0 55 * 3-31 * *}", zone = "UTC")
     public void scheduledTeamCompetitionStatsParsing() {
+        if (shards.isSharded()) {
+            return;
+        }
+
+        final LocalDateTime currentHour = DATE_TIME_UTILS.currentUtcLocalDateTime().truncatedTo(ChronoUnit.HOURS);
         final Collection<User> users = foldingRepository.getAllUsersWithPasskeys();
 
         if (users.isEmpty()) {
@@ -71,6 +109,66 @@ public class StatsScheduler {
         }
 
         ParsingStateManager.next(ParsingState.ENABLED_TEAM_COMPETITION);
-        userStatsParser.parseTcStatsForUsers(users);
+        userStatsParser.parseTcStatsForUsers(users, IngestionRunType.SCHEDULED);
+        retryFailedUsersSince(currentHour);
+    }
+
+    /**
+     * Scheduled execution to parse {@code Team Competition} stats for a single shard of {@link User}s.
+     *
+     * <p>
+     * By default, fires every minute between the first and last slot, but only parses stats if a shard is assigned to the current minute. Not
+     * executed if the {@link User}s are not split into shards.
+     *
+     * <p>
+     * Only the last shard completes the stats write, evicts the cached historic stats and publishes the changes, so the summary is only
+     * recalculated and subscribers only receive a single update for the hour.
+     */
+    // Default matches StatsParsingShards.FIRST_SLOT_MINUTE and LAST_SLOT_MINUTE
+    @Scheduled(cron = "${stats.scheduled.sharded.parsing.cron:0 15-55 * 3-31 * *}", zone = "UTC")
+    public void scheduledShardedTeamCompetitionStatsParsing() {
+        if (!shards.isSharded()) {
+            return;
+        }
+
+        final LocalDateTime currentTime = DATE_TIME_UTILS.currentUtcLocalDateTime();
+        final OptionalInt shard = shards.shardAt(currentTime.getMinute());
+        if (shard.isEmpty()) {
+            return;
+        }
+
+        final boolean isLastShard = shards.isLastShard(shard.getAsInt());
+        final List<User> users = foldingRepository.getAllUsersWithPasskeys()
+            .stream()
+            .filter(user -> shards.shardOf(user.id()) == shard.getAsInt())
+            .toList();
+
+        if (users.isEmpty()) {
+            LOGGER.debug("No TC users in shard {}/{}, not parsing stats", shard.getAsInt() + 1, shards.numberOfShards());
+            if (isLastShard) {
+                userStatsParser.publishParsedStats();
+                retryFailedUsersSince(currentTime.truncatedTo(ChronoUnit.HOURS));
+            }
+            return;
+        }
+
+        LOGGER.info("Parsing stats for {} TC users in shard {}/{}", users.size(), shard.getAsInt() + 1, shards.numberOfShards());
+        ParsingStateManager.next(ParsingState.ENABLED_TEAM_COMPETITION);
+        if (isLastShard) {
+            userStatsParser.parseTcStatsForUsers(users, IngestionRunType.SCHEDULED);
+            retryFailedUsersSince(currentTime.truncatedTo(ChronoUnit.HOURS));
+        } else {
+            userStatsParser.parseTcStatsForUsersWithoutPublishing(users, IngestionRunType.SCHEDULED);
+        }
+    }
+
+    // Called once the scheduled parsing for the hour has completed, so no failures from a run still in progress are missed. The hour is taken
+    // from the start of the run, in case the run finishes after the end of the hour
+    private void retryFailedUsersSince(final LocalDateTime currentHour) {
+        try {
+            userStatsRetrier.retryFailedUsersSince(currentHour);
+        } catch (final Exception e) {
+            LOGGER.error("Error retrying failed TC users", e);
+        }
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.bean.tc.user;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.DateTimeConverterUtils;
+
+/**
+ * Fills the hourly slots for a {@link User} that have no {@link UserTcStats}, between the latest persisted {@link UserTcStats} and the current
+ * {@link UserTcStats}, such as after the system was unavailable for one or more scheduled stats parsings.
+ *
+ * <p>
+ * Each missing hour is given a single {@link UserTcStats}, at the same minute of the hour as the latest persisted {@link UserTcStats}, so it
+ * lines up with the scheduled parsing. The values are linearly interpolated between the two {@link UserTcStats}, based on the time elapsed. If
+ * any value of the current {@link UserTcStats} is lower than the latest persisted one (for example, due to a negative offset), the latest
+ * persisted values are carried forward instead.
+ */
+final class HourlyTcStatsGap {
+
+    private HourlyTcStatsGap() {
+
+    }
+
+    /**
+     * Creates the {@link UserTcStats} for each hour with no {@link UserTcStats}, after the hour of {@code previousStats} and before the hour
+     * of {@code currentStats}.
+     *
+     * <p>
+     * At most {@code maximumHours} {@link UserTcStats} are created, for the most recent missing hours. Any earlier missing hours are left
+     * empty.
+     *
+     * @param previousStats the latest persisted {@link UserTcStats}
+     * @param currentStats  the current {@link UserTcStats}, which is not included in the result
+     * @param maximumHours  the maximum number of missing hours to fill
+     * @return the {@link UserTcStats} for the missing hours, in chronological order
+     */
+    static List<UserTcStats> fill(final UserTcStats previousStats, final UserTcStats currentStats, final int maximumHours) {
+        final LocalDateTime currentTime = DateTimeConverterUtils.toUtcLocalDateTime(currentStats.timestamp());
+        return fill(previousStats, currentStats, currentTime.truncatedTo(ChronoUnit.HOURS), maximumHours);
+    }
+
+    /**
+     * Creates the {@link UserTcStats} for each hour with no {@link UserTcStats}, after the hour of {@code previousStats} and before both the hour
+     * of {@code currentStats} and {@code endHour}.
+     *
+     * <p>
+     * The values are still interpolated up to {@code currentStats}, but no hour from {@code endHour} onwards is filled. This allows the hour in
+     * which the filling started to be left for the scheduled stats parsing, even if {@code currentStats} was retrieved in a later hour.
+     *
+     * @param previousStats the latest persisted {@link UserTcStats}
+     * @param currentStats  the current {@link UserTcStats}, which is not included in the result
+     * @param endHour       the first hour which is not filled
+     * @param maximumHours  the maximum number of missing hours to fill
+     * @return the {@link UserTcStats} for the missing hours, in chronological order
+     * @see #fill(UserTcStats, UserTcStats, int)
+     */
+    static List<UserTcStats> fill(final UserTcStats previousStats, final UserTcStats currentStats, final LocalDateTime endHour,
+                                  final int maximumHours) {
+        final LocalDateTime previousTime = DateTimeConverterUtils.toUtcLocalDateTime(previousStats.timestamp());
+        final LocalDateTime currentTime = DateTimeConverterUtils.toUtcLocalDateTime(currentStats.timestamp());
+        final LocalDateTime previousHour = previousTime.truncatedTo(ChronoUnit.HOURS);
+        final LocalDateTime currentHour = currentTime.truncatedTo(ChronoUnit.HOURS);
+        final LocalDateTime lastHour = endHour.isBefore(currentHour) ? endHour : currentHour;
+
+        final long missingHours = ChronoUnit.HOURS.between(previousHour, lastHour) - 1L;
+        if (missingHours <= 0L || maximumHours <= 0) {
+            return List.of();
+        }
+
+        final boolean isCarriedForward = currentStats.points() < previousStats.points()
+            || currentStats.multipliedPoints() < previousStats.multipliedPoints()
+            || currentStats.units() < previousStats.units();
+        final double elapsedMillis = Duration.between(previousTime, currentTime).toMillis();
+
+        final long firstMissingHour = Math.max(1L, missingHours - maximumHours + 1L);
+        final List<UserTcStats> gapStats = new ArrayList<>();
+        for (long hour = firstMissingHour; hour <= missingHours; hour++) {
+            final LocalDateTime slotTime = previousTime.plusHours(hour);
+            final double fraction = isCarriedForward ? 0.0D : Duration.between(previousTime, slotTime).toMillis() / elapsedMillis;
+
+            gapStats.add(UserTcStats.create(
+                previousStats.userId(),
+                DateTimeConverterUtils.toTimestamp(slotTime),
+                interpolate(previousStats.points(), currentStats.points(), fraction),
+                interpolate(previousStats.multipliedPoints(), currentStats.multipliedPoints(), fraction),
+                Math.toIntExact(interpolate(previousStats.units(), currentStats.units(), fraction))
+            ));
+        }
+
+        return gapStats;
+    }
+
+    private static long interpolate(final long previousValue, final long currentValue, final double fraction) {
+        return previousValue + Math.round((currentValue - previousValue) * fraction);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.bean.tc.user;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import net.zodac.folding.api.exception.ExternalConnectionException;
+import net.zodac.folding.api.state.SystemState;
+import net.zodac.folding.api.stats.FoldingStatsRetriever;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.stats.Stats;
+import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.DateTimeConverterUtils;
+import net.zodac.folding.api.util.DateTimeUtils;
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
+import net.zodac.folding.bean.StatsRepository;
+import net.zodac.folding.bean.api.FoldingRepository;
+import net.zodac.folding.bean.tc.StatsUpdatePublisher;
+import net.zodac.folding.state.SystemStateManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Catches up on the hourly {@link UserTcStats} for {@code Team Competition} {@link User}s that were not parsed, such as when the system was
+ * unavailable for one or more scheduled stats parsings.
+ *
+ * <p>
+ * The number of missing hours filled for each {@link User} can be configured using the environment variable
+ * {@code STATS_CATCH_UP_MAXIMUM_HOURS}, so that a long outage does not result in a long catch-up.
+ *
+ * @see HourlyTcStatsGap
+ */
+@Component
+public class UserStatsCatchUp {
+
+    /**
+     * The maximum number of missing hours filled for each {@link User}. Since only the most recent missing hours are filled, no hour older than
+     * this can be filled.
+     */
+    public static final int MAXIMUM_HOURS = Math.max(0, EnvironmentVariableUtils.getIntOrDefault("STATS_CATCH_UP_MAXIMUM_HOURS", 24));
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+
+    private final FoldingRepository foldingRepository;
+    private final FoldingStatsRetriever foldingStatsRetriever;
+    private final StatsRepository statsRepository;
+    private final StatsUpdatePublisher statsUpdatePublisher;
+    private final UserStatsParser userStatsParser;
+    private final UserTcStatsCalculator userTcStatsCalculator;
+
+    /**
+     * {@link Autowired} constructor.
+     *
+     * @param foldingRepository     the {@link FoldingRepository}
+     * @param foldingStatsRetriever the {@link FoldingStatsRetriever}
+     * @param statsRepository       the {@link StatsRepository}
+     * @param statsUpdatePublisher  the {@link StatsUpdatePublisher}
+     * @param userStatsParser       the {@link UserStatsParser}
+     * @param userTcStatsCalculator the {@link UserTcStatsCalculator}
+     */
+    @Autowired
+    public UserStatsCatchUp(final FoldingRepository foldingRepository,
+                            final FoldingStatsRetriever foldingStatsRetriever,
+                            final StatsRepository statsRepository,
+                            final StatsUpdatePublisher statsUpdatePublisher,
+                            final UserStatsParser userStatsParser,
+                            final UserTcStatsCalculator userTcStatsCalculator) {
+        this.foldingRepository = foldingRepository;
+        this.foldingStatsRetriever = foldingStatsRetriever;
+        this.statsRepository = statsRepository;
+        this.statsUpdatePublisher = statsUpdatePublisher;
+        this.userStatsParser = userStatsParser;
+        this.userTcStatsCalculator = userTcStatsCalculator;
+    }
+
+    /**
+     * Fills each missing hour since the latest persisted {@link UserTcStats} of every {@link User}, up to the current hour.
+     *
+     * <p>
+     * The current stats are retrieved only once for each {@link User} with missing hours, and the {@link UserTcStats} for the missing hours
+     * are interpolated between the latest persisted and the current stats (see {@link HourlyTcStatsGap}). The current stats themselves are not
+     * persisted, and are left for the next stats parsing. Any {@link UserTcStats} persisted before the start of the current month belong to a
+     * previous {@code Team Competition}, and are not used to fill any missing hours. The hour in which the catch-up started is never filled,
+     * even if the current stats are retrieved in a later hour, since it is left for the scheduled stats parsing.
+     *
+     * <p>
+     * The catch-up holds the same lock as the {@link UserStatsParser}, so it never runs at the same time as any stats parsing. All filled
+     * {@link UserTcStats} are persisted in a single bulk write, with the {@link SystemState} set to {@link SystemState#UPDATING_STATS} while
+     * writing. Once complete, all cached historic stats are evicted, since the
+     * filled hours may be in earlier days than the current one, and the changes are published to subscribers of the stats stream through the
+     * {@link StatsUpdatePublisher}.
+     *
+     * @return the number of {@link UserTcStats} created
+     */
+    public int catchUpMissingHourlyStats() {
+        return userStatsParser.executeWithParsingLock(this::catchUpMissingHourlyStatsWithParsingLock);
+    }
+
+    private int catchUpMissingHourlyStatsWithParsingLock() {
+        final LocalDateTime currentTime = DATE_TIME_UTILS.currentUtcLocalDateTime();
+        final LocalDateTime currentHour = currentTime.truncatedTo(ChronoUnit.HOURS);
+        final LocalDateTime startOfMonth = currentTime.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+        LOGGER.info("Catching up on missing hourly TC stats, up to {} hours per user", MAXIMUM_HOURS);
+
+        final List<UserTcStats> gapStats = new ArrayList<>();
+        for (final User user : foldingRepository.getAllUsersWithPasskeys()) {
+            try {
+                gapStats.addAll(getGapStatsForUser(user, startOfMonth, currentHour));
+            } catch (final ExternalConnectionException e) {
+                LOGGER.warn("Error connecting to Folding@Home API at '{}'", e.getUrl(), e);
+            } catch (final Exception e) {
+                LOGGER.warn("Unexpected error catching up TC stats for user '{}' (ID: {})", user.displayName(), user.id(), e);
+            }
+        }
+
+        if (gapStats.isEmpty()) {
+            LOGGER.info("No missing hourly TC stats");
+            return 0;
+        }
+
+        SystemStateManager.next(SystemState.UPDATING_STATS);
+        try {
+            statsRepository.createBulkHourlyTcStats(gapStats);
+            LOGGER.info("Created {} missing hourly TC stats", gapStats.size());
+            statsRepository.evictHistoricStats();
+        } finally {
+            SystemStateManager.next(SystemState.WRITE_EXECUTED);
+        }
+
+        statsUpdatePublisher.publishUpdate();
+        return gapStats.size();
+    }
+
+    private List<UserTcStats> getGapStatsForUser(final User user, final LocalDateTime startOfMonth, final LocalDateTime currentHour)
+        throws ExternalConnectionException {
+        if (user.isPasskeyHidden() || MAXIMUM_HOURS == 0) {
+            return List.of();
+        }
+
+        final UserTcStats previousStats = statsRepository.getHourlyTcStats(user);
+        final LocalDateTime previousTime = DateTimeConverterUtils.toUtcLocalDateTime(previousStats.timestamp());
+        if (previousTime.isBefore(startOfMonth) || ChronoUnit.HOURS.between(previousTime.truncatedTo(ChronoUnit.HOURS), currentHour) <= 1L) {
+            return List.of();
+        }
+
+        final Stats initialStats = statsRepository.getInitialStats(user);
+        if (initialStats.isEmpty()) {
+            LOGGER.warn("Retrieved empty initial stats for user: {}", user);
+            return List.of();
+        }
+
+        final UserStats totalStats = foldingStatsRetriever.getTotalStats(user);
+        if (totalStats.isEmpty()) {
+            LOGGER.warn("Retrieved empty total stats for user: {}", user);
+            return List.of();
+        }
+
+        final UserTcStats currentStats = userTcStatsCalculator.calculate(user, initialStats, statsRepository.getOffsetStats(user), totalStats);
+        final List<UserTcStats> userGapStats = HourlyTcStatsGap.fill(previousStats, currentStats, currentHour, MAXIMUM_HOURS);
+        LOGGER.debug("Filling {} missing hours for user '{}' (ID: {}) since {}", userGapStats.size(), user.displayName(), user.id(), previousTime);
+        return userGapStats;
+    }
+}
@@ -19,16 +19,30 @@ package net.zodac.folding.bean.tc.user;
 
 import static net.zodac.folding.api.util.NumberUtils.formatWithCommas;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import net.zodac.folding.api.exception.ExternalConnectionException;
 import net.zodac.folding.api.state.ParsingState;
 import net.zodac.folding.api.state.SystemState;
 import net.zodac.folding.api.stats.FoldingStatsRetriever;
 import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.tc.ingestion.IngestionRunFailure;
+import net.zodac.folding.api.tc.ingestion.IngestionRunType;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.tc.stats.Stats;
 import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.util.DateTimeUtils;
 import net.zodac.folding.bean.StatsRepository;
+import net.zodac.folding.bean.tc.StatsUpdatePublisher;
 import net.zodac.folding.db.postgres.DatabaseConnectionException;
 import net.zodac.folding.state.ParsingStateManager;
 import net.zodac.folding.state.SystemStateManager;
@@ -44,24 +58,37 @@ import org.springframework.stereotype.Component;
 public class UserStatsParser {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+    private static final long ON_DEMAND_PARSING_LOCK_TIMEOUT_SECONDS = 5L;
 
     private final FoldingStatsRetriever foldingStatsRetriever;
     private final StatsRepository statsRepository;
+    private final StatsUpdatePublisher statsUpdatePublisher;
     private final UserTcStatsCalculator userTcStatsCalculator;
 
+    // Sharded parsing runs can overrun their slot, so runs (and the stats catch-up) are serialized to avoid writing stats for the same users at once
+    private final Lock parsingLock = new ReentrantLock();
+
+    // On-demand parses that cannot acquire the parsing lock in time are queued, and run one at a time in the order they were requested
+    private final ExecutorService queuedParsingExecutor =
+        Executors.newSingleThreadExecutor(Thread.ofVirtual().name("queued-stats-parsing").factory());
+
     /**
      * {@link Autowired} constructor.
      *
      * @param foldingStatsRetriever the {@link FoldingStatsRetriever}
      * @param statsRepository       the {@link StatsRepository}
+     * @param statsUpdatePublisher  the {@link StatsUpdatePublisher}
      * @param userTcStatsCalculator the {@link UserTcStatsCalculator}
      */
     @Autowired
     public UserStatsParser(final FoldingStatsRetriever foldingStatsRetriever,
                            final StatsRepository statsRepository,
+                           final StatsUpdatePublisher statsUpdatePublisher,
                            final UserTcStatsCalculator userTcStatsCalculator) {
         this.foldingStatsRetriever = foldingStatsRetriever;
         this.statsRepository = statsRepository;
+        this.statsUpdatePublisher = statsUpdatePublisher;
         this.userTcStatsCalculator = userTcStatsCalculator;
     }
 
@@ -69,48 +96,198 @@ public class UserStatsParser {
      * Parses the latest TC stats for a single {@link User}.
      *
      * @param user the {@link User} whose TC stats are to be parsed
+     * @see #parseTcStatsForUsers(Iterable)
      */
     public void parseTcStatsForUser(final User user) {
         parseTcStatsForUsers(List.of(user));
     }
 
     /**
-     * Parses the latest TC stats for the given {@link User}s.
+     * Parses the latest TC stats for the given {@link User}s, as an {@link IngestionRunType#ON_DEMAND} parse (such as one triggered by an admin
+     * request).
+     *
+     * <p>
+     * If another parse (such as a scheduled shard) is still running and the parsing lock cannot be acquired within
+     * {@value #ON_DEMAND_PARSING_LOCK_TIMEOUT_SECONDS} seconds, the parse is instead queued to run once the lock is available, so the calling
+     * (HTTP request) thread is not blocked until the other parse completes.
      *
      * @param users the {@link User}s whose TC stats are to be parsed
+     * @see #parseTcStatsForUsers(Iterable, IngestionRunType)
      */
     public void parseTcStatsForUsers(final Iterable<User> users) {
+        if (tryLockParsing()) {
+            try {
+                parseAndRecord(users, IngestionRunType.ON_DEMAND);
+                completeStatsWrite();
+            } finally {
+                parsingLock.unlock();
+            }
+            return;
+        }
+
+        final List<User> usersToParse = new ArrayList<>();
+        users.forEach(usersToParse::add);
+        LOGGER.info("Stats parsing already in progress, queueing parse for {} TC users", usersToParse.size());
+        queuedParsingExecutor.execute(() -> parseQueuedTcStatsForUsers(usersToParse));
+    }
+
+    /**
+     * Parses the latest TC stats for the given {@link User}s, waiting for any other parse to complete first.
+     *
+     * <p>
+     * Other than for {@link IngestionRunType#ON_DEMAND} parses, the outcome for each {@link User} is recorded in an {@link IngestionRun}, with
+     * an {@link IngestionRunFailure} for any {@link User} whose stats could not be parsed, so they can be retried without parsing all
+     * {@link User}s again.
+     *
+     * <p>
+     * Once complete, the system moves to {@link SystemState#WRITE_EXECUTED}, any cached historic stats for the current periods are evicted, and
+     * any changes are published to subscribers of the stats stream through the {@link StatsUpdatePublisher}.
+     *
+     * @param users   the {@link User}s whose TC stats are to be parsed
+     * @param runType the {@link IngestionRunType} of the {@link IngestionRun}
+     */
+    public void parseTcStatsForUsers(final Iterable<User> users, final IngestionRunType runType) {
+        parsingLock.lock();
+        try {
+            parseAndRecord(users, runType);
+            completeStatsWrite();
+        } finally {
+            parsingLock.unlock();
+        }
+    }
+
+    /**
+     * Parses the latest TC stats for the given {@link User}s, without completing the stats write, evicting the cached historic stats or
+     * publishing the changes to subscribers of the stats stream. Once complete, the system returns to the {@link SystemState} it was in before
+     * parsing, rather than moving to {@link SystemState#WRITE_EXECUTED}.
+     *
+     * <p>
+     * Used when the {@link User}s are parsed in shards, so the summary is recalculated, the cache is evicted and the changes published only once
+     * per parsing cycle, by calling {@link #parseTcStatsForUsers(Iterable, IngestionRunType)} or {@link #publishParsedStats()} for the last
+     * shard.
+     *
+     * @param users   the {@link User}s whose TC stats are to be parsed
+     * @param runType the {@link IngestionRunType} of the {@link IngestionRun}
+     */
+    public void parseTcStatsForUsersWithoutPublishing(final Iterable<User> users, final IngestionRunType runType) {
+        parsingLock.lock();
+        try {
+            final SystemState previousState = SystemStateManager.current();
+            parseAndRecord(users, runType);
+            // Any write started before the shard (but not yet completed) still needs to be completed
+            SystemStateManager.next(previousState.isStatsWriteInProgress() ? SystemState.WRITE_EXECUTED : previousState);
+        } finally {
+            parsingLock.unlock();
+        }
+    }
+
+    /**
+     * Moves the system to {@link SystemState#WRITE_EXECUTED}, evicts any cached historic stats for the current periods, and publishes any changes
+     * to subscribers of the stats stream through the {@link StatsUpdatePublisher}.
+     *
+     * <p>
+     * Only needs to be called directly at the end of a sharded parsing cycle whose last shard has no {@link User}s to parse.
+     */
+    public void publishParsedStats() {
+        parsingLock.lock();
+        try {
+            completeStatsWrite();
+        } finally {
+            parsingLock.unlock();
+        }
+    }
+
+    /**
+     * Executes the provided action while holding the lock used by all stats parsing, so it cannot run at the same time as any parsing of the
+     * {@link User}s' stats.
+     *
+     * @param action the action to execute
+     * @param <T>    the type of the result of the action
+     * @return the result of the action
+     */
+    public <T> T executeWithParsingLock(final Supplier<T> action) {
+        parsingLock.lock();
+        try {
+            return action.get();
+        } finally {
+            parsingLock.unlock();
+        }
+    }
+
+    private void parseAndRecord(final Iterable<User> users, final IngestionRunType runType) {
         ParsingStateManager.next(ParsingState.ENABLED_TEAM_COMPETITION);
         SystemStateManager.next(SystemState.UPDATING_STATS);
 
         LOGGER.info("Starting Folding stats parsing");
+        final LocalDateTime startTime = DATE_TIME_UTILS.currentUtcLocalDateTime();
+        final long start = System.nanoTime();
+
+        int usersParsed = 0;
+        int usersSkipped = 0;
+        final List<IngestionRunFailure> failures = new ArrayList<>();
 
         for (final User user : users) {
             try {
-                updateTcStatsForUser(user);
+                if (updateTcStatsForUser(user)) {
+                    usersParsed++;
+                } else {
+                    usersSkipped++;
+                }
+            } catch (final ExternalConnectionException e) {
+                LOGGER.warn("Error connecting to Folding@Home API at '{}'", e.getUrl(), e);
+                failures.add(IngestionRunFailure.create(user.id(), e));
             } catch (final DatabaseConnectionException e) {
                 LOGGER.error("Error updating TC stats for user '{}' (ID: {})", user.displayName(), user.id(), e);
+                failures.add(IngestionRunFailure.create(user.id(), e));
             } catch (final Exception e) {
                 LOGGER.error("Unexpected error updating TC stats for user '{}' (ID: {})", user.displayName(), user.id(), e);
+                failures.add(IngestionRunFailure.create(user.id(), e));
             }
         }
 
-        LOGGER.info("Finished Folding stats parsing");
+        final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        LOGGER.info("Finished Folding stats parsing in {}ms: {} parsed, {} skipped, {} failed", duration.toMillis(), usersParsed, usersSkipped,
+            failures.size());
+        // On-demand parses (for example, for each created user) are not retried, so are not recorded
+        if (runType != IngestionRunType.ON_DEMAND) {
+            recordIngestionRun(IngestionRun.createWithoutId(runType, startTime, duration, usersParsed, usersSkipped, failures));
+        }
+    }
+
+    private boolean tryLockParsing() {
+        try {
+            return parsingLock.tryLock(ON_DEMAND_PARSING_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void parseQueuedTcStatsForUsers(final Iterable<User> users) {
+        try {
+            parseTcStatsForUsers(users, IngestionRunType.ON_DEMAND);
+        } catch (final Exception e) {
+            LOGGER.error("Unexpected error parsing queued TC stats", e);
+        }
+    }
 
+    private void completeStatsWrite() {
         SystemStateManager.next(SystemState.WRITE_EXECUTED);
+        statsRepository.evictCurrentHistoricStats();
+        statsUpdatePublisher.publishUpdate();
     }
 
-    private void updateTcStatsForUser(final User user) {
+    private boolean updateTcStatsForUser(final User user) throws ExternalConnectionException {
         LOGGER.debug("Updating stats for '{}': {}", user.displayName(), user);
         if (user.isPasskeyHidden()) {
             LOGGER.warn("Not parsing TC stats for user, missing/masked passkey: {}", user);
-            return;
+            return false;
         }
 
         final Stats initialStats = statsRepository.getInitialStats(user);
         if (initialStats.isEmpty()) {
             LOGGER.warn("Retrieved empty initial stats for user: {}", user);
-            return;
+            return false;
         }
 
         final OffsetTcStats offsetTcStats = statsRepository.getOffsetStats(user);
@@ -121,23 +298,25 @@ public class UserStatsParser {
                 formatWithCommas(offsetTcStats.unitsOffset()));
         }
 
-        final UserStats totalStats = getTotalStatsForUserOrEmpty(user);
+        final UserStats totalStats = foldingStatsRetriever.getTotalStats(user);
         if (totalStats.isEmpty()) {
             LOGGER.warn("Retrieved empty total stats for user: {}", user);
-            return;
+            return false;
         }
 
         final UserStats createdTotalStats = statsRepository.createTotalStats(totalStats);
         userTcStatsCalculator.calculateAndPersist(user, initialStats, offsetTcStats, createdTotalStats);
+        return true;
     }
 
-    private UserStats getTotalStatsForUserOrEmpty(final User user) {
+    private void recordIngestionRun(final IngestionRun ingestionRun) {
+        // The parsed stats are already persisted, so a failure to record the run should not fail the parsing
         try {
-            return foldingStatsRetriever.getTotalStats(user);
-        } catch (final ExternalConnectionException e) {
-            LOGGER.warn("Error connecting to Folding@Home API at '{}'", e.getUrl(), e);
+            statsRepository.createIngestionRun(ingestionRun);
+        } catch (final DatabaseConnectionException e) {
+            LOGGER.warn("Error recording ingestion run: {}", ingestionRun, e);
+        } catch (final Exception e) {
+            LOGGER.warn("Unexpected error recording ingestion run: {}", ingestionRun, e);
         }
-
-        return UserStats.empty();
     }
 }
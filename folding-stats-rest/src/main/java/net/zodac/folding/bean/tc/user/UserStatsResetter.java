@@ -19,8 +19,10 @@ package net.zodac.folding.bean.tc.user;
 
 import java.util.Collection;
 import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRunType;
 import net.zodac.folding.bean.StatsRepository;
 import net.zodac.folding.bean.api.FoldingRepository;
+import net.zodac.folding.bean.tc.StatsUpdatePublisher;
 import net.zodac.folding.db.postgres.DatabaseConnectionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,21 +39,25 @@ public class UserStatsResetter {
 
     private final FoldingRepository foldingRepository;
     private final StatsRepository statsRepository;
+    private final StatsUpdatePublisher statsUpdatePublisher;
     private final UserStatsParser userStatsParser;
 
     /**
      * {@link Autowired} constructor.
      *
-     * @param foldingRepository the {@link FoldingRepository}
-     * @param statsRepository   the {@link StatsRepository}
-     * @param userStatsParser   the {@link UserStatsParser}
+     * @param foldingRepository    the {@link FoldingRepository}
+     * @param statsRepository      the {@link StatsRepository}
+     * @param statsUpdatePublisher the {@link StatsUpdatePublisher}
+     * @param userStatsParser      the {@link UserStatsParser}
      */
     @Autowired
     public UserStatsResetter(final FoldingRepository foldingRepository,
                              final StatsRepository statsRepository,
+                             final StatsUpdatePublisher statsUpdatePublisher,
                              final UserStatsParser userStatsParser) {
         this.foldingRepository = foldingRepository;
         this.statsRepository = statsRepository;
+        this.statsUpdatePublisher = statsUpdatePublisher;
         this.userStatsParser = userStatsParser;
     }
 
@@ -68,6 +74,7 @@ public class UserStatsResetter {
         try {
             LOGGER.info("Resetting Team Competition stats");
             statsRepository.resetAllTeamCompetitionUserStats();
+            statsUpdatePublisher.publishUpdate();
         } catch (final DatabaseConnectionException e) {
             LOGGER.warn("Error manually resetting TC stats", e);
         } catch (final Exception e) {
@@ -82,15 +89,17 @@ public class UserStatsResetter {
      * When we're starting a new month, we'll also pull the latest stats for all {@link User}s for their initial stats for the month.
      *
      * @see StatsRepository#resetAllTeamCompetitionUserStats()
-     * @see UserStatsParser#parseTcStatsForUsers(Iterable)
+     * @see UserStatsParser#parseTcStatsForUsers(Iterable, IngestionRunType)
      */
     public void resetTeamCompetitionStatsForStartOfMonth() {
         try {
+            // The latest stats must be parsed before the reset, so the parse cannot be queued
             final Collection<User> users = foldingRepository.getAllUsersWithPasskeys();
-            userStatsParser.parseTcStatsForUsers(users);
+            userStatsParser.parseTcStatsForUsers(users, IngestionRunType.ON_DEMAND);
 
             LOGGER.info("Resetting Team Competition stats for start of a new month");
             statsRepository.resetAllTeamCompetitionUserStats();
+            statsUpdatePublisher.publishUpdate();
         } catch (final DatabaseConnectionException e) {
             LOGGER.warn("Error manually resetting TC stats for new month", e);
         } catch (final Exception e) {
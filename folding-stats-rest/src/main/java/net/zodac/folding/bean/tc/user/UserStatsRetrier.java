@@ -0,0 +1,102 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.bean.tc.user;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.tc.ingestion.IngestionRunFailure;
+import net.zodac.folding.api.tc.ingestion.IngestionRunType;
+import net.zodac.folding.bean.StatsRepository;
+import net.zodac.folding.bean.api.FoldingRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-parses the stats for {@code Team Competition} {@link User}s whose stats could not be parsed in a previous {@link IngestionRun}.
+ */
+@Component
+public class UserStatsRetrier {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private final FoldingRepository foldingRepository;
+    private final StatsRepository statsRepository;
+    private final UserStatsParser userStatsParser;
+
+    /**
+     * {@link Autowired} constructor.
+     *
+     * @param foldingRepository the {@link FoldingRepository}
+     * @param statsRepository   the {@link StatsRepository}
+     * @param userStatsParser   the {@link UserStatsParser}
+     */
+    @Autowired
+    public UserStatsRetrier(final FoldingRepository foldingRepository,
+                            final StatsRepository statsRepository,
+                            final UserStatsParser userStatsParser) {
+        this.foldingRepository = foldingRepository;
+        this.statsRepository = statsRepository;
+        this.userStatsParser = userStatsParser;
+    }
+
+    /**
+     * Re-parses the stats for any {@link User} with an {@link IngestionRunFailure} in an {@link IngestionRunType#SCHEDULED}
+     * {@link IngestionRun} since the provided {@link LocalDateTime}.
+     *
+     * <p>
+     * Only the failed {@link User}s are parsed, in a single {@link IngestionRunType#RETRY} {@link IngestionRun}. Any {@link User} that has
+     * since been deleted is ignored.
+     *
+     * @param since the {@code UTC} {@link LocalDateTime} from which failed {@link User}s are retrieved
+     * @return the {@link User}s whose stats were re-parsed
+     * @see UserStatsParser#parseTcStatsForUsers(Iterable, IngestionRunType)
+     */
+    public Collection<User> retryFailedUsersSince(final LocalDateTime since) {
+        final Set<Integer> failedUserIds = statsRepository.getIngestionRunsSince(since)
+            .stream()
+            .filter(ingestionRun -> ingestionRun.runType() == IngestionRunType.SCHEDULED)
+            .flatMap(ingestionRun -> ingestionRun.failures().stream())
+            .map(IngestionRunFailure::userId)
+            .collect(Collectors.toSet());
+
+        if (failedUserIds.isEmpty()) {
+            LOGGER.debug("No failed TC users since {}, not retrying stats parsing", since);
+            return List.of();
+        }
+
+        final List<User> failedUsers = foldingRepository.getAllUsersWithPasskeys()
+            .stream()
+            .filter(user -> failedUserIds.contains(user.id()))
+            .toList();
+
+        if (failedUsers.isEmpty()) {
+            LOGGER.info("Failed TC users since {} no longer exist, not retrying stats parsing", since);
+            return failedUsers;
+        }
+
+        LOGGER.info("Retrying stats parsing for {} TC users that failed since {}", failedUsers.size(), since);
+        userStatsParser.parseTcStatsForUsers(failedUsers, IngestionRunType.RETRY);
+        return failedUsers;
+    }
+}
@@ -74,12 +74,9 @@ public class UserTcStatsCalculator {
      * @see StatsRepository#createHourlyTcStats(UserTcStats)
      */
     public void calculateAndPersist(final User user, final Stats initialStats, final OffsetTcStats offsetTcStats, final UserStats totalStats) {
-        final double hardwareMultiplier = user.hardware().multiplier();
-        final long points = Math.max(Stats.DEFAULT_POINTS, totalStats.points() - initialStats.points());
-        final long multipliedPoints = Math.round(points * hardwareMultiplier);
-        final int units = Math.max(Stats.DEFAULT_UNITS, totalStats.units() - initialStats.units());
-
-        final UserTcStats statsBeforeOffset = UserTcStats.create(user.id(), totalStats.timestamp(), points, multipliedPoints, units);
+        final UserTcStats statsBeforeOffset = calculateBeforeOffset(user, initialStats, totalStats);
+        final long multipliedPoints = statsBeforeOffset.multipliedPoints();
+        final int units = statsBeforeOffset.units();
         final UserTcStats hourlyUserTcStats = statsBeforeOffset.add(offsetTcStats);
         final UserTcStats previousHourlyTcStats = statsRepository.getHourlyTcStats(user);
         final UserTcStats createdHourlyTcStats = statsRepository.createHourlyTcStats(hourlyUserTcStats);
@@ -99,4 +96,27 @@ public class UserTcStatsCalculator {
         STATS_LOGGER.info("{} (ID: {}): {} TC points | {} TC units", user.displayName(), user.id(),
             formatWithCommas(createdHourlyTcStats.multipliedPoints()), formatWithCommas(createdHourlyTcStats.units()));
     }
+
+    /**
+     * Calculates the {@link UserTcStats} for a {@link User} in the same way as {@link #calculateAndPersist(User, Stats, OffsetTcStats, UserStats)},
+     * but does not persist them.
+     *
+     * @param user          the {@link User}
+     * @param initialStats  the {@link User}'s initial {@link Stats}
+     * @param offsetTcStats the {@link User}'s {@link OffsetTcStats}
+     * @param totalStats    the {@link User}'s current total {@link UserStats}
+     * @return the calculated {@link UserTcStats}, at the time of the {@code totalStats}
+     */
+    public UserTcStats calculate(final User user, final Stats initialStats, final OffsetTcStats offsetTcStats, final UserStats totalStats) {
+        return calculateBeforeOffset(user, initialStats, totalStats).add(offsetTcStats);
+    }
+
+    private static UserTcStats calculateBeforeOffset(final User user, final Stats initialStats, final UserStats totalStats) {
+        final double hardwareMultiplier = user.hardware().multiplier();
+        final long points = Math.max(Stats.DEFAULT_POINTS, totalStats.points() - initialStats.points());
+        final long multipliedPoints = Math.round(points * hardwareMultiplier);
+        final int units = Math.max(Stats.DEFAULT_UNITS, totalStats.units() - initialStats.units());
+
+        return UserTcStats.create(user.id(), totalStats.timestamp(), points, multipliedPoints, units);
+    }
 }
@@ -20,6 +20,7 @@ package net.zodac.folding.bean.tc.validation;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import net.zodac.folding.api.exception.ConflictException;
 import net.zodac.folding.api.exception.UsedByException;
 import net.zodac.folding.api.exception.ValidationException;
@@ -73,9 +74,26 @@ public class HardwareValidator {
      * @throws ValidationException thrown if the input fails validation
      */
     public Hardware create(final HardwareRequest hardwareRequest) {
+        return create(hardwareRequest, List.of());
+    }
+
+    /**
+     * Validates a {@link HardwareRequest} for a {@link Hardware} to be created on the system, as part of a batch.
+     *
+     * <p>
+     * Performs the same validation as {@link #create(HardwareRequest)}, but the 'hardwareName' must also not be used by any of the
+     * {@code pendingHardware} that have already been validated earlier in the batch.
+     *
+     * @param hardwareRequest the {@link HardwareRequest} to validate
+     * @param pendingHardware the {@link Hardware}s already validated in the batch, but not yet created
+     * @return the validated {@link Hardware}
+     * @throws ConflictException   thrown if the input conflicts with an existing or pending {@link Hardware}
+     * @throws ValidationException thrown if the input fails validation
+     */
+    public Hardware create(final HardwareRequest hardwareRequest, final Collection<Hardware> pendingHardware) {
         foldingRepository.getAllTeams();
         // The hardwareName must be unique
-        final Optional<Hardware> hardwareWithMatchingName = getHardwareWithName(hardwareRequest.hardwareName());
+        final Optional<Hardware> hardwareWithMatchingName = getHardwareWithName(hardwareRequest.hardwareName(), pendingHardware).findAny();
         if (hardwareWithMatchingName.isPresent()) {
             throw new ConflictException(hardwareRequest, hardwareWithMatchingName.get(), CONFLICTING_ATTRIBUTE);
         }
@@ -107,9 +125,35 @@ public class HardwareValidator {
      * @throws ValidationException thrown if the input fails validation
      */
     public Hardware update(final HardwareRequest hardwareRequest, final Hardware existingHardware) {
+        return update(hardwareRequest, existingHardware, List.of());
+    }
+
+    /**
+     * Validates a {@link HardwareRequest} to update an existing {@link Hardware} on the system, as part of a batch.
+     *
+     * <p>
+     * Performs the same validation as {@link #update(HardwareRequest, Hardware)}, but the 'hardwareName' must also not be used by any of the
+     * {@code pendingHardware} that have already been validated earlier in the batch, and the {@link Hardware} must not already be updated
+     * earlier in the batch.
+     *
+     * @param hardwareRequest  the {@link HardwareRequest} to validate
+     * @param existingHardware the already existing {@link Hardware} in the system to be updated
+     * @param pendingHardware  the {@link Hardware}s already validated in the batch, but not yet updated
+     * @return the validated {@link Hardware}
+     * @throws ConflictException   thrown if the input conflicts with an existing or pending {@link Hardware}
+     * @throws ValidationException thrown if the input fails validation
+     */
+    public Hardware update(final HardwareRequest hardwareRequest, final Hardware existingHardware, final Collection<Hardware> pendingHardware) {
+        if (pendingHardware.stream().anyMatch(hardware -> hardware.id() == existingHardware.id())) {
+            throw new ValidationException(hardwareRequest,
+                String.format("Hardware with ID %d is already updated earlier in the batch", existingHardware.id()));
+        }
+
         // The hardwareName must be unique, unless replacing the same hardware
-        final Optional<Hardware> hardwareWithMatchingName = getHardwareWithName(hardwareRequest.hardwareName());
-        if (hardwareWithMatchingName.isPresent() && hardwareWithMatchingName.get().id() != existingHardware.id()) {
+        final Optional<Hardware> hardwareWithMatchingName = getHardwareWithName(hardwareRequest.hardwareName(), pendingHardware)
+            .filter(hardware -> hardware.id() != existingHardware.id())
+            .findAny();
+        if (hardwareWithMatchingName.isPresent()) {
             throw new ConflictException(hardwareRequest, hardwareWithMatchingName.get(), CONFLICTING_ATTRIBUTE);
         }
 
@@ -137,11 +181,9 @@ public class HardwareValidator {
         return hardware;
     }
 
-    private Optional<Hardware> getHardwareWithName(final String hardwareName) {
-        return foldingRepository.getAllHardware()
-            .stream()
-            .filter(hardware -> hardware.hardwareName().equalsIgnoreCase(hardwareName))
-            .findAny();
+    private Stream<Hardware> getHardwareWithName(final String hardwareName, final Collection<Hardware> pendingHardware) {
+        return Stream.concat(foldingRepository.getAllHardware().stream(), pendingHardware.stream())
+            .filter(hardware -> hardware.hardwareName().equalsIgnoreCase(hardwareName));
     }
 
     private Collection<User> getUsersWithHardware(final int hardwareId) {
@@ -20,6 +20,7 @@ package net.zodac.folding.bean.tc.validation;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import net.zodac.folding.api.exception.ConflictException;
 import net.zodac.folding.api.exception.UsedByException;
 import net.zodac.folding.api.exception.ValidationException;
@@ -68,8 +69,25 @@ public class TeamValidator {
      * @throws ValidationException thrown if the input fails validation
      */
     public Team create(final TeamRequest teamRequest) {
+        return create(teamRequest, List.of());
+    }
+
+    /**
+     * Validates a {@link TeamRequest} for a {@link Team} to be created on the system, as part of a batch.
+     *
+     * <p>
+     * Performs the same validation as {@link #create(TeamRequest)}, but the 'teamName' must also not be used by any of the {@code pendingTeams}
+     * that have already been validated earlier in the batch.
+     *
+     * @param teamRequest  the {@link TeamRequest} to validate
+     * @param pendingTeams the {@link Team}s already validated in the batch, but not yet created
+     * @return the validated {@link Team}
+     * @throws ConflictException   thrown if the input conflicts with an existing or pending {@link Team}
+     * @throws ValidationException thrown if the input fails validation
+     */
+    public Team create(final TeamRequest teamRequest, final Collection<Team> pendingTeams) {
         // The teamName must be unique
-        final Optional<Team> teamWithMatchingName = getTeamWithName(teamRequest.teamName());
+        final Optional<Team> teamWithMatchingName = getTeamWithName(teamRequest.teamName(), pendingTeams).findAny();
         if (teamWithMatchingName.isPresent()) {
             throw new ConflictException(teamRequest, teamWithMatchingName.get(), CONFLICTING_ATTRIBUTE);
         }
@@ -96,9 +114,34 @@ public class TeamValidator {
      * @throws ValidationException thrown if the input fails validation
      */
     public Team update(final TeamRequest teamRequest, final Team existingTeam) {
+        return update(teamRequest, existingTeam, List.of());
+    }
+
+    /**
+     * Validates a {@link TeamRequest} to update an existing {@link Team} on the system, as part of a batch.
+     *
+     * <p>
+     * Performs the same validation as {@link #update(TeamRequest, Team)}, but the 'teamName' must also not be used by any of the
+     * {@code pendingTeams} that have already been validated earlier in the batch, and the {@link Team} must not already be updated earlier in
+     * the batch.
+     *
+     * @param teamRequest  the {@link TeamRequest} to validate
+     * @param existingTeam the already existing {@link Team} in the system to be updated
+     * @param pendingTeams the {@link Team}s already validated in the batch, but not yet updated
+     * @return the validated {@link Team}
+     * @throws ConflictException   thrown if the input conflicts with an existing or pending {@link Team}
+     * @throws ValidationException thrown if the input fails validation
+     */
+    public Team update(final TeamRequest teamRequest, final Team existingTeam, final Collection<Team> pendingTeams) {
+        if (pendingTeams.stream().anyMatch(team -> team.id() == existingTeam.id())) {
+            throw new ValidationException(teamRequest, String.format("Team with ID %d is already updated earlier in the batch", existingTeam.id()));
+        }
+
         // The teamName must be unique, unless replacing the same team
-        final Optional<Team> teamWithMatchingName = getTeamWithName(teamRequest.teamName());
-        if (teamWithMatchingName.isPresent() && teamWithMatchingName.get().id() != existingTeam.id()) {
+        final Optional<Team> teamWithMatchingName = getTeamWithName(teamRequest.teamName(), pendingTeams)
+            .filter(team -> team.id() != existingTeam.id())
+            .findAny();
+        if (teamWithMatchingName.isPresent()) {
             throw new ConflictException(teamRequest, teamWithMatchingName.get(), CONFLICTING_ATTRIBUTE);
         }
 
@@ -126,11 +169,9 @@ public class TeamValidator {
         return team;
     }
 
-    private Optional<Team> getTeamWithName(final String teamName) {
-        return foldingRepository.getAllTeams()
-            .stream()
-            .filter(team -> team.teamName().equalsIgnoreCase(teamName))
-            .findAny();
+    private Stream<Team> getTeamWithName(final String teamName, final Collection<Team> pendingTeams) {
+        return Stream.concat(foldingRepository.getAllTeams().stream(), pendingTeams.stream())
+            .filter(team -> team.teamName().equalsIgnoreCase(teamName));
     }
 
     private Collection<User> getUsersOnTeam(final int teamId) {
@@ -22,6 +22,9 @@ import static net.zodac.folding.api.util.StringUtils.isBlank;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import net.zodac.folding.api.exception.ConflictException;
 import net.zodac.folding.api.exception.ExternalConnectionException;
 import net.zodac.folding.api.exception.ValidationException;
@@ -90,8 +93,27 @@ public class UserValidator {
      * @throws ValidationException thrown if the input fails validation
      */
     public User create(final UserRequest userRequest) {
+        return create(userRequest, List.of());
+    }
+
+    /**
+     * Validates a {@link UserRequest} for a {@link User} to be created on the system, as part of a batch.
+     *
+     * <p>
+     * Performs the same validation as {@link #create(UserRequest)}, but the {@code pendingUsers} that have already been validated earlier in the
+     * batch are treated as if they already exist on the system. This means the 'foldingUserName' and 'passkey' must not be used by a pending
+     * {@link User}, the pending {@link User}s are included in the {@link Team} and {@link Category} limits, and only one pending {@link User} may
+     * be the captain of a {@link Team}.
+     *
+     * @param userRequest  the {@link UserRequest} to validate
+     * @param pendingUsers the {@link User}s already validated in the batch, but not yet created
+     * @return the validated {@link User}
+     * @throws ConflictException   thrown if the input conflicts with an existing or pending {@link User}
+     * @throws ValidationException thrown if the input fails validation
+     */
+    public User create(final UserRequest userRequest, final Collection<User> pendingUsers) {
         // The foldingUserName and passkey must be unique
-        final Optional<User> matchingUser = getUserWithFoldingUserNameAndPasskey(userRequest);
+        final Optional<User> matchingUser = getUserWithFoldingUserNameAndPasskey(userRequest, pendingUsers).findAny();
         if (matchingUser.isPresent()) {
             throw new ConflictException(userRequest, matchingUser.get(), CONFLICTING_ATTRIBUTES);
         }
@@ -100,7 +122,8 @@ public class UserValidator {
         final Hardware hardwareForUser = hardware(userRequest);
         final Team teamForUser = team(userRequest);
         final Category category = validateCategoryIsValidForHardware(userRequest, hardwareForUser);
-        validateNewUserDoesNotExceedTeamLimits(userRequest, teamForUser, category);
+        validateNewUserDoesNotExceedTeamLimits(userRequest, teamForUser, category, pendingUsers);
+        validateOnlyOnePendingCaptainForTeam(userRequest, teamForUser, pendingUsers);
         validateUserWorkUnits(userRequest);
 
         return User.createWithoutId(userRequest, hardwareForUser, teamForUser);
@@ -138,9 +161,39 @@ public class UserValidator {
      */
     public User update(final UserRequest userRequest,
                        final User existingUser) {
+        return update(userRequest, existingUser, List.of());
+    }
+
+    /**
+     * Validates a {@link UserRequest} for a {@link User} to be updated on the system, as part of a batch.
+     *
+     * <p>
+     * Performs the same validation as {@link #update(UserRequest, User)}, but also considers the {@code pendingUsers} that have already been
+     * validated earlier in the batch:
+     * <ul>
+     *     <li>The {@link User} must not already be updated earlier in the batch</li>
+     *     <li>The 'foldingUserName' and 'passkey' must not be used by any of the {@code pendingUsers}</li>
+     *     <li>The {@link Team} and {@link Category} limits include the {@code pendingUsers}</li>
+     *     <li>If the {@link User} is a captain, no other {@link User} in the batch can be the captain of the same {@link Team}</li>
+     * </ul>
+     *
+     * @param userRequest  the {@link UserRequest} to validate
+     * @param existingUser the already existing {@link User} in the system to be updated
+     * @param pendingUsers the {@link User}s already validated in the batch, but not yet updated
+     * @return the validated {@link User}
+     * @throws ConflictException   thrown if the input conflicts with an existing or pending {@link User}
+     * @throws ValidationException thrown if the input fails validation
+     */
+    public User update(final UserRequest userRequest, final User existingUser, final Collection<User> pendingUsers) {
+        if (pendingUsers.stream().anyMatch(user -> user.id() == existingUser.id())) {
+            throw new ValidationException(userRequest, String.format("User with ID %d is already updated earlier in the batch", existingUser.id()));
+        }
+
         // The foldingUserName and passkey must be unique, unless replacing the same user
-        final Optional<User> matchingUser = getUserWithFoldingUserNameAndPasskey(userRequest);
-        if (matchingUser.isPresent() && matchingUser.get().id() != existingUser.id()) {
+        final Optional<User> matchingUser = getUserWithFoldingUserNameAndPasskey(userRequest, pendingUsers)
+            .filter(user -> user.id() != existingUser.id())
+            .findAny();
+        if (matchingUser.isPresent()) {
             throw new ConflictException(userRequest, matchingUser.get(), CONFLICTING_ATTRIBUTES);
         }
 
@@ -148,7 +201,8 @@ public class UserValidator {
         final Hardware hardwareForUser = hardware(userRequest);
         final Team teamForUser = team(userRequest);
         final Category category = validateCategoryIsValidForHardware(userRequest, hardwareForUser);
-        validateUpdatedUserDoesNotExceedTeamLimits(userRequest, existingUser, teamForUser, category);
+        validateUpdatedUserDoesNotExceedTeamLimits(userRequest, existingUser, teamForUser, category, pendingUsers);
+        validateOnlyOnePendingCaptainForTeam(userRequest, teamForUser, pendingUsers);
         validateUpdateUserWorkUnits(userRequest, existingUser);
 
         return User.createWithoutId(userRequest, hardwareForUser, teamForUser);
@@ -207,13 +261,14 @@ public class UserValidator {
     private void validateUpdatedUserDoesNotExceedTeamLimits(final UserRequest userRequest,
                                                             final User existingUser,
                                                             final Team teamForUser,
-                                                            final Category category) {
+                                                            final Category category,
+                                                            final Collection<User> pendingUsers) {
         final boolean userIsChangingTeams = userRequest.teamId() != existingUser.team().id();
-        final Collection<User> usersOnTeam = foldingRepository.getUsersOnTeam(teamForUser);
+        final Collection<User> usersOnTeam = getUsersOnTeam(teamForUser, pendingUsers);
 
         if (userIsChangingTeams) {
             // If we are changing teams, we need to ensure there is enough space in the team and category
-            validateNewUserDoesNotExceedTeamLimits(userRequest, teamForUser, category);
+            validateNewUserDoesNotExceedTeamLimits(userRequest, teamForUser, category, pendingUsers);
         }
 
         final boolean userIsChangingCategory = category != existingUser.category();
@@ -233,8 +288,9 @@ public class UserValidator {
         }
     }
 
-    private void validateNewUserDoesNotExceedTeamLimits(final UserRequest userRequest, final Team teamForUser, final Category category) {
-        final Collection<User> usersOnTeam = foldingRepository.getUsersOnTeam(teamForUser);
+    private void validateNewUserDoesNotExceedTeamLimits(final UserRequest userRequest, final Team teamForUser, final Category category,
+                                                        final Collection<User> pendingUsers) {
+        final Collection<User> usersOnTeam = getUsersOnTeam(teamForUser, pendingUsers);
         if (usersOnTeam.size() == Category.maximumPermittedAmountForAllCategories()) {
             throw new ValidationException(userRequest,
                 String.format("Team '%s' has %s users, maximum permitted is %s", teamForUser.teamName(), usersOnTeam.size(),
@@ -254,18 +310,43 @@ public class UserValidator {
         }
     }
 
-    private Optional<User> getUserWithFoldingUserNameAndPasskey(final UserRequest userRequest) {
+    private static void validateOnlyOnePendingCaptainForTeam(final UserRequest userRequest, final Team teamForUser,
+                                                             final Collection<User> pendingUsers) {
+        if (!userRequest.userIsCaptain()) {
+            return;
+        }
+
+        final boolean pendingCaptainExists = pendingUsers
+            .stream()
+            .anyMatch(pendingUser -> pendingUser.team().id() == teamForUser.id() && pendingUser.role().isCaptain());
+
+        if (pendingCaptainExists) {
+            throw new ValidationException(userRequest,
+                String.format("Team '%s' already has a captain earlier in the batch, only one is permitted", teamForUser.teamName()));
+        }
+    }
+
+    private Collection<User> getUsersOnTeam(final Team team, final Collection<User> pendingUsers) {
+        // Pending users replace any existing user with the same ID, since they may be moving to or from the team
+        final Set<Integer> pendingUserIds = pendingUsers.stream()
+            .map(User::id)
+            .collect(Collectors.toSet());
+
+        return Stream.concat(foldingRepository.getUsersOnTeam(team).stream().filter(user -> !pendingUserIds.contains(user.id())),
+                pendingUsers.stream().filter(pendingUser -> pendingUser.team().id() == team.id()))
+            .toList();
+    }
+
+    private Stream<User> getUserWithFoldingUserNameAndPasskey(final UserRequest userRequest, final Collection<User> pendingUsers) {
         final String foldingUserName = userRequest.foldingUserName();
         final String passkey = userRequest.passkey();
 
         if (isBlank(foldingUserName) || isBlank(passkey)) {
-            return Optional.empty();
+            return Stream.empty();
         }
 
-        return foldingRepository.getAllUsersWithPasskeys()
-            .stream()
-            .filter(user -> user.foldingUserName().equalsIgnoreCase(foldingUserName) && user.passkey().equalsIgnoreCase(passkey))
-            .findAny();
+        return Stream.concat(foldingRepository.getAllUsersWithPasskeys().stream(), pendingUsers.stream())
+            .filter(user -> user.foldingUserName().equalsIgnoreCase(foldingUserName) && user.passkey().equalsIgnoreCase(passkey));
     }
 
     private static Category validateCategoryIsValidForHardware(final UserRequest userRequest, final Hardware hardwareForUser) {
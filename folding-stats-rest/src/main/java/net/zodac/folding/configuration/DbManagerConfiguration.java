@@ -20,13 +20,23 @@ package net.zodac.folding.configuration;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import javax.sql.DataSource;
+import net.zodac.folding.api.db.AsyncDbManager;
 import net.zodac.folding.api.db.DbManager;
+import net.zodac.folding.api.db.ExecutorAsyncDbManager;
 import net.zodac.folding.db.DatabaseType;
+import net.zodac.folding.db.memory.InMemoryDbManager;
+import net.zodac.folding.db.postgres.BulkInsertMode;
+import net.zodac.folding.db.postgres.PostgresAsyncDbManager;
 import net.zodac.folding.db.postgres.PostgresDataSource;
 import net.zodac.folding.db.postgres.PostgresDbManager;
+import net.zodac.folding.db.postgres.PostgresQueryConfiguration;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,22 +44,43 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * {@link Configuration} class allowing for the injection of {@link DbManager} instances.
+ * {@link Configuration} class allowing for the injection of {@link DbManager} and {@link AsyncDbManager} instances.
  */
 @Configuration
 public class DbManagerConfiguration {
 
     private static final Logger LOGGER = LogManager.getLogger();
     private static final String DATABASE_VARIABLE_NAME = "DEPLOYED_DATABASE";
+    private static final String PRIMARY_POOL_NAME = "folding-stats-primary";
+    private static final String READ_POOL_NAME = "folding-stats-read";
+    private static final String ASYNC_POOL_NAME = "folding-stats-async";
+    private static final String ADMIN_ROLE = "admin";
 
     /**
      * Returns an implementation of {@link DbManager} as a {@link Bean} for {@link org.springframework.beans.factory.annotation.Autowired} injection.
      *
+     * <p>
+     * If a read-replica URL is provided, a separate connection pool is created for it and used for the heavier historic stats queries for periods
+     * that have not yet ended. Any reads that populate a permanent cache or follow a write are executed against the primary connection pool.
+     * Otherwise, the primary connection pool is used for all queries.
+     *
+     * <p>
+     * Metrics for all queries and connection pools are recorded through the provided {@link PostgresQueryConfiguration}.
+     *
+     * <p>
+     * If {@link DatabaseType#IN_MEMORY} is selected, no connection is made and all data is held in memory. The data source username and password
+     * are used as the credentials of the admin system user.
+     *
      * @param dataSourceUrl          the JDBC URL for the data source
      * @param dataSourceDriver       the driver for the data source
      * @param dataSourceUsername     the username for the data source
      * @param dataSourcePassword     the password URL for the data source
      * @param dataSourceDatabaseType the type of database for the data source
+     * @param bulkInsertMode         the {@link BulkInsertMode} used when writing a bulk collection of stats
+     * @param poolSize               the maximum number of connections in the primary connection pool
+     * @param readDataSourceUrl      the optional JDBC URL for the read-replica data source
+     * @param readPoolSize           the maximum number of connections in the read-replica connection pool
+     * @param queryConfiguration     the {@link PostgresQueryConfiguration} used to execute all queries
      * @return the {@link DbManager} implementation
      */
     @Bean
@@ -57,25 +88,133 @@ public class DbManagerConfiguration {
                                   @Value("${spring.datasource.driver}") final String dataSourceDriver,
                                   @Value("${spring.datasource.username}") final String dataSourceUsername,
                                   @Value("${spring.datasource.password}") final String dataSourcePassword,
-                                  @Value("${spring.datasource.database.type}") final String dataSourceDatabaseType) {
+                                  @Value("${spring.datasource.database.type}") final String dataSourceDatabaseType,
+                                  @Value("${spring.datasource.bulk.insert.mode:copy}") final String bulkInsertMode,
+                                  @Value("${spring.datasource.pool.size:10}") final int poolSize,
+                                  @Value("${spring.datasource.read.url:}") final String readDataSourceUrl,
+                                  @Value("${spring.datasource.read.pool.size:10}") final int readPoolSize,
+                                  final PostgresQueryConfiguration queryConfiguration) {
         final DatabaseType databaseType = DatabaseType.get(dataSourceDatabaseType);
 
+        if (databaseType == DatabaseType.IN_MEMORY) {
+            LOGGER.warn("Initialising {} of type '{}', no data will be persisted", DbManager.class.getSimpleName(), DatabaseType.IN_MEMORY);
+            return InMemoryDbManager.create(List.of(
+                InMemoryDbManager.SystemUser.create(dataSourceUsername, dataSourcePassword, Set.of(ADMIN_ROLE))
+            ));
+        }
+
         if (databaseType == DatabaseType.POSTGRESQL) {
             LOGGER.info("Initialising {} of type '{}'", DbManager.class.getSimpleName(), DatabaseType.POSTGRESQL);
             final Supplier<PostgresDataSource> supplier = Retry.decorateSupplier(retry(), () -> PostgresDataSource.create(
                 dataSourceUrl,
                 dataSourceDriver,
                 dataSourceUsername,
-                dataSourcePassword
+                dataSourcePassword,
+                PRIMARY_POOL_NAME,
+                poolSize
             ));
             final DataSource postgresDataSource = supplier.get();
-            return PostgresDbManager.create(postgresDataSource);
+
+            if (readDataSourceUrl.isBlank()) {
+                LOGGER.info("No read-replica configured, using primary DB for all queries");
+                return PostgresDbManager.create(postgresDataSource, postgresDataSource, getBulkInsertMode(bulkInsertMode), queryConfiguration);
+            }
+
+            LOGGER.info("Using read-replica for read-only queries");
+            final Supplier<PostgresDataSource> readSupplier = Retry.decorateSupplier(retry(), () -> PostgresDataSource.createReadOnly(
+                readDataSourceUrl,
+                dataSourceDriver,
+                dataSourceUsername,
+                dataSourcePassword,
+                READ_POOL_NAME,
+                readPoolSize
+            ));
+            final DataSource postgresReadDataSource = readSupplier.get();
+            return PostgresDbManager.create(postgresDataSource, postgresReadDataSource, getBulkInsertMode(bulkInsertMode), queryConfiguration);
         }
 
         throw new IllegalStateException(String.format("Unable to find database of type using variable '%s': %s",
             DATABASE_VARIABLE_NAME, dataSourceDatabaseType));
     }
 
+    /**
+     * Returns an implementation of {@link AsyncDbManager} as a {@link Bean} for {@link org.springframework.beans.factory.annotation.Autowired}
+     * injection, used for the read-heavy historic and summary queries.
+     *
+     * <p>
+     * For {@link DatabaseType#POSTGRESQL}, a non-blocking R2DBC connection pool is created against the primary DB, and another against the
+     * read-replica (if provided), so concurrent readers do not each hold a JDBC connection while waiting. As with the {@link DbManager}, only
+     * historic stats for periods that have not yet ended are read from the read-replica. If the async pool size is <b>0</b>, the R2DBC pools are
+     * disabled and each query is instead executed by the blocking {@link DbManager} on a virtual thread.
+     *
+     * <p>
+     * For {@link DatabaseType#IN_MEMORY}, queries do not perform any I/O, so they are executed directly by the {@link DbManager}.
+     *
+     * <p>
+     * Both the R2DBC pool and the virtual thread executor are closed with the returned {@link AsyncDbManager}, when Spring destroys the {@link Bean}.
+     *
+     * @param dbManager              the {@link DbManager}
+     * @param dataSourceUrl          the JDBC URL for the data source
+     * @param dataSourceUsername     the username for the data source
+     * @param dataSourcePassword     the password URL for the data source
+     * @param dataSourceDatabaseType the type of database for the data source
+     * @param readDataSourceUrl      the optional JDBC URL for the read-replica data source
+     * @param asyncPoolSize          the maximum number of connections in the R2DBC connection pool, or <b>0</b> to disable it
+     * @param queryConfiguration     the {@link PostgresQueryConfiguration} used to execute all queries
+     * @return the {@link AsyncDbManager} implementation
+     */
+    @Bean(destroyMethod = "close")
+    public AsyncDbManager getAsyncDbManager(final DbManager dbManager,
+                                            @Value("${spring.datasource.url}") final String dataSourceUrl,
+                                            @Value("${spring.datasource.username}") final String dataSourceUsername,
+                                            @Value("${spring.datasource.password}") final String dataSourcePassword,
+                                            @Value("${spring.datasource.database.type}") final String dataSourceDatabaseType,
+                                            @Value("${spring.datasource.read.url:}") final String readDataSourceUrl,
+                                            @Value("${spring.datasource.async.pool.size:10}") final int asyncPoolSize,
+                                            final PostgresQueryConfiguration queryConfiguration) {
+        final DatabaseType databaseType = DatabaseType.get(dataSourceDatabaseType);
+
+        if (databaseType == DatabaseType.IN_MEMORY) {
+            return ExecutorAsyncDbManager.create(dbManager, Runnable::run);
+        }
+
+        if (asyncPoolSize == 0) {
+            LOGGER.info("No async connection pool configured, executing async queries on virtual threads");
+            return ExecutorAsyncDbManager.create(dbManager, Executors.newVirtualThreadPerTaskExecutor());
+        }
+
+        LOGGER.info("Initialising {} of type '{}'", AsyncDbManager.class.getSimpleName(), databaseType);
+        final String asyncReadDataSourceUrl = readDataSourceUrl.isBlank() ? dataSourceUrl : readDataSourceUrl;
+        return PostgresAsyncDbManager.create(dataSourceUrl, asyncReadDataSourceUrl, dataSourceUsername, dataSourcePassword, ASYNC_POOL_NAME,
+            asyncPoolSize, queryConfiguration);
+    }
+
+    /**
+     * Returns the shared {@link PostgresQueryConfiguration} as a {@link Bean}, so all queries from the {@link DbManager} and {@link AsyncDbManager}
+     * record their metrics into the same meters.
+     *
+     * @param slowQueryThresholdMs the minimum execution time of a query in milliseconds to be logged as slow, or <b>0</b> to disable
+     * @param meterRegistry        the {@link MeterRegistry} for DB metrics
+     * @return the {@link PostgresQueryConfiguration}
+     */
+    @Bean
+    public PostgresQueryConfiguration getPostgresQueryConfiguration(
+        @Value("${spring.datasource.slow.query.threshold.ms:1000}") final long slowQueryThresholdMs,
+        final MeterRegistry meterRegistry) {
+        return PostgresQueryConfiguration.create(meterRegistry, Duration.ofMillis(slowQueryThresholdMs));
+    }
+
+    private static BulkInsertMode getBulkInsertMode(final String input) {
+        final BulkInsertMode bulkInsertMode = BulkInsertMode.get(input);
+
+        if (bulkInsertMode == BulkInsertMode.INVALID) {
+            throw new IllegalStateException(String.format("Invalid %s provided: %s", BulkInsertMode.class.getSimpleName(), input));
+        }
+
+        LOGGER.info("Using {} '{}' for bulk stats writes", BulkInsertMode.class.getSimpleName(), bulkInsertMode);
+        return bulkInsertMode;
+    }
+
     private static Retry retry() {
         final RetryConfig retryConfig = RetryConfig.custom()
             .maxAttempts(10)
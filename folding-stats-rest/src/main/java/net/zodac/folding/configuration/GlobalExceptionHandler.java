@@ -19,6 +19,7 @@ package net.zodac.folding.configuration;
 
 import static net.zodac.folding.rest.api.util.RestUtilConstants.GSON;
 
+import jakarta.servlet.http.HttpServletResponse;
 import net.zodac.folding.api.exception.ConflictException;
 import net.zodac.folding.api.exception.UsedByException;
 import net.zodac.folding.api.exception.ValidationException;
@@ -27,6 +28,7 @@ import net.zodac.folding.rest.api.LoginCredentials;
 import net.zodac.folding.rest.api.header.RestHeader;
 import net.zodac.folding.rest.exception.ForbiddenException;
 import net.zodac.folding.rest.exception.InvalidDayException;
+import net.zodac.folding.rest.exception.InvalidFieldException;
 import net.zodac.folding.rest.exception.InvalidLoginCredentialsException;
 import net.zodac.folding.rest.exception.InvalidMonthException;
 import net.zodac.folding.rest.exception.InvalidStateException;
@@ -34,6 +36,8 @@ import net.zodac.folding.rest.exception.InvalidYearException;
 import net.zodac.folding.rest.exception.NotFoundException;
 import net.zodac.folding.rest.exception.OutOfRangeDayException;
 import net.zodac.folding.rest.exception.ServiceUnavailableException;
+import net.zodac.folding.rest.exception.TooManyIdsException;
+import net.zodac.folding.rest.exception.TooManyRequestsException;
 import net.zodac.folding.rest.exception.UnauthorizedException;
 import net.zodac.folding.rest.response.ErrorResponse;
 import org.apache.logging.log4j.LogManager;
@@ -117,6 +121,23 @@ public class GlobalExceptionHandler {
         LOGGER.error(e.getMessage());
     }
 
+    /**
+     * Returned when a request made to a REST endpoint is rejected by the rate limiter.
+     *
+     * <p>
+     * Returns a <b>429_TOO_MANY_REQUESTS</b> response with no response body, and the {@link RestHeader#RETRY_AFTER} header set to the number
+     * of seconds the client should wait before retrying.
+     *
+     * @param e        the {@link TooManyRequestsException}
+     * @param response the {@link HttpServletResponse}
+     */
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public void tooManyRequests(final TooManyRequestsException e, final HttpServletResponse response) {
+        LOGGER.debug(e.getMessage());
+        response.setHeader(RestHeader.RETRY_AFTER.headerName(), String.valueOf(e.getRetryAfterSeconds()));
+    }
+
     /**
      * Returned when a request made to a REST endpoint has an invalid parameter type.
      *
@@ -260,6 +281,44 @@ public class GlobalExceptionHandler {
         return GSON.toJson(ErrorResponse.create(errorMessage));
     }
 
+    /**
+     * Returned when a request made to a REST endpoint asks for a field which does not exist on the resource.
+     *
+     * <p>
+     * Returns a <b>400_BAD_REQUEST</b> response with an 'invalid field' error message body.
+     *
+     * @param e the {@link InvalidFieldException}
+     * @return the {@link ErrorResponse} body
+     */
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidFieldException.class)
+    public String invalidField(final InvalidFieldException e) {
+        final String errorMessage = String.format("The field '%s' is not valid, must be one of: %s", e.getField(),
+            e.getAvailableFields().stream().sorted().toList());
+        LOGGER.error(errorMessage);
+        return GSON.toJson(ErrorResponse.create(errorMessage));
+    }
+
+    /**
+     * Returned when a request made to a REST endpoint provides more IDs than can be retrieved in a single request.
+     *
+     * <p>
+     * Returns a <b>400_BAD_REQUEST</b> response with a 'too many IDs' error message body.
+     *
+     * @param e the {@link TooManyIdsException}
+     * @return the {@link ErrorResponse} body
+     */
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(TooManyIdsException.class)
+    public String tooManyIds(final TooManyIdsException e) {
+        final String errorMessage = String.format("Requested %s IDs, but at most %s can be requested at once", e.getNumberOfIds(),
+            e.getMaximumNumberOfIds());
+        LOGGER.error(errorMessage);
+        return GSON.toJson(ErrorResponse.create(errorMessage));
+    }
+
     /**
      * Returned when an invalid request is made to update a {@link UserChangeState}.
      *
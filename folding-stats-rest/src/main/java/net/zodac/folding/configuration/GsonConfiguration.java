@@ -21,27 +21,30 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.time.LocalDateTime;
 import net.zodac.folding.rest.api.util.LocalDateTimeGsonTypeAdapter;
+import net.zodac.folding.rest.api.util.StreamingGsonTypeAdapterFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 /**
- * {@link Configuration} class used to inject an instance of {@link Gson} with custom {@link com.google.gson.JsonDeserializer}s and
- * {@link com.google.gson.JsonSerializer}s.
+ * {@link Configuration} class used to inject an instance of {@link Gson} with custom {@link com.google.gson.TypeAdapter}s.
  */
 @Configuration
 @ConditionalOnClass(Gson.class)
 public class GsonConfiguration {
 
     /**
-     * Returns an instance of {@link Gson} with the {@link LocalDateTimeGsonTypeAdapter} registered.
+     * Returns an instance of {@link Gson} with the {@link LocalDateTimeGsonTypeAdapter} and {@link StreamingGsonTypeAdapterFactory} registered.
      *
      * @return the {@link Gson} instance
      */
     @Bean
+    @Primary
     public Gson gson() {
         return new GsonBuilder()
             .registerTypeAdapter(LocalDateTime.class, LocalDateTimeGsonTypeAdapter.getInstance())
+            .registerTypeAdapterFactory(StreamingGsonTypeAdapterFactory.getInstance())
             .create();
     }
 }
@@ -21,10 +21,16 @@ import java.util.Collection;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.tc.stats.UserStats;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
+import net.zodac.folding.bean.MonthlyResultCache;
 import net.zodac.folding.bean.StatsRepository;
 import net.zodac.folding.bean.api.FoldingRepository;
+import net.zodac.folding.bean.tc.user.UserStatsCatchUp;
+import net.zodac.folding.rest.api.tc.AllTeamsSummary;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,20 +45,31 @@ import org.springframework.context.annotation.Configuration;
 public class InitialisationConfiguration {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MONTHLY_RESULT_PRELOAD_MONTHS = EnvironmentVariableUtils.getIntOrDefault("MONTHLY_RESULT_PRELOAD_MONTHS", 0);
+    private static final boolean IS_STATS_CATCH_UP_ENABLED = EnvironmentVariableUtils.isEnabled("ENABLE_STATS_CATCH_UP");
 
     private final FoldingRepository foldingRepository;
+    private final MonthlyResultCache monthlyResultCache;
     private final StatsRepository statsRepository;
+    private final UserStatsCatchUp userStatsCatchUp;
 
     /**
      * {@link Autowired} constructor.
      *
-     * @param foldingRepository the {@link FoldingRepository}
-     * @param statsRepository   the {@link StatsRepository}
+     * @param foldingRepository  the {@link FoldingRepository}
+     * @param monthlyResultCache the {@link MonthlyResultCache}
+     * @param statsRepository    the {@link StatsRepository}
+     * @param userStatsCatchUp   the {@link UserStatsCatchUp}
      */
     @Autowired
-    public InitialisationConfiguration(final FoldingRepository foldingRepository, final StatsRepository statsRepository) {
+    public InitialisationConfiguration(final FoldingRepository foldingRepository,
+                                       final MonthlyResultCache monthlyResultCache,
+                                       final StatsRepository statsRepository,
+                                       final UserStatsCatchUp userStatsCatchUp) {
         this.foldingRepository = foldingRepository;
+        this.monthlyResultCache = monthlyResultCache;
         this.statsRepository = statsRepository;
+        this.userStatsCatchUp = userStatsCatchUp;
     }
 
     /**
@@ -60,13 +77,22 @@ public class InitialisationConfiguration {
      * <ol>
      *     <li>Initialise the {@link Hardware}, {@link User}, {@link Team},
      *     {@link OffsetTcStats} and initial {@link UserStats} caches</li>
+     *     <li>Preload the {@link MonthlyResult}s of the most recent closed months, if configured</li>
+     *     <li>Publish the first {@link AllTeamsSummary}, so it can be served while stats are being updated or reset</li>
+     *     <li>Fill any hourly {@link UserTcStats} missed while the system was unavailable in the background, if configured</li>
      * </ol>
      *
      * @return the {@link CommandLineRunner} with the execution to be run
      */
     @Bean
     public CommandLineRunner initialisation() {
-        return _ -> initCaches();
+        return _ -> {
+            initCaches();
+
+            // The catch-up retrieves the current stats from the Folding@Home API for every user with missing hours, so it does not delay startup
+            // It holds the stats parsing lock, so a scheduled parsing that starts in the meantime waits for it to complete
+            Thread.ofVirtual().name("stats-catch-up").start(this::catchUpMissingStats);
+        };
     }
 
     private void initCaches() {
@@ -85,5 +111,25 @@ public class InitialisationConfiguration {
         }
 
         LOGGER.debug("Initialised stats caches");
+
+        if (MONTHLY_RESULT_PRELOAD_MONTHS > 0) {
+            monthlyResultCache.preload(MONTHLY_RESULT_PRELOAD_MONTHS);
+        }
+
+        statsRepository.getAllTeamsSummary();
+        LOGGER.debug("Published initial TC result");
+    }
+
+    private void catchUpMissingStats() {
+        if (!IS_STATS_CATCH_UP_ENABLED) {
+            LOGGER.debug("Stats catch-up is not enabled");
+            return;
+        }
+
+        try {
+            userStatsCatchUp.catchUpMissingHourlyStats();
+        } catch (final Exception e) {
+            LOGGER.warn("Unexpected error catching up on missing stats", e);
+        }
     }
 }
@@ -17,6 +17,7 @@
 
 package net.zodac.folding.configuration;
 
+import net.zodac.folding.rest.interceptor.RateLimitInterceptor;
 import net.zodac.folding.rest.interceptor.SecurityInterceptor;
 import net.zodac.folding.rest.interceptor.StateInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,17 +35,21 @@ public class InterceptorRegister implements WebMvcConfigurer {
 
     private final SecurityInterceptor securityInterceptor;
     private final StateInterceptor stateInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     /**
      * {@link Autowired} constructor.
      *
-     * @param securityInterceptor the {@link SecurityInterceptor}
-     * @param stateInterceptor    the {@link StateInterceptor}
+     * @param securityInterceptor  the {@link SecurityInterceptor}
+     * @param stateInterceptor     the {@link StateInterceptor}
+     * @param rateLimitInterceptor the {@link RateLimitInterceptor}
      */
     @Autowired
-    public InterceptorRegister(final SecurityInterceptor securityInterceptor, final StateInterceptor stateInterceptor) {
+    public InterceptorRegister(final SecurityInterceptor securityInterceptor, final StateInterceptor stateInterceptor,
+                               final RateLimitInterceptor rateLimitInterceptor) {
         this.securityInterceptor = securityInterceptor;
         this.stateInterceptor = stateInterceptor;
+        this.rateLimitInterceptor = rateLimitInterceptor;
     }
 
     @Override
@@ -58,5 +63,10 @@ public class InterceptorRegister implements WebMvcConfigurer {
             .addInterceptor(stateInterceptor)
             .addPathPatterns("/**")
             .excludePathPatterns("/error", "/login/admin");
+
+        registry
+            .addInterceptor(rateLimitInterceptor)
+            .addPathPatterns("/**")
+            .excludePathPatterns("/error", "/login/admin");
     }
 }
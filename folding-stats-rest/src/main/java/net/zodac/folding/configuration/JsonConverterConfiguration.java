@@ -22,6 +22,8 @@ import com.google.gson.GsonBuilder;
 import java.time.LocalDateTime;
 import java.util.List;
 import net.zodac.folding.rest.api.util.LocalDateTimeGsonTypeAdapter;
+import net.zodac.folding.rest.api.util.StreamingGsonTypeAdapterFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.GsonHttpMessageConverter;
@@ -33,15 +35,30 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class JsonConverterConfiguration implements WebMvcConfigurer {
 
+    /**
+     * The name of the {@link Gson} {@link Bean} used to serialize REST responses.
+     */
+    public static final String RESPONSE_GSON = "responseGson";
+
     @Override
     public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        converters.add(new GsonHttpMessageConverter(responseGson()));
+    }
+
+    /**
+     * Returns the instance of {@link Gson} used by the {@link GsonHttpMessageConverter} to serialize REST responses. Any response content that
+     * is serialized outside the converter should use this instance, so it matches a normal response.
+     *
+     * @return the response {@link Gson} instance
+     */
+    @Bean(RESPONSE_GSON)
+    public Gson responseGson() {
         // We don't try and reuse the GSON instance available in RestUtilConstants
         // This is because we do not want pretty-print enabled
-        final Gson gson = new GsonBuilder()
+        return new GsonBuilder()
             .registerTypeAdapter(LocalDateTime.class, LocalDateTimeGsonTypeAdapter.getInstance())
+            .registerTypeAdapterFactory(StreamingGsonTypeAdapterFactory.getInstance())
             .disableHtmlEscaping()
             .create();
-
-        converters.add(new GsonHttpMessageConverter(gson));
     }
 }
@@ -20,17 +20,30 @@ package net.zodac.folding.rest.controller;
 import static net.zodac.folding.rest.response.Responses.ok;
 
 import jakarta.annotation.security.RolesAllowed;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.api.util.DateTimeUtils;
 import net.zodac.folding.api.util.LoggerName;
+import net.zodac.folding.bean.StatsRepository;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.bean.tc.lars.LarsHardwareUpdater;
+import net.zodac.folding.bean.tc.user.UserStatsCatchUp;
+import net.zodac.folding.bean.tc.user.UserStatsRetrier;
 import net.zodac.folding.rest.controller.api.DebugEndpoint;
+import net.zodac.folding.rest.interceptor.CredentialCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -44,20 +57,38 @@ import org.springframework.web.bind.annotation.RestController;
 public class DebugController implements DebugEndpoint {
 
     private static final Logger AUDIT_LOGGER = LogManager.getLogger(LoggerName.AUDIT.get());
+    private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
 
+    private final CredentialCache credentialCache;
     private final FoldingRepository foldingRepository;
     private final LarsHardwareUpdater larsHardwareUpdater;
+    private final StatsRepository statsRepository;
+    private final UserStatsCatchUp userStatsCatchUp;
+    private final UserStatsRetrier userStatsRetrier;
 
     /**
      * {@link Autowired} constructor.
      *
+     * @param credentialCache     the {@link CredentialCache}
      * @param foldingRepository   the {@link FoldingRepository}
      * @param larsHardwareUpdater the {@link LarsHardwareUpdater}
+     * @param statsRepository     the {@link StatsRepository}
+     * @param userStatsCatchUp    the {@link UserStatsCatchUp}
+     * @param userStatsRetrier    the {@link UserStatsRetrier}
      */
     @Autowired
-    public DebugController(final FoldingRepository foldingRepository, final LarsHardwareUpdater larsHardwareUpdater) {
+    public DebugController(final CredentialCache credentialCache,
+                           final FoldingRepository foldingRepository,
+                           final LarsHardwareUpdater larsHardwareUpdater,
+                           final StatsRepository statsRepository,
+                           final UserStatsCatchUp userStatsCatchUp,
+                           final UserStatsRetrier userStatsRetrier) {
+        this.credentialCache = credentialCache;
         this.foldingRepository = foldingRepository;
         this.larsHardwareUpdater = larsHardwareUpdater;
+        this.statsRepository = statsRepository;
+        this.userStatsCatchUp = userStatsCatchUp;
+        this.userStatsRetrier = userStatsRetrier;
     }
 
     @Override
@@ -77,4 +108,45 @@ public class DebugController implements DebugEndpoint {
         foldingRepository.printCacheContents();
         return ok();
     }
+
+    @Override
+    @RolesAllowed("admin")
+    @DeleteMapping(path = "/caches/credentials", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> invalidateCredentials() {
+        AUDIT_LOGGER.info("Invalidating cached system user credentials");
+        credentialCache.invalidateAll();
+        return ok();
+    }
+
+    @Override
+    @RolesAllowed("admin")
+    @GetMapping(path = "/ingestion/runs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<IngestionRun>> getIngestionRuns(
+        @RequestParam(value = "hours", required = false, defaultValue = "24") final int hours) {
+        AUDIT_LOGGER.info("GET request received to retrieve stats parsing runs for the last {} hours", hours);
+        final LocalDateTime since = DATE_TIME_UTILS.currentUtcLocalDateTime().minusHours(Math.max(1, hours));
+        return ok(statsRepository.getIngestionRunsSince(since));
+    }
+
+    @Override
+    @RolesAllowed("admin")
+    @PostMapping(path = "/ingestion/retry", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<User>> retryFailedUsers() {
+        AUDIT_LOGGER.info("POST request received to re-parse stats for failed users of the current hour");
+        final LocalDateTime currentHour = DATE_TIME_UTILS.currentUtcLocalDateTime().truncatedTo(ChronoUnit.HOURS);
+        final Collection<User> retriedUsers = userStatsRetrier.retryFailedUsersSince(currentHour)
+            .stream()
+            .map(User::hidePasskey)
+            .toList();
+        return ok(retriedUsers);
+    }
+
+    @Override
+    @RolesAllowed("admin")
+    @PostMapping(path = "/stats/catch-up", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> startStatsCatchUp() {
+        AUDIT_LOGGER.info("POST request received to fill missing hourly stats");
+        userStatsCatchUp.catchUpMissingHourlyStats();
+        return ok();
+    }
 }
@@ -17,30 +17,41 @@
 
 package net.zodac.folding.rest.controller;
 
+import static net.zodac.folding.rest.response.Responses.badRequest;
 import static net.zodac.folding.rest.response.Responses.cachedOk;
 import static net.zodac.folding.rest.response.Responses.created;
 import static net.zodac.folding.rest.response.Responses.ok;
 import static net.zodac.folding.rest.util.RequestParameterExtractor.extractParameters;
 
+import com.google.gson.Gson;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.state.SystemState;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.api.util.LoggerName;
 import net.zodac.folding.api.util.StringUtils;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.bean.tc.validation.HardwareValidator;
+import net.zodac.folding.configuration.JsonConverterConfiguration;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.tc.request.HardwareRequest;
 import net.zodac.folding.rest.controller.api.HardwareEndpoint;
 import net.zodac.folding.rest.exception.NotFoundException;
+import net.zodac.folding.rest.response.BatchResult;
+import net.zodac.folding.rest.response.Page;
 import net.zodac.folding.rest.util.ReadRequired;
 import net.zodac.folding.rest.util.WriteRequired;
 import net.zodac.folding.state.SystemStateManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -65,17 +76,22 @@ public class HardwareController implements HardwareEndpoint {
 
     private final HardwareValidator hardwareValidator;
     private final FoldingRepository foldingRepository;
+    private final Gson responseGson;
 
     /**
      * {@link Autowired} constructor.
      *
      * @param hardwareValidator the {@link HardwareValidator}
      * @param foldingRepository the {@link FoldingRepository}
+     * @param responseGson      the {@link Gson} used to serialize REST responses
      */
     @Autowired
-    public HardwareController(final HardwareValidator hardwareValidator, final FoldingRepository foldingRepository) {
+    public HardwareController(final HardwareValidator hardwareValidator,
+                              final FoldingRepository foldingRepository,
+                              @Qualifier(JsonConverterConfiguration.RESPONSE_GSON) final Gson responseGson) {
         this.hardwareValidator = hardwareValidator;
         this.foldingRepository = foldingRepository;
+        this.responseGson = responseGson;
     }
 
     @Override
@@ -93,16 +109,52 @@ public class HardwareController implements HardwareEndpoint {
         return created(elementWithId, elementWithId.id());
     }
 
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<Hardware>>> createBatch(@RequestBody final Collection<HardwareRequest> hardwareRequests,
+                                                                             final HttpServletRequest request) {
+        AUDIT_LOGGER.info("POST request received to create {} hardwares at '{}'", hardwareRequests.size(), request.getRequestURI());
+
+        final BatchResult<Hardware> batchResult = BatchResult.validate(hardwareRequests, hardwareValidator::create);
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of hardwares failed validation, no hardwares created");
+            return badRequest(batchResult.failedResults());
+        }
+
+        final List<Hardware> elementsWithIds = foldingRepository.createAllHardware(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Created hardwares with IDs {}", elementsWithIds.stream().map(Hardware::id).toList());
+        return created(batchResult.processedResults(elementsWithIds, HttpStatus.CREATED));
+    }
+
     @Override
     @ReadRequired
     @PermitAll
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, params = {Page.NO_CURSOR, Page.NO_LIMIT, Page.NO_FIELDS})
     public ResponseEntity<Collection<Hardware>> getAll(final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received for all hardwares at '{}'", request.getRequestURI());
         final Collection<Hardware> elements = foldingRepository.getAllHardware();
         return cachedOk(elements);
     }
 
+    @Override
+    @ReadRequired
+    @PermitAll
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<?>> getPage(
+        @RequestParam(value = PageRequest.CURSOR_PARAMETER, required = false, defaultValue = "0") final int cursor,
+        @RequestParam(value = PageRequest.LIMIT_PARAMETER, required = false, defaultValue = "0") final int limit,
+        @RequestParam(value = PageRequest.FIELDS_PARAMETER, required = false, defaultValue = "") final String fields,
+        final HttpServletRequest request) {
+        AUDIT_LOGGER.debug("GET request received for a page of hardwares at '{}?{}'", request.getRequestURI(), extractParameters(request));
+        final Collection<Hardware> elements = foldingRepository.getAllHardware();
+        final PageRequest pageRequest = PageRequest.fromQueryParameters(cursor, limit, fields);
+        return cachedOk(Page.create(elements, Hardware.class, Hardware::id, pageRequest, responseGson));
+    }
+
     @Override
     @ReadRequired
     @PermitAll
@@ -159,6 +211,32 @@ public class HardwareController implements HardwareEndpoint {
         return ok(updatedHardwareWithId, updatedHardwareWithId.id());
     }
 
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @PutMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<Hardware>>> updateBatch(
+        @RequestBody final Collection<BatchUpdateRequest<HardwareRequest>> hardwareUpdateRequests,
+        final HttpServletRequest request) {
+        AUDIT_LOGGER.info("PUT request received to update {} hardwares at '{}'", hardwareUpdateRequests.size(), request.getRequestURI());
+
+        final BatchResult<Hardware> batchResult = BatchResult.validate(hardwareUpdateRequests, (hardwareUpdateRequest, pendingHardware) -> {
+            final Hardware existingHardware = foldingRepository.getHardware(hardwareUpdateRequest.id());
+            final Hardware validatedHardware = hardwareValidator.update(hardwareUpdateRequest.request(), existingHardware, pendingHardware);
+            return Hardware.updateWithId(existingHardware.id(), validatedHardware);
+        });
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of hardwares failed validation, no hardwares updated");
+            return badRequest(batchResult.failedResults());
+        }
+
+        final List<Hardware> updatedHardwares = foldingRepository.updateAllHardware(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Updated hardwares with IDs {}", updatedHardwares.stream().map(Hardware::id).toList());
+        return ok(batchResult.processedResults(updatedHardwares, HttpStatus.OK));
+    }
+
     @Override
     @WriteRequired
     @RolesAllowed("admin")
@@ -174,4 +252,27 @@ public class HardwareController implements HardwareEndpoint {
         AUDIT_LOGGER.info("Deleted hardware with ID {}", hardwareId);
         return ok();
     }
+
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @DeleteMapping(path = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<Hardware>>> deleteBatch(@RequestParam("ids") final List<Integer> hardwareIds,
+                                                                             final HttpServletRequest request) {
+        AUDIT_LOGGER.info("DELETE request for {} hardwares received at '{}?{}'", hardwareIds.size(), request.getRequestURI(),
+            extractParameters(request));
+
+        final BatchResult<Hardware> batchResult = BatchResult.validate(hardwareIds,
+            (hardwareId, _) -> hardwareValidator.delete(foldingRepository.getHardware(hardwareId)));
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of hardwares failed validation, no hardwares deleted");
+            return badRequest(batchResult.failedResults());
+        }
+
+        foldingRepository.deleteAllHardware(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Deleted hardwares with IDs {}", hardwareIds);
+        return ok(batchResult.processedResults(batchResult.validated(), HttpStatus.OK));
+    }
 }
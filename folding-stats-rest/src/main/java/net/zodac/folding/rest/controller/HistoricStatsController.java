@@ -18,19 +18,30 @@
 package net.zodac.folding.rest.controller;
 
 import static net.zodac.folding.rest.response.Responses.cachedOk;
+import static net.zodac.folding.rest.response.Responses.permanentlyCachedOk;
+import static net.zodac.folding.rest.util.RequestParameterExtractor.extractParameters;
 
 import jakarta.annotation.security.PermitAll;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.util.LoggerName;
+import net.zodac.folding.bean.HistoricStatsPeriod;
 import net.zodac.folding.bean.StatsRepository;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.historic.UserHistoricStats;
 import net.zodac.folding.rest.controller.api.HistoricStatsEndpoint;
+import net.zodac.folding.rest.exception.NotFoundException;
+import net.zodac.folding.rest.exception.TooManyIdsException;
 import net.zodac.folding.rest.util.ReadRequired;
 import net.zodac.folding.rest.util.date.DateDetails;
 import net.zodac.folding.rest.util.date.DateParser;
@@ -44,6 +55,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -55,9 +67,12 @@ public class HistoricStatsController implements HistoricStatsEndpoint {
 
     private static final Logger AUDIT_LOGGER = LogManager.getLogger(LoggerName.AUDIT.get());
 
-    // Stat updates occur every hour, so we must invalidate responses every hour
+    // Stat updates occur every hour, so we must invalidate responses for periods that are not yet closed every hour
     private static final long CACHE_EXPIRATION_TIME = TimeUnit.HOURS.toSeconds(1L);
 
+    // Stats for all requested users are retrieved and returned in a single response, so the number of users must be bounded
+    private static final int MAXIMUM_USER_IDS = 100;
+
     private final FoldingRepository foldingRepository;
     private final StatsRepository statsRepository;
 
@@ -77,125 +92,180 @@ public class HistoricStatsController implements HistoricStatsEndpoint {
     @ReadRequired
     @PermitAll
     @GetMapping(path = "/users/{userId}/{year}/{month}/{day}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Collection<HistoricStats>> getUserHistoricStatsHourly(@PathVariable("userId") final int userId,
-                                                                                @PathVariable("year") final String year,
-                                                                                @PathVariable("month") final String month,
-                                                                                @PathVariable("day") final String day,
-                                                                                final HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getUserHistoricStatsHourly(@PathVariable("userId") final int userId,
+                                                                                                   @PathVariable("year") final String year,
+                                                                                                   @PathVariable("month") final String month,
+                                                                                                   @PathVariable("day") final String day,
+                                                                                                   final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received to show hourly TC user stats at '{}'", request.getRequestURI());
 
         final DateDetails date = DateParser.of(year, month, day);
         final User user = foldingRepository.getUserWithPasskey(userId);
-        final Collection<HistoricStats> historicStats = statsRepository.getHistoricStats(user, date.year(), date.month(), date.day());
-        return cachedOk(historicStats, CACHE_EXPIRATION_TIME);
+        return statsRepository.getHistoricStats(user, date.year(), date.month(), date.day())
+            .thenApply(historicStats -> cachedOk(historicStats, CACHE_EXPIRATION_TIME));
     }
 
     @Override
     @ReadRequired
     @PermitAll
     @GetMapping(path = "/users/{userId}/{year}/{month}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Collection<HistoricStats>> getUserHistoricStatsDaily(@PathVariable("userId") final int userId,
-                                                                               @PathVariable("year") final String year,
-                                                                               @PathVariable("month") final String month,
-                                                                               final HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getUserHistoricStatsDaily(@PathVariable("userId") final int userId,
+                                                                                                  @PathVariable("year") final String year,
+                                                                                                  @PathVariable("month") final String month,
+                                                                                                  final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received to show daily TC user stats at '{}'", request.getRequestURI());
 
         final MonthDetails date = DateParser.of(year, month);
         final User user = foldingRepository.getUserWithPasskey(userId);
-        final Collection<HistoricStats> historicStats = statsRepository.getHistoricStats(user, date.year(), date.month());
-        return cachedOk(historicStats, CACHE_EXPIRATION_TIME);
+        return statsRepository.getHistoricStats(user, date.year(), date.month())
+            .thenApply(historicStats -> historicStatsResponse(historicStats, HistoricStatsPeriod.ofMonth(date.year(), date.month())));
     }
 
     @Override
     @ReadRequired
     @PermitAll
     @GetMapping(path = "/users/{userId}/{year}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Collection<HistoricStats>> getUserHistoricStatsMonthly(@PathVariable("userId") final int userId,
-                                                                                 @PathVariable("year") final String year,
-                                                                                 final HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getUserHistoricStatsMonthly(@PathVariable("userId") final int userId,
+                                                                                                    @PathVariable("year") final String year,
+                                                                                                    final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received to show monthly TC user stats at '{}'", request.getRequestURI());
 
         final YearDetails date = DateParser.of(year);
         final User user = foldingRepository.getUserWithPasskey(userId);
-        final Collection<HistoricStats> historicStats = statsRepository.getHistoricStats(user, date.year());
-        return cachedOk(historicStats, CACHE_EXPIRATION_TIME);
+        return statsRepository.getHistoricStats(user, date.year())
+            .thenApply(historicStats -> historicStatsResponse(historicStats, HistoricStatsPeriod.ofYear(date.year())));
+    }
+
+    @Override
+    @ReadRequired
+    @PermitAll
+    @GetMapping(path = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<Collection<UserHistoricStats>>> getUsersHistoricStats(
+        @RequestParam("ids") final List<Integer> userIds,
+        @RequestParam("year") final String year,
+        @RequestParam("month") final String month,
+        @RequestParam(value = "day", required = false, defaultValue = "") final String day,
+        final HttpServletRequest request
+    ) {
+        AUDIT_LOGGER.debug("GET request received to show TC stats for {} users at '{}?{}'", userIds.size(), request.getRequestURI(),
+            extractParameters(request));
+
+        if (userIds.size() > MAXIMUM_USER_IDS) {
+            throw new TooManyIdsException(userIds.size(), MAXIMUM_USER_IDS);
+        }
+
+        if (day.isBlank()) {
+            final MonthDetails date = DateParser.of(year, month);
+            final Collection<User> users = getUsersWithPasskeys(userIds);
+            return statsRepository.getHistoricStatsForUsers(users, date.year(), date.month(), 0)
+                .thenApply(historicStats -> cachedOk(historicStats, CACHE_EXPIRATION_TIME));
+        }
+
+        final DateDetails date = DateParser.of(year, month, day);
+        final Collection<User> users = getUsersWithPasskeys(userIds);
+        return statsRepository.getHistoricStatsForUsers(users, date.year(), date.month(), date.day())
+            .thenApply(historicStats -> cachedOk(historicStats, CACHE_EXPIRATION_TIME));
     }
 
     @Override
     @ReadRequired
     @PermitAll
     @GetMapping(path = "/teams/{teamId}/{year}/{month}/{day}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Collection<HistoricStats>> getTeamHistoricStatsHourly(@PathVariable("teamId") final int teamId,
-                                                                                @PathVariable("year") final String year,
-                                                                                @PathVariable("month") final String month,
-                                                                                @PathVariable("day") final String day,
-                                                                                final HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getTeamHistoricStatsHourly(@PathVariable("teamId") final int teamId,
+                                                                                                   @PathVariable("year") final String year,
+                                                                                                   @PathVariable("month") final String month,
+                                                                                                   @PathVariable("day") final String day,
+                                                                                                   final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received to show hourly TC user stats at '{}'", request.getRequestURI());
 
         final DateDetails date = DateParser.of(year, month, day);
         final Team team = foldingRepository.getTeam(teamId);
 
         final Collection<User> teamUsers = foldingRepository.getUsersOnTeam(team);
-        final Collection<HistoricStats> teamHourlyStats = new ArrayList<>(teamUsers.size());
-
-        for (final User user : teamUsers) {
-            AUDIT_LOGGER.debug("Getting historic stats for user with ID: {}", user.id());
-            final Collection<HistoricStats> dailyStats = statsRepository.getHistoricStats(user, date.year(), date.month(), date.day());
-            teamHourlyStats.addAll(dailyStats);
-        }
-
-        final Collection<HistoricStats> combinedHistoricStats = HistoricStats.combine(teamHourlyStats);
-        return cachedOk(combinedHistoricStats, CACHE_EXPIRATION_TIME);
+        return combinedTeamStats(teamUsers, user -> statsRepository.getHistoricStats(user, date.year(), date.month(), date.day()));
     }
 
     @Override
     @ReadRequired
     @PermitAll
     @GetMapping(path = "/teams/{teamId}/{year}/{month}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Collection<HistoricStats>> getTeamHistoricStatsDaily(@PathVariable("teamId") final int teamId,
-                                                                               @PathVariable("year") final String year,
-                                                                               @PathVariable("month") final String month,
-                                                                               final HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getTeamHistoricStatsDaily(@PathVariable("teamId") final int teamId,
+                                                                                                  @PathVariable("year") final String year,
+                                                                                                  @PathVariable("month") final String month,
+                                                                                                  final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received to show daily TC user stats at '{}'", request.getRequestURI());
 
         final MonthDetails date = DateParser.of(year, month);
         final Team team = foldingRepository.getTeam(teamId);
 
         final Collection<User> teamUsers = foldingRepository.getUsersOnTeam(team);
-        final Collection<HistoricStats> teamDailyStats = new ArrayList<>(teamUsers.size());
-
-        for (final User user : teamUsers) {
-            AUDIT_LOGGER.debug("Getting historic stats for user with ID: {}", user.id());
-            final Collection<HistoricStats> dailyStats = statsRepository.getHistoricStats(user, date.year(), date.month());
-            teamDailyStats.addAll(dailyStats);
-        }
-
-        final Collection<HistoricStats> combinedHistoricStats = HistoricStats.combine(teamDailyStats);
-        return cachedOk(combinedHistoricStats, CACHE_EXPIRATION_TIME);
+        return combinedTeamStats(teamUsers, user -> statsRepository.getHistoricStats(user, date.year(), date.month()));
     }
 
     @Override
     @ReadRequired
     @PermitAll
     @GetMapping(path = "/teams/{teamId}/{year}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Collection<HistoricStats>> getTeamHistoricStatsMonthly(@PathVariable("teamId") final int teamId,
-                                                                                 @PathVariable("year") final String year,
-                                                                                 final HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getTeamHistoricStatsMonthly(@PathVariable("teamId") final int teamId,
+                                                                                                    @PathVariable("year") final String year,
+                                                                                                    final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received to show monthly TC team stats at '{}'", request.getRequestURI());
 
         final YearDetails date = DateParser.of(year);
         final Team team = foldingRepository.getTeam(teamId);
 
         final Collection<User> teamUsers = foldingRepository.getUsersOnTeam(team);
-        final Collection<HistoricStats> teamMonthlyStats = new ArrayList<>(teamUsers.size());
+        return combinedTeamStats(teamUsers, user -> statsRepository.getHistoricStats(user, date.year()));
+    }
 
-        for (final User user : teamUsers) {
-            AUDIT_LOGGER.debug("Getting historic stats for user with ID: {}", user.id());
-            final Collection<HistoricStats> monthlyStats = statsRepository.getHistoricStats(user, date.year());
-            teamMonthlyStats.addAll(monthlyStats);
-        }
+    // Retrieves all users in a single lookup, rather than one per requested ID
+    private Collection<User> getUsersWithPasskeys(final Collection<Integer> userIds) {
+        final Map<Integer, User> usersById = foldingRepository.getAllUsersWithPasskeys()
+            .stream()
+            .collect(Collectors.toMap(User::id, Function.identity()));
+
+        return userIds
+            .stream()
+            .distinct()
+            .map(userId -> {
+                final User user = usersById.get(userId);
+                if (user == null) {
+                    throw new NotFoundException(User.class, userId);
+                }
+                return user;
+            })
+            .toList();
+    }
+
+    // Requests the historic stats for all users concurrently, then combines them once all are available
+    // The team's users can change, so team stats are never cached permanently, even for a closed period
+    private static CompletableFuture<ResponseEntity<Collection<HistoricStats>>> combinedTeamStats(
+        final Collection<User> teamUsers,
+        final Function<? super User, CompletableFuture<Collection<HistoricStats>>> historicStatsForUser
+    ) {
+        final List<CompletableFuture<Collection<HistoricStats>>> userStats = teamUsers
+            .stream()
+            .map(user -> {
+                AUDIT_LOGGER.debug("Getting historic stats for user with ID: {}", user.id());
+                return historicStatsForUser.apply(user);
+            })
+            .toList();
+
+        return CompletableFuture.allOf(userStats.toArray(CompletableFuture<?>[]::new))
+            .thenApply(_ -> {
+                final Collection<HistoricStats> teamStats = new ArrayList<>(teamUsers.size());
+                for (final CompletableFuture<Collection<HistoricStats>> stats : userStats) {
+                    teamStats.addAll(stats.join());
+                }
+
+                return cachedOk(HistoricStats.combine(teamStats), CACHE_EXPIRATION_TIME);
+            });
+    }
 
-        final Collection<HistoricStats> combinedHistoricStats = HistoricStats.combine(teamMonthlyStats);
-        return cachedOk(combinedHistoricStats, CACHE_EXPIRATION_TIME);
+    // Daily and monthly stats of a single user for a closed period will no longer change, so can be cached by the client indefinitely
+    // Hourly stats are not cached permanently, since the hourly stats of a closed day are later downsampled
+    private static ResponseEntity<Collection<HistoricStats>> historicStatsResponse(final Collection<HistoricStats> historicStats,
+                                                                                   final HistoricStatsPeriod period) {
+        return period.isClosed() ? permanentlyCachedOk(historicStats) : cachedOk(historicStats, CACHE_EXPIRATION_TIME);
     }
 }
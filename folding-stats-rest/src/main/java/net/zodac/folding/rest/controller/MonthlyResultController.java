@@ -17,14 +17,16 @@
 
 package net.zodac.folding.rest.controller;
 
+import static net.zodac.folding.rest.response.Responses.immutableJsonOk;
+import static net.zodac.folding.rest.response.Responses.jsonOk;
 import static net.zodac.folding.rest.response.Responses.ok;
 
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.servlet.http.HttpServletRequest;
-import net.zodac.folding.api.tc.result.MonthlyResult;
 import net.zodac.folding.api.util.LoggerName;
-import net.zodac.folding.bean.StatsRepository;
+import net.zodac.folding.bean.MonthlyResultCache;
+import net.zodac.folding.bean.MonthlyResultCache.SerializedMonthlyResult;
 import net.zodac.folding.bean.tc.user.UserStatsStorer;
 import net.zodac.folding.rest.controller.api.MonthlyResultEndpoint;
 import net.zodac.folding.rest.util.ReadRequired;
@@ -51,18 +53,18 @@ public class MonthlyResultController implements MonthlyResultEndpoint {
 
     private static final Logger AUDIT_LOGGER = LogManager.getLogger(LoggerName.AUDIT.get());
 
-    private final StatsRepository statsRepository;
+    private final MonthlyResultCache monthlyResultCache;
     private final UserStatsStorer userStatsStorer;
 
     /**
      * {@link Autowired} constructor.
      *
-     * @param statsRepository the {@link StatsRepository}
-     * @param userStatsStorer the {@link UserStatsStorer}
+     * @param monthlyResultCache the {@link MonthlyResultCache}
+     * @param userStatsStorer    the {@link UserStatsStorer}
      */
     @Autowired
-    public MonthlyResultController(final StatsRepository statsRepository, final UserStatsStorer userStatsStorer) {
-        this.statsRepository = statsRepository;
+    public MonthlyResultController(final MonthlyResultCache monthlyResultCache, final UserStatsStorer userStatsStorer) {
+        this.monthlyResultCache = monthlyResultCache;
         this.userStatsStorer = userStatsStorer;
     }
 
@@ -70,14 +72,16 @@ public class MonthlyResultController implements MonthlyResultEndpoint {
     @ReadRequired
     @PermitAll
     @GetMapping(path = "/result/{year}/{month}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<MonthlyResult> getMonthlyResult(@PathVariable("year") final String year,
-                                                          @PathVariable("month") final String month,
-                                                          final HttpServletRequest request) {
+    public ResponseEntity<byte[]> getMonthlyResult(@PathVariable("year") final String year,
+                                                   @PathVariable("month") final String month,
+                                                   final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received to retrieve monthly TC result at '{}'", request.getRequestURI());
 
         final MonthDetails date = DateParser.of(year, month);
-        final MonthlyResult monthlyResult = statsRepository.getMonthlyResult(date.month(), date.year());
-        return ok(monthlyResult);
+        final SerializedMonthlyResult monthlyResult = monthlyResultCache.get(date.month(), date.year());
+        return monthlyResult.immutable()
+            ? immutableJsonOk(monthlyResult.content(), monthlyResult.eTag())
+            : jsonOk(monthlyResult.content(), monthlyResult.eTag());
     }
 
     @Override
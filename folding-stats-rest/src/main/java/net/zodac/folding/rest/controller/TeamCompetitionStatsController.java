@@ -30,11 +30,14 @@ import net.zodac.folding.api.state.SystemState;
 import net.zodac.folding.api.tc.Category;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRunType;
 import net.zodac.folding.api.tc.stats.OffsetTcStats;
 import net.zodac.folding.api.util.LoggerName;
 import net.zodac.folding.bean.StatsRepository;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.bean.tc.LeaderboardStatsGenerator;
+import net.zodac.folding.bean.tc.StatsChangeTracker;
+import net.zodac.folding.bean.tc.StatsUpdatePublisher;
 import net.zodac.folding.bean.tc.user.UserStatsParser;
 import net.zodac.folding.bean.tc.user.UserStatsResetter;
 import net.zodac.folding.rest.api.tc.AllTeamsSummary;
@@ -43,6 +46,7 @@ import net.zodac.folding.rest.api.tc.UserSummary;
 import net.zodac.folding.rest.api.tc.leaderboard.TeamLeaderboardEntry;
 import net.zodac.folding.rest.api.tc.leaderboard.UserCategoryLeaderboardEntry;
 import net.zodac.folding.rest.api.tc.request.OffsetTcStatsRequest;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
 import net.zodac.folding.rest.controller.api.TeamCompetitionStatsEndpoint;
 import net.zodac.folding.rest.exception.NotFoundException;
 import net.zodac.folding.rest.util.ReadRequired;
@@ -59,7 +63,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Implementation of {@link TeamCompetitionStatsEndpoint} REST endpoints.
@@ -72,7 +78,9 @@ public class TeamCompetitionStatsController implements TeamCompetitionStatsEndpo
 
     private final FoldingRepository foldingRepository;
     private final LeaderboardStatsGenerator leaderboardStatsGenerator;
+    private final StatsChangeTracker statsChangeTracker;
     private final StatsRepository statsRepository;
+    private final StatsUpdatePublisher statsUpdatePublisher;
     private final UserStatsParser userStatsParser;
     private final UserStatsResetter userStatsResetter;
 
@@ -81,25 +89,31 @@ public class TeamCompetitionStatsController implements TeamCompetitionStatsEndpo
      *
      * @param foldingRepository         the {@link FoldingRepository}
      * @param leaderboardStatsGenerator the {@link LeaderboardStatsGenerator}
+     * @param statsChangeTracker        the {@link StatsChangeTracker}
      * @param statsRepository           the {@link StatsRepository}
+     * @param statsUpdatePublisher      the {@link StatsUpdatePublisher}
      * @param userStatsParser           the {@link UserStatsParser}
      * @param userStatsResetter         the {@link UserStatsResetter}
      */
     @Autowired
     public TeamCompetitionStatsController(final FoldingRepository foldingRepository,
                                           final LeaderboardStatsGenerator leaderboardStatsGenerator,
+                                          final StatsChangeTracker statsChangeTracker,
                                           final StatsRepository statsRepository,
+                                          final StatsUpdatePublisher statsUpdatePublisher,
                                           final UserStatsParser userStatsParser,
                                           final UserStatsResetter userStatsResetter) {
         this.foldingRepository = foldingRepository;
         this.leaderboardStatsGenerator = leaderboardStatsGenerator;
+        this.statsChangeTracker = statsChangeTracker;
         this.statsRepository = statsRepository;
+        this.statsUpdatePublisher = statsUpdatePublisher;
         this.userStatsParser = userStatsParser;
         this.userStatsResetter = userStatsResetter;
     }
 
     @Override
-    @ReadRequired
+    @ReadRequired(snapshot = true)
     @PermitAll
     @GetMapping(path = "/summary", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<CompetitionSummary> getCompetitionStats() {
@@ -109,7 +123,7 @@ public class TeamCompetitionStatsController implements TeamCompetitionStatsEndpo
     }
 
     @Override
-    @ReadRequired
+    @ReadRequired(snapshot = true)
     @PermitAll
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<AllTeamsSummary> getTeamCompetitionStats() {
@@ -119,7 +133,7 @@ public class TeamCompetitionStatsController implements TeamCompetitionStatsEndpo
     }
 
     @Override
-    @ReadRequired
+    @ReadRequired(snapshot = true)
     @PermitAll
     @GetMapping(path = "/users/{userId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<UserSummary> getTeamCompetitionStatsForUser(@PathVariable("userId") final int userId, final HttpServletRequest request) {
@@ -168,7 +182,7 @@ public class TeamCompetitionStatsController implements TeamCompetitionStatsEndpo
     }
 
     @Override
-    @ReadRequired
+    @ReadRequired(snapshot = true)
     @PermitAll
     @GetMapping(path = "/leaderboard", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Collection<TeamLeaderboardEntry>> getTeamLeaderboard() {
@@ -178,7 +192,7 @@ public class TeamCompetitionStatsController implements TeamCompetitionStatsEndpo
     }
 
     @Override
-    @ReadRequired
+    @ReadRequired(snapshot = true)
     @PermitAll
     @GetMapping(path = "/category", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Map<Category, List<UserCategoryLeaderboardEntry>>> getCategoryLeaderboard() {
@@ -187,6 +201,24 @@ public class TeamCompetitionStatsController implements TeamCompetitionStatsEndpo
         return ok(categoryLeaderboard);
     }
 
+    @Override
+    @ReadRequired(snapshot = true)
+    @PermitAll
+    @GetMapping(path = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StatsChanges> getStatsChanges(@RequestParam("since") final long sinceVersion) {
+        AUDIT_LOGGER.debug("GET request received to show TC stats changes since version {}", sinceVersion);
+        return ok(statsChangeTracker.getChangesSince(sinceVersion));
+    }
+
+    @Override
+    @ReadRequired(snapshot = true)
+    @PermitAll
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getStatsStream() {
+        AUDIT_LOGGER.debug("GET request received to stream TC stats updates");
+        return statsUpdatePublisher.subscribe();
+    }
+
     @Override
     @WriteRequired
     @RolesAllowed("admin")
@@ -194,7 +226,7 @@ public class TeamCompetitionStatsController implements TeamCompetitionStatsEndpo
     public ResponseEntity<Void> updateStats(final HttpServletRequest request) {
         AUDIT_LOGGER.info("GET request received to manually update TC stats at '{}?{}", request.getRequestURI(), extractParameters(request));
         final Collection<User> users = foldingRepository.getAllUsersWithPasskeys();
-        userStatsParser.parseTcStatsForUsers(users);
+        userStatsParser.parseTcStatsForUsers(users, IngestionRunType.MANUAL);
         return ok();
     }
 
@@ -17,30 +17,41 @@
 
 package net.zodac.folding.rest.controller;
 
+import static net.zodac.folding.rest.response.Responses.badRequest;
 import static net.zodac.folding.rest.response.Responses.cachedOk;
 import static net.zodac.folding.rest.response.Responses.created;
 import static net.zodac.folding.rest.response.Responses.ok;
 import static net.zodac.folding.rest.util.RequestParameterExtractor.extractParameters;
 
+import com.google.gson.Gson;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.state.SystemState;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.util.LoggerName;
 import net.zodac.folding.api.util.StringUtils;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.bean.tc.validation.TeamValidator;
+import net.zodac.folding.configuration.JsonConverterConfiguration;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.tc.request.TeamRequest;
 import net.zodac.folding.rest.controller.api.TeamEndpoint;
 import net.zodac.folding.rest.exception.NotFoundException;
+import net.zodac.folding.rest.response.BatchResult;
+import net.zodac.folding.rest.response.Page;
 import net.zodac.folding.rest.util.ReadRequired;
 import net.zodac.folding.rest.util.WriteRequired;
 import net.zodac.folding.state.SystemStateManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -64,17 +75,22 @@ public class TeamController implements TeamEndpoint {
 
     private final FoldingRepository foldingRepository;
     private final TeamValidator teamValidator;
+    private final Gson responseGson;
 
     /**
      * {@link Autowired} constructor.
      *
      * @param foldingRepository the {@link FoldingRepository}
      * @param teamValidator     the {@link TeamValidator}
+     * @param responseGson      the {@link Gson} used to serialize REST responses
      */
     @Autowired
-    public TeamController(final FoldingRepository foldingRepository, final TeamValidator teamValidator) {
+    public TeamController(final FoldingRepository foldingRepository,
+                          final TeamValidator teamValidator,
+                          @Qualifier(JsonConverterConfiguration.RESPONSE_GSON) final Gson responseGson) {
         this.foldingRepository = foldingRepository;
         this.teamValidator = teamValidator;
+        this.responseGson = responseGson;
     }
 
     @Override
@@ -92,16 +108,52 @@ public class TeamController implements TeamEndpoint {
         return created(elementWithId, elementWithId.id());
     }
 
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<Team>>> createBatch(@RequestBody final Collection<TeamRequest> teamRequests,
+                                                                         final HttpServletRequest request) {
+        AUDIT_LOGGER.info("POST request received to create {} teams at '{}'", teamRequests.size(), request.getRequestURI());
+
+        final BatchResult<Team> batchResult = BatchResult.validate(teamRequests, teamValidator::create);
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of teams failed validation, no teams created");
+            return badRequest(batchResult.failedResults());
+        }
+
+        final List<Team> elementsWithIds = foldingRepository.createAllTeams(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Created teams with IDs {}", elementsWithIds.stream().map(Team::id).toList());
+        return created(batchResult.processedResults(elementsWithIds, HttpStatus.CREATED));
+    }
+
     @Override
     @ReadRequired
     @PermitAll
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, params = {Page.NO_CURSOR, Page.NO_LIMIT, Page.NO_FIELDS})
     public ResponseEntity<Collection<Team>> getAll(final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received for all teams at '{}'", request.getRequestURI());
         final Collection<Team> elements = foldingRepository.getAllTeams();
         return cachedOk(elements);
     }
 
+    @Override
+    @ReadRequired
+    @PermitAll
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<?>> getPage(
+        @RequestParam(value = PageRequest.CURSOR_PARAMETER, required = false, defaultValue = "0") final int cursor,
+        @RequestParam(value = PageRequest.LIMIT_PARAMETER, required = false, defaultValue = "0") final int limit,
+        @RequestParam(value = PageRequest.FIELDS_PARAMETER, required = false, defaultValue = "") final String fields,
+        final HttpServletRequest request) {
+        AUDIT_LOGGER.debug("GET request received for a page of teams at '{}?{}'", request.getRequestURI(), extractParameters(request));
+        final Collection<Team> elements = foldingRepository.getAllTeams();
+        final PageRequest pageRequest = PageRequest.fromQueryParameters(cursor, limit, fields);
+        return cachedOk(Page.create(elements, Team.class, Team::id, pageRequest, responseGson));
+    }
+
     @Override
     @ReadRequired
     @PermitAll
@@ -157,6 +209,32 @@ public class TeamController implements TeamEndpoint {
         return ok(updatedTeamWithId, updatedTeamWithId.id());
     }
 
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @PutMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<Team>>> updateBatch(
+        @RequestBody final Collection<BatchUpdateRequest<TeamRequest>> teamUpdateRequests,
+        final HttpServletRequest request) {
+        AUDIT_LOGGER.info("PUT request received to update {} teams at '{}'", teamUpdateRequests.size(), request.getRequestURI());
+
+        final BatchResult<Team> batchResult = BatchResult.validate(teamUpdateRequests, (teamUpdateRequest, pendingTeams) -> {
+            final Team existingTeam = foldingRepository.getTeam(teamUpdateRequest.id());
+            final Team validatedTeam = teamValidator.update(teamUpdateRequest.request(), existingTeam, pendingTeams);
+            return Team.updateWithId(existingTeam.id(), validatedTeam);
+        });
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of teams failed validation, no teams updated");
+            return badRequest(batchResult.failedResults());
+        }
+
+        final List<Team> updatedTeams = foldingRepository.updateAllTeams(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Updated teams with IDs {}", updatedTeams.stream().map(Team::id).toList());
+        return ok(batchResult.processedResults(updatedTeams, HttpStatus.OK));
+    }
+
     @Override
     @WriteRequired
     @RolesAllowed("admin")
@@ -173,4 +251,25 @@ public class TeamController implements TeamEndpoint {
         AUDIT_LOGGER.info("Deleted team with ID {}", teamId);
         return ok();
     }
+
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @DeleteMapping(path = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<Team>>> deleteBatch(@RequestParam("ids") final List<Integer> teamIds,
+                                                                         final HttpServletRequest request) {
+        AUDIT_LOGGER.info("DELETE request for {} teams received at '{}?{}'", teamIds.size(), request.getRequestURI(), extractParameters(request));
+
+        final BatchResult<Team> batchResult = BatchResult.validate(teamIds, (teamId, _) -> teamValidator.delete(foldingRepository.getTeam(teamId)));
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of teams failed validation, no teams deleted");
+            return badRequest(batchResult.failedResults());
+        }
+
+        foldingRepository.deleteAllTeams(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Deleted teams with IDs {}", teamIds);
+        return ok(batchResult.processedResults(batchResult.validated(), HttpStatus.OK));
+    }
 }
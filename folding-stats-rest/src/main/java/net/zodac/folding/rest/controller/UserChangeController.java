@@ -21,6 +21,7 @@ import static net.zodac.folding.rest.response.Responses.created;
 import static net.zodac.folding.rest.response.Responses.ok;
 import static net.zodac.folding.rest.util.RequestParameterExtractor.extractParameters;
 
+import com.google.gson.Gson;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.servlet.http.HttpServletRequest;
@@ -35,14 +36,18 @@ import net.zodac.folding.api.util.LoggerName;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.bean.tc.user.UserChangeApplier;
 import net.zodac.folding.bean.tc.validation.UserChangeValidator;
+import net.zodac.folding.configuration.JsonConverterConfiguration;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.tc.request.UserChangeRequest;
 import net.zodac.folding.rest.controller.api.UserChangeEndpoint;
 import net.zodac.folding.rest.exception.InvalidStateException;
+import net.zodac.folding.rest.response.Page;
 import net.zodac.folding.rest.util.ReadRequired;
 import net.zodac.folding.rest.util.WriteRequired;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -67,6 +72,7 @@ public class UserChangeController implements UserChangeEndpoint {
     private final FoldingRepository foldingRepository;
     private final UserChangeApplier userChangeApplier;
     private final UserChangeValidator userChangeValidator;
+    private final Gson responseGson;
 
     /**
      * {@link Autowired} constructor.
@@ -74,14 +80,17 @@ public class UserChangeController implements UserChangeEndpoint {
      * @param foldingRepository   the {@link FoldingRepository}
      * @param userChangeApplier   the {@link UserChangeApplier}
      * @param userChangeValidator the {@link UserChangeValidator}
+     * @param responseGson        the {@link Gson} used to serialize REST responses
      */
     @Autowired
     public UserChangeController(final FoldingRepository foldingRepository,
                                 final UserChangeApplier userChangeApplier,
-                                final UserChangeValidator userChangeValidator) {
+                                final UserChangeValidator userChangeValidator,
+                                @Qualifier(JsonConverterConfiguration.RESPONSE_GSON) final Gson responseGson) {
         this.foldingRepository = foldingRepository;
         this.userChangeApplier = userChangeApplier;
         this.userChangeValidator = userChangeValidator;
+        this.responseGson = responseGson;
     }
 
     @Override
@@ -101,20 +110,37 @@ public class UserChangeController implements UserChangeEndpoint {
 
     @Override
     @ReadRequired
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, params = {Page.NO_CURSOR, Page.NO_LIMIT, Page.NO_FIELDS})
     public ResponseEntity<Collection<UserChange>> getAll(
         @RequestParam(value = "state", required = false, defaultValue = UserChangeState.ALL_STATES) final String state,
         @RequestParam(value = "numberOfMonths", required = false, defaultValue = "0") final long numberOfMonths,
         final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request for all user changes received at '{}?{}'", request.getRequestURI(), extractParameters(request));
+        return ok(getUserChanges(state, numberOfMonths));
+    }
+
+    @Override
+    @ReadRequired
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<?>> getPage(
+        @RequestParam(value = "state", required = false, defaultValue = UserChangeState.ALL_STATES) final String state,
+        @RequestParam(value = "numberOfMonths", required = false, defaultValue = "0") final long numberOfMonths,
+        @RequestParam(value = PageRequest.CURSOR_PARAMETER, required = false, defaultValue = "0") final int cursor,
+        @RequestParam(value = PageRequest.LIMIT_PARAMETER, required = false, defaultValue = "0") final int limit,
+        @RequestParam(value = PageRequest.FIELDS_PARAMETER, required = false, defaultValue = "") final String fields,
+        final HttpServletRequest request) {
+        AUDIT_LOGGER.debug("GET request for a page of user changes received at '{}?{}'", request.getRequestURI(), extractParameters(request));
+        final PageRequest pageRequest = PageRequest.fromQueryParameters(cursor, limit, fields);
+        return ok(Page.create(getUserChanges(state, numberOfMonths), UserChange.class, UserChange::id, pageRequest, responseGson));
+    }
 
+    private Collection<UserChange> getUserChanges(final CharSequence state, final long numberOfMonths) {
         final Collection<UserChangeState> states = getStatesBasedOnInput(state);
         if (states.isEmpty()) {
-            return ok(List.of());
+            return List.of();
         }
 
-        final Collection<UserChange> userChanges = foldingRepository.getAllUserChangesWithoutPasskeys(states, numberOfMonths);
-        return ok(userChanges);
+        return foldingRepository.getAllUserChangesWithoutPasskeys(states, numberOfMonths);
     }
 
     private static Collection<UserChangeState> getStatesBasedOnInput(final CharSequence state) {
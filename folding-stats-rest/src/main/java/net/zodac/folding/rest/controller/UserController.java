@@ -17,27 +17,39 @@
 
 package net.zodac.folding.rest.controller;
 
+import static net.zodac.folding.rest.response.Responses.badRequest;
 import static net.zodac.folding.rest.response.Responses.cachedOk;
 import static net.zodac.folding.rest.response.Responses.created;
 import static net.zodac.folding.rest.response.Responses.ok;
+import static net.zodac.folding.rest.util.RequestParameterExtractor.extractParameters;
 
+import com.google.gson.Gson;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.state.SystemState;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.api.util.LoggerName;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.bean.tc.validation.UserValidator;
+import net.zodac.folding.configuration.JsonConverterConfiguration;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.tc.request.UserRequest;
 import net.zodac.folding.rest.controller.api.UserEndpoint;
+import net.zodac.folding.rest.response.BatchResult;
+import net.zodac.folding.rest.response.Page;
 import net.zodac.folding.rest.util.ReadRequired;
 import net.zodac.folding.rest.util.WriteRequired;
 import net.zodac.folding.state.SystemStateManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -47,6 +59,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -60,17 +73,22 @@ public class UserController implements UserEndpoint {
 
     private final FoldingRepository foldingRepository;
     private final UserValidator userValidator;
+    private final Gson responseGson;
 
     /**
      * {@link Autowired} constructor.
      *
      * @param foldingRepository the {@link FoldingRepository}
      * @param userValidator     the {@link UserValidator}
+     * @param responseGson      the {@link Gson} used to serialize REST responses
      */
     @Autowired
-    public UserController(final FoldingRepository foldingRepository, final UserValidator userValidator) {
+    public UserController(final FoldingRepository foldingRepository,
+                          final UserValidator userValidator,
+                          @Qualifier(JsonConverterConfiguration.RESPONSE_GSON) final Gson responseGson) {
         this.foldingRepository = foldingRepository;
         this.userValidator = userValidator;
+        this.responseGson = responseGson;
     }
 
     @Override
@@ -88,16 +106,53 @@ public class UserController implements UserEndpoint {
         return created(elementWithId, elementWithId.id());
     }
 
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<User>>> createBatch(@RequestBody final Collection<UserRequest> userRequests,
+                                                                         final HttpServletRequest request) {
+        AUDIT_LOGGER.info("POST request received to create {} users at '{}'", userRequests.size(), request.getRequestURI());
+
+        final BatchResult<User> batchResult = BatchResult.validate(userRequests, userValidator::create);
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of users failed validation, no users created");
+            return badRequest(batchResult.failedResults());
+        }
+
+        final List<User> elementsWithIds = foldingRepository.createAllUsers(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Created users with IDs {}", elementsWithIds.stream().map(User::id).toList());
+        return created(batchResult.processedResults(elementsWithIds, HttpStatus.CREATED));
+    }
+
     @Override
     @ReadRequired
     @PermitAll
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, params = {Page.NO_CURSOR, Page.NO_LIMIT, Page.NO_FIELDS})
     public ResponseEntity<Collection<User>> getAll(final HttpServletRequest request) {
         AUDIT_LOGGER.debug("GET request received for all users without passkeys at '{}'", request.getRequestURI());
         final Collection<User> elements = foldingRepository.getAllUsersWithoutPasskeys();
         return cachedOk(elements);
     }
 
+    @Override
+    @ReadRequired
+    @PermitAll
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<?>> getPage(
+        @RequestParam(value = PageRequest.CURSOR_PARAMETER, required = false, defaultValue = "0") final int cursor,
+        @RequestParam(value = PageRequest.LIMIT_PARAMETER, required = false, defaultValue = "0") final int limit,
+        @RequestParam(value = PageRequest.FIELDS_PARAMETER, required = false, defaultValue = "") final String fields,
+        final HttpServletRequest request) {
+        AUDIT_LOGGER.debug("GET request received for a page of users without passkeys at '{}?{}'", request.getRequestURI(),
+            extractParameters(request));
+        final Collection<User> elements = foldingRepository.getAllUsersWithoutPasskeys();
+        final PageRequest pageRequest = PageRequest.fromQueryParameters(cursor, limit, fields);
+        return cachedOk(Page.create(elements, User.class, User::id, pageRequest, responseGson));
+    }
+
     @Override
     @RolesAllowed("admin")
     @ReadRequired
@@ -158,6 +213,32 @@ public class UserController implements UserEndpoint {
         return ok(updatedUserWithId, updatedUserWithId.id());
     }
 
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @PutMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<User>>> updateBatch(
+        @RequestBody final Collection<BatchUpdateRequest<UserRequest>> userUpdateRequests,
+        final HttpServletRequest request) {
+        AUDIT_LOGGER.info("PUT request received to update {} users at '{}'", userUpdateRequests.size(), request.getRequestURI());
+
+        final BatchResult<User> batchResult = BatchResult.validate(userUpdateRequests, (userUpdateRequest, pendingUsers) -> {
+            final User existingUser = foldingRepository.getUserWithPasskey(userUpdateRequest.id());
+            final User validatedUser = userValidator.update(userUpdateRequest.request(), existingUser, pendingUsers);
+            return User.updateWithId(existingUser.id(), validatedUser);
+        });
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of users failed validation, no users updated");
+            return badRequest(batchResult.failedResults());
+        }
+
+        final List<User> updatedUsers = foldingRepository.updateAllUsers(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Updated users with IDs {}", updatedUsers.stream().map(User::id).toList());
+        return ok(batchResult.processedResults(updatedUsers, HttpStatus.OK));
+    }
+
     @Override
     @WriteRequired
     @RolesAllowed("admin")
@@ -173,4 +254,26 @@ public class UserController implements UserEndpoint {
         AUDIT_LOGGER.info("Deleted user with ID {}", userId);
         return ok();
     }
+
+    @Override
+    @WriteRequired
+    @RolesAllowed("admin")
+    @DeleteMapping(path = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<BatchItemResult<User>>> deleteBatch(@RequestParam("ids") final List<Integer> userIds,
+                                                                         final HttpServletRequest request) {
+        AUDIT_LOGGER.info("DELETE request for {} users received at '{}?{}'", userIds.size(), request.getRequestURI(), extractParameters(request));
+
+        final BatchResult<User> batchResult = BatchResult.validate(userIds,
+            (userId, _) -> userValidator.delete(foldingRepository.getUserWithoutPasskey(userId)));
+        if (batchResult.hasFailures()) {
+            AUDIT_LOGGER.warn("Batch of users failed validation, no users deleted");
+            return badRequest(batchResult.failedResults());
+        }
+
+        foldingRepository.deleteAllUsers(batchResult.validated());
+        SystemStateManager.next(SystemState.WRITE_EXECUTED);
+
+        AUDIT_LOGGER.info("Deleted users with IDs {}", userIds);
+        return ok(batchResult.processedResults(batchResult.validated(), HttpStatus.OK));
+    }
 }
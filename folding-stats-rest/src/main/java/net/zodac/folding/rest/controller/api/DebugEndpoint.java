@@ -18,15 +18,27 @@
 package net.zodac.folding.rest.controller.api;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.ingestion.IngestionRun;
+import net.zodac.folding.bean.StatsRepository;
 import net.zodac.folding.bean.api.FoldingRepository;
 import net.zodac.folding.bean.tc.lars.LarsHardwareUpdater;
+import net.zodac.folding.bean.tc.user.UserStatsCatchUp;
+import net.zodac.folding.bean.tc.user.UserStatsRetrier;
+import net.zodac.folding.rest.interceptor.CredentialCache;
 import net.zodac.folding.rest.response.Responses;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * REST endpoints for debugging.
@@ -61,4 +73,66 @@ public interface DebugEndpoint {
         @ApiResponse(responseCode = "403", description = "System user does not have the correct role to perform this request"),
     })
     ResponseEntity<Void> printCaches();
+
+    /**
+     * {@link DeleteMapping} request to remove all cached system user credentials. Should be called after a system user has been changed in the
+     * DB.
+     *
+     * @return {@link Responses#ok()}
+     * @see CredentialCache#invalidateAll()
+     */
+    @Operation(summary = "Invalidate cached system user credentials", security = @SecurityRequirement(name = "basicAuthentication"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Cached credentials were successfully invalidated"),
+        @ApiResponse(responseCode = "401", description = "System user cannot be logged in with provided credentials"),
+        @ApiResponse(responseCode = "403", description = "System user does not have the correct role to perform this request"),
+    })
+    ResponseEntity<Void> invalidateCredentials();
+
+    /**
+     * {@link GetMapping} request to retrieve the {@link IngestionRun}s of the stats parsing executed within the last number of {@code hours}.
+     *
+     * @param hours the number of hours of {@link IngestionRun}s to retrieve (minimum of <b>1</b>)
+     * @return {@link Responses#ok(Collection)} containing the {@link IngestionRun}s, most recent first
+     * @see StatsRepository#getIngestionRunsSince(LocalDateTime)
+     */
+    @Operation(summary = "Retrieve recent stats parsing runs, and the users that failed in each",
+        security = @SecurityRequirement(name = "basicAuthentication"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Stats parsing runs were successfully retrieved"),
+        @ApiResponse(responseCode = "401", description = "System user cannot be logged in with provided credentials"),
+        @ApiResponse(responseCode = "403", description = "System user does not have the correct role to perform this request"),
+    })
+    @Parameter(name = "hours", description = "The number of hours of stats parsing runs to retrieve")
+    ResponseEntity<Collection<IngestionRun>> getIngestionRuns(@RequestParam(value = "hours", required = false, defaultValue = "24") int hours);
+
+    /**
+     * {@link PostMapping} request to re-parse the stats for the {@link User}s that failed in the scheduled stats parsing of the current hour.
+     *
+     * @return {@link Responses#ok(Collection)} containing the re-parsed {@link User}s, with their passkeys hidden
+     * @see UserStatsRetrier#retryFailedUsersSince(LocalDateTime)
+     */
+    @Operation(summary = "Re-parse stats for users that failed in the current hour's scheduled stats parsing",
+        security = @SecurityRequirement(name = "basicAuthentication"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Stats for the failed users were successfully re-parsed"),
+        @ApiResponse(responseCode = "401", description = "System user cannot be logged in with provided credentials"),
+        @ApiResponse(responseCode = "403", description = "System user does not have the correct role to perform this request"),
+    })
+    ResponseEntity<Collection<User>> retryFailedUsers();
+
+    /**
+     * {@link PostMapping} request to fill the hourly stats for any {@link User}s that were missed while the system was unavailable.
+     *
+     * @return {@link Responses#ok()}
+     * @see UserStatsCatchUp#catchUpMissingHourlyStats()
+     */
+    @Operation(summary = "Fill missing hourly stats for users since their latest stats",
+        security = @SecurityRequirement(name = "basicAuthentication"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Missing hourly stats were successfully filled"),
+        @ApiResponse(responseCode = "401", description = "System user cannot be logged in with provided credentials"),
+        @ApiResponse(responseCode = "403", description = "System user does not have the correct role to perform this request"),
+    })
+    ResponseEntity<Void> startStatsCatchUp();
 }
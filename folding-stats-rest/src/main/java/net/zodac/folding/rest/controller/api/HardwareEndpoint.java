@@ -17,6 +17,7 @@
 
 package net.zodac.folding.rest.controller.api;
 
+import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.headers.Header;
@@ -31,14 +32,20 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.tc.Hardware;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.tc.request.HardwareRequest;
+import net.zodac.folding.rest.response.Page;
 import net.zodac.folding.rest.response.Responses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * REST endpoints for {@code Team Competition} {@link Hardware}s.
@@ -127,21 +134,126 @@ public interface HardwareEndpoint {
     )
     ResponseEntity<Hardware> create(HardwareRequest hardwareRequest, HttpServletRequest request);
 
+    /**
+     * {@link PostMapping} request to create multiple {@link Hardware}s in a single unit of work, based on the input requests.
+     *
+     * <p>
+     * If any request fails validation, no {@link Hardware}s are created, and a {@link BatchItemResult} is returned for each request.
+     *
+     * @param hardwareRequests the {@link HardwareRequest}s to create {@link Hardware}s
+     * @param request          the {@link HttpServletRequest}
+     * @return {@link Responses#created(Object)} containing a {@link BatchItemResult} with each created {@link Hardware}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each request if any failed validation
+     */
+    @Operation(summary = "Create multiple hardwares", security = @SecurityRequirement(name = "basicAuthentication"))
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "201",
+            description = "All hardwares have been created",
+            content = @Content(
+                array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)),
+                examples = @ExampleObject("""
+                    [
+                        {
+                            "index": 0,
+                            "statusCode": 201,
+                            "entity": {
+                                "id": 1,
+                                "hardwareName": "Hardware1",
+                                "displayName": "Hardware1",
+                                "hardwareMake": "NVIDIA",
+                                "hardwareType": "GPU",
+                                "multiplier": 21.33,
+                                "averagePpd": 1
+                            }
+                        }
+                    ]""")
+            )),
+        @ApiResponse(
+            responseCode = "400",
+            description = "At least one hardware is invalid or conflicts with another hardware, no hardwares have been created",
+            content = @Content(
+                array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)),
+                examples = @ExampleObject("""
+                    [
+                        {
+                            "index": 0,
+                            "statusCode": 424
+                        },
+                        {
+                            "index": 1,
+                            "statusCode": 409,
+                            "error": {
+                                "invalidObject": {
+                                    "hardwareName": "Hardware1",
+                                    "displayName": "Hardware1",
+                                    "hardwareMake": "NVIDIA",
+                                    "hardwareType": "GPU",
+                                    "multiplier": 21.33,
+                                    "averagePpd": 1
+                                },
+                                "conflictingObject": {
+                                    "id": 0,
+                                    "hardwareName": "Hardware1",
+                                    "displayName": "Hardware1",
+                                    "hardwareMake": "NVIDIA",
+                                    "hardwareType": "GPU",
+                                    "multiplier": 21.33,
+                                    "averagePpd": 1
+                                },
+                                "conflictingAttributes": [
+                                    "hardwareName"
+                                ]
+                            }
+                        }
+                    ]""")
+            )),
+        @ApiResponse(responseCode = "401", description = "System user cannot be logged in with provided credentials", content = @Content),
+        @ApiResponse(responseCode = "403", description = "System user does not have the correct role to perform this request", content = @Content),
+        @ApiResponse(responseCode = "503", description = "The system is not in a valid state to execute write requests", content = @Content),
+    })
+    @RequestBody(
+        description = "The new hardwares to be created",
+        required = true,
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = HardwareRequest.class)))
+    )
+    ResponseEntity<Collection<BatchItemResult<Hardware>>> createBatch(Collection<HardwareRequest> hardwareRequests, HttpServletRequest request);
+
     /**
      * {@link GetMapping} request to retrieve all {@link Hardware}s.
      *
+     * <p>
+     * Only used when no pagination or projection is requested. Shares its path with, and is documented by,
+     * {@link #getPage(int, int, String, HttpServletRequest)}.
+     *
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link Hardware}s
+     * @return {@link Responses#cachedOk(Collection)} containing the {@link Hardware}s
+     */
+    @Hidden
+    ResponseEntity<Collection<Hardware>> getAll(HttpServletRequest request);
+
+    /**
+     * {@link GetMapping} request to retrieve all {@link Hardware}s, optionally paginated by ID and with only the requested fields.
+     *
+     * @param cursor  only resources with an ID greater than this value are returned (<b>0</b> means start from the first resource)
+     * @param limit   the maximum number of resources to return (<b>0</b> means no limit)
+     * @param fields  a comma-separated {@link String} of the fields to include in each resource (empty means all fields)
+     * @param request the {@link HttpServletRequest}
+     * @return {@link Responses#cachedOk(Page)} containing the {@link Page} of {@link Hardware}s
      */
     @Operation(summary = "Retrieves all hardwares")
     @ApiResponses({
         @ApiResponse(
             responseCode = "200",
             description = "All hardwares",
-            headers = @Header(
-                name = "eTag",
-                description = "An EntityTag which can be used to retrieve a cached version of the response in future requests"
-            ),
+            headers = {
+                @Header(
+                    name = "eTag",
+                    description = "An EntityTag which can be used to retrieve a cached version of the response in future requests"
+                ),
+                @Header(name = "X-Total-Count", description = "The total number of hardwares, ignoring any pagination"),
+                @Header(name = "X-Next-Cursor", description = "The cursor to retrieve the next page of hardwares, if more are available"),
+            },
             content = @Content(
                 array = @ArraySchema(schema = @Schema(implementation = Hardware.class)),
                 examples = @ExampleObject("""
@@ -166,9 +278,17 @@ public interface HardwareEndpoint {
                         }
                     ]""")
             )),
+        @ApiResponse(responseCode = "400", description = "A requested field is not valid", content = @Content),
         @ApiResponse(responseCode = "503", description = "The system is not in a valid state to execute read requests", content = @Content),
     })
-    ResponseEntity<Collection<Hardware>> getAll(HttpServletRequest request);
+    @Parameter(name = PageRequest.CURSOR_PARAMETER, description = "Only hardwares with an ID greater than this value are returned")
+    @Parameter(name = PageRequest.LIMIT_PARAMETER, description = "The maximum number of hardwares to return (0 means no limit)")
+    @Parameter(name = PageRequest.FIELDS_PARAMETER, description = "Comma-separated fields to include in each hardware (the 'id' is always included)")
+    ResponseEntity<Collection<?>> getPage(
+        @RequestParam(value = PageRequest.CURSOR_PARAMETER, required = false, defaultValue = "0") int cursor,
+        @RequestParam(value = PageRequest.LIMIT_PARAMETER, required = false, defaultValue = "0") int limit,
+        @RequestParam(value = PageRequest.FIELDS_PARAMETER, required = false, defaultValue = "") String fields,
+        HttpServletRequest request);
 
     /**
      * {@link GetMapping} request to retrieve a {@link Hardware} by {@code hardwareId}.
@@ -338,6 +458,39 @@ public interface HardwareEndpoint {
     @Parameter(name = "hardwareId", description = "The ID of the hardware to be updated")
     ResponseEntity<Hardware> updateById(int hardwareId, HardwareRequest hardwareRequest, HttpServletRequest request);
 
+    /**
+     * {@link PutMapping} request to update multiple existing {@link Hardware}s in a single unit of work, based on the input requests.
+     *
+     * <p>
+     * If any request fails validation, no {@link Hardware}s are updated, and a {@link BatchItemResult} is returned for each request.
+     *
+     * @param hardwareUpdateRequests the {@link BatchUpdateRequest}s with the ID of each {@link Hardware} and its {@link HardwareRequest}
+     * @param request                the {@link HttpServletRequest}
+     * @return {@link Responses#ok(Collection)} containing a {@link BatchItemResult} with each updated {@link Hardware}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each request if any failed validation
+     */
+    @Operation(summary = "Updates multiple hardwares", security = @SecurityRequirement(name = "basicAuthentication"))
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "All hardwares have been updated",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "At least one hardware does not exist, is invalid or conflicts with another hardware, no hardwares have been updated",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)))),
+        @ApiResponse(responseCode = "401", description = "System user cannot be logged in with provided credentials", content = @Content),
+        @ApiResponse(responseCode = "403", description = "System user does not have the correct role to perform this request", content = @Content),
+        @ApiResponse(responseCode = "503", description = "The system is not in a valid state to execute write requests", content = @Content),
+    })
+    @RequestBody(
+        description = "The IDs of the hardwares to be updated, with their new values",
+        required = true,
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchUpdateRequest.class)))
+    )
+    ResponseEntity<Collection<BatchItemResult<Hardware>>> updateBatch(Collection<BatchUpdateRequest<HardwareRequest>> hardwareUpdateRequests,
+                                                                      HttpServletRequest request);
+
     /**
      * {@link DeleteMapping} request to delete an existing {@link Hardware}.
      *
@@ -402,4 +555,33 @@ public interface HardwareEndpoint {
     })
     @Parameter(name = "hardwareId", description = "The ID of the hardware to be deleted")
     ResponseEntity<Void> deleteById(int hardwareId, HttpServletRequest request);
+
+    /**
+     * {@link DeleteMapping} request to delete multiple existing {@link Hardware}s in a single unit of work.
+     *
+     * <p>
+     * If any {@link Hardware} cannot be found or is in use, no {@link Hardware}s are deleted, and a {@link BatchItemResult} is returned for
+     * each ID.
+     *
+     * @param hardwareIds the IDs of the {@link Hardware}s to be deleted
+     * @param request     the {@link HttpServletRequest}
+     * @return {@link Responses#ok(Collection)} containing a {@link BatchItemResult} with each deleted {@link Hardware}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each ID if any failed validation
+     */
+    @Operation(summary = "Deletes multiple hardwares", security = @SecurityRequirement(name = "basicAuthentication"))
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "All hardwares have been deleted",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "At least one hardware does not exist or is being referenced by a user, no hardwares have been deleted",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)))),
+        @ApiResponse(responseCode = "401", description = "System user cannot be logged in with provided credentials", content = @Content),
+        @ApiResponse(responseCode = "403", description = "System user does not have the correct role to perform this request", content = @Content),
+        @ApiResponse(responseCode = "503", description = "The system is not in a valid state to execute write requests", content = @Content),
+    })
+    @Parameter(name = "ids", description = "A comma-separated list of the IDs of the hardwares to be deleted", example = "1,2,3")
+    ResponseEntity<Collection<BatchItemResult<Hardware>>> deleteBatch(List<Integer> hardwareIds, HttpServletRequest request);
 }
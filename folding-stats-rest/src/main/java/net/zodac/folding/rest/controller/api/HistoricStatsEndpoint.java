@@ -21,13 +21,17 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.time.Month;
 import java.time.Year;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.historic.UserHistoricStats;
 import net.zodac.folding.rest.response.Responses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * REST endpoints for {@code Team Competition} {@link HistoricStats}.
@@ -42,13 +46,13 @@ public interface HistoricStatsEndpoint {
      * @param month   the {@link Month} of the {@link HistoricStats}
      * @param day     the {@code day} of the {@link HistoricStats}
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link User}'s hourly {@link HistoricStats}
+     * @return a {@link CompletableFuture} of {@link Responses#cachedOk(Collection, long)} containing the {@link User}'s hourly {@link HistoricStats}
      */
-    ResponseEntity<Collection<HistoricStats>> getUserHistoricStatsHourly(@PathVariable("userId") int userId,
-                                                                         @PathVariable("year") String year,
-                                                                         @PathVariable("month") String month,
-                                                                         @PathVariable("day") String day,
-                                                                         HttpServletRequest request);
+    CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getUserHistoricStatsHourly(@PathVariable("userId") int userId,
+                                                                                            @PathVariable("year") String year,
+                                                                                            @PathVariable("month") String month,
+                                                                                            @PathVariable("day") String day,
+                                                                                            HttpServletRequest request);
 
     /**
      * {@link GetMapping} request to retrieve a {@link User}'s daily {@link HistoricStats} for a single {@link Month}.
@@ -57,12 +61,12 @@ public interface HistoricStatsEndpoint {
      * @param year    the {@link Year} of the {@link HistoricStats}
      * @param month   the {@link Month} of the {@link HistoricStats}
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link User}'s daily {@link HistoricStats}
+     * @return a {@link CompletableFuture} of {@link Responses#cachedOk(Collection, long)} containing the {@link User}'s daily {@link HistoricStats}
      */
-    ResponseEntity<Collection<HistoricStats>> getUserHistoricStatsDaily(@PathVariable("userId") int userId,
-                                                                        @PathVariable("year") String year,
-                                                                        @PathVariable("month") String month,
-                                                                        HttpServletRequest request);
+    CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getUserHistoricStatsDaily(@PathVariable("userId") int userId,
+                                                                                           @PathVariable("year") String year,
+                                                                                           @PathVariable("month") String month,
+                                                                                           HttpServletRequest request);
 
     /**
      * {@link GetMapping} request to retrieve a {@link User}'s monthly {@link HistoricStats} for a single {@link Year}.
@@ -70,11 +74,33 @@ public interface HistoricStatsEndpoint {
      * @param userId  the ID of the {@link User} whose {@link HistoricStats} are to be retrieved
      * @param year    the {@link Year} of the {@link HistoricStats}
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link User}'s monthly {@link HistoricStats}
+     * @return a {@link CompletableFuture} of {@link Responses#cachedOk(Collection, long)} containing the {@link User}'s monthly {@link HistoricStats}
      */
-    ResponseEntity<Collection<HistoricStats>> getUserHistoricStatsMonthly(@PathVariable("userId") int userId,
-                                                                          @PathVariable("year") String year,
-                                                                          HttpServletRequest request);
+    CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getUserHistoricStatsMonthly(@PathVariable("userId") int userId,
+                                                                                             @PathVariable("year") String year,
+                                                                                             HttpServletRequest request);
+
+    /**
+     * {@link GetMapping} request to retrieve the {@link HistoricStats} for multiple {@link User}s in a single request.
+     *
+     * <p>
+     * If a {@code day} is provided, each {@link User}'s hourly {@link HistoricStats} for that {@code day} are returned, otherwise each
+     * {@link User}'s daily {@link HistoricStats} for the {@link Month} are returned. At most <b>100</b> {@link User}s can be requested at once.
+     *
+     * @param userIds the IDs of the {@link User}s whose {@link HistoricStats} are to be retrieved
+     * @param year    the {@link Year} of the {@link HistoricStats}
+     * @param month   the {@link Month} of the {@link HistoricStats}
+     * @param day     the {@code day} of the {@link HistoricStats}, or empty for the whole {@link Month}
+     * @param request the {@link HttpServletRequest}
+     * @return a {@link CompletableFuture} of {@link Responses#cachedOk(Collection, long)} containing the {@link UserHistoricStats} for each
+     *     {@link User}, in the order they were requested
+     */
+    CompletableFuture<ResponseEntity<Collection<UserHistoricStats>>> getUsersHistoricStats(@RequestParam("ids") List<Integer> userIds,
+                                                                                           @RequestParam("year") String year,
+                                                                                           @RequestParam("month") String month,
+                                                                                           @RequestParam(value = "day", required = false,
+                                                                                               defaultValue = "") String day,
+                                                                                           HttpServletRequest request);
 
     /**
      * {@link GetMapping} request to retrieve a {@link Team}'s hourly {@link HistoricStats} for a single {@code day}.
@@ -84,13 +110,13 @@ public interface HistoricStatsEndpoint {
      * @param month   the {@link Month} of the {@link HistoricStats}
      * @param day     the {@code day} of the {@link HistoricStats}
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link Team}'s hourly {@link HistoricStats}
+     * @return a {@link CompletableFuture} of {@link Responses#cachedOk(Collection, long)} containing the {@link Team}'s hourly {@link HistoricStats}
      */
-    ResponseEntity<Collection<HistoricStats>> getTeamHistoricStatsHourly(@PathVariable("teamId") int teamId,
-                                                                         @PathVariable("year") String year,
-                                                                         @PathVariable("month") String month,
-                                                                         @PathVariable("day") String day,
-                                                                         HttpServletRequest request);
+    CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getTeamHistoricStatsHourly(@PathVariable("teamId") int teamId,
+                                                                                            @PathVariable("year") String year,
+                                                                                            @PathVariable("month") String month,
+                                                                                            @PathVariable("day") String day,
+                                                                                            HttpServletRequest request);
 
     /**
      * {@link GetMapping} request to retrieve a {@link Team}'s daily {@link HistoricStats} for a single {@link Month}.
@@ -99,12 +125,12 @@ public interface HistoricStatsEndpoint {
      * @param year    the {@link Year} of the {@link HistoricStats}
      * @param month   the {@link Month} of the {@link HistoricStats}
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link Team}'s daily {@link HistoricStats}
+     * @return a {@link CompletableFuture} of {@link Responses#cachedOk(Collection, long)} containing the {@link Team}'s daily {@link HistoricStats}
      */
-    ResponseEntity<Collection<HistoricStats>> getTeamHistoricStatsDaily(@PathVariable("teamId") int teamId,
-                                                                        @PathVariable("year") String year,
-                                                                        @PathVariable("month") String month,
-                                                                        HttpServletRequest request);
+    CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getTeamHistoricStatsDaily(@PathVariable("teamId") int teamId,
+                                                                                           @PathVariable("year") String year,
+                                                                                           @PathVariable("month") String month,
+                                                                                           HttpServletRequest request);
 
     /**
      * {@link GetMapping} request to retrieve a {@link Team}'s monthly {@link HistoricStats} for a single {@link Year}.
@@ -112,9 +138,9 @@ public interface HistoricStatsEndpoint {
      * @param teamId  the ID of the {@link Team} whose {@link HistoricStats} are to be retrieved
      * @param year    the {@link Year} of the {@link HistoricStats}
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link Team}'s monthly {@link HistoricStats}
+     * @return a {@link CompletableFuture} of {@link Responses#cachedOk(Collection, long)} containing the {@link Team}'s monthly {@link HistoricStats}
      */
-    ResponseEntity<Collection<HistoricStats>> getTeamHistoricStatsMonthly(@PathVariable("teamId") int teamId,
-                                                                          @PathVariable("year") String year,
-                                                                          HttpServletRequest request);
+    CompletableFuture<ResponseEntity<Collection<HistoricStats>>> getTeamHistoricStatsMonthly(@PathVariable("teamId") int teamId,
+                                                                                             @PathVariable("year") String year,
+                                                                                             HttpServletRequest request);
 }
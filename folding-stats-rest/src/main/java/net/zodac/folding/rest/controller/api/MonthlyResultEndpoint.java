@@ -38,11 +38,12 @@ public interface MonthlyResultEndpoint {
      * @param year    the {@link Year} of the {@link MonthlyResult}
      * @param month   the {@link Month} of the {@link MonthlyResult}
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#ok(Object)} with the {@link MonthlyResult}
+     * @return {@link Responses#jsonOk(byte[], String)} with the serialized {@link MonthlyResult}, or
+     *     {@link Responses#immutableJsonOk(byte[], String)} if the {@link Month} has closed
      */
-    ResponseEntity<MonthlyResult> getMonthlyResult(@PathVariable("year") String year,
-                                                   @PathVariable("month") String month,
-                                                   HttpServletRequest request);
+    ResponseEntity<byte[]> getMonthlyResult(@PathVariable("year") String year,
+                                            @PathVariable("month") String month,
+                                            HttpServletRequest request);
 
     /**
      * {@link PostMapping} request that performs a manual save of the current {@link MonthlyResult}.
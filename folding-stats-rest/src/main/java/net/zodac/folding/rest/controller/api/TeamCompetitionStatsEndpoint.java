@@ -29,6 +29,8 @@ import net.zodac.folding.rest.api.tc.UserSummary;
 import net.zodac.folding.rest.api.tc.leaderboard.TeamLeaderboardEntry;
 import net.zodac.folding.rest.api.tc.leaderboard.UserCategoryLeaderboardEntry;
 import net.zodac.folding.rest.api.tc.request.OffsetTcStatsRequest;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
+import net.zodac.folding.rest.api.tc.stream.StatsUpdate;
 import net.zodac.folding.rest.response.Responses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -36,6 +38,8 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * REST endpoint for {@code Team Competition} stats.
@@ -91,6 +95,29 @@ public interface TeamCompetitionStatsEndpoint {
      */
     ResponseEntity<Map<Category, List<UserCategoryLeaderboardEntry>>> getCategoryLeaderboard();
 
+    /**
+     * {@link GetMapping} request to retrieve the {@code Team Competition} {@link StatsChanges} since a previously retrieved stats version.
+     *
+     * <p>
+     * Only the teams and users whose points, units or rank have changed are returned. If the version is too old (or unknown), the response
+     * signals that a full resync is required, and the full stats should be retrieved instead.
+     *
+     * @param sinceVersion the stats version previously retrieved by the client
+     * @return {@link Responses#ok(Object)} containing the {@link StatsChanges}
+     */
+    ResponseEntity<StatsChanges> getStatsChanges(@RequestParam("since") long sinceVersion);
+
+    /**
+     * {@link GetMapping} request to subscribe to a Server-Sent Events stream of {@code Team Competition} {@link StatsUpdate}s.
+     *
+     * <p>
+     * The first event contains the current stats of all teams and users. Each following event contains only the teams and users whose rank or
+     * points have changed after the stats are updated, so clients can stop polling the stats and leaderboard endpoints.
+     *
+     * @return the {@link SseEmitter} for the subscription
+     */
+    SseEmitter getStatsStream();
+
     /**
      * {@link PostMapping} request to manually update the {@code Team Competition} stats.
      *
@@ -19,8 +19,13 @@ package net.zodac.folding.rest.controller.api;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.tc.request.TeamRequest;
+import net.zodac.folding.rest.response.Page;
 import net.zodac.folding.rest.response.Responses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -45,14 +50,45 @@ public interface TeamEndpoint {
      */
     ResponseEntity<Team> create(@RequestBody TeamRequest teamRequest, HttpServletRequest request);
 
+    /**
+     * {@link PostMapping} request to create multiple {@link Team}s in a single unit of work, based on the input requests.
+     *
+     * <p>
+     * If any request fails validation, no {@link Team}s are created, and a {@link BatchItemResult} is returned for each request.
+     *
+     * @param teamRequests the {@link TeamRequest}s to create {@link Team}s
+     * @param request      the {@link HttpServletRequest}
+     * @return {@link Responses#created(Object)} containing a {@link BatchItemResult} with each created {@link Team}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each request if any failed validation
+     */
+    ResponseEntity<Collection<BatchItemResult<Team>>> createBatch(@RequestBody Collection<TeamRequest> teamRequests, HttpServletRequest request);
+
     /**
      * {@link GetMapping} request to retrieve all {@link Team}s.
      *
+     * <p>
+     * Only used when no pagination or projection is requested, otherwise {@link #getPage(int, int, String, HttpServletRequest)} is used.
+     *
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link Team}s
+     * @return {@link Responses#cachedOk(Collection)} containing the {@link Team}s
      */
     ResponseEntity<Collection<Team>> getAll(HttpServletRequest request);
 
+    /**
+     * {@link GetMapping} request to retrieve all {@link Team}s, optionally paginated by ID and with only the requested fields.
+     *
+     * @param cursor  only resources with an ID greater than this value are returned (<b>0</b> means start from the first resource)
+     * @param limit   the maximum number of resources to return (<b>0</b> means no limit)
+     * @param fields  a comma-separated {@link String} of the fields to include in each resource (empty means all fields)
+     * @param request the {@link HttpServletRequest}
+     * @return {@link Responses#cachedOk(Page)} containing the {@link Page} of {@link Team}s
+     */
+    ResponseEntity<Collection<?>> getPage(
+        @RequestParam(value = PageRequest.CURSOR_PARAMETER, required = false, defaultValue = "0") int cursor,
+        @RequestParam(value = PageRequest.LIMIT_PARAMETER, required = false, defaultValue = "0") int limit,
+        @RequestParam(value = PageRequest.FIELDS_PARAMETER, required = false, defaultValue = "") String fields,
+        HttpServletRequest request);
+
     /**
      * {@link GetMapping} request to retrieve a {@link Team} by {@code teamId}.
      *
@@ -81,6 +117,20 @@ public interface TeamEndpoint {
      */
     ResponseEntity<Team> updateById(@PathVariable("teamId") int teamId, @RequestBody TeamRequest teamRequest, HttpServletRequest request);
 
+    /**
+     * {@link PutMapping} request to update multiple existing {@link Team}s in a single unit of work, based on the input requests.
+     *
+     * <p>
+     * If any request fails validation, no {@link Team}s are updated, and a {@link BatchItemResult} is returned for each request.
+     *
+     * @param teamUpdateRequests the {@link BatchUpdateRequest}s with the ID of each {@link Team} and its {@link TeamRequest}
+     * @param request            the {@link HttpServletRequest}
+     * @return {@link Responses#ok(Collection)} containing a {@link BatchItemResult} with each updated {@link Team}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each request if any failed validation
+     */
+    ResponseEntity<Collection<BatchItemResult<Team>>> updateBatch(@RequestBody Collection<BatchUpdateRequest<TeamRequest>> teamUpdateRequests,
+                                                                  HttpServletRequest request);
+
     /**
      * {@link DeleteMapping} request to delete an existing {@link Team}.
      *
@@ -89,4 +139,18 @@ public interface TeamEndpoint {
      * @return {@link Responses#ok()}
      */
     ResponseEntity<Void> deleteById(@PathVariable("teamId") int teamId, HttpServletRequest request);
+
+    /**
+     * {@link DeleteMapping} request to delete multiple existing {@link Team}s in a single unit of work.
+     *
+     * <p>
+     * If any {@link Team} cannot be found or fails validation, no {@link Team}s are deleted, and a {@link BatchItemResult} is returned for
+     * each ID.
+     *
+     * @param teamIds the IDs of the {@link Team}s to be deleted
+     * @param request the {@link HttpServletRequest}
+     * @return {@link Responses#ok(Collection)} containing a {@link BatchItemResult} with each deleted {@link Team}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each ID if any failed validation
+     */
+    ResponseEntity<Collection<BatchItemResult<Team>>> deleteBatch(@RequestParam("ids") List<Integer> teamIds, HttpServletRequest request);
 }
@@ -24,7 +24,9 @@ import java.util.Collection;
 import net.zodac.folding.api.tc.change.UserChange;
 import net.zodac.folding.api.tc.change.UserChangeState;
 import net.zodac.folding.bean.tc.user.UserChangeApplier;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.tc.request.UserChangeRequest;
+import net.zodac.folding.rest.response.Page;
 import net.zodac.folding.rest.response.Responses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -53,6 +55,10 @@ public interface UserChangeEndpoint {
     /**
      * {@link GetMapping} request to retrieve all {@link UserChange}s with one of the provides {@link UserChangeState}s.
      *
+     * <p>
+     * Only used when no pagination or projection is requested, otherwise {@link #getPage(String, long, int, int, String, HttpServletRequest)}
+     * is used.
+     *
      * @param state          a comma-separated {@link String} of the {@link UserChangeState}s to look for
      * @param numberOfMonths the number of months back from which to retrieve {@link UserChange}s (<b>0</b> means retrieve all)
      * @param request        the {@link HttpServletRequest}
@@ -63,6 +69,26 @@ public interface UserChangeEndpoint {
         @RequestParam(value = "numberOfMonths", required = false, defaultValue = "0") long numberOfMonths,
         HttpServletRequest request);
 
+    /**
+     * {@link GetMapping} request to retrieve all {@link UserChange}s with one of the provides {@link UserChangeState}s, optionally paginated by
+     * ID and with only the requested fields.
+     *
+     * @param state          a comma-separated {@link String} of the {@link UserChangeState}s to look for
+     * @param numberOfMonths the number of months back from which to retrieve {@link UserChange}s (<b>0</b> means retrieve all)
+     * @param cursor         only {@link UserChange}s with an ID greater than this value are returned (<b>0</b> means start from the first)
+     * @param limit          the maximum number of {@link UserChange}s to return (<b>0</b> means no limit)
+     * @param fields         a comma-separated {@link String} of the fields to include in each {@link UserChange} (empty means all fields)
+     * @param request        the {@link HttpServletRequest}
+     * @return {@link Responses#ok(Page)} containing the {@link Page} of {@link UserChange}s
+     */
+    ResponseEntity<Collection<?>> getPage(
+        @RequestParam(value = "state", required = false, defaultValue = UserChangeState.ALL_STATES) String state,
+        @RequestParam(value = "numberOfMonths", required = false, defaultValue = "0") long numberOfMonths,
+        @RequestParam(value = PageRequest.CURSOR_PARAMETER, required = false, defaultValue = "0") int cursor,
+        @RequestParam(value = PageRequest.LIMIT_PARAMETER, required = false, defaultValue = "0") int limit,
+        @RequestParam(value = PageRequest.FIELDS_PARAMETER, required = false, defaultValue = "") String fields,
+        HttpServletRequest request);
+
     /**
      * {@link GetMapping} request to retrieve all {@link UserChange}s.
      *
@@ -19,8 +19,13 @@ package net.zodac.folding.rest.controller.api;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.tc.User;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.tc.request.UserRequest;
+import net.zodac.folding.rest.response.Page;
 import net.zodac.folding.rest.response.Responses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,6 +34,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * REST endpoints for {@code Team Competition} {@link User}s.
@@ -44,14 +50,45 @@ public interface UserEndpoint {
      */
     ResponseEntity<User> create(@RequestBody UserRequest userRequest, HttpServletRequest request);
 
+    /**
+     * {@link PostMapping} request to create multiple {@link User}s in a single unit of work, based on the input requests.
+     *
+     * <p>
+     * If any request fails validation, no {@link User}s are created, and a {@link BatchItemResult} is returned for each request.
+     *
+     * @param userRequests the {@link UserRequest}s to create {@link User}s
+     * @param request      the {@link HttpServletRequest}
+     * @return {@link Responses#created(Object)} containing a {@link BatchItemResult} with each created {@link User}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each request if any failed validation
+     */
+    ResponseEntity<Collection<BatchItemResult<User>>> createBatch(@RequestBody Collection<UserRequest> userRequests, HttpServletRequest request);
+
     /**
      * {@link GetMapping} request to retrieve all {@link User}s.
      *
+     * <p>
+     * Only used when no pagination or projection is requested, otherwise {@link #getPage(int, int, String, HttpServletRequest)} is used.
+     *
      * @param request the {@link HttpServletRequest}
-     * @return {@link Responses#cachedOk(Collection, long)} containing the {@link User}s
+     * @return {@link Responses#cachedOk(Collection)} containing the {@link User}s
      */
     ResponseEntity<Collection<User>> getAll(HttpServletRequest request);
 
+    /**
+     * {@link GetMapping} request to retrieve all {@link User}s, optionally paginated by ID and with only the requested fields.
+     *
+     * @param cursor  only resources with an ID greater than this value are returned (<b>0</b> means start from the first resource)
+     * @param limit   the maximum number of resources to return (<b>0</b> means no limit)
+     * @param fields  a comma-separated {@link String} of the fields to include in each resource (empty means all fields)
+     * @param request the {@link HttpServletRequest}
+     * @return {@link Responses#cachedOk(Page)} containing the {@link Page} of {@link User}s
+     */
+    ResponseEntity<Collection<?>> getPage(
+        @RequestParam(value = PageRequest.CURSOR_PARAMETER, required = false, defaultValue = "0") int cursor,
+        @RequestParam(value = PageRequest.LIMIT_PARAMETER, required = false, defaultValue = "0") int limit,
+        @RequestParam(value = PageRequest.FIELDS_PARAMETER, required = false, defaultValue = "") String fields,
+        HttpServletRequest request);
+
     /**
      * {@link GetMapping} request to retrieve all {@link User}s.
      *
@@ -88,6 +125,20 @@ public interface UserEndpoint {
      */
     ResponseEntity<User> updateById(@PathVariable("userId") int userId, @RequestBody UserRequest userRequest, HttpServletRequest request);
 
+    /**
+     * {@link PutMapping} request to update multiple existing {@link User}s in a single unit of work, based on the input requests.
+     *
+     * <p>
+     * If any request fails validation, no {@link User}s are updated, and a {@link BatchItemResult} is returned for each request.
+     *
+     * @param userUpdateRequests the {@link BatchUpdateRequest}s with the ID of each {@link User} and its {@link UserRequest}
+     * @param request            the {@link HttpServletRequest}
+     * @return {@link Responses#ok(Collection)} containing a {@link BatchItemResult} with each updated {@link User}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each request if any failed validation
+     */
+    ResponseEntity<Collection<BatchItemResult<User>>> updateBatch(@RequestBody Collection<BatchUpdateRequest<UserRequest>> userUpdateRequests,
+                                                                  HttpServletRequest request);
+
     /**
      * {@link DeleteMapping} request to delete an existing {@link User}.
      *
@@ -96,4 +147,18 @@ public interface UserEndpoint {
      * @return {@link Responses#ok()}
      */
     ResponseEntity<Void> deleteById(@PathVariable("userId") int userId, HttpServletRequest request);
+
+    /**
+     * {@link DeleteMapping} request to delete multiple existing {@link User}s in a single unit of work.
+     *
+     * <p>
+     * If any {@link User} cannot be found or fails validation, no {@link User}s are deleted, and a {@link BatchItemResult} is returned for
+     * each ID.
+     *
+     * @param userIds the IDs of the {@link User}s to be deleted
+     * @param request the {@link HttpServletRequest}
+     * @return {@link Responses#ok(Collection)} containing a {@link BatchItemResult} with each deleted {@link User}, or
+     *     {@link Responses#badRequest(Object)} containing a {@link BatchItemResult} for each ID if any failed validation
+     */
+    ResponseEntity<Collection<BatchItemResult<User>>> deleteBatch(@RequestParam("ids") List<Integer> userIds, HttpServletRequest request);
 }
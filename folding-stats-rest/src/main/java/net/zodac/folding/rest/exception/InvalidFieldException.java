@@ -0,0 +1,55 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.exception;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * {@link Exception} thrown when a request asks for a field which does not exist on the requested resource.
+ */
+@Getter
+public class InvalidFieldException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 3190637489224409913L;
+
+    /**
+     * The invalid field.
+     */
+    private final String field;
+
+    /**
+     * The valid fields for the resource.
+     */
+    private final transient Collection<String> availableFields;
+
+    /**
+     * Basic constructor.
+     *
+     * @param field           the invalid field
+     * @param availableFields the valid fields for the resource
+     */
+    public InvalidFieldException(final String field, final Collection<String> availableFields) {
+        super();
+        this.field = field;
+        this.availableFields = List.copyOf(availableFields);
+    }
+}
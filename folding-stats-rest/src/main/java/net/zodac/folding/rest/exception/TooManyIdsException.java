@@ -0,0 +1,53 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.exception;
+
+import java.io.Serial;
+import lombok.Getter;
+
+/**
+ * {@link Exception} to be thrown when a request provides more IDs than can be retrieved in a single request.
+ */
+@Getter
+public class TooManyIdsException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 6418072519473325096L;
+
+    /**
+     * The number of IDs provided.
+     */
+    private final transient int numberOfIds;
+
+    /**
+     * The maximum number of IDs allowed.
+     */
+    private final transient int maximumNumberOfIds;
+
+    /**
+     * Basic constructor.
+     *
+     * @param numberOfIds        the number of IDs provided
+     * @param maximumNumberOfIds the maximum number of IDs allowed
+     */
+    public TooManyIdsException(final int numberOfIds, final int maximumNumberOfIds) {
+        super();
+        this.numberOfIds = numberOfIds;
+        this.maximumNumberOfIds = maximumNumberOfIds;
+    }
+}
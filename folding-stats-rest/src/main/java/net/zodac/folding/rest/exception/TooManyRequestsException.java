@@ -0,0 +1,50 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.exception;
+
+import java.io.Serial;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * {@link Exception} thrown when a request is rejected due to {@link HttpStatus#TOO_MANY_REQUESTS}, either because the client has exceeded its
+ * permitted request rate, or because the system is shedding load.
+ */
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -4180547318120955346L;
+
+    /**
+     * The number of seconds the client should wait before retrying the request.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor taking in the number of seconds until the request can be retried.
+     *
+     * @param retryAfterSeconds the number of seconds the client should wait before retrying
+     */
+    public TooManyRequestsException(final long retryAfterSeconds) {
+        super(String.format("Too many requests, retry after %d second(s)", retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
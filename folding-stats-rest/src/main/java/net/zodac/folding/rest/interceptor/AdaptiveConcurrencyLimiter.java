@@ -0,0 +1,155 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.interceptor;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of concurrent requests, adjusting the limit based on the observed latency of completed requests using an
+ * additive-increase/multiplicative-decrease (AIMD) algorithm.
+ *
+ * <p>
+ * While requests complete within the target latency and the current limit is being used, the limit is increased by one for every
+ * {@code limit} requests. When a request exceeds the target latency, the limit is multiplied by {@value #BACKOFF_RATIO}. The limit is always
+ * kept between the configured minimum and maximum.
+ *
+ * <p>
+ * The limit is reduced at most once per sampling window, where each window starts when the limit is reduced. Only a request which started
+ * after the last reduction can reduce the limit again, so a burst of slow requests that were all admitted under the previous limit only
+ * reduces it once.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9D;
+    private static final double REDUCED_CAPACITY_RATIO = 0.5D;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int minimumLimit;
+    private final int maximumLimit;
+    private final long targetLatencyNanos;
+    private final LongSupplier nanoClock;
+
+    private double limit;
+    private int inFlight;
+    private long lastBackoffNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param minimumLimit  the minimum number of concurrent requests
+     * @param maximumLimit  the maximum number of concurrent requests, also used as the initial limit
+     * @param targetLatency the latency above which the limit is reduced
+     */
+    AdaptiveConcurrencyLimiter(final int minimumLimit, final int maximumLimit, final Duration targetLatency) {
+        this(minimumLimit, maximumLimit, targetLatency, System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param minimumLimit  the minimum number of concurrent requests
+     * @param maximumLimit  the maximum number of concurrent requests, also used as the initial limit
+     * @param targetLatency the latency above which the limit is reduced
+     * @param nanoClock     the source of the current time in nanoseconds, comparable to {@link System#nanoTime()}
+     */
+    AdaptiveConcurrencyLimiter(final int minimumLimit, final int maximumLimit, final Duration targetLatency, final LongSupplier nanoClock) {
+        this.minimumLimit = Math.max(1, Math.min(minimumLimit, maximumLimit));
+        this.maximumLimit = Math.max(this.minimumLimit, maximumLimit);
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.nanoClock = nanoClock;
+        limit = this.maximumLimit;
+        lastBackoffNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Attempts to start a new request.
+     *
+     * @param reducedCapacity whether only half of the current limit should be available, to leave capacity for higher priority work
+     * @return {@code true} if the request is permitted, and {@link #release(long)} must be called once it completes
+     */
+    boolean tryAcquire(final boolean reducedCapacity) {
+        lock.lock();
+        try {
+            final double availableLimit = reducedCapacity ? Math.max(minimumLimit, limit * REDUCED_CAPACITY_RATIO) : limit;
+            if (inFlight >= (int) availableLimit) {
+                return false;
+            }
+
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes a request started by {@link #tryAcquire(boolean)}, and updates the limit based on its latency.
+     *
+     * @param latencyNanos the latency of the request in nanoseconds
+     */
+    void release(final long latencyNanos) {
+        lock.lock();
+        try {
+            final boolean limitInUse = inFlight * 2 >= (int) limit;
+            inFlight = Math.max(0, inFlight - 1);
+
+            if (latencyNanos > targetLatencyNanos) {
+                final long currentNanos = nanoClock.getAsLong();
+                final boolean startedAfterLastBackoff = currentNanos - latencyNanos - lastBackoffNanos >= 0L;
+                if (startedAfterLastBackoff) {
+                    limit = Math.max(minimumLimit, limit * BACKOFF_RATIO);
+                    lastBackoffNanos = currentNanos;
+                }
+            } else if (limitInUse) {
+                limit = Math.min(maximumLimit, limit + (1.0D / limit));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current concurrency limit.
+     *
+     * @return the current limit
+     */
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of requests currently in progress.
+     *
+     * @return the number of in-flight requests
+     */
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.interceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client rate limiter, using a token bucket for each client.
+ *
+ * <p>
+ * Each client may make up to {@code burstSize} requests at once, after which tokens are refilled at {@code requestsPerSecond}. Buckets for
+ * clients that have not made a request recently are evicted, since they would be full again anyway.
+ */
+final class ClientRateLimiter {
+
+    private static final long MAXIMUM_NUMBER_OF_CLIENTS = 10_000L;
+    private static final Duration MINIMUM_IDLE_EXPIRATION = Duration.ofMinutes(1L);
+
+    private final Cache<String, TokenBucket> bucketsByClient;
+    private final double requestsPerSecond;
+    private final double burstSize;
+    private final LongSupplier nanoTimeSupplier;
+
+    /**
+     * Constructor.
+     *
+     * @param requestsPerSecond the number of requests each client is permitted per second once the burst has been used
+     * @param burstSize         the number of requests each client may make at once
+     * @param nanoTimeSupplier  the {@link LongSupplier} for the current time in nanoseconds
+     */
+    ClientRateLimiter(final int requestsPerSecond, final int burstSize, final LongSupplier nanoTimeSupplier) {
+        this.requestsPerSecond = Math.max(1, requestsPerSecond);
+        this.burstSize = Math.max(1, burstSize);
+        this.nanoTimeSupplier = nanoTimeSupplier;
+
+        final Duration timeToRefill = Duration.ofSeconds((long) Math.ceil(this.burstSize / this.requestsPerSecond));
+        bucketsByClient = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_NUMBER_OF_CLIENTS)
+            .expireAfterAccess(timeToRefill.compareTo(MINIMUM_IDLE_EXPIRATION) > 0 ? timeToRefill : MINIMUM_IDLE_EXPIRATION)
+            .build();
+    }
+
+    /**
+     * Attempts to take a token from the bucket of the provided client.
+     *
+     * @param clientId the ID of the client making the request
+     * @return {@code 0} if the request is permitted, otherwise the number of nanoseconds until the next token is available
+     */
+    long tryAcquire(final String clientId) {
+        final TokenBucket tokenBucket = bucketsByClient.get(clientId, _ -> new TokenBucket(burstSize, nanoTimeSupplier.getAsLong()));
+        return tokenBucket.tryAcquire(nanoTimeSupplier.getAsLong());
+    }
+
+    /**
+     * The number of clients currently being tracked.
+     *
+     * @return the number of tracked clients
+     */
+    long numberOfClients() {
+        bucketsByClient.cleanUp();
+        return bucketsByClient.estimatedSize();
+    }
+
+    private final class TokenBucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(final double tokens, final long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+
+        long tryAcquire(final long nowNanos) {
+            lock.lock();
+            try {
+                final long elapsedNanos = Math.max(0L, nowNanos - lastRefillNanos);
+                tokens = Math.min(burstSize, tokens + (elapsedNanos * requestsPerSecond / TimeUnit.SECONDS.toNanos(1L)));
+                lastRefillNanos = nowNanos;
+
+                if (tokens >= 1.0D) {
+                    tokens -= 1.0D;
+                    return 0L;
+                }
+
+                return (long) Math.ceil((1.0D - tokens) * TimeUnit.SECONDS.toNanos(1L) / requestsPerSecond);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
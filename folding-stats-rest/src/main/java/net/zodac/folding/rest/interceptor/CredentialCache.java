@@ -0,0 +1,114 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.interceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import net.zodac.folding.api.UserAuthenticationResult;
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
+import net.zodac.folding.api.util.LoggerName;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Component} caching successfully verified system user credentials for a short period, so repeated requests with the same
+ * {@code Authorization} header do not need to go to the DB to be authenticated again.
+ *
+ * <p>
+ * The raw header is never stored. Instead, each entry is keyed by an HMAC of the header, using a random key generated on startup. Failed
+ * authentications are not cached. Since system users are only managed directly in the DB, {@link #invalidateAll()} should be called after a
+ * system user has been changed, otherwise the change will be visible once the cached entries expire.
+ */
+@Component
+public final class CredentialCache {
+
+    private static final Logger SECURITY_LOGGER = LogManager.getLogger(LoggerName.SECURITY.get());
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HMAC_KEY_LENGTH = 32;
+    private static final long MAXIMUM_CACHE_SIZE = 100L;
+    private static final Duration CACHE_EXPIRATION_TIME =
+        Duration.ofSeconds(EnvironmentVariableUtils.getIntOrDefault("CREDENTIAL_CACHE_EXPIRATION_SECONDS", 60));
+
+    private final SecretKeySpec hmacKey = createHmacKey();
+    private final Cache<String, UserAuthenticationResult> verifiedCredentialsCache = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_CACHE_SIZE)
+        .expireAfterWrite(CACHE_EXPIRATION_TIME)
+        .build();
+
+    /**
+     * Retrieves the {@link UserAuthenticationResult} for the provided {@code Authorization} header.
+     *
+     * <p>
+     * If the header has been successfully authenticated within the cache period, the cached {@link UserAuthenticationResult} is returned.
+     * Otherwise, the {@code authenticator} is called, and the result is cached only if the authentication was successful.
+     *
+     * @param authorizationHeader the {@code Authorization} header of the request
+     * @param authenticator       the {@link Supplier} to authenticate the header if it is not cached
+     * @return the {@link UserAuthenticationResult}
+     */
+    public UserAuthenticationResult authenticate(final String authorizationHeader,
+                                                 final Supplier<UserAuthenticationResult> authenticator) {
+        final String key = hash(authorizationHeader);
+        final Optional<UserAuthenticationResult> fromCache = Optional.ofNullable(verifiedCredentialsCache.getIfPresent(key));
+        if (fromCache.isPresent()) {
+            SECURITY_LOGGER.trace("Using cached authentication result");
+            return fromCache.get();
+        }
+
+        final UserAuthenticationResult userAuthenticationResult = authenticator.get();
+        if (userAuthenticationResult.userExists() && userAuthenticationResult.passwordMatch()) {
+            verifiedCredentialsCache.put(key, userAuthenticationResult);
+        }
+        return userAuthenticationResult;
+    }
+
+    /**
+     * Removes all cached credentials, forcing the next request for each system user to be authenticated against the DB.
+     */
+    public void invalidateAll() {
+        SECURITY_LOGGER.info("Invalidating {} cached system user credential(s)", verifiedCredentialsCache.estimatedSize());
+        verifiedCredentialsCache.invalidateAll();
+    }
+
+    private String hash(final String authorizationHeader) {
+        try {
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return HexFormat.of().formatHex(mac.doFinal(authorizationHeader.getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException(String.format("Unable to hash credentials using '%s'", HMAC_ALGORITHM), e);
+        }
+    }
+
+    private static SecretKeySpec createHmacKey() {
+        final byte[] key = new byte[HMAC_KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        return new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+}
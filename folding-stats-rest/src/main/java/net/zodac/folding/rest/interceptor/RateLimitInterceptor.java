@@ -0,0 +1,138 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.interceptor;
+
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import net.zodac.folding.api.util.EnvironmentVariableUtils;
+import net.zodac.folding.rest.exception.TooManyRequestsException;
+import net.zodac.folding.rest.util.WriteRequired;
+import net.zodac.folding.state.SystemStateManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * {@link HandlerInterceptor} that protects the system from being saturated by public read requests. Each request should be one of the
+ * following cases:
+ * <ul>
+ *     <li>
+ *         Method is annotated with {@link RolesAllowed} (and not {@link PermitAll}), or with {@link WriteRequired}. These are admin requests,
+ *         and are never limited.
+ *     </li>
+ *     <li>
+ *         Otherwise, the client (identified by its remote address) must have a token available in its {@link ClientRateLimiter} bucket, and
+ *         the {@link AdaptiveConcurrencyLimiter} must have capacity for another request. While a stats update or reset is in progress, only
+ *         half of the concurrency limit is available, so the ingestion has priority for the DB connections.
+ *     </li>
+ * </ul>
+ *
+ * <p>
+ * When the system is behind a reverse proxy, the remote address of every request would be the address of the proxy, so all clients would share
+ * a single bucket. Instead, the {@code server.forward-headers-strategy} is set to {@code native}, so the remote address is taken from the
+ * {@code X-Forwarded-For} header, but only when the request was sent by a trusted proxy (by default, any private or loopback address, which can
+ * be changed with the <b>SERVER_TOMCAT_REMOTEIP_INTERNAL_PROXIES</b> environment variable), so any other client cannot spoof its address by
+ * sending the header itself.
+ *
+ * <p>
+ * A rejected request results in a {@link TooManyRequestsException}, with the number of seconds until the client should retry.
+ *
+ * <p>
+ * Streaming responses (such as {@link ResponseBodyEmitter}) are rate limited, but are not counted against the concurrency limit, since they
+ * are long-lived and are limited by their own maximum number of subscribers.
+ */
+@Component
+public final class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final int REQUESTS_PER_SECOND = EnvironmentVariableUtils.getIntOrDefault("RATE_LIMIT_REQUESTS_PER_SECOND", 20);
+    private static final int BURST_SIZE = EnvironmentVariableUtils.getIntOrDefault("RATE_LIMIT_BURST_SIZE", 40);
+    private static final int MINIMUM_CONCURRENT_REQUESTS = 10;
+    private static final int MAXIMUM_CONCURRENT_REQUESTS = EnvironmentVariableUtils.getIntOrDefault("RATE_LIMIT_MAXIMUM_CONCURRENT_REQUESTS", 200);
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(EnvironmentVariableUtils.getIntOrDefault("RATE_LIMIT_TARGET_LATENCY_MS", 500));
+    private static final long SHED_RETRY_AFTER_SECONDS = 1L;
+    private static final String REQUEST_START_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".requestStart";
+
+    private final ClientRateLimiter clientRateLimiter = new ClientRateLimiter(REQUESTS_PER_SECOND, BURST_SIZE, System::nanoTime);
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter =
+        new AdaptiveConcurrencyLimiter(MINIMUM_CONCURRENT_REQUESTS, MAXIMUM_CONCURRENT_REQUESTS, TARGET_LATENCY);
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        // Async requests are dispatched a second time once complete, but were already limited on the initial dispatch
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        final Method method = ((HandlerMethod) handler).getMethod();
+        if (isPrioritised(method) || REQUESTS_PER_SECOND <= 0) {
+            return true;
+        }
+
+        final long nanosUntilNextToken = clientRateLimiter.tryAcquire(request.getRemoteAddr());
+        if (nanosUntilNextToken > 0L) {
+            LOGGER.debug("Client '{}' has exceeded {} requests/second at '{}'", request.getRemoteAddr(), REQUESTS_PER_SECOND,
+                request.getRequestURI());
+            throw new TooManyRequestsException(toRetryAfterSeconds(nanosUntilNextToken));
+        }
+
+        if (ResponseBodyEmitter.class.isAssignableFrom(method.getReturnType())) {
+            return true;
+        }
+
+        if (!concurrencyLimiter.tryAcquire(SystemStateManager.current().isStatsWriteInProgress())) {
+            LOGGER.warn("Shedding request at '{}', concurrency limit of {} reached", request.getRequestURI(), concurrencyLimiter.limit());
+            throw new TooManyRequestsException(SHED_RETRY_AFTER_SECONDS);
+        }
+
+        request.setAttribute(REQUEST_START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                final @Nullable Exception ex) {
+        final Object requestStart = request.getAttribute(REQUEST_START_ATTRIBUTE);
+        if (requestStart != null) {
+            request.removeAttribute(REQUEST_START_ATTRIBUTE);
+            concurrencyLimiter.release(System.nanoTime() - (long) requestStart);
+        }
+    }
+
+    private static long toRetryAfterSeconds(final long nanosUntilNextToken) {
+        final long nanosPerSecond = TimeUnit.SECONDS.toNanos(1L);
+        return Math.max(1L, (nanosUntilNextToken + nanosPerSecond - 1L) / nanosPerSecond);
+    }
+
+    private static boolean isPrioritised(final Method method) {
+        return method.isAnnotationPresent(WriteRequired.class)
+            || (method.isAnnotationPresent(RolesAllowed.class) && !method.isAnnotationPresent(PermitAll.class));
+    }
+}
@@ -27,7 +27,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import net.zodac.folding.api.UserAuthenticationResult;
 import net.zodac.folding.api.util.CollectionUtils;
 import net.zodac.folding.api.util.DecodedLoginCredentials;
@@ -73,6 +75,10 @@ import org.springframework.web.servlet.HandlerInterceptor;
  *     </li>
  * </ul>
  *
+ * <p>
+ * Successful authentications are held in the {@link CredentialCache} for a short period, and the permitted roles for each {@link Method} are
+ * only resolved once, so repeated requests do not need to go to the DB.
+ *
  * @see FoldingRepository#authenticateSystemUser(DecodedLoginCredentials)
  */
 @Component
@@ -80,15 +86,20 @@ public final class SecurityInterceptor implements HandlerInterceptor {
 
     private static final Logger SECURITY_LOGGER = LogManager.getLogger(LoggerName.SECURITY.get());
 
+    private final Map<Method, Set<String>> permittedRolesByMethod = new ConcurrentHashMap<>();
+
+    private final CredentialCache credentialCache;
     private final FoldingRepository foldingRepository;
 
     /**
      * {@link Autowired} constructor.
      *
+     * @param credentialCache   the {@link CredentialCache}
      * @param foldingRepository the {@link FoldingRepository}
      */
     @Autowired
-    public SecurityInterceptor(final FoldingRepository foldingRepository) {
+    public SecurityInterceptor(final CredentialCache credentialCache, final FoldingRepository foldingRepository) {
+        this.credentialCache = credentialCache;
         this.foldingRepository = foldingRepository;
     }
 
@@ -138,15 +149,17 @@ public final class SecurityInterceptor implements HandlerInterceptor {
             throw new ForbiddenException();
         }
 
-        final DecodedLoginCredentials decodedLoginCredentials = extractDecodedCredentials(request);
+        final String authorizationHeader = extractAuthorizationHeader(request);
+        final DecodedLoginCredentials decodedLoginCredentials = EncodingUtils.decodeBasicAuthentication(authorizationHeader);
 
-        final UserAuthenticationResult userAuthenticationResult = foldingRepository.authenticateSystemUser(decodedLoginCredentials);
+        final UserAuthenticationResult userAuthenticationResult = credentialCache.authenticate(authorizationHeader,
+            () -> foldingRepository.authenticateSystemUser(decodedLoginCredentials));
         validateUserAuthentication(userAuthenticationResult, decodedLoginCredentials.username());
         validateRoles(userAuthenticationResult, method, decodedLoginCredentials.username());
         SECURITY_LOGGER.debug("Request permitted");
     }
 
-    private static DecodedLoginCredentials extractDecodedCredentials(final HttpServletRequest request) {
+    private static String extractAuthorizationHeader(final HttpServletRequest request) {
         final String authorizationProperty = request.getHeader(RestHeader.AUTHORIZATION.headerName());
         if (authorizationProperty == null || EncodingUtils.isInvalidBasicAuthentication(authorizationProperty)) {
             SECURITY_LOGGER.warn("Invalid {} value provided at '{}': '{}'", RestHeader.AUTHORIZATION.headerName(),
@@ -154,7 +167,7 @@ public final class SecurityInterceptor implements HandlerInterceptor {
             throw new UnauthorizedException();
         }
 
-        return EncodingUtils.decodeBasicAuthentication(authorizationProperty);
+        return authorizationProperty;
     }
 
     private static void validateUserAuthentication(final UserAuthenticationResult userAuthenticationResult, final String userName) {
@@ -169,16 +182,13 @@ public final class SecurityInterceptor implements HandlerInterceptor {
         }
     }
 
-    private static void validateRoles(final UserAuthenticationResult userAuthenticationResult, final Method method, final String userName) {
+    private void validateRoles(final UserAuthenticationResult userAuthenticationResult, final Method method, final String userName) {
         final Set<String> userRoles = userAuthenticationResult.userRoles()
             .stream()
             .map(s -> s.toLowerCase(Locale.UK))
             .collect(toSet());
 
-        final RolesAllowed rolesAnnotation = method.getAnnotation(RolesAllowed.class);
-        final Set<String> permittedRoles = Arrays.stream(rolesAnnotation.value())
-            .map(s -> s.toLowerCase(Locale.UK))
-            .collect(toSet());
+        final Set<String> permittedRoles = permittedRolesByMethod.computeIfAbsent(method, SecurityInterceptor::resolvePermittedRoles);
         SECURITY_LOGGER.debug("Permitted roles: {}", permittedRoles);
 
         if (CollectionUtils.containsNoMatches(userRoles, permittedRoles)) {
@@ -186,4 +196,11 @@ public final class SecurityInterceptor implements HandlerInterceptor {
             throw new ForbiddenException();
         }
     }
+
+    private static Set<String> resolvePermittedRoles(final Method method) {
+        final RolesAllowed rolesAnnotation = method.getAnnotation(RolesAllowed.class);
+        return Arrays.stream(rolesAnnotation.value())
+            .map(s -> s.toLowerCase(Locale.UK))
+            .collect(toSet());
+    }
 }
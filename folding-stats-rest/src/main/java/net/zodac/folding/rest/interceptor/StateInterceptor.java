@@ -40,8 +40,8 @@ import org.springframework.web.servlet.HandlerInterceptor;
  *
  * <p>
  * If a function is annotated with {@link ReadRequired} and the current {@link SystemState} does not allow
- * {@link OperationType#READ} operations, or is annotated with {@link WriteRequired} and the current
- * {@link SystemState} does not allow {@link OperationType#WRITE} operations, a
+ * {@link OperationType#READ} operations (or {@link OperationType#SNAPSHOT_READ} operations, for {@link ReadRequired#snapshot()}),
+ * or is annotated with {@link WriteRequired} and the current {@link SystemState} does not allow {@link OperationType#WRITE} operations, a
  * {@link ServiceUnavailableException} is thrown.
  *
  * @see SystemStateManager
@@ -87,7 +87,8 @@ public class StateInterceptor implements HandlerInterceptor {
         final Method method = handlerMethod.getMethod();
         LOGGER.trace("State access requested to: #{}()", method.getName());
 
-        if (method.isAnnotationPresent(ReadRequired.class) && SystemStateManager.current().isReadBlocked()) {
+        final ReadRequired readRequired = method.getAnnotation(ReadRequired.class);
+        if (readRequired != null && isReadBlocked(readRequired, SystemStateManager.current())) {
             LOGGER.warn("System state {} does not allow read requests", SystemStateManager.current());
             throw new ServiceUnavailableException();
         }
@@ -99,4 +100,8 @@ public class StateInterceptor implements HandlerInterceptor {
 
         LOGGER.trace("Request permitted");
     }
+
+    private static boolean isReadBlocked(final ReadRequired readRequired, final SystemState systemState) {
+        return readRequired.snapshot() ? systemState.isSnapshotReadBlocked() : systemState.isReadBlocked();
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import net.zodac.folding.api.exception.ConflictException;
+import net.zodac.folding.api.exception.UsedByException;
+import net.zodac.folding.api.exception.ValidationException;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.exception.NotFoundException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The validation result of a batch request, used to build the {@link BatchItemResult} for each item in the batch.
+ *
+ * <p>
+ * Each item is validated in order, and is given the items already validated in the batch, so that conflicts between items in the same batch
+ * can be detected. Any item that fails validation is mapped to the same status code and error body as the equivalent single-item request.
+ *
+ * @param <V> the type of the validated resource
+ */
+public final class BatchResult<V> {
+
+    private final List<V> validated;
+    private final List<Integer> validatedIndexes;
+    private final List<BatchItemResult<V>> failures;
+    private final int numberOfItems;
+
+    private BatchResult(final List<V> validated, final List<Integer> validatedIndexes, final List<BatchItemResult<V>> failures,
+                        final int numberOfItems) {
+        this.validated = validated;
+        this.validatedIndexes = validatedIndexes;
+        this.failures = failures;
+        this.numberOfItems = numberOfItems;
+    }
+
+    /**
+     * Validates each item of a batch request.
+     *
+     * <p>
+     * The {@code validator} is called for each item with the resources already validated earlier in the batch. Any item that is equal to an
+     * earlier item in the batch fails as a duplicate, without being validated.
+     *
+     * @param requests  the items of the batch request
+     * @param validator the {@link BiFunction} to validate an item, given the previously validated resources in the batch
+     * @param <R>       the type of the request items
+     * @param <V>       the type of the validated resource
+     * @return the {@link BatchResult}
+     */
+    public static <R, V> BatchResult<V> validate(final Collection<R> requests, final BiFunction<? super R, ? super List<V>, V> validator) {
+        final List<V> validated = new ArrayList<>(requests.size());
+        final List<Integer> validatedIndexes = new ArrayList<>(requests.size());
+        final List<BatchItemResult<V>> failures = new ArrayList<>();
+        final Map<R, Integer> firstIndexByRequest = new HashMap<>();
+
+        int index = 0;
+        for (final R request : requests) {
+            final Integer firstIndex = firstIndexByRequest.putIfAbsent(request, index);
+
+            if (firstIndex != null) {
+                failures.add(BatchItemResult.failure(index, HttpStatus.BAD_REQUEST.value(),
+                    ErrorResponse.create(String.format("Item is a duplicate of the item at index %d", firstIndex))));
+            } else {
+                try {
+                    validated.add(validator.apply(request, Collections.unmodifiableList(validated)));
+                    validatedIndexes.add(index);
+                } catch (final ValidationException e) {
+                    failures.add(BatchItemResult.failure(index, HttpStatus.BAD_REQUEST.value(), e.getValidationFailure()));
+                } catch (final ConflictException e) {
+                    failures.add(BatchItemResult.failure(index, HttpStatus.CONFLICT.value(), e.getConflictFailure()));
+                } catch (final UsedByException e) {
+                    failures.add(BatchItemResult.failure(index, HttpStatus.CONFLICT.value(), e.getUsedByFailure()));
+                } catch (final NotFoundException e) {
+                    failures.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND.value(), ErrorResponse.create(e.getMessage())));
+                }
+            }
+
+            index++;
+        }
+
+        return new BatchResult<>(validated, validatedIndexes, failures, index);
+    }
+
+    /**
+     * Checks whether any item in the batch failed validation, in which case no items should be processed.
+     *
+     * @return {@code true} if any item failed validation
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * The validated resources, in the same order as the batch request.
+     *
+     * @return the validated resources
+     */
+    public List<V> validated() {
+        return Collections.unmodifiableList(validated);
+    }
+
+    /**
+     * The {@link BatchItemResult} for each item in a batch that failed validation. Items that failed are returned with their error, and all
+     * valid items are returned as {@link BatchItemResult#notProcessed(int)}.
+     *
+     * @return the {@link BatchItemResult}s, ordered by index
+     */
+    public List<BatchItemResult<V>> failedResults() {
+        final List<BatchItemResult<V>> results = new ArrayList<>(numberOfItems);
+        for (final int validatedIndex : validatedIndexes) {
+            results.add(BatchItemResult.notProcessed(validatedIndex));
+        }
+        results.addAll(failures);
+        results.sort((first, second) -> Integer.compare(first.index(), second.index()));
+        return results;
+    }
+
+    /**
+     * The {@link BatchItemResult} for each item in a batch that has been successfully processed.
+     *
+     * @param processed  the processed resources, in the same order as {@link #validated()}
+     * @param httpStatus the {@link HttpStatus} for each item
+     * @return the {@link BatchItemResult}s, ordered by index
+     */
+    public List<BatchItemResult<V>> processedResults(final List<? extends V> processed, final HttpStatus httpStatus) {
+        final List<BatchItemResult<V>> results = new ArrayList<>(processed.size());
+        for (int i = 0; i < processed.size(); i++) {
+            results.add(BatchItemResult.success(validatedIndexes.get(i), httpStatus.value(), processed.get(i)));
+        }
+        return results;
+    }
+}
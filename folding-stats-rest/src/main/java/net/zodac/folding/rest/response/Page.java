@@ -0,0 +1,142 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.response;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import net.zodac.folding.rest.api.PageRequest;
+import net.zodac.folding.rest.exception.InvalidFieldException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * A single page of resources, retrieved using a {@link PageRequest}.
+ *
+ * @param content    the resources in the page, or a {@link JsonObject} for each resource if fields were projected
+ * @param totalCount the total number of resources, across all pages
+ * @param nextCursor the cursor to retrieve the next page, or {@code null} if this is the last page
+ */
+public record Page(Collection<?> content, int totalCount, @Nullable Integer nextCursor) {
+
+    /**
+     * {@link RequestMapping#params()} condition matching a request without a {@link PageRequest#CURSOR_PARAMETER}.
+     */
+    public static final String NO_CURSOR = "!" + PageRequest.CURSOR_PARAMETER;
+
+    /**
+     * {@link RequestMapping#params()} condition matching a request without a {@link PageRequest#LIMIT_PARAMETER}.
+     */
+    public static final String NO_LIMIT = "!" + PageRequest.LIMIT_PARAMETER;
+
+    /**
+     * {@link RequestMapping#params()} condition matching a request without a {@link PageRequest#FIELDS_PARAMETER}.
+     */
+    public static final String NO_FIELDS = "!" + PageRequest.FIELDS_PARAMETER;
+
+    private static final String ID_FIELD = "id";
+
+    /**
+     * Creates a {@link Page} of resources based on the {@link PageRequest}.
+     *
+     * <p>
+     * If the {@link PageRequest} has no pagination, all resources are returned in their original order. Otherwise, the resources are ordered by
+     * ID, and only those after the {@link PageRequest#cursor()} are returned, up to the {@link PageRequest#limit()}.
+     *
+     * @param resources    all available resources
+     * @param resourceType the {@link Class} of the resources, used to validate the requested fields
+     * @param idFunction   the {@link ToIntFunction} to retrieve the ID of a resource
+     * @param pageRequest  the {@link PageRequest}
+     * @param gson         the {@link Gson} used to serialize REST responses, so projected fields match a normal response
+     * @param <E>          the type of the resources
+     * @return the {@link Page}
+     * @throws InvalidFieldException thrown if a requested field does not exist for the {@code resourceType}
+     */
+    public static <E> Page create(final Collection<E> resources, final Class<E> resourceType, final ToIntFunction<E> idFunction,
+                                  final PageRequest pageRequest, final Gson gson) {
+        validateFields(resourceType, pageRequest.fields());
+
+        final List<E> pageResources;
+        Integer nextCursor = null;
+
+        if (pageRequest.isUnpaginated()) {
+            pageResources = List.copyOf(resources);
+        } else {
+            final List<E> remainingResources = resources.stream()
+                .filter(resource -> idFunction.applyAsInt(resource) > pageRequest.cursor())
+                .sorted(Comparator.comparingInt(idFunction))
+                .toList();
+
+            if (pageRequest.limit() != 0 && remainingResources.size() > pageRequest.limit()) {
+                pageResources = remainingResources.subList(0, pageRequest.limit());
+                nextCursor = idFunction.applyAsInt(pageResources.getLast());
+            } else {
+                pageResources = remainingResources;
+            }
+        }
+
+        if (pageRequest.fields().isEmpty()) {
+            return new Page(pageResources, resources.size(), nextCursor);
+        }
+
+        final List<JsonObject> projectedResources = pageResources.stream()
+            .map(resource -> project(resource, pageRequest.fields(), gson))
+            .toList();
+        return new Page(projectedResources, resources.size(), nextCursor);
+    }
+
+    private static void validateFields(final Class<?> resourceType, final Collection<String> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        // Gson serializes every non-static, non-transient field using its declared name
+        final Set<String> availableFields = Arrays.stream(resourceType.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+            .map(Field::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+        for (final String field : fields) {
+            if (!availableFields.contains(field)) {
+                throw new InvalidFieldException(field, availableFields);
+            }
+        }
+    }
+
+    private static JsonObject project(final Object resource, final Collection<String> fields, final Gson gson) {
+        final JsonObject fullResource = gson.toJsonTree(resource).getAsJsonObject();
+        final JsonObject projectedResource = new JsonObject();
+
+        for (final var entry : fullResource.entrySet()) {
+            // The ID is always kept, so the resource can still be identified (and used as a cursor)
+            if (ID_FIELD.equals(entry.getKey()) || fields.contains(entry.getKey())) {
+                projectedResource.add(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return projectedResource;
+    }
+}
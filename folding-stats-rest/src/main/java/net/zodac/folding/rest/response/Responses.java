@@ -18,6 +18,7 @@
 package net.zodac.folding.rest.response;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
 import java.util.Collection;
@@ -28,6 +29,7 @@ import net.zodac.folding.rest.api.header.RestHeader;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -37,6 +39,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public final class Responses {
 
     private static final DateTimeUtils DATE_TIME_UTILS = DateTimeUtils.create();
+    private static final Duration IMMUTABLE_CACHE_PERIOD = Duration.ofDays(365L);
 
     private Responses() {
 
@@ -90,6 +93,22 @@ public final class Responses {
             .body(entities);
     }
 
+    /**
+     * A <b>200_OK</b> {@link ResponseEntity}.
+     *
+     * <p>
+     * Generally used for cases where an HTTP request is sent to retrieve a {@link Page} of {@link ResponsePojo} resources. The total number of
+     * resources is returned in the {@link RestHeader#TOTAL_COUNT} header, and the cursor for the next {@link Page} (if any) in the
+     * {@link RestHeader#NEXT_CURSOR} header.
+     *
+     * @param page the {@link Page} of resources being retrieved
+     * @return the <b>200_OK</b> {@link ResponseEntity}
+     */
+    public static ResponseEntity<Collection<?>> ok(final Page page) {
+        return pageResponse(page)
+            .body(page.content());
+    }
+
     /**
      * A <b>200_OK</b> {@link ResponseEntity}.
      *
@@ -162,6 +181,79 @@ public final class Responses {
             .body(entities);
     }
 
+    /**
+     * A <b>200_OK</b> {@link ResponseEntity}.
+     *
+     * <p>
+     * Generally used for cases where an HTTP request is sent to retrieve a {@link Collection} of {@link ResponsePojo} resources that will no
+     * longer change, such as stats for a closed period. Will cache the response for a year, though the ETag can still be used to revalidate it.
+     *
+     * @param entities the {@link Collection} of entities being retrieved
+     * @param <E>      the response body type
+     * @return the <b>200_OK</b> {@link ResponseEntity}
+     */
+    public static <E> ResponseEntity<Collection<E>> permanentlyCachedOk(final Collection<E> entities) {
+        return cachedOk(entities, IMMUTABLE_CACHE_PERIOD.toSeconds());
+    }
+
+    /**
+     * A <b>200_OK</b> {@link ResponseEntity}.
+     *
+     * <p>
+     * Generally used for cases where an HTTP request is sent to retrieve a {@link Page} of {@link ResponsePojo} resources. The total number of
+     * resources is returned in the {@link RestHeader#TOTAL_COUNT} header, and the cursor for the next {@link Page} (if any) in the
+     * {@link RestHeader#NEXT_CURSOR} header. Will cache the response until the start of the next UTC month.
+     *
+     * @param page the {@link Page} of resources being retrieved
+     * @return the <b>200_OK</b> {@link ResponseEntity}
+     * @see DateTimeUtils#untilNextMonthUtc(TemporalUnit)
+     */
+    public static ResponseEntity<Collection<?>> cachedOk(final Page page) {
+        return pageResponse(page)
+            .cacheControl(CacheControl.maxAge(DATE_TIME_UTILS.untilNextMonthUtc(ChronoUnit.SECONDS), TimeUnit.SECONDS))
+            .eTag(String.valueOf(page.content().stream().mapToInt(Object::hashCode).sum()))
+            .body(page.content());
+    }
+
+    /**
+     * A <b>200_OK</b> {@link ResponseEntity} with a pre-serialized JSON body.
+     *
+     * <p>
+     * Generally used for cases where the JSON for a resource has already been generated, so it does not need to be serialized again. Any request
+     * with a matching <b>If-None-Match</b> header will instead receive a <b>304_NOT_MODIFIED</b> response with no body.
+     *
+     * @param content the UTF-8 JSON bytes of the resource
+     * @param eTag    the ETag of the {@code content}
+     * @return the <b>200_OK</b> {@link ResponseEntity}
+     */
+    public static ResponseEntity<byte[]> jsonOk(final byte[] content, final String eTag) {
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(eTag)
+            .body(content);
+    }
+
+    /**
+     * A <b>200_OK</b> {@link ResponseEntity} with a pre-serialized JSON body.
+     *
+     * <p>
+     * Generally used for cases where the resource will never change once created. The response can be cached by the client indefinitely, and any
+     * request with a matching <b>If-None-Match</b> header will instead receive a <b>304_NOT_MODIFIED</b> response with no body.
+     *
+     * @param content the UTF-8 JSON bytes of the resource
+     * @param eTag    the ETag of the {@code content}
+     * @return the <b>200_OK</b> {@link ResponseEntity}
+     */
+    public static ResponseEntity<byte[]> immutableJsonOk(final byte[] content, final String eTag) {
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.maxAge(IMMUTABLE_CACHE_PERIOD).cachePublic().immutable())
+            .eTag(eTag)
+            .body(content);
+    }
+
     /**
      * A <b>201_CREATED</b> {@link ResponseEntity}.
      *
@@ -193,6 +285,22 @@ public final class Responses {
         return responseWithLocation(entity, entityId, HttpStatus.CREATED);
     }
 
+    /**
+     * A <b>400_BAD_REQUEST</b> {@link ResponseEntity}.
+     *
+     * <p>
+     * Used for cases where a batch request has failed validation, and a result is returned for each item in the batch.
+     *
+     * @param entity the response body, describing the failure
+     * @param <E>    the response body type
+     * @return the <b>400_BAD_REQUEST</b> {@link ResponseEntity}
+     */
+    public static <E> ResponseEntity<E> badRequest(final E entity) {
+        return ResponseEntity
+            .badRequest()
+            .body(entity);
+    }
+
     private static <E> ResponseEntity<E> responseWithLocation(final E entity, final int entityId, final HttpStatusCode httpStatus) {
         final URI location = ServletUriComponentsBuilder
             .fromCurrentRequest()
@@ -206,6 +314,19 @@ public final class Responses {
             .body(entity);
     }
 
+    private static ResponseEntity.BodyBuilder pageResponse(final Page page) {
+        final ResponseEntity.BodyBuilder builder = ResponseEntity
+            .ok()
+            .header(RestHeader.TOTAL_COUNT.headerName(), String.valueOf(page.totalCount()));
+
+        final Integer nextCursor = page.nextCursor();
+        if (nextCursor != null) {
+            builder.header(RestHeader.NEXT_CURSOR.headerName(), String.valueOf(nextCursor));
+        }
+
+        return builder;
+    }
+
     /**
      * A <b>303_SEE_OTHER</b> {@link ResponseEntity}.
      *
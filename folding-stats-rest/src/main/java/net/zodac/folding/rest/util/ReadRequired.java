@@ -26,14 +26,21 @@ import net.zodac.folding.api.state.OperationType;
 import net.zodac.folding.api.state.SystemState;
 
 /**
- * Marker annotation defining a function that will perform {@link OperationType#READ} operations on the system.
+ * Annotation defining a function that will perform {@link OperationType#READ} operations on the system.
  *
  * <p>
- * To be used to check against a {@link SystemState}.
+ * To be used to check against a {@link SystemState}. If the function only reads from the last published stats snapshot, it performs
+ * {@link OperationType#SNAPSHOT_READ} operations instead, which are permitted in more {@link SystemState}s.
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface ReadRequired {
 
+    /**
+     * Whether the function is only served from the last published stats snapshot, rather than the current caches.
+     *
+     * @return {@code true} if the function performs {@link OperationType#SNAPSHOT_READ} operations
+     */
+    boolean snapshot() default false;
 }
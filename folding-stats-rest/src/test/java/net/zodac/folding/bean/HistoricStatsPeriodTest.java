@@ -0,0 +1,98 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.bean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import net.zodac.folding.bean.tc.user.UserStatsCatchUp;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HistoricStatsPeriod}.
+ */
+class HistoricStatsPeriodTest {
+
+    private static final Year TEST_YEAR = Year.of(2020);
+
+    @Test
+    void whenGettingEnd_givenDayPeriod_thenStartOfNextDayIsReturned() {
+        final HistoricStatsPeriod period = HistoricStatsPeriod.ofDay(TEST_YEAR, Month.FEBRUARY, 29);
+
+        assertThat(period.end())
+            .isEqualTo(LocalDateTime.of(2020, 3, 1, 0, 0));
+    }
+
+    @Test
+    void whenGettingEnd_givenMonthPeriod_andMonthIsDecember_thenStartOfNextYearIsReturned() {
+        final HistoricStatsPeriod period = HistoricStatsPeriod.ofMonth(TEST_YEAR, Month.DECEMBER);
+
+        assertThat(period.end())
+            .isEqualTo(LocalDateTime.of(2021, 1, 1, 0, 0));
+    }
+
+    @Test
+    void whenGettingEnd_givenYearPeriod_thenStartOfNextYearIsReturned() {
+        final HistoricStatsPeriod period = HistoricStatsPeriod.ofYear(TEST_YEAR);
+
+        assertThat(period.end())
+            .isEqualTo(LocalDateTime.of(2021, 1, 1, 0, 0));
+    }
+
+    @Test
+    void whenCheckingIfClosed_givenPeriodHasNotEnded_thenFalseIsReturned() {
+        final HistoricStatsPeriod period = HistoricStatsPeriod.ofMonth(TEST_YEAR, Month.MAY);
+
+        assertThat(period.isClosedAt(LocalDateTime.of(2020, 5, 31, 23, 55)))
+            .isFalse();
+    }
+
+    @Test
+    void whenCheckingIfClosed_givenPeriodHasEnded_andGracePeriodHasNotPassed_thenFalseIsReturned() {
+        final HistoricStatsPeriod period = HistoricStatsPeriod.ofMonth(TEST_YEAR, Month.MAY);
+
+        assertThat(period.isClosedAt(LocalDateTime.of(2020, 6, 1, 0, 30)))
+            .isFalse();
+    }
+
+    @Test
+    void whenCheckingIfClosed_givenPeriodHasEnded_andGracePeriodHasPassed_thenTrueIsReturned() {
+        final HistoricStatsPeriod period = HistoricStatsPeriod.ofDay(TEST_YEAR, Month.MAY, 31);
+
+        assertThat(period.isClosedAt(LocalDateTime.of(2020, 6, 1, 1, 0)))
+            .isTrue();
+    }
+
+    @Test
+    void whenCheckingIfClosed_givenDayPeriod_andMissingHoursCanStillBeFilled_thenFalseIsReturned() {
+        final HistoricStatsPeriod period = HistoricStatsPeriod.ofDay(TEST_YEAR, Month.MAY, 15);
+
+        assertThat(period.isClosedAt(LocalDateTime.of(2020, 5, 16, 1, 0)))
+            .isFalse();
+    }
+
+    @Test
+    void whenCheckingIfClosed_givenDayPeriod_andMissingHoursCanNoLongerBeFilled_thenTrueIsReturned() {
+        final HistoricStatsPeriod period = HistoricStatsPeriod.ofDay(TEST_YEAR, Month.MAY, 15);
+
+        assertThat(period.isClosedAt(LocalDateTime.of(2020, 5, 16, 0, 0).plusHours(UserStatsCatchUp.MAXIMUM_HOURS).plusHours(1L)))
+            .isTrue();
+    }
+}
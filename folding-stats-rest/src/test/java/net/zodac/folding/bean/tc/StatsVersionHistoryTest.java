@@ -0,0 +1,158 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.bean.tc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import net.zodac.folding.rest.api.tc.stream.RankedStats;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
+import net.zodac.folding.rest.api.tc.stream.StatsSnapshot;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StatsVersionHistory}.
+ */
+class StatsVersionHistoryTest {
+
+    private static final long INITIAL_VERSION = 1_000L;
+
+    @Test
+    void testChangesSince_emptyHistory() {
+        final StatsVersionHistory versionHistory = StatsVersionHistory.create(INITIAL_VERSION, 5);
+
+        final StatsChanges statsChanges = versionHistory.changesSince(INITIAL_VERSION);
+
+        assertThat(statsChanges.fullResyncRequired())
+            .isTrue();
+        assertThat(statsChanges.version())
+            .isEqualTo(INITIAL_VERSION);
+    }
+
+    @Test
+    void testRecord() {
+        final StatsVersionHistory versionHistory = StatsVersionHistory.create(INITIAL_VERSION, 5);
+
+        final StatsChanges firstChanges = versionHistory.record(createSnapshot(100L));
+        final StatsChanges secondChanges = versionHistory.record(createSnapshot(100L));
+
+        assertThat(firstChanges.version())
+            .isEqualTo(INITIAL_VERSION + 1);
+        assertThat(firstChanges.changes().teams())
+            .containsExactly(createRankedStats(100L));
+
+        assertThat(secondChanges.version())
+            .isEqualTo(INITIAL_VERSION + 2);
+        assertThat(secondChanges.changes().isEmpty())
+            .isTrue();
+    }
+
+    @Test
+    void testChangesSince_knownVersion() {
+        final StatsVersionHistory versionHistory = StatsVersionHistory.create(INITIAL_VERSION, 5);
+        final long firstVersion = versionHistory.record(createSnapshot(100L)).version();
+        versionHistory.record(createSnapshot(200L));
+        versionHistory.record(createSnapshot(300L));
+
+        final StatsChanges statsChanges = versionHistory.changesSince(firstVersion);
+
+        assertThat(statsChanges.fullResyncRequired())
+            .isFalse();
+        assertThat(statsChanges.version())
+            .isEqualTo(versionHistory.currentVersion());
+        assertThat(statsChanges.changes().teams())
+            .containsExactly(createRankedStats(300L));
+    }
+
+    @Test
+    void testChangesSince_currentVersion() {
+        final StatsVersionHistory versionHistory = StatsVersionHistory.create(INITIAL_VERSION, 5);
+        final long currentVersion = versionHistory.record(createSnapshot(100L)).version();
+
+        final StatsChanges statsChanges = versionHistory.changesSince(currentVersion);
+
+        assertThat(statsChanges.fullResyncRequired())
+            .isFalse();
+        assertThat(statsChanges.changes().isEmpty())
+            .isTrue();
+    }
+
+    @Test
+    void testChangesSince_evictedVersion() {
+        final StatsVersionHistory versionHistory = StatsVersionHistory.create(INITIAL_VERSION, 2);
+        final long firstVersion = versionHistory.record(createSnapshot(100L)).version();
+        versionHistory.record(createSnapshot(200L));
+        versionHistory.record(createSnapshot(300L));
+
+        assertThat(versionHistory.changesSince(firstVersion).fullResyncRequired())
+            .isTrue();
+        assertThat(versionHistory.changesSince(firstVersion + 1).fullResyncRequired())
+            .isFalse();
+    }
+
+    @Test
+    void testChangesSince_unknownVersion() {
+        final StatsVersionHistory versionHistory = StatsVersionHistory.create(INITIAL_VERSION, 5);
+        versionHistory.record(createSnapshot(100L));
+
+        assertThat(versionHistory.changesSince(1L).fullResyncRequired())
+            .isTrue();
+    }
+
+    @Test
+    void testRecordIfEmpty() {
+        final StatsVersionHistory versionHistory = StatsVersionHistory.create(INITIAL_VERSION, 5);
+
+        versionHistory.recordIfEmpty(() -> createSnapshot(100L));
+        versionHistory.recordIfEmpty(() -> createSnapshot(200L));
+
+        assertThat(versionHistory.currentVersion())
+            .isEqualTo(INITIAL_VERSION + 1);
+        assertThat(versionHistory.latest())
+            .contains(createSnapshot(100L));
+    }
+
+    @Test
+    void testLatestAsFullUpdate() {
+        final StatsVersionHistory versionHistory = StatsVersionHistory.create(INITIAL_VERSION, 5);
+        versionHistory.record(createSnapshot(100L));
+        final long latestVersion = versionHistory.record(createSnapshot(200L)).version();
+
+        final StatsChanges statsChanges = versionHistory.latestAsFullUpdate();
+
+        assertThat(statsChanges.version())
+            .isEqualTo(latestVersion);
+        assertThat(statsChanges.changes().teams())
+            .containsExactly(createRankedStats(200L));
+    }
+
+    @Test
+    void testCreate_invalidMaximumVersions() {
+        assertThatThrownBy(() -> StatsVersionHistory.create(INITIAL_VERSION, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static StatsSnapshot createSnapshot(final long multipliedPoints) {
+        return new StatsSnapshot(Map.of(1, createRankedStats(multipliedPoints)), Map.of());
+    }
+
+    private static RankedStats createRankedStats(final long multipliedPoints) {
+        return new RankedStats(1, 1, multipliedPoints / 100L, multipliedPoints, 1);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.bean.tc.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StatsParsingShards}.
+ */
+class StatsParsingShardsTest {
+
+    @Test
+    void whenGettingSlotMinute_givenNotSharded_thenLastSlotMinuteIsReturned() {
+        final StatsParsingShards shards = StatsParsingShards.create(1);
+
+        assertThat(shards.isSharded())
+            .isFalse();
+        assertThat(shards.slotMinute(0))
+            .isEqualTo(StatsParsingShards.LAST_SLOT_MINUTE);
+    }
+
+    @Test
+    void whenGettingSlotMinute_givenSharded_thenFirstAndLastShardsUseFirstAndLastSlotMinutes() {
+        final StatsParsingShards shards = StatsParsingShards.create(5);
+
+        assertThat(shards.slotMinute(0))
+            .isEqualTo(StatsParsingShards.FIRST_SLOT_MINUTE);
+        assertThat(shards.slotMinute(2))
+            .isEqualTo(35);
+        assertThat(shards.slotMinute(4))
+            .isEqualTo(StatsParsingShards.LAST_SLOT_MINUTE);
+    }
+
+    @Test
+    void whenGettingSlotMinute_givenMaximumShards_thenEveryShardHasItsOwnMinute() {
+        final StatsParsingShards shards = StatsParsingShards.create(StatsParsingShards.MAXIMUM_NUMBER_OF_SHARDS);
+
+        final Set<Integer> slotMinutes = IntStream.range(0, shards.numberOfShards())
+            .map(shards::slotMinute)
+            .boxed()
+            .collect(Collectors.toSet());
+
+        assertThat(slotMinutes)
+            .hasSize(StatsParsingShards.MAXIMUM_NUMBER_OF_SHARDS);
+    }
+
+    @Test
+    void whenCreating_givenNumberOfShardsOutOfRange_thenNumberOfShardsIsLimited() {
+        assertThat(StatsParsingShards.create(0).numberOfShards())
+            .isOne();
+        assertThat(StatsParsingShards.create(1_000).numberOfShards())
+            .isEqualTo(StatsParsingShards.MAXIMUM_NUMBER_OF_SHARDS);
+    }
+
+    @Test
+    void whenGettingShardAtMinute_givenMinuteHasSlot_thenShardIsReturned() {
+        final StatsParsingShards shards = StatsParsingShards.create(5);
+
+        assertThat(shards.shardAt(45))
+            .isEqualTo(OptionalInt.of(3));
+    }
+
+    @Test
+    void whenGettingShardAtMinute_givenMinuteHasNoSlot_thenEmptyIsReturned() {
+        final StatsParsingShards shards = StatsParsingShards.create(5);
+
+        assertThat(shards.shardAt(16))
+            .isEmpty();
+        assertThat(shards.shardAt(0))
+            .isEmpty();
+    }
+
+    @Test
+    void whenCheckingIsLastShard_thenOnlyShardInLastSlotMinuteIsLast() {
+        final StatsParsingShards shards = StatsParsingShards.create(5);
+
+        assertThat(shards.isLastShard(4))
+            .isTrue();
+        assertThat(shards.isLastShard(3))
+            .isFalse();
+        assertThat(shards.shardAt(StatsParsingShards.LAST_SLOT_MINUTE))
+            .isEqualTo(OptionalInt.of(4));
+    }
+
+    @Test
+    void whenGettingShardOfUser_thenUsersAreSpreadEvenlyAcrossShards() {
+        final StatsParsingShards shards = StatsParsingShards.create(4);
+
+        final long usersInFirstShard = IntStream.rangeClosed(1, 100)
+            .filter(userId -> shards.shardOf(userId) == 0)
+            .count();
+
+        assertThat(usersInFirstShard)
+            .isEqualTo(25L);
+    }
+}
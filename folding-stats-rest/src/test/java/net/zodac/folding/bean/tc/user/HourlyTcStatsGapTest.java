@@ -0,0 +1,108 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package net.zodac.folding.bean.tc.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import net.zodac.folding.api.tc.stats.UserTcStats;
+import net.zodac.folding.api.util.DateTimeConverterUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HourlyTcStatsGap}.
+ */
+class HourlyTcStatsGapTest {
+
+    private static final int USER_ID = 1;
+    private static final int MAXIMUM_HOURS = 24;
+    private static final LocalDateTime PREVIOUS_TIME = LocalDateTime.of(2020, 5, 3, 10, 55);
+
+    @Test
+    void whenFillingGap_givenNoMissingHours_thenNoStatsAreReturned() {
+        final UserTcStats previousStats = createStats(PREVIOUS_TIME, 100L, 10);
+        final UserTcStats currentStats = createStats(PREVIOUS_TIME.plusMinutes(30L), 200L, 20);
+
+        assertThat(HourlyTcStatsGap.fill(previousStats, currentStats, MAXIMUM_HOURS))
+            .isEmpty();
+    }
+
+    @Test
+    void whenFillingGap_givenMissingHours_thenStatsAreInterpolatedAtTheSameMinuteOfEachHour() {
+        final UserTcStats previousStats = createStats(PREVIOUS_TIME, 100L, 10);
+        final UserTcStats currentStats = createStats(PREVIOUS_TIME.plusHours(4L), 500L, 50);
+
+        assertThat(HourlyTcStatsGap.fill(previousStats, currentStats, MAXIMUM_HOURS))
+            .containsExactly(
+                createStats(PREVIOUS_TIME.plusHours(1L), 200L, 20),
+                createStats(PREVIOUS_TIME.plusHours(2L), 300L, 30),
+                createStats(PREVIOUS_TIME.plusHours(3L), 400L, 40)
+            );
+    }
+
+    @Test
+    void whenFillingGap_givenCurrentStatsAreLowerThanPreviousStats_thenPreviousStatsAreCarriedForward() {
+        final UserTcStats previousStats = createStats(PREVIOUS_TIME, 500L, 50);
+        final UserTcStats currentStats = createStats(PREVIOUS_TIME.plusHours(3L), 100L, 60);
+
+        assertThat(HourlyTcStatsGap.fill(previousStats, currentStats, MAXIMUM_HOURS))
+            .containsExactly(
+                createStats(PREVIOUS_TIME.plusHours(1L), 500L, 50),
+                createStats(PREVIOUS_TIME.plusHours(2L), 500L, 50)
+            );
+    }
+
+    @Test
+    void whenFillingGap_givenMoreMissingHoursThanMaximum_thenOnlyMostRecentHoursAreFilled() {
+        final UserTcStats previousStats = createStats(PREVIOUS_TIME, 0L, 0);
+        final UserTcStats currentStats = createStats(PREVIOUS_TIME.plusHours(10L), 1_000L, 100);
+
+        final List<UserTcStats> gapStats = HourlyTcStatsGap.fill(previousStats, currentStats, 2);
+        assertThat(gapStats)
+            .containsExactly(
+                createStats(PREVIOUS_TIME.plusHours(8L), 800L, 80),
+                createStats(PREVIOUS_TIME.plusHours(9L), 900L, 90)
+            );
+    }
+
+    @Test
+    void whenFillingGap_givenEndHourBeforeHourOfCurrentStats_thenNoHoursFromEndHourAreFilled() {
+        final UserTcStats previousStats = createStats(PREVIOUS_TIME, 100L, 10);
+        final UserTcStats currentStats = createStats(PREVIOUS_TIME.plusHours(4L), 500L, 50);
+        final LocalDateTime endHour = PREVIOUS_TIME.plusHours(3L).withMinute(0);
+
+        assertThat(HourlyTcStatsGap.fill(previousStats, currentStats, endHour, MAXIMUM_HOURS))
+            .containsExactly(
+                createStats(PREVIOUS_TIME.plusHours(1L), 200L, 20),
+                createStats(PREVIOUS_TIME.plusHours(2L), 300L, 30)
+            );
+    }
+
+    @Test
+    void whenFillingGap_givenMaximumOfZeroHours_thenNoStatsAreReturned() {
+        final UserTcStats previousStats = createStats(PREVIOUS_TIME, 100L, 10);
+        final UserTcStats currentStats = createStats(PREVIOUS_TIME.plusHours(4L), 500L, 50);
+
+        assertThat(HourlyTcStatsGap.fill(previousStats, currentStats, 0))
+            .isEmpty();
+    }
+
+    private static UserTcStats createStats(final LocalDateTime dateTime, final long points, final int units) {
+        return UserTcStats.create(USER_ID, DateTimeConverterUtils.toTimestamp(dateTime), points, points * 2L, units);
+    }
+}
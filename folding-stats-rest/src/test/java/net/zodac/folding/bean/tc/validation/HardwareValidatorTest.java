@@ -127,6 +127,30 @@ class HardwareValidatorTest {
             .isNotNull();
     }
 
+    @Test
+    void whenValidatingCreate_givenPendingHardwareWithNameAlreadyExists_thenFailureResponseIsReturned() {
+        final HardwareRequest hardware = generateHardwareRequest(
+            "pendingName",
+            HardwareMake.AMD,
+            HardwareType.GPU,
+            1.00D,
+            1L
+        );
+
+        final Hardware pendingHardware = Hardware.createWithoutId(generateHardwareRequest(
+            "pendingName",
+            HardwareMake.NVIDIA,
+            HardwareType.GPU,
+            1.00D,
+            1L
+        ));
+
+        final HardwareValidator hardwareValidator = new HardwareValidator(new MockFoldingRepository());
+        final ConflictException e = catchThrowableOfType(ConflictException.class, () -> hardwareValidator.create(hardware, List.of(pendingHardware)));
+        assertThat(e.getConflictFailure().conflictingAttributes())
+            .containsOnly("hardwareName");
+    }
+
     @Test
     void whenValidatingCreate_givenHardwareWithInvalidMake_thenFailureResponseIsReturned() {
         final HardwareRequest hardware = generateHardwareRequest(
@@ -327,6 +351,60 @@ class HardwareValidatorTest {
             .isNotNull();
     }
 
+    @Test
+    void whenValidatingUpdate_givenPendingHardwareWithNameAlreadyExists_thenFailureResponseIsReturned() {
+        final HardwareRequest hardware = generateHardwareRequest(
+            "pendingName",
+            HardwareMake.AMD,
+            HardwareType.GPU,
+            1.00D,
+            1L
+        );
+
+        final Hardware existingHardware = generateHardware();
+        final Hardware pendingHardware = Hardware.create(
+            existingHardware.id() + 1,
+            "pendingName",
+            "displayName",
+            HardwareMake.NVIDIA,
+            HardwareType.GPU,
+            1.00D,
+            1L
+        );
+
+        final HardwareValidator hardwareValidator = new HardwareValidator(new MockFoldingRepository());
+        final ConflictException e = catchThrowableOfType(ConflictException.class,
+            () -> hardwareValidator.update(hardware, existingHardware, List.of(pendingHardware)));
+        assertThat(e.getConflictFailure().conflictingAttributes())
+            .containsOnly("hardwareName");
+    }
+
+    @Test
+    void whenValidatingUpdate_givenHardwareAlreadyUpdatedEarlierInBatch_thenFailureResponseIsReturned() {
+        final HardwareRequest hardware = generateHardwareRequest(
+            "hardwareName",
+            HardwareMake.AMD,
+            HardwareType.GPU,
+            1.00D,
+            1L
+        );
+
+        final Hardware existingHardware = generateHardware();
+        final Hardware pendingHardware = Hardware.updateWithId(existingHardware.id(), Hardware.createWithoutId(generateHardwareRequest(
+            "otherName",
+            HardwareMake.AMD,
+            HardwareType.GPU,
+            1.00D,
+            1L
+        )));
+
+        final HardwareValidator hardwareValidator = new HardwareValidator(new MockFoldingRepository());
+        final ValidationException e = catchThrowableOfType(ValidationException.class,
+            () -> hardwareValidator.update(hardware, existingHardware, List.of(pendingHardware)));
+        assertThat(e.getValidationFailure().errors())
+            .containsOnly(String.format("Hardware with ID %d is already updated earlier in the batch", existingHardware.id()));
+    }
+
     @Test
     void whenValidatingUpdate_givenHardwareWithInvalidMake_thenFailureResponseIsReturned() {
         final HardwareRequest hardware = generateHardwareRequest(
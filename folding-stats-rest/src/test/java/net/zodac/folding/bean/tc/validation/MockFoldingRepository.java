@@ -48,6 +48,13 @@ class MockFoldingRepository implements FoldingRepository {
         return hardware;
     }
 
+    @Override
+    public List<Hardware> createAllHardware(final Collection<Hardware> hardware) {
+        return hardware.stream()
+            .map(this::createHardware)
+            .toList();
+    }
+
     @Override
     public Collection<Hardware> getAllHardware() {
         return hardwares.values();
@@ -66,17 +73,36 @@ class MockFoldingRepository implements FoldingRepository {
         return hardwareToUpdate;
     }
 
+    @Override
+    public List<Hardware> updateAllHardware(final Collection<Hardware> hardwareToUpdate) {
+        return hardwareToUpdate.stream()
+            .map(hardware -> updateHardware(hardware, getHardware(hardware.id())))
+            .toList();
+    }
+
     @Override
     public void deleteHardware(final Hardware hardware) {
         hardwares.remove(hardware.id());
     }
 
+    @Override
+    public void deleteAllHardware(final Collection<Hardware> hardware) {
+        hardware.forEach(this::deleteHardware);
+    }
+
     @Override
     public Team createTeam(final Team team) {
         teams.put(team.id(), team);
         return team;
     }
 
+    @Override
+    public List<Team> createAllTeams(final Collection<Team> teams) {
+        return teams.stream()
+            .map(this::createTeam)
+            .toList();
+    }
+
     @Override
     public Collection<Team> getAllTeams() {
         return teams.values();
@@ -95,17 +121,36 @@ class MockFoldingRepository implements FoldingRepository {
         return teamToUpdate;
     }
 
+    @Override
+    public List<Team> updateAllTeams(final Collection<Team> teamsToUpdate) {
+        return teamsToUpdate.stream()
+            .map(this::updateTeam)
+            .toList();
+    }
+
     @Override
     public void deleteTeam(final Team team) {
         teams.remove(team.id());
     }
 
+    @Override
+    public void deleteAllTeams(final Collection<Team> teams) {
+        teams.forEach(this::deleteTeam);
+    }
+
     @Override
     public User createUser(final User user) {
         users.put(user.id(), user);
         return user;
     }
 
+    @Override
+    public List<User> createAllUsers(final Collection<User> users) {
+        return users.stream()
+            .map(this::createUser)
+            .toList();
+    }
+
     @Override
     public Collection<User> getAllUsersWithPasskeys() {
         return users.values();
@@ -138,11 +183,23 @@ class MockFoldingRepository implements FoldingRepository {
         return userToUpdate;
     }
 
+    @Override
+    public List<User> updateAllUsers(final Collection<User> usersToUpdate) {
+        return usersToUpdate.stream()
+            .map(user -> updateUser(user, getUserWithPasskey(user.id())))
+            .toList();
+    }
+
     @Override
     public void deleteUser(final User user) {
         users.remove(user.id());
     }
 
+    @Override
+    public void deleteAllUsers(final Collection<User> users) {
+        users.forEach(this::deleteUser);
+    }
+
     @Override
     public Collection<User> getUsersOnTeam(final Team team) {
         if (team.id() == Team.EMPTY_TEAM_ID) {
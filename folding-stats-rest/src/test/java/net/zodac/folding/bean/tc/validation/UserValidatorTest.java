@@ -20,6 +20,8 @@ package net.zodac.folding.bean.tc.validation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
+import java.util.ArrayList;
+import java.util.List;
 import net.zodac.folding.api.exception.ConflictException;
 import net.zodac.folding.api.exception.ValidationException;
 import net.zodac.folding.api.tc.Category;
@@ -782,6 +784,91 @@ class UserValidatorTest {
                     Category.NVIDIA_GPU.permittedUsers()));
     }
 
+    @Test
+    void whenValidatingCreate_givenTeamHasMaximumUsersInCategoryIncludingPendingUsers_thenFailureResponseIsReturned() {
+        final Hardware hardware = generateHardware();
+        final Team team = generateTeam();
+
+        final UserRequest user = generateUserRequest(
+            "user",
+            DUMMY_PASSKEY,
+            Category.NVIDIA_GPU,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware.id(),
+            team.id(),
+            false
+        );
+
+        final FoldingRepository foldingRepository = new MockFoldingRepository();
+        foldingRepository.createHardware(hardware);
+        foldingRepository.createTeam(team);
+
+        final List<User> pendingUsers = new ArrayList<>();
+        for (int i = 0; i < Category.NVIDIA_GPU.permittedUsers(); i++) {
+            pendingUsers.add(
+                User.create(
+                    userId++,
+                    "pendingUser" + i,
+                    "pendingUser" + i,
+                    "DummyPasskey12345678901234567891",
+                    Category.NVIDIA_GPU,
+                    VALID_PROFILE_LINK,
+                    VALID_LIVE_STATS_LINK,
+                    hardware,
+                    team,
+                    Role.MEMBER
+                )
+            );
+        }
+
+        final UserValidator userValidator = new UserValidator(foldingRepository, new ValidFoldingStatsRetriever());
+        final ValidationException e = catchThrowableOfType(ValidationException.class, () -> userValidator.create(user, pendingUsers));
+        assertThat(e.getValidationFailure().errors())
+            .containsOnly(
+                String.format("Team '%1$s' already has %3$s users in category '%2$s', only %3$s permitted", team.teamName(), Category.NVIDIA_GPU,
+                    Category.NVIDIA_GPU.permittedUsers()));
+    }
+
+    @Test
+    void whenValidatingCreate_givenUserIsCaptain_andPendingUserIsCaptainOfSameTeam_thenFailureResponseIsReturned() {
+        final Hardware hardware = generateHardware();
+        final Team team = generateTeam();
+
+        final User pendingCaptain = User.create(
+            userId++,
+            "pendingUser",
+            "pendingUser",
+            "DummyPasskey12345678901234567891",
+            Category.WILDCARD,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware,
+            team,
+            Role.CAPTAIN
+        );
+
+        final UserRequest user = generateUserRequest(
+            "user",
+            DUMMY_PASSKEY,
+            Category.NVIDIA_GPU,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware.id(),
+            team.id(),
+            true
+        );
+
+        final FoldingRepository foldingRepository = new MockFoldingRepository();
+        foldingRepository.createHardware(hardware);
+        foldingRepository.createTeam(team);
+
+        final UserValidator userValidator = new UserValidator(foldingRepository, new ValidFoldingStatsRetriever());
+        final ValidationException e = catchThrowableOfType(ValidationException.class, () -> userValidator.create(user, List.of(pendingCaptain)));
+        assertThat(e.getValidationFailure().errors())
+            .containsOnly(String.format("Team '%s' already has a captain earlier in the batch, only one is permitted", team.teamName()));
+    }
+
     @Test
     void whenValidatingCreate_givenUserHasNoWorkUnitsCompleted_thenFailureResponseIsReturned() {
         final Hardware hardware = generateHardware();
@@ -1527,6 +1614,114 @@ class UserValidatorTest {
             .isNotNull();
     }
 
+    @Test
+    void whenValidatingUpdate_givenUserIsCaptain_andPendingUserIsCaptainOfSameTeam_thenFailureResponseIsReturned() {
+        final Hardware hardware = generateHardware();
+        final Team team = generateTeam();
+
+        final User pendingCaptain = User.create(
+            2,
+            "pendingUser",
+            "pendingUser",
+            "DummyPasskey12345678901234567891",
+            Category.WILDCARD,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware,
+            team,
+            Role.CAPTAIN
+        );
+
+        final UserRequest user = generateUserRequest(
+            "user",
+            DUMMY_PASSKEY,
+            Category.NVIDIA_GPU,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware.id(),
+            team.id(),
+            true
+        );
+
+        final User existingUser = User.create(
+            1,
+            "user",
+            "user",
+            DUMMY_PASSKEY,
+            Category.NVIDIA_GPU,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware,
+            team,
+            Role.MEMBER
+        );
+
+        final FoldingRepository foldingRepository = new MockFoldingRepository();
+        foldingRepository.createHardware(hardware);
+        foldingRepository.createTeam(team);
+        foldingRepository.createUser(existingUser);
+
+        final UserValidator userValidator = new UserValidator(foldingRepository, new ValidFoldingStatsRetriever());
+        final ValidationException e = catchThrowableOfType(ValidationException.class,
+            () -> userValidator.update(user, existingUser, List.of(pendingCaptain)));
+        assertThat(e.getValidationFailure().errors())
+            .containsOnly(String.format("Team '%s' already has a captain earlier in the batch, only one is permitted", team.teamName()));
+    }
+
+    @Test
+    void whenValidatingUpdate_givenUserAlreadyUpdatedEarlierInBatch_thenFailureResponseIsReturned() {
+        final Hardware hardware = generateHardware();
+        final Team team = generateTeam();
+
+        final UserRequest user = generateUserRequest(
+            "user",
+            DUMMY_PASSKEY,
+            Category.NVIDIA_GPU,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware.id(),
+            team.id(),
+            false
+        );
+
+        final User existingUser = User.create(
+            1,
+            "user",
+            "user",
+            DUMMY_PASSKEY,
+            Category.NVIDIA_GPU,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware,
+            team,
+            Role.MEMBER
+        );
+
+        final User pendingUser = User.create(
+            existingUser.id(),
+            "user",
+            "updatedUser",
+            DUMMY_PASSKEY,
+            Category.NVIDIA_GPU,
+            VALID_PROFILE_LINK,
+            VALID_LIVE_STATS_LINK,
+            hardware,
+            team,
+            Role.MEMBER
+        );
+
+        final FoldingRepository foldingRepository = new MockFoldingRepository();
+        foldingRepository.createHardware(hardware);
+        foldingRepository.createTeam(team);
+        foldingRepository.createUser(existingUser);
+
+        final UserValidator userValidator = new UserValidator(foldingRepository, new ValidFoldingStatsRetriever());
+        final ValidationException e = catchThrowableOfType(ValidationException.class,
+            () -> userValidator.update(user, existingUser, List.of(pendingUser)));
+        assertThat(e.getValidationFailure().errors())
+            .containsOnly(String.format("User with ID %d is already updated earlier in the batch", existingUser.id()));
+    }
+
     @Test
     void whenValidatingUpdate_givenUserIsNotCaptain_andTeamAlreadyContainsCaptain_thenSuccessResponseIsReturned() {
         final Hardware hardware = generateHardware();
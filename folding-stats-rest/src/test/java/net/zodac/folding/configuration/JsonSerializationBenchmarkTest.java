@@ -0,0 +1,170 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.configuration;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import net.zodac.folding.api.tc.Category;
+import net.zodac.folding.api.tc.Hardware;
+import net.zodac.folding.api.tc.HardwareMake;
+import net.zodac.folding.api.tc.HardwareType;
+import net.zodac.folding.api.tc.Role;
+import net.zodac.folding.api.tc.Team;
+import net.zodac.folding.api.tc.User;
+import net.zodac.folding.api.tc.result.MonthlyResult;
+import net.zodac.folding.rest.api.tc.AllTeamsSummary;
+import net.zodac.folding.rest.api.tc.RetiredUserSummary;
+import net.zodac.folding.rest.api.tc.TeamSummary;
+import net.zodac.folding.rest.api.tc.UserSummary;
+import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.leaderboard.TeamLeaderboardEntry;
+import net.zodac.folding.rest.api.tc.leaderboard.UserCategoryLeaderboardEntry;
+import net.zodac.folding.rest.api.util.LocalDateTimeGsonTypeAdapter;
+import net.zodac.folding.rest.api.util.StreamingGsonTypeAdapterFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Local benchmark comparing the throughput and allocation of the reflection-based {@link Gson} configuration against one with the
+ * {@link StreamingGsonTypeAdapterFactory} registered, for the most frequently serialized responses.
+ *
+ * <p>
+ * Not executed as part of the normal build, run with:
+ * <pre>
+ *     mvn test -pl folding-stats-rest -Dtest=JsonSerializationBenchmarkTest -Dbenchmark.enabled=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.enabled", matches = "true")
+class JsonSerializationBenchmarkTest {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final int NUMBER_OF_TEAMS = 30;
+    private static final int USERS_PER_TEAM = 3;
+    private static final int HOURS_IN_MONTH = 24 * 31;
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0D;
+    private static final LocalDateTime START_DATE_TIME = LocalDateTime.of(2021, 5, 1, 0, 0);
+
+    private static final Gson REFLECTIVE_GSON = new GsonBuilder()
+        .registerTypeAdapter(LocalDateTime.class, LocalDateTimeGsonTypeAdapter.getInstance())
+        .disableHtmlEscaping()
+        .create();
+
+    private static final Gson STREAMING_GSON = new GsonBuilder()
+        .registerTypeAdapter(LocalDateTime.class, LocalDateTimeGsonTypeAdapter.getInstance())
+        .registerTypeAdapterFactory(StreamingGsonTypeAdapterFactory.getInstance())
+        .disableHtmlEscaping()
+        .create();
+
+    @Test
+    void benchmarkSerialization() {
+        final AllTeamsSummary allTeamsSummary = createAllTeamsSummary();
+        final List<HistoricStats> historicStats = createHistoricStats();
+        final MonthlyResult monthlyResult = createMonthlyResult(allTeamsSummary);
+        final String monthlyResultJson = REFLECTIVE_GSON.toJson(monthlyResult);
+
+        final Map<String, Gson> configurations = new LinkedHashMap<>();
+        configurations.put("reflective", REFLECTIVE_GSON);
+        configurations.put("streaming", STREAMING_GSON);
+
+        for (final var configuration : configurations.entrySet()) {
+            final String name = configuration.getKey();
+            final Gson gson = configuration.getValue();
+
+            benchmark("AllTeamsSummary write", name, () -> gson.toJson(allTeamsSummary));
+            benchmark("HistoricStats write", name, () -> gson.toJson(historicStats));
+            benchmark("MonthlyResult write", name, () -> gson.toJson(monthlyResult));
+            benchmark("MonthlyResult read", name, () -> gson.fromJson(monthlyResultJson, MonthlyResult.class));
+        }
+    }
+
+    private static void benchmark(final String operationName, final String configurationName, final Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.get();
+        }
+
+        final long threadId = Thread.currentThread().threadId();
+        final long startAllocatedBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.get();
+        }
+
+        final double elapsedSeconds = (System.nanoTime() - start) / NANOSECONDS_PER_SECOND;
+        final long allocatedBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - startAllocatedBytes;
+
+        LOGGER.info("{} using {} Gson: {} ops/second, {} bytes allocated/op", operationName, configurationName,
+            String.format("%.0f", MEASURED_ITERATIONS / elapsedSeconds), allocatedBytes / MEASURED_ITERATIONS);
+    }
+
+    private static AllTeamsSummary createAllTeamsSummary() {
+        final Hardware hardware = Hardware.create(1, "hardware", "Hardware", HardwareMake.NVIDIA, HardwareType.GPU, 1.25D, 1_000_000L);
+        final List<TeamSummary> teamSummaries = new ArrayList<>(NUMBER_OF_TEAMS);
+
+        for (int teamId = 1; teamId <= NUMBER_OF_TEAMS; teamId++) {
+            final Team team = Team.create(teamId, "team" + teamId, "description", "https://forum.com/team" + teamId);
+            final int firstUserId = teamId * USERS_PER_TEAM;
+            final List<UserSummary> activeUsers = IntStream.range(firstUserId, firstUserId + USERS_PER_TEAM)
+                .mapToObj(userId -> User.create(userId, "user" + userId, "User" + userId, "passkey" + userId, Category.NVIDIA_GPU,
+                    "https://profile.com/" + userId, "https://stats.com/" + userId, hardware, team, Role.MEMBER))
+                .map(user -> UserSummary.createWithDefaultRank(user, user.id() * 1_000L, user.id() * 1_250L, user.id()))
+                .toList();
+            final List<RetiredUserSummary> retiredUsers = List.of(RetiredUserSummary.create(teamId, "Retired" + teamId, 10L, 12L, 1, 1));
+
+            teamSummaries.add(TeamSummary.createWithDefaultRank(team, "User" + firstUserId, activeUsers, retiredUsers));
+        }
+
+        return AllTeamsSummary.create(teamSummaries);
+    }
+
+    private static List<HistoricStats> createHistoricStats() {
+        return IntStream.range(0, HOURS_IN_MONTH)
+            .mapToObj(hour -> HistoricStats.create(START_DATE_TIME.plusHours(hour), hour * 1_000L, hour * 1_250L, hour))
+            .toList();
+    }
+
+    private static MonthlyResult createMonthlyResult(final AllTeamsSummary allTeamsSummary) {
+        final List<TeamLeaderboardEntry> teamLeaderboard = allTeamsSummary.teams()
+            .stream()
+            .map(TeamLeaderboardEntry::createLeader)
+            .toList();
+
+        final Map<Category, List<UserCategoryLeaderboardEntry>> userCategoryLeaderboard = new EnumMap<>(Category.class);
+        userCategoryLeaderboard.put(Category.NVIDIA_GPU, allTeamsSummary.teams()
+            .stream()
+            .flatMap(teamSummary -> teamSummary.activeUsers().stream())
+            .map(UserCategoryLeaderboardEntry::createLeader)
+            .toList());
+
+        return MonthlyResult.create(teamLeaderboard, userCategoryLeaderboard, START_DATE_TIME);
+    }
+}
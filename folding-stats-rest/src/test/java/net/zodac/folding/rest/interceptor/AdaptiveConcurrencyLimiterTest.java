@@ -0,0 +1,128 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter}.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(100L);
+    private static final long FAST_LATENCY_NANOS = Duration.ofMillis(10L).toNanos();
+    private static final long SLOW_LATENCY_NANOS = Duration.ofSeconds(1L).toNanos();
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @Test
+    void whenAcquiring_givenLimitIsReached_thenRequestIsRejectedUntilAnotherIsReleased() {
+        final AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, 2, TARGET_LATENCY);
+
+        assertThat(concurrencyLimiter.tryAcquire(false))
+            .isTrue();
+        assertThat(concurrencyLimiter.tryAcquire(false))
+            .isTrue();
+        assertThat(concurrencyLimiter.tryAcquire(false))
+            .isFalse();
+
+        concurrencyLimiter.release(FAST_LATENCY_NANOS);
+        assertThat(concurrencyLimiter.tryAcquire(false))
+            .isTrue();
+    }
+
+    @Test
+    void whenReleasing_givenSlowRequests_thenLimitIsReducedToMinimum() {
+        final AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(5, 20, TARGET_LATENCY, nanoClock::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(concurrencyLimiter.tryAcquire(false))
+                .isTrue();
+            nanoClock.addAndGet(SLOW_LATENCY_NANOS);
+            concurrencyLimiter.release(SLOW_LATENCY_NANOS);
+        }
+
+        assertThat(concurrencyLimiter.limit())
+            .isEqualTo(5);
+        assertThat(concurrencyLimiter.inFlight())
+            .isZero();
+    }
+
+    @Test
+    void whenReleasing_givenFastRequestsUsingTheLimit_thenLimitRecoversToMaximum() {
+        final AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, 4, TARGET_LATENCY, nanoClock::get);
+        concurrencyLimiter.tryAcquire(false);
+        nanoClock.addAndGet(SLOW_LATENCY_NANOS);
+        concurrencyLimiter.release(SLOW_LATENCY_NANOS);
+        assertThat(concurrencyLimiter.limit())
+            .isLessThan(4);
+
+        for (int i = 0; i < 100; i++) {
+            concurrencyLimiter.tryAcquire(false);
+            concurrencyLimiter.tryAcquire(false);
+            concurrencyLimiter.release(FAST_LATENCY_NANOS);
+            concurrencyLimiter.release(FAST_LATENCY_NANOS);
+        }
+
+        assertThat(concurrencyLimiter.limit())
+            .isEqualTo(4);
+    }
+
+    @Test
+    void whenReleasing_givenConcurrentSlowRequests_thenLimitIsOnlyReducedOncePerWindow() {
+        final AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, 10, TARGET_LATENCY, nanoClock::get);
+        for (int i = 0; i < 5; i++) {
+            concurrencyLimiter.tryAcquire(false);
+        }
+
+        nanoClock.addAndGet(SLOW_LATENCY_NANOS);
+        for (int i = 0; i < 5; i++) {
+            concurrencyLimiter.release(SLOW_LATENCY_NANOS);
+        }
+
+        assertThat(concurrencyLimiter.limit())
+            .as("Expected requests started before the first reduction to not reduce the limit again")
+            .isEqualTo(9);
+
+        concurrencyLimiter.tryAcquire(false);
+        nanoClock.addAndGet(SLOW_LATENCY_NANOS);
+        concurrencyLimiter.release(SLOW_LATENCY_NANOS);
+
+        assertThat(concurrencyLimiter.limit())
+            .as("Expected a request started after the first reduction to reduce the limit again")
+            .isEqualTo(8);
+    }
+
+    @Test
+    void whenAcquiring_givenReducedCapacity_thenOnlyHalfOfLimitIsAvailable() {
+        final AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, 4, TARGET_LATENCY, nanoClock::get);
+
+        assertThat(concurrencyLimiter.tryAcquire(true))
+            .isTrue();
+        assertThat(concurrencyLimiter.tryAcquire(true))
+            .isTrue();
+        assertThat(concurrencyLimiter.tryAcquire(true))
+            .isFalse();
+        assertThat(concurrencyLimiter.tryAcquire(false))
+            .isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClientRateLimiter}.
+ */
+class ClientRateLimiterTest {
+
+    private static final String FIRST_CLIENT = "127.0.0.1";
+    private static final String SECOND_CLIENT = "127.0.0.2";
+
+    @Test
+    void whenAcquiring_givenBurstHasBeenUsed_thenRequestIsRejectedUntilTokenIsRefilled() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final ClientRateLimiter clientRateLimiter = new ClientRateLimiter(2, 3, nanoTime::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(clientRateLimiter.tryAcquire(FIRST_CLIENT))
+                .isZero();
+        }
+
+        assertThat(clientRateLimiter.tryAcquire(FIRST_CLIENT))
+            .isEqualTo(TimeUnit.MILLISECONDS.toNanos(500L));
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500L));
+        assertThat(clientRateLimiter.tryAcquire(FIRST_CLIENT))
+            .isZero();
+    }
+
+    @Test
+    void whenAcquiring_givenOneClientHasUsedItsBurst_thenOtherClientsAreNotLimited() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final ClientRateLimiter clientRateLimiter = new ClientRateLimiter(1, 1, nanoTime::get);
+
+        assertThat(clientRateLimiter.tryAcquire(FIRST_CLIENT))
+            .isZero();
+        assertThat(clientRateLimiter.tryAcquire(FIRST_CLIENT))
+            .isPositive();
+        assertThat(clientRateLimiter.tryAcquire(SECOND_CLIENT))
+            .isZero();
+        assertThat(clientRateLimiter.numberOfClients())
+            .isEqualTo(2L);
+    }
+
+    @Test
+    void whenAcquiring_givenClientHasBeenIdle_thenBucketIsNotFilledBeyondBurstSize() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final ClientRateLimiter clientRateLimiter = new ClientRateLimiter(10, 2, nanoTime::get);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(30L));
+
+        assertThat(clientRateLimiter.tryAcquire(FIRST_CLIENT))
+            .isZero();
+        assertThat(clientRateLimiter.tryAcquire(FIRST_CLIENT))
+            .isZero();
+        assertThat(clientRateLimiter.tryAcquire(FIRST_CLIENT))
+            .isPositive();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.rest.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.zodac.folding.api.UserAuthenticationResult;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CredentialCache}.
+ */
+class CredentialCacheTest {
+
+    private static final String AUTHORIZATION_HEADER = "Basic dXNlcjpwYXNzd29yZA==";
+
+    @Test
+    void whenAuthenticating_givenSuccessfulAuthentication_thenResultIsCachedForSameHeader() {
+        final CredentialCache credentialCache = new CredentialCache();
+        final AtomicInteger authenticationCount = new AtomicInteger();
+
+        final UserAuthenticationResult first = credentialCache.authenticate(AUTHORIZATION_HEADER, () -> {
+            authenticationCount.incrementAndGet();
+            return UserAuthenticationResult.success(Set.of("admin"));
+        });
+        final UserAuthenticationResult second = credentialCache.authenticate(AUTHORIZATION_HEADER, () -> {
+            authenticationCount.incrementAndGet();
+            return UserAuthenticationResult.success(Set.of("admin"));
+        });
+
+        assertThat(first)
+            .isEqualTo(second);
+        assertThat(authenticationCount)
+            .hasValue(1);
+    }
+
+    @Test
+    void whenAuthenticating_givenFailedAuthentication_thenResultIsNotCached() {
+        final CredentialCache credentialCache = new CredentialCache();
+        final AtomicInteger authenticationCount = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            final UserAuthenticationResult result = credentialCache.authenticate(AUTHORIZATION_HEADER, () -> {
+                authenticationCount.incrementAndGet();
+                return UserAuthenticationResult.invalidPassword();
+            });
+
+            assertThat(result.passwordMatch())
+                .isFalse();
+        }
+
+        assertThat(authenticationCount)
+            .hasValue(2);
+    }
+
+    @Test
+    void whenAuthenticating_givenCacheHasBeenInvalidated_thenHeaderIsAuthenticatedAgain() {
+        final CredentialCache credentialCache = new CredentialCache();
+        final AtomicInteger authenticationCount = new AtomicInteger();
+
+        credentialCache.authenticate(AUTHORIZATION_HEADER, () -> {
+            authenticationCount.incrementAndGet();
+            return UserAuthenticationResult.success(Set.of("admin"));
+        });
+        credentialCache.invalidateAll();
+        credentialCache.authenticate(AUTHORIZATION_HEADER, () -> {
+            authenticationCount.incrementAndGet();
+            return UserAuthenticationResult.success(Set.of("admin"));
+        });
+
+        assertThat(authenticationCount)
+            .hasValue(2);
+    }
+}
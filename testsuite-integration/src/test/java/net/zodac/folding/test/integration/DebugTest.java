@@ -0,0 +1,150 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.folding.test.integration;
+
+import static net.zodac.folding.api.util.EncodingUtils.encodeBasicAuthentication;
+import static net.zodac.folding.rest.api.util.RestUtilConstants.GSON;
+import static net.zodac.folding.rest.api.util.RestUtilConstants.HTTP_CLIENT;
+import static net.zodac.folding.test.integration.util.DummyAuthenticationData.ADMIN_USER;
+import static net.zodac.folding.test.integration.util.DummyAuthenticationData.READ_ONLY_USER;
+import static net.zodac.folding.test.integration.util.SystemCleaner.cleanSystemForComplexTests;
+import static net.zodac.folding.test.integration.util.TestConstants.FOLDING_URL;
+import static net.zodac.folding.test.integration.util.rest.request.TeamCompetitionStatsUtils.manuallyUpdateStats;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.JsonArray;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import net.zodac.folding.rest.api.exception.FoldingRestException;
+import net.zodac.folding.rest.api.header.ContentType;
+import net.zodac.folding.rest.api.header.RestHeader;
+import net.zodac.folding.test.integration.util.DummyDataGenerator;
+import net.zodac.folding.test.integration.util.rest.request.UserUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the stats ingestion endpoints of the debug REST endpoint at {@code /folding/debug}.
+ */
+class DebugTest {
+
+    @BeforeEach
+    void setUp() throws FoldingRestException {
+        cleanSystemForComplexTests();
+    }
+
+    @AfterAll
+    static void tearDown() throws FoldingRestException {
+        cleanSystemForComplexTests();
+    }
+
+    @Test
+    void whenGettingIngestionRuns_givenStatsHaveBeenParsed_thenIngestionRunIsReturned_andResponseHas200Status()
+        throws FoldingRestException, IOException, InterruptedException {
+        UserUtils.create(DummyDataGenerator.generateUser());
+        manuallyUpdateStats();
+
+        final HttpRequest request = HttpRequest.newBuilder()
+            .GET()
+            .uri(URI.create(FOLDING_URL + "/debug/ingestion/runs?hours=1"))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(ADMIN_USER.userName(), ADMIN_USER.password()))
+            .build();
+
+        final HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        final JsonArray ingestionRuns = GSON.fromJson(response.body(), JsonArray.class);
+        assertThat(ingestionRuns.asList())
+            .as("Expected the stats parsing to be recorded as an ingestion run: %s", response.body())
+            .isNotEmpty()
+            .allMatch(ingestionRun -> ingestionRun.getAsJsonObject().has("runType"));
+    }
+
+    @Test
+    void whenGettingIngestionRuns_givenNoAuthentication_thenResponseHas401Status() throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .GET()
+            .uri(URI.create(FOLDING_URL + "/debug/ingestion/runs"))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .build();
+
+        final HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode())
+            .as("Did not receive a 401_UNAUTHORIZED HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_UNAUTHORIZED);
+    }
+
+    @Test
+    void whenRetryingFailedUsers_givenNoUsersFailed_thenNoUsersAreRetried_andResponseHas200Status()
+        throws FoldingRestException, IOException, InterruptedException {
+        UserUtils.create(DummyDataGenerator.generateUser());
+        manuallyUpdateStats();
+
+        final HttpResponse<String> response = sendAdminPostRequest("/debug/ingestion/retry");
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        assertThat(GSON.fromJson(response.body(), JsonArray.class).asList())
+            .as("Expected no users to be retried when no users failed: %s", response.body())
+            .isEmpty();
+    }
+
+    @Test
+    void whenStartingStatsCatchUp_givenAdminUser_thenResponseHas200Status() throws FoldingRestException, IOException, InterruptedException {
+        UserUtils.create(DummyDataGenerator.generateUser());
+
+        final HttpResponse<String> response = sendAdminPostRequest("/debug/stats/catch-up");
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+    }
+
+    @Test
+    void whenStartingStatsCatchUp_givenReadOnlyUser_thenResponseHas403Status() throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .uri(URI.create(FOLDING_URL + "/debug/stats/catch-up"))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(READ_ONLY_USER.userName(), READ_ONLY_USER.password()))
+            .build();
+
+        final HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode())
+            .as("Did not receive a 403_FORBIDDEN HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_FORBIDDEN);
+    }
+
+    private static HttpResponse<String> sendAdminPostRequest(final String path) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .uri(URI.create(FOLDING_URL + path))
+            .header(RestHeader.CONTENT_TYPE.headerName(), ContentType.JSON.contentTypeValue())
+            .header(RestHeader.AUTHORIZATION.headerName(), encodeBasicAuthentication(ADMIN_USER.userName(), ADMIN_USER.password()))
+            .build();
+
+        return HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -27,16 +27,22 @@ import static net.zodac.folding.test.integration.util.DummyAuthenticationData.RE
 import static net.zodac.folding.test.integration.util.rest.request.HardwareUtils.HARDWARE_REQUEST_SENDER;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.api.tc.HardwareMake;
 import net.zodac.folding.api.tc.HardwareType;
 import net.zodac.folding.client.java.response.HardwareResponseParser;
+import net.zodac.folding.rest.api.BatchItemResult;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
+import net.zodac.folding.rest.api.PageRequest;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
@@ -579,6 +585,188 @@ class HardwareTest {
             .isEqualTo(HttpURLConnection.HTTP_UNSUPPORTED_TYPE);
     }
 
+    @Test
+    void whenGettingPageOfHardware_givenLimitIsLessThanNumberOfHardware_thenOnlyLimitIsReturned_andNextCursorIsTheLastId_andHas200Status()
+        throws FoldingRestException {
+        final Hardware firstHardware = HardwareUtils.create(DummyDataGenerator.generateHardware());
+        final Hardware secondHardware = HardwareUtils.create(DummyDataGenerator.generateHardware());
+
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.getAll(PageRequest.create(firstHardware.id() - 1, 1, List.of()), null);
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        final Collection<Hardware> page = HardwareResponseParser.getAll(response);
+        assertThat(page)
+            .as("Expected only the first hardware to be returned in the page")
+            .containsExactly(firstHardware);
+        assertThat(HttpResponseHeaderUtils.getNextCursor(response))
+            .as("Expected the next cursor to be the ID of the last hardware in the page")
+            .isEqualTo(firstHardware.id());
+
+        final HttpResponse<String> nextResponse = HARDWARE_REQUEST_SENDER.getAll(PageRequest.create(firstHardware.id(), 1, List.of()), null);
+        assertThat(HardwareResponseParser.getAll(nextResponse))
+            .as("Expected the next page to start after the cursor")
+            .containsExactly(secondHardware);
+    }
+
+    @Test
+    void whenGettingPageOfHardware_givenFieldsAreRequested_thenOnlyIdAndRequestedFieldsAreReturned_andHas200Status() throws FoldingRestException {
+        final Hardware hardware = HardwareUtils.create(DummyDataGenerator.generateHardware());
+
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.getAll(PageRequest.create(hardware.id() - 1, 1, List.of("hardwareName")), null);
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        final JsonObject projectedHardware = GSON.fromJson(response.body(), JsonArray.class).get(0).getAsJsonObject();
+        assertThat(projectedHardware.keySet())
+            .as("Expected only the ID and requested field to be returned: %s", response.body())
+            .containsExactlyInAnyOrder("id", "hardwareName");
+        assertThat(projectedHardware.get("hardwareName").getAsString())
+            .isEqualTo(hardware.hardwareName());
+    }
+
+    @Test
+    void whenGettingPageOfHardware_givenFieldDoesNotExist_thenResponseHas400Status() throws FoldingRestException {
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.getAll(PageRequest.create(0, 1, List.of("invalidField")), null);
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+    }
+
+    @Test
+    void whenCreatingHardwareBatch_givenAllPayloadsAreValid_thenAllHardwareIsCreated_andHas201Status() throws FoldingRestException {
+        final int initialSize = HardwareUtils.getNumberOfHardware();
+        final List<HardwareRequest> hardwareToCreate = List.of(DummyDataGenerator.generateHardware(), DummyDataGenerator.generateHardware());
+
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.createBatch(hardwareToCreate, ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 201_CREATED HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_CREATED);
+
+        final List<BatchItemResult<Hardware>> results = List.copyOf(HardwareResponseParser.createBatch(response));
+        assertThat(results)
+            .as("Expected a result for each hardware in the batch: %s", response.body())
+            .hasSize(hardwareToCreate.size())
+            .allMatch(result -> result.statusCode() == HttpURLConnection.HTTP_CREATED);
+        assertThat(results)
+            .extracting(result -> result.entity().hardwareName())
+            .containsExactly(hardwareToCreate.getFirst().hardwareName(), hardwareToCreate.getLast().hardwareName());
+
+        assertThat(HardwareUtils.getNumberOfHardware())
+            .as("Expected all hardware in the batch to be created")
+            .isEqualTo(initialSize + hardwareToCreate.size());
+    }
+
+    @Test
+    void whenCreatingHardwareBatch_givenOnePayloadIsInvalid_thenNoHardwareIsCreated_andInvalidItemHas400Status_andHas400Status()
+        throws FoldingRestException {
+        final int initialSize = HardwareUtils.getNumberOfHardware();
+        final HardwareRequest invalidHardware = generateHardwareRequest(DummyDataGenerator.nextHardwareName(), HardwareMake.NVIDIA, HardwareType.GPU,
+            -1.00D, 1L);
+
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.createBatch(List.of(DummyDataGenerator.generateHardware(), invalidHardware),
+            ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(HardwareResponseParser.createBatch(response))
+            .as("Expected the invalid hardware to be returned as a failure: %s", response.body())
+            .anyMatch(result -> result.index() == 1 && result.statusCode() == HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(HardwareUtils.getNumberOfHardware())
+            .as("Expected no hardware to be created when any hardware in the batch is invalid")
+            .isEqualTo(initialSize);
+    }
+
+    @Test
+    void whenUpdatingHardwareBatch_givenAllPayloadsAreValid_thenAllHardwareIsUpdated_andHas200Status() throws FoldingRestException {
+        final Hardware firstHardware = HardwareUtils.create(DummyDataGenerator.generateHardware());
+        final Hardware secondHardware = HardwareUtils.create(DummyDataGenerator.generateHardware());
+
+        final HardwareRequest firstUpdate = generateHardwareRequest(firstHardware.hardwareName(), firstHardware.hardwareMake(),
+            firstHardware.hardwareType(), 2.00D, firstHardware.averagePpd());
+        final HardwareRequest secondUpdate = generateHardwareRequest(secondHardware.hardwareName(), secondHardware.hardwareMake(),
+            secondHardware.hardwareType(), 3.00D, secondHardware.averagePpd());
+
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.updateBatch(
+            List.of(BatchUpdateRequest.create(firstHardware.id(), firstUpdate), BatchUpdateRequest.create(secondHardware.id(), secondUpdate)),
+            ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        assertThat(HardwareResponseParser.updateBatch(response))
+            .as("Expected each hardware to be updated: %s", response.body())
+            .extracting(result -> result.entity().multiplier())
+            .containsExactly(2.00D, 3.00D);
+        assertThat(HardwareResponseParser.get(HARDWARE_REQUEST_SENDER.get(secondHardware.id())).multiplier())
+            .as("Expected the updated hardware to be persisted")
+            .isEqualTo(3.00D);
+    }
+
+    @Test
+    void whenUpdatingHardwareBatch_givenDuplicateUpdate_thenNoHardwareIsUpdated_andDuplicateItemHas400Status_andHas400Status()
+        throws FoldingRestException {
+        final Hardware hardware = HardwareUtils.create(DummyDataGenerator.generateHardware());
+        final BatchUpdateRequest<HardwareRequest> update = BatchUpdateRequest.create(hardware.id(),
+            generateHardwareRequest(hardware.hardwareName(), hardware.hardwareMake(), hardware.hardwareType(), 2.00D, hardware.averagePpd()));
+
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.updateBatch(List.of(update, update), ADMIN_USER.userName(),
+            ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(HardwareResponseParser.updateBatch(response))
+            .as("Expected the duplicate update to be returned as a failure: %s", response.body())
+            .anyMatch(result -> result.index() == 1 && result.statusCode() == HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(HardwareResponseParser.get(HARDWARE_REQUEST_SENDER.get(hardware.id())).multiplier())
+            .as("Expected the hardware to not be updated")
+            .isEqualTo(hardware.multiplier());
+    }
+
+    @Test
+    void whenDeletingHardwareBatch_givenValidIds_thenAllHardwareIsDeleted_andHas200Status() throws FoldingRestException {
+        final int firstHardwareId = HardwareUtils.create(DummyDataGenerator.generateHardware()).id();
+        final int secondHardwareId = HardwareUtils.create(DummyDataGenerator.generateHardware()).id();
+        final int initialSize = HardwareUtils.getNumberOfHardware();
+
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.deleteBatch(List.of(firstHardwareId, secondHardwareId), ADMIN_USER.userName(),
+            ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        assertThat(HARDWARE_REQUEST_SENDER.get(firstHardwareId).statusCode())
+            .as("Was able to retrieve the hardware instance, despite deleting it")
+            .isEqualTo(HttpURLConnection.HTTP_NOT_FOUND);
+        assertThat(HardwareUtils.getNumberOfHardware())
+            .as("Expected all hardware in the batch to be deleted")
+            .isEqualTo(initialSize - 2);
+    }
+
+    @Test
+    void whenDeletingHardwareBatch_givenOneIdDoesNotExist_thenNoHardwareIsDeleted_andHas400Status() throws FoldingRestException {
+        final int hardwareId = HardwareUtils.create(DummyDataGenerator.generateHardware()).id();
+
+        final HttpResponse<String> response = HARDWARE_REQUEST_SENDER.deleteBatch(List.of(hardwareId, TestConstants.NON_EXISTING_ID),
+            ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(HardwareResponseParser.deleteBatch(response))
+            .as("Expected the non-existing hardware to be returned as a failure: %s", response.body())
+            .anyMatch(result -> result.index() == 1 && result.statusCode() == HttpURLConnection.HTTP_NOT_FOUND);
+        assertThat(HARDWARE_REQUEST_SENDER.get(hardwareId).statusCode())
+            .as("Expected the existing hardware to not be deleted")
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+    }
+
     private static HardwareRequest generateHardwareRequest(final String hardwareName,
                                                            final HardwareMake hardwareMake,
                                                            final HardwareType hardwareType,
@@ -34,6 +34,9 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import net.zodac.folding.api.tc.User;
 import net.zodac.folding.client.java.request.HistoricStatsRequestSender;
 import net.zodac.folding.client.java.request.HistoricStatsType;
@@ -43,10 +46,14 @@ import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
 import net.zodac.folding.rest.api.tc.historic.HistoricStats;
+import net.zodac.folding.rest.api.tc.historic.UserHistoricStats;
+import net.zodac.folding.rest.api.tc.request.UserRequest;
 import net.zodac.folding.test.integration.util.DummyDataGenerator;
 import net.zodac.folding.test.integration.util.DummyStats;
 import net.zodac.folding.test.integration.util.TestConstants;
 import net.zodac.folding.test.integration.util.db.DatabaseUtils;
+import net.zodac.folding.test.integration.util.rest.request.HardwareUtils;
+import net.zodac.folding.test.integration.util.rest.request.StubbedFoldingEndpointUtils;
 import net.zodac.folding.test.integration.util.rest.request.UserUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -537,4 +544,125 @@ class HistoricUserStatsTest {
             .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
             .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
     }
+
+    @Test
+    void whenGettingHourlyStatsForUsers_givenUsersHaveStats_thenStatsMatchTheStatsForEachUser_andResponseHas200Status()
+        throws FoldingRestException {
+        final int firstUserId = UserUtils.create(DummyDataGenerator.generateUser()).id();
+        final int secondUserId = UserUtils.create(DummyDataGenerator.generateUser()).id();
+
+        DatabaseUtils.insertStats("user_tc_stats_hourly",
+            DummyStats.create(firstUserId, "2020-05-11 23:00:00", 50L, 500L, 5),
+            DummyStats.create(firstUserId, "2020-05-12 00:00:00", 80L, 800L, 8),
+            DummyStats.create(firstUserId, "2020-05-12 05:00:00", 120L, 1_200L, 12),
+            DummyStats.create(secondUserId, "2020-05-12 00:00:00", 30L, 300L, 3),
+            DummyStats.create(secondUserId, "2020-05-12 03:00:00", 60L, 600L, 6)
+        );
+
+        final HttpResponse<String> response = HISTORIC_STATS_REQUEST_SENDER.getHourlyStatsForUsers(List.of(firstUserId, secondUserId),
+            Year.parse("2020"), Month.of(5), 12);
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        final Map<Integer, Collection<HistoricStats>> statsByUserId = HistoricStatsResponseParser.getHourlyStatsForUsers(response)
+            .stream()
+            .collect(Collectors.toMap(UserHistoricStats::userId, UserHistoricStats::historicStats));
+
+        for (final int userId : List.of(firstUserId, secondUserId)) {
+            final Collection<HistoricStats> expected = HistoricStatsResponseParser.getHourlyUserStats(
+                HISTORIC_STATS_REQUEST_SENDER.getHourlyUserStats(userId, Year.parse("2020"), Month.of(5), 12));
+            assertThat(statsByUserId.get(userId))
+                .as("Expected hourly stats for user %s to match the single user endpoint: %s", userId, response.body())
+                .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void whenGettingHourlyStatsForUsers_givenFirstDayOfMonth_andUserHasInitialStats_thenStatsMatchTheStatsForEachUser_andResponseHas200Status()
+        throws FoldingRestException {
+        final int hardwareId = HardwareUtils.create(DummyDataGenerator.generateHardwareWithMultiplier(2.5D)).id();
+        final UserRequest userWithInitialStats = DummyDataGenerator.generateUserWithHardwareId(hardwareId);
+        StubbedFoldingEndpointUtils.addPoints(userWithInitialStats, 1_000L);
+        final int firstUserId = UserUtils.create(userWithInitialStats).id();
+        final int secondUserId = UserUtils.create(DummyDataGenerator.generateUserWithHardwareId(hardwareId)).id();
+
+        DatabaseUtils.insertStats("user_tc_stats_hourly",
+            DummyStats.create(firstUserId, "2020-07-01 00:00:00", 1_500L, 3_750L, 15),
+            DummyStats.create(firstUserId, "2020-07-01 05:00:00", 2_000L, 5_000L, 20),
+            DummyStats.create(secondUserId, "2020-07-01 00:00:00", 300L, 750L, 3),
+            DummyStats.create(secondUserId, "2020-07-01 03:00:00", 600L, 1_500L, 6)
+        );
+
+        final HttpResponse<String> response = HISTORIC_STATS_REQUEST_SENDER.getHourlyStatsForUsers(List.of(firstUserId, secondUserId),
+            Year.parse("2020"), Month.of(7), 1);
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        final Map<Integer, Collection<HistoricStats>> statsByUserId = HistoricStatsResponseParser.getHourlyStatsForUsers(response)
+            .stream()
+            .collect(Collectors.toMap(UserHistoricStats::userId, UserHistoricStats::historicStats));
+
+        assertThat(statsByUserId.get(firstUserId))
+            .as("Expected the initial stats to be removed from the first hour for user %s: %s", firstUserId, response.body())
+            .first()
+            .extracting(HistoricStats::points, HistoricStats::multipliedPoints)
+            .containsExactly(500L, 1_250L);
+
+        for (final int userId : List.of(firstUserId, secondUserId)) {
+            final Collection<HistoricStats> expected = HistoricStatsResponseParser.getHourlyUserStats(
+                HISTORIC_STATS_REQUEST_SENDER.getHourlyUserStats(userId, Year.parse("2020"), Month.of(7), 1));
+            assertThat(statsByUserId.get(userId))
+                .as("Expected hourly stats for user %s to match the single user endpoint: %s", userId, response.body())
+                .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void whenGettingDailyStatsForUsers_givenUsersHaveStats_thenStatsMatchTheStatsForEachUser_andResponseHas200Status()
+        throws FoldingRestException {
+        final int firstUserId = UserUtils.create(DummyDataGenerator.generateUser()).id();
+        final int secondUserId = UserUtils.create(DummyDataGenerator.generateUser()).id();
+
+        DatabaseUtils.insertStats("user_tc_stats_hourly",
+            DummyStats.create(firstUserId, "2020-06-01 10:00:00", 50L, 500L, 5),
+            DummyStats.create(firstUserId, "2020-06-01 23:00:00", 80L, 800L, 8),
+            DummyStats.create(firstUserId, "2020-06-03 12:00:00", 120L, 1_200L, 12),
+            DummyStats.create(secondUserId, "2020-06-02 08:00:00", 30L, 300L, 3),
+            DummyStats.create(secondUserId, "2020-06-05 16:00:00", 60L, 600L, 6)
+        );
+
+        final HttpResponse<String> response = HISTORIC_STATS_REQUEST_SENDER.getDailyStatsForUsers(List.of(firstUserId, secondUserId),
+            Year.parse("2020"), Month.of(6));
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        final Map<Integer, Collection<HistoricStats>> statsByUserId = HistoricStatsResponseParser.getDailyStatsForUsers(response)
+            .stream()
+            .collect(Collectors.toMap(UserHistoricStats::userId, UserHistoricStats::historicStats));
+
+        for (final int userId : List.of(firstUserId, secondUserId)) {
+            final Collection<HistoricStats> expected = HistoricStatsResponseParser.getDailyUserStats(
+                HISTORIC_STATS_REQUEST_SENDER.getDailyUserStats(userId, Year.parse("2020"), Month.of(6)));
+            assertThat(statsByUserId.get(userId))
+                .as("Expected daily stats for user %s to match the single user endpoint: %s", userId, response.body())
+                .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void whenGettingDailyStatsForUsers_givenTooManyUserIds_thenResponseHas400Status() throws FoldingRestException {
+        final List<Integer> userIds = IntStream.rangeClosed(1, 101).boxed().toList();
+
+        final HttpResponse<String> response = HISTORIC_STATS_REQUEST_SENDER.getDailyStatsForUsers(userIds, Year.parse("2020"), Month.of(6));
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(response.body())
+            .as("Did not receive valid error message: %s", response.body())
+            .contains("at most 100 can be requested");
+    }
 }
@@ -46,6 +46,8 @@ import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 import net.zodac.folding.api.tc.Category;
 import net.zodac.folding.api.tc.Hardware;
 import net.zodac.folding.api.tc.Team;
@@ -62,6 +64,8 @@ import net.zodac.folding.rest.api.tc.TeamSummary;
 import net.zodac.folding.rest.api.tc.UserSummary;
 import net.zodac.folding.rest.api.tc.request.HardwareRequest;
 import net.zodac.folding.rest.api.tc.request.UserRequest;
+import net.zodac.folding.rest.api.tc.stream.RankedStats;
+import net.zodac.folding.rest.api.tc.stream.StatsChanges;
 import net.zodac.folding.rest.api.util.RestUtilConstants;
 import net.zodac.folding.test.integration.util.TestConstants;
 import net.zodac.folding.test.integration.util.rest.request.HardwareUtils;
@@ -81,6 +85,8 @@ import org.junit.jupiter.api.Test;
  */
 class TeamCompetitionStatsTest {
 
+    private static final String EVENT_STREAM_CONTENT_TYPE = "text/event-stream";
+
     @BeforeEach
     void setUp() throws FoldingRestException {
         cleanSystemForComplexTests();
@@ -1171,4 +1177,79 @@ class TeamCompetitionStatsTest {
             .as("Expected second team to have new points from the moved user: %s", resultAfterThirdUpdate)
             .isEqualTo(11_000L);
     }
+
+    @Test
+    void whenGettingStatsChanges_givenVersionWasNeverRecorded_thenFullResyncIsRequired_andResponseHas200Status() throws FoldingRestException {
+        final HttpResponse<String> response = TEAM_COMPETITION_REQUEST_SENDER.getChanges(0L);
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        final StatsChanges statsChanges = TeamCompetitionStatsResponseParser.getChanges(response);
+        assertThat(statsChanges.fullResyncRequired())
+            .as("Expected a full resync for a version that was never recorded: %s", statsChanges)
+            .isTrue();
+        assertThat(statsChanges.changes().users())
+            .as("Expected no changes when a full resync is required: %s", statsChanges)
+            .isEmpty();
+    }
+
+    @Test
+    void whenGettingStatsChanges_givenUserPointsChangeAfterVersion_thenOnlyChangedUserIsReturned_andResponseHas200Status()
+        throws FoldingRestException {
+        final Team team = TeamUtils.create(generateTeam());
+        final User changedUser = UserUtils.create(generateUserWithTeamId(team.id()));
+        final User unchangedUser = UserUtils.create(generateUserWithTeamId(team.id()));
+        manuallyUpdateStats();
+
+        final long previousVersion = TeamCompetitionStatsResponseParser.getChanges(TEAM_COMPETITION_REQUEST_SENDER.getChanges(0L)).version();
+
+        StubbedFoldingEndpointUtils.addPoints(changedUser, 10_000L);
+        manuallyUpdateStats();
+
+        final HttpResponse<String> response = TEAM_COMPETITION_REQUEST_SENDER.getChanges(previousVersion);
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        final StatsChanges statsChanges = TeamCompetitionStatsResponseParser.getChanges(response);
+        assertThat(statsChanges.fullResyncRequired())
+            .as("Expected the changes to be available for a recorded version: %s", statsChanges)
+            .isFalse();
+        assertThat(statsChanges.version())
+            .as("Expected the stats version to have increased: %s", statsChanges)
+            .isGreaterThan(previousVersion);
+        assertThat(statsChanges.changes().users())
+            .as("Expected only the user with new points to be changed: %s", statsChanges)
+            .extracting(RankedStats::id)
+            .contains(changedUser.id())
+            .doesNotContain(unchangedUser.id());
+    }
+
+    @Test
+    void whenSubscribingToStatsStream_thenFullStatsUpdateIsSentAsFirstEvent_andResponseHas200Status() throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder()
+            .GET()
+            .uri(URI.create(FOLDING_URL + "/stats/stream"))
+            .header("Accept", EVENT_STREAM_CONTENT_TYPE)
+            .build();
+
+        final HttpResponse<Stream<String>> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofLines());
+        try (final Stream<String> lines = response.body()) {
+            assertThat(response.statusCode())
+                .as("Did not receive a 200_OK HTTP response")
+                .isEqualTo(HttpURLConnection.HTTP_OK);
+            assertThat(response.headers().firstValue(RestHeader.CONTENT_TYPE.headerName()))
+                .as("Expected the response to be an event stream")
+                .hasValueSatisfying(contentType -> assertThat(contentType).startsWith(EVENT_STREAM_CONTENT_TYPE));
+
+            final List<String> firstEvent = lines
+                .takeWhile(line -> !line.isBlank())
+                .toList();
+            assertThat(firstEvent)
+                .as("Expected the first event to be a full stats update")
+                .contains("event:stats-update")
+                .anyMatch(line -> line.startsWith("data:"));
+        }
+    }
 }
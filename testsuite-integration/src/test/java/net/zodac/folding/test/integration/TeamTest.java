@@ -41,8 +41,10 @@ import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Collection;
+import java.util.List;
 import net.zodac.folding.api.tc.Team;
 import net.zodac.folding.client.java.response.TeamResponseParser;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
@@ -587,4 +589,112 @@ class TeamTest {
             .as("Did not receive a 415_UNSUPPORTED_MEDIA_TYPE HTTP response: %s", response.body())
             .isEqualTo(HttpURLConnection.HTTP_UNSUPPORTED_TYPE);
     }
+
+    @Test
+    void whenCreatingTeamBatch_givenAllPayloadsAreValid_thenAllTeamsAreCreated_andHas201Status() throws FoldingRestException {
+        final int initialSize = TeamUtils.getNumberOfTeams();
+        final List<TeamRequest> teamsToCreate = List.of(generateTeam(), generateTeam());
+
+        final HttpResponse<String> response = TEAM_REQUEST_SENDER.createBatch(teamsToCreate, ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 201_CREATED HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_CREATED);
+
+        assertThat(TeamResponseParser.createBatch(response))
+            .as("Expected a result for each team in the batch: %s", response.body())
+            .hasSize(teamsToCreate.size())
+            .allMatch(result -> result.statusCode() == HttpURLConnection.HTTP_CREATED)
+            .extracting(result -> result.entity().teamName())
+            .containsExactly(teamsToCreate.getFirst().teamName(), teamsToCreate.getLast().teamName());
+
+        assertThat(TeamUtils.getNumberOfTeams())
+            .as("Expected all teams in the batch to be created")
+            .isEqualTo(initialSize + teamsToCreate.size());
+    }
+
+    @Test
+    void whenCreatingTeamBatch_givenOneTeamAlreadyExists_thenNoTeamsAreCreated_andExistingTeamHas409Status_andHas400Status()
+        throws FoldingRestException {
+        final Team existingTeam = create(generateTeam());
+        final int initialSize = TeamUtils.getNumberOfTeams();
+
+        final HttpResponse<String> response = TEAM_REQUEST_SENDER.createBatch(List.of(generateTeam(), generateTeamWithName(existingTeam.teamName())),
+            ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(TeamResponseParser.createBatch(response))
+            .as("Expected the existing team to be returned as a conflict: %s", response.body())
+            .anyMatch(result -> result.index() == 1 && result.statusCode() == HttpURLConnection.HTTP_CONFLICT);
+
+        assertThat(TeamUtils.getNumberOfTeams())
+            .as("Expected no teams to be created when any team in the batch is invalid")
+            .isEqualTo(initialSize);
+    }
+
+    @Test
+    void whenUpdatingTeamBatch_givenAllPayloadsAreValid_thenAllTeamsAreUpdated_andHas200Status() throws FoldingRestException {
+        final Team firstTeam = create(generateTeam());
+        final Team secondTeam = create(generateTeam());
+
+        final TeamRequest firstUpdate = new TeamRequest(firstTeam.teamName(), "First updated description", firstTeam.forumLink());
+        final TeamRequest secondUpdate = new TeamRequest(secondTeam.teamName(), "Second updated description", secondTeam.forumLink());
+
+        final HttpResponse<String> response = TEAM_REQUEST_SENDER.updateBatch(
+            List.of(BatchUpdateRequest.create(firstTeam.id(), firstUpdate), BatchUpdateRequest.create(secondTeam.id(), secondUpdate)),
+            ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        assertThat(TeamResponseParser.updateBatch(response))
+            .as("Expected each team to be updated: %s", response.body())
+            .extracting(result -> result.entity().teamDescription())
+            .containsExactly(firstUpdate.teamDescription(), secondUpdate.teamDescription());
+        assertThat(TeamUtils.get(secondTeam.id()).teamDescription())
+            .as("Expected the updated team to be persisted")
+            .isEqualTo(secondUpdate.teamDescription());
+    }
+
+    @Test
+    void whenDeletingTeamBatch_givenValidIds_thenAllTeamsAreDeleted_andHas200Status() throws FoldingRestException {
+        final int firstTeamId = create(generateTeam()).id();
+        final int secondTeamId = create(generateTeam()).id();
+        final int initialSize = TeamUtils.getNumberOfTeams();
+
+        final HttpResponse<String> response = TEAM_REQUEST_SENDER.deleteBatch(List.of(firstTeamId, secondTeamId), ADMIN_USER.userName(),
+            ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        assertThat(TEAM_REQUEST_SENDER.get(firstTeamId).statusCode())
+            .as("Was able to retrieve the team, despite deleting it")
+            .isEqualTo(HttpURLConnection.HTTP_NOT_FOUND);
+        assertThat(TeamUtils.getNumberOfTeams())
+            .as("Expected all teams in the batch to be deleted")
+            .isEqualTo(initialSize - 2);
+    }
+
+    @Test
+    void whenDeletingTeamBatch_givenOneTeamHasUsers_thenNoTeamsAreDeleted_andTeamWithUsersHas409Status_andHas400Status()
+        throws FoldingRestException {
+        final int teamId = create(generateTeam()).id();
+        final int teamWithUserId = create(generateTeam()).id();
+        UserUtils.create(DummyDataGenerator.generateUserWithTeamId(teamWithUserId));
+
+        final HttpResponse<String> response = TEAM_REQUEST_SENDER.deleteBatch(List.of(teamId, teamWithUserId), ADMIN_USER.userName(),
+            ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(TeamResponseParser.deleteBatch(response))
+            .as("Expected the team with users to be returned as a conflict: %s", response.body())
+            .anyMatch(result -> result.index() == 1 && result.statusCode() == HttpURLConnection.HTTP_CONFLICT);
+        assertThat(TEAM_REQUEST_SENDER.get(teamId).statusCode())
+            .as("Expected the team without users to not be deleted")
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+    }
 }
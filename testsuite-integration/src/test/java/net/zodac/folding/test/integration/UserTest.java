@@ -33,6 +33,7 @@ import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import net.zodac.folding.api.tc.Category;
 import net.zodac.folding.api.tc.Hardware;
@@ -42,6 +43,7 @@ import net.zodac.folding.api.tc.User;
 import net.zodac.folding.client.java.response.HardwareResponseParser;
 import net.zodac.folding.client.java.response.TeamResponseParser;
 import net.zodac.folding.client.java.response.UserResponseParser;
+import net.zodac.folding.rest.api.BatchUpdateRequest;
 import net.zodac.folding.rest.api.exception.FoldingRestException;
 import net.zodac.folding.rest.api.header.ContentType;
 import net.zodac.folding.rest.api.header.RestHeader;
@@ -913,6 +915,118 @@ class UserTest {
             .isEqualTo(HttpURLConnection.HTTP_UNSUPPORTED_TYPE);
     }
 
+    @Test
+    void whenCreatingUserBatch_givenAllPayloadsAreValid_thenAllUsersAreCreated_andHas201Status() throws FoldingRestException {
+        final int initialSize = UserUtils.getNumberOfUsers();
+        final List<UserRequest> usersToCreate = List.of(DummyDataGenerator.generateUser(), DummyDataGenerator.generateUser());
+        for (final UserRequest userToCreate : usersToCreate) {
+            StubbedFoldingEndpointUtils.enableUser(userToCreate);
+        }
+
+        final HttpResponse<String> response = USER_REQUEST_SENDER.createBatch(usersToCreate, ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 201_CREATED HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_CREATED);
+
+        assertThat(UserResponseParser.createBatch(response))
+            .as("Expected a result for each user in the batch: %s", response.body())
+            .hasSize(usersToCreate.size())
+            .allMatch(result -> result.statusCode() == HttpURLConnection.HTTP_CREATED)
+            .extracting(result -> result.entity().foldingUserName())
+            .containsExactly(usersToCreate.getFirst().foldingUserName(), usersToCreate.getLast().foldingUserName());
+
+        assertThat(UserUtils.getNumberOfUsers())
+            .as("Expected all users in the batch to be created")
+            .isEqualTo(initialSize + usersToCreate.size());
+    }
+
+    @Test
+    void whenCreatingUserBatch_givenOneUserHasNonExistingHardware_thenNoUsersAreCreated_andInvalidUserHas400Status_andHas400Status()
+        throws FoldingRestException {
+        final int initialSize = UserUtils.getNumberOfUsers();
+        final UserRequest validUser = DummyDataGenerator.generateUser();
+        final UserRequest invalidUser = DummyDataGenerator.generateUserWithHardwareIdAndTeamId(TestConstants.NON_EXISTING_ID,
+            TeamUtils.create(DummyDataGenerator.generateTeam()).id());
+        StubbedFoldingEndpointUtils.enableUser(validUser);
+        StubbedFoldingEndpointUtils.enableUser(invalidUser);
+
+        final HttpResponse<String> response = USER_REQUEST_SENDER.createBatch(List.of(validUser, invalidUser), ADMIN_USER.userName(),
+            ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(UserResponseParser.createBatch(response))
+            .as("Expected the invalid user to be returned as a failure: %s", response.body())
+            .anyMatch(result -> result.index() == 1 && result.statusCode() == HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(UserUtils.getNumberOfUsers())
+            .as("Expected no users to be created when any user in the batch is invalid")
+            .isEqualTo(initialSize);
+    }
+
+    @Test
+    void whenUpdatingUserBatch_givenAllPayloadsAreValid_thenAllUsersAreUpdated_andHas200Status() throws FoldingRestException {
+        final User firstUser = UserUtils.getWithPasskey(UserUtils.create(DummyDataGenerator.generateUser()).id());
+        final User secondUser = UserUtils.getWithPasskey(UserUtils.create(DummyDataGenerator.generateUser()).id());
+
+        final UserRequest firstUpdate = generateUserRequestWithDisplayName(firstUser, "firstUpdatedDisplayName");
+        final UserRequest secondUpdate = generateUserRequestWithDisplayName(secondUser, "secondUpdatedDisplayName");
+        StubbedFoldingEndpointUtils.enableUser(firstUpdate);
+        StubbedFoldingEndpointUtils.enableUser(secondUpdate);
+
+        final HttpResponse<String> response = USER_REQUEST_SENDER.updateBatch(
+            List.of(BatchUpdateRequest.create(firstUser.id(), firstUpdate), BatchUpdateRequest.create(secondUser.id(), secondUpdate)),
+            ADMIN_USER.userName(), ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        assertThat(UserResponseParser.updateBatch(response))
+            .as("Expected each user to be updated: %s", response.body())
+            .extracting(result -> result.entity().displayName())
+            .containsExactly(firstUpdate.displayName(), secondUpdate.displayName());
+        assertThat(UserUtils.get(secondUser.id()).displayName())
+            .as("Expected the updated user to be persisted")
+            .isEqualTo(secondUpdate.displayName());
+    }
+
+    @Test
+    void whenDeletingUserBatch_givenValidIds_thenAllUsersAreDeleted_andHas200Status() throws FoldingRestException {
+        final int firstUserId = UserUtils.create(DummyDataGenerator.generateUser()).id();
+        final int secondUserId = UserUtils.create(DummyDataGenerator.generateUser()).id();
+        final int initialSize = UserUtils.getNumberOfUsers();
+
+        final HttpResponse<String> response = USER_REQUEST_SENDER.deleteBatch(List.of(firstUserId, secondUserId), ADMIN_USER.userName(),
+            ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 200_OK HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+
+        assertThat(USER_REQUEST_SENDER.get(firstUserId).statusCode())
+            .as("Was able to retrieve the user, despite deleting it")
+            .isEqualTo(HttpURLConnection.HTTP_NOT_FOUND);
+        assertThat(UserUtils.getNumberOfUsers())
+            .as("Expected all users in the batch to be deleted")
+            .isEqualTo(initialSize - 2);
+    }
+
+    @Test
+    void whenDeletingUserBatch_givenOneUserIsTeamCaptain_thenNoUsersAreDeleted_andHas400Status() throws FoldingRestException {
+        final int userId = UserUtils.create(DummyDataGenerator.generateUser()).id();
+        final int captainUserId = UserUtils.create(DummyDataGenerator.generateCaptain()).id();
+
+        final HttpResponse<String> response = USER_REQUEST_SENDER.deleteBatch(List.of(userId, captainUserId), ADMIN_USER.userName(),
+            ADMIN_USER.password());
+        assertThat(response.statusCode())
+            .as("Did not receive a 400_BAD_REQUEST HTTP response: %s", response.body())
+            .isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+
+        assertThat(USER_REQUEST_SENDER.get(userId).statusCode())
+            .as("Expected the non-captain user to not be deleted")
+            .isEqualTo(HttpURLConnection.HTTP_OK);
+    }
+
     private static Optional<User> findUserById(final Collection<User> users, final int id) {
         for (final User user : users) {
             if (user.id() == id) {
@@ -922,6 +1036,20 @@ class UserTest {
         return Optional.empty();
     }
 
+    private static UserRequest generateUserRequestWithDisplayName(final User user, final String displayName) {
+        return generateUserRequest(
+            user.foldingUserName(),
+            displayName,
+            user.passkey(),
+            user.category(),
+            user.profileLink(),
+            user.liveStatsLink(),
+            user.hardware().id(),
+            user.team().id(),
+            user.role().isCaptain()
+        );
+    }
+
     private static UserRequest generateUserRequest(final String foldingUserName,
                                                    final String displayName,
                                                    final String passkey,
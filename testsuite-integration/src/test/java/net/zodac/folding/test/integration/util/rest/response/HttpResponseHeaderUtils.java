@@ -55,6 +55,17 @@ public final class HttpResponseHeaderUtils {
         return Integer.parseInt(headerValue);
     }
 
+    /**
+     * Retrieves the value of the {@code X-Next-Cursor} header from the {@link HttpResponse}.
+     *
+     * @param response the {@link HttpResponse} from which to extract the {@code X-Next-Cursor} header
+     * @return the value of the {@code X-Next-Cursor} header
+     */
+    public static int getNextCursor(final HttpResponse<String> response) {
+        final String headerValue = getHeader(response, RestHeader.NEXT_CURSOR.headerName());
+        return Integer.parseInt(headerValue);
+    }
+
     private static String getHeader(final HttpResponse<String> response, final String headerName) {
         final HttpHeaders headers = response.headers();
         final Map<String, List<String>> headersByName = headers.map();